@@ -42,6 +42,11 @@ public final class Protos {
      * <code>int32 port = 3;</code>
      */
     int getPort();
+
+    /**
+     * <code>bool learner = 4;</code>
+     */
+    boolean getLearner();
   }
   /**
    * Protobuf type {@code NodeEndpoint}
@@ -59,6 +64,7 @@ public final class Protos {
       id_ = "";
       host_ = "";
       port_ = 0;
+      learner_ = false;
     }
 
     @java.lang.Override
@@ -102,6 +108,11 @@ public final class Protos {
               port_ = input.readInt32();
               break;
             }
+            case 32: {
+
+              learner_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -211,6 +222,15 @@ public final class Protos {
       return port_;
     }
 
+    public static final int LEARNER_FIELD_NUMBER = 4;
+    private boolean learner_;
+    /**
+     * <code>bool learner = 4;</code>
+     */
+    public boolean getLearner() {
+      return learner_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -234,6 +254,9 @@ public final class Protos {
       if (port_ != 0) {
         output.writeInt32(3, port_);
       }
+      if (learner_ != false) {
+        output.writeBool(4, learner_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -253,6 +276,10 @@ public final class Protos {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(3, port_);
       }
+      if (learner_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, learner_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -275,6 +302,8 @@ public final class Protos {
           .equals(other.getHost());
       result = result && (getPort()
           == other.getPort());
+      result = result && (getLearner()
+          == other.getLearner());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -292,6 +321,9 @@ public final class Protos {
       hash = (53 * hash) + getHost().hashCode();
       hash = (37 * hash) + PORT_FIELD_NUMBER;
       hash = (53 * hash) + getPort();
+      hash = (37 * hash) + LEARNER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLearner());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -431,6 +463,8 @@ public final class Protos {
 
         port_ = 0;
 
+        learner_ = false;
+
         return this;
       }
 
@@ -460,6 +494,7 @@ public final class Protos {
         result.id_ = id_;
         result.host_ = host_;
         result.port_ = port_;
+        result.learner_ = learner_;
         onBuilt();
         return result;
       }
@@ -519,6 +554,9 @@ public final class Protos {
         if (other.getPort() != 0) {
           setPort(other.getPort());
         }
+        if (other.getLearner() != false) {
+          setLearner(other.getLearner());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -711,6 +749,32 @@ public final class Protos {
         onChanged();
         return this;
       }
+
+      private boolean learner_ ;
+      /**
+       * <code>bool learner = 4;</code>
+       */
+      public boolean getLearner() {
+        return learner_;
+      }
+      /**
+       * <code>bool learner = 4;</code>
+       */
+      public Builder setLearner(boolean value) {
+        
+        learner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool learner = 4;</code>
+       */
+      public Builder clearLearner() {
+        
+        learner_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2043,94 +2107,56 @@ public final class Protos {
 
   }
 
-  public interface AppendEntriesRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AppendEntriesRpc)
+  public interface PreVoteRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PreVoteRpc)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string message_id = 1;</code>
-     */
-    java.lang.String getMessageId();
-    /**
-     * <code>string message_id = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getMessageIdBytes();
-
-    /**
-     * <code>int32 term = 2;</code>
+     * <code>int32 term = 1;</code>
      */
     int getTerm();
 
     /**
-     * <code>string leader_id = 3;</code>
+     * <code>string candidate_id = 2;</code>
      */
-    java.lang.String getLeaderId();
+    java.lang.String getCandidateId();
     /**
-     * <code>string leader_id = 3;</code>
+     * <code>string candidate_id = 2;</code>
      */
     com.google.protobuf.ByteString
-        getLeaderIdBytes();
-
-    /**
-     * <code>int32 prev_log_index = 4;</code>
-     */
-    int getPrevLogIndex();
-
-    /**
-     * <code>int32 prev_log_term = 5;</code>
-     */
-    int getPrevLogTerm();
+        getCandidateIdBytes();
 
     /**
-     * <code>int32 leader_commit = 6;</code>
+     * <code>int32 last_log_index = 3;</code>
      */
-    int getLeaderCommit();
+    int getLastLogIndex();
 
     /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> 
-        getEntriesList();
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getEntries(int index);
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    int getEntriesCount();
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    java.util.List<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
-        getEntriesOrBuilderList();
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     * <code>int32 last_log_term = 4;</code>
      */
-    in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder getEntriesOrBuilder(
-        int index);
+    int getLastLogTerm();
   }
   /**
-   * Protobuf type {@code AppendEntriesRpc}
+   * <pre>
+   * term is the term candidate would use
+   * </pre>
+   *
+   * Protobuf type {@code PreVoteRpc}
    */
-  public  static final class AppendEntriesRpc extends
+  public  static final class PreVoteRpc extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:AppendEntriesRpc)
-      AppendEntriesRpcOrBuilder {
+      // @@protoc_insertion_point(message_implements:PreVoteRpc)
+      PreVoteRpcOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AppendEntriesRpc.newBuilder() to construct.
-    private AppendEntriesRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PreVoteRpc.newBuilder() to construct.
+    private PreVoteRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AppendEntriesRpc() {
-      messageId_ = "";
+    private PreVoteRpc() {
       term_ = 0;
-      leaderId_ = "";
-      prevLogIndex_ = 0;
-      prevLogTerm_ = 0;
-      leaderCommit_ = 0;
-      entries_ = java.util.Collections.emptyList();
+      candidateId_ = "";
+      lastLogIndex_ = 0;
+      lastLogTerm_ = 0;
     }
 
     @java.lang.Override
@@ -2138,7 +2164,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AppendEntriesRpc(
+    private PreVoteRpc(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2157,45 +2183,25 @@ public final class Protos {
             case 0:
               done = true;
               break;
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              messageId_ = s;
-              break;
-            }
-            case 16: {
+            case 8: {
 
               term_ = input.readInt32();
               break;
             }
-            case 26: {
+            case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              leaderId_ = s;
-              break;
-            }
-            case 32: {
-
-              prevLogIndex_ = input.readInt32();
+              candidateId_ = s;
               break;
             }
-            case 40: {
+            case 24: {
 
-              prevLogTerm_ = input.readInt32();
+              lastLogIndex_ = input.readInt32();
               break;
             }
-            case 48: {
+            case 32: {
 
-              leaderCommit_ = input.readInt32();
-              break;
-            }
-            case 58: {
-              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-                entries_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry>();
-                mutable_bitField0_ |= 0x00000040;
-              }
-              entries_.add(
-                  input.readMessage(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.parser(), extensionRegistry));
+              lastLogTerm_ = input.readInt32();
               break;
             }
             default: {
@@ -2213,832 +2219,754 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-          entries_ = java.util.Collections.unmodifiableList(entries_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteRpc_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteRpc_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Builder.class);
+              in.xnnyygn.xraft.core.Protos.PreVoteRpc.class, in.xnnyygn.xraft.core.Protos.PreVoteRpc.Builder.class);
     }
 
-    public interface EntryOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:AppendEntriesRpc.Entry)
-        com.google.protobuf.MessageOrBuilder {
-
-      /**
-       * <code>int32 kind = 1;</code>
-       */
-      int getKind();
-
-      /**
-       * <code>int32 index = 2;</code>
-       */
-      int getIndex();
-
-      /**
-       * <code>int32 term = 3;</code>
-       */
-      int getTerm();
-
-      /**
-       * <code>bytes command = 4;</code>
-       */
-      com.google.protobuf.ByteString getCommand();
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    public int getTerm() {
+      return term_;
     }
+
+    public static final int CANDIDATE_ID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object candidateId_;
     /**
-     * Protobuf type {@code AppendEntriesRpc.Entry}
+     * <code>string candidate_id = 2;</code>
      */
-    public  static final class Entry extends
-        com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:AppendEntriesRpc.Entry)
-        EntryOrBuilder {
-    private static final long serialVersionUID = 0L;
-      // Use Entry.newBuilder() to construct.
-      private Entry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-        super(builder);
+    public java.lang.String getCandidateId() {
+      java.lang.Object ref = candidateId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        candidateId_ = s;
+        return s;
       }
-      private Entry() {
-        kind_ = 0;
-        index_ = 0;
-        term_ = 0;
-        command_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    /**
+     * <code>string candidate_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCandidateIdBytes() {
+      java.lang.Object ref = candidateId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        candidateId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-      getUnknownFields() {
-        return this.unknownFields;
-      }
-      private Entry(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        this();
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        int mutable_bitField0_ = 0;
-        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-            com.google.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
+    public static final int LAST_LOG_INDEX_FIELD_NUMBER = 3;
+    private int lastLogIndex_;
+    /**
+     * <code>int32 last_log_index = 3;</code>
+     */
+    public int getLastLogIndex() {
+      return lastLogIndex_;
+    }
 
-                kind_ = input.readInt32();
-                break;
-              }
-              case 16: {
+    public static final int LAST_LOG_TERM_FIELD_NUMBER = 4;
+    private int lastLogTerm_;
+    /**
+     * <code>int32 last_log_term = 4;</code>
+     */
+    public int getLastLogTerm() {
+      return lastLogTerm_;
+    }
 
-                index_ = input.readInt32();
-                break;
-              }
-              case 24: {
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-                term_ = input.readInt32();
-                break;
-              }
-              case 34: {
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-                command_ = input.readBytes();
-                break;
-              }
-              default: {
-                if (!parseUnknownFieldProto3(
-                    input, unknownFields, extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-            }
-          }
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(
-              e).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
-        }
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
       }
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_descriptor;
+      if (!getCandidateIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, candidateId_);
       }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder.class);
+      if (lastLogIndex_ != 0) {
+        output.writeInt32(3, lastLogIndex_);
       }
-
-      public static final int KIND_FIELD_NUMBER = 1;
-      private int kind_;
-      /**
-       * <code>int32 kind = 1;</code>
-       */
-      public int getKind() {
-        return kind_;
+      if (lastLogTerm_ != 0) {
+        output.writeInt32(4, lastLogTerm_);
       }
+      unknownFields.writeTo(output);
+    }
 
-      public static final int INDEX_FIELD_NUMBER = 2;
-      private int index_;
-      /**
-       * <code>int32 index = 2;</code>
-       */
-      public int getIndex() {
-        return index_;
-      }
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
 
-      public static final int TERM_FIELD_NUMBER = 3;
-      private int term_;
-      /**
-       * <code>int32 term = 3;</code>
-       */
-      public int getTerm() {
-        return term_;
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
       }
-
-      public static final int COMMAND_FIELD_NUMBER = 4;
-      private com.google.protobuf.ByteString command_;
-      /**
-       * <code>bytes command = 4;</code>
-       */
-      public com.google.protobuf.ByteString getCommand() {
-        return command_;
+      if (!getCandidateIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, candidateId_);
       }
-
-      private byte memoizedIsInitialized = -1;
-      @java.lang.Override
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
+      if (lastLogIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, lastLogIndex_);
       }
-
-      @java.lang.Override
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        if (kind_ != 0) {
-          output.writeInt32(1, kind_);
-        }
-        if (index_ != 0) {
-          output.writeInt32(2, index_);
-        }
-        if (term_ != 0) {
-          output.writeInt32(3, term_);
-        }
-        if (!command_.isEmpty()) {
-          output.writeBytes(4, command_);
-        }
-        unknownFields.writeTo(output);
+      if (lastLogTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, lastLogTerm_);
       }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
 
-      @java.lang.Override
-      public int getSerializedSize() {
-        int size = memoizedSize;
-        if (size != -1) return size;
-
-        size = 0;
-        if (kind_ != 0) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeInt32Size(1, kind_);
-        }
-        if (index_ != 0) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeInt32Size(2, index_);
-        }
-        if (term_ != 0) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeInt32Size(3, term_);
-        }
-        if (!command_.isEmpty()) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(4, command_);
-        }
-        size += unknownFields.getSerializedSize();
-        memoizedSize = size;
-        return size;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-
-      @java.lang.Override
-      public boolean equals(final java.lang.Object obj) {
-        if (obj == this) {
-         return true;
-        }
-        if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry)) {
-          return super.equals(obj);
-        }
-        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry other = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry) obj;
-
-        boolean result = true;
-        result = result && (getKind()
-            == other.getKind());
-        result = result && (getIndex()
-            == other.getIndex());
-        result = result && (getTerm()
-            == other.getTerm());
-        result = result && getCommand()
-            .equals(other.getCommand());
-        result = result && unknownFields.equals(other.unknownFields);
-        return result;
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.PreVoteRpc)) {
+        return super.equals(obj);
       }
+      in.xnnyygn.xraft.core.Protos.PreVoteRpc other = (in.xnnyygn.xraft.core.Protos.PreVoteRpc) obj;
 
-      @java.lang.Override
-      public int hashCode() {
-        if (memoizedHashCode != 0) {
-          return memoizedHashCode;
-        }
-        int hash = 41;
-        hash = (19 * hash) + getDescriptor().hashCode();
-        hash = (37 * hash) + KIND_FIELD_NUMBER;
-        hash = (53 * hash) + getKind();
-        hash = (37 * hash) + INDEX_FIELD_NUMBER;
-        hash = (53 * hash) + getIndex();
-        hash = (37 * hash) + TERM_FIELD_NUMBER;
-        hash = (53 * hash) + getTerm();
-        hash = (37 * hash) + COMMAND_FIELD_NUMBER;
-        hash = (53 * hash) + getCommand().hashCode();
-        hash = (29 * hash) + unknownFields.hashCode();
-        memoizedHashCode = hash;
-        return hash;
-      }
+      boolean result = true;
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && getCandidateId()
+          .equals(other.getCandidateId());
+      result = result && (getLastLogIndex()
+          == other.getLastLogIndex());
+      result = result && (getLastLogTerm()
+          == other.getLastLogTerm());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
 
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          java.nio.ByteBuffer data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          java.nio.ByteBuffer data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input, extensionRegistry);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseDelimitedWithIOException(PARSER, input);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input);
-      }
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return com.google.protobuf.GeneratedMessageV3
-            .parseWithIOException(PARSER, input, extensionRegistry);
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + CANDIDATE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getCandidateId().hashCode();
+      hash = (37 * hash) + LAST_LOG_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastLogIndex();
+      hash = (37 * hash) + LAST_LOG_TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getLastLogTerm();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.PreVoteRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * term is the term candidate would use
+     * </pre>
+     *
+     * Protobuf type {@code PreVoteRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PreVoteRpc)
+        in.xnnyygn.xraft.core.Protos.PreVoteRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteRpc_descriptor;
       }
 
       @java.lang.Override
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder() {
-        return DEFAULT_INSTANCE.toBuilder();
-      }
-      public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry prototype) {
-        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.PreVoteRpc.class, in.xnnyygn.xraft.core.Protos.PreVoteRpc.Builder.class);
       }
-      @java.lang.Override
-      public Builder toBuilder() {
-        return this == DEFAULT_INSTANCE
-            ? new Builder() : new Builder().mergeFrom(this);
+
+      // Construct using in.xnnyygn.xraft.core.Protos.PreVoteRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
+      private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * Protobuf type {@code AppendEntriesRpc.Entry}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:AppendEntriesRpc.Entry)
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_descriptor;
-        }
-
-        @java.lang.Override
-        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder.class);
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
         }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        term_ = 0;
 
-        // Construct using in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
-        }
+        candidateId_ = "";
 
-        private Builder(
-            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessageV3
-                  .alwaysUseFieldBuilders) {
-          }
-        }
-        @java.lang.Override
-        public Builder clear() {
-          super.clear();
-          kind_ = 0;
+        lastLogIndex_ = 0;
 
-          index_ = 0;
+        lastLogTerm_ = 0;
 
-          term_ = 0;
+        return this;
+      }
 
-          command_ = com.google.protobuf.ByteString.EMPTY;
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteRpc_descriptor;
+      }
 
-          return this;
-        }
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.PreVoteRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.PreVoteRpc.getDefaultInstance();
+      }
 
-        @java.lang.Override
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_descriptor;
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.PreVoteRpc build() {
+        in.xnnyygn.xraft.core.Protos.PreVoteRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        @java.lang.Override
-        public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getDefaultInstanceForType() {
-          return in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance();
-        }
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.PreVoteRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.PreVoteRpc result = new in.xnnyygn.xraft.core.Protos.PreVoteRpc(this);
+        result.term_ = term_;
+        result.candidateId_ = candidateId_;
+        result.lastLogIndex_ = lastLogIndex_;
+        result.lastLogTerm_ = lastLogTerm_;
+        onBuilt();
+        return result;
+      }
 
-        @java.lang.Override
-        public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry build() {
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
-
-        @java.lang.Override
-        public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry buildPartial() {
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry result = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry(this);
-          result.kind_ = kind_;
-          result.index_ = index_;
-          result.term_ = term_;
-          result.command_ = command_;
-          onBuilt();
-          return result;
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.PreVoteRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.PreVoteRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
+      }
 
-        @java.lang.Override
-        public Builder clone() {
-          return (Builder) super.clone();
-        }
-        @java.lang.Override
-        public Builder setField(
-            com.google.protobuf.Descriptors.FieldDescriptor field,
-            java.lang.Object value) {
-          return (Builder) super.setField(field, value);
-        }
-        @java.lang.Override
-        public Builder clearField(
-            com.google.protobuf.Descriptors.FieldDescriptor field) {
-          return (Builder) super.clearField(field);
-        }
-        @java.lang.Override
-        public Builder clearOneof(
-            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-          return (Builder) super.clearOneof(oneof);
-        }
-        @java.lang.Override
-        public Builder setRepeatedField(
-            com.google.protobuf.Descriptors.FieldDescriptor field,
-            int index, java.lang.Object value) {
-          return (Builder) super.setRepeatedField(field, index, value);
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.PreVoteRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.PreVoteRpc.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
         }
-        @java.lang.Override
-        public Builder addRepeatedField(
-            com.google.protobuf.Descriptors.FieldDescriptor field,
-            java.lang.Object value) {
-          return (Builder) super.addRepeatedField(field, value);
+        if (!other.getCandidateId().isEmpty()) {
+          candidateId_ = other.candidateId_;
+          onChanged();
         }
-        @java.lang.Override
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry) {
-            return mergeFrom((in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+        if (other.getLastLogIndex() != 0) {
+          setLastLogIndex(other.getLastLogIndex());
         }
-
-        public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry other) {
-          if (other == in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance()) return this;
-          if (other.getKind() != 0) {
-            setKind(other.getKind());
-          }
-          if (other.getIndex() != 0) {
-            setIndex(other.getIndex());
-          }
-          if (other.getTerm() != 0) {
-            setTerm(other.getTerm());
-          }
-          if (other.getCommand() != com.google.protobuf.ByteString.EMPTY) {
-            setCommand(other.getCommand());
-          }
-          this.mergeUnknownFields(other.unknownFields);
-          onChanged();
-          return this;
+        if (other.getLastLogTerm() != 0) {
+          setLastLogTerm(other.getLastLogTerm());
         }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
 
-        @java.lang.Override
-        public final boolean isInitialized() {
-          return true;
-        }
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
 
-        @java.lang.Override
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry) e.getUnfinishedMessage();
-            throw e.unwrapIOException();
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.PreVoteRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.PreVoteRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          return this;
         }
+        return this;
+      }
 
-        private int kind_ ;
-        /**
-         * <code>int32 kind = 1;</code>
-         */
-        public int getKind() {
-          return kind_;
-        }
-        /**
-         * <code>int32 kind = 1;</code>
-         */
-        public Builder setKind(int value) {
-          
-          kind_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>int32 kind = 1;</code>
-         */
-        public Builder clearKind() {
-          
-          kind_ = 0;
-          onChanged();
-          return this;
-        }
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder setTerm(int value) {
+        
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
 
-        private int index_ ;
-        /**
-         * <code>int32 index = 2;</code>
-         */
-        public int getIndex() {
-          return index_;
+      private java.lang.Object candidateId_ = "";
+      /**
+       * <code>string candidate_id = 2;</code>
+       */
+      public java.lang.String getCandidateId() {
+        java.lang.Object ref = candidateId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          candidateId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        /**
-         * <code>int32 index = 2;</code>
-         */
-        public Builder setIndex(int value) {
-          
-          index_ = value;
-          onChanged();
-          return this;
+      }
+      /**
+       * <code>string candidate_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCandidateIdBytes() {
+        java.lang.Object ref = candidateId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          candidateId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        /**
-         * <code>int32 index = 2;</code>
-         */
-        public Builder clearIndex() {
-          
-          index_ = 0;
-          onChanged();
-          return this;
-        }
-
-        private int term_ ;
-        /**
-         * <code>int32 term = 3;</code>
-         */
-        public int getTerm() {
-          return term_;
-        }
-        /**
-         * <code>int32 term = 3;</code>
-         */
-        public Builder setTerm(int value) {
-          
-          term_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>int32 term = 3;</code>
-         */
-        public Builder clearTerm() {
-          
-          term_ = 0;
-          onChanged();
-          return this;
-        }
-
-        private com.google.protobuf.ByteString command_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>bytes command = 4;</code>
-         */
-        public com.google.protobuf.ByteString getCommand() {
-          return command_;
-        }
-        /**
-         * <code>bytes command = 4;</code>
-         */
-        public Builder setCommand(com.google.protobuf.ByteString value) {
-          if (value == null) {
+      }
+      /**
+       * <code>string candidate_id = 2;</code>
+       */
+      public Builder setCandidateId(
+          java.lang.String value) {
+        if (value == null) {
     throw new NullPointerException();
   }
   
-          command_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>bytes command = 4;</code>
-         */
-        public Builder clearCommand() {
-          
-          command_ = getDefaultInstance().getCommand();
-          onChanged();
-          return this;
-        }
-        @java.lang.Override
-        public final Builder setUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.setUnknownFieldsProto3(unknownFields);
-        }
-
-        @java.lang.Override
-        public final Builder mergeUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.mergeUnknownFields(unknownFields);
-        }
-
-
-        // @@protoc_insertion_point(builder_scope:AppendEntriesRpc.Entry)
+        candidateId_ = value;
+        onChanged();
+        return this;
       }
-
-      // @@protoc_insertion_point(class_scope:AppendEntriesRpc.Entry)
-      private static final in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry DEFAULT_INSTANCE;
-      static {
-        DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry();
+      /**
+       * <code>string candidate_id = 2;</code>
+       */
+      public Builder clearCandidateId() {
+        
+        candidateId_ = getDefaultInstance().getCandidateId();
+        onChanged();
+        return this;
       }
-
-      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getDefaultInstance() {
-        return DEFAULT_INSTANCE;
+      /**
+       * <code>string candidate_id = 2;</code>
+       */
+      public Builder setCandidateIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        candidateId_ = value;
+        onChanged();
+        return this;
       }
 
-      private static final com.google.protobuf.Parser<Entry>
-          PARSER = new com.google.protobuf.AbstractParser<Entry>() {
-        @java.lang.Override
-        public Entry parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Entry(input, extensionRegistry);
-        }
-      };
-
-      public static com.google.protobuf.Parser<Entry> parser() {
-        return PARSER;
+      private int lastLogIndex_ ;
+      /**
+       * <code>int32 last_log_index = 3;</code>
+       */
+      public int getLastLogIndex() {
+        return lastLogIndex_;
+      }
+      /**
+       * <code>int32 last_log_index = 3;</code>
+       */
+      public Builder setLastLogIndex(int value) {
+        
+        lastLogIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 last_log_index = 3;</code>
+       */
+      public Builder clearLastLogIndex() {
+        
+        lastLogIndex_ = 0;
+        onChanged();
+        return this;
       }
 
+      private int lastLogTerm_ ;
+      /**
+       * <code>int32 last_log_term = 4;</code>
+       */
+      public int getLastLogTerm() {
+        return lastLogTerm_;
+      }
+      /**
+       * <code>int32 last_log_term = 4;</code>
+       */
+      public Builder setLastLogTerm(int value) {
+        
+        lastLogTerm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 last_log_term = 4;</code>
+       */
+      public Builder clearLastLogTerm() {
+        
+        lastLogTerm_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
-      public com.google.protobuf.Parser<Entry> getParserForType() {
-        return PARSER;
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getDefaultInstanceForType() {
-        return DEFAULT_INSTANCE;
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
 
+
+      // @@protoc_insertion_point(builder_scope:PreVoteRpc)
     }
 
-    private int bitField0_;
-    public static final int MESSAGE_ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object messageId_;
-    /**
-     * <code>string message_id = 1;</code>
-     */
-    public java.lang.String getMessageId() {
-      java.lang.Object ref = messageId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        messageId_ = s;
-        return s;
-      }
+    // @@protoc_insertion_point(class_scope:PreVoteRpc)
+    private static final in.xnnyygn.xraft.core.Protos.PreVoteRpc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.PreVoteRpc();
     }
-    /**
-     * <code>string message_id = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getMessageIdBytes() {
-      java.lang.Object ref = messageId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        messageId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+    public static in.xnnyygn.xraft.core.Protos.PreVoteRpc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PreVoteRpc>
+        PARSER = new com.google.protobuf.AbstractParser<PreVoteRpc>() {
+      @java.lang.Override
+      public PreVoteRpc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PreVoteRpc(input, extensionRegistry);
       }
+    };
+
+    public static com.google.protobuf.Parser<PreVoteRpc> parser() {
+      return PARSER;
     }
 
-    public static final int TERM_FIELD_NUMBER = 2;
-    private int term_;
-    /**
-     * <code>int32 term = 2;</code>
-     */
-    public int getTerm() {
-      return term_;
+    @java.lang.Override
+    public com.google.protobuf.Parser<PreVoteRpc> getParserForType() {
+      return PARSER;
     }
 
-    public static final int LEADER_ID_FIELD_NUMBER = 3;
-    private volatile java.lang.Object leaderId_;
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.PreVoteRpc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PreVoteResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PreVoteResult)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>string leader_id = 3;</code>
+     * <code>int32 term = 1;</code>
      */
-    public java.lang.String getLeaderId() {
-      java.lang.Object ref = leaderId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        leaderId_ = s;
-        return s;
-      }
-    }
+    int getTerm();
+
     /**
-     * <code>string leader_id = 3;</code>
+     * <code>bool vote_granted = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getLeaderIdBytes() {
-      java.lang.Object ref = leaderId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        leaderId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    boolean getVoteGranted();
+  }
+  /**
+   * Protobuf type {@code PreVoteResult}
+   */
+  public  static final class PreVoteResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PreVoteResult)
+      PreVoteResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PreVoteResult.newBuilder() to construct.
+    private PreVoteResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
     }
-
-    public static final int PREV_LOG_INDEX_FIELD_NUMBER = 4;
-    private int prevLogIndex_;
-    /**
-     * <code>int32 prev_log_index = 4;</code>
-     */
-    public int getPrevLogIndex() {
-      return prevLogIndex_;
+    private PreVoteResult() {
+      term_ = 0;
+      voteGranted_ = false;
     }
 
-    public static final int PREV_LOG_TERM_FIELD_NUMBER = 5;
-    private int prevLogTerm_;
-    /**
-     * <code>int32 prev_log_term = 5;</code>
-     */
-    public int getPrevLogTerm() {
-      return prevLogTerm_;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
     }
+    private PreVoteResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
 
-    public static final int LEADER_COMMIT_FIELD_NUMBER = 6;
-    private int leaderCommit_;
-    /**
-     * <code>int32 leader_commit = 6;</code>
-     */
-    public int getLeaderCommit() {
-      return leaderCommit_;
-    }
+              term_ = input.readInt32();
+              break;
+            }
+            case 16: {
 
-    public static final int ENTRIES_FIELD_NUMBER = 7;
-    private java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> entries_;
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    public java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> getEntriesList() {
-      return entries_;
+              voteGranted_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
     }
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
-        getEntriesOrBuilderList() {
-      return entries_;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteResult_descriptor;
     }
-    /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-     */
-    public int getEntriesCount() {
-      return entries_.size();
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.PreVoteResult.class, in.xnnyygn.xraft.core.Protos.PreVoteResult.Builder.class);
     }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
     /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     * <code>int32 term = 1;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getEntries(int index) {
-      return entries_.get(index);
+    public int getTerm() {
+      return term_;
     }
+
+    public static final int VOTE_GRANTED_FIELD_NUMBER = 2;
+    private boolean voteGranted_;
     /**
-     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     * <code>bool vote_granted = 2;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder getEntriesOrBuilder(
-        int index) {
-      return entries_.get(index);
+    public boolean getVoteGranted() {
+      return voteGranted_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3055,26 +2983,11 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getMessageIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, messageId_);
-      }
       if (term_ != 0) {
-        output.writeInt32(2, term_);
-      }
-      if (!getLeaderIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, leaderId_);
-      }
-      if (prevLogIndex_ != 0) {
-        output.writeInt32(4, prevLogIndex_);
-      }
-      if (prevLogTerm_ != 0) {
-        output.writeInt32(5, prevLogTerm_);
-      }
-      if (leaderCommit_ != 0) {
-        output.writeInt32(6, leaderCommit_);
+        output.writeInt32(1, term_);
       }
-      for (int i = 0; i < entries_.size(); i++) {
-        output.writeMessage(7, entries_.get(i));
+      if (voteGranted_ != false) {
+        output.writeBool(2, voteGranted_);
       }
       unknownFields.writeTo(output);
     }
@@ -3085,31 +2998,13 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (!getMessageIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, messageId_);
-      }
       if (term_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, term_);
-      }
-      if (!getLeaderIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, leaderId_);
-      }
-      if (prevLogIndex_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, prevLogIndex_);
-      }
-      if (prevLogTerm_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(5, prevLogTerm_);
-      }
-      if (leaderCommit_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(6, leaderCommit_);
+          .computeInt32Size(1, term_);
       }
-      for (int i = 0; i < entries_.size(); i++) {
+      if (voteGranted_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, entries_.get(i));
+          .computeBoolSize(2, voteGranted_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3121,26 +3016,16 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.PreVoteResult)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.AppendEntriesRpc other = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc) obj;
+      in.xnnyygn.xraft.core.Protos.PreVoteResult other = (in.xnnyygn.xraft.core.Protos.PreVoteResult) obj;
 
       boolean result = true;
-      result = result && getMessageId()
-          .equals(other.getMessageId());
       result = result && (getTerm()
           == other.getTerm());
-      result = result && getLeaderId()
-          .equals(other.getLeaderId());
-      result = result && (getPrevLogIndex()
-          == other.getPrevLogIndex());
-      result = result && (getPrevLogTerm()
-          == other.getPrevLogTerm());
-      result = result && (getLeaderCommit()
-          == other.getLeaderCommit());
-      result = result && getEntriesList()
-          .equals(other.getEntriesList());
+      result = result && (getVoteGranted()
+          == other.getVoteGranted());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -3152,90 +3037,79 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + MESSAGE_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getMessageId().hashCode();
       hash = (37 * hash) + TERM_FIELD_NUMBER;
       hash = (53 * hash) + getTerm();
-      hash = (37 * hash) + LEADER_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getLeaderId().hashCode();
-      hash = (37 * hash) + PREV_LOG_INDEX_FIELD_NUMBER;
-      hash = (53 * hash) + getPrevLogIndex();
-      hash = (37 * hash) + PREV_LOG_TERM_FIELD_NUMBER;
-      hash = (53 * hash) + getPrevLogTerm();
-      hash = (37 * hash) + LEADER_COMMIT_FIELD_NUMBER;
-      hash = (53 * hash) + getLeaderCommit();
-      if (getEntriesCount() > 0) {
-        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
-        hash = (53 * hash) + getEntriesList().hashCode();
-      }
+      hash = (37 * hash) + VOTE_GRANTED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getVoteGranted());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3248,7 +3122,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.PreVoteResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3264,26 +3138,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code AppendEntriesRpc}
+     * Protobuf type {@code PreVoteResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:AppendEntriesRpc)
-        in.xnnyygn.xraft.core.Protos.AppendEntriesRpcOrBuilder {
+        // @@protoc_insertion_point(builder_implements:PreVoteResult)
+        in.xnnyygn.xraft.core.Protos.PreVoteResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Builder.class);
+                in.xnnyygn.xraft.core.Protos.PreVoteResult.class, in.xnnyygn.xraft.core.Protos.PreVoteResult.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.PreVoteResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3296,47 +3170,32 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getEntriesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        messageId_ = "";
-
         term_ = 0;
 
-        leaderId_ = "";
-
-        prevLogIndex_ = 0;
-
-        prevLogTerm_ = 0;
-
-        leaderCommit_ = 0;
+        voteGranted_ = false;
 
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000040);
-        } else {
-          entriesBuilder_.clear();
-        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_PreVoteResult_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.PreVoteResult getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.PreVoteResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc build() {
-        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.PreVoteResult build() {
+        in.xnnyygn.xraft.core.Protos.PreVoteResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3344,26 +3203,10 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc buildPartial() {
-        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc result = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        result.messageId_ = messageId_;
+      public in.xnnyygn.xraft.core.Protos.PreVoteResult buildPartial() {
+        in.xnnyygn.xraft.core.Protos.PreVoteResult result = new in.xnnyygn.xraft.core.Protos.PreVoteResult(this);
         result.term_ = term_;
-        result.leaderId_ = leaderId_;
-        result.prevLogIndex_ = prevLogIndex_;
-        result.prevLogTerm_ = prevLogTerm_;
-        result.leaderCommit_ = leaderCommit_;
-        if (entriesBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040)) {
-            entries_ = java.util.Collections.unmodifiableList(entries_);
-            bitField0_ = (bitField0_ & ~0x00000040);
-          }
-          result.entries_ = entries_;
-        } else {
-          result.entries_ = entriesBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
+        result.voteGranted_ = voteGranted_;
         onBuilt();
         return result;
       }
@@ -3402,61 +3245,21 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.AppendEntriesRpc)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.PreVoteResult) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.PreVoteResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc other) {
-        if (other == in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.getDefaultInstance()) return this;
-        if (!other.getMessageId().isEmpty()) {
-          messageId_ = other.messageId_;
-          onChanged();
-        }
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.PreVoteResult other) {
+        if (other == in.xnnyygn.xraft.core.Protos.PreVoteResult.getDefaultInstance()) return this;
         if (other.getTerm() != 0) {
           setTerm(other.getTerm());
         }
-        if (!other.getLeaderId().isEmpty()) {
-          leaderId_ = other.leaderId_;
-          onChanged();
-        }
-        if (other.getPrevLogIndex() != 0) {
-          setPrevLogIndex(other.getPrevLogIndex());
-        }
-        if (other.getPrevLogTerm() != 0) {
-          setPrevLogTerm(other.getPrevLogTerm());
-        }
-        if (other.getLeaderCommit() != 0) {
-          setLeaderCommit(other.getLeaderCommit());
-        }
-        if (entriesBuilder_ == null) {
-          if (!other.entries_.isEmpty()) {
-            if (entries_.isEmpty()) {
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000040);
-            } else {
-              ensureEntriesIsMutable();
-              entries_.addAll(other.entries_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.entries_.isEmpty()) {
-            if (entriesBuilder_.isEmpty()) {
-              entriesBuilder_.dispose();
-              entriesBuilder_ = null;
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000040);
-              entriesBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getEntriesFieldBuilder() : null;
-            } else {
-              entriesBuilder_.addAllMessages(other.entries_);
-            }
-          }
+        if (other.getVoteGranted() != false) {
+          setVoteGranted(other.getVoteGranted());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3473,11 +3276,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.PreVoteResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.PreVoteResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3486,86 +3289,16 @@ public final class Protos {
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.lang.Object messageId_ = "";
-      /**
-       * <code>string message_id = 1;</code>
-       */
-      public java.lang.String getMessageId() {
-        java.lang.Object ref = messageId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          messageId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string message_id = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getMessageIdBytes() {
-        java.lang.Object ref = messageId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          messageId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string message_id = 1;</code>
-       */
-      public Builder setMessageId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        messageId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string message_id = 1;</code>
-       */
-      public Builder clearMessageId() {
-        
-        messageId_ = getDefaultInstance().getMessageId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string message_id = 1;</code>
-       */
-      public Builder setMessageIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        messageId_ = value;
-        onChanged();
-        return this;
-      }
 
       private int term_ ;
       /**
-       * <code>int32 term = 2;</code>
+       * <code>int32 term = 1;</code>
        */
       public int getTerm() {
         return term_;
       }
       /**
-       * <code>int32 term = 2;</code>
+       * <code>int32 term = 1;</code>
        */
       public Builder setTerm(int value) {
         
@@ -3574,7 +3307,7 @@ public final class Protos {
         return this;
       }
       /**
-       * <code>int32 term = 2;</code>
+       * <code>int32 term = 1;</code>
        */
       public Builder clearTerm() {
         
@@ -3583,391 +3316,6315 @@ public final class Protos {
         return this;
       }
 
-      private java.lang.Object leaderId_ = "";
-      /**
-       * <code>string leader_id = 3;</code>
-       */
-      public java.lang.String getLeaderId() {
-        java.lang.Object ref = leaderId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          leaderId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string leader_id = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getLeaderIdBytes() {
-        java.lang.Object ref = leaderId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          leaderId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
+      private boolean voteGranted_ ;
       /**
-       * <code>string leader_id = 3;</code>
+       * <code>bool vote_granted = 2;</code>
        */
-      public Builder setLeaderId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        leaderId_ = value;
-        onChanged();
-        return this;
+      public boolean getVoteGranted() {
+        return voteGranted_;
       }
       /**
-       * <code>string leader_id = 3;</code>
+       * <code>bool vote_granted = 2;</code>
        */
-      public Builder clearLeaderId() {
+      public Builder setVoteGranted(boolean value) {
         
-        leaderId_ = getDefaultInstance().getLeaderId();
+        voteGranted_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string leader_id = 3;</code>
+       * <code>bool vote_granted = 2;</code>
        */
-      public Builder setLeaderIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearVoteGranted() {
         
-        leaderId_ = value;
+        voteGranted_ = false;
         onChanged();
         return this;
       }
-
-      private int prevLogIndex_ ;
-      /**
-       * <code>int32 prev_log_index = 4;</code>
-       */
-      public int getPrevLogIndex() {
-        return prevLogIndex_;
-      }
-      /**
-       * <code>int32 prev_log_index = 4;</code>
-       */
-      public Builder setPrevLogIndex(int value) {
-        
-        prevLogIndex_ = value;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
       }
-      /**
-       * <code>int32 prev_log_index = 4;</code>
-       */
-      public Builder clearPrevLogIndex() {
-        
-        prevLogIndex_ = 0;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
 
-      private int prevLogTerm_ ;
-      /**
-       * <code>int32 prev_log_term = 5;</code>
-       */
-      public int getPrevLogTerm() {
-        return prevLogTerm_;
+
+      // @@protoc_insertion_point(builder_scope:PreVoteResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:PreVoteResult)
+    private static final in.xnnyygn.xraft.core.Protos.PreVoteResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.PreVoteResult();
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.PreVoteResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PreVoteResult>
+        PARSER = new com.google.protobuf.AbstractParser<PreVoteResult>() {
+      @java.lang.Override
+      public PreVoteResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PreVoteResult(input, extensionRegistry);
       }
-      /**
-       * <code>int32 prev_log_term = 5;</code>
-       */
-      public Builder setPrevLogTerm(int value) {
+    };
+
+    public static com.google.protobuf.Parser<PreVoteResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PreVoteResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.PreVoteResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TimeoutNowRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TimeoutNowRpc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    int getTerm();
+
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    java.lang.String getLeaderId();
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getLeaderIdBytes();
+  }
+  /**
+   * Protobuf type {@code TimeoutNowRpc}
+   */
+  public  static final class TimeoutNowRpc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TimeoutNowRpc)
+      TimeoutNowRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TimeoutNowRpc.newBuilder() to construct.
+    private TimeoutNowRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TimeoutNowRpc() {
+      term_ = 0;
+      leaderId_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TimeoutNowRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              term_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              leaderId_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_TimeoutNowRpc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_TimeoutNowRpc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.class, in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int LEADER_ID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object leaderId_;
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    public java.lang.String getLeaderId() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        leaderId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLeaderIdBytes() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leaderId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, leaderId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, leaderId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.TimeoutNowRpc)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.TimeoutNowRpc other = (in.xnnyygn.xraft.core.Protos.TimeoutNowRpc) obj;
+
+      boolean result = true;
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && getLeaderId()
+          .equals(other.getLeaderId());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + LEADER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.TimeoutNowRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TimeoutNowRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TimeoutNowRpc)
+        in.xnnyygn.xraft.core.Protos.TimeoutNowRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_TimeoutNowRpc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_TimeoutNowRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.class, in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        term_ = 0;
+
+        leaderId_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_TimeoutNowRpc_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.TimeoutNowRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.TimeoutNowRpc build() {
+        in.xnnyygn.xraft.core.Protos.TimeoutNowRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.TimeoutNowRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.TimeoutNowRpc result = new in.xnnyygn.xraft.core.Protos.TimeoutNowRpc(this);
+        result.term_ = term_;
+        result.leaderId_ = leaderId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.TimeoutNowRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.TimeoutNowRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.TimeoutNowRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.TimeoutNowRpc.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (!other.getLeaderId().isEmpty()) {
+          leaderId_ = other.leaderId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.TimeoutNowRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.TimeoutNowRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder setTerm(int value) {
+        
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object leaderId_ = "";
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public java.lang.String getLeaderId() {
+        java.lang.Object ref = leaderId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          leaderId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLeaderIdBytes() {
+        java.lang.Object ref = leaderId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leaderId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder setLeaderId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        leaderId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder clearLeaderId() {
+        
+        leaderId_ = getDefaultInstance().getLeaderId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder setLeaderIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        leaderId_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TimeoutNowRpc)
+    }
+
+    // @@protoc_insertion_point(class_scope:TimeoutNowRpc)
+    private static final in.xnnyygn.xraft.core.Protos.TimeoutNowRpc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.TimeoutNowRpc();
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.TimeoutNowRpc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TimeoutNowRpc>
+        PARSER = new com.google.protobuf.AbstractParser<TimeoutNowRpc>() {
+      @java.lang.Override
+      public TimeoutNowRpc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TimeoutNowRpc(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TimeoutNowRpc> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeoutNowRpc> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.TimeoutNowRpc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AppendEntriesRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AppendEntriesRpc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * uuid from nodes before sequence id, decimal sequence id to them
+     * </pre>
+     *
+     * <code>string message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated java.lang.String getMessageId();
+    /**
+     * <pre>
+     * uuid from nodes before sequence id, decimal sequence id to them
+     * </pre>
+     *
+     * <code>string message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated com.google.protobuf.ByteString
+        getMessageIdBytes();
+
+    /**
+     * <code>int32 term = 2;</code>
+     */
+    int getTerm();
+
+    /**
+     * <code>string leader_id = 3;</code>
+     */
+    java.lang.String getLeaderId();
+    /**
+     * <code>string leader_id = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getLeaderIdBytes();
+
+    /**
+     * <code>int32 prev_log_index = 4;</code>
+     */
+    int getPrevLogIndex();
+
+    /**
+     * <code>int32 prev_log_term = 5;</code>
+     */
+    int getPrevLogTerm();
+
+    /**
+     * <code>int32 leader_commit = 6;</code>
+     */
+    int getLeaderCommit();
+
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> 
+        getEntriesList();
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getEntries(int index);
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder getEntriesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * sequence per channel to match the result, 0 if not set
+     * </pre>
+     *
+     * <code>uint64 sequence_id = 8;</code>
+     */
+    long getSequenceId();
+  }
+  /**
+   * Protobuf type {@code AppendEntriesRpc}
+   */
+  public  static final class AppendEntriesRpc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:AppendEntriesRpc)
+      AppendEntriesRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AppendEntriesRpc.newBuilder() to construct.
+    private AppendEntriesRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AppendEntriesRpc() {
+      messageId_ = "";
+      term_ = 0;
+      leaderId_ = "";
+      prevLogIndex_ = 0;
+      prevLogTerm_ = 0;
+      leaderCommit_ = 0;
+      entries_ = java.util.Collections.emptyList();
+      sequenceId_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AppendEntriesRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              messageId_ = s;
+              break;
+            }
+            case 16: {
+
+              term_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              leaderId_ = s;
+              break;
+            }
+            case 32: {
+
+              prevLogIndex_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              prevLogTerm_ = input.readInt32();
+              break;
+            }
+            case 48: {
+
+              leaderCommit_ = input.readInt32();
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                entries_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              entries_.add(
+                  input.readMessage(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.parser(), extensionRegistry));
+              break;
+            }
+            case 64: {
+
+              sequenceId_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Builder.class);
+    }
+
+    public interface EntryOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:AppendEntriesRpc.Entry)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>int32 kind = 1;</code>
+       */
+      int getKind();
+
+      /**
+       * <code>int32 index = 2;</code>
+       */
+      int getIndex();
+
+      /**
+       * <code>int32 term = 3;</code>
+       */
+      int getTerm();
+
+      /**
+       * <code>bytes command = 4;</code>
+       */
+      com.google.protobuf.ByteString getCommand();
+    }
+    /**
+     * Protobuf type {@code AppendEntriesRpc.Entry}
+     */
+    public  static final class Entry extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:AppendEntriesRpc.Entry)
+        EntryOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Entry.newBuilder() to construct.
+      private Entry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Entry() {
+        kind_ = 0;
+        index_ = 0;
+        term_ = 0;
+        command_ = com.google.protobuf.ByteString.EMPTY;
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Entry(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+
+                kind_ = input.readInt32();
+                break;
+              }
+              case 16: {
+
+                index_ = input.readInt32();
+                break;
+              }
+              case 24: {
+
+                term_ = input.readInt32();
+                break;
+              }
+              case 34: {
+
+                command_ = input.readBytes();
+                break;
+              }
+              default: {
+                if (!parseUnknownFieldProto3(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder.class);
+      }
+
+      public static final int KIND_FIELD_NUMBER = 1;
+      private int kind_;
+      /**
+       * <code>int32 kind = 1;</code>
+       */
+      public int getKind() {
+        return kind_;
+      }
+
+      public static final int INDEX_FIELD_NUMBER = 2;
+      private int index_;
+      /**
+       * <code>int32 index = 2;</code>
+       */
+      public int getIndex() {
+        return index_;
+      }
+
+      public static final int TERM_FIELD_NUMBER = 3;
+      private int term_;
+      /**
+       * <code>int32 term = 3;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+
+      public static final int COMMAND_FIELD_NUMBER = 4;
+      private com.google.protobuf.ByteString command_;
+      /**
+       * <code>bytes command = 4;</code>
+       */
+      public com.google.protobuf.ByteString getCommand() {
+        return command_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (kind_ != 0) {
+          output.writeInt32(1, kind_);
+        }
+        if (index_ != 0) {
+          output.writeInt32(2, index_);
+        }
+        if (term_ != 0) {
+          output.writeInt32(3, term_);
+        }
+        if (!command_.isEmpty()) {
+          output.writeBytes(4, command_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (kind_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(1, kind_);
+        }
+        if (index_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(2, index_);
+        }
+        if (term_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(3, term_);
+        }
+        if (!command_.isEmpty()) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, command_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry)) {
+          return super.equals(obj);
+        }
+        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry other = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry) obj;
+
+        boolean result = true;
+        result = result && (getKind()
+            == other.getKind());
+        result = result && (getIndex()
+            == other.getIndex());
+        result = result && (getTerm()
+            == other.getTerm());
+        result = result && getCommand()
+            .equals(other.getCommand());
+        result = result && unknownFields.equals(other.unknownFields);
+        return result;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + KIND_FIELD_NUMBER;
+        hash = (53 * hash) + getKind();
+        hash = (37 * hash) + INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getIndex();
+        hash = (37 * hash) + TERM_FIELD_NUMBER;
+        hash = (53 * hash) + getTerm();
+        hash = (37 * hash) + COMMAND_FIELD_NUMBER;
+        hash = (53 * hash) + getCommand().hashCode();
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code AppendEntriesRpc.Entry}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:AppendEntriesRpc.Entry)
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder.class);
+        }
+
+        // Construct using in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          kind_ = 0;
+
+          index_ = 0;
+
+          term_ = 0;
+
+          command_ = com.google.protobuf.ByteString.EMPTY;
+
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getDefaultInstanceForType() {
+          return in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry build() {
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry buildPartial() {
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry result = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry(this);
+          result.kind_ = kind_;
+          result.index_ = index_;
+          result.term_ = term_;
+          result.command_ = command_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return (Builder) super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry) {
+            return mergeFrom((in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry other) {
+          if (other == in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance()) return this;
+          if (other.getKind() != 0) {
+            setKind(other.getKind());
+          }
+          if (other.getIndex() != 0) {
+            setIndex(other.getIndex());
+          }
+          if (other.getTerm() != 0) {
+            setTerm(other.getTerm());
+          }
+          if (other.getCommand() != com.google.protobuf.ByteString.EMPTY) {
+            setCommand(other.getCommand());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+
+        private int kind_ ;
+        /**
+         * <code>int32 kind = 1;</code>
+         */
+        public int getKind() {
+          return kind_;
+        }
+        /**
+         * <code>int32 kind = 1;</code>
+         */
+        public Builder setKind(int value) {
+          
+          kind_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>int32 kind = 1;</code>
+         */
+        public Builder clearKind() {
+          
+          kind_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private int index_ ;
+        /**
+         * <code>int32 index = 2;</code>
+         */
+        public int getIndex() {
+          return index_;
+        }
+        /**
+         * <code>int32 index = 2;</code>
+         */
+        public Builder setIndex(int value) {
+          
+          index_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>int32 index = 2;</code>
+         */
+        public Builder clearIndex() {
+          
+          index_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private int term_ ;
+        /**
+         * <code>int32 term = 3;</code>
+         */
+        public int getTerm() {
+          return term_;
+        }
+        /**
+         * <code>int32 term = 3;</code>
+         */
+        public Builder setTerm(int value) {
+          
+          term_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>int32 term = 3;</code>
+         */
+        public Builder clearTerm() {
+          
+          term_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString command_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>bytes command = 4;</code>
+         */
+        public com.google.protobuf.ByteString getCommand() {
+          return command_;
+        }
+        /**
+         * <code>bytes command = 4;</code>
+         */
+        public Builder setCommand(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          command_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bytes command = 4;</code>
+         */
+        public Builder clearCommand() {
+          
+          command_ = getDefaultInstance().getCommand();
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:AppendEntriesRpc.Entry)
+      }
+
+      // @@protoc_insertion_point(class_scope:AppendEntriesRpc.Entry)
+      private static final in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry();
+      }
+
+      public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Entry>
+          PARSER = new com.google.protobuf.AbstractParser<Entry>() {
+        @java.lang.Override
+        public Entry parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Entry(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<Entry> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Entry> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int MESSAGE_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object messageId_;
+    /**
+     * <pre>
+     * uuid from nodes before sequence id, decimal sequence id to them
+     * </pre>
+     *
+     * <code>string message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public java.lang.String getMessageId() {
+      java.lang.Object ref = messageId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        messageId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * uuid from nodes before sequence id, decimal sequence id to them
+     * </pre>
+     *
+     * <code>string message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public com.google.protobuf.ByteString
+        getMessageIdBytes() {
+      java.lang.Object ref = messageId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        messageId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TERM_FIELD_NUMBER = 2;
+    private int term_;
+    /**
+     * <code>int32 term = 2;</code>
+     */
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int LEADER_ID_FIELD_NUMBER = 3;
+    private volatile java.lang.Object leaderId_;
+    /**
+     * <code>string leader_id = 3;</code>
+     */
+    public java.lang.String getLeaderId() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        leaderId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string leader_id = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLeaderIdBytes() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leaderId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREV_LOG_INDEX_FIELD_NUMBER = 4;
+    private int prevLogIndex_;
+    /**
+     * <code>int32 prev_log_index = 4;</code>
+     */
+    public int getPrevLogIndex() {
+      return prevLogIndex_;
+    }
+
+    public static final int PREV_LOG_TERM_FIELD_NUMBER = 5;
+    private int prevLogTerm_;
+    /**
+     * <code>int32 prev_log_term = 5;</code>
+     */
+    public int getPrevLogTerm() {
+      return prevLogTerm_;
+    }
+
+    public static final int LEADER_COMMIT_FIELD_NUMBER = 6;
+    private int leaderCommit_;
+    /**
+     * <code>int32 leader_commit = 6;</code>
+     */
+    public int getLeaderCommit() {
+      return leaderCommit_;
+    }
+
+    public static final int ENTRIES_FIELD_NUMBER = 7;
+    private java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> entries_;
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    public java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    public static final int SEQUENCE_ID_FIELD_NUMBER = 8;
+    private long sequenceId_;
+    /**
+     * <pre>
+     * sequence per channel to match the result, 0 if not set
+     * </pre>
+     *
+     * <code>uint64 sequence_id = 8;</code>
+     */
+    public long getSequenceId() {
+      return sequenceId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getMessageIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, messageId_);
+      }
+      if (term_ != 0) {
+        output.writeInt32(2, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, leaderId_);
+      }
+      if (prevLogIndex_ != 0) {
+        output.writeInt32(4, prevLogIndex_);
+      }
+      if (prevLogTerm_ != 0) {
+        output.writeInt32(5, prevLogTerm_);
+      }
+      if (leaderCommit_ != 0) {
+        output.writeInt32(6, leaderCommit_);
+      }
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(7, entries_.get(i));
+      }
+      if (sequenceId_ != 0L) {
+        output.writeUInt64(8, sequenceId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getMessageIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, messageId_);
+      }
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, leaderId_);
+      }
+      if (prevLogIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, prevLogIndex_);
+      }
+      if (prevLogTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, prevLogTerm_);
+      }
+      if (leaderCommit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, leaderCommit_);
+      }
+      for (int i = 0; i < entries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, entries_.get(i));
+      }
+      if (sequenceId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, sequenceId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.AppendEntriesRpc other = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc) obj;
+
+      boolean result = true;
+      result = result && getMessageId()
+          .equals(other.getMessageId());
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && getLeaderId()
+          .equals(other.getLeaderId());
+      result = result && (getPrevLogIndex()
+          == other.getPrevLogIndex());
+      result = result && (getPrevLogTerm()
+          == other.getPrevLogTerm());
+      result = result && (getLeaderCommit()
+          == other.getLeaderCommit());
+      result = result && getEntriesList()
+          .equals(other.getEntriesList());
+      result = result && (getSequenceId()
+          == other.getSequenceId());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MESSAGE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getMessageId().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + LEADER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId().hashCode();
+      hash = (37 * hash) + PREV_LOG_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getPrevLogIndex();
+      hash = (37 * hash) + PREV_LOG_TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getPrevLogTerm();
+      hash = (37 * hash) + LEADER_COMMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderCommit();
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
+      hash = (37 * hash) + SEQUENCE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequenceId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AppendEntriesRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AppendEntriesRpc)
+        in.xnnyygn.xraft.core.Protos.AppendEntriesRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.class, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        messageId_ = "";
+
+        term_ = 0;
+
+        leaderId_ = "";
+
+        prevLogIndex_ = 0;
+
+        prevLogTerm_ = 0;
+
+        leaderCommit_ = 0;
+
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          entriesBuilder_.clear();
+        }
+        sequenceId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesRpc_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc build() {
+        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc result = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.messageId_ = messageId_;
+        result.term_ = term_;
+        result.leaderId_ = leaderId_;
+        result.prevLogIndex_ = prevLogIndex_;
+        result.prevLogTerm_ = prevLogTerm_;
+        result.leaderCommit_ = leaderCommit_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        result.sequenceId_ = sequenceId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.AppendEntriesRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.getDefaultInstance()) return this;
+        if (!other.getMessageId().isEmpty()) {
+          messageId_ = other.messageId_;
+          onChanged();
+        }
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (!other.getLeaderId().isEmpty()) {
+          leaderId_ = other.leaderId_;
+          onChanged();
+        }
+        if (other.getPrevLogIndex() != 0) {
+          setPrevLogIndex(other.getPrevLogIndex());
+        }
+        if (other.getPrevLogTerm() != 0) {
+          setPrevLogTerm(other.getPrevLogTerm());
+        }
+        if (other.getLeaderCommit() != 0) {
+          setLeaderCommit(other.getLeaderCommit());
+        }
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        if (other.getSequenceId() != 0L) {
+          setSequenceId(other.getSequenceId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.AppendEntriesRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.AppendEntriesRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object messageId_ = "";
+      /**
+       * <pre>
+       * uuid from nodes before sequence id, decimal sequence id to them
+       * </pre>
+       *
+       * <code>string message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public java.lang.String getMessageId() {
+        java.lang.Object ref = messageId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          messageId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * uuid from nodes before sequence id, decimal sequence id to them
+       * </pre>
+       *
+       * <code>string message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public com.google.protobuf.ByteString
+          getMessageIdBytes() {
+        java.lang.Object ref = messageId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          messageId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * uuid from nodes before sequence id, decimal sequence id to them
+       * </pre>
+       *
+       * <code>string message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public Builder setMessageId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        messageId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * uuid from nodes before sequence id, decimal sequence id to them
+       * </pre>
+       *
+       * <code>string message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public Builder clearMessageId() {
+        
+        messageId_ = getDefaultInstance().getMessageId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * uuid from nodes before sequence id, decimal sequence id to them
+       * </pre>
+       *
+       * <code>string message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public Builder setMessageIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        messageId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 2;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 2;</code>
+       */
+      public Builder setTerm(int value) {
+        
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 2;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object leaderId_ = "";
+      /**
+       * <code>string leader_id = 3;</code>
+       */
+      public java.lang.String getLeaderId() {
+        java.lang.Object ref = leaderId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          leaderId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string leader_id = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLeaderIdBytes() {
+        java.lang.Object ref = leaderId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leaderId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string leader_id = 3;</code>
+       */
+      public Builder setLeaderId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        leaderId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string leader_id = 3;</code>
+       */
+      public Builder clearLeaderId() {
+        
+        leaderId_ = getDefaultInstance().getLeaderId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string leader_id = 3;</code>
+       */
+      public Builder setLeaderIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        leaderId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int prevLogIndex_ ;
+      /**
+       * <code>int32 prev_log_index = 4;</code>
+       */
+      public int getPrevLogIndex() {
+        return prevLogIndex_;
+      }
+      /**
+       * <code>int32 prev_log_index = 4;</code>
+       */
+      public Builder setPrevLogIndex(int value) {
+        
+        prevLogIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 prev_log_index = 4;</code>
+       */
+      public Builder clearPrevLogIndex() {
+        
+        prevLogIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int prevLogTerm_ ;
+      /**
+       * <code>int32 prev_log_term = 5;</code>
+       */
+      public int getPrevLogTerm() {
+        return prevLogTerm_;
+      }
+      /**
+       * <code>int32 prev_log_term = 5;</code>
+       */
+      public Builder setPrevLogTerm(int value) {
+        
+        prevLogTerm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 prev_log_term = 5;</code>
+       */
+      public Builder clearPrevLogTerm() {
+        
+        prevLogTerm_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int leaderCommit_ ;
+      /**
+       * <code>int32 leader_commit = 6;</code>
+       */
+      public int getLeaderCommit() {
+        return leaderCommit_;
+      }
+      /**
+       * <code>int32 leader_commit = 6;</code>
+       */
+      public Builder setLeaderCommit(int value) {
+        
+        leaderCommit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 leader_commit = 6;</code>
+       */
+      public Builder clearLeaderCommit() {
+        
+        leaderCommit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          entries_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry>(entries_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder setEntries(
+          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder setEntries(
+          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder addEntries(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder addEntries(
+          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder addEntries(
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder addEntries(
+          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000040) == 0x00000040),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+
+      private long sequenceId_ ;
+      /**
+       * <pre>
+       * sequence per channel to match the result, 0 if not set
+       * </pre>
+       *
+       * <code>uint64 sequence_id = 8;</code>
+       */
+      public long getSequenceId() {
+        return sequenceId_;
+      }
+      /**
+       * <pre>
+       * sequence per channel to match the result, 0 if not set
+       * </pre>
+       *
+       * <code>uint64 sequence_id = 8;</code>
+       */
+      public Builder setSequenceId(long value) {
+        
+        sequenceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * sequence per channel to match the result, 0 if not set
+       * </pre>
+       *
+       * <code>uint64 sequence_id = 8;</code>
+       */
+      public Builder clearSequenceId() {
+        
+        sequenceId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AppendEntriesRpc)
+    }
+
+    // @@protoc_insertion_point(class_scope:AppendEntriesRpc)
+    private static final in.xnnyygn.xraft.core.Protos.AppendEntriesRpc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc();
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AppendEntriesRpc>
+        PARSER = new com.google.protobuf.AbstractParser<AppendEntriesRpc>() {
+      @java.lang.Override
+      public AppendEntriesRpc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AppendEntriesRpc(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AppendEntriesRpc> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AppendEntriesRpc> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AppendEntriesResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AppendEntriesResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * message id of rpc echoed for nodes before sequence id
+     * </pre>
+     *
+     * <code>string rpc_message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated java.lang.String getRpcMessageId();
+    /**
+     * <pre>
+     * message id of rpc echoed for nodes before sequence id
+     * </pre>
+     *
+     * <code>string rpc_message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated com.google.protobuf.ByteString
+        getRpcMessageIdBytes();
+
+    /**
+     * <code>int32 term = 2;</code>
+     */
+    int getTerm();
+
+    /**
+     * <code>bool success = 3;</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>uint64 rpc_sequence_id = 4;</code>
+     */
+    long getRpcSequenceId();
+  }
+  /**
+   * Protobuf type {@code AppendEntriesResult}
+   */
+  public  static final class AppendEntriesResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:AppendEntriesResult)
+      AppendEntriesResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AppendEntriesResult.newBuilder() to construct.
+    private AppendEntriesResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AppendEntriesResult() {
+      rpcMessageId_ = "";
+      term_ = 0;
+      success_ = false;
+      rpcSequenceId_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AppendEntriesResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              rpcMessageId_ = s;
+              break;
+            }
+            case 16: {
+
+              term_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              success_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              rpcSequenceId_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.AppendEntriesResult.class, in.xnnyygn.xraft.core.Protos.AppendEntriesResult.Builder.class);
+    }
+
+    public static final int RPC_MESSAGE_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object rpcMessageId_;
+    /**
+     * <pre>
+     * message id of rpc echoed for nodes before sequence id
+     * </pre>
+     *
+     * <code>string rpc_message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public java.lang.String getRpcMessageId() {
+      java.lang.Object ref = rpcMessageId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rpcMessageId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * message id of rpc echoed for nodes before sequence id
+     * </pre>
+     *
+     * <code>string rpc_message_id = 1 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public com.google.protobuf.ByteString
+        getRpcMessageIdBytes() {
+      java.lang.Object ref = rpcMessageId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rpcMessageId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TERM_FIELD_NUMBER = 2;
+    private int term_;
+    /**
+     * <code>int32 term = 2;</code>
+     */
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 3;
+    private boolean success_;
+    /**
+     * <code>bool success = 3;</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int RPC_SEQUENCE_ID_FIELD_NUMBER = 4;
+    private long rpcSequenceId_;
+    /**
+     * <code>uint64 rpc_sequence_id = 4;</code>
+     */
+    public long getRpcSequenceId() {
+      return rpcSequenceId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getRpcMessageIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rpcMessageId_);
+      }
+      if (term_ != 0) {
+        output.writeInt32(2, term_);
+      }
+      if (success_ != false) {
+        output.writeBool(3, success_);
+      }
+      if (rpcSequenceId_ != 0L) {
+        output.writeUInt64(4, rpcSequenceId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getRpcMessageIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, rpcMessageId_);
+      }
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, term_);
+      }
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, success_);
+      }
+      if (rpcSequenceId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, rpcSequenceId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesResult)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.AppendEntriesResult other = (in.xnnyygn.xraft.core.Protos.AppendEntriesResult) obj;
+
+      boolean result = true;
+      result = result && getRpcMessageId()
+          .equals(other.getRpcMessageId());
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && (getSuccess()
+          == other.getSuccess());
+      result = result && (getRpcSequenceId()
+          == other.getRpcSequenceId());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RPC_MESSAGE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getRpcMessageId().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + RPC_SEQUENCE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRpcSequenceId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AppendEntriesResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AppendEntriesResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AppendEntriesResult)
+        in.xnnyygn.xraft.core.Protos.AppendEntriesResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.AppendEntriesResult.class, in.xnnyygn.xraft.core.Protos.AppendEntriesResult.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xraft.core.Protos.AppendEntriesResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        rpcMessageId_ = "";
+
+        term_ = 0;
+
+        success_ = false;
+
+        rpcSequenceId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesResult getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.AppendEntriesResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesResult build() {
+        in.xnnyygn.xraft.core.Protos.AppendEntriesResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AppendEntriesResult buildPartial() {
+        in.xnnyygn.xraft.core.Protos.AppendEntriesResult result = new in.xnnyygn.xraft.core.Protos.AppendEntriesResult(this);
+        result.rpcMessageId_ = rpcMessageId_;
+        result.term_ = term_;
+        result.success_ = success_;
+        result.rpcSequenceId_ = rpcSequenceId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesResult) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.AppendEntriesResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AppendEntriesResult other) {
+        if (other == in.xnnyygn.xraft.core.Protos.AppendEntriesResult.getDefaultInstance()) return this;
+        if (!other.getRpcMessageId().isEmpty()) {
+          rpcMessageId_ = other.rpcMessageId_;
+          onChanged();
+        }
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.getRpcSequenceId() != 0L) {
+          setRpcSequenceId(other.getRpcSequenceId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.AppendEntriesResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.AppendEntriesResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object rpcMessageId_ = "";
+      /**
+       * <pre>
+       * message id of rpc echoed for nodes before sequence id
+       * </pre>
+       *
+       * <code>string rpc_message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public java.lang.String getRpcMessageId() {
+        java.lang.Object ref = rpcMessageId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          rpcMessageId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * message id of rpc echoed for nodes before sequence id
+       * </pre>
+       *
+       * <code>string rpc_message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public com.google.protobuf.ByteString
+          getRpcMessageIdBytes() {
+        java.lang.Object ref = rpcMessageId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rpcMessageId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * message id of rpc echoed for nodes before sequence id
+       * </pre>
+       *
+       * <code>string rpc_message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public Builder setRpcMessageId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        rpcMessageId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * message id of rpc echoed for nodes before sequence id
+       * </pre>
+       *
+       * <code>string rpc_message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public Builder clearRpcMessageId() {
+        
+        rpcMessageId_ = getDefaultInstance().getRpcMessageId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * message id of rpc echoed for nodes before sequence id
+       * </pre>
+       *
+       * <code>string rpc_message_id = 1 [deprecated = true];</code>
+       */
+      @java.lang.Deprecated public Builder setRpcMessageIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        rpcMessageId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 2;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 2;</code>
+       */
+      public Builder setTerm(int value) {
+        
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 2;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 3;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 3;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 3;</code>
+       */
+      public Builder clearSuccess() {
+        
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long rpcSequenceId_ ;
+      /**
+       * <code>uint64 rpc_sequence_id = 4;</code>
+       */
+      public long getRpcSequenceId() {
+        return rpcSequenceId_;
+      }
+      /**
+       * <code>uint64 rpc_sequence_id = 4;</code>
+       */
+      public Builder setRpcSequenceId(long value) {
+        
+        rpcSequenceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 rpc_sequence_id = 4;</code>
+       */
+      public Builder clearRpcSequenceId() {
+        
+        rpcSequenceId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AppendEntriesResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:AppendEntriesResult)
+    private static final in.xnnyygn.xraft.core.Protos.AppendEntriesResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AppendEntriesResult();
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AppendEntriesResult>
+        PARSER = new com.google.protobuf.AbstractParser<AppendEntriesResult>() {
+      @java.lang.Override
+      public AppendEntriesResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AppendEntriesResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AppendEntriesResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AppendEntriesResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.AppendEntriesResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstallSnapshotRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:InstallSnapshotRpc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    int getTerm();
+
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    java.lang.String getLeaderId();
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getLeaderIdBytes();
+
+    /**
+     * <code>int32 last_index = 3;</code>
+     */
+    int getLastIndex();
+
+    /**
+     * <code>int32 last_term = 4;</code>
+     */
+    int getLastTerm();
+
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
+        getLastConfigList();
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index);
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    int getLastConfigCount();
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getLastConfigOrBuilderList();
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
+        int index);
+
+    /**
+     * <code>int32 offset = 6;</code>
+     */
+    int getOffset();
+
+    /**
+     * <code>bytes data = 7;</code>
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>bool done = 8;</code>
+     */
+    boolean getDone();
+
+    /**
+     * <code>int32 base_index = 9;</code>
+     */
+    int getBaseIndex();
+  }
+  /**
+   * Protobuf type {@code InstallSnapshotRpc}
+   */
+  public  static final class InstallSnapshotRpc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:InstallSnapshotRpc)
+      InstallSnapshotRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstallSnapshotRpc.newBuilder() to construct.
+    private InstallSnapshotRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstallSnapshotRpc() {
+      term_ = 0;
+      leaderId_ = "";
+      lastIndex_ = 0;
+      lastTerm_ = 0;
+      lastConfig_ = java.util.Collections.emptyList();
+      offset_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      done_ = false;
+      baseIndex_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private InstallSnapshotRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              term_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              leaderId_ = s;
+              break;
+            }
+            case 24: {
+
+              lastIndex_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              lastTerm_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              lastConfig_.add(
+                  input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
+              break;
+            }
+            case 48: {
+
+              offset_ = input.readInt32();
+              break;
+            }
+            case 58: {
+
+              data_ = input.readBytes();
+              break;
+            }
+            case 64: {
+
+              done_ = input.readBool();
+              break;
+            }
+            case 72: {
+
+              baseIndex_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int LEADER_ID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object leaderId_;
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    public java.lang.String getLeaderId() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        leaderId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLeaderIdBytes() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leaderId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAST_INDEX_FIELD_NUMBER = 3;
+    private int lastIndex_;
+    /**
+     * <code>int32 last_index = 3;</code>
+     */
+    public int getLastIndex() {
+      return lastIndex_;
+    }
+
+    public static final int LAST_TERM_FIELD_NUMBER = 4;
+    private int lastTerm_;
+    /**
+     * <code>int32 last_term = 4;</code>
+     */
+    public int getLastTerm() {
+      return lastTerm_;
+    }
+
+    public static final int LAST_CONFIG_FIELD_NUMBER = 5;
+    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_;
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
+      return lastConfig_;
+    }
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getLastConfigOrBuilderList() {
+      return lastConfig_;
+    }
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    public int getLastConfigCount() {
+      return lastConfig_.size();
+    }
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
+      return lastConfig_.get(index);
+    }
+    /**
+     * <code>repeated .NodeEndpoint last_config = 5;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
+        int index) {
+      return lastConfig_.get(index);
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 6;
+    private int offset_;
+    /**
+     * <code>int32 offset = 6;</code>
+     */
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>bytes data = 7;</code>
+     */
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int DONE_FIELD_NUMBER = 8;
+    private boolean done_;
+    /**
+     * <code>bool done = 8;</code>
+     */
+    public boolean getDone() {
+      return done_;
+    }
+
+    public static final int BASE_INDEX_FIELD_NUMBER = 9;
+    private int baseIndex_;
+    /**
+     * <code>int32 base_index = 9;</code>
+     */
+    public int getBaseIndex() {
+      return baseIndex_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, leaderId_);
+      }
+      if (lastIndex_ != 0) {
+        output.writeInt32(3, lastIndex_);
+      }
+      if (lastTerm_ != 0) {
+        output.writeInt32(4, lastTerm_);
+      }
+      for (int i = 0; i < lastConfig_.size(); i++) {
+        output.writeMessage(5, lastConfig_.get(i));
+      }
+      if (offset_ != 0) {
+        output.writeInt32(6, offset_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(7, data_);
+      }
+      if (done_ != false) {
+        output.writeBool(8, done_);
+      }
+      if (baseIndex_ != 0) {
+        output.writeInt32(9, baseIndex_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, leaderId_);
+      }
+      if (lastIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, lastIndex_);
+      }
+      if (lastTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, lastTerm_);
+      }
+      for (int i = 0; i < lastConfig_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, lastConfig_.get(i));
+      }
+      if (offset_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, offset_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, data_);
+      }
+      if (done_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, done_);
+      }
+      if (baseIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, baseIndex_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc other = (in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc) obj;
+
+      boolean result = true;
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && getLeaderId()
+          .equals(other.getLeaderId());
+      result = result && (getLastIndex()
+          == other.getLastIndex());
+      result = result && (getLastTerm()
+          == other.getLastTerm());
+      result = result && getLastConfigList()
+          .equals(other.getLastConfigList());
+      result = result && (getOffset()
+          == other.getOffset());
+      result = result && getData()
+          .equals(other.getData());
+      result = result && (getDone()
+          == other.getDone());
+      result = result && (getBaseIndex()
+          == other.getBaseIndex());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + LEADER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId().hashCode();
+      hash = (37 * hash) + LAST_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastIndex();
+      hash = (37 * hash) + LAST_TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getLastTerm();
+      if (getLastConfigCount() > 0) {
+        hash = (37 * hash) + LAST_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getLastConfigList().hashCode();
+      }
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + getOffset();
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + DONE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDone());
+      hash = (37 * hash) + BASE_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getBaseIndex();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code InstallSnapshotRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:InstallSnapshotRpc)
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLastConfigFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        term_ = 0;
+
+        leaderId_ = "";
+
+        lastIndex_ = 0;
+
+        lastTerm_ = 0;
+
+        if (lastConfigBuilder_ == null) {
+          lastConfig_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          lastConfigBuilder_.clear();
+        }
+        offset_ = 0;
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
+
+        done_ = false;
+
+        baseIndex_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc build() {
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc result = new in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.term_ = term_;
+        result.leaderId_ = leaderId_;
+        result.lastIndex_ = lastIndex_;
+        result.lastTerm_ = lastTerm_;
+        if (lastConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.lastConfig_ = lastConfig_;
+        } else {
+          result.lastConfig_ = lastConfigBuilder_.build();
+        }
+        result.offset_ = offset_;
+        result.data_ = data_;
+        result.done_ = done_;
+        result.baseIndex_ = baseIndex_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (!other.getLeaderId().isEmpty()) {
+          leaderId_ = other.leaderId_;
+          onChanged();
+        }
+        if (other.getLastIndex() != 0) {
+          setLastIndex(other.getLastIndex());
+        }
+        if (other.getLastTerm() != 0) {
+          setLastTerm(other.getLastTerm());
+        }
+        if (lastConfigBuilder_ == null) {
+          if (!other.lastConfig_.isEmpty()) {
+            if (lastConfig_.isEmpty()) {
+              lastConfig_ = other.lastConfig_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureLastConfigIsMutable();
+              lastConfig_.addAll(other.lastConfig_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.lastConfig_.isEmpty()) {
+            if (lastConfigBuilder_.isEmpty()) {
+              lastConfigBuilder_.dispose();
+              lastConfigBuilder_ = null;
+              lastConfig_ = other.lastConfig_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              lastConfigBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLastConfigFieldBuilder() : null;
+            } else {
+              lastConfigBuilder_.addAllMessages(other.lastConfig_);
+            }
+          }
+        }
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        if (other.getDone() != false) {
+          setDone(other.getDone());
+        }
+        if (other.getBaseIndex() != 0) {
+          setBaseIndex(other.getBaseIndex());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder setTerm(int value) {
+        
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object leaderId_ = "";
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public java.lang.String getLeaderId() {
+        java.lang.Object ref = leaderId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          leaderId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLeaderIdBytes() {
+        java.lang.Object ref = leaderId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leaderId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder setLeaderId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        leaderId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder clearLeaderId() {
+        
+        leaderId_ = getDefaultInstance().getLeaderId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder setLeaderIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        leaderId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int lastIndex_ ;
+      /**
+       * <code>int32 last_index = 3;</code>
+       */
+      public int getLastIndex() {
+        return lastIndex_;
+      }
+      /**
+       * <code>int32 last_index = 3;</code>
+       */
+      public Builder setLastIndex(int value) {
+        
+        lastIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 last_index = 3;</code>
+       */
+      public Builder clearLastIndex() {
+        
+        lastIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastTerm_ ;
+      /**
+       * <code>int32 last_term = 4;</code>
+       */
+      public int getLastTerm() {
+        return lastTerm_;
+      }
+      /**
+       * <code>int32 last_term = 4;</code>
+       */
+      public Builder setLastTerm(int value) {
+        
+        lastTerm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 last_term = 4;</code>
+       */
+      public Builder clearLastTerm() {
+        
+        lastTerm_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_ =
+        java.util.Collections.emptyList();
+      private void ensureLastConfigIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(lastConfig_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> lastConfigBuilder_;
+
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
+        if (lastConfigBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(lastConfig_);
+        } else {
+          return lastConfigBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public int getLastConfigCount() {
+        if (lastConfigBuilder_ == null) {
+          return lastConfig_.size();
+        } else {
+          return lastConfigBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
+        if (lastConfigBuilder_ == null) {
+          return lastConfig_.get(index);
+        } else {
+          return lastConfigBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder setLastConfig(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (lastConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLastConfigIsMutable();
+          lastConfig_.set(index, value);
+          onChanged();
+        } else {
+          lastConfigBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder setLastConfig(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          lastConfigBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder addLastConfig(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (lastConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLastConfigIsMutable();
+          lastConfig_.add(value);
+          onChanged();
+        } else {
+          lastConfigBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder addLastConfig(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (lastConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLastConfigIsMutable();
+          lastConfig_.add(index, value);
+          onChanged();
+        } else {
+          lastConfigBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder addLastConfig(
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.add(builderForValue.build());
+          onChanged();
+        } else {
+          lastConfigBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder addLastConfig(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          lastConfigBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder addAllLastConfig(
+          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, lastConfig_);
+          onChanged();
+        } else {
+          lastConfigBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder clearLastConfig() {
+        if (lastConfigBuilder_ == null) {
+          lastConfig_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          lastConfigBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public Builder removeLastConfig(int index) {
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.remove(index);
+          onChanged();
+        } else {
+          lastConfigBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getLastConfigBuilder(
+          int index) {
+        return getLastConfigFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
+          int index) {
+        if (lastConfigBuilder_ == null) {
+          return lastConfig_.get(index);  } else {
+          return lastConfigBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+           getLastConfigOrBuilderList() {
+        if (lastConfigBuilder_ != null) {
+          return lastConfigBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(lastConfig_);
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder() {
+        return getLastConfigFieldBuilder().addBuilder(
+            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder(
+          int index) {
+        return getLastConfigFieldBuilder().addBuilder(
+            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
+           getLastConfigBuilderList() {
+        return getLastConfigFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+          getLastConfigFieldBuilder() {
+        if (lastConfigBuilder_ == null) {
+          lastConfigBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
+                  lastConfig_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          lastConfig_ = null;
+        }
+        return lastConfigBuilder_;
+      }
+
+      private int offset_ ;
+      /**
+       * <code>int32 offset = 6;</code>
+       */
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>int32 offset = 6;</code>
+       */
+      public Builder setOffset(int value) {
+        
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 offset = 6;</code>
+       */
+      public Builder clearOffset() {
+        
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes data = 7;</code>
+       */
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 7;</code>
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 7;</code>
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private boolean done_ ;
+      /**
+       * <code>bool done = 8;</code>
+       */
+      public boolean getDone() {
+        return done_;
+      }
+      /**
+       * <code>bool done = 8;</code>
+       */
+      public Builder setDone(boolean value) {
+        
+        done_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool done = 8;</code>
+       */
+      public Builder clearDone() {
+        
+        done_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int baseIndex_ ;
+      /**
+       * <code>int32 base_index = 9;</code>
+       */
+      public int getBaseIndex() {
+        return baseIndex_;
+      }
+      /**
+       * <code>int32 base_index = 9;</code>
+       */
+      public Builder setBaseIndex(int value) {
+        
+        baseIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 base_index = 9;</code>
+       */
+      public Builder clearBaseIndex() {
+        
+        baseIndex_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:InstallSnapshotRpc)
+    }
+
+    // @@protoc_insertion_point(class_scope:InstallSnapshotRpc)
+    private static final in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc();
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstallSnapshotRpc>
+        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotRpc>() {
+      @java.lang.Override
+      public InstallSnapshotRpc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new InstallSnapshotRpc(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstallSnapshotRpc> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstallSnapshotRpc> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InstallSnapshotResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:InstallSnapshotResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    int getTerm();
+
+    /**
+     * <pre>
+     * last included index of snapshot in receiver, 0 if unknown
+     * </pre>
+     *
+     * <code>int32 snapshot_index = 2;</code>
+     */
+    int getSnapshotIndex();
+  }
+  /**
+   * Protobuf type {@code InstallSnapshotResult}
+   */
+  public  static final class InstallSnapshotResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:InstallSnapshotResult)
+      InstallSnapshotResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InstallSnapshotResult.newBuilder() to construct.
+    private InstallSnapshotResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InstallSnapshotResult() {
+      term_ = 0;
+      snapshotIndex_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private InstallSnapshotResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              term_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              snapshotIndex_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int SNAPSHOT_INDEX_FIELD_NUMBER = 2;
+    private int snapshotIndex_;
+    /**
+     * <pre>
+     * last included index of snapshot in receiver, 0 if unknown
+     * </pre>
+     *
+     * <code>int32 snapshot_index = 2;</code>
+     */
+    public int getSnapshotIndex() {
+      return snapshotIndex_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (snapshotIndex_ != 0) {
+        output.writeInt32(2, snapshotIndex_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (snapshotIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, snapshotIndex_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotResult)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.InstallSnapshotResult other = (in.xnnyygn.xraft.core.Protos.InstallSnapshotResult) obj;
+
+      boolean result = true;
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && (getSnapshotIndex()
+          == other.getSnapshotIndex());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + SNAPSHOT_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getSnapshotIndex();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.InstallSnapshotResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code InstallSnapshotResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:InstallSnapshotResult)
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        term_ = 0;
+
+        snapshotIndex_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult build() {
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult buildPartial() {
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotResult result = new in.xnnyygn.xraft.core.Protos.InstallSnapshotResult(this);
+        result.term_ = term_;
+        result.snapshotIndex_ = snapshotIndex_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotResult) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.InstallSnapshotResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.InstallSnapshotResult other) {
+        if (other == in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (other.getSnapshotIndex() != 0) {
+          setSnapshotIndex(other.getSnapshotIndex());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.InstallSnapshotResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int term_ ;
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder setTerm(int value) {
         
-        prevLogTerm_ = value;
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int snapshotIndex_ ;
+      /**
+       * <pre>
+       * last included index of snapshot in receiver, 0 if unknown
+       * </pre>
+       *
+       * <code>int32 snapshot_index = 2;</code>
+       */
+      public int getSnapshotIndex() {
+        return snapshotIndex_;
+      }
+      /**
+       * <pre>
+       * last included index of snapshot in receiver, 0 if unknown
+       * </pre>
+       *
+       * <code>int32 snapshot_index = 2;</code>
+       */
+      public Builder setSnapshotIndex(int value) {
+        
+        snapshotIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * last included index of snapshot in receiver, 0 if unknown
+       * </pre>
+       *
+       * <code>int32 snapshot_index = 2;</code>
+       */
+      public Builder clearSnapshotIndex() {
+        
+        snapshotIndex_ = 0;
         onChanged();
         return this;
       }
-      /**
-       * <code>int32 prev_log_term = 5;</code>
-       */
-      public Builder clearPrevLogTerm() {
-        
-        prevLogTerm_ = 0;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:InstallSnapshotResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:InstallSnapshotResult)
+    private static final in.xnnyygn.xraft.core.Protos.InstallSnapshotResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.InstallSnapshotResult();
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InstallSnapshotResult>
+        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotResult>() {
+      @java.lang.Override
+      public InstallSnapshotResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new InstallSnapshotResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<InstallSnapshotResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InstallSnapshotResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransferSnapshotRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransferSnapshotRpc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    int getTerm();
+
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    java.lang.String getLeaderId();
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getLeaderIdBytes();
+
+    /**
+     * <code>.NodeEndpoint target = 3;</code>
+     */
+    boolean hasTarget();
+    /**
+     * <code>.NodeEndpoint target = 3;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getTarget();
+    /**
+     * <code>.NodeEndpoint target = 3;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getTargetOrBuilder();
+
+    /**
+     * <code>int32 min_last_index = 4;</code>
+     */
+    int getMinLastIndex();
+  }
+  /**
+   * Protobuf type {@code TransferSnapshotRpc}
+   */
+  public  static final class TransferSnapshotRpc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TransferSnapshotRpc)
+      TransferSnapshotRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransferSnapshotRpc.newBuilder() to construct.
+    private TransferSnapshotRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransferSnapshotRpc() {
+      term_ = 0;
+      leaderId_ = "";
+      minLastIndex_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransferSnapshotRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              term_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              leaderId_ = s;
+              break;
+            }
+            case 26: {
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
+              if (target_ != null) {
+                subBuilder = target_.toBuilder();
+              }
+              target_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(target_);
+                target_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 32: {
+
+              minLastIndex_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotRpc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotRpc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.class, in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.Builder.class);
+    }
+
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
+    /**
+     * <code>int32 term = 1;</code>
+     */
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int LEADER_ID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object leaderId_;
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    public java.lang.String getLeaderId() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        leaderId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string leader_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLeaderIdBytes() {
+      java.lang.Object ref = leaderId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leaderId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 3;
+    private in.xnnyygn.xraft.core.Protos.NodeEndpoint target_;
+    /**
+     * <code>.NodeEndpoint target = 3;</code>
+     */
+    public boolean hasTarget() {
+      return target_ != null;
+    }
+    /**
+     * <code>.NodeEndpoint target = 3;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getTarget() {
+      return target_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : target_;
+    }
+    /**
+     * <code>.NodeEndpoint target = 3;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getTargetOrBuilder() {
+      return getTarget();
+    }
+
+    public static final int MIN_LAST_INDEX_FIELD_NUMBER = 4;
+    private int minLastIndex_;
+    /**
+     * <code>int32 min_last_index = 4;</code>
+     */
+    public int getMinLastIndex() {
+      return minLastIndex_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (term_ != 0) {
+        output.writeInt32(1, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, leaderId_);
+      }
+      if (target_ != null) {
+        output.writeMessage(3, getTarget());
+      }
+      if (minLastIndex_ != 0) {
+        output.writeInt32(4, minLastIndex_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (term_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, term_);
+      }
+      if (!getLeaderIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, leaderId_);
+      }
+      if (target_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getTarget());
+      }
+      if (minLastIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, minLastIndex_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc other = (in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc) obj;
+
+      boolean result = true;
+      result = result && (getTerm()
+          == other.getTerm());
+      result = result && getLeaderId()
+          .equals(other.getLeaderId());
+      result = result && (hasTarget() == other.hasTarget());
+      if (hasTarget()) {
+        result = result && getTarget()
+            .equals(other.getTarget());
+      }
+      result = result && (getMinLastIndex()
+          == other.getMinLastIndex());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + LEADER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getLeaderId().hashCode();
+      if (hasTarget()) {
+        hash = (37 * hash) + TARGET_FIELD_NUMBER;
+        hash = (53 * hash) + getTarget().hashCode();
+      }
+      hash = (37 * hash) + MIN_LAST_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getMinLastIndex();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TransferSnapshotRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TransferSnapshotRpc)
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotRpc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.class, in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        term_ = 0;
+
+        leaderId_ = "";
+
+        if (targetBuilder_ == null) {
+          target_ = null;
+        } else {
+          target_ = null;
+          targetBuilder_ = null;
+        }
+        minLastIndex_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotRpc_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc build() {
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc result = new in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc(this);
+        result.term_ = term_;
+        result.leaderId_ = leaderId_;
+        if (targetBuilder_ == null) {
+          result.target_ = target_;
+        } else {
+          result.target_ = targetBuilder_.build();
+        }
+        result.minLastIndex_ = minLastIndex_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc.getDefaultInstance()) return this;
+        if (other.getTerm() != 0) {
+          setTerm(other.getTerm());
+        }
+        if (!other.getLeaderId().isEmpty()) {
+          leaderId_ = other.leaderId_;
+          onChanged();
+        }
+        if (other.hasTarget()) {
+          mergeTarget(other.getTarget());
+        }
+        if (other.getMinLastIndex() != 0) {
+          setMinLastIndex(other.getMinLastIndex());
+        }
+        this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
-      private int leaderCommit_ ;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int term_ ;
       /**
-       * <code>int32 leader_commit = 6;</code>
+       * <code>int32 term = 1;</code>
        */
-      public int getLeaderCommit() {
-        return leaderCommit_;
+      public int getTerm() {
+        return term_;
       }
       /**
-       * <code>int32 leader_commit = 6;</code>
+       * <code>int32 term = 1;</code>
        */
-      public Builder setLeaderCommit(int value) {
+      public Builder setTerm(int value) {
         
-        leaderCommit_ = value;
+        term_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 leader_commit = 6;</code>
+       * <code>int32 term = 1;</code>
        */
-      public Builder clearLeaderCommit() {
+      public Builder clearTerm() {
         
-        leaderCommit_ = 0;
+        term_ = 0;
         onChanged();
         return this;
       }
 
-      private java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> entries_ =
-        java.util.Collections.emptyList();
-      private void ensureEntriesIsMutable() {
-        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
-          entries_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry>(entries_);
-          bitField0_ |= 0x00000040;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> entriesBuilder_;
-
-      /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-       */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> getEntriesList() {
-        if (entriesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(entries_);
-        } else {
-          return entriesBuilder_.getMessageList();
-        }
-      }
+      private java.lang.Object leaderId_ = "";
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>string leader_id = 2;</code>
        */
-      public int getEntriesCount() {
-        if (entriesBuilder_ == null) {
-          return entries_.size();
+      public java.lang.String getLeaderId() {
+        java.lang.Object ref = leaderId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          leaderId_ = s;
+          return s;
         } else {
-          return entriesBuilder_.getCount();
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>string leader_id = 2;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry getEntries(int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);
+      public com.google.protobuf.ByteString
+          getLeaderIdBytes() {
+        java.lang.Object ref = leaderId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leaderId_ = b;
+          return b;
         } else {
-          return entriesBuilder_.getMessage(index);
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>string leader_id = 2;</code>
        */
-      public Builder setEntries(
-          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.set(index, value);
-          onChanged();
-        } else {
-          entriesBuilder_.setMessage(index, value);
-        }
+      public Builder setLeaderId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        leaderId_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>string leader_id = 2;</code>
        */
-      public Builder setEntries(
-          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          entriesBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder clearLeaderId() {
+        
+        leaderId_ = getDefaultInstance().getLeaderId();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
-       */
-      public Builder addEntries(in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.add(value);
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(value);
-        }
+       * <code>string leader_id = 2;</code>
+       */
+      public Builder setLeaderIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        leaderId_ = value;
+        onChanged();
         return this;
       }
+
+      private in.xnnyygn.xraft.core.Protos.NodeEndpoint target_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> targetBuilder_;
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public Builder addEntries(
-          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.add(index, value);
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(index, value);
-        }
-        return this;
+      public boolean hasTarget() {
+        return targetBuilder_ != null || target_ != null;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public Builder addEntries(
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(builderForValue.build());
-          onChanged();
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getTarget() {
+        if (targetBuilder_ == null) {
+          return target_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : target_;
         } else {
-          entriesBuilder_.addMessage(builderForValue.build());
+          return targetBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public Builder addEntries(
-          int index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(index, builderForValue.build());
+      public Builder setTarget(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (targetBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          target_ = value;
           onChanged();
         } else {
-          entriesBuilder_.addMessage(index, builderForValue.build());
+          targetBuilder_.setMessage(value);
         }
+
         return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public Builder addAllEntries(
-          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry> values) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, entries_);
+      public Builder setTarget(
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (targetBuilder_ == null) {
+          target_ = builderForValue.build();
           onChanged();
         } else {
-          entriesBuilder_.addAllMessages(values);
+          targetBuilder_.setMessage(builderForValue.build());
         }
+
         return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public Builder clearEntries() {
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000040);
+      public Builder mergeTarget(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (targetBuilder_ == null) {
+          if (target_ != null) {
+            target_ =
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(target_).mergeFrom(value).buildPartial();
+          } else {
+            target_ = value;
+          }
           onChanged();
         } else {
-          entriesBuilder_.clear();
+          targetBuilder_.mergeFrom(value);
         }
+
         return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public Builder removeEntries(int index) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.remove(index);
+      public Builder clearTarget() {
+        if (targetBuilder_ == null) {
+          target_ = null;
           onChanged();
         } else {
-          entriesBuilder_.remove(index);
+          target_ = null;
+          targetBuilder_ = null;
         }
+
         return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder getEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().getBuilder(index);
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getTargetBuilder() {
+        
+        onChanged();
+        return getTargetFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder getEntriesOrBuilder(
-          int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);  } else {
-          return entriesBuilder_.getMessageOrBuilder(index);
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getTargetOrBuilder() {
+        if (targetBuilder_ != null) {
+          return targetBuilder_.getMessageOrBuilder();
+        } else {
+          return target_ == null ?
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : target_;
         }
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>.NodeEndpoint target = 3;</code>
        */
-      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
-           getEntriesOrBuilderList() {
-        if (entriesBuilder_ != null) {
-          return entriesBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(entries_);
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+          getTargetFieldBuilder() {
+        if (targetBuilder_ == null) {
+          targetBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
+                  getTarget(),
+                  getParentForChildren(),
+                  isClean());
+          target_ = null;
         }
+        return targetBuilder_;
       }
+
+      private int minLastIndex_ ;
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>int32 min_last_index = 4;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder addEntriesBuilder() {
-        return getEntriesFieldBuilder().addBuilder(
-            in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance());
+      public int getMinLastIndex() {
+        return minLastIndex_;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>int32 min_last_index = 4;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder addEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().addBuilder(
-            index, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.getDefaultInstance());
+      public Builder setMinLastIndex(int value) {
+        
+        minLastIndex_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .AppendEntriesRpc.Entry entries = 7;</code>
+       * <code>int32 min_last_index = 4;</code>
        */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder> 
-           getEntriesBuilderList() {
-        return getEntriesFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder> 
-          getEntriesFieldBuilder() {
-        if (entriesBuilder_ == null) {
-          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.Entry.Builder, in.xnnyygn.xraft.core.Protos.AppendEntriesRpc.EntryOrBuilder>(
-                  entries_,
-                  ((bitField0_ & 0x00000040) == 0x00000040),
-                  getParentForChildren(),
-                  isClean());
-          entries_ = null;
-        }
-        return entriesBuilder_;
+      public Builder clearMinLastIndex() {
+        
+        minLastIndex_ = 0;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -3982,85 +9639,91 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:AppendEntriesRpc)
+      // @@protoc_insertion_point(builder_scope:TransferSnapshotRpc)
     }
 
-    // @@protoc_insertion_point(class_scope:AppendEntriesRpc)
-    private static final in.xnnyygn.xraft.core.Protos.AppendEntriesRpc DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:TransferSnapshotRpc)
+    private static final in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AppendEntriesRpc();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesRpc getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AppendEntriesRpc>
-        PARSER = new com.google.protobuf.AbstractParser<AppendEntriesRpc>() {
+    private static final com.google.protobuf.Parser<TransferSnapshotRpc>
+        PARSER = new com.google.protobuf.AbstractParser<TransferSnapshotRpc>() {
       @java.lang.Override
-      public AppendEntriesRpc parsePartialFrom(
+      public TransferSnapshotRpc parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AppendEntriesRpc(input, extensionRegistry);
+        return new TransferSnapshotRpc(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AppendEntriesRpc> parser() {
+    public static com.google.protobuf.Parser<TransferSnapshotRpc> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AppendEntriesRpc> getParserForType() {
+    public com.google.protobuf.Parser<TransferSnapshotRpc> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.AppendEntriesRpc getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.TransferSnapshotRpc getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AppendEntriesResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AppendEntriesResult)
+  public interface TransferSnapshotResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransferSnapshotResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string rpc_message_id = 1;</code>
+     * <code>int32 term = 1;</code>
+     */
+    int getTerm();
+
+    /**
+     * <code>string target_id = 2;</code>
      */
-    java.lang.String getRpcMessageId();
+    java.lang.String getTargetId();
     /**
-     * <code>string rpc_message_id = 1;</code>
+     * <code>string target_id = 2;</code>
      */
     com.google.protobuf.ByteString
-        getRpcMessageIdBytes();
+        getTargetIdBytes();
 
     /**
-     * <code>int32 term = 2;</code>
+     * <code>int32 last_index = 3;</code>
      */
-    int getTerm();
+    int getLastIndex();
 
     /**
-     * <code>bool success = 3;</code>
+     * <code>bool success = 4;</code>
      */
     boolean getSuccess();
   }
   /**
-   * Protobuf type {@code AppendEntriesResult}
+   * Protobuf type {@code TransferSnapshotResult}
    */
-  public  static final class AppendEntriesResult extends
+  public  static final class TransferSnapshotResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:AppendEntriesResult)
-      AppendEntriesResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:TransferSnapshotResult)
+      TransferSnapshotResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AppendEntriesResult.newBuilder() to construct.
-    private AppendEntriesResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use TransferSnapshotResult.newBuilder() to construct.
+    private TransferSnapshotResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AppendEntriesResult() {
-      rpcMessageId_ = "";
+    private TransferSnapshotResult() {
       term_ = 0;
+      targetId_ = "";
+      lastIndex_ = 0;
       success_ = false;
     }
 
@@ -4069,7 +9732,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AppendEntriesResult(
+    private TransferSnapshotResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4088,19 +9751,24 @@ public final class Protos {
             case 0:
               done = true;
               break;
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 8: {
 
-              rpcMessageId_ = s;
+              term_ = input.readInt32();
               break;
             }
-            case 16: {
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              term_ = input.readInt32();
+              targetId_ = s;
               break;
             }
             case 24: {
 
+              lastIndex_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
               success_ = input.readBool();
               break;
             }
@@ -4125,64 +9793,73 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.AppendEntriesResult.class, in.xnnyygn.xraft.core.Protos.AppendEntriesResult.Builder.class);
+              in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.class, in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.Builder.class);
     }
 
-    public static final int RPC_MESSAGE_ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object rpcMessageId_;
+    public static final int TERM_FIELD_NUMBER = 1;
+    private int term_;
     /**
-     * <code>string rpc_message_id = 1;</code>
+     * <code>int32 term = 1;</code>
      */
-    public java.lang.String getRpcMessageId() {
-      java.lang.Object ref = rpcMessageId_;
+    public int getTerm() {
+      return term_;
+    }
+
+    public static final int TARGET_ID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object targetId_;
+    /**
+     * <code>string target_id = 2;</code>
+     */
+    public java.lang.String getTargetId() {
+      java.lang.Object ref = targetId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        rpcMessageId_ = s;
+        targetId_ = s;
         return s;
       }
     }
     /**
-     * <code>string rpc_message_id = 1;</code>
+     * <code>string target_id = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getRpcMessageIdBytes() {
-      java.lang.Object ref = rpcMessageId_;
+        getTargetIdBytes() {
+      java.lang.Object ref = targetId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        rpcMessageId_ = b;
+        targetId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int TERM_FIELD_NUMBER = 2;
-    private int term_;
+    public static final int LAST_INDEX_FIELD_NUMBER = 3;
+    private int lastIndex_;
     /**
-     * <code>int32 term = 2;</code>
+     * <code>int32 last_index = 3;</code>
      */
-    public int getTerm() {
-      return term_;
+    public int getLastIndex() {
+      return lastIndex_;
     }
 
-    public static final int SUCCESS_FIELD_NUMBER = 3;
+    public static final int SUCCESS_FIELD_NUMBER = 4;
     private boolean success_;
     /**
-     * <code>bool success = 3;</code>
+     * <code>bool success = 4;</code>
      */
     public boolean getSuccess() {
       return success_;
@@ -4202,14 +9879,17 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getRpcMessageIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rpcMessageId_);
-      }
       if (term_ != 0) {
-        output.writeInt32(2, term_);
+        output.writeInt32(1, term_);
+      }
+      if (!getTargetIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, targetId_);
+      }
+      if (lastIndex_ != 0) {
+        output.writeInt32(3, lastIndex_);
       }
       if (success_ != false) {
-        output.writeBool(3, success_);
+        output.writeBool(4, success_);
       }
       unknownFields.writeTo(output);
     }
@@ -4220,16 +9900,20 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (!getRpcMessageIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, rpcMessageId_);
-      }
       if (term_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, term_);
+          .computeInt32Size(1, term_);
+      }
+      if (!getTargetIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, targetId_);
+      }
+      if (lastIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, lastIndex_);
       }
       if (success_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, success_);
+          .computeBoolSize(4, success_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4241,16 +9925,18 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesResult)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.TransferSnapshotResult)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.AppendEntriesResult other = (in.xnnyygn.xraft.core.Protos.AppendEntriesResult) obj;
+      in.xnnyygn.xraft.core.Protos.TransferSnapshotResult other = (in.xnnyygn.xraft.core.Protos.TransferSnapshotResult) obj;
 
       boolean result = true;
-      result = result && getRpcMessageId()
-          .equals(other.getRpcMessageId());
       result = result && (getTerm()
           == other.getTerm());
+      result = result && getTargetId()
+          .equals(other.getTargetId());
+      result = result && (getLastIndex()
+          == other.getLastIndex());
       result = result && (getSuccess()
           == other.getSuccess());
       result = result && unknownFields.equals(other.unknownFields);
@@ -4264,10 +9950,12 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + RPC_MESSAGE_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getRpcMessageId().hashCode();
       hash = (37 * hash) + TERM_FIELD_NUMBER;
       hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + TARGET_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTargetId().hashCode();
+      hash = (37 * hash) + LAST_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastIndex();
       hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getSuccess());
@@ -4276,69 +9964,69 @@ public final class Protos {
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4351,7 +10039,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AppendEntriesResult prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.TransferSnapshotResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4367,26 +10055,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code AppendEntriesResult}
+     * Protobuf type {@code TransferSnapshotResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:AppendEntriesResult)
-        in.xnnyygn.xraft.core.Protos.AppendEntriesResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:TransferSnapshotResult)
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.AppendEntriesResult.class, in.xnnyygn.xraft.core.Protos.AppendEntriesResult.Builder.class);
+                in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.class, in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.AppendEntriesResult.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4404,10 +10092,12 @@ public final class Protos {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        rpcMessageId_ = "";
-
         term_ = 0;
 
+        targetId_ = "";
+
+        lastIndex_ = 0;
+
         success_ = false;
 
         return this;
@@ -4416,17 +10106,17 @@ public final class Protos {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AppendEntriesResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_TransferSnapshotResult_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesResult getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.AppendEntriesResult.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.TransferSnapshotResult getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesResult build() {
-        in.xnnyygn.xraft.core.Protos.AppendEntriesResult result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.TransferSnapshotResult build() {
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4434,10 +10124,11 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AppendEntriesResult buildPartial() {
-        in.xnnyygn.xraft.core.Protos.AppendEntriesResult result = new in.xnnyygn.xraft.core.Protos.AppendEntriesResult(this);
-        result.rpcMessageId_ = rpcMessageId_;
+      public in.xnnyygn.xraft.core.Protos.TransferSnapshotResult buildPartial() {
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotResult result = new in.xnnyygn.xraft.core.Protos.TransferSnapshotResult(this);
         result.term_ = term_;
+        result.targetId_ = targetId_;
+        result.lastIndex_ = lastIndex_;
         result.success_ = success_;
         onBuilt();
         return result;
@@ -4477,23 +10168,26 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.AppendEntriesResult) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.AppendEntriesResult)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.TransferSnapshotResult) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.TransferSnapshotResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AppendEntriesResult other) {
-        if (other == in.xnnyygn.xraft.core.Protos.AppendEntriesResult.getDefaultInstance()) return this;
-        if (!other.getRpcMessageId().isEmpty()) {
-          rpcMessageId_ = other.rpcMessageId_;
-          onChanged();
-        }
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.TransferSnapshotResult other) {
+        if (other == in.xnnyygn.xraft.core.Protos.TransferSnapshotResult.getDefaultInstance()) return this;
         if (other.getTerm() != 0) {
           setTerm(other.getTerm());
         }
+        if (!other.getTargetId().isEmpty()) {
+          targetId_ = other.targetId_;
+          onChanged();
+        }
+        if (other.getLastIndex() != 0) {
+          setLastIndex(other.getLastIndex());
+        }
         if (other.getSuccess() != false) {
           setSuccess(other.getSuccess());
         }
@@ -4512,11 +10206,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.AppendEntriesResult parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.TransferSnapshotResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.AppendEntriesResult) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.TransferSnapshotResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4526,110 +10220,136 @@ public final class Protos {
         return this;
       }
 
-      private java.lang.Object rpcMessageId_ = "";
+      private int term_ ;
       /**
-       * <code>string rpc_message_id = 1;</code>
+       * <code>int32 term = 1;</code>
        */
-      public java.lang.String getRpcMessageId() {
-        java.lang.Object ref = rpcMessageId_;
+      public int getTerm() {
+        return term_;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder setTerm(int value) {
+        
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 term = 1;</code>
+       */
+      public Builder clearTerm() {
+        
+        term_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object targetId_ = "";
+      /**
+       * <code>string target_id = 2;</code>
+       */
+      public java.lang.String getTargetId() {
+        java.lang.Object ref = targetId_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          rpcMessageId_ = s;
+          targetId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string rpc_message_id = 1;</code>
+       * <code>string target_id = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getRpcMessageIdBytes() {
-        java.lang.Object ref = rpcMessageId_;
+          getTargetIdBytes() {
+        java.lang.Object ref = targetId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          rpcMessageId_ = b;
+          targetId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string rpc_message_id = 1;</code>
+       * <code>string target_id = 2;</code>
        */
-      public Builder setRpcMessageId(
+      public Builder setTargetId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        rpcMessageId_ = value;
+        targetId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string rpc_message_id = 1;</code>
+       * <code>string target_id = 2;</code>
        */
-      public Builder clearRpcMessageId() {
+      public Builder clearTargetId() {
         
-        rpcMessageId_ = getDefaultInstance().getRpcMessageId();
+        targetId_ = getDefaultInstance().getTargetId();
         onChanged();
         return this;
       }
       /**
-       * <code>string rpc_message_id = 1;</code>
+       * <code>string target_id = 2;</code>
        */
-      public Builder setRpcMessageIdBytes(
+      public Builder setTargetIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        rpcMessageId_ = value;
+        targetId_ = value;
         onChanged();
         return this;
       }
 
-      private int term_ ;
+      private int lastIndex_ ;
       /**
-       * <code>int32 term = 2;</code>
+       * <code>int32 last_index = 3;</code>
        */
-      public int getTerm() {
-        return term_;
+      public int getLastIndex() {
+        return lastIndex_;
       }
       /**
-       * <code>int32 term = 2;</code>
+       * <code>int32 last_index = 3;</code>
        */
-      public Builder setTerm(int value) {
+      public Builder setLastIndex(int value) {
         
-        term_ = value;
+        lastIndex_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 term = 2;</code>
+       * <code>int32 last_index = 3;</code>
        */
-      public Builder clearTerm() {
+      public Builder clearLastIndex() {
         
-        term_ = 0;
+        lastIndex_ = 0;
         onChanged();
         return this;
       }
 
       private boolean success_ ;
       /**
-       * <code>bool success = 3;</code>
+       * <code>bool success = 4;</code>
        */
       public boolean getSuccess() {
         return success_;
       }
       /**
-       * <code>bool success = 3;</code>
+       * <code>bool success = 4;</code>
        */
       public Builder setSuccess(boolean value) {
         
@@ -4638,7 +10358,7 @@ public final class Protos {
         return this;
       }
       /**
-       * <code>bool success = 3;</code>
+       * <code>bool success = 4;</code>
        */
       public Builder clearSuccess() {
         
@@ -4659,204 +10379,113 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:AppendEntriesResult)
+      // @@protoc_insertion_point(builder_scope:TransferSnapshotResult)
     }
 
-    // @@protoc_insertion_point(class_scope:AppendEntriesResult)
-    private static final in.xnnyygn.xraft.core.Protos.AppendEntriesResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:TransferSnapshotResult)
+    private static final in.xnnyygn.xraft.core.Protos.TransferSnapshotResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AppendEntriesResult();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.TransferSnapshotResult();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AppendEntriesResult getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.TransferSnapshotResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AppendEntriesResult>
-        PARSER = new com.google.protobuf.AbstractParser<AppendEntriesResult>() {
+    private static final com.google.protobuf.Parser<TransferSnapshotResult>
+        PARSER = new com.google.protobuf.AbstractParser<TransferSnapshotResult>() {
       @java.lang.Override
-      public AppendEntriesResult parsePartialFrom(
+      public TransferSnapshotResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AppendEntriesResult(input, extensionRegistry);
+        return new TransferSnapshotResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AppendEntriesResult> parser() {
+    public static com.google.protobuf.Parser<TransferSnapshotResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AppendEntriesResult> getParserForType() {
+    public com.google.protobuf.Parser<TransferSnapshotResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.AppendEntriesResult getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.TransferSnapshotResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface InstallSnapshotRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:InstallSnapshotRpc)
+  public interface AddServerRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AddServerRpc)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 term = 1;</code>
-     */
-    int getTerm();
-
-    /**
-     * <code>string leader_id = 2;</code>
-     */
-    java.lang.String getLeaderId();
-    /**
-     * <code>string leader_id = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getLeaderIdBytes();
-
-    /**
-     * <code>int32 last_index = 3;</code>
-     */
-    int getLastIndex();
-
-    /**
-     * <code>int32 last_term = 4;</code>
-     */
-    int getLastTerm();
-
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
-        getLastConfigList();
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index);
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    int getLastConfigCount();
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getLastConfigOrBuilderList();
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
-        int index);
-
-    /**
-     * <code>int32 offset = 6;</code>
+     * <code>.NodeEndpoint new_server = 1;</code>
      */
-    int getOffset();
-
+    boolean hasNewServer();
     /**
-     * <code>bytes data = 7;</code>
+     * <code>.NodeEndpoint new_server = 1;</code>
      */
-    com.google.protobuf.ByteString getData();
-
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewServer();
     /**
-     * <code>bool done = 8;</code>
+     * <code>.NodeEndpoint new_server = 1;</code>
      */
-    boolean getDone();
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewServerOrBuilder();
   }
   /**
-   * Protobuf type {@code InstallSnapshotRpc}
+   * Protobuf type {@code AddServerRpc}
    */
-  public  static final class InstallSnapshotRpc extends
+  public  static final class AddServerRpc extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:InstallSnapshotRpc)
-      InstallSnapshotRpcOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use InstallSnapshotRpc.newBuilder() to construct.
-    private InstallSnapshotRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private InstallSnapshotRpc() {
-      term_ = 0;
-      leaderId_ = "";
-      lastIndex_ = 0;
-      lastTerm_ = 0;
-      lastConfig_ = java.util.Collections.emptyList();
-      offset_ = 0;
-      data_ = com.google.protobuf.ByteString.EMPTY;
-      done_ = false;
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private InstallSnapshotRpc(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 8: {
-
-              term_ = input.readInt32();
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              leaderId_ = s;
-              break;
-            }
-            case 24: {
-
-              lastIndex_ = input.readInt32();
-              break;
-            }
-            case 32: {
-
-              lastTerm_ = input.readInt32();
-              break;
-            }
-            case 42: {
-              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
-                lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
-                mutable_bitField0_ |= 0x00000010;
-              }
-              lastConfig_.add(
-                  input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
-              break;
-            }
-            case 48: {
-
-              offset_ = input.readInt32();
-              break;
-            }
-            case 58: {
+      // @@protoc_insertion_point(message_implements:AddServerRpc)
+      AddServerRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AddServerRpc.newBuilder() to construct.
+    private AddServerRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AddServerRpc() {
+    }
 
-              data_ = input.readBytes();
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AddServerRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
               break;
-            }
-            case 64: {
+            case 10: {
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
+              if (newServer_ != null) {
+                subBuilder = newServer_.toBuilder();
+              }
+              newServer_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(newServer_);
+                newServer_ = subBuilder.buildPartial();
+              }
 
-              done_ = input.readBool();
               break;
             }
             default: {
@@ -4874,148 +10503,42 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
-          lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.Builder.class);
-    }
-
-    private int bitField0_;
-    public static final int TERM_FIELD_NUMBER = 1;
-    private int term_;
-    /**
-     * <code>int32 term = 1;</code>
-     */
-    public int getTerm() {
-      return term_;
-    }
-
-    public static final int LEADER_ID_FIELD_NUMBER = 2;
-    private volatile java.lang.Object leaderId_;
-    /**
-     * <code>string leader_id = 2;</code>
-     */
-    public java.lang.String getLeaderId() {
-      java.lang.Object ref = leaderId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        leaderId_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string leader_id = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getLeaderIdBytes() {
-      java.lang.Object ref = leaderId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        leaderId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int LAST_INDEX_FIELD_NUMBER = 3;
-    private int lastIndex_;
-    /**
-     * <code>int32 last_index = 3;</code>
-     */
-    public int getLastIndex() {
-      return lastIndex_;
-    }
-
-    public static final int LAST_TERM_FIELD_NUMBER = 4;
-    private int lastTerm_;
-    /**
-     * <code>int32 last_term = 4;</code>
-     */
-    public int getLastTerm() {
-      return lastTerm_;
-    }
-
-    public static final int LAST_CONFIG_FIELD_NUMBER = 5;
-    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_;
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
-      return lastConfig_;
-    }
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getLastConfigOrBuilderList() {
-      return lastConfig_;
-    }
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    public int getLastConfigCount() {
-      return lastConfig_.size();
-    }
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
-      return lastConfig_.get(index);
-    }
-    /**
-     * <code>repeated .NodeEndpoint last_config = 5;</code>
-     */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
-        int index) {
-      return lastConfig_.get(index);
+              in.xnnyygn.xraft.core.Protos.AddServerRpc.class, in.xnnyygn.xraft.core.Protos.AddServerRpc.Builder.class);
     }
 
-    public static final int OFFSET_FIELD_NUMBER = 6;
-    private int offset_;
+    public static final int NEW_SERVER_FIELD_NUMBER = 1;
+    private in.xnnyygn.xraft.core.Protos.NodeEndpoint newServer_;
     /**
-     * <code>int32 offset = 6;</code>
+     * <code>.NodeEndpoint new_server = 1;</code>
      */
-    public int getOffset() {
-      return offset_;
+    public boolean hasNewServer() {
+      return newServer_ != null;
     }
-
-    public static final int DATA_FIELD_NUMBER = 7;
-    private com.google.protobuf.ByteString data_;
     /**
-     * <code>bytes data = 7;</code>
+     * <code>.NodeEndpoint new_server = 1;</code>
      */
-    public com.google.protobuf.ByteString getData() {
-      return data_;
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewServer() {
+      return newServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newServer_;
     }
-
-    public static final int DONE_FIELD_NUMBER = 8;
-    private boolean done_;
     /**
-     * <code>bool done = 8;</code>
+     * <code>.NodeEndpoint new_server = 1;</code>
      */
-    public boolean getDone() {
-      return done_;
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewServerOrBuilder() {
+      return getNewServer();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5032,29 +10555,8 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (term_ != 0) {
-        output.writeInt32(1, term_);
-      }
-      if (!getLeaderIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, leaderId_);
-      }
-      if (lastIndex_ != 0) {
-        output.writeInt32(3, lastIndex_);
-      }
-      if (lastTerm_ != 0) {
-        output.writeInt32(4, lastTerm_);
-      }
-      for (int i = 0; i < lastConfig_.size(); i++) {
-        output.writeMessage(5, lastConfig_.get(i));
-      }
-      if (offset_ != 0) {
-        output.writeInt32(6, offset_);
-      }
-      if (!data_.isEmpty()) {
-        output.writeBytes(7, data_);
-      }
-      if (done_ != false) {
-        output.writeBool(8, done_);
+      if (newServer_ != null) {
+        output.writeMessage(1, getNewServer());
       }
       unknownFields.writeTo(output);
     }
@@ -5065,36 +10567,9 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (term_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, term_);
-      }
-      if (!getLeaderIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, leaderId_);
-      }
-      if (lastIndex_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, lastIndex_);
-      }
-      if (lastTerm_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, lastTerm_);
-      }
-      for (int i = 0; i < lastConfig_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, lastConfig_.get(i));
-      }
-      if (offset_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(6, offset_);
-      }
-      if (!data_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(7, data_);
-      }
-      if (done_ != false) {
+      if (newServer_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(8, done_);
+          .computeMessageSize(1, getNewServer());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5106,28 +10581,17 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AddServerRpc)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc other = (in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc) obj;
-
-      boolean result = true;
-      result = result && (getTerm()
-          == other.getTerm());
-      result = result && getLeaderId()
-          .equals(other.getLeaderId());
-      result = result && (getLastIndex()
-          == other.getLastIndex());
-      result = result && (getLastTerm()
-          == other.getLastTerm());
-      result = result && getLastConfigList()
-          .equals(other.getLastConfigList());
-      result = result && (getOffset()
-          == other.getOffset());
-      result = result && getData()
-          .equals(other.getData());
-      result = result && (getDone()
-          == other.getDone());
+      in.xnnyygn.xraft.core.Protos.AddServerRpc other = (in.xnnyygn.xraft.core.Protos.AddServerRpc) obj;
+
+      boolean result = true;
+      result = result && (hasNewServer() == other.hasNewServer());
+      if (hasNewServer()) {
+        result = result && getNewServer()
+            .equals(other.getNewServer());
+      }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -5139,93 +10603,78 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TERM_FIELD_NUMBER;
-      hash = (53 * hash) + getTerm();
-      hash = (37 * hash) + LEADER_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getLeaderId().hashCode();
-      hash = (37 * hash) + LAST_INDEX_FIELD_NUMBER;
-      hash = (53 * hash) + getLastIndex();
-      hash = (37 * hash) + LAST_TERM_FIELD_NUMBER;
-      hash = (53 * hash) + getLastTerm();
-      if (getLastConfigCount() > 0) {
-        hash = (37 * hash) + LAST_CONFIG_FIELD_NUMBER;
-        hash = (53 * hash) + getLastConfigList().hashCode();
+      if (hasNewServer()) {
+        hash = (37 * hash) + NEW_SERVER_FIELD_NUMBER;
+        hash = (53 * hash) + getNewServer().hashCode();
       }
-      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
-      hash = (53 * hash) + getOffset();
-      hash = (37 * hash) + DATA_FIELD_NUMBER;
-      hash = (53 * hash) + getData().hashCode();
-      hash = (37 * hash) + DONE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getDone());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5238,7 +10687,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AddServerRpc prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5254,701 +10703,275 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code InstallSnapshotRpc}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:InstallSnapshotRpc)
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpcOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.Builder.class);
-      }
-
-      // Construct using in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getLastConfigFieldBuilder();
-        }
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        term_ = 0;
-
-        leaderId_ = "";
-
-        lastIndex_ = 0;
-
-        lastTerm_ = 0;
-
-        if (lastConfigBuilder_ == null) {
-          lastConfig_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000010);
-        } else {
-          lastConfigBuilder_.clear();
-        }
-        offset_ = 0;
-
-        data_ = com.google.protobuf.ByteString.EMPTY;
-
-        done_ = false;
-
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotRpc_descriptor;
-      }
-
-      @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc build() {
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc buildPartial() {
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc result = new in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        result.term_ = term_;
-        result.leaderId_ = leaderId_;
-        result.lastIndex_ = lastIndex_;
-        result.lastTerm_ = lastTerm_;
-        if (lastConfigBuilder_ == null) {
-          if (((bitField0_ & 0x00000010) == 0x00000010)) {
-            lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
-            bitField0_ = (bitField0_ & ~0x00000010);
-          }
-          result.lastConfig_ = lastConfig_;
-        } else {
-          result.lastConfig_ = lastConfigBuilder_.build();
-        }
-        result.offset_ = offset_;
-        result.data_ = data_;
-        result.done_ = done_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
-
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc other) {
-        if (other == in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc.getDefaultInstance()) return this;
-        if (other.getTerm() != 0) {
-          setTerm(other.getTerm());
-        }
-        if (!other.getLeaderId().isEmpty()) {
-          leaderId_ = other.leaderId_;
-          onChanged();
-        }
-        if (other.getLastIndex() != 0) {
-          setLastIndex(other.getLastIndex());
-        }
-        if (other.getLastTerm() != 0) {
-          setLastTerm(other.getLastTerm());
-        }
-        if (lastConfigBuilder_ == null) {
-          if (!other.lastConfig_.isEmpty()) {
-            if (lastConfig_.isEmpty()) {
-              lastConfig_ = other.lastConfig_;
-              bitField0_ = (bitField0_ & ~0x00000010);
-            } else {
-              ensureLastConfigIsMutable();
-              lastConfig_.addAll(other.lastConfig_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.lastConfig_.isEmpty()) {
-            if (lastConfigBuilder_.isEmpty()) {
-              lastConfigBuilder_.dispose();
-              lastConfigBuilder_ = null;
-              lastConfig_ = other.lastConfig_;
-              bitField0_ = (bitField0_ & ~0x00000010);
-              lastConfigBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getLastConfigFieldBuilder() : null;
-            } else {
-              lastConfigBuilder_.addAllMessages(other.lastConfig_);
-            }
-          }
-        }
-        if (other.getOffset() != 0) {
-          setOffset(other.getOffset());
-        }
-        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
-          setData(other.getData());
-        }
-        if (other.getDone() != false) {
-          setDone(other.getDone());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
+     * Protobuf type {@code AddServerRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AddServerRpc)
+        in.xnnyygn.xraft.core.Protos.AddServerRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_descriptor;
       }
 
       @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.AddServerRpc.class, in.xnnyygn.xraft.core.Protos.AddServerRpc.Builder.class);
       }
 
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+      // Construct using in.xnnyygn.xraft.core.Protos.AddServerRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      private int bitField0_;
 
-      private int term_ ;
-      /**
-       * <code>int32 term = 1;</code>
-       */
-      public int getTerm() {
-        return term_;
-      }
-      /**
-       * <code>int32 term = 1;</code>
-       */
-      public Builder setTerm(int value) {
-        
-        term_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 term = 1;</code>
-       */
-      public Builder clearTerm() {
-        
-        term_ = 0;
-        onChanged();
-        return this;
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-
-      private java.lang.Object leaderId_ = "";
-      /**
-       * <code>string leader_id = 2;</code>
-       */
-      public java.lang.String getLeaderId() {
-        java.lang.Object ref = leaderId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          leaderId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
         }
       }
-      /**
-       * <code>string leader_id = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getLeaderIdBytes() {
-        java.lang.Object ref = leaderId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          leaderId_ = b;
-          return b;
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (newServerBuilder_ == null) {
+          newServer_ = null;
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          newServer_ = null;
+          newServerBuilder_ = null;
         }
-      }
-      /**
-       * <code>string leader_id = 2;</code>
-       */
-      public Builder setLeaderId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        leaderId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string leader_id = 2;</code>
-       */
-      public Builder clearLeaderId() {
-        
-        leaderId_ = getDefaultInstance().getLeaderId();
-        onChanged();
         return this;
       }
-      /**
-       * <code>string leader_id = 2;</code>
-       */
-      public Builder setLeaderIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        leaderId_ = value;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_descriptor;
       }
 
-      private int lastIndex_ ;
-      /**
-       * <code>int32 last_index = 3;</code>
-       */
-      public int getLastIndex() {
-        return lastIndex_;
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AddServerRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.AddServerRpc.getDefaultInstance();
       }
-      /**
-       * <code>int32 last_index = 3;</code>
-       */
-      public Builder setLastIndex(int value) {
-        
-        lastIndex_ = value;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AddServerRpc build() {
+        in.xnnyygn.xraft.core.Protos.AddServerRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      /**
-       * <code>int32 last_index = 3;</code>
-       */
-      public Builder clearLastIndex() {
-        
-        lastIndex_ = 0;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AddServerRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.AddServerRpc result = new in.xnnyygn.xraft.core.Protos.AddServerRpc(this);
+        if (newServerBuilder_ == null) {
+          result.newServer_ = newServer_;
+        } else {
+          result.newServer_ = newServerBuilder_.build();
+        }
+        onBuilt();
+        return result;
       }
 
-      private int lastTerm_ ;
-      /**
-       * <code>int32 last_term = 4;</code>
-       */
-      public int getLastTerm() {
-        return lastTerm_;
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
       }
-      /**
-       * <code>int32 last_term = 4;</code>
-       */
-      public Builder setLastTerm(int value) {
-        
-        lastTerm_ = value;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
       }
-      /**
-       * <code>int32 last_term = 4;</code>
-       */
-      public Builder clearLastTerm() {
-        
-        lastTerm_ = 0;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
       }
-
-      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_ =
-        java.util.Collections.emptyList();
-      private void ensureLastConfigIsMutable() {
-        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
-          lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(lastConfig_);
-          bitField0_ |= 0x00000010;
-         }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
       }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> lastConfigBuilder_;
-
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
-        if (lastConfigBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(lastConfig_);
-        } else {
-          return lastConfigBuilder_.getMessageList();
-        }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
       }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public int getLastConfigCount() {
-        if (lastConfigBuilder_ == null) {
-          return lastConfig_.size();
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.AddServerRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.AddServerRpc)other);
         } else {
-          return lastConfigBuilder_.getCount();
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
-        if (lastConfigBuilder_ == null) {
-          return lastConfig_.get(index);
-        } else {
-          return lastConfigBuilder_.getMessage(index);
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AddServerRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.AddServerRpc.getDefaultInstance()) return this;
+        if (other.hasNewServer()) {
+          mergeNewServer(other.getNewServer());
         }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
       }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public Builder setLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (lastConfigBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.AddServerRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.AddServerRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          ensureLastConfigIsMutable();
-          lastConfig_.set(index, value);
-          onChanged();
-        } else {
-          lastConfigBuilder_.setMessage(index, value);
         }
         return this;
       }
+
+      private in.xnnyygn.xraft.core.Protos.NodeEndpoint newServer_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> newServerBuilder_;
       /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder setLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          lastConfigBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public boolean hasNewServer() {
+        return newServerBuilder_ != null || newServer_ != null;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder addLastConfig(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (lastConfigBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLastConfigIsMutable();
-          lastConfig_.add(value);
-          onChanged();
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewServer() {
+        if (newServerBuilder_ == null) {
+          return newServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newServer_;
         } else {
-          lastConfigBuilder_.addMessage(value);
+          return newServerBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder addLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (lastConfigBuilder_ == null) {
+      public Builder setNewServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (newServerBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureLastConfigIsMutable();
-          lastConfig_.add(index, value);
+          newServer_ = value;
           onChanged();
         } else {
-          lastConfigBuilder_.addMessage(index, value);
+          newServerBuilder_.setMessage(value);
         }
+
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder addLastConfig(
+      public Builder setNewServer(
           in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.add(builderForValue.build());
-          onChanged();
-        } else {
-          lastConfigBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public Builder addLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          lastConfigBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public Builder addAllLastConfig(
-          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, lastConfig_);
-          onChanged();
-        } else {
-          lastConfigBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public Builder clearLastConfig() {
-        if (lastConfigBuilder_ == null) {
-          lastConfig_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000010);
-          onChanged();
-        } else {
-          lastConfigBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public Builder removeLastConfig(int index) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.remove(index);
+        if (newServerBuilder_ == null) {
+          newServer_ = builderForValue.build();
           onChanged();
         } else {
-          lastConfigBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getLastConfigBuilder(
-          int index) {
-        return getLastConfigFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
-          int index) {
-        if (lastConfigBuilder_ == null) {
-          return lastConfig_.get(index);  } else {
-          return lastConfigBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-           getLastConfigOrBuilderList() {
-        if (lastConfigBuilder_ != null) {
-          return lastConfigBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(lastConfig_);
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder() {
-        return getLastConfigFieldBuilder().addBuilder(
-            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder(
-          int index) {
-        return getLastConfigFieldBuilder().addBuilder(
-            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 5;</code>
-       */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
-           getLastConfigBuilderList() {
-        return getLastConfigFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getLastConfigFieldBuilder() {
-        if (lastConfigBuilder_ == null) {
-          lastConfigBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  lastConfig_,
-                  ((bitField0_ & 0x00000010) == 0x00000010),
-                  getParentForChildren(),
-                  isClean());
-          lastConfig_ = null;
+          newServerBuilder_.setMessage(builderForValue.build());
         }
-        return lastConfigBuilder_;
-      }
-
-      private int offset_ ;
-      /**
-       * <code>int32 offset = 6;</code>
-       */
-      public int getOffset() {
-        return offset_;
-      }
-      /**
-       * <code>int32 offset = 6;</code>
-       */
-      public Builder setOffset(int value) {
-        
-        offset_ = value;
-        onChanged();
+
         return this;
       }
       /**
-       * <code>int32 offset = 6;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder clearOffset() {
-        
-        offset_ = 0;
-        onChanged();
-        return this;
-      }
+      public Builder mergeNewServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (newServerBuilder_ == null) {
+          if (newServer_ != null) {
+            newServer_ =
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(newServer_).mergeFrom(value).buildPartial();
+          } else {
+            newServer_ = value;
+          }
+          onChanged();
+        } else {
+          newServerBuilder_.mergeFrom(value);
+        }
 
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes data = 7;</code>
-       */
-      public com.google.protobuf.ByteString getData() {
-        return data_;
+        return this;
       }
       /**
-       * <code>bytes data = 7;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder setData(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        data_ = value;
-        onChanged();
+      public Builder clearNewServer() {
+        if (newServerBuilder_ == null) {
+          newServer_ = null;
+          onChanged();
+        } else {
+          newServer_ = null;
+          newServerBuilder_ = null;
+        }
+
         return this;
       }
       /**
-       * <code>bytes data = 7;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder clearData() {
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNewServerBuilder() {
         
-        data_ = getDefaultInstance().getData();
         onChanged();
-        return this;
-      }
-
-      private boolean done_ ;
-      /**
-       * <code>bool done = 8;</code>
-       */
-      public boolean getDone() {
-        return done_;
+        return getNewServerFieldBuilder().getBuilder();
       }
       /**
-       * <code>bool done = 8;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder setDone(boolean value) {
-        
-        done_ = value;
-        onChanged();
-        return this;
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewServerOrBuilder() {
+        if (newServerBuilder_ != null) {
+          return newServerBuilder_.getMessageOrBuilder();
+        } else {
+          return newServer_ == null ?
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newServer_;
+        }
       }
       /**
-       * <code>bool done = 8;</code>
+       * <code>.NodeEndpoint new_server = 1;</code>
        */
-      public Builder clearDone() {
-        
-        done_ = false;
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+          getNewServerFieldBuilder() {
+        if (newServerBuilder_ == null) {
+          newServerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
+                  getNewServer(),
+                  getParentForChildren(),
+                  isClean());
+          newServer_ = null;
+        }
+        return newServerBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -5963,69 +10986,87 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:InstallSnapshotRpc)
+      // @@protoc_insertion_point(builder_scope:AddServerRpc)
     }
 
-    // @@protoc_insertion_point(class_scope:InstallSnapshotRpc)
-    private static final in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:AddServerRpc)
+    private static final in.xnnyygn.xraft.core.Protos.AddServerRpc DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AddServerRpc();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.AddServerRpc getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InstallSnapshotRpc>
-        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotRpc>() {
+    private static final com.google.protobuf.Parser<AddServerRpc>
+        PARSER = new com.google.protobuf.AbstractParser<AddServerRpc>() {
       @java.lang.Override
-      public InstallSnapshotRpc parsePartialFrom(
+      public AddServerRpc parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new InstallSnapshotRpc(input, extensionRegistry);
+        return new AddServerRpc(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<InstallSnapshotRpc> parser() {
+    public static com.google.protobuf.Parser<AddServerRpc> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InstallSnapshotRpc> getParserForType() {
+    public com.google.protobuf.Parser<AddServerRpc> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.InstallSnapshotRpc getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.AddServerRpc getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface InstallSnapshotResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:InstallSnapshotResult)
+  public interface AddServerResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AddServerResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 term = 1;</code>
+     * <code>string status = 1;</code>
      */
-    int getTerm();
+    java.lang.String getStatus();
+    /**
+     * <code>string status = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <code>.NodeEndpoint leader_hint = 2;</code>
+     */
+    boolean hasLeaderHint();
+    /**
+     * <code>.NodeEndpoint leader_hint = 2;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getLeaderHint();
+    /**
+     * <code>.NodeEndpoint leader_hint = 2;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder();
   }
   /**
-   * Protobuf type {@code InstallSnapshotResult}
+   * Protobuf type {@code AddServerResult}
    */
-  public  static final class InstallSnapshotResult extends
+  public  static final class AddServerResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:InstallSnapshotResult)
-      InstallSnapshotResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:AddServerResult)
+      AddServerResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use InstallSnapshotResult.newBuilder() to construct.
-    private InstallSnapshotResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use AddServerResult.newBuilder() to construct.
+    private AddServerResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private InstallSnapshotResult() {
-      term_ = 0;
+    private AddServerResult() {
+      status_ = "";
     }
 
     @java.lang.Override
@@ -6033,7 +11074,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private InstallSnapshotResult(
+    private AddServerResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6052,9 +11093,23 @@ public final class Protos {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              status_ = s;
+              break;
+            }
+            case 18: {
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
+              if (leaderHint_ != null) {
+                subBuilder = leaderHint_.toBuilder();
+              }
+              leaderHint_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(leaderHint_);
+                leaderHint_ = subBuilder.buildPartial();
+              }
 
-              term_ = input.readInt32();
               break;
             }
             default: {
@@ -6078,24 +11133,70 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.Builder.class);
+              in.xnnyygn.xraft.core.Protos.AddServerResult.class, in.xnnyygn.xraft.core.Protos.AddServerResult.Builder.class);
     }
 
-    public static final int TERM_FIELD_NUMBER = 1;
-    private int term_;
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private volatile java.lang.Object status_;
     /**
-     * <code>int32 term = 1;</code>
+     * <code>string status = 1;</code>
      */
-    public int getTerm() {
-      return term_;
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string status = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LEADER_HINT_FIELD_NUMBER = 2;
+    private in.xnnyygn.xraft.core.Protos.NodeEndpoint leaderHint_;
+    /**
+     * <code>.NodeEndpoint leader_hint = 2;</code>
+     */
+    public boolean hasLeaderHint() {
+      return leaderHint_ != null;
+    }
+    /**
+     * <code>.NodeEndpoint leader_hint = 2;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLeaderHint() {
+      return leaderHint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : leaderHint_;
+    }
+    /**
+     * <code>.NodeEndpoint leader_hint = 2;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder() {
+      return getLeaderHint();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6112,8 +11213,11 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (term_ != 0) {
-        output.writeInt32(1, term_);
+      if (!getStatusBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, status_);
+      }
+      if (leaderHint_ != null) {
+        output.writeMessage(2, getLeaderHint());
       }
       unknownFields.writeTo(output);
     }
@@ -6124,9 +11228,12 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (term_ != 0) {
+      if (!getStatusBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, status_);
+      }
+      if (leaderHint_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, term_);
+          .computeMessageSize(2, getLeaderHint());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -6138,14 +11245,19 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotResult)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AddServerResult)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.InstallSnapshotResult other = (in.xnnyygn.xraft.core.Protos.InstallSnapshotResult) obj;
+      in.xnnyygn.xraft.core.Protos.AddServerResult other = (in.xnnyygn.xraft.core.Protos.AddServerResult) obj;
 
       boolean result = true;
-      result = result && (getTerm()
-          == other.getTerm());
+      result = result && getStatus()
+          .equals(other.getStatus());
+      result = result && (hasLeaderHint() == other.hasLeaderHint());
+      if (hasLeaderHint()) {
+        result = result && getLeaderHint()
+            .equals(other.getLeaderHint());
+      }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -6157,76 +11269,80 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TERM_FIELD_NUMBER;
-      hash = (53 * hash) + getTerm();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      if (hasLeaderHint()) {
+        hash = (37 * hash) + LEADER_HINT_FIELD_NUMBER;
+        hash = (53 * hash) + getLeaderHint().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6239,7 +11355,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.InstallSnapshotResult prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AddServerResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6255,26 +11371,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code InstallSnapshotResult}
+     * Protobuf type {@code AddServerResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:InstallSnapshotResult)
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:AddServerResult)
+        in.xnnyygn.xraft.core.Protos.AddServerResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.class, in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.Builder.class);
+                in.xnnyygn.xraft.core.Protos.AddServerResult.class, in.xnnyygn.xraft.core.Protos.AddServerResult.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.AddServerResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6292,25 +11408,31 @@ public final class Protos {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        term_ = 0;
+        status_ = "";
 
+        if (leaderHintBuilder_ == null) {
+          leaderHint_ = null;
+        } else {
+          leaderHint_ = null;
+          leaderHintBuilder_ = null;
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_InstallSnapshotResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.AddServerResult getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.AddServerResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult build() {
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotResult result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.AddServerResult build() {
+        in.xnnyygn.xraft.core.Protos.AddServerResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6318,9 +11440,14 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult buildPartial() {
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotResult result = new in.xnnyygn.xraft.core.Protos.InstallSnapshotResult(this);
-        result.term_ = term_;
+      public in.xnnyygn.xraft.core.Protos.AddServerResult buildPartial() {
+        in.xnnyygn.xraft.core.Protos.AddServerResult result = new in.xnnyygn.xraft.core.Protos.AddServerResult(this);
+        result.status_ = status_;
+        if (leaderHintBuilder_ == null) {
+          result.leaderHint_ = leaderHint_;
+        } else {
+          result.leaderHint_ = leaderHintBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -6359,18 +11486,22 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.InstallSnapshotResult) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.InstallSnapshotResult)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.AddServerResult) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.AddServerResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.InstallSnapshotResult other) {
-        if (other == in.xnnyygn.xraft.core.Protos.InstallSnapshotResult.getDefaultInstance()) return this;
-        if (other.getTerm() != 0) {
-          setTerm(other.getTerm());
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AddServerResult other) {
+        if (other == in.xnnyygn.xraft.core.Protos.AddServerResult.getDefaultInstance()) return this;
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          onChanged();
+        }
+        if (other.hasLeaderHint()) {
+          mergeLeaderHint(other.getLeaderHint());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -6387,11 +11518,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.InstallSnapshotResult parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.AddServerResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.InstallSnapshotResult) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.AddServerResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6401,30 +11532,190 @@ public final class Protos {
         return this;
       }
 
-      private int term_ ;
+      private java.lang.Object status_ = "";
       /**
-       * <code>int32 term = 1;</code>
+       * <code>string status = 1;</code>
        */
-      public int getTerm() {
-        return term_;
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string status = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string status = 1;</code>
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string status = 1;</code>
+       */
+      public Builder clearStatus() {
+        
+        status_ = getDefaultInstance().getStatus();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string status = 1;</code>
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        status_ = value;
+        onChanged();
+        return this;
+      }
+
+      private in.xnnyygn.xraft.core.Protos.NodeEndpoint leaderHint_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> leaderHintBuilder_;
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      public boolean hasLeaderHint() {
+        return leaderHintBuilder_ != null || leaderHint_ != null;
+      }
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLeaderHint() {
+        if (leaderHintBuilder_ == null) {
+          return leaderHint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : leaderHint_;
+        } else {
+          return leaderHintBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      public Builder setLeaderHint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (leaderHintBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          leaderHint_ = value;
+          onChanged();
+        } else {
+          leaderHintBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      public Builder setLeaderHint(
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (leaderHintBuilder_ == null) {
+          leaderHint_ = builderForValue.build();
+          onChanged();
+        } else {
+          leaderHintBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      public Builder mergeLeaderHint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (leaderHintBuilder_ == null) {
+          if (leaderHint_ != null) {
+            leaderHint_ =
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(leaderHint_).mergeFrom(value).buildPartial();
+          } else {
+            leaderHint_ = value;
+          }
+          onChanged();
+        } else {
+          leaderHintBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      public Builder clearLeaderHint() {
+        if (leaderHintBuilder_ == null) {
+          leaderHint_ = null;
+          onChanged();
+        } else {
+          leaderHint_ = null;
+          leaderHintBuilder_ = null;
+        }
+
+        return this;
       }
       /**
-       * <code>int32 term = 1;</code>
+       * <code>.NodeEndpoint leader_hint = 2;</code>
        */
-      public Builder setTerm(int value) {
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getLeaderHintBuilder() {
         
-        term_ = value;
         onChanged();
-        return this;
+        return getLeaderHintFieldBuilder().getBuilder();
       }
       /**
-       * <code>int32 term = 1;</code>
+       * <code>.NodeEndpoint leader_hint = 2;</code>
        */
-      public Builder clearTerm() {
-        
-        term_ = 0;
-        onChanged();
-        return this;
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder() {
+        if (leaderHintBuilder_ != null) {
+          return leaderHintBuilder_.getMessageOrBuilder();
+        } else {
+          return leaderHint_ == null ?
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : leaderHint_;
+        }
+      }
+      /**
+       * <code>.NodeEndpoint leader_hint = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+          getLeaderHintFieldBuilder() {
+        if (leaderHintBuilder_ == null) {
+          leaderHintBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
+                  getLeaderHint(),
+                  getParentForChildren(),
+                  isClean());
+          leaderHint_ = null;
+        }
+        return leaderHintBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -6439,76 +11730,76 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:InstallSnapshotResult)
+      // @@protoc_insertion_point(builder_scope:AddServerResult)
     }
 
-    // @@protoc_insertion_point(class_scope:InstallSnapshotResult)
-    private static final in.xnnyygn.xraft.core.Protos.InstallSnapshotResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:AddServerResult)
+    private static final in.xnnyygn.xraft.core.Protos.AddServerResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.InstallSnapshotResult();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AddServerResult();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.InstallSnapshotResult getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.AddServerResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InstallSnapshotResult>
-        PARSER = new com.google.protobuf.AbstractParser<InstallSnapshotResult>() {
+    private static final com.google.protobuf.Parser<AddServerResult>
+        PARSER = new com.google.protobuf.AbstractParser<AddServerResult>() {
       @java.lang.Override
-      public InstallSnapshotResult parsePartialFrom(
+      public AddServerResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new InstallSnapshotResult(input, extensionRegistry);
+        return new AddServerResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<InstallSnapshotResult> parser() {
+    public static com.google.protobuf.Parser<AddServerResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InstallSnapshotResult> getParserForType() {
+    public com.google.protobuf.Parser<AddServerResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.InstallSnapshotResult getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.AddServerResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AddServerRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AddServerRpc)
+  public interface RemoveServerRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RemoveServerRpc)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.NodeEndpoint new_server = 1;</code>
+     * <code>.NodeEndpoint old_server = 1;</code>
      */
-    boolean hasNewServer();
+    boolean hasOldServer();
     /**
-     * <code>.NodeEndpoint new_server = 1;</code>
+     * <code>.NodeEndpoint old_server = 1;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewServer();
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getOldServer();
     /**
-     * <code>.NodeEndpoint new_server = 1;</code>
+     * <code>.NodeEndpoint old_server = 1;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewServerOrBuilder();
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getOldServerOrBuilder();
   }
   /**
-   * Protobuf type {@code AddServerRpc}
+   * Protobuf type {@code RemoveServerRpc}
    */
-  public  static final class AddServerRpc extends
+  public  static final class RemoveServerRpc extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:AddServerRpc)
-      AddServerRpcOrBuilder {
+      // @@protoc_insertion_point(message_implements:RemoveServerRpc)
+      RemoveServerRpcOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AddServerRpc.newBuilder() to construct.
-    private AddServerRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use RemoveServerRpc.newBuilder() to construct.
+    private RemoveServerRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AddServerRpc() {
+    private RemoveServerRpc() {
     }
 
     @java.lang.Override
@@ -6516,7 +11807,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AddServerRpc(
+    private RemoveServerRpc(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6537,13 +11828,13 @@ public final class Protos {
               break;
             case 10: {
               in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
-              if (newServer_ != null) {
-                subBuilder = newServer_.toBuilder();
+              if (oldServer_ != null) {
+                subBuilder = oldServer_.toBuilder();
               }
-              newServer_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
+              oldServer_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(newServer_);
-                newServer_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(oldServer_);
+                oldServer_ = subBuilder.buildPartial();
               }
 
               break;
@@ -6569,36 +11860,36 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.AddServerRpc.class, in.xnnyygn.xraft.core.Protos.AddServerRpc.Builder.class);
+              in.xnnyygn.xraft.core.Protos.RemoveServerRpc.class, in.xnnyygn.xraft.core.Protos.RemoveServerRpc.Builder.class);
     }
 
-    public static final int NEW_SERVER_FIELD_NUMBER = 1;
-    private in.xnnyygn.xraft.core.Protos.NodeEndpoint newServer_;
+    public static final int OLD_SERVER_FIELD_NUMBER = 1;
+    private in.xnnyygn.xraft.core.Protos.NodeEndpoint oldServer_;
     /**
-     * <code>.NodeEndpoint new_server = 1;</code>
+     * <code>.NodeEndpoint old_server = 1;</code>
      */
-    public boolean hasNewServer() {
-      return newServer_ != null;
+    public boolean hasOldServer() {
+      return oldServer_ != null;
     }
     /**
-     * <code>.NodeEndpoint new_server = 1;</code>
+     * <code>.NodeEndpoint old_server = 1;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewServer() {
-      return newServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newServer_;
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getOldServer() {
+      return oldServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : oldServer_;
     }
     /**
-     * <code>.NodeEndpoint new_server = 1;</code>
+     * <code>.NodeEndpoint old_server = 1;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewServerOrBuilder() {
-      return getNewServer();
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getOldServerOrBuilder() {
+      return getOldServer();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6615,8 +11906,8 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (newServer_ != null) {
-        output.writeMessage(1, getNewServer());
+      if (oldServer_ != null) {
+        output.writeMessage(1, getOldServer());
       }
       unknownFields.writeTo(output);
     }
@@ -6627,9 +11918,9 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (newServer_ != null) {
+      if (oldServer_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getNewServer());
+          .computeMessageSize(1, getOldServer());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -6641,16 +11932,16 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AddServerRpc)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.RemoveServerRpc)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.AddServerRpc other = (in.xnnyygn.xraft.core.Protos.AddServerRpc) obj;
+      in.xnnyygn.xraft.core.Protos.RemoveServerRpc other = (in.xnnyygn.xraft.core.Protos.RemoveServerRpc) obj;
 
       boolean result = true;
-      result = result && (hasNewServer() == other.hasNewServer());
-      if (hasNewServer()) {
-        result = result && getNewServer()
-            .equals(other.getNewServer());
+      result = result && (hasOldServer() == other.hasOldServer());
+      if (hasOldServer()) {
+        result = result && getOldServer()
+            .equals(other.getOldServer());
       }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
@@ -6663,78 +11954,78 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasNewServer()) {
-        hash = (37 * hash) + NEW_SERVER_FIELD_NUMBER;
-        hash = (53 * hash) + getNewServer().hashCode();
+      if (hasOldServer()) {
+        hash = (37 * hash) + OLD_SERVER_FIELD_NUMBER;
+        hash = (53 * hash) + getOldServer().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6747,7 +12038,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AddServerRpc prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.RemoveServerRpc prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6763,26 +12054,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code AddServerRpc}
+     * Protobuf type {@code RemoveServerRpc}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:AddServerRpc)
-        in.xnnyygn.xraft.core.Protos.AddServerRpcOrBuilder {
+        // @@protoc_insertion_point(builder_implements:RemoveServerRpc)
+        in.xnnyygn.xraft.core.Protos.RemoveServerRpcOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.AddServerRpc.class, in.xnnyygn.xraft.core.Protos.AddServerRpc.Builder.class);
+                in.xnnyygn.xraft.core.Protos.RemoveServerRpc.class, in.xnnyygn.xraft.core.Protos.RemoveServerRpc.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.AddServerRpc.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.RemoveServerRpc.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6800,11 +12091,11 @@ public final class Protos {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (newServerBuilder_ == null) {
-          newServer_ = null;
+        if (oldServerBuilder_ == null) {
+          oldServer_ = null;
         } else {
-          newServer_ = null;
-          newServerBuilder_ = null;
+          oldServer_ = null;
+          oldServerBuilder_ = null;
         }
         return this;
       }
@@ -6812,17 +12103,17 @@ public final class Protos {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerRpc_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddServerRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.AddServerRpc.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.RemoveServerRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.RemoveServerRpc.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddServerRpc build() {
-        in.xnnyygn.xraft.core.Protos.AddServerRpc result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.RemoveServerRpc build() {
+        in.xnnyygn.xraft.core.Protos.RemoveServerRpc result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6830,12 +12121,12 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddServerRpc buildPartial() {
-        in.xnnyygn.xraft.core.Protos.AddServerRpc result = new in.xnnyygn.xraft.core.Protos.AddServerRpc(this);
-        if (newServerBuilder_ == null) {
-          result.newServer_ = newServer_;
+      public in.xnnyygn.xraft.core.Protos.RemoveServerRpc buildPartial() {
+        in.xnnyygn.xraft.core.Protos.RemoveServerRpc result = new in.xnnyygn.xraft.core.Protos.RemoveServerRpc(this);
+        if (oldServerBuilder_ == null) {
+          result.oldServer_ = oldServer_;
         } else {
-          result.newServer_ = newServerBuilder_.build();
+          result.oldServer_ = oldServerBuilder_.build();
         }
         onBuilt();
         return result;
@@ -6875,18 +12166,18 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.AddServerRpc) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.AddServerRpc)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.RemoveServerRpc) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.RemoveServerRpc)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AddServerRpc other) {
-        if (other == in.xnnyygn.xraft.core.Protos.AddServerRpc.getDefaultInstance()) return this;
-        if (other.hasNewServer()) {
-          mergeNewServer(other.getNewServer());
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.RemoveServerRpc other) {
+        if (other == in.xnnyygn.xraft.core.Protos.RemoveServerRpc.getDefaultInstance()) return this;
+        if (other.hasOldServer()) {
+          mergeOldServer(other.getOldServer());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -6903,11 +12194,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.AddServerRpc parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.RemoveServerRpc parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.AddServerRpc) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.RemoveServerRpc) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6917,121 +12208,121 @@ public final class Protos {
         return this;
       }
 
-      private in.xnnyygn.xraft.core.Protos.NodeEndpoint newServer_ = null;
+      private in.xnnyygn.xraft.core.Protos.NodeEndpoint oldServer_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> newServerBuilder_;
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> oldServerBuilder_;
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public boolean hasNewServer() {
-        return newServerBuilder_ != null || newServer_ != null;
+      public boolean hasOldServer() {
+        return oldServerBuilder_ != null || oldServer_ != null;
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewServer() {
-        if (newServerBuilder_ == null) {
-          return newServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newServer_;
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getOldServer() {
+        if (oldServerBuilder_ == null) {
+          return oldServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : oldServer_;
         } else {
-          return newServerBuilder_.getMessage();
+          return oldServerBuilder_.getMessage();
         }
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public Builder setNewServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (newServerBuilder_ == null) {
+      public Builder setOldServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (oldServerBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          newServer_ = value;
+          oldServer_ = value;
           onChanged();
         } else {
-          newServerBuilder_.setMessage(value);
+          oldServerBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public Builder setNewServer(
+      public Builder setOldServer(
           in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (newServerBuilder_ == null) {
-          newServer_ = builderForValue.build();
+        if (oldServerBuilder_ == null) {
+          oldServer_ = builderForValue.build();
           onChanged();
         } else {
-          newServerBuilder_.setMessage(builderForValue.build());
+          oldServerBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public Builder mergeNewServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (newServerBuilder_ == null) {
-          if (newServer_ != null) {
-            newServer_ =
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(newServer_).mergeFrom(value).buildPartial();
+      public Builder mergeOldServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (oldServerBuilder_ == null) {
+          if (oldServer_ != null) {
+            oldServer_ =
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(oldServer_).mergeFrom(value).buildPartial();
           } else {
-            newServer_ = value;
+            oldServer_ = value;
           }
           onChanged();
         } else {
-          newServerBuilder_.mergeFrom(value);
+          oldServerBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public Builder clearNewServer() {
-        if (newServerBuilder_ == null) {
-          newServer_ = null;
+      public Builder clearOldServer() {
+        if (oldServerBuilder_ == null) {
+          oldServer_ = null;
           onChanged();
         } else {
-          newServer_ = null;
-          newServerBuilder_ = null;
+          oldServer_ = null;
+          oldServerBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNewServerBuilder() {
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getOldServerBuilder() {
         
         onChanged();
-        return getNewServerFieldBuilder().getBuilder();
+        return getOldServerFieldBuilder().getBuilder();
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewServerOrBuilder() {
-        if (newServerBuilder_ != null) {
-          return newServerBuilder_.getMessageOrBuilder();
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getOldServerOrBuilder() {
+        if (oldServerBuilder_ != null) {
+          return oldServerBuilder_.getMessageOrBuilder();
         } else {
-          return newServer_ == null ?
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newServer_;
+          return oldServer_ == null ?
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : oldServer_;
         }
       }
       /**
-       * <code>.NodeEndpoint new_server = 1;</code>
+       * <code>.NodeEndpoint old_server = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getNewServerFieldBuilder() {
-        if (newServerBuilder_ == null) {
-          newServerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+          getOldServerFieldBuilder() {
+        if (oldServerBuilder_ == null) {
+          oldServerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  getNewServer(),
+                  getOldServer(),
                   getParentForChildren(),
                   isClean());
-          newServer_ = null;
+          oldServer_ = null;
         }
-        return newServerBuilder_;
+        return oldServerBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -7046,48 +12337,48 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:AddServerRpc)
+      // @@protoc_insertion_point(builder_scope:RemoveServerRpc)
     }
 
-    // @@protoc_insertion_point(class_scope:AddServerRpc)
-    private static final in.xnnyygn.xraft.core.Protos.AddServerRpc DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:RemoveServerRpc)
+    private static final in.xnnyygn.xraft.core.Protos.RemoveServerRpc DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AddServerRpc();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.RemoveServerRpc();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AddServerRpc getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AddServerRpc>
-        PARSER = new com.google.protobuf.AbstractParser<AddServerRpc>() {
+    private static final com.google.protobuf.Parser<RemoveServerRpc>
+        PARSER = new com.google.protobuf.AbstractParser<RemoveServerRpc>() {
       @java.lang.Override
-      public AddServerRpc parsePartialFrom(
+      public RemoveServerRpc parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AddServerRpc(input, extensionRegistry);
+        return new RemoveServerRpc(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AddServerRpc> parser() {
+    public static com.google.protobuf.Parser<RemoveServerRpc> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AddServerRpc> getParserForType() {
+    public com.google.protobuf.Parser<RemoveServerRpc> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.AddServerRpc getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.RemoveServerRpc getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AddServerResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AddServerResult)
+  public interface RemoveServerResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RemoveServerResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -7114,18 +12405,18 @@ public final class Protos {
     in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder();
   }
   /**
-   * Protobuf type {@code AddServerResult}
+   * Protobuf type {@code RemoveServerResult}
    */
-  public  static final class AddServerResult extends
+  public  static final class RemoveServerResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:AddServerResult)
-      AddServerResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:RemoveServerResult)
+      RemoveServerResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AddServerResult.newBuilder() to construct.
-    private AddServerResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use RemoveServerResult.newBuilder() to construct.
+    private RemoveServerResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AddServerResult() {
+    private RemoveServerResult() {
       status_ = "";
     }
 
@@ -7134,7 +12425,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AddServerResult(
+    private RemoveServerResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7193,15 +12484,15 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.AddServerResult.class, in.xnnyygn.xraft.core.Protos.AddServerResult.Builder.class);
+              in.xnnyygn.xraft.core.Protos.RemoveServerResult.class, in.xnnyygn.xraft.core.Protos.RemoveServerResult.Builder.class);
     }
 
     public static final int STATUS_FIELD_NUMBER = 1;
@@ -7305,10 +12596,10 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AddServerResult)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.RemoveServerResult)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.AddServerResult other = (in.xnnyygn.xraft.core.Protos.AddServerResult) obj;
+      in.xnnyygn.xraft.core.Protos.RemoveServerResult other = (in.xnnyygn.xraft.core.Protos.RemoveServerResult) obj;
 
       boolean result = true;
       result = result && getStatus()
@@ -7340,69 +12631,69 @@ public final class Protos {
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7415,7 +12706,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AddServerResult prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.RemoveServerResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7431,26 +12722,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code AddServerResult}
+     * Protobuf type {@code RemoveServerResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:AddServerResult)
-        in.xnnyygn.xraft.core.Protos.AddServerResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:RemoveServerResult)
+        in.xnnyygn.xraft.core.Protos.RemoveServerResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.AddServerResult.class, in.xnnyygn.xraft.core.Protos.AddServerResult.Builder.class);
+                in.xnnyygn.xraft.core.Protos.RemoveServerResult.class, in.xnnyygn.xraft.core.Protos.RemoveServerResult.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.AddServerResult.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.RemoveServerResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7482,17 +12773,17 @@ public final class Protos {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddServerResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddServerResult getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.AddServerResult.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.RemoveServerResult getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.RemoveServerResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddServerResult build() {
-        in.xnnyygn.xraft.core.Protos.AddServerResult result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.RemoveServerResult build() {
+        in.xnnyygn.xraft.core.Protos.RemoveServerResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7500,8 +12791,8 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddServerResult buildPartial() {
-        in.xnnyygn.xraft.core.Protos.AddServerResult result = new in.xnnyygn.xraft.core.Protos.AddServerResult(this);
+      public in.xnnyygn.xraft.core.Protos.RemoveServerResult buildPartial() {
+        in.xnnyygn.xraft.core.Protos.RemoveServerResult result = new in.xnnyygn.xraft.core.Protos.RemoveServerResult(this);
         result.status_ = status_;
         if (leaderHintBuilder_ == null) {
           result.leaderHint_ = leaderHint_;
@@ -7546,16 +12837,16 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.AddServerResult) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.AddServerResult)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.RemoveServerResult) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.RemoveServerResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AddServerResult other) {
-        if (other == in.xnnyygn.xraft.core.Protos.AddServerResult.getDefaultInstance()) return this;
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.RemoveServerResult other) {
+        if (other == in.xnnyygn.xraft.core.Protos.RemoveServerResult.getDefaultInstance()) return this;
         if (!other.getStatus().isEmpty()) {
           status_ = other.status_;
           onChanged();
@@ -7578,11 +12869,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.AddServerResult parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.RemoveServerResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.AddServerResult) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.RemoveServerResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7790,76 +13081,101 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:AddServerResult)
+      // @@protoc_insertion_point(builder_scope:RemoveServerResult)
     }
 
-    // @@protoc_insertion_point(class_scope:AddServerResult)
-    private static final in.xnnyygn.xraft.core.Protos.AddServerResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:RemoveServerResult)
+    private static final in.xnnyygn.xraft.core.Protos.RemoveServerResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AddServerResult();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.RemoveServerResult();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AddServerResult getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AddServerResult>
-        PARSER = new com.google.protobuf.AbstractParser<AddServerResult>() {
+    private static final com.google.protobuf.Parser<RemoveServerResult>
+        PARSER = new com.google.protobuf.AbstractParser<RemoveServerResult>() {
       @java.lang.Override
-      public AddServerResult parsePartialFrom(
+      public RemoveServerResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AddServerResult(input, extensionRegistry);
+        return new RemoveServerResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AddServerResult> parser() {
+    public static com.google.protobuf.Parser<RemoveServerResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AddServerResult> getParserForType() {
+    public com.google.protobuf.Parser<RemoveServerResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.AddServerResult getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.RemoveServerResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface RemoveServerRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:RemoveServerRpc)
+  public interface AddNodeCommandOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AddNodeCommand)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.NodeEndpoint old_server = 1;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
+        getNodeEndpointsList();
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index);
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    int getNodeEndpointsCount();
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getNodeEndpointsOrBuilderList();
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
+        int index);
+
+    /**
+     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
      */
-    boolean hasOldServer();
+    boolean hasNewNodeEndpoint();
     /**
-     * <code>.NodeEndpoint old_server = 1;</code>
+     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getOldServer();
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewNodeEndpoint();
     /**
-     * <code>.NodeEndpoint old_server = 1;</code>
+     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getOldServerOrBuilder();
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewNodeEndpointOrBuilder();
   }
   /**
-   * Protobuf type {@code RemoveServerRpc}
+   * Protobuf type {@code AddNodeCommand}
    */
-  public  static final class RemoveServerRpc extends
+  public  static final class AddNodeCommand extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:RemoveServerRpc)
-      RemoveServerRpcOrBuilder {
+      // @@protoc_insertion_point(message_implements:AddNodeCommand)
+      AddNodeCommandOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use RemoveServerRpc.newBuilder() to construct.
-    private RemoveServerRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use AddNodeCommand.newBuilder() to construct.
+    private AddNodeCommand(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private RemoveServerRpc() {
+    private AddNodeCommand() {
+      nodeEndpoints_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -7867,7 +13183,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private RemoveServerRpc(
+    private AddNodeCommand(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7887,14 +13203,23 @@ public final class Protos {
               done = true;
               break;
             case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              nodeEndpoints_.add(
+                  input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
               in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
-              if (oldServer_ != null) {
-                subBuilder = oldServer_.toBuilder();
+              if (newNodeEndpoint_ != null) {
+                subBuilder = newNodeEndpoint_.toBuilder();
               }
-              oldServer_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
+              newNodeEndpoint_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(oldServer_);
-                oldServer_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(newNodeEndpoint_);
+                newNodeEndpoint_ = subBuilder.buildPartial();
               }
 
               break;
@@ -7914,475 +13239,813 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xraft.core.Protos.AddNodeCommand.class, in.xnnyygn.xraft.core.Protos.AddNodeCommand.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NODE_ENDPOINTS_FIELD_NUMBER = 1;
+    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_;
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
+      return nodeEndpoints_;
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getNodeEndpointsOrBuilderList() {
+      return nodeEndpoints_;
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public int getNodeEndpointsCount() {
+      return nodeEndpoints_.size();
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
+      return nodeEndpoints_.get(index);
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
+        int index) {
+      return nodeEndpoints_.get(index);
+    }
+
+    public static final int NEW_NODE_ENDPOINT_FIELD_NUMBER = 2;
+    private in.xnnyygn.xraft.core.Protos.NodeEndpoint newNodeEndpoint_;
+    /**
+     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     */
+    public boolean hasNewNodeEndpoint() {
+      return newNodeEndpoint_ != null;
+    }
+    /**
+     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewNodeEndpoint() {
+      return newNodeEndpoint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newNodeEndpoint_;
+    }
+    /**
+     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewNodeEndpointOrBuilder() {
+      return getNewNodeEndpoint();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < nodeEndpoints_.size(); i++) {
+        output.writeMessage(1, nodeEndpoints_.get(i));
+      }
+      if (newNodeEndpoint_ != null) {
+        output.writeMessage(2, getNewNodeEndpoint());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < nodeEndpoints_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, nodeEndpoints_.get(i));
+      }
+      if (newNodeEndpoint_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getNewNodeEndpoint());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AddNodeCommand)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xraft.core.Protos.AddNodeCommand other = (in.xnnyygn.xraft.core.Protos.AddNodeCommand) obj;
+
+      boolean result = true;
+      result = result && getNodeEndpointsList()
+          .equals(other.getNodeEndpointsList());
+      result = result && (hasNewNodeEndpoint() == other.hasNewNodeEndpoint());
+      if (hasNewNodeEndpoint()) {
+        result = result && getNewNodeEndpoint()
+            .equals(other.getNewNodeEndpoint());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getNodeEndpointsCount() > 0) {
+        hash = (37 * hash) + NODE_ENDPOINTS_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeEndpointsList().hashCode();
+      }
+      if (hasNewNodeEndpoint()) {
+        hash = (37 * hash) + NEW_NODE_ENDPOINT_FIELD_NUMBER;
+        hash = (53 * hash) + getNewNodeEndpoint().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.RemoveServerRpc.class, in.xnnyygn.xraft.core.Protos.RemoveServerRpc.Builder.class);
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static final int OLD_SERVER_FIELD_NUMBER = 1;
-    private in.xnnyygn.xraft.core.Protos.NodeEndpoint oldServer_;
-    /**
-     * <code>.NodeEndpoint old_server = 1;</code>
-     */
-    public boolean hasOldServer() {
-      return oldServer_ != null;
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AddNodeCommand prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-    /**
-     * <code>.NodeEndpoint old_server = 1;</code>
-     */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getOldServer() {
-      return oldServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : oldServer_;
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
     }
     /**
-     * <code>.NodeEndpoint old_server = 1;</code>
+     * Protobuf type {@code AddNodeCommand}
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getOldServerOrBuilder() {
-      return getOldServer();
-    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AddNodeCommand)
+        in.xnnyygn.xraft.core.Protos.AddNodeCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_descriptor;
+      }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xraft.core.Protos.AddNodeCommand.class, in.xnnyygn.xraft.core.Protos.AddNodeCommand.Builder.class);
+      }
 
-      memoizedIsInitialized = 1;
-      return true;
-    }
+      // Construct using in.xnnyygn.xraft.core.Protos.AddNodeCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
 
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (oldServer_ != null) {
-        output.writeMessage(1, getOldServer());
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getNodeEndpointsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (nodeEndpointsBuilder_ == null) {
+          nodeEndpoints_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          nodeEndpointsBuilder_.clear();
+        }
+        if (newNodeEndpointBuilder_ == null) {
+          newNodeEndpoint_ = null;
+        } else {
+          newNodeEndpoint_ = null;
+          newNodeEndpointBuilder_ = null;
+        }
+        return this;
       }
-      unknownFields.writeTo(output);
-    }
 
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_descriptor;
+      }
 
-      size = 0;
-      if (oldServer_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getOldServer());
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AddNodeCommand getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.AddNodeCommand.getDefaultInstance();
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
 
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AddNodeCommand build() {
+        in.xnnyygn.xraft.core.Protos.AddNodeCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.RemoveServerRpc)) {
-        return super.equals(obj);
+
+      @java.lang.Override
+      public in.xnnyygn.xraft.core.Protos.AddNodeCommand buildPartial() {
+        in.xnnyygn.xraft.core.Protos.AddNodeCommand result = new in.xnnyygn.xraft.core.Protos.AddNodeCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (nodeEndpointsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.nodeEndpoints_ = nodeEndpoints_;
+        } else {
+          result.nodeEndpoints_ = nodeEndpointsBuilder_.build();
+        }
+        if (newNodeEndpointBuilder_ == null) {
+          result.newNodeEndpoint_ = newNodeEndpoint_;
+        } else {
+          result.newNodeEndpoint_ = newNodeEndpointBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xraft.core.Protos.AddNodeCommand) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.AddNodeCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AddNodeCommand other) {
+        if (other == in.xnnyygn.xraft.core.Protos.AddNodeCommand.getDefaultInstance()) return this;
+        if (nodeEndpointsBuilder_ == null) {
+          if (!other.nodeEndpoints_.isEmpty()) {
+            if (nodeEndpoints_.isEmpty()) {
+              nodeEndpoints_ = other.nodeEndpoints_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureNodeEndpointsIsMutable();
+              nodeEndpoints_.addAll(other.nodeEndpoints_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodeEndpoints_.isEmpty()) {
+            if (nodeEndpointsBuilder_.isEmpty()) {
+              nodeEndpointsBuilder_.dispose();
+              nodeEndpointsBuilder_ = null;
+              nodeEndpoints_ = other.nodeEndpoints_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              nodeEndpointsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodeEndpointsFieldBuilder() : null;
+            } else {
+              nodeEndpointsBuilder_.addAllMessages(other.nodeEndpoints_);
+            }
+          }
+        }
+        if (other.hasNewNodeEndpoint()) {
+          mergeNewNodeEndpoint(other.getNewNodeEndpoint());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
       }
-      in.xnnyygn.xraft.core.Protos.RemoveServerRpc other = (in.xnnyygn.xraft.core.Protos.RemoveServerRpc) obj;
 
-      boolean result = true;
-      result = result && (hasOldServer() == other.hasOldServer());
-      if (hasOldServer()) {
-        result = result && getOldServer()
-            .equals(other.getOldServer());
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
 
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasOldServer()) {
-        hash = (37 * hash) + OLD_SERVER_FIELD_NUMBER;
-        hash = (53 * hash) + getOldServer().hashCode();
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.AddNodeCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.AddNodeCommand) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
+      private int bitField0_;
 
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
+      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_ =
+        java.util.Collections.emptyList();
+      private void ensureNodeEndpointsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(nodeEndpoints_);
+          bitField0_ |= 0x00000001;
+         }
+      }
 
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.RemoveServerRpc prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> nodeEndpointsBuilder_;
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code RemoveServerRpc}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:RemoveServerRpc)
-        in.xnnyygn.xraft.core.Protos.RemoveServerRpcOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_descriptor;
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
+        if (nodeEndpointsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodeEndpoints_);
+        } else {
+          return nodeEndpointsBuilder_.getMessageList();
+        }
       }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.RemoveServerRpc.class, in.xnnyygn.xraft.core.Protos.RemoveServerRpc.Builder.class);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public int getNodeEndpointsCount() {
+        if (nodeEndpointsBuilder_ == null) {
+          return nodeEndpoints_.size();
+        } else {
+          return nodeEndpointsBuilder_.getCount();
+        }
       }
-
-      // Construct using in.xnnyygn.xraft.core.Protos.RemoveServerRpc.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
+        if (nodeEndpointsBuilder_ == null) {
+          return nodeEndpoints_.get(index);
+        } else {
+          return nodeEndpointsBuilder_.getMessage(index);
+        }
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder setNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (nodeEndpointsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.set(index, value);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.setMessage(index, value);
+        }
+        return this;
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder setNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder addNodeEndpoints(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (nodeEndpointsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(value);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder addNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (nodeEndpointsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(index, value);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.addMessage(index, value);
         }
+        return this;
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        if (oldServerBuilder_ == null) {
-          oldServer_ = null;
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder addNodeEndpoints(
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(builderForValue.build());
+          onChanged();
         } else {
-          oldServer_ = null;
-          oldServerBuilder_ = null;
+          nodeEndpointsBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerRpc_descriptor;
-      }
-
-      @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveServerRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.RemoveServerRpc.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveServerRpc build() {
-        in.xnnyygn.xraft.core.Protos.RemoveServerRpc result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder addNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.addMessage(index, builderForValue.build());
         }
-        return result;
+        return this;
       }
-
-      @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveServerRpc buildPartial() {
-        in.xnnyygn.xraft.core.Protos.RemoveServerRpc result = new in.xnnyygn.xraft.core.Protos.RemoveServerRpc(this);
-        if (oldServerBuilder_ == null) {
-          result.oldServer_ = oldServer_;
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder addAllNodeEndpoints(
+          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodeEndpoints_);
+          onChanged();
         } else {
-          result.oldServer_ = oldServerBuilder_.build();
+          nodeEndpointsBuilder_.addAllMessages(values);
         }
-        onBuilt();
-        return result;
-      }
-
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
+        return this;
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder clearNodeEndpoints() {
+        if (nodeEndpointsBuilder_ == null) {
+          nodeEndpoints_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.clear();
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder removeNodeEndpoints(int index) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.remove(index);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.remove(index);
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNodeEndpointsBuilder(
+          int index) {
+        return getNodeEndpointsFieldBuilder().getBuilder(index);
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
+          int index) {
+        if (nodeEndpointsBuilder_ == null) {
+          return nodeEndpoints_.get(index);  } else {
+          return nodeEndpointsBuilder_.getMessageOrBuilder(index);
+        }
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.RemoveServerRpc) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.RemoveServerRpc)other);
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+           getNodeEndpointsOrBuilderList() {
+        if (nodeEndpointsBuilder_ != null) {
+          return nodeEndpointsBuilder_.getMessageOrBuilderList();
         } else {
-          super.mergeFrom(other);
-          return this;
+          return java.util.Collections.unmodifiableList(nodeEndpoints_);
         }
       }
-
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.RemoveServerRpc other) {
-        if (other == in.xnnyygn.xraft.core.Protos.RemoveServerRpc.getDefaultInstance()) return this;
-        if (other.hasOldServer()) {
-          mergeOldServer(other.getOldServer());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder() {
+        return getNodeEndpointsFieldBuilder().addBuilder(
+            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder(
+          int index) {
+        return getNodeEndpointsFieldBuilder().addBuilder(
+            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.RemoveServerRpc parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.RemoveServerRpc) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
+           getNodeEndpointsBuilderList() {
+        return getNodeEndpointsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+          getNodeEndpointsFieldBuilder() {
+        if (nodeEndpointsBuilder_ == null) {
+          nodeEndpointsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
+                  nodeEndpoints_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          nodeEndpoints_ = null;
         }
-        return this;
+        return nodeEndpointsBuilder_;
       }
 
-      private in.xnnyygn.xraft.core.Protos.NodeEndpoint oldServer_ = null;
+      private in.xnnyygn.xraft.core.Protos.NodeEndpoint newNodeEndpoint_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> oldServerBuilder_;
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> newNodeEndpointBuilder_;
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public boolean hasOldServer() {
-        return oldServerBuilder_ != null || oldServer_ != null;
+      public boolean hasNewNodeEndpoint() {
+        return newNodeEndpointBuilder_ != null || newNodeEndpoint_ != null;
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getOldServer() {
-        if (oldServerBuilder_ == null) {
-          return oldServer_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : oldServer_;
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewNodeEndpoint() {
+        if (newNodeEndpointBuilder_ == null) {
+          return newNodeEndpoint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newNodeEndpoint_;
         } else {
-          return oldServerBuilder_.getMessage();
+          return newNodeEndpointBuilder_.getMessage();
         }
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public Builder setOldServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (oldServerBuilder_ == null) {
+      public Builder setNewNodeEndpoint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (newNodeEndpointBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          oldServer_ = value;
+          newNodeEndpoint_ = value;
           onChanged();
         } else {
-          oldServerBuilder_.setMessage(value);
+          newNodeEndpointBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public Builder setOldServer(
+      public Builder setNewNodeEndpoint(
           in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (oldServerBuilder_ == null) {
-          oldServer_ = builderForValue.build();
+        if (newNodeEndpointBuilder_ == null) {
+          newNodeEndpoint_ = builderForValue.build();
           onChanged();
         } else {
-          oldServerBuilder_.setMessage(builderForValue.build());
+          newNodeEndpointBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public Builder mergeOldServer(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (oldServerBuilder_ == null) {
-          if (oldServer_ != null) {
-            oldServer_ =
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(oldServer_).mergeFrom(value).buildPartial();
+      public Builder mergeNewNodeEndpoint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (newNodeEndpointBuilder_ == null) {
+          if (newNodeEndpoint_ != null) {
+            newNodeEndpoint_ =
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(newNodeEndpoint_).mergeFrom(value).buildPartial();
           } else {
-            oldServer_ = value;
+            newNodeEndpoint_ = value;
           }
           onChanged();
         } else {
-          oldServerBuilder_.mergeFrom(value);
+          newNodeEndpointBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public Builder clearOldServer() {
-        if (oldServerBuilder_ == null) {
-          oldServer_ = null;
+      public Builder clearNewNodeEndpoint() {
+        if (newNodeEndpointBuilder_ == null) {
+          newNodeEndpoint_ = null;
           onChanged();
         } else {
-          oldServer_ = null;
-          oldServerBuilder_ = null;
+          newNodeEndpoint_ = null;
+          newNodeEndpointBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getOldServerBuilder() {
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNewNodeEndpointBuilder() {
         
         onChanged();
-        return getOldServerFieldBuilder().getBuilder();
+        return getNewNodeEndpointFieldBuilder().getBuilder();
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getOldServerOrBuilder() {
-        if (oldServerBuilder_ != null) {
-          return oldServerBuilder_.getMessageOrBuilder();
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewNodeEndpointOrBuilder() {
+        if (newNodeEndpointBuilder_ != null) {
+          return newNodeEndpointBuilder_.getMessageOrBuilder();
         } else {
-          return oldServer_ == null ?
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : oldServer_;
+          return newNodeEndpoint_ == null ?
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newNodeEndpoint_;
         }
       }
       /**
-       * <code>.NodeEndpoint old_server = 1;</code>
+       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getOldServerFieldBuilder() {
-        if (oldServerBuilder_ == null) {
-          oldServerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+          getNewNodeEndpointFieldBuilder() {
+        if (newNodeEndpointBuilder_ == null) {
+          newNodeEndpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  getOldServer(),
+                  getNewNodeEndpoint(),
                   getParentForChildren(),
                   isClean());
-          oldServer_ = null;
+          newNodeEndpoint_ = null;
         }
-        return oldServerBuilder_;
+        return newNodeEndpointBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -8397,87 +14060,99 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:RemoveServerRpc)
+      // @@protoc_insertion_point(builder_scope:AddNodeCommand)
     }
 
-    // @@protoc_insertion_point(class_scope:RemoveServerRpc)
-    private static final in.xnnyygn.xraft.core.Protos.RemoveServerRpc DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:AddNodeCommand)
+    private static final in.xnnyygn.xraft.core.Protos.AddNodeCommand DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.RemoveServerRpc();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AddNodeCommand();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerRpc getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<RemoveServerRpc>
-        PARSER = new com.google.protobuf.AbstractParser<RemoveServerRpc>() {
+    private static final com.google.protobuf.Parser<AddNodeCommand>
+        PARSER = new com.google.protobuf.AbstractParser<AddNodeCommand>() {
       @java.lang.Override
-      public RemoveServerRpc parsePartialFrom(
+      public AddNodeCommand parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RemoveServerRpc(input, extensionRegistry);
+        return new AddNodeCommand(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<RemoveServerRpc> parser() {
+    public static com.google.protobuf.Parser<AddNodeCommand> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RemoveServerRpc> getParserForType() {
+    public com.google.protobuf.Parser<AddNodeCommand> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.RemoveServerRpc getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.AddNodeCommand getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface RemoveServerResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:RemoveServerResult)
+  public interface RemoveNodeCommandOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RemoveNodeCommand)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string status = 1;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
      */
-    java.lang.String getStatus();
+    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
+        getNodeEndpointsList();
     /**
-     * <code>string status = 1;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getStatusBytes();
-
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index);
     /**
-     * <code>.NodeEndpoint leader_hint = 2;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
      */
-    boolean hasLeaderHint();
+    int getNodeEndpointsCount();
     /**
-     * <code>.NodeEndpoint leader_hint = 2;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getLeaderHint();
+    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getNodeEndpointsOrBuilderList();
     /**
-     * <code>.NodeEndpoint leader_hint = 2;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder();
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
+        int index);
+
+    /**
+     * <code>string node_to_remove = 2;</code>
+     */
+    java.lang.String getNodeToRemove();
+    /**
+     * <code>string node_to_remove = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getNodeToRemoveBytes();
   }
   /**
-   * Protobuf type {@code RemoveServerResult}
+   * Protobuf type {@code RemoveNodeCommand}
    */
-  public  static final class RemoveServerResult extends
+  public  static final class RemoveNodeCommand extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:RemoveServerResult)
-      RemoveServerResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:RemoveNodeCommand)
+      RemoveNodeCommandOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use RemoveServerResult.newBuilder() to construct.
-    private RemoveServerResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use RemoveNodeCommand.newBuilder() to construct.
+    private RemoveNodeCommand(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private RemoveServerResult() {
-      status_ = "";
+    private RemoveNodeCommand() {
+      nodeEndpoints_ = java.util.Collections.emptyList();
+      nodeToRemove_ = "";
     }
 
     @java.lang.Override
@@ -8485,7 +14160,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private RemoveServerResult(
+    private RemoveNodeCommand(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8505,22 +14180,18 @@ public final class Protos {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              status_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              nodeEndpoints_.add(
+                  input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
               break;
             }
             case 18: {
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
-              if (leaderHint_ != null) {
-                subBuilder = leaderHint_.toBuilder();
-              }
-              leaderHint_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(leaderHint_);
-                leaderHint_ = subBuilder.buildPartial();
-              }
+              java.lang.String s = input.readStringRequireUtf8();
 
+              nodeToRemove_ = s;
               break;
             }
             default: {
@@ -8538,76 +14209,94 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.RemoveServerResult.class, in.xnnyygn.xraft.core.Protos.RemoveServerResult.Builder.class);
+              in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.class, in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.Builder.class);
     }
 
-    public static final int STATUS_FIELD_NUMBER = 1;
-    private volatile java.lang.Object status_;
+    private int bitField0_;
+    public static final int NODE_ENDPOINTS_FIELD_NUMBER = 1;
+    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_;
     /**
-     * <code>string status = 1;</code>
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
      */
-    public java.lang.String getStatus() {
-      java.lang.Object ref = status_;
+    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
+      return nodeEndpoints_;
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getNodeEndpointsOrBuilderList() {
+      return nodeEndpoints_;
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public int getNodeEndpointsCount() {
+      return nodeEndpoints_.size();
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
+      return nodeEndpoints_.get(index);
+    }
+    /**
+     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     */
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
+        int index) {
+      return nodeEndpoints_.get(index);
+    }
+
+    public static final int NODE_TO_REMOVE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nodeToRemove_;
+    /**
+     * <code>string node_to_remove = 2;</code>
+     */
+    public java.lang.String getNodeToRemove() {
+      java.lang.Object ref = nodeToRemove_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        status_ = s;
+        nodeToRemove_ = s;
         return s;
       }
     }
     /**
-     * <code>string status = 1;</code>
+     * <code>string node_to_remove = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getStatusBytes() {
-      java.lang.Object ref = status_;
+        getNodeToRemoveBytes() {
+      java.lang.Object ref = nodeToRemove_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        status_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int LEADER_HINT_FIELD_NUMBER = 2;
-    private in.xnnyygn.xraft.core.Protos.NodeEndpoint leaderHint_;
-    /**
-     * <code>.NodeEndpoint leader_hint = 2;</code>
-     */
-    public boolean hasLeaderHint() {
-      return leaderHint_ != null;
-    }
-    /**
-     * <code>.NodeEndpoint leader_hint = 2;</code>
-     */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLeaderHint() {
-      return leaderHint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : leaderHint_;
-    }
-    /**
-     * <code>.NodeEndpoint leader_hint = 2;</code>
-     */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder() {
-      return getLeaderHint();
+        nodeToRemove_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -8624,11 +14313,11 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getStatusBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, status_);
+      for (int i = 0; i < nodeEndpoints_.size(); i++) {
+        output.writeMessage(1, nodeEndpoints_.get(i));
       }
-      if (leaderHint_ != null) {
-        output.writeMessage(2, getLeaderHint());
+      if (!getNodeToRemoveBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nodeToRemove_);
       }
       unknownFields.writeTo(output);
     }
@@ -8639,12 +14328,12 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (!getStatusBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, status_);
-      }
-      if (leaderHint_ != null) {
+      for (int i = 0; i < nodeEndpoints_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getLeaderHint());
+          .computeMessageSize(1, nodeEndpoints_.get(i));
+      }
+      if (!getNodeToRemoveBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nodeToRemove_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -8656,19 +14345,16 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.RemoveServerResult)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.RemoveNodeCommand)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.RemoveServerResult other = (in.xnnyygn.xraft.core.Protos.RemoveServerResult) obj;
+      in.xnnyygn.xraft.core.Protos.RemoveNodeCommand other = (in.xnnyygn.xraft.core.Protos.RemoveNodeCommand) obj;
 
       boolean result = true;
-      result = result && getStatus()
-          .equals(other.getStatus());
-      result = result && (hasLeaderHint() == other.hasLeaderHint());
-      if (hasLeaderHint()) {
-        result = result && getLeaderHint()
-            .equals(other.getLeaderHint());
-      }
+      result = result && getNodeEndpointsList()
+          .equals(other.getNodeEndpointsList());
+      result = result && getNodeToRemove()
+          .equals(other.getNodeToRemove());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -8680,80 +14366,80 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + STATUS_FIELD_NUMBER;
-      hash = (53 * hash) + getStatus().hashCode();
-      if (hasLeaderHint()) {
-        hash = (37 * hash) + LEADER_HINT_FIELD_NUMBER;
-        hash = (53 * hash) + getLeaderHint().hashCode();
+      if (getNodeEndpointsCount() > 0) {
+        hash = (37 * hash) + NODE_ENDPOINTS_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeEndpointsList().hashCode();
       }
+      hash = (37 * hash) + NODE_TO_REMOVE_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeToRemove().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8766,7 +14452,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.RemoveServerResult prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.RemoveNodeCommand prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8782,26 +14468,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code RemoveServerResult}
+     * Protobuf type {@code RemoveNodeCommand}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:RemoveServerResult)
-        in.xnnyygn.xraft.core.Protos.RemoveServerResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:RemoveNodeCommand)
+        in.xnnyygn.xraft.core.Protos.RemoveNodeCommandOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.RemoveServerResult.class, in.xnnyygn.xraft.core.Protos.RemoveServerResult.Builder.class);
+                in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.class, in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.RemoveServerResult.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8814,36 +14500,37 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getNodeEndpointsFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        status_ = "";
-
-        if (leaderHintBuilder_ == null) {
-          leaderHint_ = null;
+        if (nodeEndpointsBuilder_ == null) {
+          nodeEndpoints_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          leaderHint_ = null;
-          leaderHintBuilder_ = null;
+          nodeEndpointsBuilder_.clear();
         }
+        nodeToRemove_ = "";
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveServerResult_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveServerResult getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.RemoveServerResult.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveServerResult build() {
-        in.xnnyygn.xraft.core.Protos.RemoveServerResult result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand build() {
+        in.xnnyygn.xraft.core.Protos.RemoveNodeCommand result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8851,14 +14538,21 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveServerResult buildPartial() {
-        in.xnnyygn.xraft.core.Protos.RemoveServerResult result = new in.xnnyygn.xraft.core.Protos.RemoveServerResult(this);
-        result.status_ = status_;
-        if (leaderHintBuilder_ == null) {
-          result.leaderHint_ = leaderHint_;
+      public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand buildPartial() {
+        in.xnnyygn.xraft.core.Protos.RemoveNodeCommand result = new in.xnnyygn.xraft.core.Protos.RemoveNodeCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (nodeEndpointsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.nodeEndpoints_ = nodeEndpoints_;
         } else {
-          result.leaderHint_ = leaderHintBuilder_.build();
+          result.nodeEndpoints_ = nodeEndpointsBuilder_.build();
         }
+        result.nodeToRemove_ = nodeToRemove_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -8897,22 +14591,45 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.RemoveServerResult) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.RemoveServerResult)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.RemoveNodeCommand) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.RemoveNodeCommand)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.RemoveServerResult other) {
-        if (other == in.xnnyygn.xraft.core.Protos.RemoveServerResult.getDefaultInstance()) return this;
-        if (!other.getStatus().isEmpty()) {
-          status_ = other.status_;
-          onChanged();
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.RemoveNodeCommand other) {
+        if (other == in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.getDefaultInstance()) return this;
+        if (nodeEndpointsBuilder_ == null) {
+          if (!other.nodeEndpoints_.isEmpty()) {
+            if (nodeEndpoints_.isEmpty()) {
+              nodeEndpoints_ = other.nodeEndpoints_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureNodeEndpointsIsMutable();
+              nodeEndpoints_.addAll(other.nodeEndpoints_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodeEndpoints_.isEmpty()) {
+            if (nodeEndpointsBuilder_.isEmpty()) {
+              nodeEndpointsBuilder_.dispose();
+              nodeEndpointsBuilder_ = null;
+              nodeEndpoints_ = other.nodeEndpoints_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              nodeEndpointsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodeEndpointsFieldBuilder() : null;
+            } else {
+              nodeEndpointsBuilder_.addAllMessages(other.nodeEndpoints_);
+            }
+          }
         }
-        if (other.hasLeaderHint()) {
-          mergeLeaderHint(other.getLeaderHint());
+        if (!other.getNodeToRemove().isEmpty()) {
+          nodeToRemove_ = other.nodeToRemove_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -8929,11 +14646,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.RemoveServerResult parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.RemoveServerResult) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.RemoveNodeCommand) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -8942,191 +14659,315 @@ public final class Protos {
         }
         return this;
       }
-
-      private java.lang.Object status_ = "";
+      private int bitField0_;
+
+      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_ =
+        java.util.Collections.emptyList();
+      private void ensureNodeEndpointsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(nodeEndpoints_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> nodeEndpointsBuilder_;
+
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
+        if (nodeEndpointsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodeEndpoints_);
+        } else {
+          return nodeEndpointsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public int getNodeEndpointsCount() {
+        if (nodeEndpointsBuilder_ == null) {
+          return nodeEndpoints_.size();
+        } else {
+          return nodeEndpointsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
+        if (nodeEndpointsBuilder_ == null) {
+          return nodeEndpoints_.get(index);
+        } else {
+          return nodeEndpointsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder setNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (nodeEndpointsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.set(index, value);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder setNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public Builder addNodeEndpoints(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (nodeEndpointsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(value);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.addMessage(value);
+        }
+        return this;
+      }
       /**
-       * <code>string status = 1;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public java.lang.String getStatus() {
-        java.lang.Object ref = status_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          status_ = s;
-          return s;
+      public Builder addNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (nodeEndpointsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(index, value);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          nodeEndpointsBuilder_.addMessage(index, value);
         }
+        return this;
       }
       /**
-       * <code>string status = 1;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getStatusBytes() {
-        java.lang.Object ref = status_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          status_ = b;
-          return b;
+      public Builder addNodeEndpoints(
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          nodeEndpointsBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>string status = 1;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public Builder setStatus(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        status_ = value;
-        onChanged();
+      public Builder addNodeEndpoints(
+          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>string status = 1;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public Builder clearStatus() {
-        
-        status_ = getDefaultInstance().getStatus();
-        onChanged();
+      public Builder addAllNodeEndpoints(
+          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodeEndpoints_);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
-       * <code>string status = 1;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public Builder setStatusBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        status_ = value;
-        onChanged();
+      public Builder clearNodeEndpoints() {
+        if (nodeEndpointsBuilder_ == null) {
+          nodeEndpoints_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.clear();
+        }
         return this;
       }
-
-      private in.xnnyygn.xraft.core.Protos.NodeEndpoint leaderHint_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> leaderHintBuilder_;
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public boolean hasLeaderHint() {
-        return leaderHintBuilder_ != null || leaderHint_ != null;
+      public Builder removeNodeEndpoints(int index) {
+        if (nodeEndpointsBuilder_ == null) {
+          ensureNodeEndpointsIsMutable();
+          nodeEndpoints_.remove(index);
+          onChanged();
+        } else {
+          nodeEndpointsBuilder_.remove(index);
+        }
+        return this;
       }
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLeaderHint() {
-        if (leaderHintBuilder_ == null) {
-          return leaderHint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : leaderHint_;
-        } else {
-          return leaderHintBuilder_.getMessage();
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNodeEndpointsBuilder(
+          int index) {
+        return getNodeEndpointsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
+          int index) {
+        if (nodeEndpointsBuilder_ == null) {
+          return nodeEndpoints_.get(index);  } else {
+          return nodeEndpointsBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public Builder setLeaderHint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (leaderHintBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          leaderHint_ = value;
-          onChanged();
+      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+           getNodeEndpointsOrBuilderList() {
+        if (nodeEndpointsBuilder_ != null) {
+          return nodeEndpointsBuilder_.getMessageOrBuilderList();
         } else {
-          leaderHintBuilder_.setMessage(value);
+          return java.util.Collections.unmodifiableList(nodeEndpoints_);
         }
-
-        return this;
       }
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
        */
-      public Builder setLeaderHint(
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (leaderHintBuilder_ == null) {
-          leaderHint_ = builderForValue.build();
-          onChanged();
-        } else {
-          leaderHintBuilder_.setMessage(builderForValue.build());
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder() {
+        return getNodeEndpointsFieldBuilder().addBuilder(
+            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder(
+          int index) {
+        return getNodeEndpointsFieldBuilder().addBuilder(
+            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       */
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
+           getNodeEndpointsBuilderList() {
+        return getNodeEndpointsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+          getNodeEndpointsFieldBuilder() {
+        if (nodeEndpointsBuilder_ == null) {
+          nodeEndpointsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
+                  nodeEndpoints_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          nodeEndpoints_ = null;
         }
-
-        return this;
+        return nodeEndpointsBuilder_;
       }
+
+      private java.lang.Object nodeToRemove_ = "";
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>string node_to_remove = 2;</code>
        */
-      public Builder mergeLeaderHint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (leaderHintBuilder_ == null) {
-          if (leaderHint_ != null) {
-            leaderHint_ =
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(leaderHint_).mergeFrom(value).buildPartial();
-          } else {
-            leaderHint_ = value;
-          }
-          onChanged();
+      public java.lang.String getNodeToRemove() {
+        java.lang.Object ref = nodeToRemove_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nodeToRemove_ = s;
+          return s;
         } else {
-          leaderHintBuilder_.mergeFrom(value);
+          return (java.lang.String) ref;
         }
-
-        return this;
       }
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>string node_to_remove = 2;</code>
        */
-      public Builder clearLeaderHint() {
-        if (leaderHintBuilder_ == null) {
-          leaderHint_ = null;
-          onChanged();
+      public com.google.protobuf.ByteString
+          getNodeToRemoveBytes() {
+        java.lang.Object ref = nodeToRemove_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nodeToRemove_ = b;
+          return b;
         } else {
-          leaderHint_ = null;
-          leaderHintBuilder_ = null;
+          return (com.google.protobuf.ByteString) ref;
         }
-
+      }
+      /**
+       * <code>string node_to_remove = 2;</code>
+       */
+      public Builder setNodeToRemove(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nodeToRemove_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>string node_to_remove = 2;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getLeaderHintBuilder() {
+      public Builder clearNodeToRemove() {
         
+        nodeToRemove_ = getDefaultInstance().getNodeToRemove();
         onChanged();
-        return getLeaderHintFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLeaderHintOrBuilder() {
-        if (leaderHintBuilder_ != null) {
-          return leaderHintBuilder_.getMessageOrBuilder();
-        } else {
-          return leaderHint_ == null ?
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : leaderHint_;
-        }
+        return this;
       }
       /**
-       * <code>.NodeEndpoint leader_hint = 2;</code>
+       * <code>string node_to_remove = 2;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getLeaderHintFieldBuilder() {
-        if (leaderHintBuilder_ == null) {
-          leaderHintBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  getLeaderHint(),
-                  getParentForChildren(),
-                  isClean());
-          leaderHint_ = null;
-        }
-        return leaderHintBuilder_;
+      public Builder setNodeToRemoveBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nodeToRemove_ = value;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -9141,101 +14982,106 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:RemoveServerResult)
+      // @@protoc_insertion_point(builder_scope:RemoveNodeCommand)
     }
 
-    // @@protoc_insertion_point(class_scope:RemoveServerResult)
-    private static final in.xnnyygn.xraft.core.Protos.RemoveServerResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:RemoveNodeCommand)
+    private static final in.xnnyygn.xraft.core.Protos.RemoveNodeCommand DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.RemoveServerResult();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.RemoveNodeCommand();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.RemoveServerResult getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<RemoveServerResult>
-        PARSER = new com.google.protobuf.AbstractParser<RemoveServerResult>() {
+    private static final com.google.protobuf.Parser<RemoveNodeCommand>
+        PARSER = new com.google.protobuf.AbstractParser<RemoveNodeCommand>() {
       @java.lang.Override
-      public RemoveServerResult parsePartialFrom(
+      public RemoveNodeCommand parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RemoveServerResult(input, extensionRegistry);
+        return new RemoveNodeCommand(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<RemoveServerResult> parser() {
+    public static com.google.protobuf.Parser<RemoveNodeCommand> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RemoveServerResult> getParserForType() {
+    public com.google.protobuf.Parser<RemoveNodeCommand> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.RemoveServerResult getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AddNodeCommandOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AddNodeCommand)
+  public interface SnapshotHeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnapshotHeader)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>int32 last_index = 1;</code>
      */
-    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
-        getNodeEndpointsList();
+    int getLastIndex();
+
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>int32 last_term = 2;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index);
+    int getLastTerm();
+
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    int getNodeEndpointsCount();
+    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
+        getLastConfigList();
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getNodeEndpointsOrBuilderList();
+    in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index);
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
-        int index);
-
+    int getLastConfigCount();
     /**
-     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    boolean hasNewNodeEndpoint();
+    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getLastConfigOrBuilderList();
     /**
-     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewNodeEndpoint();
+    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
+        int index);
+
     /**
-     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     * <code>int32 base_index = 4;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewNodeEndpointOrBuilder();
+    int getBaseIndex();
   }
   /**
-   * Protobuf type {@code AddNodeCommand}
+   * Protobuf type {@code SnapshotHeader}
    */
-  public  static final class AddNodeCommand extends
+  public  static final class SnapshotHeader extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:AddNodeCommand)
-      AddNodeCommandOrBuilder {
+      // @@protoc_insertion_point(message_implements:SnapshotHeader)
+      SnapshotHeaderOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use AddNodeCommand.newBuilder() to construct.
-    private AddNodeCommand(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use SnapshotHeader.newBuilder() to construct.
+    private SnapshotHeader(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AddNodeCommand() {
-      nodeEndpoints_ = java.util.Collections.emptyList();
+    private SnapshotHeader() {
+      lastIndex_ = 0;
+      lastTerm_ = 0;
+      lastConfig_ = java.util.Collections.emptyList();
+      baseIndex_ = 0;
     }
 
     @java.lang.Override
@@ -9243,7 +15089,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AddNodeCommand(
+    private SnapshotHeader(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9262,26 +15108,28 @@ public final class Protos {
             case 0:
               done = true;
               break;
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
-                mutable_bitField0_ |= 0x00000001;
+            case 8: {
+
+              lastIndex_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              lastTerm_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
+                mutable_bitField0_ |= 0x00000004;
               }
-              nodeEndpoints_.add(
+              lastConfig_.add(
                   input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
               break;
             }
-            case 18: {
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder subBuilder = null;
-              if (newNodeEndpoint_ != null) {
-                subBuilder = newNodeEndpoint_.toBuilder();
-              }
-              newNodeEndpoint_ = input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(newNodeEndpoint_);
-                newNodeEndpoint_ = subBuilder.buildPartial();
-              }
+            case 32: {
 
+              baseIndex_ = input.readInt32();
               break;
             }
             default: {
@@ -9299,8 +15147,8 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -9308,72 +15156,78 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.AddNodeCommand.class, in.xnnyygn.xraft.core.Protos.AddNodeCommand.Builder.class);
+              in.xnnyygn.xraft.core.Protos.SnapshotHeader.class, in.xnnyygn.xraft.core.Protos.SnapshotHeader.Builder.class);
     }
 
     private int bitField0_;
-    public static final int NODE_ENDPOINTS_FIELD_NUMBER = 1;
-    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_;
+    public static final int LAST_INDEX_FIELD_NUMBER = 1;
+    private int lastIndex_;
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>int32 last_index = 1;</code>
      */
-    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
-      return nodeEndpoints_;
+    public int getLastIndex() {
+      return lastIndex_;
     }
+
+    public static final int LAST_TERM_FIELD_NUMBER = 2;
+    private int lastTerm_;
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>int32 last_term = 2;</code>
      */
-    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getNodeEndpointsOrBuilderList() {
-      return nodeEndpoints_;
+    public int getLastTerm() {
+      return lastTerm_;
     }
+
+    public static final int LAST_CONFIG_FIELD_NUMBER = 3;
+    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_;
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    public int getNodeEndpointsCount() {
-      return nodeEndpoints_.size();
+    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
+      return lastConfig_;
     }
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
-      return nodeEndpoints_.get(index);
+    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+        getLastConfigOrBuilderList() {
+      return lastConfig_;
     }
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
-        int index) {
-      return nodeEndpoints_.get(index);
+    public int getLastConfigCount() {
+      return lastConfig_.size();
     }
-
-    public static final int NEW_NODE_ENDPOINT_FIELD_NUMBER = 2;
-    private in.xnnyygn.xraft.core.Protos.NodeEndpoint newNodeEndpoint_;
     /**
-     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    public boolean hasNewNodeEndpoint() {
-      return newNodeEndpoint_ != null;
+    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
+      return lastConfig_.get(index);
     }
     /**
-     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     * <code>repeated .NodeEndpoint last_config = 3;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewNodeEndpoint() {
-      return newNodeEndpoint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newNodeEndpoint_;
+    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
+        int index) {
+      return lastConfig_.get(index);
     }
+
+    public static final int BASE_INDEX_FIELD_NUMBER = 4;
+    private int baseIndex_;
     /**
-     * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+     * <code>int32 base_index = 4;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewNodeEndpointOrBuilder() {
-      return getNewNodeEndpoint();
+    public int getBaseIndex() {
+      return baseIndex_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -9390,11 +15244,17 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < nodeEndpoints_.size(); i++) {
-        output.writeMessage(1, nodeEndpoints_.get(i));
+      if (lastIndex_ != 0) {
+        output.writeInt32(1, lastIndex_);
       }
-      if (newNodeEndpoint_ != null) {
-        output.writeMessage(2, getNewNodeEndpoint());
+      if (lastTerm_ != 0) {
+        output.writeInt32(2, lastTerm_);
+      }
+      for (int i = 0; i < lastConfig_.size(); i++) {
+        output.writeMessage(3, lastConfig_.get(i));
+      }
+      if (baseIndex_ != 0) {
+        output.writeInt32(4, baseIndex_);
       }
       unknownFields.writeTo(output);
     }
@@ -9405,13 +15265,21 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < nodeEndpoints_.size(); i++) {
+      if (lastIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, lastIndex_);
+      }
+      if (lastTerm_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, lastTerm_);
+      }
+      for (int i = 0; i < lastConfig_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, nodeEndpoints_.get(i));
+          .computeMessageSize(3, lastConfig_.get(i));
       }
-      if (newNodeEndpoint_ != null) {
+      if (baseIndex_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getNewNodeEndpoint());
+          .computeInt32Size(4, baseIndex_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -9423,19 +15291,20 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.AddNodeCommand)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.SnapshotHeader)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.AddNodeCommand other = (in.xnnyygn.xraft.core.Protos.AddNodeCommand) obj;
+      in.xnnyygn.xraft.core.Protos.SnapshotHeader other = (in.xnnyygn.xraft.core.Protos.SnapshotHeader) obj;
 
       boolean result = true;
-      result = result && getNodeEndpointsList()
-          .equals(other.getNodeEndpointsList());
-      result = result && (hasNewNodeEndpoint() == other.hasNewNodeEndpoint());
-      if (hasNewNodeEndpoint()) {
-        result = result && getNewNodeEndpoint()
-            .equals(other.getNewNodeEndpoint());
-      }
+      result = result && (getLastIndex()
+          == other.getLastIndex());
+      result = result && (getLastTerm()
+          == other.getLastTerm());
+      result = result && getLastConfigList()
+          .equals(other.getLastConfigList());
+      result = result && (getBaseIndex()
+          == other.getBaseIndex());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -9447,82 +15316,84 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getNodeEndpointsCount() > 0) {
-        hash = (37 * hash) + NODE_ENDPOINTS_FIELD_NUMBER;
-        hash = (53 * hash) + getNodeEndpointsList().hashCode();
-      }
-      if (hasNewNodeEndpoint()) {
-        hash = (37 * hash) + NEW_NODE_ENDPOINT_FIELD_NUMBER;
-        hash = (53 * hash) + getNewNodeEndpoint().hashCode();
+      hash = (37 * hash) + LAST_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getLastIndex();
+      hash = (37 * hash) + LAST_TERM_FIELD_NUMBER;
+      hash = (53 * hash) + getLastTerm();
+      if (getLastConfigCount() > 0) {
+        hash = (37 * hash) + LAST_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getLastConfigList().hashCode();
       }
+      hash = (37 * hash) + BASE_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getBaseIndex();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9535,7 +15406,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.AddNodeCommand prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.SnapshotHeader prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9551,26 +15422,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code AddNodeCommand}
+     * Protobuf type {@code SnapshotHeader}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:AddNodeCommand)
-        in.xnnyygn.xraft.core.Protos.AddNodeCommandOrBuilder {
+        // @@protoc_insertion_point(builder_implements:SnapshotHeader)
+        in.xnnyygn.xraft.core.Protos.SnapshotHeaderOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.AddNodeCommand.class, in.xnnyygn.xraft.core.Protos.AddNodeCommand.Builder.class);
+                in.xnnyygn.xraft.core.Protos.SnapshotHeader.class, in.xnnyygn.xraft.core.Protos.SnapshotHeader.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.AddNodeCommand.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.SnapshotHeader.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9583,41 +15454,41 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getNodeEndpointsFieldBuilder();
+          getLastConfigFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (nodeEndpointsBuilder_ == null) {
-          nodeEndpoints_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          nodeEndpointsBuilder_.clear();
-        }
-        if (newNodeEndpointBuilder_ == null) {
-          newNodeEndpoint_ = null;
+        lastIndex_ = 0;
+
+        lastTerm_ = 0;
+
+        if (lastConfigBuilder_ == null) {
+          lastConfig_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
         } else {
-          newNodeEndpoint_ = null;
-          newNodeEndpointBuilder_ = null;
+          lastConfigBuilder_.clear();
         }
+        baseIndex_ = 0;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_AddNodeCommand_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddNodeCommand getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.AddNodeCommand.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.SnapshotHeader getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.SnapshotHeader.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddNodeCommand build() {
-        in.xnnyygn.xraft.core.Protos.AddNodeCommand result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.SnapshotHeader build() {
+        in.xnnyygn.xraft.core.Protos.SnapshotHeader result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9625,24 +15496,22 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.AddNodeCommand buildPartial() {
-        in.xnnyygn.xraft.core.Protos.AddNodeCommand result = new in.xnnyygn.xraft.core.Protos.AddNodeCommand(this);
+      public in.xnnyygn.xraft.core.Protos.SnapshotHeader buildPartial() {
+        in.xnnyygn.xraft.core.Protos.SnapshotHeader result = new in.xnnyygn.xraft.core.Protos.SnapshotHeader(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (nodeEndpointsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
-            bitField0_ = (bitField0_ & ~0x00000001);
+        result.lastIndex_ = lastIndex_;
+        result.lastTerm_ = lastTerm_;
+        if (lastConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
+            bitField0_ = (bitField0_ & ~0x00000004);
           }
-          result.nodeEndpoints_ = nodeEndpoints_;
-        } else {
-          result.nodeEndpoints_ = nodeEndpointsBuilder_.build();
-        }
-        if (newNodeEndpointBuilder_ == null) {
-          result.newNodeEndpoint_ = newNodeEndpoint_;
+          result.lastConfig_ = lastConfig_;
         } else {
-          result.newNodeEndpoint_ = newNodeEndpointBuilder_.build();
+          result.lastConfig_ = lastConfigBuilder_.build();
         }
+        result.baseIndex_ = baseIndex_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -9682,44 +15551,50 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.AddNodeCommand) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.AddNodeCommand)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.SnapshotHeader) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.SnapshotHeader)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.AddNodeCommand other) {
-        if (other == in.xnnyygn.xraft.core.Protos.AddNodeCommand.getDefaultInstance()) return this;
-        if (nodeEndpointsBuilder_ == null) {
-          if (!other.nodeEndpoints_.isEmpty()) {
-            if (nodeEndpoints_.isEmpty()) {
-              nodeEndpoints_ = other.nodeEndpoints_;
-              bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.SnapshotHeader other) {
+        if (other == in.xnnyygn.xraft.core.Protos.SnapshotHeader.getDefaultInstance()) return this;
+        if (other.getLastIndex() != 0) {
+          setLastIndex(other.getLastIndex());
+        }
+        if (other.getLastTerm() != 0) {
+          setLastTerm(other.getLastTerm());
+        }
+        if (lastConfigBuilder_ == null) {
+          if (!other.lastConfig_.isEmpty()) {
+            if (lastConfig_.isEmpty()) {
+              lastConfig_ = other.lastConfig_;
+              bitField0_ = (bitField0_ & ~0x00000004);
             } else {
-              ensureNodeEndpointsIsMutable();
-              nodeEndpoints_.addAll(other.nodeEndpoints_);
+              ensureLastConfigIsMutable();
+              lastConfig_.addAll(other.lastConfig_);
             }
             onChanged();
           }
         } else {
-          if (!other.nodeEndpoints_.isEmpty()) {
-            if (nodeEndpointsBuilder_.isEmpty()) {
-              nodeEndpointsBuilder_.dispose();
-              nodeEndpointsBuilder_ = null;
-              nodeEndpoints_ = other.nodeEndpoints_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              nodeEndpointsBuilder_ = 
+          if (!other.lastConfig_.isEmpty()) {
+            if (lastConfigBuilder_.isEmpty()) {
+              lastConfigBuilder_.dispose();
+              lastConfigBuilder_ = null;
+              lastConfig_ = other.lastConfig_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              lastConfigBuilder_ = 
                 com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getNodeEndpointsFieldBuilder() : null;
+                   getLastConfigFieldBuilder() : null;
             } else {
-              nodeEndpointsBuilder_.addAllMessages(other.nodeEndpoints_);
+              lastConfigBuilder_.addAllMessages(other.lastConfig_);
             }
           }
         }
-        if (other.hasNewNodeEndpoint()) {
-          mergeNewNodeEndpoint(other.getNewNodeEndpoint());
+        if (other.getBaseIndex() != 0) {
+          setBaseIndex(other.getBaseIndex());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -9736,11 +15611,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.AddNodeCommand parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.SnapshotHeader parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.AddNodeCommand) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.SnapshotHeader) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -9751,361 +15626,322 @@ public final class Protos {
       }
       private int bitField0_;
 
-      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_ =
+      private int lastIndex_ ;
+      /**
+       * <code>int32 last_index = 1;</code>
+       */
+      public int getLastIndex() {
+        return lastIndex_;
+      }
+      /**
+       * <code>int32 last_index = 1;</code>
+       */
+      public Builder setLastIndex(int value) {
+        
+        lastIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 last_index = 1;</code>
+       */
+      public Builder clearLastIndex() {
+        
+        lastIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastTerm_ ;
+      /**
+       * <code>int32 last_term = 2;</code>
+       */
+      public int getLastTerm() {
+        return lastTerm_;
+      }
+      /**
+       * <code>int32 last_term = 2;</code>
+       */
+      public Builder setLastTerm(int value) {
+        
+        lastTerm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 last_term = 2;</code>
+       */
+      public Builder clearLastTerm() {
+        
+        lastTerm_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_ =
         java.util.Collections.emptyList();
-      private void ensureNodeEndpointsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(nodeEndpoints_);
-          bitField0_ |= 0x00000001;
+      private void ensureLastConfigIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(lastConfig_);
+          bitField0_ |= 0x00000004;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> nodeEndpointsBuilder_;
+          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> lastConfigBuilder_;
 
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
-        if (nodeEndpointsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(nodeEndpoints_);
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
+        if (lastConfigBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(lastConfig_);
         } else {
-          return nodeEndpointsBuilder_.getMessageList();
+          return lastConfigBuilder_.getMessageList();
         }
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public int getNodeEndpointsCount() {
-        if (nodeEndpointsBuilder_ == null) {
-          return nodeEndpoints_.size();
+      public int getLastConfigCount() {
+        if (lastConfigBuilder_ == null) {
+          return lastConfig_.size();
         } else {
-          return nodeEndpointsBuilder_.getCount();
+          return lastConfigBuilder_.getCount();
         }
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
-        if (nodeEndpointsBuilder_ == null) {
-          return nodeEndpoints_.get(index);
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
+        if (lastConfigBuilder_ == null) {
+          return lastConfig_.get(index);
         } else {
-          return nodeEndpointsBuilder_.getMessage(index);
+          return lastConfigBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder setNodeEndpoints(
+      public Builder setLastConfig(
           int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (nodeEndpointsBuilder_ == null) {
+        if (lastConfigBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.set(index, value);
+          ensureLastConfigIsMutable();
+          lastConfig_.set(index, value);
           onChanged();
         } else {
-          nodeEndpointsBuilder_.setMessage(index, value);
+          lastConfigBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder setNodeEndpoints(
+      public Builder setLastConfig(
           int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.set(index, builderForValue.build());
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.set(index, builderForValue.build());
           onChanged();
         } else {
-          nodeEndpointsBuilder_.setMessage(index, builderForValue.build());
+          lastConfigBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder addNodeEndpoints(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (nodeEndpointsBuilder_ == null) {
+      public Builder addLastConfig(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
+        if (lastConfigBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(value);
+          ensureLastConfigIsMutable();
+          lastConfig_.add(value);
           onChanged();
         } else {
-          nodeEndpointsBuilder_.addMessage(value);
+          lastConfigBuilder_.addMessage(value);
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder addNodeEndpoints(
+      public Builder addLastConfig(
           int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (nodeEndpointsBuilder_ == null) {
+        if (lastConfigBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(index, value);
+          ensureLastConfigIsMutable();
+          lastConfig_.add(index, value);
           onChanged();
         } else {
-          nodeEndpointsBuilder_.addMessage(index, value);
+          lastConfigBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder addNodeEndpoints(
+      public Builder addLastConfig(
           in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(builderForValue.build());
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.add(builderForValue.build());
           onChanged();
         } else {
-          nodeEndpointsBuilder_.addMessage(builderForValue.build());
+          lastConfigBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder addNodeEndpoints(
+      public Builder addLastConfig(
           int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(index, builderForValue.build());
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.add(index, builderForValue.build());
           onChanged();
         } else {
-          nodeEndpointsBuilder_.addMessage(index, builderForValue.build());
+          lastConfigBuilder_.addMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder addAllNodeEndpoints(
+      public Builder addAllLastConfig(
           java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
           com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, nodeEndpoints_);
+              values, lastConfig_);
           onChanged();
         } else {
-          nodeEndpointsBuilder_.addAllMessages(values);
+          lastConfigBuilder_.addAllMessages(values);
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder clearNodeEndpoints() {
-        if (nodeEndpointsBuilder_ == null) {
-          nodeEndpoints_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearLastConfig() {
+        if (lastConfigBuilder_ == null) {
+          lastConfig_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
           onChanged();
         } else {
-          nodeEndpointsBuilder_.clear();
+          lastConfigBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder removeNodeEndpoints(int index) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.remove(index);
+      public Builder removeLastConfig(int index) {
+        if (lastConfigBuilder_ == null) {
+          ensureLastConfigIsMutable();
+          lastConfig_.remove(index);
           onChanged();
         } else {
-          nodeEndpointsBuilder_.remove(index);
+          lastConfigBuilder_.remove(index);
         }
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNodeEndpointsBuilder(
-          int index) {
-        return getNodeEndpointsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
-          int index) {
-        if (nodeEndpointsBuilder_ == null) {
-          return nodeEndpoints_.get(index);  } else {
-          return nodeEndpointsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-           getNodeEndpointsOrBuilderList() {
-        if (nodeEndpointsBuilder_ != null) {
-          return nodeEndpointsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(nodeEndpoints_);
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder() {
-        return getNodeEndpointsFieldBuilder().addBuilder(
-            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder(
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getLastConfigBuilder(
           int index) {
-        return getNodeEndpointsFieldBuilder().addBuilder(
-            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
-           getNodeEndpointsBuilderList() {
-        return getNodeEndpointsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getNodeEndpointsFieldBuilder() {
-        if (nodeEndpointsBuilder_ == null) {
-          nodeEndpointsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  nodeEndpoints_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          nodeEndpoints_ = null;
-        }
-        return nodeEndpointsBuilder_;
-      }
-
-      private in.xnnyygn.xraft.core.Protos.NodeEndpoint newNodeEndpoint_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> newNodeEndpointBuilder_;
-      /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
-       */
-      public boolean hasNewNodeEndpoint() {
-        return newNodeEndpointBuilder_ != null || newNodeEndpoint_ != null;
-      }
-      /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNewNodeEndpoint() {
-        if (newNodeEndpointBuilder_ == null) {
-          return newNodeEndpoint_ == null ? in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newNodeEndpoint_;
-        } else {
-          return newNodeEndpointBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
-       */
-      public Builder setNewNodeEndpoint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (newNodeEndpointBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          newNodeEndpoint_ = value;
-          onChanged();
-        } else {
-          newNodeEndpointBuilder_.setMessage(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
-       */
-      public Builder setNewNodeEndpoint(
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (newNodeEndpointBuilder_ == null) {
-          newNodeEndpoint_ = builderForValue.build();
-          onChanged();
-        } else {
-          newNodeEndpointBuilder_.setMessage(builderForValue.build());
-        }
-
-        return this;
+        return getLastConfigFieldBuilder().getBuilder(index);
       }
-      /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
-       */
-      public Builder mergeNewNodeEndpoint(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (newNodeEndpointBuilder_ == null) {
-          if (newNodeEndpoint_ != null) {
-            newNodeEndpoint_ =
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.newBuilder(newNodeEndpoint_).mergeFrom(value).buildPartial();
-          } else {
-            newNodeEndpoint_ = value;
-          }
-          onChanged();
-        } else {
-          newNodeEndpointBuilder_.mergeFrom(value);
+      /**
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       */
+      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
+          int index) {
+        if (lastConfigBuilder_ == null) {
+          return lastConfig_.get(index);  } else {
+          return lastConfigBuilder_.getMessageOrBuilder(index);
         }
-
-        return this;
       }
       /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public Builder clearNewNodeEndpoint() {
-        if (newNodeEndpointBuilder_ == null) {
-          newNodeEndpoint_ = null;
-          onChanged();
+      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
+           getLastConfigOrBuilderList() {
+        if (lastConfigBuilder_ != null) {
+          return lastConfigBuilder_.getMessageOrBuilderList();
         } else {
-          newNodeEndpoint_ = null;
-          newNodeEndpointBuilder_ = null;
+          return java.util.Collections.unmodifiableList(lastConfig_);
         }
-
-        return this;
       }
       /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNewNodeEndpointBuilder() {
-        
-        onChanged();
-        return getNewNodeEndpointFieldBuilder().getBuilder();
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder() {
+        return getLastConfigFieldBuilder().addBuilder(
+            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
       }
       /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNewNodeEndpointOrBuilder() {
-        if (newNodeEndpointBuilder_ != null) {
-          return newNodeEndpointBuilder_.getMessageOrBuilder();
-        } else {
-          return newNodeEndpoint_ == null ?
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance() : newNodeEndpoint_;
-        }
+      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder(
+          int index) {
+        return getLastConfigFieldBuilder().addBuilder(
+            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
       }
       /**
-       * <code>.NodeEndpoint new_node_endpoint = 2;</code>
+       * <code>repeated .NodeEndpoint last_config = 3;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
+      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
+           getLastConfigBuilderList() {
+        return getLastConfigFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
           in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getNewNodeEndpointFieldBuilder() {
-        if (newNodeEndpointBuilder_ == null) {
-          newNodeEndpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+          getLastConfigFieldBuilder() {
+        if (lastConfigBuilder_ == null) {
+          lastConfigBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
               in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  getNewNodeEndpoint(),
+                  lastConfig_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
                   getParentForChildren(),
                   isClean());
-          newNodeEndpoint_ = null;
+          lastConfig_ = null;
         }
-        return newNodeEndpointBuilder_;
+        return lastConfigBuilder_;
+      }
+
+      private int baseIndex_ ;
+      /**
+       * <code>int32 base_index = 4;</code>
+       */
+      public int getBaseIndex() {
+        return baseIndex_;
+      }
+      /**
+       * <code>int32 base_index = 4;</code>
+       */
+      public Builder setBaseIndex(int value) {
+        
+        baseIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 base_index = 4;</code>
+       */
+      public Builder clearBaseIndex() {
+        
+        baseIndex_ = 0;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -10120,99 +15956,83 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:AddNodeCommand)
+      // @@protoc_insertion_point(builder_scope:SnapshotHeader)
     }
 
-    // @@protoc_insertion_point(class_scope:AddNodeCommand)
-    private static final in.xnnyygn.xraft.core.Protos.AddNodeCommand DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:SnapshotHeader)
+    private static final in.xnnyygn.xraft.core.Protos.SnapshotHeader DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.AddNodeCommand();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.SnapshotHeader();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.AddNodeCommand getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<AddNodeCommand>
-        PARSER = new com.google.protobuf.AbstractParser<AddNodeCommand>() {
+    private static final com.google.protobuf.Parser<SnapshotHeader>
+        PARSER = new com.google.protobuf.AbstractParser<SnapshotHeader>() {
       @java.lang.Override
-      public AddNodeCommand parsePartialFrom(
+      public SnapshotHeader parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AddNodeCommand(input, extensionRegistry);
+        return new SnapshotHeader(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AddNodeCommand> parser() {
+    public static com.google.protobuf.Parser<SnapshotHeader> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AddNodeCommand> getParserForType() {
+    public com.google.protobuf.Parser<SnapshotHeader> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.AddNodeCommand getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.SnapshotHeader getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface RemoveNodeCommandOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:RemoveNodeCommand)
+  public interface CompressionCodecsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CompressionCodecs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-     */
-    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
-        getNodeEndpointsList();
-    /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-     */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index);
-    /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-     */
-    int getNodeEndpointsCount();
-    /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated string names = 1;</code>
      */
-    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getNodeEndpointsOrBuilderList();
+    java.util.List<java.lang.String>
+        getNamesList();
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated string names = 1;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
-        int index);
-
+    int getNamesCount();
     /**
-     * <code>string node_to_remove = 2;</code>
+     * <code>repeated string names = 1;</code>
      */
-    java.lang.String getNodeToRemove();
+    java.lang.String getNames(int index);
     /**
-     * <code>string node_to_remove = 2;</code>
+     * <code>repeated string names = 1;</code>
      */
     com.google.protobuf.ByteString
-        getNodeToRemoveBytes();
+        getNamesBytes(int index);
   }
   /**
-   * Protobuf type {@code RemoveNodeCommand}
+   * Protobuf type {@code CompressionCodecs}
    */
-  public  static final class RemoveNodeCommand extends
+  public  static final class CompressionCodecs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:RemoveNodeCommand)
-      RemoveNodeCommandOrBuilder {
+      // @@protoc_insertion_point(message_implements:CompressionCodecs)
+      CompressionCodecsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use RemoveNodeCommand.newBuilder() to construct.
-    private RemoveNodeCommand(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use CompressionCodecs.newBuilder() to construct.
+    private CompressionCodecs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private RemoveNodeCommand() {
-      nodeEndpoints_ = java.util.Collections.emptyList();
-      nodeToRemove_ = "";
+    private CompressionCodecs() {
+      names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
@@ -10220,7 +16040,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private RemoveNodeCommand(
+    private CompressionCodecs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10240,18 +16060,12 @@ public final class Protos {
               done = true;
               break;
             case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
               if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
+                names_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000001;
               }
-              nodeEndpoints_.add(
-                  input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              nodeToRemove_ = s;
+              names_.add(s);
               break;
             }
             default: {
@@ -10270,7 +16084,7 @@ public final class Protos {
             e).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
+          names_ = names_.getUnmodifiableView();
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -10278,85 +16092,44 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_CompressionCodecs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_CompressionCodecs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.class, in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.Builder.class);
+              in.xnnyygn.xraft.core.Protos.CompressionCodecs.class, in.xnnyygn.xraft.core.Protos.CompressionCodecs.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int NODE_ENDPOINTS_FIELD_NUMBER = 1;
-    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_;
-    /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-     */
-    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
-      return nodeEndpoints_;
-    }
-    /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-     */
-    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getNodeEndpointsOrBuilderList() {
-      return nodeEndpoints_;
-    }
-    /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-     */
-    public int getNodeEndpointsCount() {
-      return nodeEndpoints_.size();
-    }
+    public static final int NAMES_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList names_;
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated string names = 1;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
-      return nodeEndpoints_.get(index);
+    public com.google.protobuf.ProtocolStringList
+        getNamesList() {
+      return names_;
     }
     /**
-     * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+     * <code>repeated string names = 1;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
-        int index) {
-      return nodeEndpoints_.get(index);
+    public int getNamesCount() {
+      return names_.size();
     }
-
-    public static final int NODE_TO_REMOVE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object nodeToRemove_;
     /**
-     * <code>string node_to_remove = 2;</code>
+     * <code>repeated string names = 1;</code>
      */
-    public java.lang.String getNodeToRemove() {
-      java.lang.Object ref = nodeToRemove_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        nodeToRemove_ = s;
-        return s;
-      }
+    public java.lang.String getNames(int index) {
+      return names_.get(index);
     }
     /**
-     * <code>string node_to_remove = 2;</code>
+     * <code>repeated string names = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getNodeToRemoveBytes() {
-      java.lang.Object ref = nodeToRemove_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        nodeToRemove_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getNamesBytes(int index) {
+      return names_.getByteString(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -10373,11 +16146,8 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < nodeEndpoints_.size(); i++) {
-        output.writeMessage(1, nodeEndpoints_.get(i));
-      }
-      if (!getNodeToRemoveBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nodeToRemove_);
+      for (int i = 0; i < names_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, names_.getRaw(i));
       }
       unknownFields.writeTo(output);
     }
@@ -10388,12 +16158,13 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < nodeEndpoints_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, nodeEndpoints_.get(i));
-      }
-      if (!getNodeToRemoveBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nodeToRemove_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < names_.size(); i++) {
+          dataSize += computeStringSizeNoTag(names_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getNamesList().size();
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -10405,16 +16176,14 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.RemoveNodeCommand)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.CompressionCodecs)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.RemoveNodeCommand other = (in.xnnyygn.xraft.core.Protos.RemoveNodeCommand) obj;
+      in.xnnyygn.xraft.core.Protos.CompressionCodecs other = (in.xnnyygn.xraft.core.Protos.CompressionCodecs) obj;
 
       boolean result = true;
-      result = result && getNodeEndpointsList()
-          .equals(other.getNodeEndpointsList());
-      result = result && getNodeToRemove()
-          .equals(other.getNodeToRemove());
+      result = result && getNamesList()
+          .equals(other.getNamesList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -10426,80 +16195,78 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getNodeEndpointsCount() > 0) {
-        hash = (37 * hash) + NODE_ENDPOINTS_FIELD_NUMBER;
-        hash = (53 * hash) + getNodeEndpointsList().hashCode();
+      if (getNamesCount() > 0) {
+        hash = (37 * hash) + NAMES_FIELD_NUMBER;
+        hash = (53 * hash) + getNamesList().hashCode();
       }
-      hash = (37 * hash) + NODE_TO_REMOVE_FIELD_NUMBER;
-      hash = (53 * hash) + getNodeToRemove().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10512,7 +16279,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.RemoveNodeCommand prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.CompressionCodecs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -10528,26 +16295,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code RemoveNodeCommand}
+     * Protobuf type {@code CompressionCodecs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:RemoveNodeCommand)
-        in.xnnyygn.xraft.core.Protos.RemoveNodeCommandOrBuilder {
+        // @@protoc_insertion_point(builder_implements:CompressionCodecs)
+        in.xnnyygn.xraft.core.Protos.CompressionCodecsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_CompressionCodecs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_CompressionCodecs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.class, in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.Builder.class);
+                in.xnnyygn.xraft.core.Protos.CompressionCodecs.class, in.xnnyygn.xraft.core.Protos.CompressionCodecs.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.CompressionCodecs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10560,37 +16327,30 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getNodeEndpointsFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (nodeEndpointsBuilder_ == null) {
-          nodeEndpoints_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          nodeEndpointsBuilder_.clear();
-        }
-        nodeToRemove_ = "";
-
+        names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_RemoveNodeCommand_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_CompressionCodecs_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.CompressionCodecs getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.CompressionCodecs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand build() {
-        in.xnnyygn.xraft.core.Protos.RemoveNodeCommand result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.CompressionCodecs build() {
+        in.xnnyygn.xraft.core.Protos.CompressionCodecs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -10598,21 +16358,14 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand buildPartial() {
-        in.xnnyygn.xraft.core.Protos.RemoveNodeCommand result = new in.xnnyygn.xraft.core.Protos.RemoveNodeCommand(this);
+      public in.xnnyygn.xraft.core.Protos.CompressionCodecs buildPartial() {
+        in.xnnyygn.xraft.core.Protos.CompressionCodecs result = new in.xnnyygn.xraft.core.Protos.CompressionCodecs(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (nodeEndpointsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            nodeEndpoints_ = java.util.Collections.unmodifiableList(nodeEndpoints_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.nodeEndpoints_ = nodeEndpoints_;
-        } else {
-          result.nodeEndpoints_ = nodeEndpointsBuilder_.build();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          names_ = names_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.nodeToRemove_ = nodeToRemove_;
-        result.bitField0_ = to_bitField0_;
+        result.names_ = names_;
         onBuilt();
         return result;
       }
@@ -10651,381 +16404,146 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.RemoveNodeCommand) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.RemoveNodeCommand)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.CompressionCodecs) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.CompressionCodecs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
-
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.RemoveNodeCommand other) {
-        if (other == in.xnnyygn.xraft.core.Protos.RemoveNodeCommand.getDefaultInstance()) return this;
-        if (nodeEndpointsBuilder_ == null) {
-          if (!other.nodeEndpoints_.isEmpty()) {
-            if (nodeEndpoints_.isEmpty()) {
-              nodeEndpoints_ = other.nodeEndpoints_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureNodeEndpointsIsMutable();
-              nodeEndpoints_.addAll(other.nodeEndpoints_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.nodeEndpoints_.isEmpty()) {
-            if (nodeEndpointsBuilder_.isEmpty()) {
-              nodeEndpointsBuilder_.dispose();
-              nodeEndpointsBuilder_ = null;
-              nodeEndpoints_ = other.nodeEndpoints_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              nodeEndpointsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getNodeEndpointsFieldBuilder() : null;
-            } else {
-              nodeEndpointsBuilder_.addAllMessages(other.nodeEndpoints_);
-            }
-          }
-        }
-        if (!other.getNodeToRemove().isEmpty()) {
-          nodeToRemove_ = other.nodeToRemove_;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.RemoveNodeCommand parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.RemoveNodeCommand) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> nodeEndpoints_ =
-        java.util.Collections.emptyList();
-      private void ensureNodeEndpointsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          nodeEndpoints_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(nodeEndpoints_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> nodeEndpointsBuilder_;
-
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getNodeEndpointsList() {
-        if (nodeEndpointsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(nodeEndpoints_);
-        } else {
-          return nodeEndpointsBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public int getNodeEndpointsCount() {
-        if (nodeEndpointsBuilder_ == null) {
-          return nodeEndpoints_.size();
-        } else {
-          return nodeEndpointsBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getNodeEndpoints(int index) {
-        if (nodeEndpointsBuilder_ == null) {
-          return nodeEndpoints_.get(index);
-        } else {
-          return nodeEndpointsBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder setNodeEndpoints(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (nodeEndpointsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.set(index, value);
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder setNodeEndpoints(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder addNodeEndpoints(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (nodeEndpointsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(value);
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder addNodeEndpoints(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (nodeEndpointsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(index, value);
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder addNodeEndpoints(
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(builderForValue.build());
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder addNodeEndpoints(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder addAllNodeEndpoints(
-          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, nodeEndpoints_);
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder clearNodeEndpoints() {
-        if (nodeEndpointsBuilder_ == null) {
-          nodeEndpoints_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          nodeEndpointsBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public Builder removeNodeEndpoints(int index) {
-        if (nodeEndpointsBuilder_ == null) {
-          ensureNodeEndpointsIsMutable();
-          nodeEndpoints_.remove(index);
+
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.CompressionCodecs other) {
+        if (other == in.xnnyygn.xraft.core.Protos.CompressionCodecs.getDefaultInstance()) return this;
+        if (!other.names_.isEmpty()) {
+          if (names_.isEmpty()) {
+            names_ = other.names_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureNamesIsMutable();
+            names_.addAll(other.names_);
+          }
           onChanged();
-        } else {
-          nodeEndpointsBuilder_.remove(index);
         }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getNodeEndpointsBuilder(
-          int index) {
-        return getNodeEndpointsFieldBuilder().getBuilder(index);
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getNodeEndpointsOrBuilder(
-          int index) {
-        if (nodeEndpointsBuilder_ == null) {
-          return nodeEndpoints_.get(index);  } else {
-          return nodeEndpointsBuilder_.getMessageOrBuilder(index);
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xraft.core.Protos.CompressionCodecs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.CompressionCodecs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
+        return this;
       }
-      /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
-       */
-      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-           getNodeEndpointsOrBuilderList() {
-        if (nodeEndpointsBuilder_ != null) {
-          return nodeEndpointsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(nodeEndpoints_);
-        }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureNamesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          names_ = new com.google.protobuf.LazyStringArrayList(names_);
+          bitField0_ |= 0x00000001;
+         }
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder() {
-        return getNodeEndpointsFieldBuilder().addBuilder(
-            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      public com.google.protobuf.ProtocolStringList
+          getNamesList() {
+        return names_.getUnmodifiableView();
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addNodeEndpointsBuilder(
-          int index) {
-        return getNodeEndpointsFieldBuilder().addBuilder(
-            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      public int getNamesCount() {
+        return names_.size();
       }
       /**
-       * <code>repeated .NodeEndpoint node_endpoints = 1;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
-           getNodeEndpointsBuilderList() {
-        return getNodeEndpointsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getNodeEndpointsFieldBuilder() {
-        if (nodeEndpointsBuilder_ == null) {
-          nodeEndpointsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  nodeEndpoints_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          nodeEndpoints_ = null;
-        }
-        return nodeEndpointsBuilder_;
+      public java.lang.String getNames(int index) {
+        return names_.get(index);
       }
-
-      private java.lang.Object nodeToRemove_ = "";
       /**
-       * <code>string node_to_remove = 2;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public java.lang.String getNodeToRemove() {
-        java.lang.Object ref = nodeToRemove_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          nodeToRemove_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public com.google.protobuf.ByteString
+          getNamesBytes(int index) {
+        return names_.getByteString(index);
       }
       /**
-       * <code>string node_to_remove = 2;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getNodeToRemoveBytes() {
-        java.lang.Object ref = nodeToRemove_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          nodeToRemove_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setNames(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>string node_to_remove = 2;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public Builder setNodeToRemove(
+      public Builder addNames(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        nodeToRemove_ = value;
+  ensureNamesIsMutable();
+        names_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>string node_to_remove = 2;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public Builder clearNodeToRemove() {
-        
-        nodeToRemove_ = getDefaultInstance().getNodeToRemove();
+      public Builder addAllNames(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureNamesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, names_);
         onChanged();
         return this;
       }
       /**
-       * <code>string node_to_remove = 2;</code>
+       * <code>repeated string names = 1;</code>
        */
-      public Builder setNodeToRemoveBytes(
+      public Builder clearNames() {
+        names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 1;</code>
+       */
+      public Builder addNamesBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        nodeToRemove_ = value;
+        ensureNamesIsMutable();
+        names_.add(value);
         onChanged();
         return this;
       }
@@ -11042,100 +16560,92 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:RemoveNodeCommand)
+      // @@protoc_insertion_point(builder_scope:CompressionCodecs)
     }
 
-    // @@protoc_insertion_point(class_scope:RemoveNodeCommand)
-    private static final in.xnnyygn.xraft.core.Protos.RemoveNodeCommand DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:CompressionCodecs)
+    private static final in.xnnyygn.xraft.core.Protos.CompressionCodecs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.RemoveNodeCommand();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.CompressionCodecs();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.RemoveNodeCommand getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.CompressionCodecs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<RemoveNodeCommand>
-        PARSER = new com.google.protobuf.AbstractParser<RemoveNodeCommand>() {
+    private static final com.google.protobuf.Parser<CompressionCodecs>
+        PARSER = new com.google.protobuf.AbstractParser<CompressionCodecs>() {
       @java.lang.Override
-      public RemoveNodeCommand parsePartialFrom(
+      public CompressionCodecs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RemoveNodeCommand(input, extensionRegistry);
+        return new CompressionCodecs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<RemoveNodeCommand> parser() {
+    public static com.google.protobuf.Parser<CompressionCodecs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RemoveNodeCommand> getParserForType() {
+    public com.google.protobuf.Parser<CompressionCodecs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.RemoveNodeCommand getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.CompressionCodecs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface SnapshotHeaderOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:SnapshotHeader)
+  public interface CompressedMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CompressedMessage)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 last_index = 1;</code>
-     */
-    int getLastIndex();
-
-    /**
-     * <code>int32 last_term = 2;</code>
+     * <code>int32 message_type = 1;</code>
      */
-    int getLastTerm();
+    int getMessageType();
 
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
-     */
-    java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> 
-        getLastConfigList();
-    /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>string codec = 2;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index);
+    java.lang.String getCodec();
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>string codec = 2;</code>
      */
-    int getLastConfigCount();
+    com.google.protobuf.ByteString
+        getCodecBytes();
+
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>int32 original_length = 3;</code>
      */
-    java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getLastConfigOrBuilderList();
+    int getOriginalLength();
+
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>bytes data = 4;</code>
      */
-    in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
-        int index);
+    com.google.protobuf.ByteString getData();
   }
   /**
-   * Protobuf type {@code SnapshotHeader}
+   * Protobuf type {@code CompressedMessage}
    */
-  public  static final class SnapshotHeader extends
+  public  static final class CompressedMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:SnapshotHeader)
-      SnapshotHeaderOrBuilder {
+      // @@protoc_insertion_point(message_implements:CompressedMessage)
+      CompressedMessageOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use SnapshotHeader.newBuilder() to construct.
-    private SnapshotHeader(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use CompressedMessage.newBuilder() to construct.
+    private CompressedMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private SnapshotHeader() {
-      lastIndex_ = 0;
-      lastTerm_ = 0;
-      lastConfig_ = java.util.Collections.emptyList();
+    private CompressedMessage() {
+      messageType_ = 0;
+      codec_ = "";
+      originalLength_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -11143,7 +16653,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private SnapshotHeader(
+    private CompressedMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11164,21 +16674,23 @@ public final class Protos {
               break;
             case 8: {
 
-              lastIndex_ = input.readInt32();
+              messageType_ = input.readInt32();
               break;
             }
-            case 16: {
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              lastTerm_ = input.readInt32();
+              codec_ = s;
               break;
             }
-            case 26: {
-              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>();
-                mutable_bitField0_ |= 0x00000004;
-              }
-              lastConfig_.add(
-                  input.readMessage(in.xnnyygn.xraft.core.Protos.NodeEndpoint.parser(), extensionRegistry));
+            case 24: {
+
+              originalLength_ = input.readInt32();
+              break;
+            }
+            case 34: {
+
+              data_ = input.readBytes();
               break;
             }
             default: {
@@ -11196,78 +16708,82 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_descriptor;
+      return in.xnnyygn.xraft.core.Protos.internal_static_CompressedMessage_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_fieldAccessorTable
+      return in.xnnyygn.xraft.core.Protos.internal_static_CompressedMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xraft.core.Protos.SnapshotHeader.class, in.xnnyygn.xraft.core.Protos.SnapshotHeader.Builder.class);
-    }
-
-    private int bitField0_;
-    public static final int LAST_INDEX_FIELD_NUMBER = 1;
-    private int lastIndex_;
-    /**
-     * <code>int32 last_index = 1;</code>
-     */
-    public int getLastIndex() {
-      return lastIndex_;
+              in.xnnyygn.xraft.core.Protos.CompressedMessage.class, in.xnnyygn.xraft.core.Protos.CompressedMessage.Builder.class);
     }
 
-    public static final int LAST_TERM_FIELD_NUMBER = 2;
-    private int lastTerm_;
+    public static final int MESSAGE_TYPE_FIELD_NUMBER = 1;
+    private int messageType_;
     /**
-     * <code>int32 last_term = 2;</code>
+     * <code>int32 message_type = 1;</code>
      */
-    public int getLastTerm() {
-      return lastTerm_;
+    public int getMessageType() {
+      return messageType_;
     }
 
-    public static final int LAST_CONFIG_FIELD_NUMBER = 3;
-    private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_;
-    /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
-     */
-    public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
-      return lastConfig_;
-    }
+    public static final int CODEC_FIELD_NUMBER = 2;
+    private volatile java.lang.Object codec_;
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>string codec = 2;</code>
      */
-    public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-        getLastConfigOrBuilderList() {
-      return lastConfig_;
+    public java.lang.String getCodec() {
+      java.lang.Object ref = codec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        codec_ = s;
+        return s;
+      }
     }
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>string codec = 2;</code>
      */
-    public int getLastConfigCount() {
-      return lastConfig_.size();
+    public com.google.protobuf.ByteString
+        getCodecBytes() {
+      java.lang.Object ref = codec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        codec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int ORIGINAL_LENGTH_FIELD_NUMBER = 3;
+    private int originalLength_;
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>int32 original_length = 3;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
-      return lastConfig_.get(index);
+    public int getOriginalLength() {
+      return originalLength_;
     }
+
+    public static final int DATA_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString data_;
     /**
-     * <code>repeated .NodeEndpoint last_config = 3;</code>
+     * <code>bytes data = 4;</code>
      */
-    public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
-        int index) {
-      return lastConfig_.get(index);
+    public com.google.protobuf.ByteString getData() {
+      return data_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -11284,14 +16800,17 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (lastIndex_ != 0) {
-        output.writeInt32(1, lastIndex_);
+      if (messageType_ != 0) {
+        output.writeInt32(1, messageType_);
       }
-      if (lastTerm_ != 0) {
-        output.writeInt32(2, lastTerm_);
+      if (!getCodecBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, codec_);
       }
-      for (int i = 0; i < lastConfig_.size(); i++) {
-        output.writeMessage(3, lastConfig_.get(i));
+      if (originalLength_ != 0) {
+        output.writeInt32(3, originalLength_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(4, data_);
       }
       unknownFields.writeTo(output);
     }
@@ -11302,17 +16821,20 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (lastIndex_ != 0) {
+      if (messageType_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, lastIndex_);
+          .computeInt32Size(1, messageType_);
       }
-      if (lastTerm_ != 0) {
+      if (!getCodecBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, codec_);
+      }
+      if (originalLength_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, lastTerm_);
+          .computeInt32Size(3, originalLength_);
       }
-      for (int i = 0; i < lastConfig_.size(); i++) {
+      if (!data_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, lastConfig_.get(i));
+          .computeBytesSize(4, data_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -11324,18 +16846,20 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.SnapshotHeader)) {
+      if (!(obj instanceof in.xnnyygn.xraft.core.Protos.CompressedMessage)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xraft.core.Protos.SnapshotHeader other = (in.xnnyygn.xraft.core.Protos.SnapshotHeader) obj;
+      in.xnnyygn.xraft.core.Protos.CompressedMessage other = (in.xnnyygn.xraft.core.Protos.CompressedMessage) obj;
 
       boolean result = true;
-      result = result && (getLastIndex()
-          == other.getLastIndex());
-      result = result && (getLastTerm()
-          == other.getLastTerm());
-      result = result && getLastConfigList()
-          .equals(other.getLastConfigList());
+      result = result && (getMessageType()
+          == other.getMessageType());
+      result = result && getCodec()
+          .equals(other.getCodec());
+      result = result && (getOriginalLength()
+          == other.getOriginalLength());
+      result = result && getData()
+          .equals(other.getData());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -11347,82 +16871,82 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + LAST_INDEX_FIELD_NUMBER;
-      hash = (53 * hash) + getLastIndex();
-      hash = (37 * hash) + LAST_TERM_FIELD_NUMBER;
-      hash = (53 * hash) + getLastTerm();
-      if (getLastConfigCount() > 0) {
-        hash = (37 * hash) + LAST_CONFIG_FIELD_NUMBER;
-        hash = (53 * hash) + getLastConfigList().hashCode();
-      }
+      hash = (37 * hash) + MESSAGE_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessageType();
+      hash = (37 * hash) + CODEC_FIELD_NUMBER;
+      hash = (53 * hash) + getCodec().hashCode();
+      hash = (37 * hash) + ORIGINAL_LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getOriginalLength();
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(byte[] data)
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseDelimitedFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader parseFrom(
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11435,7 +16959,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.SnapshotHeader prototype) {
+    public static Builder newBuilder(in.xnnyygn.xraft.core.Protos.CompressedMessage prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -11451,26 +16975,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code SnapshotHeader}
+     * Protobuf type {@code CompressedMessage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:SnapshotHeader)
-        in.xnnyygn.xraft.core.Protos.SnapshotHeaderOrBuilder {
+        // @@protoc_insertion_point(builder_implements:CompressedMessage)
+        in.xnnyygn.xraft.core.Protos.CompressedMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_CompressedMessage_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_fieldAccessorTable
+        return in.xnnyygn.xraft.core.Protos.internal_static_CompressedMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xraft.core.Protos.SnapshotHeader.class, in.xnnyygn.xraft.core.Protos.SnapshotHeader.Builder.class);
+                in.xnnyygn.xraft.core.Protos.CompressedMessage.class, in.xnnyygn.xraft.core.Protos.CompressedMessage.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xraft.core.Protos.SnapshotHeader.newBuilder()
+      // Construct using in.xnnyygn.xraft.core.Protos.CompressedMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11483,39 +17007,36 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getLastConfigFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        lastIndex_ = 0;
+        messageType_ = 0;
 
-        lastTerm_ = 0;
+        codec_ = "";
+
+        originalLength_ = 0;
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
 
-        if (lastConfigBuilder_ == null) {
-          lastConfig_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-        } else {
-          lastConfigBuilder_.clear();
-        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xraft.core.Protos.internal_static_SnapshotHeader_descriptor;
+        return in.xnnyygn.xraft.core.Protos.internal_static_CompressedMessage_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.SnapshotHeader getDefaultInstanceForType() {
-        return in.xnnyygn.xraft.core.Protos.SnapshotHeader.getDefaultInstance();
+      public in.xnnyygn.xraft.core.Protos.CompressedMessage getDefaultInstanceForType() {
+        return in.xnnyygn.xraft.core.Protos.CompressedMessage.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.SnapshotHeader build() {
-        in.xnnyygn.xraft.core.Protos.SnapshotHeader result = buildPartial();
+      public in.xnnyygn.xraft.core.Protos.CompressedMessage build() {
+        in.xnnyygn.xraft.core.Protos.CompressedMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -11523,22 +17044,12 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xraft.core.Protos.SnapshotHeader buildPartial() {
-        in.xnnyygn.xraft.core.Protos.SnapshotHeader result = new in.xnnyygn.xraft.core.Protos.SnapshotHeader(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        result.lastIndex_ = lastIndex_;
-        result.lastTerm_ = lastTerm_;
-        if (lastConfigBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004)) {
-            lastConfig_ = java.util.Collections.unmodifiableList(lastConfig_);
-            bitField0_ = (bitField0_ & ~0x00000004);
-          }
-          result.lastConfig_ = lastConfig_;
-        } else {
-          result.lastConfig_ = lastConfigBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
+      public in.xnnyygn.xraft.core.Protos.CompressedMessage buildPartial() {
+        in.xnnyygn.xraft.core.Protos.CompressedMessage result = new in.xnnyygn.xraft.core.Protos.CompressedMessage(this);
+        result.messageType_ = messageType_;
+        result.codec_ = codec_;
+        result.originalLength_ = originalLength_;
+        result.data_ = data_;
         onBuilt();
         return result;
       }
@@ -11577,47 +17088,28 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xraft.core.Protos.SnapshotHeader) {
-          return mergeFrom((in.xnnyygn.xraft.core.Protos.SnapshotHeader)other);
+        if (other instanceof in.xnnyygn.xraft.core.Protos.CompressedMessage) {
+          return mergeFrom((in.xnnyygn.xraft.core.Protos.CompressedMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.SnapshotHeader other) {
-        if (other == in.xnnyygn.xraft.core.Protos.SnapshotHeader.getDefaultInstance()) return this;
-        if (other.getLastIndex() != 0) {
-          setLastIndex(other.getLastIndex());
+      public Builder mergeFrom(in.xnnyygn.xraft.core.Protos.CompressedMessage other) {
+        if (other == in.xnnyygn.xraft.core.Protos.CompressedMessage.getDefaultInstance()) return this;
+        if (other.getMessageType() != 0) {
+          setMessageType(other.getMessageType());
         }
-        if (other.getLastTerm() != 0) {
-          setLastTerm(other.getLastTerm());
+        if (!other.getCodec().isEmpty()) {
+          codec_ = other.codec_;
+          onChanged();
         }
-        if (lastConfigBuilder_ == null) {
-          if (!other.lastConfig_.isEmpty()) {
-            if (lastConfig_.isEmpty()) {
-              lastConfig_ = other.lastConfig_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-            } else {
-              ensureLastConfigIsMutable();
-              lastConfig_.addAll(other.lastConfig_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.lastConfig_.isEmpty()) {
-            if (lastConfigBuilder_.isEmpty()) {
-              lastConfigBuilder_.dispose();
-              lastConfigBuilder_ = null;
-              lastConfig_ = other.lastConfig_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-              lastConfigBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getLastConfigFieldBuilder() : null;
-            } else {
-              lastConfigBuilder_.addAllMessages(other.lastConfig_);
-            }
-          }
+        if (other.getOriginalLength() != 0) {
+          setOriginalLength(other.getOriginalLength());
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -11634,11 +17126,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xraft.core.Protos.SnapshotHeader parsedMessage = null;
+        in.xnnyygn.xraft.core.Protos.CompressedMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xraft.core.Protos.SnapshotHeader) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xraft.core.Protos.CompressedMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -11647,298 +17139,155 @@ public final class Protos {
         }
         return this;
       }
-      private int bitField0_;
-
-      private int lastIndex_ ;
-      /**
-       * <code>int32 last_index = 1;</code>
-       */
-      public int getLastIndex() {
-        return lastIndex_;
-      }
-      /**
-       * <code>int32 last_index = 1;</code>
-       */
-      public Builder setLastIndex(int value) {
-        
-        lastIndex_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 last_index = 1;</code>
-       */
-      public Builder clearLastIndex() {
-        
-        lastIndex_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private int lastTerm_ ;
-      /**
-       * <code>int32 last_term = 2;</code>
-       */
-      public int getLastTerm() {
-        return lastTerm_;
-      }
-      /**
-       * <code>int32 last_term = 2;</code>
-       */
-      public Builder setLastTerm(int value) {
-        
-        lastTerm_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 last_term = 2;</code>
-       */
-      public Builder clearLastTerm() {
-        
-        lastTerm_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> lastConfig_ =
-        java.util.Collections.emptyList();
-      private void ensureLastConfigIsMutable() {
-        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
-          lastConfig_ = new java.util.ArrayList<in.xnnyygn.xraft.core.Protos.NodeEndpoint>(lastConfig_);
-          bitField0_ |= 0x00000004;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> lastConfigBuilder_;
-
-      /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
-       */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint> getLastConfigList() {
-        if (lastConfigBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(lastConfig_);
-        } else {
-          return lastConfigBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
-       */
-      public int getLastConfigCount() {
-        if (lastConfigBuilder_ == null) {
-          return lastConfig_.size();
-        } else {
-          return lastConfigBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
-       */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint getLastConfig(int index) {
-        if (lastConfigBuilder_ == null) {
-          return lastConfig_.get(index);
-        } else {
-          return lastConfigBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
-       */
-      public Builder setLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (lastConfigBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLastConfigIsMutable();
-          lastConfig_.set(index, value);
-          onChanged();
-        } else {
-          lastConfigBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
+
+      private int messageType_ ;
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>int32 message_type = 1;</code>
        */
-      public Builder setLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          lastConfigBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public int getMessageType() {
+        return messageType_;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>int32 message_type = 1;</code>
        */
-      public Builder addLastConfig(in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (lastConfigBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLastConfigIsMutable();
-          lastConfig_.add(value);
-          onChanged();
-        } else {
-          lastConfigBuilder_.addMessage(value);
-        }
+      public Builder setMessageType(int value) {
+        
+        messageType_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>int32 message_type = 1;</code>
        */
-      public Builder addLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint value) {
-        if (lastConfigBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLastConfigIsMutable();
-          lastConfig_.add(index, value);
-          onChanged();
-        } else {
-          lastConfigBuilder_.addMessage(index, value);
-        }
+      public Builder clearMessageType() {
+        
+        messageType_ = 0;
+        onChanged();
         return this;
       }
+
+      private java.lang.Object codec_ = "";
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>string codec = 2;</code>
        */
-      public Builder addLastConfig(
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.add(builderForValue.build());
-          onChanged();
+      public java.lang.String getCodec() {
+        java.lang.Object ref = codec_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          codec_ = s;
+          return s;
         } else {
-          lastConfigBuilder_.addMessage(builderForValue.build());
+          return (java.lang.String) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>string codec = 2;</code>
        */
-      public Builder addLastConfig(
-          int index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder builderForValue) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.add(index, builderForValue.build());
-          onChanged();
+      public com.google.protobuf.ByteString
+          getCodecBytes() {
+        java.lang.Object ref = codec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          codec_ = b;
+          return b;
         } else {
-          lastConfigBuilder_.addMessage(index, builderForValue.build());
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>string codec = 2;</code>
        */
-      public Builder addAllLastConfig(
-          java.lang.Iterable<? extends in.xnnyygn.xraft.core.Protos.NodeEndpoint> values) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, lastConfig_);
-          onChanged();
-        } else {
-          lastConfigBuilder_.addAllMessages(values);
-        }
+      public Builder setCodec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        codec_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>string codec = 2;</code>
        */
-      public Builder clearLastConfig() {
-        if (lastConfigBuilder_ == null) {
-          lastConfig_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-          onChanged();
-        } else {
-          lastConfigBuilder_.clear();
-        }
+      public Builder clearCodec() {
+        
+        codec_ = getDefaultInstance().getCodec();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>string codec = 2;</code>
        */
-      public Builder removeLastConfig(int index) {
-        if (lastConfigBuilder_ == null) {
-          ensureLastConfigIsMutable();
-          lastConfig_.remove(index);
-          onChanged();
-        } else {
-          lastConfigBuilder_.remove(index);
-        }
+      public Builder setCodecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        codec_ = value;
+        onChanged();
         return this;
       }
+
+      private int originalLength_ ;
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>int32 original_length = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder getLastConfigBuilder(
-          int index) {
-        return getLastConfigFieldBuilder().getBuilder(index);
+      public int getOriginalLength() {
+        return originalLength_;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>int32 original_length = 3;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder getLastConfigOrBuilder(
-          int index) {
-        if (lastConfigBuilder_ == null) {
-          return lastConfig_.get(index);  } else {
-          return lastConfigBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder setOriginalLength(int value) {
+        
+        originalLength_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>int32 original_length = 3;</code>
        */
-      public java.util.List<? extends in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-           getLastConfigOrBuilderList() {
-        if (lastConfigBuilder_ != null) {
-          return lastConfigBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(lastConfig_);
-        }
+      public Builder clearOriginalLength() {
+        
+        originalLength_ = 0;
+        onChanged();
+        return this;
       }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>bytes data = 4;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder() {
-        return getLastConfigFieldBuilder().addBuilder(
-            in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      public com.google.protobuf.ByteString getData() {
+        return data_;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>bytes data = 4;</code>
        */
-      public in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder addLastConfigBuilder(
-          int index) {
-        return getLastConfigFieldBuilder().addBuilder(
-            index, in.xnnyygn.xraft.core.Protos.NodeEndpoint.getDefaultInstance());
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .NodeEndpoint last_config = 3;</code>
+       * <code>bytes data = 4;</code>
        */
-      public java.util.List<in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder> 
-           getLastConfigBuilderList() {
-        return getLastConfigFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder> 
-          getLastConfigFieldBuilder() {
-        if (lastConfigBuilder_ == null) {
-          lastConfigBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              in.xnnyygn.xraft.core.Protos.NodeEndpoint, in.xnnyygn.xraft.core.Protos.NodeEndpoint.Builder, in.xnnyygn.xraft.core.Protos.NodeEndpointOrBuilder>(
-                  lastConfig_,
-                  ((bitField0_ & 0x00000004) == 0x00000004),
-                  getParentForChildren(),
-                  isClean());
-          lastConfig_ = null;
-        }
-        return lastConfigBuilder_;
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -11953,41 +17302,41 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:SnapshotHeader)
+      // @@protoc_insertion_point(builder_scope:CompressedMessage)
     }
 
-    // @@protoc_insertion_point(class_scope:SnapshotHeader)
-    private static final in.xnnyygn.xraft.core.Protos.SnapshotHeader DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:CompressedMessage)
+    private static final in.xnnyygn.xraft.core.Protos.CompressedMessage DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.SnapshotHeader();
+      DEFAULT_INSTANCE = new in.xnnyygn.xraft.core.Protos.CompressedMessage();
     }
 
-    public static in.xnnyygn.xraft.core.Protos.SnapshotHeader getDefaultInstance() {
+    public static in.xnnyygn.xraft.core.Protos.CompressedMessage getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<SnapshotHeader>
-        PARSER = new com.google.protobuf.AbstractParser<SnapshotHeader>() {
+    private static final com.google.protobuf.Parser<CompressedMessage>
+        PARSER = new com.google.protobuf.AbstractParser<CompressedMessage>() {
       @java.lang.Override
-      public SnapshotHeader parsePartialFrom(
+      public CompressedMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new SnapshotHeader(input, extensionRegistry);
+        return new CompressedMessage(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<SnapshotHeader> parser() {
+    public static com.google.protobuf.Parser<CompressedMessage> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<SnapshotHeader> getParserForType() {
+    public com.google.protobuf.Parser<CompressedMessage> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xraft.core.Protos.SnapshotHeader getDefaultInstanceForType() {
+    public in.xnnyygn.xraft.core.Protos.CompressedMessage getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -12008,6 +17357,21 @@ public final class Protos {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_RequestVoteResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PreVoteRpc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PreVoteRpc_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PreVoteResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PreVoteResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TimeoutNowRpc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TimeoutNowRpc_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_AppendEntriesRpc_descriptor;
   private static final 
@@ -12033,6 +17397,16 @@ public final class Protos {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_InstallSnapshotResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransferSnapshotRpc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransferSnapshotRpc_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransferSnapshotResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransferSnapshotResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_AddServerRpc_descriptor;
   private static final 
@@ -12068,6 +17442,16 @@ public final class Protos {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_SnapshotHeader_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CompressionCodecs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CompressionCodecs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CompressedMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CompressedMessage_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -12077,41 +17461,57 @@ public final class Protos {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\037xraft-core/src/proto/core.proto\"6\n\014Nod" +
+      "\n\037xraft-core/src/proto/core.proto\"G\n\014Nod" +
       "eEndpoint\022\n\n\002id\030\001 \001(\t\022\014\n\004host\030\002 \001(\t\022\014\n\004p" +
-      "ort\030\003 \001(\005\"c\n\016RequestVoteRpc\022\014\n\004term\030\001 \001(" +
-      "\005\022\024\n\014candidate_id\030\002 \001(\t\022\026\n\016last_log_inde" +
-      "x\030\003 \001(\005\022\025\n\rlast_log_term\030\004 \001(\005\"7\n\021Reques" +
-      "tVoteResult\022\014\n\004term\030\001 \001(\005\022\024\n\014vote_grante" +
-      "d\030\002 \001(\010\"\374\001\n\020AppendEntriesRpc\022\022\n\nmessage_" +
-      "id\030\001 \001(\t\022\014\n\004term\030\002 \001(\005\022\021\n\tleader_id\030\003 \001(" +
-      "\t\022\026\n\016prev_log_index\030\004 \001(\005\022\025\n\rprev_log_te" +
-      "rm\030\005 \001(\005\022\025\n\rleader_commit\030\006 \001(\005\022(\n\007entri" +
-      "es\030\007 \003(\0132\027.AppendEntriesRpc.Entry\032C\n\005Ent" +
-      "ry\022\014\n\004kind\030\001 \001(\005\022\r\n\005index\030\002 \001(\005\022\014\n\004term\030" +
-      "\003 \001(\005\022\017\n\007command\030\004 \001(\014\"L\n\023AppendEntriesR" +
-      "esult\022\026\n\016rpc_message_id\030\001 \001(\t\022\014\n\004term\030\002 " +
-      "\001(\005\022\017\n\007success\030\003 \001(\010\"\254\001\n\022InstallSnapshot" +
-      "Rpc\022\014\n\004term\030\001 \001(\005\022\021\n\tleader_id\030\002 \001(\t\022\022\n\n" +
-      "last_index\030\003 \001(\005\022\021\n\tlast_term\030\004 \001(\005\022\"\n\013l" +
-      "ast_config\030\005 \003(\0132\r.NodeEndpoint\022\016\n\006offse" +
-      "t\030\006 \001(\005\022\014\n\004data\030\007 \001(\014\022\014\n\004done\030\010 \001(\010\"%\n\025I" +
-      "nstallSnapshotResult\022\014\n\004term\030\001 \001(\005\"1\n\014Ad" +
-      "dServerRpc\022!\n\nnew_server\030\001 \001(\0132\r.NodeEnd" +
-      "point\"E\n\017AddServerResult\022\016\n\006status\030\001 \001(\t" +
-      "\022\"\n\013leader_hint\030\002 \001(\0132\r.NodeEndpoint\"4\n\017" +
-      "RemoveServerRpc\022!\n\nold_server\030\001 \001(\0132\r.No" +
-      "deEndpoint\"H\n\022RemoveServerResult\022\016\n\006stat" +
-      "us\030\001 \001(\t\022\"\n\013leader_hint\030\002 \001(\0132\r.NodeEndp" +
-      "oint\"a\n\016AddNodeCommand\022%\n\016node_endpoints" +
-      "\030\001 \003(\0132\r.NodeEndpoint\022(\n\021new_node_endpoi" +
-      "nt\030\002 \001(\0132\r.NodeEndpoint\"R\n\021RemoveNodeCom" +
-      "mand\022%\n\016node_endpoints\030\001 \003(\0132\r.NodeEndpo" +
-      "int\022\026\n\016node_to_remove\030\002 \001(\t\"[\n\016SnapshotH" +
-      "eader\022\022\n\nlast_index\030\001 \001(\005\022\021\n\tlast_term\030\002" +
-      " \001(\005\022\"\n\013last_config\030\003 \003(\0132\r.NodeEndpoint" +
-      "B\037\n\025in.xnnyygn.xraft.coreB\006Protosb\006proto" +
-      "3"
+      "ort\030\003 \001(\005\022\017\n\007learner\030\004 \001(\010\"c\n\016RequestVot" +
+      "eRpc\022\014\n\004term\030\001 \001(\005\022\024\n\014candidate_id\030\002 \001(\t" +
+      "\022\026\n\016last_log_index\030\003 \001(\005\022\025\n\rlast_log_ter" +
+      "m\030\004 \001(\005\"7\n\021RequestVoteResult\022\014\n\004term\030\001 \001" +
+      "(\005\022\024\n\014vote_granted\030\002 \001(\010\"_\n\nPreVoteRpc\022\014" +
+      "\n\004term\030\001 \001(\005\022\024\n\014candidate_id\030\002 \001(\t\022\026\n\016la" +
+      "st_log_index\030\003 \001(\005\022\025\n\rlast_log_term\030\004 \001(" +
+      "\005\"3\n\rPreVoteResult\022\014\n\004term\030\001 \001(\005\022\024\n\014vote" +
+      "_granted\030\002 \001(\010\"0\n\rTimeoutNowRpc\022\014\n\004term\030" +
+      "\001 \001(\005\022\021\n\tleader_id\030\002 \001(\t\"\225\002\n\020AppendEntri" +
+      "esRpc\022\026\n\nmessage_id\030\001 \001(\tB\002\030\001\022\014\n\004term\030\002 " +
+      "\001(\005\022\021\n\tleader_id\030\003 \001(\t\022\026\n\016prev_log_index" +
+      "\030\004 \001(\005\022\025\n\rprev_log_term\030\005 \001(\005\022\025\n\rleader_" +
+      "commit\030\006 \001(\005\022(\n\007entries\030\007 \003(\0132\027.AppendEn" +
+      "triesRpc.Entry\022\023\n\013sequence_id\030\010 \001(\004\032C\n\005E" +
+      "ntry\022\014\n\004kind\030\001 \001(\005\022\r\n\005index\030\002 \001(\005\022\014\n\004ter" +
+      "m\030\003 \001(\005\022\017\n\007command\030\004 \001(\014\"i\n\023AppendEntrie" +
+      "sResult\022\032\n\016rpc_message_id\030\001 \001(\tB\002\030\001\022\014\n\004t" +
+      "erm\030\002 \001(\005\022\017\n\007success\030\003 \001(\010\022\027\n\017rpc_sequen" +
+      "ce_id\030\004 \001(\004\"\300\001\n\022InstallSnapshotRpc\022\014\n\004te" +
+      "rm\030\001 \001(\005\022\021\n\tleader_id\030\002 \001(\t\022\022\n\nlast_inde" +
+      "x\030\003 \001(\005\022\021\n\tlast_term\030\004 \001(\005\022\"\n\013last_confi" +
+      "g\030\005 \003(\0132\r.NodeEndpoint\022\016\n\006offset\030\006 \001(\005\022\014" +
+      "\n\004data\030\007 \001(\014\022\014\n\004done\030\010 \001(\010\022\022\n\nbase_index" +
+      "\030\t \001(\005\"=\n\025InstallSnapshotResult\022\014\n\004term\030" +
+      "\001 \001(\005\022\026\n\016snapshot_index\030\002 \001(\005\"m\n\023Transfe" +
+      "rSnapshotRpc\022\014\n\004term\030\001 \001(\005\022\021\n\tleader_id\030" +
+      "\002 \001(\t\022\035\n\006target\030\003 \001(\0132\r.NodeEndpoint\022\026\n\016" +
+      "min_last_index\030\004 \001(\005\"^\n\026TransferSnapshot" +
+      "Result\022\014\n\004term\030\001 \001(\005\022\021\n\ttarget_id\030\002 \001(\t\022" +
+      "\022\n\nlast_index\030\003 \001(\005\022\017\n\007success\030\004 \001(\010\"1\n\014" +
+      "AddServerRpc\022!\n\nnew_server\030\001 \001(\0132\r.NodeE" +
+      "ndpoint\"E\n\017AddServerResult\022\016\n\006status\030\001 \001" +
+      "(\t\022\"\n\013leader_hint\030\002 \001(\0132\r.NodeEndpoint\"4" +
+      "\n\017RemoveServerRpc\022!\n\nold_server\030\001 \001(\0132\r." +
+      "NodeEndpoint\"H\n\022RemoveServerResult\022\016\n\006st" +
+      "atus\030\001 \001(\t\022\"\n\013leader_hint\030\002 \001(\0132\r.NodeEn" +
+      "dpoint\"a\n\016AddNodeCommand\022%\n\016node_endpoin" +
+      "ts\030\001 \003(\0132\r.NodeEndpoint\022(\n\021new_node_endp" +
+      "oint\030\002 \001(\0132\r.NodeEndpoint\"R\n\021RemoveNodeC" +
+      "ommand\022%\n\016node_endpoints\030\001 \003(\0132\r.NodeEnd" +
+      "point\022\026\n\016node_to_remove\030\002 \001(\t\"o\n\016Snapsho" +
+      "tHeader\022\022\n\nlast_index\030\001 \001(\005\022\021\n\tlast_term" +
+      "\030\002 \001(\005\022\"\n\013last_config\030\003 \003(\0132\r.NodeEndpoi" +
+      "nt\022\022\n\nbase_index\030\004 \001(\005\"\"\n\021CompressionCod" +
+      "ecs\022\r\n\005names\030\001 \003(\t\"_\n\021CompressedMessage\022" +
+      "\024\n\014message_type\030\001 \001(\005\022\r\n\005codec\030\002 \001(\t\022\027\n\017" +
+      "original_length\030\003 \001(\005\022\014\n\004data\030\004 \001(\014B\037\n\025i" +
+      "n.xnnyygn.xraft.coreB\006Protosb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -12130,7 +17530,7 @@ public final class Protos {
     internal_static_NodeEndpoint_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_NodeEndpoint_descriptor,
-        new java.lang.String[] { "Id", "Host", "Port", });
+        new java.lang.String[] { "Id", "Host", "Port", "Learner", });
     internal_static_RequestVoteRpc_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_RequestVoteRpc_fieldAccessorTable = new
@@ -12143,12 +17543,30 @@ public final class Protos {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_RequestVoteResult_descriptor,
         new java.lang.String[] { "Term", "VoteGranted", });
-    internal_static_AppendEntriesRpc_descriptor =
+    internal_static_PreVoteRpc_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_PreVoteRpc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PreVoteRpc_descriptor,
+        new java.lang.String[] { "Term", "CandidateId", "LastLogIndex", "LastLogTerm", });
+    internal_static_PreVoteResult_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_PreVoteResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PreVoteResult_descriptor,
+        new java.lang.String[] { "Term", "VoteGranted", });
+    internal_static_TimeoutNowRpc_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_TimeoutNowRpc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TimeoutNowRpc_descriptor,
+        new java.lang.String[] { "Term", "LeaderId", });
+    internal_static_AppendEntriesRpc_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_AppendEntriesRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AppendEntriesRpc_descriptor,
-        new java.lang.String[] { "MessageId", "Term", "LeaderId", "PrevLogIndex", "PrevLogTerm", "LeaderCommit", "Entries", });
+        new java.lang.String[] { "MessageId", "Term", "LeaderId", "PrevLogIndex", "PrevLogTerm", "LeaderCommit", "Entries", "SequenceId", });
     internal_static_AppendEntriesRpc_Entry_descriptor =
       internal_static_AppendEntriesRpc_descriptor.getNestedTypes().get(0);
     internal_static_AppendEntriesRpc_Entry_fieldAccessorTable = new
@@ -12156,65 +17574,89 @@ public final class Protos {
         internal_static_AppendEntriesRpc_Entry_descriptor,
         new java.lang.String[] { "Kind", "Index", "Term", "Command", });
     internal_static_AppendEntriesResult_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_AppendEntriesResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AppendEntriesResult_descriptor,
-        new java.lang.String[] { "RpcMessageId", "Term", "Success", });
+        new java.lang.String[] { "RpcMessageId", "Term", "Success", "RpcSequenceId", });
     internal_static_InstallSnapshotRpc_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_InstallSnapshotRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_InstallSnapshotRpc_descriptor,
-        new java.lang.String[] { "Term", "LeaderId", "LastIndex", "LastTerm", "LastConfig", "Offset", "Data", "Done", });
+        new java.lang.String[] { "Term", "LeaderId", "LastIndex", "LastTerm", "LastConfig", "Offset", "Data", "Done", "BaseIndex", });
     internal_static_InstallSnapshotResult_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_InstallSnapshotResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_InstallSnapshotResult_descriptor,
-        new java.lang.String[] { "Term", });
+        new java.lang.String[] { "Term", "SnapshotIndex", });
+    internal_static_TransferSnapshotRpc_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_TransferSnapshotRpc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransferSnapshotRpc_descriptor,
+        new java.lang.String[] { "Term", "LeaderId", "Target", "MinLastIndex", });
+    internal_static_TransferSnapshotResult_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_TransferSnapshotResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransferSnapshotResult_descriptor,
+        new java.lang.String[] { "Term", "TargetId", "LastIndex", "Success", });
     internal_static_AddServerRpc_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_AddServerRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AddServerRpc_descriptor,
         new java.lang.String[] { "NewServer", });
     internal_static_AddServerResult_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_AddServerResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AddServerResult_descriptor,
         new java.lang.String[] { "Status", "LeaderHint", });
     internal_static_RemoveServerRpc_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_RemoveServerRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_RemoveServerRpc_descriptor,
         new java.lang.String[] { "OldServer", });
     internal_static_RemoveServerResult_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_RemoveServerResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_RemoveServerResult_descriptor,
         new java.lang.String[] { "Status", "LeaderHint", });
     internal_static_AddNodeCommand_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_AddNodeCommand_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AddNodeCommand_descriptor,
         new java.lang.String[] { "NodeEndpoints", "NewNodeEndpoint", });
     internal_static_RemoveNodeCommand_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_RemoveNodeCommand_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_RemoveNodeCommand_descriptor,
         new java.lang.String[] { "NodeEndpoints", "NodeToRemove", });
     internal_static_SnapshotHeader_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_SnapshotHeader_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SnapshotHeader_descriptor,
-        new java.lang.String[] { "LastIndex", "LastTerm", "LastConfig", });
+        new java.lang.String[] { "LastIndex", "LastTerm", "LastConfig", "BaseIndex", });
+    internal_static_CompressionCodecs_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_CompressionCodecs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CompressionCodecs_descriptor,
+        new java.lang.String[] { "Names", });
+    internal_static_CompressedMessage_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_CompressedMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CompressedMessage_descriptor,
+        new java.lang.String[] { "MessageType", "Codec", "OriginalLength", "Data", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
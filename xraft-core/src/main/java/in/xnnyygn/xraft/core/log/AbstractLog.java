@@ -1,14 +1,20 @@
 package in.xnnyygn.xraft.core.log;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.log.entry.*;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryBatchRemovedEvent;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryCommittedEvent;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryFromLeaderAppendEvent;
+import in.xnnyygn.xraft.core.log.event.LogEventListener;
+import in.xnnyygn.xraft.core.log.event.SnapshotConsolidatedEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotDataDrainedEvent;
 import in.xnnyygn.xraft.core.log.event.SnapshotGenerateEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotInstalledEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotRestoreAbortedEvent;
 import in.xnnyygn.xraft.core.log.sequence.EntrySequence;
 import in.xnnyygn.xraft.core.log.sequence.GroupConfigEntryList;
 import in.xnnyygn.xraft.core.log.snapshot.*;
+import in.xnnyygn.xraft.core.log.statemachine.CheckpointStateMachine;
+import in.xnnyygn.xraft.core.log.statemachine.DeltaStateMachine;
 import in.xnnyygn.xraft.core.log.statemachine.EmptyStateMachine;
 import in.xnnyygn.xraft.core.log.statemachine.StateMachine;
 import in.xnnyygn.xraft.core.log.statemachine.StateMachineContext;
@@ -16,29 +22,49 @@ import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpc;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotRpc;
+import in.xnnyygn.xraft.core.support.PipedChunkInputStream;
+import in.xnnyygn.xraft.core.support.SingleThreadTaskExecutor;
+import in.xnnyygn.xraft.core.support.TaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 abstract class AbstractLog implements Log {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractLog.class);
+    // bytes of chunks queued for restoring before reply of chunk is paused
+    private static final int SNAPSHOT_RESTORE_BUFFER_SIZE = 4 * 1024 * 1024;
 
-    protected final EventBus eventBus;
+    protected final LogEventListener eventListener;
     protected Snapshot snapshot;
-    protected EntrySequence entrySequence;
+    // volatile for sync in other thread
+    protected volatile EntrySequence entrySequence;
 
     protected SnapshotBuilder snapshotBuilder = new NullSnapshotBuilder();
     protected GroupConfigEntryList groupConfigEntryList = new GroupConfigEntryList();
     private final StateMachineContext stateMachineContext = new StateMachineContextImpl();
     protected StateMachine stateMachine = new EmptyStateMachine();
     protected int commitIndex = 0;
+    TaskExecutor snapshotConsolidationExecutor;
+    private volatile boolean snapshotConsolidating = false;
+    boolean snapshotInstallInBackground = false;
+    TaskExecutor snapshotWriteExecutor;
+    TaskExecutor snapshotRestoreExecutor;
+    private SnapshotInstallation snapshotInstallation;
+    // last aborted installation, whose restoring may still be stopping
+    private SnapshotInstallation abortedSnapshotInstallation;
+    private boolean stateMachineDirty = false;
 
-    AbstractLog(EventBus eventBus) {
-        this.eventBus = eventBus;
+    AbstractLog(LogEventListener eventListener) {
+        this.eventListener = eventListener;
     }
 
     @Override
@@ -60,7 +86,6 @@ abstract class AbstractLog implements Log {
             throw new EntryInSnapshotException(nextIndex);
         }
         AppendEntriesRpc rpc = new AppendEntriesRpc();
-        rpc.setMessageId(UUID.randomUUID().toString());
         rpc.setTerm(term);
         rpc.setLeaderId(selfId);
         rpc.setLeaderCommit(commitIndex);
@@ -94,22 +119,48 @@ abstract class AbstractLog implements Log {
 
     @Override
     public InstallSnapshotRpc createInstallSnapshotRpc(int term, NodeId selfId, int offset, int length) {
+        InstallSnapshotRpc rpc = createInstallSnapshotRpc(term, selfId, 0, offset, length);
+        assert rpc != null;
+        return rpc;
+    }
+
+    @Override
+    public InstallSnapshotRpc createInstallSnapshotRpc(int term, NodeId selfId, int baseIndex, int offset, int length) {
+        Snapshot snapshotToInstall = findSnapshotInChain(baseIndex);
+        if (snapshotToInstall == null) {
+            logger.debug("no snapshot based on index {} in chain", baseIndex);
+            return null;
+        }
         InstallSnapshotRpc rpc = new InstallSnapshotRpc();
         rpc.setTerm(term);
         rpc.setLeaderId(selfId);
-        rpc.setLastIndex(snapshot.getLastIncludedIndex());
-        rpc.setLastTerm(snapshot.getLastIncludedTerm());
+        rpc.setLastIndex(snapshotToInstall.getLastIncludedIndex());
+        rpc.setLastTerm(snapshotToInstall.getLastIncludedTerm());
+        rpc.setBaseIndex(baseIndex);
         if (offset == 0) {
-            rpc.setLastConfig(snapshot.getLastConfig());
+            rpc.setLastConfig(snapshotToInstall.getLastConfig());
         }
         rpc.setOffset(offset);
 
-        SnapshotChunk chunk = snapshot.readData(offset, length);
-        rpc.setData(chunk.toByteArray());
+        SnapshotChunk chunk = snapshotToInstall.readData(offset, length);
+        rpc.setData(chunk.toByteBuffer());
         rpc.setDone(chunk.isLastChunk());
         return rpc;
     }
 
+    private Snapshot findSnapshotInChain(int baseIndex) {
+        Snapshot s = snapshot;
+        Snapshot base;
+        while (s != null) {
+            base = s.getBase();
+            if ((base != null ? base.getLastIncludedIndex() : 0) == baseIndex) {
+                return s;
+            }
+            s = base;
+        }
+        return null;
+    }
+
     @Override
     public GroupConfigEntry getLastUncommittedGroupConfigEntry() {
         GroupConfigEntry lastEntry = groupConfigEntryList.getLast();
@@ -126,6 +177,11 @@ abstract class AbstractLog implements Log {
         return commitIndex;
     }
 
+    @Override
+    public int getSnapshotLastIncludedIndex() {
+        return snapshot.getLastIncludedIndex();
+    }
+
     @Override
     public boolean isNewerThan(int lastLogIndex, int lastLogTerm) {
         EntryMeta lastEntryMeta = getLastEntryMeta();
@@ -169,6 +225,10 @@ abstract class AbstractLog implements Log {
         if (!checkIfPreviousLogMatches(prevLogIndex, prevLogTerm)) {
             return false;
         }
+        if (snapshotInstallation != null) {
+            logger.info("log matches leader's, abort snapshot installation");
+            abortSnapshotInstallation();
+        }
         // heartbeat
         if (leaderEntries.isEmpty()) {
             return true;
@@ -192,7 +252,7 @@ abstract class AbstractLog implements Log {
     private void appendEntryFromLeader(Entry leaderEntry) {
         entrySequence.append(leaderEntry);
         if (leaderEntry instanceof GroupConfigEntry) {
-            eventBus.post(new GroupConfigEntryFromLeaderAppendEvent(
+            eventListener.onGroupConfigEntryFromLeaderAppend(new GroupConfigEntryFromLeaderAppendEvent(
                     (GroupConfigEntry) leaderEntry)
             );
         }
@@ -266,7 +326,7 @@ abstract class AbstractLog implements Log {
         GroupConfigEntry firstRemovedEntry = groupConfigEntryList.removeAfter(index);
         if (firstRemovedEntry != null) {
             logger.info("group config removed");
-            eventBus.post(new GroupConfigEntryBatchRemovedEvent(firstRemovedEntry));
+            eventListener.onGroupConfigEntryBatchRemoved(new GroupConfigEntryBatchRemovedEvent(firstRemovedEntry));
         }
     }
 
@@ -283,14 +343,146 @@ abstract class AbstractLog implements Log {
         advanceApplyIndex();
     }
 
+    @Override
+    public int flush() {
+        return entrySequence.flush();
+    }
+
+    @Override
+    public void sync() {
+        entrySequence.sync();
+    }
+
     @Override
     public void generateSnapshot(int lastIncludedIndex, Set<NodeEndpoint> groupConfig) {
-        logger.info("generate snapshot, last included index {}", lastIncludedIndex);
         EntryMeta lastAppliedEntryMeta = entrySequence.getEntryMeta(lastIncludedIndex);
+        if (stateMachine instanceof DeltaStateMachine && snapshot.getLastIncludedIndex() > 0) {
+            logger.info("generate delta snapshot, last included index {}, base index {}", lastIncludedIndex, snapshot.getLastIncludedIndex());
+            replaceSnapshot(generateDeltaSnapshot(lastAppliedEntryMeta, groupConfig));
+            consolidateSnapshotIfNecessary();
+            return;
+        }
+        logger.info("generate snapshot, last included index {}", lastIncludedIndex);
         replaceSnapshot(generateSnapshot(lastAppliedEntryMeta, groupConfig));
     }
 
+    private void consolidateSnapshotIfNecessary() {
+        if (snapshotConsolidating || !(stateMachine instanceof DeltaStateMachine)) {
+            return;
+        }
+        DeltaStateMachine deltaStateMachine = (DeltaStateMachine) stateMachine;
+        int deltaSnapshotCount = countDeltaSnapshots(snapshot);
+        if (deltaSnapshotCount == 0 || deltaSnapshotCount < deltaStateMachine.getMaxDeltaSnapshots()) {
+            return;
+        }
+        logger.info("consolidate snapshot chain in background, last included index {}, {} delta snapshot(s)",
+                snapshot.getLastIncludedIndex(), deltaSnapshotCount);
+        snapshotConsolidating = true;
+        Snapshot lastSnapshot = snapshot;
+        getSnapshotConsolidationExecutor().submit(() -> {
+            try {
+                eventListener.onSnapshotConsolidated(new SnapshotConsolidatedEvent(consolidateSnapshot(lastSnapshot, deltaStateMachine)));
+            } catch (LogException e) {
+                logger.warn("failed to consolidate snapshot", e);
+                snapshotConsolidating = false;
+            }
+        });
+    }
+
+    /**
+     * Close snapshot chain which has just been replaced.
+     * <p>
+     * Chain being consolidated in background may be the replaced one, closing is queued in consolidation executor
+     * then, so that it runs after consolidation reads the chain.
+     * </p>
+     *
+     * @param replacedSnapshot replaced snapshot
+     */
+    protected void closeReplacedSnapshot(Snapshot replacedSnapshot) {
+        if (snapshotConsolidating) {
+            getSnapshotConsolidationExecutor().submit(replacedSnapshot::close);
+        } else {
+            replacedSnapshot.close();
+        }
+    }
+
+    private TaskExecutor getSnapshotConsolidationExecutor() {
+        if (snapshotConsolidationExecutor == null) {
+            snapshotConsolidationExecutor = new SingleThreadTaskExecutor("snapshot-consolidation");
+        }
+        return snapshotConsolidationExecutor;
+    }
+
+    private int countDeltaSnapshots(Snapshot lastSnapshot) {
+        int count = 0;
+        for (Snapshot s = lastSnapshot.getBase(); s != null; s = s.getBase()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Consolidate data of snapshots in chain to output.
+     * <p>
+     * Run in background thread.
+     * </p>
+     *
+     * @param lastSnapshot      last snapshot in chain
+     * @param deltaStateMachine state machine
+     * @param output            output
+     * @throws IOException if IO error occurred
+     */
+    protected void consolidateSnapshotData(Snapshot lastSnapshot, DeltaStateMachine deltaStateMachine, OutputStream output) throws IOException {
+        LinkedList<Snapshot> chain = new LinkedList<>();
+        for (Snapshot s = lastSnapshot; s != null; s = s.getBase()) {
+            chain.addFirst(s);
+        }
+        List<InputStream> deltas = new ArrayList<>();
+        try (InputStream base = chain.removeFirst().getDataStream()) {
+            for (Snapshot delta : chain) {
+                deltas.add(delta.getDataStream());
+            }
+            deltaStateMachine.consolidateSnapshot(base, deltas, output);
+        } finally {
+            for (InputStream delta : deltas) {
+                delta.close();
+            }
+        }
+    }
+
+    @Override
+    public void replaceSnapshotChain(Snapshot consolidatedSnapshot) {
+        snapshotConsolidating = false;
+        if (snapshotInstallation != null) {
+            logger.info("snapshot is being installed, drop consolidated snapshot with last included index {}",
+                    consolidatedSnapshot.getLastIncludedIndex());
+            consolidatedSnapshot.close();
+            return;
+        }
+        if (consolidatedSnapshot.getLastIncludedIndex() != snapshot.getLastIncludedIndex()) {
+            logger.info("snapshot changed during consolidation, drop consolidated snapshot with last included index {}",
+                    consolidatedSnapshot.getLastIncludedIndex());
+            consolidatedSnapshot.close();
+            consolidateSnapshotIfNecessary();
+            return;
+        }
+        logger.info("replace snapshot chain with consolidated snapshot, last included index {}", consolidatedSnapshot.getLastIncludedIndex());
+        doReplaceSnapshotChain(consolidatedSnapshot);
+    }
+
     private void advanceApplyIndex() {
+        // state machine is being restored in background
+        if (snapshotInstallation != null) {
+            return;
+        }
+
+        // restoring of aborted installation is stopping, resumed by SnapshotRestoreAbortedEvent
+        if (abortedSnapshotInstallation != null && !abortedSnapshotInstallation.restoreStopped) {
+            return;
+        }
+        abortedSnapshotInstallation = null;
+        reapplyIfStateMachineDirty();
+
         // start up and snapshot exists
         int lastApplied = stateMachine.getLastApplied();
         int lastIncludedIndex = snapshot.getLastIncludedIndex();
@@ -299,12 +491,41 @@ abstract class AbstractLog implements Log {
             applySnapshot(snapshot);
             lastApplied = lastIncludedIndex;
         }
+
+        // logs applied before restart, see CheckpointStateMachine
+        if (lastApplied >= commitIndex) {
+            return;
+        }
         for (Entry entry : entrySequence.subList(lastApplied + 1, commitIndex + 1)) {
             applyEntry(entry);
         }
     }
 
+    /**
+     * Reapply snapshot and logs if restoring of state machine was aborted.
+     */
+    private void reapplyIfStateMachineDirty() {
+        if (!stateMachineDirty) {
+            return;
+        }
+        logger.warn("state machine restored partially, reapply from start");
+        int lastApplied = stateMachine.getLastApplied();
+        applySnapshot(snapshot);
+        int lastIncludedIndex = snapshot.getLastIncludedIndex();
+        if (lastApplied > lastIncludedIndex) {
+            logger.debug("apply log from {} to {}", lastIncludedIndex + 1, lastApplied);
+            entrySequence.subList(lastIncludedIndex + 1, lastApplied + 1).forEach(this::applyEntry);
+        }
+        stateMachineDirty = false;
+    }
+
     private void applySnapshot(Snapshot snapshot) {
+        Snapshot base = snapshot.getBase();
+        if (base != null) {
+            applySnapshot(base);
+            applyDeltaSnapshot(snapshot);
+            return;
+        }
         logger.debug("apply snapshot, last included index {}", snapshot.getLastIncludedIndex());
         try {
             stateMachine.applySnapshot(snapshot);
@@ -313,6 +534,18 @@ abstract class AbstractLog implements Log {
         }
     }
 
+    private void applyDeltaSnapshot(Snapshot snapshot) {
+        if (!(stateMachine instanceof DeltaStateMachine)) {
+            throw new LogException("state machine does not support delta snapshot");
+        }
+        logger.debug("apply delta snapshot, last included index {}", snapshot.getLastIncludedIndex());
+        try {
+            ((DeltaStateMachine) stateMachine).applyDeltaSnapshot(snapshot);
+        } catch (IOException e) {
+            throw new LogException("failed to apply delta snapshot", e);
+        }
+    }
+
     private void applyEntry(Entry entry) {
         // skip no-op entry and membership-change entry
         if (isApplicable(entry)) {
@@ -326,7 +559,7 @@ abstract class AbstractLog implements Log {
 
     private void groupConfigsCommitted(int newCommitIndex) {
         for (GroupConfigEntry groupConfigEntry : groupConfigEntryList.subList(commitIndex + 1, newCommitIndex + 1)) {
-            eventBus.post(new GroupConfigEntryCommittedEvent(groupConfigEntry));
+            eventListener.onGroupConfigEntryCommitted(new GroupConfigEntryCommittedEvent(groupConfigEntry));
         }
     }
 
@@ -348,6 +581,22 @@ abstract class AbstractLog implements Log {
 
     protected abstract Snapshot generateSnapshot(EntryMeta lastAppliedEntryMeta, Set<NodeEndpoint> groupConfig);
 
+    protected abstract Snapshot generateDeltaSnapshot(EntryMeta lastAppliedEntryMeta, Set<NodeEndpoint> groupConfig);
+
+    /**
+     * Consolidate snapshot chain into a full snapshot.
+     * <p>
+     * Run in background thread.
+     * </p>
+     *
+     * @param lastSnapshot      last snapshot in chain
+     * @param deltaStateMachine state machine
+     * @return consolidated snapshot
+     */
+    protected abstract Snapshot consolidateSnapshot(Snapshot lastSnapshot, DeltaStateMachine deltaStateMachine);
+
+    protected abstract void doReplaceSnapshotChain(Snapshot consolidatedSnapshot);
+
     @Override
     public InstallSnapshotState installSnapshot(InstallSnapshotRpc rpc) {
         if (rpc.getLastIndex() <= snapshot.getLastIncludedIndex()) {
@@ -355,8 +604,13 @@ abstract class AbstractLog implements Log {
                     rpc.getLastIndex(), snapshot.getLastIncludedIndex());
             return new InstallSnapshotState(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC);
         }
+        if (snapshotInstallInBackground) {
+            return installSnapshotInBackground(rpc);
+        }
         if (rpc.getOffset() == 0) {
-            assert rpc.getLastConfig() != null;
+            if (!isBaseIndexMatched(rpc)) {
+                return new InstallSnapshotState(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC);
+            }
             snapshotBuilder.close();
             snapshotBuilder = newSnapshotBuilder(rpc);
         } else {
@@ -366,7 +620,14 @@ abstract class AbstractLog implements Log {
             return new InstallSnapshotState(InstallSnapshotState.StateName.INSTALLING);
         }
         Snapshot newSnapshot = snapshotBuilder.build();
-        applySnapshot(newSnapshot);
+        Snapshot base = newSnapshot.getBase();
+        if (base != null && stateMachine.getLastApplied() == base.getLastIncludedIndex()) {
+
+            // state machine is at base snapshot, typically installed just now
+            applyDeltaSnapshot(newSnapshot);
+        } else {
+            applySnapshot(newSnapshot);
+        }
         replaceSnapshot(newSnapshot);
         int lastIncludedIndex = snapshot.getLastIncludedIndex();
         if (commitIndex < lastIncludedIndex) {
@@ -375,6 +636,204 @@ abstract class AbstractLog implements Log {
         return new InstallSnapshotState(InstallSnapshotState.StateName.INSTALLED, newSnapshot.getLastConfig());
     }
 
+    private boolean isBaseIndexMatched(InstallSnapshotRpc firstRpc) {
+        assert firstRpc.getLastConfig() != null;
+        if (firstRpc.getBaseIndex() > 0 && firstRpc.getBaseIndex() != snapshot.getLastIncludedIndex()) {
+            logger.debug("base index of delta snapshot from rpc != current snapshot's last included index ({} != {}), ignore",
+                    firstRpc.getBaseIndex(), snapshot.getLastIncludedIndex());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Install snapshot in background.
+     * <p>
+     * Chunks are written by snapshot write executor, and streamed to state machine by snapshot restore executor
+     * while following chunks are still arriving. After the last chunk is written and state machine is restored,
+     * {@link SnapshotInstalledEvent} is posted, and the snapshot is switched in node thread,
+     * see {@link #replaceInstalledSnapshot(Snapshot)}.
+     * </p>
+     *
+     * @param rpc rpc
+     * @return install snapshot state
+     */
+    private InstallSnapshotState installSnapshotInBackground(InstallSnapshotRpc rpc) {
+        SnapshotInstallation installation = snapshotInstallation;
+        if (rpc.getOffset() == 0) {
+            if (installation != null && installation.done && !installation.failed && installation.isSameSnapshot(rpc)) {
+
+                // leader sent the first chunk again since state machine takes too long to restore
+                logger.debug("snapshot {} is being restored, ignore first chunk", rpc.getLastIndex());
+                return new InstallSnapshotState(InstallSnapshotState.StateName.RESTORING);
+            }
+            if (!isBaseIndexMatched(rpc)) {
+                return new InstallSnapshotState(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC);
+            }
+            abortSnapshotInstallation();
+            installation = startSnapshotInstallation(rpc);
+        } else {
+            if (installation == null || installation.done || installation.failed ||
+                    !installation.isSameSnapshot(rpc) || rpc.getOffset() != installation.offset) {
+                logger.debug("unexpected chunk of snapshot {}, offset {}, ignore", rpc.getLastIndex(), rpc.getOffset());
+                return new InstallSnapshotState(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC);
+            }
+            SnapshotBuilder builder = installation.builder;
+            submitSnapshotWrite(installation, () -> builder.append(rpc));
+        }
+        installation.offset += rpc.getDataLength();
+        boolean accepted = installation.dataStream.offer(rpc.getDataBuffer());
+        if (!rpc.isDone()) {
+            return new InstallSnapshotState(accepted ? InstallSnapshotState.StateName.INSTALLING : InstallSnapshotState.StateName.PAUSED);
+        }
+        installation.done = true;
+        installation.dataStream.complete();
+        SnapshotInstallation finalInstallation = installation;
+        submitSnapshotWrite(installation, () -> {
+            Snapshot newSnapshot = finalInstallation.builder.build();
+            finalInstallation.builtSnapshot.complete(newSnapshot);
+            waitForRestore(finalInstallation);
+            if (finalInstallation.failed) {
+                newSnapshot.close();
+                return;
+            }
+            finalInstallation.installedSnapshot = newSnapshot;
+            eventListener.onSnapshotInstalled(new SnapshotInstalledEvent(newSnapshot));
+        });
+        return new InstallSnapshotState(InstallSnapshotState.StateName.RESTORING);
+    }
+
+    private SnapshotInstallation startSnapshotInstallation(InstallSnapshotRpc firstRpc) {
+        logger.info("install snapshot {} in background, base index {}", firstRpc.getLastIndex(), firstRpc.getBaseIndex());
+
+        // builder prepares files based on current snapshot, so it is created in node thread
+        SnapshotInstallation installation = new SnapshotInstallation(firstRpc, newSnapshotBuilder(firstRpc));
+        installation.dataStream.setDrainListener(() ->
+                eventListener.onSnapshotDataDrained(new SnapshotDataDrainedEvent(installation.lastIncludedIndex)));
+        RestoringSnapshot restoringSnapshot = new RestoringSnapshot(firstRpc, installation.dataStream,
+                installation.builtSnapshot, firstRpc.getBaseIndex() > 0 ? snapshot : null);
+        Snapshot base = restoringSnapshot.getBase();
+        boolean applyBase = base != null && (stateMachineDirty || stateMachine.getLastApplied() != base.getLastIncludedIndex());
+        installation.restoreFuture = getSnapshotRestoreExecutor().submit(() -> {
+            try {
+                if (base == null) {
+                    applySnapshot(restoringSnapshot);
+                    return;
+                }
+                if (applyBase) {
+                    applySnapshot(base);
+                }
+                applyDeltaSnapshot(restoringSnapshot);
+            } catch (RuntimeException e) {
+                if (!installation.failed) {
+                    logger.warn("failed to restore state machine from snapshot " + restoringSnapshot.getLastIncludedIndex(), e);
+                    installation.fail();
+                }
+            } finally {
+                installation.restoreStopped = true;
+                if (installation.failed) {
+                    eventListener.onSnapshotRestoreAborted(new SnapshotRestoreAbortedEvent(installation.lastIncludedIndex));
+                }
+            }
+        });
+        snapshotInstallation = installation;
+        return installation;
+    }
+
+    private void submitSnapshotWrite(SnapshotInstallation installation, Runnable task) {
+        getSnapshotWriteExecutor().submit(() -> {
+            if (installation.failed) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (LogException e) {
+                logger.warn("failed to write snapshot " + installation.lastIncludedIndex, e);
+                installation.fail();
+            }
+        });
+    }
+
+    private void waitForRestore(SnapshotInstallation installation) {
+        try {
+            installation.restoreFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LogException(e);
+        } catch (ExecutionException e) {
+            throw new LogException(e.getCause());
+        }
+    }
+
+    /**
+     * Abort snapshot installation in background.
+     * <p>
+     * Builder is closed and restoring stops in background without waiting, tasks of next installation run after
+     * them in the same executors. State machine is considered dirty since it may be restored partially,
+     * and will be replaced by next snapshot or reapplied from current one after restoring stops,
+     * see {@link #resumeApplyingLog()}.
+     * </p>
+     */
+    private void abortSnapshotInstallation() {
+        SnapshotInstallation installation = snapshotInstallation;
+        if (installation == null) {
+            return;
+        }
+        logger.info("abort installation of snapshot {}", installation.lastIncludedIndex);
+        snapshotInstallation = null;
+        abortedSnapshotInstallation = installation;
+        installation.fail();
+        stateMachineDirty = true;
+        getSnapshotWriteExecutor().submit(installation.builder::close);
+    }
+
+    @Override
+    public void resumeApplyingLog() {
+        if (snapshotInstallation == null) {
+            advanceApplyIndex();
+        }
+    }
+
+    private TaskExecutor getSnapshotWriteExecutor() {
+        if (snapshotWriteExecutor == null) {
+            snapshotWriteExecutor = new SingleThreadTaskExecutor("snapshot-write");
+        }
+        return snapshotWriteExecutor;
+    }
+
+    private TaskExecutor getSnapshotRestoreExecutor() {
+        if (snapshotRestoreExecutor == null) {
+            snapshotRestoreExecutor = new SingleThreadTaskExecutor("snapshot-restore");
+        }
+        return snapshotRestoreExecutor;
+    }
+
+    @Override
+    public InstallSnapshotState replaceInstalledSnapshot(Snapshot installedSnapshot) {
+        SnapshotInstallation installation = snapshotInstallation;
+        if (installation == null || installation.installedSnapshot != installedSnapshot) {
+            logger.info("snapshot installation aborted, drop installed snapshot with last included index {}",
+                    installedSnapshot.getLastIncludedIndex());
+            installedSnapshot.close();
+            return new InstallSnapshotState(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC);
+        }
+        logger.info("replace snapshot with installed one, last included index {}", installedSnapshot.getLastIncludedIndex());
+        snapshotInstallation = null;
+        stateMachineDirty = false;
+        replaceSnapshot(installedSnapshot);
+        int lastIncludedIndex = snapshot.getLastIncludedIndex();
+        if (commitIndex < lastIncludedIndex) {
+            commitIndex = lastIncludedIndex;
+        }
+        return new InstallSnapshotState(InstallSnapshotState.StateName.INSTALLED, installedSnapshot.getLastConfig());
+    }
+
+    @Override
+    public boolean isRestoringSnapshot() {
+        SnapshotInstallation installation = snapshotInstallation;
+        return installation != null && installation.done && !installation.failed;
+    }
+
     protected abstract SnapshotBuilder newSnapshotBuilder(InstallSnapshotRpc firstRpc);
 
     protected abstract void replaceSnapshot(Snapshot newSnapshot);
@@ -382,21 +841,190 @@ abstract class AbstractLog implements Log {
     @Override
     public void setStateMachine(StateMachine stateMachine) {
         this.stateMachine = stateMachine;
+        if (stateMachine instanceof CheckpointStateMachine) {
+            loadCheckpoint((CheckpointStateMachine) stateMachine);
+        }
+    }
+
+    /**
+     * Load checkpoint of state machine.
+     * <p>
+     * If checkpoint is older than snapshot, logs between them may have been removed, apply snapshot to replace
+     * the state. Otherwise snapshot and logs in checkpoint will not be applied again.
+     * </p>
+     *
+     * @param stateMachine state machine
+     */
+    private void loadCheckpoint(CheckpointStateMachine stateMachine) {
+        int checkpoint;
+        try {
+            checkpoint = stateMachine.loadCheckpoint();
+        } catch (IOException e) {
+            throw new LogException("failed to load checkpoint of state machine", e);
+        }
+        int lastIncludedIndex = snapshot.getLastIncludedIndex();
+        if (checkpoint < lastIncludedIndex) {
+            logger.info("checkpoint {} is older than snapshot {}, apply snapshot", checkpoint, lastIncludedIndex);
+            applySnapshot(snapshot);
+        } else {
+            logger.info("load checkpoint {} of state machine, skip applying snapshot and logs before", checkpoint);
+        }
     }
 
     @Override
     public void close() {
+        abortSnapshotInstallation();
+        // wait for consolidation which reads snapshot chain
+        shutdownExecutor(snapshotConsolidationExecutor);
         snapshot.close();
         entrySequence.close();
         snapshotBuilder.close();
         stateMachine.shutdown();
+        shutdownExecutor(snapshotWriteExecutor);
+        shutdownExecutor(snapshotRestoreExecutor);
+    }
+
+    private void shutdownExecutor(TaskExecutor executor) {
+        if (executor != null) {
+            try {
+                executor.shutdown();
+            } catch (InterruptedException e) {
+                throw new LogException(e);
+            }
+        }
+    }
+
+    /**
+     * Snapshot installation in background.
+     * <p>
+     * Fields without volatile are accessed in node thread only, builder is used in snapshot write executor
+     * after created.
+     * </p>
+     */
+    private static class SnapshotInstallation {
+
+        final int lastIncludedIndex;
+        final int lastIncludedTerm;
+        final int baseIndex;
+        final SnapshotBuilder builder;
+        final PipedChunkInputStream dataStream = new PipedChunkInputStream(SNAPSHOT_RESTORE_BUFFER_SIZE);
+        // completed by snapshot write executor after last chunk is written
+        final CompletableFuture<Snapshot> builtSnapshot = new CompletableFuture<>();
+        Future<?> restoreFuture;
+        int offset = 0;
+        boolean done = false;
+        volatile boolean failed = false;
+        volatile boolean restoreStopped = false;
+        volatile Snapshot installedSnapshot;
+
+        SnapshotInstallation(InstallSnapshotRpc firstRpc, SnapshotBuilder builder) {
+            this.lastIncludedIndex = firstRpc.getLastIndex();
+            this.lastIncludedTerm = firstRpc.getLastTerm();
+            this.baseIndex = firstRpc.getBaseIndex();
+            this.builder = builder;
+        }
+
+        boolean isSameSnapshot(InstallSnapshotRpc rpc) {
+            return rpc.getLastIndex() == lastIncludedIndex && rpc.getLastTerm() == lastIncludedTerm && rpc.getBaseIndex() == baseIndex;
+        }
+
+        void fail() {
+            failed = true;
+            dataStream.abort();
+            builtSnapshot.completeExceptionally(new LogException("installation of snapshot " + lastIncludedIndex + " failed"));
+        }
+
+    }
+
+    /**
+     * Snapshot streamed to state machine while chunks are arriving.
+     * <p>
+     * Size and random access are available after all chunks are written, reading them blocks until then.
+     * Data stream is abandoned once data is read randomly, so that chunks are not queued for nobody.
+     * </p>
+     */
+    private static class RestoringSnapshot implements Snapshot {
+
+        private final int lastIncludedIndex;
+        private final int lastIncludedTerm;
+        private final Set<NodeEndpoint> lastConfig;
+        private final PipedChunkInputStream dataStream;
+        private final CompletableFuture<Snapshot> builtSnapshot;
+        private final Snapshot base;
+
+        RestoringSnapshot(InstallSnapshotRpc firstRpc, PipedChunkInputStream dataStream,
+                          CompletableFuture<Snapshot> builtSnapshot, Snapshot base) {
+            this.lastIncludedIndex = firstRpc.getLastIndex();
+            this.lastIncludedTerm = firstRpc.getLastTerm();
+            this.lastConfig = firstRpc.getLastConfig();
+            this.dataStream = dataStream;
+            this.builtSnapshot = builtSnapshot;
+            this.base = base;
+        }
+
+        @Override
+        public int getLastIncludedIndex() {
+            return lastIncludedIndex;
+        }
+
+        @Override
+        public int getLastIncludedTerm() {
+            return lastIncludedTerm;
+        }
+
+        @Override
+        @Nonnull
+        public Set<NodeEndpoint> getLastConfig() {
+            return lastConfig;
+        }
+
+        @Override
+        public long getDataSize() {
+            // stream may be read after size, queue all chunks instead of pausing
+            dataStream.removeCapacity();
+            return awaitBuiltSnapshot().getDataSize();
+        }
+
+        @Override
+        @Nonnull
+        public SnapshotChunk readData(int offset, int length) {
+            dataStream.abort();
+            return awaitBuiltSnapshot().readData(offset, length);
+        }
+
+        private Snapshot awaitBuiltSnapshot() {
+            try {
+                return builtSnapshot.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LogException(e);
+            } catch (ExecutionException e) {
+                throw new LogException(e.getCause());
+            }
+        }
+
+        @Override
+        @Nonnull
+        public InputStream getDataStream() {
+            return dataStream;
+        }
+
+        @Override
+        public Snapshot getBase() {
+            return base;
+        }
+
+        @Override
+        public void close() {
+        }
+
     }
 
     private class StateMachineContextImpl implements StateMachineContext {
 
         @Override
         public void generateSnapshot(int lastIncludedIndex) {
-            eventBus.post(new SnapshotGenerateEvent(lastIncludedIndex));
+            eventListener.onGenerateSnapshot(new SnapshotGenerateEvent(lastIncludedIndex));
         }
 
     }
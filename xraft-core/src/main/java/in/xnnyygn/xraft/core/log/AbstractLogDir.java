@@ -4,9 +4,15 @@ import in.xnnyygn.xraft.core.support.Files;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 abstract class AbstractLogDir implements LogDir {
 
+    private static final Pattern DELTA_SNAPSHOT_FILE_NAME_PATTERN = Pattern.compile("delta-(\\d+)\\.ss");
     final File dir;
 
     AbstractLogDir(File dir) {
@@ -36,6 +42,35 @@ abstract class AbstractLogDir implements LogDir {
         return new File(dir, RootDir.FILE_NAME_SNAPSHOT);
     }
 
+    @Override
+    public File getDeltaSnapshotFile(int lastIncludedIndex) {
+        return new File(dir, "delta-" + lastIncludedIndex + ".ss");
+    }
+
+    @Override
+    public List<File> listDeltaSnapshotFiles() {
+        List<File> deltaSnapshotFiles = new ArrayList<>();
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return deltaSnapshotFiles;
+        }
+        for (File file : files) {
+            if (file.isFile() && DELTA_SNAPSHOT_FILE_NAME_PATTERN.matcher(file.getName()).matches()) {
+                deltaSnapshotFiles.add(file);
+            }
+        }
+        deltaSnapshotFiles.sort(Comparator.comparingInt(AbstractLogDir::parseDeltaSnapshotIndex));
+        return deltaSnapshotFiles;
+    }
+
+    private static int parseDeltaSnapshotIndex(File file) {
+        Matcher matcher = DELTA_SNAPSHOT_FILE_NAME_PATTERN.matcher(file.getName());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("not a delta snapshot file, [" + file.getName() + "]");
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
     @Override
     public File getEntriesFile() {
         return new File(dir, RootDir.FILE_NAME_ENTRIES);
@@ -1,17 +1,20 @@
 package in.xnnyygn.xraft.core.log;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.log.entry.Entry;
 import in.xnnyygn.xraft.core.log.entry.EntryMeta;
+import in.xnnyygn.xraft.core.log.event.LogEventListener;
 import in.xnnyygn.xraft.core.log.sequence.EntrySequence;
 import in.xnnyygn.xraft.core.log.sequence.FileEntrySequence;
 import in.xnnyygn.xraft.core.log.snapshot.*;
+import in.xnnyygn.xraft.core.log.statemachine.DeltaStateMachine;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotRpc;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Set;
 
@@ -20,9 +23,10 @@ public class FileLog extends AbstractLog {
 
     private final RootDir rootDir;
 
-    public FileLog(File baseDir, EventBus eventBus) {
-        super(eventBus);
+    public FileLog(File baseDir, LogEventListener eventListener) {
+        super(eventListener);
         rootDir = new RootDir(baseDir);
+        snapshotInstallInBackground = true;
 
         LogGeneration latestGeneration = rootDir.getLatestGeneration();
         snapshot = new EmptySnapshot();
@@ -45,6 +49,7 @@ public class FileLog extends AbstractLog {
     @Override
     protected Snapshot generateSnapshot(EntryMeta lastAppliedEntryMeta, Set<NodeEndpoint> groupConfig) {
         LogDir logDir = rootDir.getLogDirForGenerating();
+        resetSnapshotFiles(logDir, false);
         try (FileSnapshotWriter snapshotWriter = new FileSnapshotWriter(
                 logDir.getSnapshotFile(), lastAppliedEntryMeta.getIndex(), lastAppliedEntryMeta.getTerm(), groupConfig)) {
             stateMachine.generateSnapshot(snapshotWriter.getOutput());
@@ -54,9 +59,92 @@ public class FileLog extends AbstractLog {
         return new FileSnapshot(logDir);
     }
 
+    @Override
+    protected Snapshot generateDeltaSnapshot(EntryMeta lastAppliedEntryMeta, Set<NodeEndpoint> groupConfig) {
+        LogDir logDir = rootDir.getLogDirForGenerating();
+        resetSnapshotFiles(logDir, true);
+        int lastIncludedIndex = lastAppliedEntryMeta.getIndex();
+        try (FileSnapshotWriter snapshotWriter = new FileSnapshotWriter(logDir.getDeltaSnapshotFile(lastIncludedIndex),
+                lastIncludedIndex, lastAppliedEntryMeta.getTerm(), groupConfig, snapshot.getLastIncludedIndex())) {
+            ((DeltaStateMachine) stateMachine).generateDeltaSnapshot(snapshotWriter.getOutput());
+        } catch (IOException e) {
+            throw new LogException("failed to generate delta snapshot", e);
+        }
+        return new FileSnapshot(logDir);
+    }
+
+    @Override
+    protected Snapshot consolidateSnapshot(Snapshot lastSnapshot, DeltaStateMachine deltaStateMachine) {
+        File file = getConsolidatingSnapshotFile(((FileSnapshot) lastSnapshot).getLogDir());
+        try (FileSnapshotWriter snapshotWriter = new FileSnapshotWriter(
+                file, lastSnapshot.getLastIncludedIndex(), lastSnapshot.getLastIncludedTerm(), lastSnapshot.getLastConfig())) {
+            consolidateSnapshotData(lastSnapshot, deltaStateMachine, snapshotWriter.getOutput());
+        } catch (IOException e) {
+            throw new LogException("failed to consolidate snapshot", e);
+        }
+        return new FileSnapshot(file);
+    }
+
+    @Override
+    protected void doReplaceSnapshotChain(Snapshot consolidatedSnapshot) {
+        consolidatedSnapshot.close();
+        LogDir logDir = ((FileSnapshot) snapshot).getLogDir();
+        snapshot.close();
+        try {
+            // delta snapshots left by crash are ignored when loading
+            Files.move(getConsolidatingSnapshotFile(logDir).toPath(), logDir.getSnapshotFile().toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (File deltaSnapshotFile : logDir.listDeltaSnapshotFiles()) {
+                Files.delete(deltaSnapshotFile.toPath());
+            }
+        } catch (IOException e) {
+            throw new LogException("failed to replace snapshot chain", e);
+        }
+        snapshot = new FileSnapshot(logDir);
+    }
+
+    private File getConsolidatingSnapshotFile(LogDir logDir) {
+        return new File(logDir.get(), RootDir.FILE_NAME_SNAPSHOT_CONSOLIDATING);
+    }
+
     @Override
     protected SnapshotBuilder newSnapshotBuilder(InstallSnapshotRpc firstRpc) {
-        return new FileSnapshotBuilder(firstRpc, rootDir.getLogDirForInstalling());
+        LogDir logDir = rootDir.getLogDirForInstalling();
+        resetSnapshotFiles(logDir, firstRpc.getBaseIndex() > 0);
+        return new FileSnapshotBuilder(firstRpc, logDir);
+    }
+
+    /**
+     * Remove snapshot files in log dir, and link snapshot files in current chain if base of delta snapshot is needed.
+     *
+     * @param logDir          log dir
+     * @param linkCurrentChain link snapshot files in current chain or not
+     */
+    private void resetSnapshotFiles(LogDir logDir, boolean linkCurrentChain) {
+        try {
+            Files.deleteIfExists(logDir.getSnapshotFile().toPath());
+            for (File deltaSnapshotFile : logDir.listDeltaSnapshotFiles()) {
+                Files.delete(deltaSnapshotFile.toPath());
+            }
+            if (!linkCurrentChain) {
+                return;
+            }
+            LogDir currentLogDir = ((FileSnapshot) snapshot).getLogDir();
+            linkOrCopy(currentLogDir.getSnapshotFile(), logDir.getSnapshotFile());
+            for (File deltaSnapshotFile : currentLogDir.listDeltaSnapshotFiles()) {
+                linkOrCopy(deltaSnapshotFile, new File(logDir.get(), deltaSnapshotFile.getName()));
+            }
+        } catch (IOException e) {
+            throw new LogException("failed to prepare snapshot files", e);
+        }
+    }
+
+    private void linkOrCopy(File source, File target) throws IOException {
+        try {
+            Files.createLink(target.toPath(), source.toPath());
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     @Override
@@ -69,9 +157,12 @@ public class FileLog extends AbstractLog {
         EntrySequence newEntrySequence = new FileEntrySequence(fileSnapshot.getLogDir(), logIndexOffset);
         newEntrySequence.append(remainingEntries);
         newEntrySequence.commit(Math.max(commitIndex, lastIncludedIndex));
+        // keep entries not committed
+        newEntrySequence.flush();
+        newEntrySequence.sync();
         newEntrySequence.close();
 
-        snapshot.close();
+        closeReplacedSnapshot(snapshot);
         entrySequence.close();
         newSnapshot.close();
 
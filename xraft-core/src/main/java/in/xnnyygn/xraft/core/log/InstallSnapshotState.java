@@ -9,6 +9,9 @@ public class InstallSnapshotState {
     public enum StateName {
         ILLEGAL_INSTALL_SNAPSHOT_RPC,
         INSTALLING,
+        // chunk accepted, but too many chunks are queued for restoring, reply later
+        PAUSED,
+        RESTORING,
         INSTALLED
     }
 
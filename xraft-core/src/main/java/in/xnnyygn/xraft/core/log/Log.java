@@ -1,6 +1,7 @@
 package in.xnnyygn.xraft.core.log;
 
 import in.xnnyygn.xraft.core.log.entry.*;
+import in.xnnyygn.xraft.core.log.snapshot.Snapshot;
 import in.xnnyygn.xraft.core.log.statemachine.StateMachine;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
@@ -52,6 +53,23 @@ public interface Log {
      */
     InstallSnapshotRpc createInstallSnapshotRpc(int term, NodeId selfId, int offset, int length);
 
+    /**
+     * Create install snapshot rpc for snapshot in chain which is based on specified snapshot.
+     * <p>
+     * Base index {@code 0} means the full snapshot at the head of chain. Follower which has installed
+     * snapshot with last included index {@code baseIndex} only needs the delta snapshots after it.
+     * </p>
+     *
+     * @param term      current term
+     * @param selfId    self node id
+     * @param baseIndex last included index of base snapshot, {@code 0} for full snapshot
+     * @param offset    data offset
+     * @param length    data length
+     * @return install snapshot rpc, or {@code null} if no snapshot in chain is based on {@code baseIndex}
+     */
+    @Nullable
+    InstallSnapshotRpc createInstallSnapshotRpc(int term, NodeId selfId, int baseIndex, int offset, int length);
+
     /**
      * Get last uncommitted group config entry.
      *
@@ -74,6 +92,13 @@ public interface Log {
      */
     int getCommitIndex();
 
+    /**
+     * Get last included index of latest snapshot.
+     *
+     * @return last included index, {@code 0} if no snapshot
+     */
+    int getSnapshotLastIncludedIndex();
+
     /**
      * Test if last log self is new than last log of leader.
      *
@@ -143,14 +168,64 @@ public interface Log {
      */
     void advanceCommitIndex(int newCommitIndex, int currentTerm);
 
+    /**
+     * Write log entries not committed to disk, without waiting for disk.
+     * <p>
+     * Entries flushed are kept after restart even if not committed, once synced by {@link #sync()}.
+     * </p>
+     *
+     * @return index of last entry written
+     */
+    int flush();
+
+    /**
+     * Wait for log entries flushed to reach disk.
+     * <p>
+     * Could be called in thread other than node thread, e.g. persist stage, while node thread keeps appending entries.
+     * </p>
+     */
+    void sync();
+
     /**
      * Install snapshot.
+     * <p>
+     * If snapshot is installed in background, state {@link InstallSnapshotState.StateName#RESTORING} will be returned
+     * for the last chunk, and {@link in.xnnyygn.xraft.core.log.event.SnapshotInstalledEvent} will be posted when
+     * data is written and state machine is restored.
+     * </p>
      *
      * @param rpc rpc
      * @return install snapshot state
      */
     InstallSnapshotState installSnapshot(InstallSnapshotRpc rpc);
 
+    /**
+     * Replace current snapshot with the one installed in background.
+     * <p>
+     * Installed snapshot will be dropped if installation was aborted, for example, by a new snapshot from leader.
+     * </p>
+     *
+     * @param installedSnapshot installed snapshot
+     * @return install snapshot state, {@link InstallSnapshotState.StateName#INSTALLED} if replaced
+     */
+    InstallSnapshotState replaceInstalledSnapshot(Snapshot installedSnapshot);
+
+    /**
+     * Check if state machine is being restored from snapshot installed in background.
+     *
+     * @return true if restoring, otherwise false
+     */
+    boolean isRestoringSnapshot();
+
+    /**
+     * Apply committed log to state machine which was skipped when restoring of aborted snapshot installation
+     * was stopping.
+     * <p>
+     * Called after {@link in.xnnyygn.xraft.core.log.event.SnapshotRestoreAbortedEvent} is posted.
+     * </p>
+     */
+    void resumeApplyingLog();
+
     /**
      * Generate snapshot.
      *
@@ -159,6 +234,17 @@ public interface Log {
      */
     void generateSnapshot(int lastIncludedIndex, Set<NodeEndpoint> groupConfig);
 
+    /**
+     * Replace snapshot chain with full snapshot consolidated in background.
+     * <p>
+     * Consolidated snapshot will be dropped if snapshot changed during consolidation.
+     * </p>
+     *
+     * @param consolidatedSnapshot consolidated snapshot
+     * @see in.xnnyygn.xraft.core.log.statemachine.DeltaStateMachine
+     */
+    void replaceSnapshotChain(Snapshot consolidatedSnapshot);
+
     /**
      * Set state machine.
      * <p>
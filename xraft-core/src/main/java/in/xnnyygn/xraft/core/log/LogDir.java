@@ -1,6 +1,7 @@
 package in.xnnyygn.xraft.core.log;
 
 import java.io.File;
+import java.util.List;
 
 public interface LogDir {
 
@@ -10,6 +11,15 @@ public interface LogDir {
 
     File getSnapshotFile();
 
+    File getDeltaSnapshotFile(int lastIncludedIndex);
+
+    /**
+     * List delta snapshot files.
+     *
+     * @return delta snapshot files, ordered by last included index
+     */
+    List<File> listDeltaSnapshotFiles();
+
     File getEntriesFile();
 
     File getEntryOffsetIndexFile();
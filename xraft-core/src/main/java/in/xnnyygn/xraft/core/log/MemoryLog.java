@@ -1,11 +1,13 @@
 package in.xnnyygn.xraft.core.log;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.log.entry.Entry;
 import in.xnnyygn.xraft.core.log.entry.EntryMeta;
+import in.xnnyygn.xraft.core.log.event.LogEventListener;
+import in.xnnyygn.xraft.core.log.event.LogEventListenerAdapter;
 import in.xnnyygn.xraft.core.log.sequence.EntrySequence;
 import in.xnnyygn.xraft.core.log.sequence.MemoryEntrySequence;
 import in.xnnyygn.xraft.core.log.snapshot.*;
+import in.xnnyygn.xraft.core.log.statemachine.DeltaStateMachine;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotRpc;
 import org.slf4j.Logger;
@@ -23,15 +25,15 @@ public class MemoryLog extends AbstractLog {
     private static final Logger logger = LoggerFactory.getLogger(MemoryLog.class);
 
     public MemoryLog() {
-        this(new EventBus());
+        this(new LogEventListenerAdapter());
     }
 
-    public MemoryLog(EventBus eventBus) {
-        this(new EmptySnapshot(), new MemoryEntrySequence(), eventBus);
+    public MemoryLog(LogEventListener eventListener) {
+        this(new EmptySnapshot(), new MemoryEntrySequence(), eventListener);
     }
 
-    public MemoryLog(Snapshot snapshot, EntrySequence entrySequence, EventBus eventBus) {
-        super(eventBus);
+    public MemoryLog(Snapshot snapshot, EntrySequence entrySequence, LogEventListener eventListener) {
+        super(eventListener);
         this.snapshot = snapshot;
         this.entrySequence = entrySequence;
     }
@@ -47,9 +49,37 @@ public class MemoryLog extends AbstractLog {
         return new MemorySnapshot(lastAppliedEntryMeta.getIndex(), lastAppliedEntryMeta.getTerm(), output.toByteArray(), groupConfig);
     }
 
+    @Override
+    protected Snapshot generateDeltaSnapshot(EntryMeta lastAppliedEntryMeta, Set<NodeEndpoint> groupConfig) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ((DeltaStateMachine) stateMachine).generateDeltaSnapshot(output);
+        } catch (IOException e) {
+            throw new LogException("failed to generate delta snapshot", e);
+        }
+        return new MemorySnapshot(lastAppliedEntryMeta.getIndex(), lastAppliedEntryMeta.getTerm(), output.toByteArray(), groupConfig, snapshot);
+    }
+
+    @Override
+    protected Snapshot consolidateSnapshot(Snapshot lastSnapshot, DeltaStateMachine deltaStateMachine) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            consolidateSnapshotData(lastSnapshot, deltaStateMachine, output);
+        } catch (IOException e) {
+            throw new LogException("failed to consolidate snapshot", e);
+        }
+        return new MemorySnapshot(lastSnapshot.getLastIncludedIndex(), lastSnapshot.getLastIncludedTerm(), output.toByteArray(), lastSnapshot.getLastConfig());
+    }
+
+    @Override
+    protected void doReplaceSnapshotChain(Snapshot consolidatedSnapshot) {
+        logger.debug("snapshot -> {}", consolidatedSnapshot);
+        snapshot = consolidatedSnapshot;
+    }
+
     @Override
     protected SnapshotBuilder newSnapshotBuilder(InstallSnapshotRpc firstRpc) {
-        return new MemorySnapshotBuilder(firstRpc);
+        return new MemorySnapshotBuilder(firstRpc, firstRpc.getBaseIndex() > 0 ? snapshot : null);
     }
 
     @Override
@@ -8,6 +8,7 @@ import java.io.File;
 class RootDir {
 
     static final String FILE_NAME_SNAPSHOT = "service.ss";
+    static final String FILE_NAME_SNAPSHOT_CONSOLIDATING = "service.ss.consolidating";
     static final String FILE_NAME_ENTRIES = "entries.bin";
     static final String FILE_NAME_ENTRY_OFFSET_INDEX = "entries.idx";
     private static final String DIR_NAME_GENERATING = "generating";
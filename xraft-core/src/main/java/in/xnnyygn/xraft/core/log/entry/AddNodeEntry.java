@@ -2,10 +2,10 @@ package in.xnnyygn.xraft.core.log.entry;
 
 import in.xnnyygn.xraft.core.Protos;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class AddNodeEntry extends GroupConfigEntry {
 
@@ -20,8 +20,14 @@ public class AddNodeEntry extends GroupConfigEntry {
         return newNodeEndpoint;
     }
 
+    /**
+     * Get node endpoints after adding, new endpoint replaces existing one with same id, e.g. learner promoted.
+     *
+     * @return node endpoints
+     */
     public Set<NodeEndpoint> getResultNodeEndpoints() {
         Set<NodeEndpoint> configs = new HashSet<>(getNodeEndpoints());
+        configs.remove(newNodeEndpoint);
         configs.add(newNodeEndpoint);
         return configs;
     }
@@ -29,19 +35,9 @@ public class AddNodeEntry extends GroupConfigEntry {
     @Override
     public byte[] getCommandBytes() {
         return Protos.AddNodeCommand.newBuilder()
-                .addAllNodeEndpoints(getNodeEndpoints().stream().map(c ->
-                        Protos.NodeEndpoint.newBuilder()
-                                .setId(c.getId().getValue())
-                                .setHost(c.getHost())
-                                .setPort(c.getPort())
-                                .build()
-                ).collect(Collectors.toList()))
-                .setNewNodeEndpoint(Protos.NodeEndpoint.newBuilder()
-                        .setId(newNodeEndpoint.getId().getValue())
-                        .setHost(newNodeEndpoint.getHost())
-                        .setPort(newNodeEndpoint.getPort())
-                        .build()
-                ).build().toByteArray();
+                .addAllNodeEndpoints(ProtoNodeEndpoints.toProto(getNodeEndpoints()))
+                .setNewNodeEndpoint(ProtoNodeEndpoints.toProto(newNodeEndpoint))
+                .build().toByteArray();
     }
 
     @Override
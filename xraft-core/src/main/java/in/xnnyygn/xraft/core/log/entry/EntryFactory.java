@@ -2,12 +2,8 @@ package in.xnnyygn.xraft.core.log.entry;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import in.xnnyygn.xraft.core.Protos;
-import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
-
-import java.util.Collection;
-import java.util.Set;
-import java.util.stream.Collectors;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 
 public class EntryFactory {
 
@@ -20,10 +16,10 @@ public class EntryFactory {
                     return new GeneralEntry(index, term, commandBytes);
                 case Entry.KIND_ADD_NODE:
                     Protos.AddNodeCommand addNodeCommand = Protos.AddNodeCommand.parseFrom(commandBytes);
-                    return new AddNodeEntry(index, term, asNodeEndpoints(addNodeCommand.getNodeEndpointsList()), asNodeEndpoint(addNodeCommand.getNewNodeEndpoint()));
+                    return new AddNodeEntry(index, term, ProtoNodeEndpoints.fromProto(addNodeCommand.getNodeEndpointsList()), ProtoNodeEndpoints.fromProto(addNodeCommand.getNewNodeEndpoint()));
                 case Entry.KIND_REMOVE_NODE:
                     Protos.RemoveNodeCommand removeNodeCommand = Protos.RemoveNodeCommand.parseFrom(commandBytes);
-                    return new RemoveNodeEntry(index, term, asNodeEndpoints(removeNodeCommand.getNodeEndpointsList()), new NodeId(removeNodeCommand.getNodeToRemove()));
+                    return new RemoveNodeEntry(index, term, ProtoNodeEndpoints.fromProto(removeNodeCommand.getNodeEndpointsList()), new NodeId(removeNodeCommand.getNodeToRemove()));
                 default:
                     throw new IllegalArgumentException("unexpected entry kind " + kind);
             }
@@ -32,12 +28,4 @@ public class EntryFactory {
         }
     }
 
-    private Set<NodeEndpoint> asNodeEndpoints(Collection<Protos.NodeEndpoint> protoNodeEndpoints) {
-        return protoNodeEndpoints.stream().map(this::asNodeEndpoint).collect(Collectors.toSet());
-    }
-
-    private NodeEndpoint asNodeEndpoint(Protos.NodeEndpoint protoNodeEndpoint) {
-        return new NodeEndpoint(protoNodeEndpoint.getId(), protoNodeEndpoint.getHost(), protoNodeEndpoint.getPort());
-    }
-
 }
@@ -3,6 +3,7 @@ package in.xnnyygn.xraft.core.log.entry;
 import in.xnnyygn.xraft.core.Protos;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,13 +30,7 @@ public class RemoveNodeEntry extends GroupConfigEntry {
     @Override
     public byte[] getCommandBytes() {
         return Protos.RemoveNodeCommand.newBuilder()
-                .addAllNodeEndpoints(getNodeEndpoints().stream().map(c ->
-                        Protos.NodeEndpoint.newBuilder()
-                                .setId(c.getId().getValue())
-                                .setHost(c.getHost())
-                                .setPort(c.getPort())
-                                .build()
-                ).collect(Collectors.toList()))
+                .addAllNodeEndpoints(ProtoNodeEndpoints.toProto(getNodeEndpoints()))
                 .setNodeToRemove(nodeToRemove.getValue())
                 .build().toByteArray();
     }
@@ -0,0 +1,68 @@
+package in.xnnyygn.xraft.core.log.event;
+
+/**
+ * Listener of events from log.
+ * <p>
+ * Methods are called in the thread operating log, or threads of log for snapshot,
+ * implementation should hand off events to its own thread and return quickly.
+ * </p>
+ */
+public interface LogEventListener {
+
+    /**
+     * Group config entry from leader appended.
+     *
+     * @param event event
+     */
+    void onGroupConfigEntryFromLeaderAppend(GroupConfigEntryFromLeaderAppendEvent event);
+
+    /**
+     * Group config entry committed.
+     *
+     * @param event event
+     */
+    void onGroupConfigEntryCommitted(GroupConfigEntryCommittedEvent event);
+
+    /**
+     * Group config entries removed.
+     *
+     * @param event event
+     */
+    void onGroupConfigEntryBatchRemoved(GroupConfigEntryBatchRemovedEvent event);
+
+    /**
+     * Snapshot should be generated.
+     *
+     * @param event event
+     */
+    void onGenerateSnapshot(SnapshotGenerateEvent event);
+
+    /**
+     * Snapshot chain consolidated.
+     *
+     * @param event event
+     */
+    void onSnapshotConsolidated(SnapshotConsolidatedEvent event);
+
+    /**
+     * Snapshot from leader installed.
+     *
+     * @param event event
+     */
+    void onSnapshotInstalled(SnapshotInstalledEvent event);
+
+    /**
+     * Chunks of snapshot being installed are drained by restoring, after too many were queued.
+     *
+     * @param event event
+     */
+    void onSnapshotDataDrained(SnapshotDataDrainedEvent event);
+
+    /**
+     * Restoring of aborted snapshot installation stopped.
+     *
+     * @param event event
+     */
+    void onSnapshotRestoreAborted(SnapshotRestoreAbortedEvent event);
+
+}
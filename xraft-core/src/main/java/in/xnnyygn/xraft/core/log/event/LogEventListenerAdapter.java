@@ -0,0 +1,37 @@
+package in.xnnyygn.xraft.core.log.event;
+
+public class LogEventListenerAdapter implements LogEventListener {
+
+    @Override
+    public void onGroupConfigEntryFromLeaderAppend(GroupConfigEntryFromLeaderAppendEvent event) {
+    }
+
+    @Override
+    public void onGroupConfigEntryCommitted(GroupConfigEntryCommittedEvent event) {
+    }
+
+    @Override
+    public void onGroupConfigEntryBatchRemoved(GroupConfigEntryBatchRemovedEvent event) {
+    }
+
+    @Override
+    public void onGenerateSnapshot(SnapshotGenerateEvent event) {
+    }
+
+    @Override
+    public void onSnapshotConsolidated(SnapshotConsolidatedEvent event) {
+    }
+
+    @Override
+    public void onSnapshotInstalled(SnapshotInstalledEvent event) {
+    }
+
+    @Override
+    public void onSnapshotDataDrained(SnapshotDataDrainedEvent event) {
+    }
+
+    @Override
+    public void onSnapshotRestoreAborted(SnapshotRestoreAbortedEvent event) {
+    }
+
+}
@@ -0,0 +1,17 @@
+package in.xnnyygn.xraft.core.log.event;
+
+import in.xnnyygn.xraft.core.log.snapshot.Snapshot;
+
+public class SnapshotConsolidatedEvent {
+
+    private final Snapshot snapshot;
+
+    public SnapshotConsolidatedEvent(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,15 @@
+package in.xnnyygn.xraft.core.log.event;
+
+public class SnapshotDataDrainedEvent {
+
+    private final int lastIncludedIndex;
+
+    public SnapshotDataDrainedEvent(int lastIncludedIndex) {
+        this.lastIncludedIndex = lastIncludedIndex;
+    }
+
+    public int getLastIncludedIndex() {
+        return lastIncludedIndex;
+    }
+
+}
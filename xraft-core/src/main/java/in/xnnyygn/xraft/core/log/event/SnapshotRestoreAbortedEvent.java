@@ -0,0 +1,15 @@
+package in.xnnyygn.xraft.core.log.event;
+
+public class SnapshotRestoreAbortedEvent {
+
+    private final int lastIncludedIndex;
+
+    public SnapshotRestoreAbortedEvent(int lastIncludedIndex) {
+        this.lastIncludedIndex = lastIncludedIndex;
+    }
+
+    public int getLastIncludedIndex() {
+        return lastIncludedIndex;
+    }
+
+}
@@ -47,6 +47,39 @@ public class EntriesFile {
         return factory.create(kind, index, term, bytes);
     }
 
+    /**
+     * Load entry, or return {@code null} if entry is incomplete, e.g. partially written before crash.
+     * <p>
+     * Offset of next entry is {@link #position()} after loaded.
+     * </p>
+     *
+     * @param offset  offset
+     * @param factory entry factory
+     * @return entry, or {@code null} if incomplete
+     * @throws IOException if IO exception occurred
+     */
+    public Entry loadEntryIfComplete(long offset, EntryFactory factory) throws IOException {
+        long remaining = seekableFile.size() - offset;
+        if (remaining < 16) {
+            return null;
+        }
+        seekableFile.seek(offset);
+        int kind = seekableFile.readInt();
+        int index = seekableFile.readInt();
+        int term = seekableFile.readInt();
+        int length = seekableFile.readInt();
+        if (length < 0 || remaining - 16 < length) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        seekableFile.read(bytes);
+        return factory.create(kind, index, term, bytes);
+    }
+
+    public long position() throws IOException {
+        return seekableFile.position();
+    }
+
     public long size() throws IOException {
         return seekableFile.size();
     }
@@ -59,6 +92,10 @@ public class EntriesFile {
         seekableFile.truncate(offset);
     }
 
+    public void sync() throws IOException {
+        seekableFile.sync();
+    }
+
     public void close() throws IOException {
         seekableFile.close();
     }
@@ -38,6 +38,21 @@ public interface EntrySequence {
 
     int getCommitIndex();
 
+    /**
+     * Write entries not committed, without waiting for disk.
+     *
+     * @return index of last entry written
+     */
+    int flush();
+
+    /**
+     * Wait for entries written to reach disk.
+     * <p>
+     * Could be called in other thread than the one appending entries.
+     * </p>
+     */
+    void sync();
+
     void removeAfter(int index);
 
     void close();
@@ -6,6 +6,8 @@ import in.xnnyygn.xraft.core.log.entry.Entry;
 import in.xnnyygn.xraft.core.log.entry.EntryFactory;
 import in.xnnyygn.xraft.core.log.entry.EntryMeta;
 import in.xnnyygn.xraft.core.log.entry.GroupConfigEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.IOException;
@@ -14,15 +16,28 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * Entry sequence in file.
+ * <p>
+ * Committed entries are in entries file and entry index file, entries not committed are pending in memory.
+ * Pending entries could be flushed to entries file before committed, without index, and are loaded
+ * as pending entries again when opened.
+ * </p>
+ */
 @NotThreadSafe
 public class FileEntrySequence extends AbstractEntrySequence {
 
+    private static final Logger logger = LoggerFactory.getLogger(FileEntrySequence.class);
     private final EntryFactory entryFactory = new EntryFactory();
     private final EntriesFile entriesFile;
     private final EntryIndexFile entryIndexFile;
     private final LinkedList<Entry> pendingEntries = new LinkedList<>();
     private int commitIndex;
 
+    // offsets of pending entries flushed, from commitIndex + 1 to flushedIndex
+    private final LinkedList<Long> flushedOffsets = new LinkedList<>();
+    private int flushedIndex;
+
     public FileEntrySequence(LogDir logDir, int logIndexOffset) {
         super(logIndexOffset);
         try {
@@ -44,11 +59,50 @@ public class FileEntrySequence extends AbstractEntrySequence {
     private void initialize() {
         if (entryIndexFile.isEmpty()) {
             commitIndex = logIndexOffset - 1;
-            return;
+        } else {
+            logIndexOffset = entryIndexFile.getMinEntryIndex();
+            nextLogIndex = entryIndexFile.getMaxEntryIndex() + 1;
+            commitIndex = entryIndexFile.getMaxEntryIndex();
+        }
+        flushedIndex = commitIndex;
+        try {
+            loadFlushedEntries();
+        } catch (IOException e) {
+            throw new LogException("failed to load flushed entries", e);
+        }
+    }
+
+    /**
+     * Load entries flushed but not committed, and truncate incomplete entry at the end.
+     *
+     * @throws IOException if IO exception occurred
+     */
+    private void loadFlushedEntries() throws IOException {
+        long size = entriesFile.size();
+        long offset = 0L;
+        if (!entryIndexFile.isEmpty()) {
+            offset = entryIndexFile.getOffset(commitIndex);
+            if (offset >= size) {
+                return;
+            }
+            // skip last entry committed
+            entriesFile.loadEntry(offset, entryFactory);
+            offset = entriesFile.position();
+        }
+        Entry entry;
+        while (offset < size) {
+            entry = entriesFile.loadEntryIfComplete(offset, entryFactory);
+            if (entry == null || entry.getIndex() != nextLogIndex) {
+                logger.warn("incomplete or unexpected entry at offset {}, truncate", offset);
+                entriesFile.truncate(offset);
+                break;
+            }
+            pendingEntries.add(entry);
+            flushedOffsets.add(offset);
+            flushedIndex = entry.getIndex();
+            nextLogIndex++;
+            offset = entriesFile.position();
         }
-        logIndexOffset = entryIndexFile.getMinEntryIndex();
-        nextLogIndex = entryIndexFile.getMaxEntryIndex() + 1;
-        commitIndex = entryIndexFile.getMaxEntryIndex();
     }
 
     @Override
@@ -56,6 +110,34 @@ public class FileEntrySequence extends AbstractEntrySequence {
         return commitIndex;
     }
 
+    @Override
+    public int flush() {
+        if (pendingEntries.isEmpty() || flushedIndex >= pendingEntries.getLast().getIndex()) {
+            return flushedIndex;
+        }
+        Entry entry = null;
+        try {
+            Iterator<Entry> iterator = pendingEntries.listIterator(flushedIndex - commitIndex);
+            while (iterator.hasNext()) {
+                entry = iterator.next();
+                flushedOffsets.add(entriesFile.appendEntry(entry));
+                flushedIndex = entry.getIndex();
+            }
+        } catch (IOException e) {
+            throw new LogException("failed to flush entry " + entry, e);
+        }
+        return flushedIndex;
+    }
+
+    @Override
+    public void sync() {
+        try {
+            entriesFile.sync();
+        } catch (IOException e) {
+            throw new LogException("failed to sync entries file", e);
+        }
+    }
+
     @Override
     public GroupConfigEntryList buildGroupConfigEntryList() {
         GroupConfigEntryList list = new GroupConfigEntryList();
@@ -181,7 +263,12 @@ public class FileEntrySequence extends AbstractEntrySequence {
         try {
             for (int i = commitIndex + 1; i <= index; i++) {
                 entry = pendingEntries.removeFirst();
-                offset = entriesFile.appendEntry(entry);
+                if (i <= flushedIndex) {
+                    offset = flushedOffsets.removeFirst();
+                } else {
+                    offset = entriesFile.appendEntry(entry);
+                    flushedIndex = i;
+                }
                 entryIndexFile.appendEntryIndex(i, offset, entry.getKind(), entry.getTerm());
                 commitIndex = i;
             }
@@ -198,9 +285,11 @@ public class FileEntrySequence extends AbstractEntrySequence {
                 pendingEntries.removeLast();
             }
             nextLogIndex = index + 1;
+            removeFlushedAfter(index);
             return;
         }
         try {
+            flushedOffsets.clear();
             if (index >= doGetFirstLogIndex()) {
                 pendingEntries.clear();
                 // remove entries whose index >= (index + 1)
@@ -208,18 +297,35 @@ public class FileEntrySequence extends AbstractEntrySequence {
                 entryIndexFile.removeAfter(index);
                 nextLogIndex = index + 1;
                 commitIndex = index;
+                flushedIndex = index;
             } else {
                 pendingEntries.clear();
                 entriesFile.clear();
                 entryIndexFile.clear();
                 nextLogIndex = logIndexOffset;
                 commitIndex = logIndexOffset - 1;
+                flushedIndex = commitIndex;
             }
         } catch (IOException e) {
             throw new LogException(e);
         }
     }
 
+    private void removeFlushedAfter(int index) {
+        if (flushedIndex <= index) {
+            return;
+        }
+        try {
+            entriesFile.truncate(flushedOffsets.get(index - commitIndex));
+        } catch (IOException e) {
+            throw new LogException("failed to remove flushed entries after " + index, e);
+        }
+        for (int i = index + 1; i <= flushedIndex; i++) {
+            flushedOffsets.removeLast();
+        }
+        flushedIndex = index;
+    }
+
     @Override
     public void close() {
         try {
@@ -45,6 +45,15 @@ public class MemoryEntrySequence extends AbstractEntrySequence {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public int flush() {
+        return doGetLastLogIndex();
+    }
+
+    @Override
+    public void sync() {
+    }
+
     @Override
     public GroupConfigEntryList buildGroupConfigEntryList() {
         GroupConfigEntryList list = new GroupConfigEntryList();
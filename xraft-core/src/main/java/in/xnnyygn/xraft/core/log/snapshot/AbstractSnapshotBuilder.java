@@ -12,6 +12,7 @@ abstract class AbstractSnapshotBuilder<T extends Snapshot> implements SnapshotBu
     int lastIncludedIndex;
     int lastIncludedTerm;
     Set<NodeEndpoint> lastConfig;
+    int baseIndex;
     private int offset;
 
     AbstractSnapshotBuilder(InstallSnapshotRpc firstRpc) {
@@ -19,6 +20,7 @@ abstract class AbstractSnapshotBuilder<T extends Snapshot> implements SnapshotBu
         lastIncludedIndex = firstRpc.getLastIndex();
         lastIncludedTerm = firstRpc.getLastTerm();
         lastConfig = firstRpc.getLastConfig();
+        baseIndex = firstRpc.getBaseIndex();
         offset = firstRpc.getDataLength();
     }
 
@@ -40,6 +42,9 @@ abstract class AbstractSnapshotBuilder<T extends Snapshot> implements SnapshotBu
         if (rpc.getLastIndex() != lastIncludedIndex || rpc.getLastTerm() != lastIncludedTerm) {
             throw new IllegalArgumentException("unexpected last included index or term");
         }
+        if (rpc.getBaseIndex() != baseIndex) {
+            throw new IllegalArgumentException("unexpected base index, expected " + baseIndex + ", but was " + rpc.getBaseIndex());
+        }
         write(rpc.getData());
         offset += rpc.getDataLength();
     }
@@ -3,6 +3,7 @@ package in.xnnyygn.xraft.core.log.snapshot;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -48,6 +49,12 @@ public class EmptySnapshot implements Snapshot {
         return new ByteArrayInputStream(new byte[0]);
     }
 
+    @Override
+    @Nullable
+    public Snapshot getBase() {
+        return null;
+    }
+
     @Override
     public void close() {
     }
@@ -5,50 +5,178 @@ import in.xnnyygn.xraft.core.Protos;
 import in.xnnyygn.xraft.core.log.LogDir;
 import in.xnnyygn.xraft.core.log.LogException;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.support.ByteBufferInputStream;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 import in.xnnyygn.xraft.core.support.RandomAccessFileAdapter;
 import in.xnnyygn.xraft.core.support.SeekableFile;
 
 import javax.annotation.Nonnull;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * Snapshot in file.
+ * <p>
+ * Data region is memory mapped once when loading, in regions of at most {@link #MAX_REGION_SIZE} bytes since
+ * a single mapping is limited to 2GB. Chunks and data streams are read-only views of the mapped regions,
+ * reading them allocates no heap and is safe from any thread. Only a chunk across two regions is copied.
+ * </p>
+ * <p>
+ * Mapping is not unmapped explicitly when closed, since chunks queued in channels and data streams read by
+ * restore or consolidation thread may still refer to it, and accessing an unmapped region crashes the JVM.
+ * Closing drops references of snapshot to the mapping, so its lifetime is bounded by the last chunk or stream
+ * in use, after which the mapping is released by garbage collector.
+ * </p>
+ */
 public class FileSnapshot implements Snapshot {
 
+    static final int MAX_REGION_SIZE = 1 << 30;
+
+    private final int regionSize;
     private LogDir logDir;
-    private SeekableFile seekableFile;
     private int lastIncludedIndex;
     private int lastIncludedTerm;
     private Set<NodeEndpoint> lastConfig;
     private long dataStart;
     private long dataLength;
+    // null after closed
+    private ByteBuffer[] regions;
+    private int baseIndex;
+    private FileSnapshot base;
 
+    /**
+     * Create.
+     * <p>
+     * Load full snapshot and delta snapshots in log dir as a chain, return the last one.
+     * </p>
+     *
+     * @param logDir log dir
+     */
     public FileSnapshot(LogDir logDir) {
+        this(logDir, listSnapshotFilesInChain(logDir));
+    }
+
+    private FileSnapshot(LogDir logDir, List<File> files) {
+        this.regionSize = MAX_REGION_SIZE;
         this.logDir = logDir;
-        readHeader(logDir.getSnapshotFile());
+        int last = files.size() - 1;
+        if (last > 0) {
+            base = new FileSnapshot(logDir, files.subList(0, last));
+        }
+        readHeader(files.get(last));
+        int expectedBaseIndex = (base != null ? base.getLastIncludedIndex() : 0);
+        if (baseIndex != expectedBaseIndex) {
+            close();
+            throw new LogException("broken snapshot chain, expected base index " + expectedBaseIndex + ", but was " + baseIndex);
+        }
     }
 
     public FileSnapshot(File file) {
+        this(file, MAX_REGION_SIZE);
+    }
+
+    FileSnapshot(File file, int regionSize) {
+        this.regionSize = regionSize;
         readHeader(file);
     }
 
     public FileSnapshot(SeekableFile seekableFile) {
-        readHeader(seekableFile);
+        this.regionSize = MAX_REGION_SIZE;
+        try {
+            readHeader(seekableFile);
+            if (dataLength > MAX_REGION_SIZE) {
+                throw new LogException("snapshot data too large to read into memory, " + dataLength + " bytes");
+            }
+            byte[] bytes = new byte[(int) dataLength];
+            if (bytes.length > 0 && seekableFile.read(bytes) != bytes.length) {
+                throw new LogException("unexpected end of snapshot content");
+            }
+            regions = new ByteBuffer[]{ByteBuffer.wrap(bytes).asReadOnlyBuffer()};
+        } catch (IOException e) {
+            throw new LogException("failed to read snapshot content", e);
+        } finally {
+            closeQuietly(seekableFile);
+        }
+    }
+
+    /**
+     * List snapshot files in chain.
+     * <p>
+     * Delta snapshots which have been consolidated into full snapshot are skipped.
+     * </p>
+     *
+     * @param logDir log dir
+     * @return full snapshot file followed by delta snapshot files
+     */
+    private static List<File> listSnapshotFilesInChain(LogDir logDir) {
+        List<File> files = new ArrayList<>();
+        File snapshotFile = logDir.getSnapshotFile();
+        files.add(snapshotFile);
+        int lastIncludedIndex = readHeaderOnly(snapshotFile).getLastIndex();
+        for (File deltaSnapshotFile : logDir.listDeltaSnapshotFiles()) {
+            Protos.SnapshotHeader header = readHeaderOnly(deltaSnapshotFile);
+            if (header.getLastIndex() > lastIncludedIndex) {
+                files.add(deltaSnapshotFile);
+                lastIncludedIndex = header.getLastIndex();
+            }
+        }
+        return files;
+    }
+
+    private static Protos.SnapshotHeader readHeaderOnly(File file) {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            byte[] headerBytes = new byte[input.readInt()];
+            input.readFully(headerBytes);
+            return Protos.SnapshotHeader.parseFrom(headerBytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new LogException("failed to parse header of snapshot", e);
+        } catch (IOException e) {
+            throw new LogException("failed to read snapshot", e);
+        }
     }
 
     private void readHeader(File file) {
+        SeekableFile seekableFile;
         try {
-            readHeader(new RandomAccessFileAdapter(file, "r"));
+            seekableFile = new RandomAccessFileAdapter(file, "r");
         } catch (FileNotFoundException e) {
             throw new LogException(e);
         }
+        try {
+            readHeader(seekableFile);
+        } finally {
+            closeQuietly(seekableFile);
+        }
+        int regionCount = (int) Math.max(1, (dataLength + regionSize - 1) / regionSize);
+        ByteBuffer[] mappedRegions = new ByteBuffer[regionCount];
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // mapping keeps valid after channel closed
+            for (int i = 0; i < regionCount; i++) {
+                long position = (long) i * regionSize;
+                long size = Math.min(regionSize, dataLength - position);
+                mappedRegions[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataStart + position, size).asReadOnlyBuffer();
+            }
+            regions = mappedRegions;
+        } catch (IOException e) {
+            throw new LogException("failed to map snapshot content", e);
+        }
+    }
+
+    private static void closeQuietly(SeekableFile seekableFile) {
+        try {
+            seekableFile.close();
+        } catch (IOException ignored) {
+        }
     }
 
     private void readHeader(SeekableFile seekableFile) {
-        this.seekableFile = seekableFile;
         try {
             int headerLength = seekableFile.readInt();
             byte[] headerBytes = new byte[headerLength];
@@ -56,9 +184,8 @@ public class FileSnapshot implements Snapshot {
             Protos.SnapshotHeader header = Protos.SnapshotHeader.parseFrom(headerBytes);
             lastIncludedIndex = header.getLastIndex();
             lastIncludedTerm = header.getLastTerm();
-            lastConfig = header.getLastConfigList().stream()
-                    .map(e -> new NodeEndpoint(e.getId(), e.getHost(), e.getPort()))
-                    .collect(Collectors.toSet());
+            baseIndex = header.getBaseIndex();
+            lastConfig = ProtoNodeEndpoints.fromProto(header.getLastConfigList());
             dataStart = seekableFile.position();
             dataLength = seekableFile.size() - dataStart;
         } catch (InvalidProtocolBufferException e) {
@@ -95,24 +222,68 @@ public class FileSnapshot implements Snapshot {
         if (offset > dataLength) {
             throw new IllegalArgumentException("offset > data length");
         }
-        try {
-            seekableFile.seek(dataStart + offset);
-            byte[] buffer = new byte[Math.min(length, (int) dataLength - offset)];
-            int n = seekableFile.read(buffer);
-            return new SnapshotChunk(buffer, offset + n >= dataLength);
-        } catch (IOException e) {
-            throw new LogException("failed to seek or read snapshot content", e);
+        int n = (int) Math.min(length, dataLength - offset);
+        return new SnapshotChunk(slice(offset, n), offset + n >= dataLength);
+    }
+
+    /**
+     * Get view of data, copy only if across regions.
+     *
+     * @param position position in data
+     * @param length   length
+     * @return read-only buffer
+     */
+    private ByteBuffer slice(long position, int length) {
+        ByteBuffer[] mappedRegions = ensureOpen();
+        if (length == 0) {
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
         }
+        int index = (int) (position / regionSize);
+        int start = (int) (position % regionSize);
+        if (start + length <= mappedRegions[index].capacity()) {
+            ByteBuffer view = mappedRegions[index].duplicate();
+            view.position(start);
+            view.limit(start + length);
+            return view.slice();
+        }
+        ByteBuffer copy = ByteBuffer.allocate(length);
+        while (copy.hasRemaining()) {
+            ByteBuffer view = mappedRegions[index++].duplicate();
+            view.position(start);
+            view.limit(Math.min(view.capacity(), start + copy.remaining()));
+            copy.put(view);
+            start = 0;
+        }
+        copy.flip();
+        return copy.asReadOnlyBuffer();
     }
 
     @Override
     @Nonnull
     public InputStream getDataStream() {
-        try {
-            return seekableFile.inputStream(dataStart);
-        } catch (IOException e) {
-            throw new LogException("failed to get input stream of snapshot data", e);
+        ByteBuffer[] mappedRegions = ensureOpen();
+        if (mappedRegions.length == 1) {
+            return new ByteBufferInputStream(mappedRegions[0].duplicate());
+        }
+        List<InputStream> streams = new ArrayList<>(mappedRegions.length);
+        for (ByteBuffer region : mappedRegions) {
+            streams.add(new ByteBufferInputStream(region.duplicate()));
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    private ByteBuffer[] ensureOpen() {
+        ByteBuffer[] mappedRegions = regions;
+        if (mappedRegions == null) {
+            throw new IllegalStateException("snapshot closed");
         }
+        return mappedRegions;
+    }
+
+    @Override
+    @Nullable
+    public Snapshot getBase() {
+        return base;
     }
 
     public LogDir getLogDir() {
@@ -121,10 +292,10 @@ public class FileSnapshot implements Snapshot {
 
     @Override
     public void close() {
-        try {
-            seekableFile.close();
-        } catch (IOException e) {
-            throw new LogException("failed to close file", e);
+        // file has been closed after mapping, mapped regions are released when chunks and streams are unreachable
+        regions = null;
+        if (base != null) {
+            base.close();
         }
     }
 
@@ -4,6 +4,7 @@ import in.xnnyygn.xraft.core.log.LogDir;
 import in.xnnyygn.xraft.core.log.LogException;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotRpc;
 
+import java.io.File;
 import java.io.IOException;
 
 public class FileSnapshotBuilder extends AbstractSnapshotBuilder<FileSnapshot> {
@@ -16,7 +17,8 @@ public class FileSnapshotBuilder extends AbstractSnapshotBuilder<FileSnapshot> {
         this.logDir = logDir;
 
         try {
-            writer = new FileSnapshotWriter(logDir.getSnapshotFile(), firstRpc.getLastIndex(), firstRpc.getLastTerm(), firstRpc.getLastConfig());
+            File file = (firstRpc.getBaseIndex() > 0 ? logDir.getDeltaSnapshotFile(firstRpc.getLastIndex()) : logDir.getSnapshotFile());
+            writer = new FileSnapshotWriter(file, firstRpc.getLastIndex(), firstRpc.getLastTerm(), firstRpc.getLastConfig(), firstRpc.getBaseIndex());
             writer.write(firstRpc.getData());
         } catch (IOException e) {
             throw new LogException("failed to write snapshot data to file", e);
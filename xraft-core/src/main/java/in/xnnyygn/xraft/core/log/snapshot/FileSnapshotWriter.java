@@ -2,32 +2,44 @@ package in.xnnyygn.xraft.core.log.snapshot;
 
 import in.xnnyygn.xraft.core.Protos;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 
 import java.io.*;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class FileSnapshotWriter implements AutoCloseable {
 
     private final DataOutputStream output;
 
     public FileSnapshotWriter(File file, int lastIncludedIndex, int lastIncludedTerm, Set<NodeEndpoint> lastConfig) throws IOException {
-        this(new DataOutputStream(new FileOutputStream(file)), lastIncludedIndex, lastIncludedTerm, lastConfig);
+        this(file, lastIncludedIndex, lastIncludedTerm, lastConfig, 0);
+    }
+
+    /**
+     * Create.
+     *
+     * @param file              file
+     * @param lastIncludedIndex last included index
+     * @param lastIncludedTerm  last included term
+     * @param lastConfig        last config
+     * @param baseIndex         last included index of base snapshot if delta snapshot, otherwise {@code 0}
+     * @throws IOException if IO error occurred
+     */
+    public FileSnapshotWriter(File file, int lastIncludedIndex, int lastIncludedTerm, Set<NodeEndpoint> lastConfig, int baseIndex) throws IOException {
+        this(new DataOutputStream(new FileOutputStream(file)), lastIncludedIndex, lastIncludedTerm, lastConfig, baseIndex);
     }
 
     FileSnapshotWriter(OutputStream output, int lastIncludedIndex, int lastIncludedTerm, Set<NodeEndpoint> lastConfig) throws IOException {
+        this(output, lastIncludedIndex, lastIncludedTerm, lastConfig, 0);
+    }
+
+    FileSnapshotWriter(OutputStream output, int lastIncludedIndex, int lastIncludedTerm, Set<NodeEndpoint> lastConfig, int baseIndex) throws IOException {
         this.output = new DataOutputStream(output);
         byte[] headerBytes = Protos.SnapshotHeader.newBuilder()
                 .setLastIndex(lastIncludedIndex)
                 .setLastTerm(lastIncludedTerm)
-                .addAllLastConfig(
-                        lastConfig.stream()
-                                .map(e -> Protos.NodeEndpoint.newBuilder()
-                                        .setId(e.getId().getValue())
-                                        .setHost(e.getHost())
-                                        .setPort(e.getPort())
-                                        .build())
-                                .collect(Collectors.toList()))
+                .setBaseIndex(baseIndex)
+                .addAllLastConfig(ProtoNodeEndpoints.toProto(lastConfig))
                 .build().toByteArray();
         this.output.writeInt(headerBytes.length);
         this.output.write(headerBytes);
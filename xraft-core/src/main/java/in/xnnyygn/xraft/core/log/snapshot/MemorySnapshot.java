@@ -3,9 +3,11 @@ package in.xnnyygn.xraft.core.log.snapshot;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Set;
 
@@ -16,16 +18,22 @@ public class MemorySnapshot implements Snapshot {
     private final int lastIncludedTerm;
     private final byte[] data;
     private final Set<NodeEndpoint> lastConfig;
+    private final Snapshot base;
 
     public MemorySnapshot(int lastIncludedIndex, int lastIncludedTerm) {
         this(lastIncludedIndex, lastIncludedTerm, new byte[0], Collections.emptySet());
     }
 
     public MemorySnapshot(int lastIncludedIndex, int lastIncludedTerm, byte[] data, Set<NodeEndpoint> lastConfig) {
+        this(lastIncludedIndex, lastIncludedTerm, data, lastConfig, null);
+    }
+
+    public MemorySnapshot(int lastIncludedIndex, int lastIncludedTerm, byte[] data, Set<NodeEndpoint> lastConfig, Snapshot base) {
         this.lastIncludedIndex = lastIncludedIndex;
         this.lastIncludedTerm = lastIncludedTerm;
         this.data = data;
         this.lastConfig = lastConfig;
+        this.base = base;
     }
 
     @Override
@@ -61,8 +69,7 @@ public class MemorySnapshot implements Snapshot {
         }
 
         int bufferLength = Math.min(data.length - offset, length);
-        byte[] buffer = new byte[bufferLength];
-        System.arraycopy(data, offset, buffer, 0, bufferLength);
+        ByteBuffer buffer = ByteBuffer.wrap(data, offset, bufferLength).slice().asReadOnlyBuffer();
         return new SnapshotChunk(buffer, offset + length >= this.data.length);
     }
 
@@ -72,6 +79,12 @@ public class MemorySnapshot implements Snapshot {
         return new ByteArrayInputStream(data);
     }
 
+    @Override
+    @Nullable
+    public Snapshot getBase() {
+        return base;
+    }
+
     @Override
     public void close() {
     }
@@ -82,6 +95,7 @@ public class MemorySnapshot implements Snapshot {
                 "lastIncludedIndex=" + lastIncludedIndex +
                 ", lastIncludedTerm=" + lastIncludedTerm +
                 ", data.size=" + data.length +
+                ", base=" + (base != null ? base.getLastIncludedIndex() : "-") +
                 '}';
     }
 
@@ -9,9 +9,15 @@ import java.io.IOException;
 public class MemorySnapshotBuilder extends AbstractSnapshotBuilder<MemorySnapshot> {
 
     private final ByteArrayOutputStream output;
+    private final Snapshot base;
 
     public MemorySnapshotBuilder(InstallSnapshotRpc firstRpc) {
+        this(firstRpc, null);
+    }
+
+    public MemorySnapshotBuilder(InstallSnapshotRpc firstRpc, Snapshot base) {
         super(firstRpc);
+        this.base = base;
         output = new ByteArrayOutputStream();
 
         try {
@@ -28,7 +34,7 @@ public class MemorySnapshotBuilder extends AbstractSnapshotBuilder<MemorySnapsho
 
     @Override
     public MemorySnapshot build() {
-        return new MemorySnapshot(lastIncludedIndex, lastIncludedTerm, output.toByteArray(), lastConfig);
+        return new MemorySnapshot(lastIncludedIndex, lastIncludedTerm, output.toByteArray(), lastConfig, base);
     }
 
     @Override
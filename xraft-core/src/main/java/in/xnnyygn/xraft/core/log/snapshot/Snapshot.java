@@ -3,6 +3,7 @@ package in.xnnyygn.xraft.core.log.snapshot;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.InputStream;
 import java.util.Set;
 
@@ -24,6 +25,18 @@ public interface Snapshot {
     @Nonnull
     InputStream getDataStream();
 
+    /**
+     * Get snapshot which this delta snapshot is based on.
+     * <p>
+     * Data of delta snapshot contains only the changes since base snapshot.
+     * Base snapshot itself may be a delta snapshot, the first snapshot in chain must be a full one.
+     * </p>
+     *
+     * @return base snapshot, {@code null} if this is a full snapshot
+     */
+    @Nullable
+    Snapshot getBase();
+
     void close();
 
 }
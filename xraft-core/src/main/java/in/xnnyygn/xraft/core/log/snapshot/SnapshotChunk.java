@@ -1,12 +1,20 @@
 package in.xnnyygn.xraft.core.log.snapshot;
 
+import in.xnnyygn.xraft.core.support.ByteBuffers;
+
+import java.nio.ByteBuffer;
+
 public class SnapshotChunk {
 
-    private final byte[] bytes;
+    private final ByteBuffer buffer;
     private final boolean lastChunk;
 
     SnapshotChunk(byte[] bytes, boolean lastChunk) {
-        this.bytes = bytes;
+        this(ByteBuffer.wrap(bytes), lastChunk);
+    }
+
+    SnapshotChunk(ByteBuffer buffer, boolean lastChunk) {
+        this.buffer = buffer;
         this.lastChunk = lastChunk;
     }
 
@@ -14,8 +22,17 @@ public class SnapshotChunk {
         return lastChunk;
     }
 
+    /**
+     * Get data as byte buffer without copying.
+     *
+     * @return byte buffer, may be read-only
+     */
+    public ByteBuffer toByteBuffer() {
+        return buffer.duplicate();
+    }
+
     public byte[] toByteArray() {
-        return bytes;
+        return ByteBuffers.toByteArray(buffer);
     }
 
 }
@@ -44,7 +44,7 @@ public abstract class AbstractSingleThreadStateMachine implements StateMachine {
 
     protected abstract void applyCommand(@Nonnull byte[] commandBytes);
 
-    // run in node thread
+    // run in node thread, or snapshot restore thread when snapshot is installed in background
     @Override
     public void applySnapshot(@Nonnull Snapshot snapshot) throws IOException {
         logger.info("apply snapshot, last included index {}", snapshot.getLastIncludedIndex());
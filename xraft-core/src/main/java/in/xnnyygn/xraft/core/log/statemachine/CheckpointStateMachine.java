@@ -0,0 +1,27 @@
+package in.xnnyygn.xraft.core.log.statemachine;
+
+import java.io.IOException;
+
+/**
+ * State machine which persists its state and last applied index by itself.
+ * <p>
+ * Durable state machine, e.g. one backed by an embedded database, records the last applied index in the same
+ * atomic write as the changes of each log or snapshot applied. On start up, log loads the checkpoint and skips
+ * applying snapshot and logs which are already included, instead of rebuilding state from scratch.
+ * </p>
+ */
+public interface CheckpointStateMachine extends StateMachine {
+
+    /**
+     * Load checkpoint.
+     * <p>
+     * Called once when state machine is registered to log, before any log or snapshot is applied.
+     * After loading, {@link #getLastApplied()} should return the index in checkpoint.
+     * </p>
+     *
+     * @return last applied index in checkpoint, {@code 0} if no checkpoint
+     * @throws IOException if IO error occurred
+     */
+    int loadCheckpoint() throws IOException;
+
+}
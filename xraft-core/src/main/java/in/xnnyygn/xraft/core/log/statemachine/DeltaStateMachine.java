@@ -0,0 +1,64 @@
+package in.xnnyygn.xraft.core.log.statemachine;
+
+import in.xnnyygn.xraft.core.log.snapshot.Snapshot;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * State machine which is able to generate delta snapshot.
+ * <p>
+ * Delta snapshot contains only the changes since last snapshot generated or applied, either full or delta.
+ * Log keeps a chain of one full snapshot and several delta snapshots, and consolidates the chain into
+ * a full snapshot in background when the count of delta snapshots reaches {@link #getMaxDeltaSnapshots()}.
+ * </p>
+ */
+public interface DeltaStateMachine extends StateMachine {
+
+    /**
+     * Get max count of delta snapshots in chain before consolidation.
+     *
+     * @return max delta snapshots
+     */
+    int getMaxDeltaSnapshots();
+
+    /**
+     * Generate delta snapshot to output.
+     * <p>
+     * Delta snapshot contains the changes since last snapshot generated or applied.
+     * </p>
+     *
+     * @param output output
+     * @throws IOException if IO error occurred
+     */
+    void generateDeltaSnapshot(@Nonnull OutputStream output) throws IOException;
+
+    /**
+     * Apply delta snapshot on current state.
+     * <p>
+     * Current state must be the state of base snapshot.
+     * </p>
+     *
+     * @param snapshot delta snapshot
+     * @throws IOException if IO error occurred
+     * @see Snapshot#getBase()
+     */
+    void applyDeltaSnapshot(@Nonnull Snapshot snapshot) throws IOException;
+
+    /**
+     * Consolidate full snapshot and delta snapshots into a new full snapshot.
+     * <p>
+     * Run in background thread, should not access current state.
+     * </p>
+     *
+     * @param base   data of full snapshot
+     * @param deltas data of delta snapshots, in order
+     * @param output output
+     * @throws IOException if IO error occurred
+     */
+    void consolidateSnapshot(@Nonnull InputStream base, @Nonnull List<InputStream> deltas, @Nonnull OutputStream output) throws IOException;
+
+}
@@ -7,13 +7,13 @@ package in.xnnyygn.xraft.core.node;
  */
 class GroupMember {
 
-    private final NodeEndpoint endpoint;
+    private NodeEndpoint endpoint;
     private ReplicatingState replicatingState;
     private boolean major;
     private boolean removing = false;
 
     GroupMember(NodeEndpoint endpoint) {
-        this(endpoint, null, true);
+        this(endpoint, null, !endpoint.isLearner());
     }
 
     GroupMember(NodeEndpoint endpoint, ReplicatingState replicatingState, boolean major) {
@@ -57,6 +57,23 @@ class GroupMember {
         this.major = major;
     }
 
+    /**
+     * Test if learner, which receives log but does not vote or count in quorum.
+     *
+     * @return true if learner, otherwise false
+     */
+    boolean isLearner() {
+        return endpoint.isLearner();
+    }
+
+    /**
+     * Promote learner to major member, replicating state is kept.
+     */
+    void promote() {
+        endpoint = endpoint.toVoter();
+        major = true;
+    }
+
     boolean isRemoving() {
         return removing;
     }
@@ -88,9 +105,36 @@ class GroupMember {
     void replicateAt(long replicatedAt) {
         ReplicatingState replicatingState = ensureReplicatingState();
         replicatingState.setReplicating(true);
+        replicatingState.setPaused(false);
         replicatingState.setLastReplicatedAt(replicatedAt);
     }
 
+    /**
+     * Record response from member, in current term.
+     */
+    void contactNow() {
+        contactAt(System.currentTimeMillis());
+    }
+
+    void contactAt(long contactedAt) {
+        ensureReplicatingState().setLastContactAt(contactedAt);
+    }
+
+    long getLastContactAt() {
+        return ensureReplicatingState().getLastContactAt();
+    }
+
+    /**
+     * Pause replication until channel to member becomes writable.
+     */
+    void pauseReplicating() {
+        ensureReplicatingState().setPaused(true);
+    }
+
+    boolean isReplicationPaused() {
+        return ensureReplicatingState().isPaused();
+    }
+
     boolean isReplicating() {
         return ensureReplicatingState().isReplicating();
     }
@@ -99,6 +143,58 @@ class GroupMember {
         ensureReplicatingState().setReplicating(false);
     }
 
+    /**
+     * Start snapshot transfer from follower.
+     *
+     * @param delegateId id of follower which transfers snapshot
+     */
+    void startSnapshotTransfer(NodeId delegateId) {
+        ReplicatingState replicatingState = ensureReplicatingState();
+        replicatingState.setSnapshotTransferDelegateId(delegateId);
+        replicatingState.setSnapshotTransferStartedAt(System.currentTimeMillis());
+    }
+
+    /**
+     * Get id of follower which is transferring snapshot to this member.
+     *
+     * @return follower id, {@code null} if no snapshot transfer
+     */
+    NodeId getSnapshotTransferDelegateId() {
+        return ensureReplicatingState().getSnapshotTransferDelegateId();
+    }
+
+    void stopSnapshotTransfer() {
+        ensureReplicatingState().setSnapshotTransferDelegateId(null);
+    }
+
+    /**
+     * Get last included index of snapshot in member, reported by install snapshot result.
+     * <p>
+     * Leader sends delta snapshots after it if the snapshot is a base in leader's chain.
+     * </p>
+     *
+     * @return last included index, 0 if unknown
+     */
+    int getSnapshotIndex() {
+        return ensureReplicatingState().getSnapshotIndex();
+    }
+
+    void setSnapshotIndex(int snapshotIndex) {
+        ensureReplicatingState().setSnapshotIndex(snapshotIndex);
+    }
+
+    /**
+     * Test if snapshot transfer cannot complete within timeout.
+     *
+     * @param timeout timeout
+     * @return true if transferring and timeout, otherwise false
+     */
+    boolean isSnapshotTransferTimeout(long timeout) {
+        ReplicatingState replicatingState = ensureReplicatingState();
+        return replicatingState.getSnapshotTransferDelegateId() != null &&
+                System.currentTimeMillis() - replicatingState.getSnapshotTransferStartedAt() >= timeout;
+    }
+
     /**
      * Test if should replicate.
      * <p>
@@ -118,6 +214,25 @@ class GroupMember {
                 System.currentTimeMillis() - replicatingState.getLastReplicatedAt() >= readTimeout;
     }
 
+    /**
+     * Record append entries rpc with entries sent.
+     */
+    void entriesSent() {
+        ensureReplicatingState().setEntriesSentSinceTick(true);
+    }
+
+    /**
+     * Reset by log replication task.
+     *
+     * @return true if append entries rpc with entries was sent since last task, e.g. heartbeat is not needed
+     */
+    boolean resetEntriesSentSinceTick() {
+        ReplicatingState replicatingState = ensureReplicatingState();
+        boolean sent = replicatingState.isEntriesSentSinceTick();
+        replicatingState.setEntriesSentSinceTick(false);
+        return sent;
+    }
+
     @Override
     public String toString() {
         return "GroupMember{" +
@@ -5,6 +5,7 @@ import in.xnnyygn.xraft.core.node.role.RoleNameAndLeaderId;
 import in.xnnyygn.xraft.core.node.task.GroupConfigChangeTaskReference;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Node.
@@ -35,6 +36,17 @@ public interface Node {
     @Nonnull
     RoleNameAndLeaderId getRoleNameAndLeaderId();
 
+    /**
+     * Get timestamp by which leader heard from a majority, self included.
+     * <p>
+     * Updated by log replication task. With check quorum enabled, leader steps down when it is
+     * older than max election timeout.
+     * </p>
+     *
+     * @return timestamp in milliseconds, {@code 0} if not leader
+     */
+    long getQuorumContactAt();
+
     /**
      * Add node role listener.
      *
@@ -51,7 +63,7 @@ public interface Node {
      * Append log.
      *
      * @param commandBytes command bytes
-     * @throws NotLeaderException if not leader
+     * @throws NotLeaderException if not leader, or transferring leadership, with endpoint of target
      */
     void appendLog(@Nonnull byte[] commandBytes);
 
@@ -66,6 +78,36 @@ public interface Node {
     @Nonnull
     GroupConfigChangeTaskReference addNode(@Nonnull NodeEndpoint endpoint);
 
+    /**
+     * Add learner, which receives log but does not vote or count in quorum, e.g. read replica.
+     * <p>
+     * Learner is added without catching up, leader replicates log or installs snapshot to it afterwards.
+     * </p>
+     *
+     * @param endpoint endpoint of learner
+     * @return task reference
+     * @throws NotLeaderException if not leader
+     * @throws IllegalArgumentException if node is in group
+     * @throws IllegalStateException if group config change concurrently
+     */
+    @Nonnull
+    GroupConfigChangeTaskReference addLearner(@Nonnull NodeEndpoint endpoint);
+
+    /**
+     * Promote learner to voter.
+     * <p>
+     * Learner keeps its replicating state, so no catch up is needed.
+     * </p>
+     *
+     * @param id id of learner
+     * @return task reference
+     * @throws NotLeaderException if not leader
+     * @throws IllegalArgumentException if node is not learner
+     * @throws IllegalStateException if group config change concurrently
+     */
+    @Nonnull
+    GroupConfigChangeTaskReference promoteLearner(@Nonnull NodeId id);
+
     /**
      * Remove node.
      *
@@ -77,6 +119,24 @@ public interface Node {
     @Nonnull
     GroupConfigChangeTaskReference removeNode(@Nonnull NodeId id);
 
+    /**
+     * Transfer leadership to node.
+     * <p>
+     * Leader stops accepting new log, replicates log to target until it catches up, then sends timeout now rpc
+     * to let target start election immediately. Leader steps down when it receives request vote rpc from target.
+     * Transfer is aborted if target does not become leader within max election timeout.
+     * Future is completed in node thread, callbacks should not block.
+     * </p>
+     *
+     * @param id id of target
+     * @return future, {@code true} if target becomes leader, {@code false} if aborted or another node becomes leader,
+     * failed with {@link NotLeaderException} if not leader, or leader steps down before target is elected,
+     * {@link IllegalArgumentException} if target is not major member, or {@link IllegalStateException} if another
+     * transfer is in progress
+     */
+    @Nonnull
+    CompletableFuture<Boolean> transferLeadership(@Nonnull NodeId id);
+
     /**
      * Stop node.
      *
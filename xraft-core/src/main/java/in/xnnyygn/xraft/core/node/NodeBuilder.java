@@ -1,7 +1,6 @@
 package in.xnnyygn.xraft.core.node;
 
 import com.google.common.base.Preconditions;
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.log.FileLog;
 import in.xnnyygn.xraft.core.log.Log;
 import in.xnnyygn.xraft.core.log.MemoryLog;
@@ -10,18 +9,26 @@ import in.xnnyygn.xraft.core.node.store.FileNodeStore;
 import in.xnnyygn.xraft.core.node.store.MemoryNodeStore;
 import in.xnnyygn.xraft.core.node.store.NodeStore;
 import in.xnnyygn.xraft.core.rpc.Connector;
+import in.xnnyygn.xraft.core.rpc.nio.CompressionCodec;
+import in.xnnyygn.xraft.core.rpc.nio.CompressionPolicy;
+import in.xnnyygn.xraft.core.rpc.nio.DeflateCodec;
 import in.xnnyygn.xraft.core.rpc.nio.NioConnector;
+import in.xnnyygn.xraft.core.rpc.nio.Transport;
 import in.xnnyygn.xraft.core.schedule.DefaultScheduler;
 import in.xnnyygn.xraft.core.schedule.Scheduler;
+import in.xnnyygn.xraft.core.schedule.TimingWheelScheduler;
+import in.xnnyygn.xraft.core.support.EventLoopTaskExecutor;
 import in.xnnyygn.xraft.core.support.ListeningTaskExecutor;
 import in.xnnyygn.xraft.core.support.TaskExecutor;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Executors;
 
 /**
@@ -40,9 +47,9 @@ public class NodeBuilder {
     private final NodeId selfId;
 
     /**
-     * Event bus, INTERNAL.
+     * Dispatcher of messages and events to node, INTERNAL.
      */
-    private final EventBus eventBus;
+    private final NodeEventDispatcher dispatcher = new NodeEventDispatcher();
 
     /**
      * Node configuration.
@@ -88,11 +95,22 @@ public class NodeBuilder {
      */
     private TaskExecutor groupConfigChangeTaskExecutor = null;
 
+    /**
+     * Task executor for persist stage, INTERNAL.
+     */
+    private TaskExecutor persistTaskExecutor = null;
+
     /**
      * Event loop group for worker.
      * If specified, reuse. otherwise create one.
      */
-    private NioEventLoopGroup workerNioEventLoopGroup = null;
+    private EventLoopGroup workerNioEventLoopGroup = null;
+
+    /**
+     * Additional codecs to compress append entries rpc.
+     * {@link DeflateCodec} is always available.
+     */
+    private final List<CompressionCodec> compressionCodecs = new ArrayList<>();
 
     // TODO add doc
     public NodeBuilder(@Nonnull NodeEndpoint endpoint) {
@@ -105,7 +123,6 @@ public class NodeBuilder {
         Preconditions.checkNotNull(selfId);
         this.group = new NodeGroup(endpoints, selfId);
         this.selfId = selfId;
-        this.eventBus = new EventBus(selfId.getValue());
     }
 
     /**
@@ -120,7 +137,6 @@ public class NodeBuilder {
         Preconditions.checkNotNull(group);
         this.selfId = selfId;
         this.group = group;
-        this.eventBus = new EventBus(selfId.getValue());
     }
 
     /**
@@ -161,16 +177,32 @@ public class NodeBuilder {
     /**
      * Set event loop for worker.
      * If specified, it's caller's responsibility to close worker event loop.
+     * Transport of connector, native epoll or NIO, follows the type of the event loop.
      *
      * @param workerNioEventLoopGroup worker event loop
      * @return this
      */
-    public NodeBuilder setWorkerNioEventLoopGroup(@Nonnull NioEventLoopGroup workerNioEventLoopGroup) {
+    public NodeBuilder setWorkerNioEventLoopGroup(@Nonnull EventLoopGroup workerNioEventLoopGroup) {
         Preconditions.checkNotNull(workerNioEventLoopGroup);
         this.workerNioEventLoopGroup = workerNioEventLoopGroup;
         return this;
     }
 
+    /**
+     * Add codec to compress append entries rpc.
+     * Codec is selected by name in configuration.
+     * Codec is not closed by node, close it after node stopped if needed.
+     *
+     * @param codec codec
+     * @return this
+     * @see NodeConfig#getCompressionCodec()
+     */
+    public NodeBuilder addCompressionCodec(@Nonnull CompressionCodec codec) {
+        Preconditions.checkNotNull(codec);
+        compressionCodecs.add(codec);
+        return this;
+    }
+
     /**
      * Set scheduler.
      *
@@ -207,6 +239,18 @@ public class NodeBuilder {
         return this;
     }
 
+    /**
+     * Set persist task executor.
+     *
+     * @param persistTaskExecutor persist task executor
+     * @return this
+     */
+    NodeBuilder setPersistTaskExecutor(@Nonnull TaskExecutor persistTaskExecutor) {
+        Preconditions.checkNotNull(persistTaskExecutor);
+        this.persistTaskExecutor = persistTaskExecutor;
+        return this;
+    }
+
     /**
      * Set store.
      *
@@ -233,7 +277,7 @@ public class NodeBuilder {
         if (!dataDir.isDirectory() || !dataDir.exists()) {
             throw new IllegalArgumentException("[" + dataDirPath + "] not a directory, or not exists");
         }
-        log = new FileLog(dataDir, eventBus);
+        log = new FileLog(dataDir, dispatcher);
         store = new FileNodeStore(new File(dataDir, FileNodeStore.FILE_NAME));
         return this;
     }
@@ -245,7 +289,9 @@ public class NodeBuilder {
      */
     @Nonnull
     public Node build() {
-        return new NodeImpl(buildContext());
+        NodeImpl node = new NodeImpl(buildContext());
+        dispatcher.bind(node);
+        return node;
     }
 
     /**
@@ -258,22 +304,36 @@ public class NodeBuilder {
         NodeContext context = new NodeContext();
         context.setGroup(group);
         context.setMode(evaluateMode());
-        context.setLog(log != null ? log : new MemoryLog(eventBus));
+        context.setLog(log != null ? log : new MemoryLog(dispatcher));
         context.setStore(store != null ? store : new MemoryNodeStore());
         context.setSelfId(selfId);
         context.setConfig(config);
-        context.setEventBus(eventBus);
-        context.setScheduler(scheduler != null ? scheduler : new DefaultScheduler(config));
+        context.setScheduler(scheduler != null ? scheduler : createScheduler());
         context.setConnector(connector != null ? connector : createNioConnector());
-        context.setTaskExecutor(taskExecutor != null ? taskExecutor : new ListeningTaskExecutor(
-                Executors.newSingleThreadExecutor(r -> new Thread(r, "node"))
+        context.setTaskExecutor(taskExecutor != null ? taskExecutor : new EventLoopTaskExecutor(
+                "node", config.getTaskExecutorIdleStrategy(), config.getTaskExecutorBatchSize()
         ));
         // TODO share monitor
         context.setGroupConfigChangeTaskExecutor(groupConfigChangeTaskExecutor != null ? groupConfigChangeTaskExecutor :
                 new ListeningTaskExecutor(Executors.newSingleThreadExecutor(r -> new Thread(r, "group-config-change"))));
+        if (config.isStagedPipeline()) {
+            context.setPersistTaskExecutor(persistTaskExecutor != null ? persistTaskExecutor :
+                    new EventLoopTaskExecutor("log-persist"));
+        }
         return context;
     }
 
+    /**
+     * Create scheduler.
+     *
+     * @return timing wheel scheduler if enabled, otherwise default scheduler
+     * @see NodeConfig#isTimingWheelScheduler()
+     */
+    @Nonnull
+    private Scheduler createScheduler() {
+        return config.isTimingWheelScheduler() ? new TimingWheelScheduler(config) : new DefaultScheduler(config);
+    }
+
     /**
      * Create nio connector.
      *
@@ -282,11 +342,13 @@ public class NodeBuilder {
     @Nonnull
     private NioConnector createNioConnector() {
         int port = group.findSelf().getEndpoint().getPort();
+        CompressionPolicy compressionPolicy = new CompressionPolicy(compressionCodecs, config.getCompressionCodec(),
+                config.getPeerCompressionCodecs(), config.getCompressionThreshold());
         if (workerNioEventLoopGroup != null) {
-            return new NioConnector(workerNioEventLoopGroup, selfId, eventBus, port, config.getLogReplicationInterval());
+            return new NioConnector(workerNioEventLoopGroup, true, selfId, dispatcher, port, config, compressionPolicy);
         }
-        return new NioConnector(new NioEventLoopGroup(config.getNioWorkerThreads()), false,
-                selfId, eventBus, port, config.getLogReplicationInterval());
+        return new NioConnector(Transport.newEventLoopGroup(config.getNioWorkerThreads()), false,
+                selfId, dispatcher, port, config, compressionPolicy);
     }
 
     /**
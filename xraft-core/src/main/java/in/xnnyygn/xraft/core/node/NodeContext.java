@@ -1,6 +1,5 @@
 package in.xnnyygn.xraft.core.node;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.log.Log;
 import in.xnnyygn.xraft.core.node.config.NodeConfig;
 import in.xnnyygn.xraft.core.node.store.NodeStore;
@@ -24,9 +23,9 @@ public class NodeContext {
     private Scheduler scheduler;
     private NodeMode mode;
     private NodeConfig config;
-    private EventBus eventBus;
     private TaskExecutor taskExecutor;
     private TaskExecutor groupConfigChangeTaskExecutor;
+    private TaskExecutor persistTaskExecutor;
 
     public NodeId selfId() {
         return selfId;
@@ -92,14 +91,6 @@ public class NodeContext {
         this.config = config;
     }
 
-    public EventBus eventBus() {
-        return eventBus;
-    }
-
-    public void setEventBus(EventBus eventBus) {
-        this.eventBus = eventBus;
-    }
-
     public TaskExecutor taskExecutor() {
         return taskExecutor;
     }
@@ -116,4 +107,18 @@ public class NodeContext {
         this.groupConfigChangeTaskExecutor = groupConfigChangeTaskExecutor;
     }
 
+    /**
+     * Get task executor of persist stage.
+     *
+     * @return task executor, {@code null} if staged pipeline disabled
+     * @see NodeConfig#isStagedPipeline()
+     */
+    public TaskExecutor persistTaskExecutor() {
+        return persistTaskExecutor;
+    }
+
+    public void setPersistTaskExecutor(TaskExecutor persistTaskExecutor) {
+        this.persistTaskExecutor = persistTaskExecutor;
+    }
+
 }
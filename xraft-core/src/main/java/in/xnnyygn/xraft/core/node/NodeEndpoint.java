@@ -9,12 +9,17 @@ import java.util.Objects;
 
 /**
  * Node endpoint.
+ * <p>
+ * Endpoint in group config also tells if node is learner, which receives log but does not vote.
+ * Endpoints are equal if ids are equal.
+ * </p>
  */
 @Immutable
 public class NodeEndpoint {
 
     private final NodeId id;
     private final Address address;
+    private final boolean learner;
 
     /**
      * Create.
@@ -34,10 +39,22 @@ public class NodeEndpoint {
      * @param address address
      */
     public NodeEndpoint(@Nonnull NodeId id, @Nonnull Address address) {
+        this(id, address, false);
+    }
+
+    /**
+     * Create.
+     *
+     * @param id      id
+     * @param address address
+     * @param learner learner or not
+     */
+    public NodeEndpoint(@Nonnull NodeId id, @Nonnull Address address, boolean learner) {
         Preconditions.checkNotNull(id);
         Preconditions.checkNotNull(address);
         this.id = id;
         this.address = address;
+        this.learner = learner;
     }
 
     /**
@@ -79,6 +96,35 @@ public class NodeEndpoint {
         return this.address;
     }
 
+    /**
+     * Test if learner.
+     *
+     * @return true if learner, otherwise false
+     */
+    public boolean isLearner() {
+        return learner;
+    }
+
+    /**
+     * Get endpoint of learner with same id and address.
+     *
+     * @return endpoint
+     */
+    @Nonnull
+    public NodeEndpoint toLearner() {
+        return learner ? this : new NodeEndpoint(id, address, true);
+    }
+
+    /**
+     * Get endpoint of voter with same id and address.
+     *
+     * @return endpoint
+     */
+    @Nonnull
+    public NodeEndpoint toVoter() {
+        return learner ? new NodeEndpoint(id, address, false) : this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -94,7 +140,7 @@ public class NodeEndpoint {
 
     @Override
     public String toString() {
-        return "NodeEndpoint{id=" + id + ", address=" + address + '}';
+        return "NodeEndpoint{id=" + id + ", address=" + address + (learner ? ", learner" : "") + '}';
     }
 
 }
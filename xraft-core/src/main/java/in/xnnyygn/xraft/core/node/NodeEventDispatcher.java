@@ -0,0 +1,169 @@
+package in.xnnyygn.xraft.core.node;
+
+import in.xnnyygn.xraft.core.log.event.*;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
+import in.xnnyygn.xraft.core.rpc.message.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.function.BiConsumer;
+
+/**
+ * Dispatcher of messages from connector and events from log to node.
+ * <p>
+ * Connector and log are created before node, so node is bound later, see {@link NodeBuilder#build()}.
+ * Dispatching is a direct call, node hands off to its task executor. Exception thrown by node is logged.
+ * </p>
+ */
+@ThreadSafe
+class NodeEventDispatcher implements InboundMessageHandler, LogEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NodeEventDispatcher.class);
+    private volatile NodeImpl node;
+
+    /**
+     * Bind node.
+     *
+     * @param node node
+     */
+    void bind(@Nonnull NodeImpl node) {
+        this.node = node;
+    }
+
+    private NodeImpl node() {
+        NodeImpl node = this.node;
+        if (node == null) {
+            throw new IllegalStateException("node not bound");
+        }
+        return node;
+    }
+
+    /**
+     * Dispatch message or event to node.
+     * <p>
+     * Exception thrown by node is logged and not propagated, so connector and log are not broken by it,
+     * same as subscriber exception of event bus.
+     * </p>
+     *
+     * @param handler handler of node
+     * @param message message or event
+     * @param <T>     type of message
+     */
+    private <T> void dispatch(BiConsumer<NodeImpl, T> handler, T message) {
+        try {
+            handler.accept(node(), message);
+        } catch (RuntimeException e) {
+            logger.error("exception thrown by node when handling " + message, e);
+        }
+    }
+
+    @Override
+    public void onReceiveRequestVoteRpc(RequestVoteRpcMessage rpcMessage) {
+        dispatch(NodeImpl::onReceiveRequestVoteRpc, rpcMessage);
+    }
+
+    @Override
+    public void onReceiveRequestVoteResult(RequestVoteResult result) {
+        dispatch(NodeImpl::onReceiveRequestVoteResult, result);
+    }
+
+    @Override
+    public void onReceivePreVoteRpc(PreVoteRpcMessage rpcMessage) {
+        dispatch(NodeImpl::onReceivePreVoteRpc, rpcMessage);
+    }
+
+    @Override
+    public void onReceivePreVoteResult(PreVoteResultMessage resultMessage) {
+        dispatch(NodeImpl::onReceivePreVoteResult, resultMessage);
+    }
+
+    @Override
+    public void onReceiveTimeoutNowRpc(TimeoutNowRpcMessage rpcMessage) {
+        dispatch(NodeImpl::onReceiveTimeoutNowRpc, rpcMessage);
+    }
+
+    @Override
+    public void onReceiveAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
+        try {
+            node().onReceiveAppendEntriesRpc(rpcMessage);
+        } catch (RuntimeException e) {
+            // node takes over entries only if accepted
+            rpcMessage.get().release();
+            logger.error("exception thrown by node when handling " + rpcMessage, e);
+        }
+    }
+
+    @Override
+    public void onReceiveAppendEntriesResult(AppendEntriesResultMessage resultMessage) {
+        dispatch(NodeImpl::onReceiveAppendEntriesResult, resultMessage);
+    }
+
+    @Override
+    public void onReceiveInstallSnapshotRpc(InstallSnapshotRpcMessage rpcMessage) {
+        dispatch(NodeImpl::onReceiveInstallSnapshotRpc, rpcMessage);
+    }
+
+    @Override
+    public void onReceiveInstallSnapshotResult(InstallSnapshotResultMessage resultMessage) {
+        dispatch(NodeImpl::onReceiveInstallSnapshotResult, resultMessage);
+    }
+
+    @Override
+    public void onReceiveTransferSnapshotRpc(TransferSnapshotRpcMessage rpcMessage) {
+        dispatch(NodeImpl::onReceiveTransferSnapshotRpc, rpcMessage);
+    }
+
+    @Override
+    public void onReceiveTransferSnapshotResult(TransferSnapshotResultMessage resultMessage) {
+        dispatch(NodeImpl::onReceiveTransferSnapshotResult, resultMessage);
+    }
+
+    @Override
+    public void onChannelWritable(ChannelWritableEvent event) {
+        dispatch(NodeImpl::onChannelWritable, event);
+    }
+
+    @Override
+    public void onGroupConfigEntryFromLeaderAppend(GroupConfigEntryFromLeaderAppendEvent event) {
+        dispatch(NodeImpl::onGroupConfigEntryFromLeaderAppend, event);
+    }
+
+    @Override
+    public void onGroupConfigEntryCommitted(GroupConfigEntryCommittedEvent event) {
+        dispatch(NodeImpl::onGroupConfigEntryCommitted, event);
+    }
+
+    @Override
+    public void onGroupConfigEntryBatchRemoved(GroupConfigEntryBatchRemovedEvent event) {
+        dispatch(NodeImpl::onGroupConfigEntryBatchRemoved, event);
+    }
+
+    @Override
+    public void onGenerateSnapshot(SnapshotGenerateEvent event) {
+        dispatch(NodeImpl::onGenerateSnapshot, event);
+    }
+
+    @Override
+    public void onSnapshotConsolidated(SnapshotConsolidatedEvent event) {
+        dispatch(NodeImpl::onSnapshotConsolidated, event);
+    }
+
+    @Override
+    public void onSnapshotInstalled(SnapshotInstalledEvent event) {
+        dispatch(NodeImpl::onSnapshotInstalled, event);
+    }
+
+    @Override
+    public void onSnapshotDataDrained(SnapshotDataDrainedEvent event) {
+        dispatch(NodeImpl::onSnapshotDataDrained, event);
+    }
+
+    @Override
+    public void onSnapshotRestoreAborted(SnapshotRestoreAbortedEvent event) {
+        dispatch(NodeImpl::onSnapshotRestoreAborted, event);
+    }
+
+}
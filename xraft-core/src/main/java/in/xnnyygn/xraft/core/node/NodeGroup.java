@@ -7,10 +7,13 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Node group.
+ * <p>
+ * Views of members, e.g. replication targets and voters, are built once per membership change and reused,
+ * so replication and election do not allocate per call.
+ * </p>
  */
 @NotThreadSafe
 class NodeGroup {
@@ -19,6 +22,18 @@ class NodeGroup {
     private final NodeId selfId;
     private Map<NodeId, GroupMember> memberMap;
 
+    // built on demand, cleared when membership changes
+    private List<GroupMember> replicationTargets;
+    private Set<NodeEndpoint> endpointsOfMajor;
+    private Set<NodeEndpoint> endpointsOfMajorExceptSelf;
+    private int countOfMajor = -1;
+
+    // self at slot 0, then other major members
+    private GroupMember[] voters;
+    private QuorumTracker quorumTracker;
+    // last contact timestamps of voters, reused in computing quorum contact
+    private long[] contactTimes;
+
     /**
      * Create group with single member(standalone).
      *
@@ -65,7 +80,16 @@ class NodeGroup {
      * @see GroupMember#isMajor()
      */
     int getCountOfMajor() {
-        return (int) memberMap.values().stream().filter(GroupMember::isMajor).count();
+        if (countOfMajor < 0) {
+            int count = 0;
+            for (GroupMember member : memberMap.values()) {
+                if (member.isMajor()) {
+                    count++;
+                }
+            }
+            countOfMajor = count;
+        }
+        return countOfMajor;
     }
 
     /**
@@ -127,6 +151,30 @@ class NodeGroup {
     void upgrade(NodeId id) {
         logger.info("upgrade node {}", id);
         findMember(id).setMajor(true);
+        membershipChanged();
+    }
+
+    /**
+     * Check if node is learner.
+     *
+     * @param id id
+     * @return true if member exists and member is learner, otherwise false
+     */
+    boolean isLearner(NodeId id) {
+        GroupMember member = memberMap.get(id);
+        return member != null && member.isLearner();
+    }
+
+    /**
+     * Promote learner to major member.
+     *
+     * @param id id
+     * @throws IllegalArgumentException if member not found
+     */
+    void promote(NodeId id) {
+        logger.info("promote learner {}", id);
+        findMember(id).promote();
+        membershipChanged();
     }
 
     /**
@@ -140,6 +188,7 @@ class NodeGroup {
         GroupMember member = findMember(id);
         member.setMajor(false);
         member.setRemoving();
+        membershipChanged();
     }
 
     /**
@@ -150,6 +199,7 @@ class NodeGroup {
     void removeNode(NodeId id) {
         logger.info("node {} removed", id);
         memberMap.remove(id);
+        membershipChanged();
     }
 
     /**
@@ -163,31 +213,105 @@ class NodeGroup {
                 member.setReplicatingState(new ReplicatingState(nextLogIndex));
             }
         }
+        // match indices go back
+        quorumTracker = null;
     }
 
     /**
      * Get match index of major members.
      * <p>
-     * To get major match index in group, sort match indices and get the middle one.
+     * To get major match index in group, get the largest index reached by a majority.
+     * </p>
+     * <p>
+     * Self is regarded as having all entries.
      * </p>
-     * TODO add doc
      *
      * @return match index
+     * @see #getMatchIndexOfMajor(int)
      */
     int getMatchIndexOfMajor() {
-        List<NodeMatchIndex> matchIndices = new ArrayList<>();
+        return getMatchIndexOfMajor(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get match index of major members, with match index of self, e.g. last index of entries persisted.
+     * <p>
+     * Get the largest index reached by a majority of self and other major members.
+     * Match indices are tracked by {@link QuorumTracker}, the result is computed again only when
+     * a match index passes it.
+     * </p>
+     *
+     * @param selfMatchIndex match index of self
+     * @return match index
+     * @throws IllegalStateException if no major member except self
+     */
+    int getMatchIndexOfMajor(int selfMatchIndex) {
+        if (quorumTracker == null) {
+            buildQuorumTracker();
+        }
+        quorumTracker.update(0, selfMatchIndex);
+        for (int i = 1; i < voters.length; i++) {
+            quorumTracker.update(i, voters[i].getMatchIndex());
+        }
+        return quorumTracker.getCandidate();
+    }
+
+    private void buildQuorumTracker() {
+        ensureVoters();
+        if (voters.length == 1) {
+            throw new IllegalStateException("standalone or no major node");
+        }
+        quorumTracker = new QuorumTracker(voters.length);
+    }
+
+    private void ensureVoters() {
+        if (voters != null) {
+            return;
+        }
+        List<GroupMember> members = new ArrayList<>();
+        members.add(findSelf());
         for (GroupMember member : memberMap.values()) {
             if (member.isMajor() && !member.idEquals(selfId)) {
-                matchIndices.add(new NodeMatchIndex(member.getId(), member.getMatchIndex()));
+                members.add(member);
             }
         }
-        int count = matchIndices.size();
-        if (count == 0) {
-            throw new IllegalStateException("standalone or no major node");
+        voters = members.toArray(new GroupMember[0]);
+        contactTimes = new long[voters.length];
+    }
+
+    /**
+     * Get the latest timestamp by which a majority of self and other major members has been contacted.
+     * <p>
+     * Leader which cannot contact a majority, e.g. partitioned, finds the result going back.
+     * </p>
+     *
+     * @param selfContactAt contact timestamp of self, e.g. now
+     * @return timestamp
+     * @see GroupMember#getLastContactAt()
+     */
+    long getQuorumContactAt(long selfContactAt) {
+        ensureVoters();
+        contactTimes[0] = selfContactAt;
+        for (int i = 1; i < voters.length; i++) {
+            contactTimes[i] = voters[i].getLastContactAt();
         }
-        Collections.sort(matchIndices);
-        logger.debug("match indices {}", matchIndices);
-        return matchIndices.get(count / 2).getMatchIndex();
+        Arrays.sort(contactTimes);
+        // the (n / 2 + 1)th latest
+        return contactTimes[contactTimes.length - (contactTimes.length / 2 + 1)];
+    }
+
+    /**
+     * Test if any replication target is replicating, in other word, waiting for result.
+     *
+     * @return true if replicating, otherwise false
+     */
+    boolean isReplicating() {
+        for (GroupMember member : memberMap.values()) {
+            if (!member.idEquals(selfId) && member.isReplicating()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -197,7 +321,50 @@ class NodeGroup {
      * @return replication targets.
      */
     Collection<GroupMember> listReplicationTarget() {
-        return memberMap.values().stream().filter(m -> !m.idEquals(selfId)).collect(Collectors.toList());
+        if (replicationTargets == null) {
+            List<GroupMember> targets = new ArrayList<>();
+            for (GroupMember member : memberMap.values()) {
+                if (!member.idEquals(selfId)) {
+                    targets.add(member);
+                }
+            }
+            replicationTargets = Collections.unmodifiableList(targets);
+        }
+        return replicationTargets;
+    }
+
+    /**
+     * Find follower to transfer snapshot to target.
+     * <p>
+     * Candidates are major members except self and target, whose match index is not less than
+     * {@code minMatchIndex} and which are not transferring snapshot to another member.
+     * The one with largest match index is chosen.
+     * </p>
+     *
+     * @param targetId      target id
+     * @param minMatchIndex min match index
+     * @return follower, {@code null} if not found
+     */
+    @Nullable
+    GroupMember findSnapshotTransferDelegate(NodeId targetId, int minMatchIndex) {
+        Set<NodeId> busyIds = new HashSet<>();
+        for (GroupMember member : memberMap.values()) {
+            if (member.isReplicationStateSet() && member.getSnapshotTransferDelegateId() != null) {
+                busyIds.add(member.getSnapshotTransferDelegateId());
+            }
+        }
+        GroupMember delegate = null;
+        for (GroupMember member : memberMap.values()) {
+            if (member.idEquals(selfId) || member.idEquals(targetId) || !member.isMajor() ||
+                    !member.isReplicationStateSet() || busyIds.contains(member.getId()) ||
+                    member.getMatchIndex() < minMatchIndex) {
+                continue;
+            }
+            if (delegate == null || member.getMatchIndex() > delegate.getMatchIndex()) {
+                delegate = member;
+            }
+        }
+        return delegate;
     }
 
     /**
@@ -214,6 +381,7 @@ class NodeGroup {
         ReplicatingState replicatingState = new ReplicatingState(nextIndex, matchIndex);
         GroupMember member = new GroupMember(endpoint, replicatingState, major);
         memberMap.put(endpoint.getId(), member);
+        membershipChanged();
         return member;
     }
 
@@ -225,77 +393,80 @@ class NodeGroup {
      */
     void updateNodes(Set<NodeEndpoint> endpoints) {
         memberMap = buildMemberMap(endpoints);
+        membershipChanged();
         logger.info("group change changed -> {}", memberMap.keySet());
     }
 
     /**
      * List endpoint of major members.
      *
-     * @return endpoints
+     * @return endpoints, unmodifiable
      */
     Set<NodeEndpoint> listEndpointOfMajor() {
-        Set<NodeEndpoint> endpoints = new HashSet<>();
-        for (GroupMember member : memberMap.values()) {
-            if (member.isMajor()) {
-                endpoints.add(member.getEndpoint());
-            }
+        if (endpointsOfMajor == null) {
+            endpointsOfMajor = collectEndpointOfMajor(true);
         }
-        return endpoints;
+        return endpointsOfMajor;
     }
 
     /**
      * List endpoint of major members except self.
      *
-     * @return endpoints except self
+     * @return endpoints except self, unmodifiable
      */
     Set<NodeEndpoint> listEndpointOfMajorExceptSelf() {
+        if (endpointsOfMajorExceptSelf == null) {
+            endpointsOfMajorExceptSelf = collectEndpointOfMajor(false);
+        }
+        return endpointsOfMajorExceptSelf;
+    }
+
+    /**
+     * List endpoint of members in group config, e.g. major members and learners, except removing ones.
+     * <p>For group config entry and snapshot.</p>
+     *
+     * @return endpoints
+     */
+    Set<NodeEndpoint> listEndpointOfConfig() {
         Set<NodeEndpoint> endpoints = new HashSet<>();
         for (GroupMember member : memberMap.values()) {
-            if (member.isMajor() && !member.idEquals(selfId)) {
+            if ((member.isMajor() || member.isLearner()) && !member.isRemoving()) {
                 endpoints.add(member.getEndpoint());
             }
         }
         return endpoints;
     }
 
-    /**
-     * Check if member is unique one in group, in other word, check if standalone mode.
-     *
-     * @return true if only one member and the id of member equals to specified id, otherwise false
-     */
-    boolean isStandalone() {
-        return memberMap.size() == 1 && memberMap.containsKey(selfId);
+    private Set<NodeEndpoint> collectEndpointOfMajor(boolean includeSelf) {
+        Set<NodeEndpoint> endpoints = new HashSet<>();
+        for (GroupMember member : memberMap.values()) {
+            if (member.isMajor() && (includeSelf || !member.idEquals(selfId))) {
+                endpoints.add(member.getEndpoint());
+            }
+        }
+        return Collections.unmodifiableSet(endpoints);
+    }
+
+    private void membershipChanged() {
+        replicationTargets = null;
+        endpointsOfMajor = null;
+        endpointsOfMajorExceptSelf = null;
+        countOfMajor = -1;
+        voters = null;
+        quorumTracker = null;
+        contactTimes = null;
     }
 
     /**
-     * Node match index.
+     * Check if self is the only major member, in other word, check if standalone mode.
+     * <p>
+     * Learners and removing members do not vote, leader commits by itself while replicating to them.
+     * </p>
      *
-     * @see NodeGroup#getMatchIndexOfMajor()
+     * @return true if self is the only major member, otherwise false
      */
-    private static class NodeMatchIndex implements Comparable<NodeMatchIndex> {
-
-        private final NodeId nodeId;
-        private final int matchIndex;
-
-        NodeMatchIndex(NodeId nodeId, int matchIndex) {
-            this.nodeId = nodeId;
-            this.matchIndex = matchIndex;
-        }
-
-        int getMatchIndex() {
-            return matchIndex;
-        }
-
-        @Override
-        public int compareTo(@Nonnull NodeMatchIndex o) {
-            return -Integer.compare(o.matchIndex, this.matchIndex);
-        }
-
-        @Override
-        public String toString() {
-            return "<" + nodeId + ", " + matchIndex + ">";
-        }
-
+    boolean isStandalone() {
+        return getCountOfMajor() == 1 && isMemberOfMajor(selfId);
     }
 
 }
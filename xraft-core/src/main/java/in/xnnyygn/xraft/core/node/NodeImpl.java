@@ -1,10 +1,9 @@
 package in.xnnyygn.xraft.core.node;
 
 import com.google.common.base.Preconditions;
-import com.google.common.eventbus.DeadEvent;
-import com.google.common.eventbus.Subscribe;
 import com.google.common.util.concurrent.FutureCallback;
 import in.xnnyygn.xraft.core.log.InstallSnapshotState;
+import in.xnnyygn.xraft.core.log.LogException;
 import in.xnnyygn.xraft.core.log.entry.Entry;
 import in.xnnyygn.xraft.core.log.entry.RemoveNodeEntry;
 import in.xnnyygn.xraft.core.log.statemachine.StateMachine;
@@ -13,11 +12,18 @@ import in.xnnyygn.xraft.core.log.entry.GroupConfigEntry;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryBatchRemovedEvent;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryCommittedEvent;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryFromLeaderAppendEvent;
+import in.xnnyygn.xraft.core.log.event.LogEventListener;
+import in.xnnyygn.xraft.core.log.event.SnapshotConsolidatedEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotDataDrainedEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotInstalledEvent;
 import in.xnnyygn.xraft.core.log.event.SnapshotGenerateEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotRestoreAbortedEvent;
 import in.xnnyygn.xraft.core.log.snapshot.EntryInSnapshotException;
 import in.xnnyygn.xraft.core.node.role.*;
 import in.xnnyygn.xraft.core.node.store.NodeStore;
 import in.xnnyygn.xraft.core.node.task.*;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
 import in.xnnyygn.xraft.core.rpc.message.*;
 import in.xnnyygn.xraft.core.schedule.ElectionTimeout;
 import in.xnnyygn.xraft.core.schedule.LogReplicationTask;
@@ -28,11 +34,18 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -41,7 +54,7 @@ import java.util.concurrent.TimeoutException;
  * @see NodeContext
  */
 @ThreadSafe
-public class NodeImpl implements Node {
+public class NodeImpl implements Node, InboundMessageHandler, LogEventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(NodeImpl.class);
 
@@ -69,6 +82,37 @@ public class NodeImpl implements Node {
     private final GroupConfigChangeTaskContext groupConfigChangeTaskContext = new GroupConfigChangeTaskContextImpl();
     private volatile GroupConfigChangeTaskHolder groupConfigChangeTaskHolder = new GroupConfigChangeTaskHolder();
 
+    // snapshot transfers on behalf of leader, by target node id, accessed in node thread only
+    private final Map<NodeId, TransferSnapshotRpcMessage> snapshotTransfers = new HashMap<>();
+    private InstallSnapshotRpcMessage restoringSnapshotRpcMessage;
+    // chunk whose reply is paused until restoring drains queued chunks, accessed in node thread only
+    private InstallSnapshotRpcMessage pausedSnapshotRpcMessage;
+    private ScheduledFuture<?> pausedSnapshotReplyTimeout;
+    // timestamp when election is first postponed by restoring snapshot, 0 if not postponed, accessed in node thread only
+    private long electionPostponedAt = 0;
+
+    // staged pipeline, last index of entries synced by leader and if sync is in progress, accessed in node thread only
+    private int persistedIndex = 0;
+    private boolean persisting = false;
+
+    // adaptive replication, bytes of commands not replicated, if flush is pending and generation of batch,
+    // accessed in node thread only
+    private int unreplicatedBytes = 0;
+    private boolean replicationFlushPending = false;
+    private long replicationBatchGeneration = 0;
+
+    // peers granted pre-vote, null if not in pre-vote, accessed in node thread only
+    private Set<NodeId> preVotesGranted;
+
+    // leadership transfer, target is read when appending log, others are accessed in node thread only
+    private volatile NodeEndpoint leadershipTransferTarget;
+    private CompletableFuture<Boolean> leadershipTransferFuture;
+    private ScheduledFuture<?> leadershipTransferTimeout;
+    private boolean leadershipTransferTimeoutNowSent = false;
+
+    // timestamp by which leader heard from a majority, updated by log replication task, 0 if not leader
+    private volatile long quorumContactAt = 0;
+
     /**
      * Create with context.
      *
@@ -109,6 +153,11 @@ public class NodeImpl implements Node {
         return role.getState();
     }
 
+    @Override
+    public long getQuorumContactAt() {
+        return quorumContactAt;
+    }
+
     @Override
     public void addNodeRoleListener(@Nonnull NodeRoleListener listener) {
         Preconditions.checkNotNull(listener);
@@ -120,7 +169,6 @@ public class NodeImpl implements Node {
         if (started) {
             return;
         }
-        context.eventBus().register(this);
         context.connector().initialize();
 
         // load term, votedFor from store and become follower
@@ -133,9 +181,13 @@ public class NodeImpl implements Node {
     public void appendLog(@Nonnull byte[] commandBytes) {
         Preconditions.checkNotNull(commandBytes);
         ensureLeader();
+        NodeEndpoint transferTarget = leadershipTransferTarget;
+        if (transferTarget != null) {
+            throw new NotLeaderException(RoleName.LEADER, transferTarget);
+        }
         context.taskExecutor().submit(() -> {
             context.log().appendEntry(role.getTerm(), commandBytes);
-            doReplicateLog();
+            triggerReplication(commandBytes.length);
         }, LOGGING_FUTURE_CALLBACK);
     }
 
@@ -199,6 +251,51 @@ public class NodeImpl implements Node {
         }
     }
 
+    @Override
+    @Nonnull
+    public GroupConfigChangeTaskReference addLearner(@Nonnull NodeEndpoint endpoint) {
+        Preconditions.checkNotNull(endpoint);
+        ensureLeader();
+        if (context.group().getMember(endpoint.getId()) != null) {
+            throw new IllegalArgumentException("node " + endpoint.getId() + " is in group");
+        }
+        return submitGroupConfigChangeTask(new AddLearnerTask(groupConfigChangeTaskContext, endpoint));
+    }
+
+    @Override
+    @Nonnull
+    public GroupConfigChangeTaskReference promoteLearner(@Nonnull NodeId id) {
+        Preconditions.checkNotNull(id);
+        ensureLeader();
+        if (!context.group().isLearner(id)) {
+            throw new IllegalArgumentException("node " + id + " is not learner");
+        }
+        return submitGroupConfigChangeTask(new PromoteLearnerTask(groupConfigChangeTaskContext, id));
+    }
+
+    /**
+     * Submit group config change task after previous one done.
+     *
+     * @param task task
+     * @return task reference
+     * @throws IllegalStateException if group config change concurrently
+     */
+    private GroupConfigChangeTaskReference submitGroupConfigChangeTask(GroupConfigChangeTask task) {
+        GroupConfigChangeTaskResult result = awaitPreviousGroupConfigChangeTask();
+        if (result != null) {
+            return new FixedResultGroupConfigTaskReference(result);
+        }
+        synchronized (this) {
+            if (!groupConfigChangeTaskHolder.isEmpty()) {
+                throw new IllegalStateException("group config change concurrently");
+            }
+            Future<GroupConfigChangeTaskResult> future = context.groupConfigChangeTaskExecutor().submit(task);
+            GroupConfigChangeTaskReference reference = new FutureGroupConfigChangeTaskReference(future);
+            groupConfigChangeTaskHolder = new GroupConfigChangeTaskHolder(task, reference);
+            return reference;
+        }
+    }
+
     /**
      * Await previous group config change task.
      *
@@ -261,6 +358,119 @@ public class NodeImpl implements Node {
         }
     }
 
+    @Override
+    @Nonnull
+    public CompletableFuture<Boolean> transferLeadership(@Nonnull NodeId id) {
+        Preconditions.checkNotNull(id);
+        ensureLeader();
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        context.taskExecutor().submit(() -> doTransferLeadership(id, future), LOGGING_FUTURE_CALLBACK);
+        return future;
+    }
+
+    private void doTransferLeadership(NodeId id, CompletableFuture<Boolean> future) {
+        try {
+            ensureLeader();
+        } catch (NotLeaderException e) {
+            future.completeExceptionally(e);
+            return;
+        }
+        if (context.selfId().equals(id)) {
+            future.complete(true);
+            return;
+        }
+        if (leadershipTransferFuture != null) {
+            future.completeExceptionally(new IllegalStateException("leadership transfer in progress"));
+            return;
+        }
+        GroupMember member = context.group().getMember(id);
+        if (member == null || !member.isMajor()) {
+            future.completeExceptionally(new IllegalArgumentException("no such major node " + id));
+            return;
+        }
+        logger.info("transfer leadership to node {}", id);
+        leadershipTransferTarget = member.getEndpoint();
+        leadershipTransferFuture = future;
+        leadershipTransferTimeout = context.scheduler().schedule(
+                () -> context.taskExecutor().submit(() -> abortLeadershipTransfer(future), LOGGING_FUTURE_CALLBACK),
+                context.config().getMaxElectionTimeout(), TimeUnit.MILLISECONDS
+        );
+        if (member.getMatchIndex() >= context.log().getNextIndex() - 1) {
+            sendTimeoutNow(member);
+        } else if (member.shouldReplicate(context.config().getLogReplicationReadTimeout())) {
+            doReplicateLog(member, context.config().getMaxReplicationEntries());
+        }
+    }
+
+    /**
+     * Send timeout now rpc to target of leadership transfer, only once per transfer.
+     *
+     * @param member target
+     */
+    private void sendTimeoutNow(GroupMember member) {
+        if (leadershipTransferTimeoutNowSent) {
+            return;
+        }
+        logger.info("node {} caught up, send timeout now", member.getId());
+        context.connector().sendTimeoutNow(new TimeoutNowRpc(role.getTerm(), context.selfId()), member.getEndpoint());
+        leadershipTransferTimeoutNowSent = true;
+    }
+
+    private void abortLeadershipTransfer(CompletableFuture<Boolean> future) {
+        if (leadershipTransferFuture == future) {
+            logger.info("leadership transfer to node {} timeout", leadershipTransferTarget.getId());
+            finishLeadershipTransfer(false);
+        }
+    }
+
+    private void finishLeadershipTransfer(boolean transferred) {
+        CompletableFuture<Boolean> future = leadershipTransferFuture;
+        clearLeadershipTransfer();
+        future.complete(transferred);
+    }
+
+    private void failLeadershipTransfer(Throwable cause) {
+        CompletableFuture<Boolean> future = leadershipTransferFuture;
+        clearLeadershipTransfer();
+        future.completeExceptionally(cause);
+    }
+
+    private void clearLeadershipTransfer() {
+        leadershipTransferTimeout.cancel(false);
+        leadershipTransferTarget = null;
+        leadershipTransferFuture = null;
+        leadershipTransferTimeout = null;
+        leadershipTransferTimeoutNowSent = false;
+    }
+
+    /**
+     * Finish leadership transfer in progress when role changes.
+     * <p>
+     * Transfer succeeds if target becomes leader, and fails with {@code false} if another node becomes leader.
+     * If node voted for target, e.g. stepped down on request vote rpc from target, transfer waits for the result
+     * of election until transfer timeout. Otherwise leader stepped down for other reasons, e.g. lost quorum,
+     * and transfer fails with {@link NotLeaderException}.
+     * </p>
+     *
+     * @param newRole new role
+     */
+    private void checkLeadershipTransfer(AbstractNodeRole newRole) {
+        if (leadershipTransferFuture == null || (role.getName() == RoleName.LEADER && newRole.getName() == RoleName.LEADER)) {
+            return;
+        }
+        NodeId targetId = leadershipTransferTarget.getId();
+        NodeId leaderId = newRole.getLeaderId(context.selfId());
+        if (leaderId != null) {
+            finishLeadershipTransfer(targetId.equals(leaderId));
+            return;
+        }
+        if (newRole.getName() == RoleName.FOLLOWER && targetId.equals(newRole.getState().getVotedFor())) {
+            return;
+        }
+        logger.info("step down before node {} elected, leadership transfer failed", targetId);
+        failLeadershipTransfer(new NotLeaderException(newRole.getName(), null));
+    }
+
     /**
      * Cancel current group config change task
      */
@@ -288,6 +498,30 @@ public class NodeImpl implements Node {
             logger.warn("node {}, current role is leader, ignore election timeout", context.selfId());
             return;
         }
+        if (role.getName() == RoleName.FOLLOWER && context.group().isLearner(context.selfId())) {
+
+            // learner never starts election, wait for leader
+            logger.debug("learner, skip election");
+            FollowerNodeRole follower = (FollowerNodeRole) role;
+            becomeFollower(follower.getTerm(), follower.getVotedFor(), null, true);
+            return;
+        }
+        if (role.getName() == RoleName.FOLLOWER && context.log().isRestoringSnapshot()) {
+            long now = System.currentTimeMillis();
+            if (electionPostponedAt == 0) {
+                electionPostponedAt = now;
+            }
+
+            // leader is waiting for the result of last chunk, no heartbeat until snapshot is restored
+            if (now - electionPostponedAt < context.config().getSnapshotTransferTimeout()) {
+                logger.info("snapshot is being restored, postpone election");
+                FollowerNodeRole follower = (FollowerNodeRole) role;
+                becomeFollower(follower.getTerm(), follower.getVotedFor(), follower.getLeaderId(), true);
+                return;
+            }
+            logger.warn("snapshot is still being restored after {}ms, start election", now - electionPostponedAt);
+        }
+        electionPostponedAt = 0;
 
         // follower: start election
         // candidate: restart election
@@ -302,24 +536,63 @@ public class NodeImpl implements Node {
                 // become leader
                 logger.info("become leader, term {}", newTerm);
                 resetReplicatingStates();
+                snapshotTransfers.clear();
                 changeToRole(new LeaderNodeRole(newTerm, scheduleLogReplicationTask()));
                 context.log().appendEntry(newTerm); // no-op log
             }
+        } else if (context.config().isPreVote()) {
+            startPreVote(newTerm);
         } else {
-            logger.info("start election");
-            changeToRole(new CandidateNodeRole(newTerm, scheduleElectionTimeout()));
-
-            // request vote
-            EntryMeta lastEntryMeta = context.log().getLastEntryMeta();
-            RequestVoteRpc rpc = new RequestVoteRpc();
-            rpc.setTerm(newTerm);
-            rpc.setCandidateId(context.selfId());
-            rpc.setLastLogIndex(lastEntryMeta.getIndex());
-            rpc.setLastLogTerm(lastEntryMeta.getTerm());
-            context.connector().sendRequestVote(rpc, context.group().listEndpointOfMajorExceptSelf());
+            startElection(newTerm);
         }
     }
 
+    /**
+     * Start pre-vote.
+     * <p>
+     * Node stays follower in current term, and asks peers if they would vote for it in new term.
+     * Election starts only if a majority would, so a node rejoining after partition does not
+     * force leader to step down.
+     * </p>
+     *
+     * @param newTerm term to use in election
+     */
+    private void startPreVote(int newTerm) {
+        logger.info("start pre-vote, term {}", newTerm);
+        NodeId votedFor = (role.getName() == RoleName.FOLLOWER) ? ((FollowerNodeRole) role).getVotedFor() : context.selfId();
+        becomeFollower(role.getTerm(), votedFor, null, true);
+        preVotesGranted = new HashSet<>();
+
+        EntryMeta lastEntryMeta = context.log().getLastEntryMeta();
+        PreVoteRpc rpc = new PreVoteRpc();
+        rpc.setTerm(newTerm);
+        rpc.setCandidateId(context.selfId());
+        rpc.setLastLogIndex(lastEntryMeta.getIndex());
+        rpc.setLastLogTerm(lastEntryMeta.getTerm());
+        context.connector().sendPreVote(rpc, context.group().listEndpointOfMajorExceptSelf());
+    }
+
+    /**
+     * Start election, become candidate and request vote.
+     *
+     * @param newTerm new term
+     */
+    private void startElection(int newTerm) {
+        logger.info("start election");
+        preVotesGranted = null;
+        role.cancelTimeoutOrTask();
+        changeToRole(new CandidateNodeRole(newTerm, scheduleElectionTimeout()));
+
+        // request vote
+        EntryMeta lastEntryMeta = context.log().getLastEntryMeta();
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(newTerm);
+        rpc.setCandidateId(context.selfId());
+        rpc.setLastLogIndex(lastEntryMeta.getIndex());
+        rpc.setLastLogTerm(lastEntryMeta.getTerm());
+        context.connector().sendRequestVote(rpc, context.group().listEndpointOfMajorExceptSelf());
+    }
+
     /**
      * Become follower.
      *
@@ -329,11 +602,20 @@ public class NodeImpl implements Node {
      * @param scheduleElectionTimeout schedule election timeout or not
      */
     private void becomeFollower(int term, NodeId votedFor, NodeId leaderId, boolean scheduleElectionTimeout) {
-        role.cancelTimeoutOrTask();
         if (leaderId != null && !leaderId.equals(role.getLeaderId(context.selfId()))) {
             logger.info("current leader is {}, term {}", leaderId, term);
         }
-        ElectionTimeout electionTimeout = scheduleElectionTimeout ? scheduleElectionTimeout() : ElectionTimeout.NONE;
+        ElectionTimeout electionTimeout = ElectionTimeout.NONE;
+        if (scheduleElectionTimeout && role.getName() == RoleName.FOLLOWER &&
+                ((FollowerNodeRole) role).getElectionTimeout().reset()) {
+            // reset in place, e.g. heartbeat from leader
+            electionTimeout = ((FollowerNodeRole) role).getElectionTimeout();
+        } else {
+            role.cancelTimeoutOrTask();
+            if (scheduleElectionTimeout) {
+                electionTimeout = scheduleElectionTimeout();
+            }
+        }
         changeToRole(new FollowerNodeRole(term, votedFor, leaderId, electionTimeout));
     }
 
@@ -343,6 +625,7 @@ public class NodeImpl implements Node {
      * @param newRole new role
      */
     private void changeToRole(AbstractNodeRole newRole) {
+        checkLeadershipTransfer(newRole);
         if (!isStableBetween(role, newRole)) {
             logger.debug("node {}, role state changed -> {}", context.selfId(), newRole);
             RoleState state = newRole.getState();
@@ -355,6 +638,9 @@ public class NodeImpl implements Node {
             // notify listeners
             roleListeners.forEach(l -> l.nodeRoleChanged(state));
         }
+        if (newRole.getName() != RoleName.LEADER) {
+            quorumContactAt = 0;
+        }
         role = newRole;
     }
 
@@ -387,10 +673,12 @@ public class NodeImpl implements Node {
     }
 
     /**
-     * Reset replicating states.
+     * Reset replicating states, and entries persisted by self.
      */
     private void resetReplicatingStates() {
         context.group().resetReplicatingStates(context.log().getNextIndex());
+        persistedIndex = context.log().getCommitIndex();
+        quorumContactAt = System.currentTimeMillis();
     }
 
     /**
@@ -409,26 +697,216 @@ public class NodeImpl implements Node {
      * </p>
      */
     void replicateLog() {
-        context.taskExecutor().submit(this::doReplicateLog, LOGGING_FUTURE_CALLBACK);
+        context.taskExecutor().submit(() -> doReplicateLog(true), LOGGING_FUTURE_CALLBACK);
+    }
+
+    /**
+     * Trigger replication after log appended.
+     * <p>
+     * Replicate immediately if no follower is replicating, or bytes not replicated reach batch bytes.
+     * Otherwise coalesce entries until batch delay, or until appends already submitted to node thread
+     * are done if no delay. Followers replicating get new entries when their results arrive.
+     * </p>
+     *
+     * @param bytes bytes of command appended
+     * @see in.xnnyygn.xraft.core.node.config.NodeConfig#getReplicationBatchDelay()
+     */
+    private void triggerReplication(int bytes) {
+        unreplicatedBytes += bytes;
+        if (unreplicatedBytes >= context.config().getReplicationBatchBytes() || !context.group().isReplicating()) {
+            flushReplication();
+            return;
+        }
+        if (replicationFlushPending) {
+            return;
+        }
+        replicationFlushPending = true;
+
+        // flush of this batch is ignored if batch has been flushed, the pending flush belongs to a later batch
+        long generation = replicationBatchGeneration;
+        Runnable flush = () -> {
+            if (replicationFlushPending && replicationBatchGeneration == generation) {
+                flushReplication();
+            }
+        };
+        int delay = context.config().getReplicationBatchDelay();
+        if (delay > 0) {
+            context.scheduler().schedule(() -> context.taskExecutor().submit(flush, LOGGING_FUTURE_CALLBACK),
+                    delay, TimeUnit.MICROSECONDS);
+        } else {
+            context.taskExecutor().submit(flush, LOGGING_FUTURE_CALLBACK);
+        }
+    }
+
+    /**
+     * Replicate entries coalesced, and start a new batch.
+     */
+    private void flushReplication() {
+        replicationBatchGeneration++;
+        replicationFlushPending = false;
+        unreplicatedBytes = 0;
+        if (role.getName() == RoleName.LEADER) {
+            doReplicateLog();
+        }
+    }
+
+    /**
+     * Check if leader has heard from a majority within max election timeout, step down if not.
+     * <p>
+     * Followers in majority may have elected a new leader, so leader in minor partition
+     * rejects commands instead of holding them until partition heals.
+     * </p>
+     *
+     * @return true if still leader, otherwise false
+     */
+    private boolean checkQuorum() {
+        long now = System.currentTimeMillis();
+        quorumContactAt = context.group().getQuorumContactAt(now);
+        if (!context.config().isCheckQuorum() || now - quorumContactAt < context.config().getMaxElectionTimeout()) {
+            return true;
+        }
+        logger.warn("no response from majority since {}, step down", quorumContactAt);
+        // leader voted for itself in this term, keep it or it may vote again for another candidate
+        becomeFollower(role.getTerm(), context.selfId(), null, true);
+        return false;
     }
 
     /**
      * Replicate log to other nodes.
      */
     private void doReplicateLog() {
-        // just advance commit index if is unique node
-        if (context.group().isStandalone()) {
-            context.log().advanceCommitIndex(context.log().getNextIndex() - 1, role.getTerm());
+        doReplicateLog(false);
+    }
+
+    /**
+     * Replicate log to other nodes.
+     * <p>
+     * Heartbeat is not sent to node which received append entries rpc with entries since last log replication task.
+     * Comparing with time of last rpc skips every other heartbeat, since the rpc sent by the task itself
+     * is always within the interval.
+     * </p>
+     *
+     * @param heartbeat triggered by log replication task or not
+     */
+    private void doReplicateLog(boolean heartbeat) {
+        // just advance commit index if is unique voter, learners still need entries
+        if (context.group().isStandalone() && !context.config().isStagedPipeline()) {
+            advanceCommitIndexOfMajor();
+        }
+        if (heartbeat && !checkQuorum()) {
             return;
         }
         logger.debug("replicate log");
         for (GroupMember member : context.group().listReplicationTarget()) {
-            if (member.shouldReplicate(context.config().getLogReplicationReadTimeout())) {
+            if (member.getSnapshotTransferDelegateId() != null) {
+                if (!member.isSnapshotTransferTimeout(context.config().getSnapshotTransferTimeout())) {
+                    logger.debug("node {} is transferring snapshot to node {}, skip replication task",
+                            member.getSnapshotTransferDelegateId(), member.getId());
+                    continue;
+                }
+
+                // follower cannot transfer snapshot in time, send snapshot of leader
+                logger.info("node {} cannot transfer snapshot to node {} within timeout", member.getSnapshotTransferDelegateId(), member.getId());
+                member.stopSnapshotTransfer();
+                member.replicateNow();
+                sendInstallSnapshot(member.getEndpoint(), member.getSnapshotIndex());
+            } else if (member.shouldReplicate(context.config().getLogReplicationReadTimeout())) {
+                if (heartbeat && member.resetEntriesSentSinceTick() && !member.isReplicating()) {
+                    logger.debug("node {} received entries since last heartbeat, skip heartbeat", member.getId());
+                    continue;
+                }
                 doReplicateLog(member, context.config().getMaxReplicationEntries());
+                if (heartbeat) {
+                    // rpc sent by the task itself does not count
+                    member.resetEntriesSentSinceTick();
+                }
             } else {
                 logger.debug("node {} is replicating, skip replication task", member.getId());
             }
         }
+
+        // persist after rpc sent, in parallel with followers
+        if (context.config().isStagedPipeline()) {
+            persistLog();
+        }
+    }
+
+    /**
+     * Persist log in persist stage.
+     * <p>
+     * Entries are written in node thread, and synced in persist stage. Only one sync is in progress,
+     * entries written during sync are synced in next round, so a sync covers as many entries as possible.
+     * </p>
+     */
+    private void persistLog() {
+        int flushedIndex = context.log().flush();
+        if (persisting || flushedIndex <= persistedIndex) {
+            return;
+        }
+        persisting = true;
+        int term = role.getTerm();
+        context.persistTaskExecutor().submit(() -> {
+            boolean synced = syncLog();
+            context.taskExecutor().submit(() -> onLogPersisted(term, flushedIndex, synced), LOGGING_FUTURE_CALLBACK);
+        }, LOGGING_FUTURE_CALLBACK);
+    }
+
+    /**
+     * Sync log.
+     * <p>
+     * Source: persist stage.
+     * </p>
+     *
+     * @return true if synced, otherwise false
+     */
+    private boolean syncLog() {
+        try {
+            context.log().sync();
+            return true;
+        } catch (LogException e) {
+            logger.warn("failed to sync log", e);
+            return false;
+        }
+    }
+
+    /**
+     * Called when log entries synced.
+     * <p>
+     * Leader counts itself for entries synced and advances commit index. Failed sync is retried in next replication.
+     * </p>
+     *
+     * @param term   term when sync started
+     * @param index  last index of entries synced
+     * @param synced synced or not
+     */
+    private void onLogPersisted(int term, int index, boolean synced) {
+        persisting = false;
+        if (role.getName() != RoleName.LEADER || role.getTerm() != term || !synced) {
+            return;
+        }
+        if (index > persistedIndex) {
+            persistedIndex = index;
+            advanceCommitIndexOfMajor();
+        }
+        persistLog();
+    }
+
+    /**
+     * Advance commit index of leader by match index of major.
+     * <p>
+     * If staged pipeline enabled, leader counts itself only for entries persisted.
+     * If leader is the only voter, e.g. with learners, commit index is advanced by leader itself.
+     * </p>
+     */
+    private void advanceCommitIndexOfMajor() {
+        if (context.group().isStandalone()) {
+            int index = context.config().isStagedPipeline() ? persistedIndex : context.log().getNextIndex() - 1;
+            context.log().advanceCommitIndex(index, role.getTerm());
+        } else if (!context.config().isStagedPipeline()) {
+            context.log().advanceCommitIndex(context.group().getMatchIndexOfMajor(), role.getTerm());
+        } else {
+            context.log().advanceCommitIndex(context.group().getMatchIndexOfMajor(persistedIndex), role.getTerm());
+        }
     }
 
     /**
@@ -436,21 +914,113 @@ public class NodeImpl implements Node {
      * <p>
      * Normally it will send append entries rpc to node. And change to install snapshot rpc if entry in snapshot.
      * </p>
+     * <p>
+     * If channel to node is not writable, e.g. node is too slow to receive, replication is paused without
+     * creating rpc, and resumes when channel becomes writable, so pending messages in leader are bounded.
+     * </p>
      *
      * @param member     node
      * @param maxEntries max entries
      * @see EntryInSnapshotException
      */
     private void doReplicateLog(GroupMember member, int maxEntries) {
+        if (!context.connector().isWritable(member.getId())) {
+            logger.debug("channel to node {} is not writable, pause replication", member.getId());
+            member.pauseReplicating();
+            return;
+        }
         member.replicateNow();
         try {
             AppendEntriesRpc rpc = context.log().createAppendEntriesRpc(role.getTerm(), context.selfId(), member.getNextIndex(), maxEntries);
             context.connector().sendAppendEntries(rpc, member.getEndpoint());
+            if (!rpc.getEntries().isEmpty()) {
+                member.entriesSent();
+            }
         } catch (EntryInSnapshotException ignored) {
             logger.debug("log entry {} in snapshot, replicate with install snapshot RPC", member.getNextIndex());
-            InstallSnapshotRpc rpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(), 0, context.config().getSnapshotDataLength());
-            context.connector().sendInstallSnapshot(rpc, member.getEndpoint());
+            NodeId delegateId = replicateSnapshot(member.getEndpoint(), member.getSnapshotIndex());
+            if (delegateId != null) {
+                member.startSnapshotTransfer(delegateId);
+            }
+        }
+    }
+
+    /**
+     * Replicate snapshot to specified node.
+     * <p>
+     * Ask an up-to-date follower to transfer its snapshot if possible, so that leader does not spend disk and network
+     * on snapshot while serving writes. Follower's snapshot must include all entries before the first entry in leader's log,
+     * thus leader is able to resume log replication after it.
+     * </p>
+     *
+     * @param endpoint      endpoint of node
+     * @param snapshotIndex last included index of snapshot in node, 0 if unknown
+     * @return id of follower which transfers snapshot, {@code null} if leader sends snapshot itself
+     */
+    @Nullable
+    private NodeId replicateSnapshot(NodeEndpoint endpoint, int snapshotIndex) {
+        if (context.config().isSnapshotTransferFromFollower()) {
+            int minLastIndex = context.log().getSnapshotLastIncludedIndex();
+            GroupMember delegate = context.group().findSnapshotTransferDelegate(endpoint.getId(), minLastIndex);
+            if (delegate != null) {
+                logger.debug("ask node {} to transfer snapshot to node {}", delegate.getId(), endpoint.getId());
+                TransferSnapshotRpc rpc = new TransferSnapshotRpc();
+                rpc.setTerm(role.getTerm());
+                rpc.setLeaderId(context.selfId());
+                rpc.setTarget(endpoint);
+                rpc.setMinLastIndex(minLastIndex);
+                context.connector().sendTransferSnapshot(rpc, delegate.getEndpoint());
+                return delegate.getId();
+            }
+        }
+        sendInstallSnapshot(endpoint, snapshotIndex);
+        return null;
+    }
+
+    /**
+     * Send first chunk of snapshot in leader.
+     * <p>
+     * If snapshot in node is a base in leader's snapshot chain, only delta snapshots after it are sent,
+     * otherwise the chain is sent from full snapshot.
+     * </p>
+     *
+     * @param endpoint      endpoint of node
+     * @param snapshotIndex last included index of snapshot in node, 0 if unknown
+     */
+    private void sendInstallSnapshot(NodeEndpoint endpoint, int snapshotIndex) {
+        InstallSnapshotRpc rpc = null;
+        if (snapshotIndex > 0) {
+            rpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(), snapshotIndex, 0, context.config().getSnapshotDataLength());
+        }
+        if (rpc == null) {
+            rpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(), 0, context.config().getSnapshotDataLength());
+        }
+        context.connector().sendInstallSnapshot(rpc, endpoint);
+    }
+
+    /**
+     * Resume replication paused when channel becomes writable.
+     * <p>
+     * Source: connector.
+     * </p>
+     *
+     * @param event event
+     */
+    @Override
+    public void onChannelWritable(ChannelWritableEvent event) {
+        context.taskExecutor().submit(() -> doProcessChannelWritable(event), LOGGING_FUTURE_CALLBACK);
+    }
+
+    private void doProcessChannelWritable(ChannelWritableEvent event) {
+        if (role.getName() != RoleName.LEADER) {
+            return;
+        }
+        GroupMember member = context.group().getMember(event.getNodeId());
+        if (member == null || !member.isReplicationStateSet() || !member.isReplicationPaused()) {
+            return;
         }
+        logger.debug("channel to node {} is writable, resume replication", member.getId());
+        doReplicateLog(member, context.config().getMaxReplicationEntries());
     }
 
     /**
@@ -461,7 +1031,7 @@ public class NodeImpl implements Node {
      *
      * @param rpcMessage rpc message
      */
-    @Subscribe
+    @Override
     public void onReceiveRequestVoteRpc(RequestVoteRpcMessage rpcMessage) {
         context.taskExecutor().submit(
                 () -> context.connector().replyRequestVote(doProcessRequestVoteRpc(rpcMessage), rpcMessage),
@@ -521,7 +1091,7 @@ public class NodeImpl implements Node {
      *
      * @param result result
      */
-    @Subscribe
+    @Override
     public void onReceiveRequestVoteResult(RequestVoteResult result) {
         context.taskExecutor().submit(() -> doProcessRequestVoteResult(result), LOGGING_FUTURE_CALLBACK);
     }
@@ -558,6 +1128,7 @@ public class NodeImpl implements Node {
             // become leader
             logger.info("become leader, term {}", role.getTerm());
             resetReplicatingStates();
+            snapshotTransfers.clear();
             changeToRole(new LeaderNodeRole(role.getTerm(), scheduleLogReplicationTask()));
             context.log().appendEntry(role.getTerm()); // no-op log
             context.connector().resetChannels(); // close all inbound channels
@@ -569,30 +1140,158 @@ public class NodeImpl implements Node {
     }
 
     /**
-     * Receive append entries rpc.
+     * Receive pre-vote rpc.
      * <p>
      * Source: connector.
      * </p>
      *
      * @param rpcMessage rpc message
      */
-    @Subscribe
-    public void onReceiveAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
-        context.taskExecutor().submit(() ->
-                        context.connector().replyAppendEntries(doProcessAppendEntriesRpc(rpcMessage), rpcMessage),
+    @Override
+    public void onReceivePreVoteRpc(PreVoteRpcMessage rpcMessage) {
+        context.taskExecutor().submit(
+                () -> context.connector().replyPreVote(doProcessPreVoteRpc(rpcMessage), rpcMessage),
                 LOGGING_FUTURE_CALLBACK
         );
     }
 
-    private AppendEntriesResult doProcessAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
-        AppendEntriesRpc rpc = rpcMessage.get();
-
-        // reply current term if term in rpc is smaller than current term
-        if (rpc.getTerm() < role.getTerm()) {
-            return new AppendEntriesResult(rpc.getMessageId(), role.getTerm(), false);
-        }
-
-        // if term in rpc is larger than current term, step down and append entries
+    /**
+     * Check if self would vote for candidate, without changing term or vote.
+     * <p>
+     * Follower with leader has heard from leader since its election timeout was scheduled,
+     * so it does not vote, neither does leader. Otherwise, vote like request vote rpc.
+     * </p>
+     *
+     * @param rpcMessage rpc message
+     * @return result
+     */
+    private PreVoteResult doProcessPreVoteRpc(PreVoteRpcMessage rpcMessage) {
+        if (!context.group().isMemberOfMajor(rpcMessage.getSourceNodeId())) {
+            logger.warn("receive pre-vote rpc from node {} which is not major node, ignore", rpcMessage.getSourceNodeId());
+            return new PreVoteResult(role.getTerm(), false);
+        }
+        PreVoteRpc rpc = rpcMessage.get();
+        if (rpc.getTerm() < role.getTerm() || role.getName() == RoleName.LEADER ||
+                role.getLeaderId(context.selfId()) != null) {
+            logger.debug("reject pre-vote from node {}, term {}, role {}", rpc.getCandidateId(), rpc.getTerm(), role);
+            return new PreVoteResult(role.getTerm(), false);
+        }
+        if (context.log().isNewerThan(rpc.getLastLogIndex(), rpc.getLastLogTerm())) {
+            return new PreVoteResult(role.getTerm(), false);
+        }
+        if (rpc.getTerm() > role.getTerm()) {
+            return new PreVoteResult(rpc.getTerm(), true);
+        }
+
+        // same term, vote if not voted or voted for candidate
+        NodeId votedFor = (role.getName() == RoleName.FOLLOWER) ? ((FollowerNodeRole) role).getVotedFor() : context.selfId();
+        boolean voteGranted = votedFor == null || votedFor.equals(rpc.getCandidateId());
+        return new PreVoteResult(role.getTerm(), voteGranted);
+    }
+
+    /**
+     * Receive pre-vote result.
+     * <p>
+     * Source: connector.
+     * </p>
+     *
+     * @param resultMessage result message
+     */
+    @Override
+    public void onReceivePreVoteResult(PreVoteResultMessage resultMessage) {
+        context.taskExecutor().submit(() -> doProcessPreVoteResult(resultMessage), LOGGING_FUTURE_CALLBACK);
+    }
+
+    private void doProcessPreVoteResult(PreVoteResultMessage resultMessage) {
+        PreVoteResult result = resultMessage.get();
+
+        // step down if peer rejected in larger term
+        if (!result.isVoteGranted() && result.getTerm() > role.getTerm()) {
+            preVotesGranted = null;
+            becomeFollower(result.getTerm(), null, null, true);
+            return;
+        }
+
+        // leader found, or election started
+        if (preVotesGranted == null || role.getName() != RoleName.FOLLOWER || role.getLeaderId(context.selfId()) != null) {
+            logger.debug("receive pre-vote result and not in pre-vote, ignore");
+            preVotesGranted = null;
+            return;
+        }
+        if (!result.isVoteGranted() || result.getTerm() != role.getTerm() + 1) {
+            return;
+        }
+        preVotesGranted.add(resultMessage.getSourceNodeId());
+        int votesCount = preVotesGranted.size() + 1;
+        int countOfMajor = context.group().getCountOfMajor();
+        logger.debug("pre-votes count {}, major node count {}", votesCount, countOfMajor);
+        if (votesCount > countOfMajor / 2) {
+            startElection(result.getTerm());
+        }
+    }
+
+    /**
+     * Receive timeout now rpc.
+     * <p>
+     * Source: connector.
+     * </p>
+     *
+     * @param rpcMessage rpc message
+     */
+    @Override
+    public void onReceiveTimeoutNowRpc(TimeoutNowRpcMessage rpcMessage) {
+        context.taskExecutor().submit(() -> doProcessTimeoutNowRpc(rpcMessage), LOGGING_FUTURE_CALLBACK);
+    }
+
+    private void doProcessTimeoutNowRpc(TimeoutNowRpcMessage rpcMessage) {
+        TimeoutNowRpc rpc = rpcMessage.get();
+        if (rpc.getTerm() != role.getTerm() || role.getName() != RoleName.FOLLOWER) {
+            logger.info("receive timeout now rpc from node {} in term {}, current role {}, ignore",
+                    rpc.getLeaderId(), rpc.getTerm(), role);
+            return;
+        }
+
+        // skip pre-vote, leader has agreed
+        logger.info("leader {} transfers leadership to self", rpc.getLeaderId());
+        startElection(role.getTerm() + 1);
+    }
+
+    /**
+     * Receive append entries rpc.
+     * <p>
+     * Source: connector.
+     * </p>
+     *
+     * @param rpcMessage rpc message
+     */
+    @Override
+    public void onReceiveAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
+        try {
+            context.taskExecutor().submit(() -> {
+                        try {
+                            context.connector().replyAppendEntries(doProcessAppendEntriesRpc(rpcMessage), rpcMessage);
+                        } finally {
+                            rpcMessage.get().release();
+                        }
+                    },
+                    LOGGING_FUTURE_CALLBACK
+            );
+        } catch (RejectedExecutionException e) {
+            // task never runs, e.g. node stopped
+            rpcMessage.get().release();
+            throw e;
+        }
+    }
+
+    private AppendEntriesResult doProcessAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
+        AppendEntriesRpc rpc = rpcMessage.get();
+
+        // reply current term if term in rpc is smaller than current term
+        if (rpc.getTerm() < role.getTerm()) {
+            return new AppendEntriesResult(rpc.getMessageId(), role.getTerm(), false);
+        }
+
+        // if term in rpc is larger than current term, step down and append entries
         if (rpc.getTerm() > role.getTerm()) {
             becomeFollower(rpc.getTerm(), null, rpc.getLeaderId(), true);
             return new AppendEntriesResult(rpc.getMessageId(), rpc.getTerm(), appendEntries(rpc));
@@ -637,7 +1336,7 @@ public class NodeImpl implements Node {
      *
      * @param resultMessage result message
      */
-    @Subscribe
+    @Override
     public void onReceiveAppendEntriesResult(AppendEntriesResultMessage resultMessage) {
         context.taskExecutor().submit(() -> doProcessAppendEntriesResult(resultMessage), LOGGING_FUTURE_CALLBACK);
     }
@@ -672,10 +1371,11 @@ public class NodeImpl implements Node {
             logger.info("unexpected append entries result from node {}, node maybe removed", sourceNodeId);
             return;
         }
+        member.contactNow();
 
         AppendEntriesRpc rpc = resultMessage.getRpc();
         if (result.isSuccess()) {
-            if (!member.isMajor()) {  // removing node
+            if (!member.isMajor() && !member.isLearner()) {  // removing node
                 if (member.isRemoving()) {
                     logger.debug("node {} is removing, skip", sourceNodeId);
                 } else {
@@ -686,14 +1386,17 @@ public class NodeImpl implements Node {
             }
 
             // peer
-            // advance commit index if major of match index changed
-            if (member.advanceReplicatingState(rpc.getLastEntryIndex())) {
-                context.log().advanceCommitIndex(context.group().getMatchIndexOfMajor(), role.getTerm());
+            // advance commit index if major of match index changed, learner does not count
+            if (member.advanceReplicatingState(rpc.getLastEntryIndex()) && member.isMajor()) {
+                advanceCommitIndexOfMajor();
             }
 
             // node caught up
             if (member.getNextIndex() >= context.log().getNextIndex()) {
                 member.stopReplicating();
+                if (leadershipTransferTarget != null && member.idEquals(leadershipTransferTarget.getId())) {
+                    sendTimeoutNow(member);
+                }
                 return;
             }
         } else {
@@ -715,14 +1418,22 @@ public class NodeImpl implements Node {
      *
      * @param rpcMessage rpc message
      */
-    @Subscribe
+    @Override
     public void onReceiveInstallSnapshotRpc(InstallSnapshotRpcMessage rpcMessage) {
-        context.taskExecutor().submit(
-                () -> context.connector().replyInstallSnapshot(doProcessInstallSnapshotRpc(rpcMessage), rpcMessage),
-                LOGGING_FUTURE_CALLBACK
-        );
+        context.taskExecutor().submit(() -> {
+            InstallSnapshotResult result = doProcessInstallSnapshotRpc(rpcMessage);
+            if (result != null) {
+                context.connector().replyInstallSnapshot(result, rpcMessage);
+            }
+        }, LOGGING_FUTURE_CALLBACK);
     }
 
+    /**
+     * Process install snapshot rpc.
+     *
+     * @param rpcMessage rpc message
+     * @return result, {@code null} if result is deferred until snapshot is restored
+     */
     private InstallSnapshotResult doProcessInstallSnapshotRpc(InstallSnapshotRpcMessage rpcMessage) {
         InstallSnapshotRpc rpc = rpcMessage.get();
 
@@ -734,13 +1445,123 @@ public class NodeImpl implements Node {
         // step down if term in rpc is larger than current one
         if (rpc.getTerm() > role.getTerm()) {
             becomeFollower(rpc.getTerm(), null, rpc.getLeaderId(), true);
+        } else if (role.getName() == RoleName.FOLLOWER) {
+
+            // reset election timeout, chunks may be the only messages from leader for a while
+            becomeFollower(rpc.getTerm(), ((FollowerNodeRole) role).getVotedFor(), rpc.getLeaderId(), true);
+        } else if (role.getName() == RoleName.CANDIDATE) {
+            becomeFollower(rpc.getTerm(), null, rpc.getLeaderId(), true);
         }
+        // paused reply is stale if leader restarts the transfer
+        cancelPausedSnapshotReply();
         InstallSnapshotState state = context.log().installSnapshot(rpc);
+        if (state.getStateName() == InstallSnapshotState.StateName.PAUSED) {
+            pauseSnapshotReply(rpcMessage);
+            return null;
+        }
+        if (state.getStateName() == InstallSnapshotState.StateName.RESTORING) {
+            if (rpc.isDone()) {
+                restoringSnapshotRpcMessage = rpcMessage;
+            }
+            return null;
+        }
         if (state.getStateName() == InstallSnapshotState.StateName.INSTALLED) {
             context.group().updateNodes(state.getLastConfig());
         }
-        // TODO role check?
-        return new InstallSnapshotResult(rpc.getTerm());
+        return new InstallSnapshotResult(rpc.getTerm(), context.log().getSnapshotLastIncludedIndex());
+    }
+
+    /**
+     * Pause reply of chunk until restoring drains queued chunks, so that leader sends no more chunks.
+     * <p>
+     * Pausing lasts for half of log replication read timeout at most, otherwise leader regards the transfer
+     * as timeout and restarts it from the first chunk.
+     * </p>
+     *
+     * @param rpcMessage rpc message
+     */
+    private void pauseSnapshotReply(InstallSnapshotRpcMessage rpcMessage) {
+        logger.debug("too many chunks queued for restoring, pause reply of chunk at offset {}", rpcMessage.get().getOffset());
+        cancelPausedSnapshotReply();
+        pausedSnapshotRpcMessage = rpcMessage;
+        pausedSnapshotReplyTimeout = context.scheduler().schedule(
+                () -> context.taskExecutor().submit(this::replyPausedSnapshotChunk, LOGGING_FUTURE_CALLBACK),
+                context.config().getLogReplicationReadTimeout() / 2, TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void cancelPausedSnapshotReply() {
+        if (pausedSnapshotReplyTimeout != null) {
+            pausedSnapshotReplyTimeout.cancel(false);
+        }
+        pausedSnapshotRpcMessage = null;
+        pausedSnapshotReplyTimeout = null;
+    }
+
+    private void replyPausedSnapshotChunk() {
+        InstallSnapshotRpcMessage rpcMessage = pausedSnapshotRpcMessage;
+        if (rpcMessage == null) {
+            return;
+        }
+        cancelPausedSnapshotReply();
+        context.connector().replyInstallSnapshot(
+                new InstallSnapshotResult(rpcMessage.get().getTerm(), context.log().getSnapshotLastIncludedIndex()), rpcMessage);
+    }
+
+    /**
+     * Called when restoring drains chunks of snapshot being installed.
+     * <p>
+     * Source: log.
+     * </p>
+     *
+     * @param event event
+     */
+    @Override
+    public void onSnapshotDataDrained(SnapshotDataDrainedEvent event) {
+        context.taskExecutor().submit(this::replyPausedSnapshotChunk, LOGGING_FUTURE_CALLBACK);
+    }
+
+    /**
+     * Called when restoring of aborted snapshot installation stops.
+     * <p>
+     * Source: log.
+     * </p>
+     *
+     * @param event event
+     */
+    @Override
+    public void onSnapshotRestoreAborted(SnapshotRestoreAbortedEvent event) {
+        context.taskExecutor().submit(() -> context.log().resumeApplyingLog(), LOGGING_FUTURE_CALLBACK);
+    }
+
+    /**
+     * Called when snapshot is installed in background.
+     * <p>
+     * Source: log.
+     * </p>
+     *
+     * @param event event
+     */
+    @Override
+    public void onSnapshotInstalled(SnapshotInstalledEvent event) {
+        context.taskExecutor().submit(
+                () -> doProcessSnapshotInstalled(event),
+                LOGGING_FUTURE_CALLBACK
+        );
+    }
+
+    private void doProcessSnapshotInstalled(SnapshotInstalledEvent event) {
+        InstallSnapshotState state = context.log().replaceInstalledSnapshot(event.getSnapshot());
+        if (state.getStateName() != InstallSnapshotState.StateName.INSTALLED) {
+            return;
+        }
+        context.group().updateNodes(state.getLastConfig());
+        if (restoringSnapshotRpcMessage != null) {
+
+            // reply the last chunk
+            context.connector().replyInstallSnapshot(new InstallSnapshotResult(role.getTerm(), context.log().getSnapshotLastIncludedIndex()), restoringSnapshotRpcMessage);
+            restoringSnapshotRpcMessage = null;
+        }
     }
 
     /**
@@ -748,7 +1569,7 @@ public class NodeImpl implements Node {
      *
      * @param resultMessage result message
      */
-    @Subscribe
+    @Override
     public void onReceiveInstallSnapshotResult(InstallSnapshotResultMessage resultMessage) {
         context.taskExecutor().submit(
                 () -> doProcessInstallSnapshotResult(resultMessage),
@@ -759,6 +1580,13 @@ public class NodeImpl implements Node {
     private void doProcessInstallSnapshotResult(InstallSnapshotResultMessage resultMessage) {
         InstallSnapshotResult result = resultMessage.get();
 
+        // dispatch to snapshot transfer on behalf of leader by node id
+        TransferSnapshotRpcMessage transferMessage = snapshotTransfers.get(resultMessage.getSourceNodeId());
+        if (transferMessage != null && role.getName() != RoleName.LEADER) {
+            doProcessSnapshotTransfer(transferMessage, resultMessage);
+            return;
+        }
+
         // step down if result's term is larger than current one
         if (result.getTerm() > role.getTerm()) {
             becomeFollower(result.getTerm(), null, null, true);
@@ -782,23 +1610,205 @@ public class NodeImpl implements Node {
             logger.info("unexpected install snapshot result from node {}, node maybe removed", sourceNodeId);
             return;
         }
+        member.contactNow();
 
         InstallSnapshotRpc rpc = resultMessage.getRpc();
+        if (result.getSnapshotIndex() > 0) {
+            member.setSnapshotIndex(result.getSnapshotIndex());
+
+            // base of delta snapshot is gone in node, e.g. replaced by snapshot generated by node itself
+            if (rpc.getBaseIndex() > 0 && result.getSnapshotIndex() != rpc.getBaseIndex() && result.getSnapshotIndex() != rpc.getLastIndex()) {
+                logger.info("node {} does not have base snapshot {}, restart snapshot installation", sourceNodeId, rpc.getBaseIndex());
+                sendInstallSnapshot(member.getEndpoint(), result.getSnapshotIndex());
+                return;
+            }
+        }
+        int maxEntries = (member.isMajor() || member.isLearner()) ? context.config().getMaxReplicationEntries() : context.config().getMaxReplicationEntriesForNewNode();
         if (rpc.isDone()) {
+            member.advanceReplicatingState(rpc.getLastIndex());
+
+            // install delta snapshot based on the one just installed
+            InstallSnapshotRpc nextRpc = rpc.getLastIndex() > 0 ? context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(),
+                    rpc.getLastIndex(), 0, context.config().getSnapshotDataLength()) : null;
+            if (nextRpc != null) {
+                context.connector().sendInstallSnapshot(nextRpc, member.getEndpoint());
+                return;
+            }
 
             // change to append entries rpc
-            member.advanceReplicatingState(rpc.getLastIndex());
-            int maxEntries = member.isMajor() ? context.config().getMaxReplicationEntries() : context.config().getMaxReplicationEntriesForNewNode();
             doReplicateLog(member, maxEntries);
         } else {
 
             // transfer data
             InstallSnapshotRpc nextRpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(),
-                    rpc.getOffset() + rpc.getDataLength(), context.config().getSnapshotDataLength());
+                    rpc.getBaseIndex(), rpc.getOffset() + rpc.getDataLength(), context.config().getSnapshotDataLength());
+            if (nextRpc == null) {
+
+                // snapshot changed, restart from full snapshot
+                doReplicateLog(member, maxEntries);
+                return;
+            }
             context.connector().sendInstallSnapshot(nextRpc, member.getEndpoint());
         }
     }
 
+    /**
+     * Continue snapshot transfer on behalf of leader.
+     *
+     * @param transferMessage transfer snapshot rpc message from leader
+     * @param resultMessage   install snapshot result message from target
+     */
+    private void doProcessSnapshotTransfer(TransferSnapshotRpcMessage transferMessage, InstallSnapshotResultMessage resultMessage) {
+        TransferSnapshotRpc transferRpc = transferMessage.get();
+        InstallSnapshotResult result = resultMessage.get();
+
+        // target has seen newer term
+        if (result.getTerm() > transferRpc.getTerm()) {
+            replyTransferSnapshot(transferMessage, 0, false);
+            if (result.getTerm() > role.getTerm()) {
+                becomeFollower(result.getTerm(), null, null, true);
+            }
+            return;
+        }
+
+        InstallSnapshotRpc rpc = resultMessage.getRpc();
+        InstallSnapshotRpc nextRpc;
+        if (rpc.isDone()) {
+
+            // install delta snapshot based on the one just installed
+            nextRpc = rpc.getLastIndex() > 0 ? context.log().createInstallSnapshotRpc(transferRpc.getTerm(), transferRpc.getLeaderId(),
+                    rpc.getLastIndex(), 0, context.config().getSnapshotDataLength()) : null;
+            if (nextRpc == null) {
+                replyTransferSnapshot(transferMessage, rpc.getLastIndex(), true);
+                return;
+            }
+        } else {
+            nextRpc = context.log().createInstallSnapshotRpc(transferRpc.getTerm(), transferRpc.getLeaderId(),
+                    rpc.getBaseIndex(), rpc.getOffset() + rpc.getDataLength(), context.config().getSnapshotDataLength());
+            if (nextRpc == null) {
+                logger.info("snapshot changed during transfer to node {}", resultMessage.getSourceNodeId());
+                replyTransferSnapshot(transferMessage, 0, false);
+                return;
+            }
+        }
+        context.connector().sendInstallSnapshot(nextRpc, transferRpc.getTarget());
+    }
+
+    /**
+     * Receive transfer snapshot rpc.
+     * <p>
+     * Source: connector.
+     * </p>
+     *
+     * @param rpcMessage rpc message
+     */
+    @Override
+    public void onReceiveTransferSnapshotRpc(TransferSnapshotRpcMessage rpcMessage) {
+        context.taskExecutor().submit(() -> doProcessTransferSnapshotRpc(rpcMessage), LOGGING_FUTURE_CALLBACK);
+    }
+
+    private void doProcessTransferSnapshotRpc(TransferSnapshotRpcMessage rpcMessage) {
+        TransferSnapshotRpc rpc = rpcMessage.get();
+
+        // reply current term if term in rpc is smaller than current term
+        if (rpc.getTerm() < role.getTerm()) {
+            replyTransferSnapshot(rpcMessage, 0, false);
+            return;
+        }
+
+        // step down if term in rpc is larger than current one
+        if (rpc.getTerm() > role.getTerm()) {
+            becomeFollower(rpc.getTerm(), null, rpc.getLeaderId(), true);
+        }
+        if (role.getName() != RoleName.FOLLOWER) {
+            logger.warn("receive transfer snapshot rpc from node {} but current node is not follower, ignore", rpcMessage.getSourceNodeId());
+            replyTransferSnapshot(rpcMessage, 0, false);
+            return;
+        }
+
+        // leader cannot resume log replication if snapshot is older than leader's
+        int lastIndex = context.log().getSnapshotLastIncludedIndex();
+        if (lastIndex < rpc.getMinLastIndex()) {
+            logger.info("last included index of snapshot {} < {}, cannot transfer snapshot", lastIndex, rpc.getMinLastIndex());
+            replyTransferSnapshot(rpcMessage, lastIndex, false);
+            return;
+        }
+        logger.debug("transfer snapshot to node {} on behalf of leader {}", rpc.getTarget().getId(), rpc.getLeaderId());
+        snapshotTransfers.put(rpc.getTarget().getId(), rpcMessage);
+        InstallSnapshotRpc installSnapshotRpc = context.log().createInstallSnapshotRpc(
+                rpc.getTerm(), rpc.getLeaderId(), 0, context.config().getSnapshotDataLength());
+        context.connector().sendInstallSnapshot(installSnapshotRpc, rpc.getTarget());
+    }
+
+    /**
+     * Reply transfer snapshot result and remove the transfer.
+     *
+     * @param rpcMessage rpc message
+     * @param lastIndex  last included index of installed snapshot
+     * @param success    success or not
+     */
+    private void replyTransferSnapshot(TransferSnapshotRpcMessage rpcMessage, int lastIndex, boolean success) {
+        NodeId targetId = rpcMessage.get().getTarget().getId();
+        snapshotTransfers.remove(targetId, rpcMessage);
+        context.connector().replyTransferSnapshot(new TransferSnapshotResult(role.getTerm(), targetId, lastIndex, success), rpcMessage);
+    }
+
+    /**
+     * Receive transfer snapshot result.
+     *
+     * @param resultMessage result message
+     */
+    @Override
+    public void onReceiveTransferSnapshotResult(TransferSnapshotResultMessage resultMessage) {
+        context.taskExecutor().submit(
+                () -> doProcessTransferSnapshotResult(resultMessage),
+                LOGGING_FUTURE_CALLBACK
+        );
+    }
+
+    private void doProcessTransferSnapshotResult(TransferSnapshotResultMessage resultMessage) {
+        TransferSnapshotResult result = resultMessage.get();
+
+        // step down if result's term is larger than current one
+        if (result.getTerm() > role.getTerm()) {
+            becomeFollower(result.getTerm(), null, null, true);
+            return;
+        }
+
+        // check role
+        if (role.getName() != RoleName.LEADER) {
+            logger.warn("receive transfer snapshot result from node {} but current node is not leader, ignore", resultMessage.getSourceNodeId());
+            return;
+        }
+
+        // dispatch to new node catch up task by target node id
+        if (newNodeCatchUpTaskGroup.onReceiveTransferSnapshotResult(resultMessage, context.log().getNextIndex())) {
+            return;
+        }
+
+        GroupMember member = context.group().getMember(result.getTargetId());
+        if (member == null) {
+            logger.info("unexpected transfer snapshot result for node {}, node maybe removed", result.getTargetId());
+            return;
+        }
+        if (!resultMessage.getSourceNodeId().equals(member.getSnapshotTransferDelegateId())) {
+            logger.info("node {} is not transferring snapshot to node {}, ignore", resultMessage.getSourceNodeId(), result.getTargetId());
+            return;
+        }
+        member.stopSnapshotTransfer();
+        if (result.isSuccess()) {
+
+            // resume log replication after last included index of snapshot
+            member.advanceReplicatingState(result.getLastIndex());
+            int maxEntries = (member.isMajor() || member.isLearner()) ? context.config().getMaxReplicationEntries() : context.config().getMaxReplicationEntriesForNewNode();
+            doReplicateLog(member, maxEntries);
+        } else {
+            logger.info("node {} failed to transfer snapshot to node {}, send snapshot of leader", resultMessage.getSourceNodeId(), result.getTargetId());
+            member.replicateNow();
+            sendInstallSnapshot(member.getEndpoint(), member.getSnapshotIndex());
+        }
+    }
+
     /**
      * Group config from leader appended.
      * <p>
@@ -807,7 +1817,7 @@ public class NodeImpl implements Node {
      *
      * @param event event
      */
-    @Subscribe
+    @Override
     public void onGroupConfigEntryFromLeaderAppend(GroupConfigEntryFromLeaderAppendEvent event) {
         context.taskExecutor().submit(() -> {
             GroupConfigEntry entry = event.getEntry();
@@ -828,7 +1838,7 @@ public class NodeImpl implements Node {
      *
      * @param event event
      */
-    @Subscribe
+    @Override
     public void onGroupConfigEntryCommitted(GroupConfigEntryCommittedEvent event) {
         context.taskExecutor().submit(
                 () -> doProcessGroupConfigEntryCommittedEvent(event),
@@ -851,7 +1861,7 @@ public class NodeImpl implements Node {
      *
      * @param event event
      */
-    @Subscribe
+    @Override
     public void onGroupConfigEntryBatchRemoved(GroupConfigEntryBatchRemovedEvent event) {
         context.taskExecutor().submit(() -> {
             GroupConfigEntry entry = event.getFirstRemovedEntry();
@@ -867,24 +1877,27 @@ public class NodeImpl implements Node {
      *
      * @param event event
      */
-    @Subscribe
+    @Override
     public void onGenerateSnapshot(SnapshotGenerateEvent event) {
         context.taskExecutor().submit(() -> {
-            context.log().generateSnapshot(event.getLastIncludedIndex(), context.group().listEndpointOfMajor());
+            context.log().generateSnapshot(event.getLastIncludedIndex(), context.group().listEndpointOfConfig());
         }, LOGGING_FUTURE_CALLBACK);
     }
 
     /**
-     * Dead event.
+     * Snapshot chain consolidated.
      * <p>
-     * Source: event-bus.
+     * Source: log.
      * </p>
      *
-     * @param deadEvent dead event
+     * @param event event
      */
-    @Subscribe
-    public void onReceiveDeadEvent(DeadEvent deadEvent) {
-        logger.warn("dead event {}", deadEvent);
+    @Override
+    public void onSnapshotConsolidated(SnapshotConsolidatedEvent event) {
+        context.taskExecutor().submit(
+                () -> context.log().replaceSnapshotChain(event.getSnapshot()),
+                LOGGING_FUTURE_CALLBACK
+        );
     }
 
     @Override
@@ -893,6 +1906,9 @@ public class NodeImpl implements Node {
             throw new IllegalStateException("node not started");
         }
         context.scheduler().stop();
+        if (context.persistTaskExecutor() != null) {
+            context.persistTaskExecutor().shutdown();
+        }
         context.log().close();
         context.connector().close();
         context.store().close();
@@ -920,15 +1936,20 @@ public class NodeImpl implements Node {
 
                 // change to install snapshot rpc if entry in snapshot
                 logger.debug("log entry {} in snapshot, replicate with install snapshot RPC", nextIndex);
-                InstallSnapshotRpc rpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(), 0, context.config().getSnapshotDataLength());
-                context.connector().sendInstallSnapshot(rpc, endpoint);
+                if (replicateSnapshot(endpoint, 0) != null) {
+                    newNodeCatchUpTaskGroup.onSnapshotTransferStarted(endpoint.getId());
+                }
             }
         }
 
         @Override
-        public void sendInstallSnapshot(NodeEndpoint endpoint, int offset) {
-            InstallSnapshotRpc rpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(), offset, context.config().getSnapshotDataLength());
+        public boolean sendInstallSnapshot(NodeEndpoint endpoint, int baseIndex, int offset) {
+            InstallSnapshotRpc rpc = context.log().createInstallSnapshotRpc(role.getTerm(), context.selfId(), baseIndex, offset, context.config().getSnapshotDataLength());
+            if (rpc == null) {
+                return false;
+            }
             context.connector().sendInstallSnapshot(rpc, endpoint);
+            return true;
         }
 
         @Override
@@ -944,18 +1965,38 @@ public class NodeImpl implements Node {
         @Override
         public void addNode(NodeEndpoint endpoint, int nextIndex, int matchIndex) {
             context.taskExecutor().submit(() -> {
-                context.log().appendEntryForAddNode(role.getTerm(), context.group().listEndpointOfMajor(), endpoint);
+                context.log().appendEntryForAddNode(role.getTerm(), context.group().listEndpointOfConfig(), endpoint);
                 assert !context.selfId().equals(endpoint.getId());
                 context.group().addNode(endpoint, nextIndex, matchIndex, true);
                 NodeImpl.this.doReplicateLog();
             }, LOGGING_FUTURE_CALLBACK);
         }
 
+        @Override
+        public void addLearner(NodeEndpoint endpoint) {
+            context.taskExecutor().submit(() -> {
+                context.log().appendEntryForAddNode(role.getTerm(), context.group().listEndpointOfConfig(), endpoint);
+                int nextIndex = context.log().getNextIndex();
+                context.group().addNode(endpoint, nextIndex, 0, false);
+                NodeImpl.this.doReplicateLog();
+            }, LOGGING_FUTURE_CALLBACK);
+        }
+
+        @Override
+        public void promoteLearner(NodeId nodeId) {
+            context.taskExecutor().submit(() -> {
+                NodeEndpoint endpoint = context.group().findMember(nodeId).getEndpoint().toVoter();
+                context.log().appendEntryForAddNode(role.getTerm(), context.group().listEndpointOfConfig(), endpoint);
+                context.group().promote(nodeId);
+                NodeImpl.this.doReplicateLog();
+            }, LOGGING_FUTURE_CALLBACK);
+        }
+
         @Override
         public void downgradeNode(NodeId nodeId) {
             context.taskExecutor().submit(() -> {
                 context.group().downgrade(nodeId);
-                Set<NodeEndpoint> nodeEndpoints = context.group().listEndpointOfMajor();
+                Set<NodeEndpoint> nodeEndpoints = context.group().listEndpointOfConfig();
                 context.log().appendEntryForRemoveNode(role.getTerm(), nodeEndpoints, nodeId);
                 NodeImpl.this.doReplicateLog();
             }, LOGGING_FUTURE_CALLBACK);
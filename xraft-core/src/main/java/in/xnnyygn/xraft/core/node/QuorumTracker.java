@@ -0,0 +1,123 @@
+package in.xnnyygn.xraft.core.node;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+/**
+ * Tracker of match indices of voters, to get the largest index reached by a quorum, the commit candidate.
+ * <p>
+ * Match indices and weights are kept in primitive arrays by slot. Candidate is computed again only when
+ * a match index passes it or goes back, so most updates cost a comparison, and nothing is allocated.
+ * </p>
+ * <p>
+ * A quorum is voters with more than half of total weight. For joint quorum, e.g. old and new configuration,
+ * track each configuration and take the smaller candidate.
+ * </p>
+ */
+@NotThreadSafe
+class QuorumTracker {
+
+    private final int[] matchIndices;
+    private final int[] weights;
+    private final int quorumWeight;
+
+    // slots sorted by match index, reused in computing candidate
+    private final int[] order;
+    private int candidate = 0;
+
+    /**
+     * Create with weight 1 per voter.
+     *
+     * @param count count of voters
+     */
+    QuorumTracker(int count) {
+        this(ones(count));
+    }
+
+    /**
+     * Create.
+     *
+     * @param weights weight per voter, positive
+     * @throws IllegalArgumentException if no voter or weight is not positive
+     */
+    QuorumTracker(int[] weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("no voter");
+        }
+        int totalWeight = 0;
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight should be positive");
+            }
+            totalWeight += weight;
+        }
+        this.weights = weights.clone();
+        this.quorumWeight = totalWeight / 2 + 1;
+        this.matchIndices = new int[weights.length];
+        this.order = new int[weights.length];
+    }
+
+    private static int[] ones(int count) {
+        int[] weights = new int[count];
+        Arrays.fill(weights, 1);
+        return weights;
+    }
+
+    /**
+     * Get count of voters.
+     *
+     * @return count
+     */
+    int size() {
+        return matchIndices.length;
+    }
+
+    /**
+     * Update match index of voter.
+     *
+     * @param slot       slot of voter
+     * @param matchIndex match index
+     * @return candidate
+     */
+    int update(int slot, int matchIndex) {
+        int previous = matchIndices[slot];
+        if (matchIndex == previous) {
+            return candidate;
+        }
+        matchIndices[slot] = matchIndex;
+        if (matchIndex > candidate || (matchIndex < previous && previous >= candidate)) {
+            candidate = computeCandidate();
+        }
+        return candidate;
+    }
+
+    /**
+     * Get largest match index reached by a quorum.
+     *
+     * @return candidate
+     */
+    int getCandidate() {
+        return candidate;
+    }
+
+    private int computeCandidate() {
+        // insertion sort by match index descending, count of voters is small
+        for (int i = 0; i < order.length; i++) {
+            int j = i;
+            while (j > 0 && matchIndices[order[j - 1]] < matchIndices[i]) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+        int weight = 0;
+        for (int slot : order) {
+            weight += weights[slot];
+            if (weight >= quorumWeight) {
+                return matchIndices[slot];
+            }
+        }
+        throw new IllegalStateException("quorum not reached");
+    }
+
+}
@@ -8,7 +8,16 @@ class ReplicatingState {
     private int nextIndex;
     private int matchIndex;
     private boolean replicating = false;
+    private boolean paused = false;
     private long lastReplicatedAt = 0;
+    // append entries rpc with entries sent since last log replication task, reset by the task
+    private boolean entriesSentSinceTick = false;
+    // regarded as contacted when replication starts, e.g. becoming leader
+    private long lastContactAt = System.currentTimeMillis();
+    private NodeId snapshotTransferDelegateId;
+    private long snapshotTransferStartedAt = 0;
+    // last included index of snapshot in member, 0 if unknown
+    private int snapshotIndex = 0;
 
     ReplicatingState(int nextIndex) {
         this(nextIndex, 0);
@@ -84,6 +93,24 @@ class ReplicatingState {
         this.replicating = replicating;
     }
 
+    /**
+     * Test if replication is paused because channel is not writable.
+     *
+     * @return true if paused, otherwise false
+     */
+    boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Set paused.
+     *
+     * @param paused paused
+     */
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
     /**
      * Get last replicated timestamp.
      *
@@ -102,13 +129,107 @@ class ReplicatingState {
         this.lastReplicatedAt = lastReplicatedAt;
     }
 
+    /**
+     * Test if append entries rpc with entries was sent since last log replication task.
+     *
+     * @return true if sent, otherwise false
+     */
+    boolean isEntriesSentSinceTick() {
+        return entriesSentSinceTick;
+    }
+
+    /**
+     * Set entries sent since last log replication task.
+     *
+     * @param entriesSentSinceTick sent or not
+     */
+    void setEntriesSentSinceTick(boolean entriesSentSinceTick) {
+        this.entriesSentSinceTick = entriesSentSinceTick;
+    }
+
+    /**
+     * Get timestamp when last response received.
+     *
+     * @return last contact timestamp
+     */
+    long getLastContactAt() {
+        return lastContactAt;
+    }
+
+    /**
+     * Set timestamp when last response received.
+     *
+     * @param lastContactAt last contact timestamp
+     */
+    void setLastContactAt(long lastContactAt) {
+        this.lastContactAt = lastContactAt;
+    }
+
+    /**
+     * Get id of follower which is transferring snapshot to this node.
+     *
+     * @return follower id, {@code null} if no snapshot transfer
+     */
+    NodeId getSnapshotTransferDelegateId() {
+        return snapshotTransferDelegateId;
+    }
+
+    /**
+     * Set id of follower which is transferring snapshot to this node.
+     *
+     * @param snapshotTransferDelegateId follower id, {@code null} if no snapshot transfer
+     */
+    void setSnapshotTransferDelegateId(NodeId snapshotTransferDelegateId) {
+        this.snapshotTransferDelegateId = snapshotTransferDelegateId;
+    }
+
+    /**
+     * Get timestamp when snapshot transfer started.
+     *
+     * @return timestamp
+     */
+    long getSnapshotTransferStartedAt() {
+        return snapshotTransferStartedAt;
+    }
+
+    /**
+     * Set timestamp when snapshot transfer started.
+     *
+     * @param snapshotTransferStartedAt timestamp
+     */
+    void setSnapshotTransferStartedAt(long snapshotTransferStartedAt) {
+        this.snapshotTransferStartedAt = snapshotTransferStartedAt;
+    }
+
+    /**
+     * Get last included index of snapshot in member.
+     *
+     * @return last included index, 0 if unknown
+     */
+    int getSnapshotIndex() {
+        return snapshotIndex;
+    }
+
+    /**
+     * Set last included index of snapshot in member.
+     *
+     * @param snapshotIndex last included index
+     */
+    void setSnapshotIndex(int snapshotIndex) {
+        this.snapshotIndex = snapshotIndex;
+    }
+
     @Override
     public String toString() {
         return "ReplicatingState{" +
                 "nextIndex=" + nextIndex +
                 ", matchIndex=" + matchIndex +
                 ", replicating=" + replicating +
+                ", paused=" + paused +
                 ", lastReplicatedAt=" + lastReplicatedAt +
+                ", lastContactAt=" + lastContactAt +
+                ", snapshotTransferDelegateId=" + snapshotTransferDelegateId +
+                ", snapshotIndex=" + snapshotIndex +
                 '}';
     }
 
@@ -1,12 +1,17 @@
 package in.xnnyygn.xraft.core.node.config;
 
 import in.xnnyygn.xraft.core.log.Log;
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.schedule.TimingWheelScheduler;
+import in.xnnyygn.xraft.core.support.EventLoopTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public class DefaultNodeConfigLoader implements NodeConfigLoader {
@@ -32,20 +37,104 @@ public class DefaultNodeConfigLoader implements NodeConfigLoader {
         NodeConfig config = new NodeConfig();
         config.setMinElectionTimeout(getIntProperty(p, "election.timeout.min", 3000));
         config.setMaxElectionTimeout(getIntProperty(p, "election.timeout.max", 4000));
+        config.setPreVote(getBooleanProperty(p, "election.pre-vote", false));
+        config.setCheckQuorum(getBooleanProperty(p, "election.check-quorum", false));
         config.setLogReplicationDelay(getIntProperty(p, "replication.delay", 0));
         config.setLogReplicationInterval(getIntProperty(p, "replication.interval", 1000));
         config.setLogReplicationReadTimeout(getIntProperty(p, "replication.timeout.read", 900));
         config.setMaxReplicationEntries(getIntProperty(p, "replication.entries.max", Log.ALL_ENTRIES));
+        config.setReplicationBatchDelay(getIntProperty(p, "replication.batch.delay", 0));
+        config.setReplicationBatchBytes(getIntProperty(p, "replication.batch.bytes", 64 * 1024));
         config.setSnapshotDataLength(getIntProperty(p, "snapshot.data.length", 1024));
+        config.setSnapshotTransferFromFollower(getBooleanProperty(p, "snapshot.transfer.from-follower", false));
+        config.setSnapshotTransferTimeout(getIntProperty(p, "snapshot.transfer.timeout", 30000));
         config.setMaxReplicationEntriesForNewNode(getIntProperty(p, "new-node.replication.entries.max", Log.ALL_ENTRIES));
         config.setNewNodeMaxRound(getIntProperty(p, "new-node.round.max", 10));
         config.setNewNodeReadTimeout(getIntProperty(p, "new-node.timeout.read", 3000));
         config.setNewNodeAdvanceTimeout(getIntProperty(p, "new-node.timeout.advance", 3000));
         config.setPreviousGroupConfigChangeTimeout(getIntProperty(p, "group.config.change.timeout", 0));
         config.setNioWorkerThreads(getIntProperty(p, "connector.workers", 0));
+        config.setNioChannelMultiplexed(getBooleanProperty(p, "connector.multiplexed", false));
+        config.setNioWriteBufferLowWaterMark(getIntProperty(p, "connector.write-buffer.low", 32 * 1024));
+        config.setNioWriteBufferHighWaterMark(getIntProperty(p, "connector.write-buffer.high", 64 * 1024));
+        config.setNioPeerEventLoops(getPeerEventLoops(p));
+        config.setNioPriorityLane(getBooleanProperty(p, "connector.priority-lane", false));
+        config.setNioEventLoopReportInterval(getIntProperty(p, "connector.event-loop.report-interval", 0));
+        config.setNioLazyDecode(getBooleanProperty(p, "connector.lazy-decode", false));
+        config.setNioMaxFrameSize(getIntProperty(p, "connector.max-frame-size", Integer.MAX_VALUE));
+        config.setTaskExecutorIdleStrategy(getIdleStrategy(p));
+        config.setTaskExecutorBatchSize(getIntProperty(p, "task-executor.batch-size", EventLoopTaskExecutor.DEFAULT_BATCH_SIZE));
+        config.setStagedPipeline(getBooleanProperty(p, "pipeline.staged", false));
+        config.setTimingWheelScheduler(getBooleanProperty(p, "scheduler.timing-wheel", false));
+        config.setTimingWheelTickDuration(getIntProperty(p, "scheduler.timing-wheel.tick", TimingWheelScheduler.DEFAULT_TICK_DURATION));
+        config.setCompressionCodec(p.getProperty(propertyNamePrefix + "compression.codec", "none"));
+        config.setPeerCompressionCodecs(getPeerCompressionCodecs(p));
+        config.setCompressionThreshold(getIntProperty(p, "compression.threshold", 4096));
         return config;
     }
 
+    /**
+     * Get idle strategy of node thread, e.g {@code task-executor.idle-strategy=busy-spin}.
+     *
+     * @param properties properties
+     * @return idle strategy
+     */
+    private EventLoopTaskExecutor.IdleStrategy getIdleStrategy(Properties properties) {
+        String value = properties.getProperty(propertyNamePrefix + "task-executor.idle-strategy");
+        if (value != null) {
+            try {
+                return EventLoopTaskExecutor.IdleStrategy.valueOf(value.toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                logger.warn("illegal idle strategy [" + value + "], fallback to park");
+            }
+        }
+        return EventLoopTaskExecutor.IdleStrategy.PARK;
+    }
+
+    /**
+     * Get codec per peer, e.g {@code compression.codec.peer.A=deflate}.
+     *
+     * @param properties properties
+     * @return codec name by node id
+     */
+    private Map<NodeId, String> getPeerCompressionCodecs(Properties properties) {
+        return getPeerProperties(properties, "compression.codec.peer.");
+    }
+
+    /**
+     * Get index of event loop per peer, e.g {@code connector.affinity.peer.A=0}.
+     *
+     * @param properties properties
+     * @return index by node id
+     */
+    private Map<NodeId, Integer> getPeerEventLoops(Properties properties) {
+        Map<NodeId, Integer> indexes = new HashMap<>();
+        getPeerProperties(properties, "connector.affinity.peer.").forEach((nodeId, value) -> {
+            try {
+                indexes.put(nodeId, Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                logger.warn("illegal event loop index [" + value + "] for node " + nodeId + ", ignore");
+            }
+        });
+        return indexes;
+    }
+
+    private Map<NodeId, String> getPeerProperties(Properties properties, String name) {
+        String namePrefix = propertyNamePrefix + name;
+        Map<NodeId, String> values = new HashMap<>();
+        for (String propertyName : properties.stringPropertyNames()) {
+            if (propertyName.startsWith(namePrefix)) {
+                values.put(new NodeId(propertyName.substring(namePrefix.length())), properties.getProperty(propertyName));
+            }
+        }
+        return values;
+    }
+
+    private boolean getBooleanProperty(Properties properties, String name, boolean defaultValue) {
+        String value = properties.getProperty(propertyNamePrefix + name);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
     private int getIntProperty(Properties properties, String name, int defaultValue) {
         String value = properties.getProperty(propertyNamePrefix + name);
         if (value != null) {
@@ -2,6 +2,12 @@ package in.xnnyygn.xraft.core.node.config;
 
 import in.xnnyygn.xraft.core.log.Log;
 import in.xnnyygn.xraft.core.node.NodeBuilder;
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.schedule.TimingWheelScheduler;
+import in.xnnyygn.xraft.core.support.EventLoopTaskExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Node configuration.
@@ -21,6 +27,18 @@ public class NodeConfig {
      */
     private int maxElectionTimeout = 4000;
 
+    /**
+     * Ask peers if they would vote before starting election, so a node rejoining after partition
+     * does not increase term and force leader to step down.
+     */
+    private boolean preVote = false;
+
+    /**
+     * Let leader step down if it has not heard from a majority within max election timeout,
+     * so clients in minor partition fail over instead of waiting.
+     */
+    private boolean checkQuorum = false;
+
     /**
      * Delay for first log replication after becoming leader
      */
@@ -31,6 +49,7 @@ public class NodeConfig {
      * More specifically, interval for heartbeat rpc.
      * Append entries rpc may be sent less than this interval.
      * e.g after receiving append entries result from followers.
+     * Heartbeat rpc is not sent to follower which received append entries rpc within this interval.
      */
     private int logReplicationInterval = 1000;
 
@@ -45,6 +64,19 @@ public class NodeConfig {
      */
     private int maxReplicationEntries = Log.ALL_ENTRIES;
 
+    /**
+     * Max delay to coalesce appended entries when followers are replicating, in microseconds.
+     * Entries are sent immediately if no follower is replicating.
+     * Default is {@code 0}, entries are sent after appends already submitted to node thread.
+     * With timing wheel scheduler, delay is rounded up to ticks, and delay shorter than a tick is rejected.
+     */
+    private int replicationBatchDelay = 0;
+
+    /**
+     * Bytes of appended commands to send without waiting for batch delay.
+     */
+    private int replicationBatchBytes = 64 * 1024;
+
     /**
      * Max entries to send when replicate log to new node
      */
@@ -60,6 +92,102 @@ public class NodeConfig {
      */
     private int nioWorkerThreads = 0;
 
+    /**
+     * Multiplex requests and responses of both directions over one connection per peer.
+     * If enabled, requests are sent over the inbound connection from peer if exists.
+     */
+    private boolean nioChannelMultiplexed = false;
+
+    /**
+     * Low water mark of outbound buffer per channel, in bytes.
+     * Channel not writable becomes writable again after pending bytes drop below it, and replication resumes.
+     */
+    private int nioWriteBufferLowWaterMark = 32 * 1024;
+
+    /**
+     * High water mark of outbound buffer per channel, in bytes.
+     * Channel is not writable after pending bytes exceed it, and replication to the peer pauses.
+     */
+    private int nioWriteBufferHighWaterMark = 64 * 1024;
+
+    /**
+     * Index of worker event loop per peer.
+     * Channels to and from a peer are handled in one event loop, assigned in round robin if not specified.
+     */
+    private Map<NodeId, Integer> nioPeerEventLoops = new HashMap<>();
+
+    /**
+     * Send request vote rpc, pre-vote rpc and timeout now rpc over a separate connection per peer,
+     * handled in its own event loop. So elections are not delayed by large append entries or install snapshot rpc.
+     */
+    private boolean nioPriorityLane = false;
+
+    /**
+     * Interval to log utilization of event loops, in milliseconds.
+     * Default is {@code 0}, no report.
+     */
+    private int nioEventLoopReportInterval = 0;
+
+    /**
+     * Decode entries of append entries rpc in node thread only when needed, instead of in event loop.
+     * Rpc rejected on term or previous log, e.g. duplicated, never decodes its entries.
+     */
+    private boolean nioLazyDecode = false;
+
+    /**
+     * Max length of frame received, and of message after decompression, in bytes.
+     * Connection sending larger frame is closed before buffer allocated.
+     * Unbounded by default, since append entries rpc is not limited if {@link #maxReplicationEntries} is not set.
+     * Set it larger than the largest append entries rpc or install snapshot rpc, see {@link #snapshotDataLength}.
+     */
+    private int nioMaxFrameSize = Integer.MAX_VALUE;
+
+    /**
+     * How node thread waits when there is no task.
+     * {@code BUSY_SPIN} lowers latency but occupies a CPU core.
+     */
+    private EventLoopTaskExecutor.IdleStrategy taskExecutorIdleStrategy = EventLoopTaskExecutor.IdleStrategy.PARK;
+
+    /**
+     * Max tasks node thread runs in a batch.
+     */
+    private int taskExecutorBatchSize = EventLoopTaskExecutor.DEFAULT_BATCH_SIZE;
+
+    /**
+     * Leader writes entries to disk in persist stage, in parallel with replicating them,
+     * and counts itself in match index of major only for entries synced.
+     * Default is {@code false}, leader counts itself for all entries appended.
+     */
+    private boolean stagedPipeline = false;
+
+    /**
+     * Use scheduler based on hashed timing wheel, election timeout is reset without scheduling again.
+     * Default is {@code false}, scheduled thread pool.
+     */
+    private boolean timingWheelScheduler = false;
+
+    /**
+     * Tick duration of timing wheel, timeouts are fired at most one tick late, in milliseconds.
+     */
+    private int timingWheelTickDuration = TimingWheelScheduler.DEFAULT_TICK_DURATION;
+
+    /**
+     * Codec to compress append entries rpc, {@code none} to disable.
+     * Codec is used only if peer supports it.
+     */
+    private String compressionCodec = "none";
+
+    /**
+     * Codec to compress append entries rpc per peer, overrides {@link #compressionCodec}.
+     * e.g compress for followers in other regions only.
+     */
+    private Map<NodeId, String> peerCompressionCodecs = new HashMap<>();
+
+    /**
+     * Min length of append entries rpc to compress, in bytes.
+     */
+    private int compressionThreshold = 4096;
+
     /**
      * Max round for new node to catch up.
      */
@@ -84,6 +212,19 @@ public class NodeConfig {
      */
     private int previousGroupConfigChangeTimeout = 0;
 
+    /**
+     * Ask an up-to-date follower to transfer snapshot to lagging or new node instead of leader itself.
+     * Default is {@code false}, nodes without support of transfer snapshot rpc ignore it and the transfer
+     * only falls back to leader after timeout, so enable it after all nodes are upgraded.
+     */
+    private boolean snapshotTransferFromFollower = false;
+
+    /**
+     * Timeout for follower to transfer snapshot.
+     * If no result received from follower, leader sends its own snapshot.
+     */
+    private int snapshotTransferTimeout = 30000;
+
     public int getMinElectionTimeout() {
         return minElectionTimeout;
     }
@@ -100,6 +241,22 @@ public class NodeConfig {
         this.maxElectionTimeout = maxElectionTimeout;
     }
 
+    public boolean isPreVote() {
+        return preVote;
+    }
+
+    public void setPreVote(boolean preVote) {
+        this.preVote = preVote;
+    }
+
+    public boolean isCheckQuorum() {
+        return checkQuorum;
+    }
+
+    public void setCheckQuorum(boolean checkQuorum) {
+        this.checkQuorum = checkQuorum;
+    }
+
     public int getLogReplicationDelay() {
         return logReplicationDelay;
     }
@@ -132,6 +289,22 @@ public class NodeConfig {
         this.maxReplicationEntries = maxReplicationEntries;
     }
 
+    public int getReplicationBatchDelay() {
+        return replicationBatchDelay;
+    }
+
+    public void setReplicationBatchDelay(int replicationBatchDelay) {
+        this.replicationBatchDelay = replicationBatchDelay;
+    }
+
+    public int getReplicationBatchBytes() {
+        return replicationBatchBytes;
+    }
+
+    public void setReplicationBatchBytes(int replicationBatchBytes) {
+        this.replicationBatchBytes = replicationBatchBytes;
+    }
+
     public int getMaxReplicationEntriesForNewNode() {
         return maxReplicationEntriesForNewNode;
     }
@@ -156,6 +329,134 @@ public class NodeConfig {
         this.nioWorkerThreads = nioWorkerThreads;
     }
 
+    public boolean isNioChannelMultiplexed() {
+        return nioChannelMultiplexed;
+    }
+
+    public void setNioChannelMultiplexed(boolean nioChannelMultiplexed) {
+        this.nioChannelMultiplexed = nioChannelMultiplexed;
+    }
+
+    public int getNioWriteBufferLowWaterMark() {
+        return nioWriteBufferLowWaterMark;
+    }
+
+    public void setNioWriteBufferLowWaterMark(int nioWriteBufferLowWaterMark) {
+        this.nioWriteBufferLowWaterMark = nioWriteBufferLowWaterMark;
+    }
+
+    public int getNioWriteBufferHighWaterMark() {
+        return nioWriteBufferHighWaterMark;
+    }
+
+    public void setNioWriteBufferHighWaterMark(int nioWriteBufferHighWaterMark) {
+        this.nioWriteBufferHighWaterMark = nioWriteBufferHighWaterMark;
+    }
+
+    public Map<NodeId, Integer> getNioPeerEventLoops() {
+        return nioPeerEventLoops;
+    }
+
+    public void setNioPeerEventLoops(Map<NodeId, Integer> nioPeerEventLoops) {
+        this.nioPeerEventLoops = nioPeerEventLoops;
+    }
+
+    public boolean isNioPriorityLane() {
+        return nioPriorityLane;
+    }
+
+    public void setNioPriorityLane(boolean nioPriorityLane) {
+        this.nioPriorityLane = nioPriorityLane;
+    }
+
+    public int getNioEventLoopReportInterval() {
+        return nioEventLoopReportInterval;
+    }
+
+    public void setNioEventLoopReportInterval(int nioEventLoopReportInterval) {
+        this.nioEventLoopReportInterval = nioEventLoopReportInterval;
+    }
+
+    public boolean isNioLazyDecode() {
+        return nioLazyDecode;
+    }
+
+    public void setNioLazyDecode(boolean nioLazyDecode) {
+        this.nioLazyDecode = nioLazyDecode;
+    }
+
+    public int getNioMaxFrameSize() {
+        return nioMaxFrameSize;
+    }
+
+    public void setNioMaxFrameSize(int nioMaxFrameSize) {
+        this.nioMaxFrameSize = nioMaxFrameSize;
+    }
+
+    public EventLoopTaskExecutor.IdleStrategy getTaskExecutorIdleStrategy() {
+        return taskExecutorIdleStrategy;
+    }
+
+    public void setTaskExecutorIdleStrategy(EventLoopTaskExecutor.IdleStrategy taskExecutorIdleStrategy) {
+        this.taskExecutorIdleStrategy = taskExecutorIdleStrategy;
+    }
+
+    public int getTaskExecutorBatchSize() {
+        return taskExecutorBatchSize;
+    }
+
+    public void setTaskExecutorBatchSize(int taskExecutorBatchSize) {
+        this.taskExecutorBatchSize = taskExecutorBatchSize;
+    }
+
+    public boolean isStagedPipeline() {
+        return stagedPipeline;
+    }
+
+    public void setStagedPipeline(boolean stagedPipeline) {
+        this.stagedPipeline = stagedPipeline;
+    }
+
+    public boolean isTimingWheelScheduler() {
+        return timingWheelScheduler;
+    }
+
+    public void setTimingWheelScheduler(boolean timingWheelScheduler) {
+        this.timingWheelScheduler = timingWheelScheduler;
+    }
+
+    public int getTimingWheelTickDuration() {
+        return timingWheelTickDuration;
+    }
+
+    public void setTimingWheelTickDuration(int timingWheelTickDuration) {
+        this.timingWheelTickDuration = timingWheelTickDuration;
+    }
+
+    public String getCompressionCodec() {
+        return compressionCodec;
+    }
+
+    public void setCompressionCodec(String compressionCodec) {
+        this.compressionCodec = compressionCodec;
+    }
+
+    public Map<NodeId, String> getPeerCompressionCodecs() {
+        return peerCompressionCodecs;
+    }
+
+    public void setPeerCompressionCodecs(Map<NodeId, String> peerCompressionCodecs) {
+        this.peerCompressionCodecs = peerCompressionCodecs;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
     public int getNewNodeMaxRound() {
         return newNodeMaxRound;
     }
@@ -188,4 +489,20 @@ public class NodeConfig {
         this.newNodeAdvanceTimeout = newNodeAdvanceTimeout;
     }
 
+    public boolean isSnapshotTransferFromFollower() {
+        return snapshotTransferFromFollower;
+    }
+
+    public void setSnapshotTransferFromFollower(boolean snapshotTransferFromFollower) {
+        this.snapshotTransferFromFollower = snapshotTransferFromFollower;
+    }
+
+    public int getSnapshotTransferTimeout() {
+        return snapshotTransferTimeout;
+    }
+
+    public void setSnapshotTransferTimeout(int snapshotTransferTimeout) {
+        this.snapshotTransferTimeout = snapshotTransferTimeout;
+    }
+
 }
@@ -0,0 +1,39 @@
+package in.xnnyygn.xraft.core.node.task;
+
+import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.node.NodeId;
+
+/**
+ * Task to add learner.
+ * <p>
+ * Learner does not count in quorum, so it is added without catching up, and replicated like other followers.
+ * </p>
+ */
+public class AddLearnerTask extends AbstractGroupConfigChangeTask {
+
+    private final NodeEndpoint endpoint;
+
+    public AddLearnerTask(GroupConfigChangeTaskContext context, NodeEndpoint endpoint) {
+        super(context);
+        this.endpoint = endpoint.toLearner();
+    }
+
+    @Override
+    public boolean isTargetNode(NodeId nodeId) {
+        return endpoint.getId().equals(nodeId);
+    }
+
+    @Override
+    protected void appendGroupConfig() {
+        context.addLearner(endpoint);
+    }
+
+    @Override
+    public String toString() {
+        return "AddLearnerTask{" +
+                "state=" + state +
+                ", endpoint=" + endpoint +
+                '}';
+    }
+
+}
@@ -25,6 +25,36 @@ public interface GroupConfigChangeTaskContext {
      */
     void addNode(NodeEndpoint endpoint, int nextIndex, int matchIndex);
 
+    /**
+     * Add learner.
+     * <p>
+     * Process will be run in node task executor.
+     * </p>
+     * <ul>
+     * <li>append log entry</li>
+     * <li>add learner to group, replicating from next log index</li>
+     * <li>replicate</li>
+     * </ul>
+     *
+     * @param endpoint endpoint of learner
+     */
+    void addLearner(NodeEndpoint endpoint);
+
+    /**
+     * Promote learner to voter.
+     * <p>
+     * Process will be run in node task executor.
+     * </p>
+     * <ul>
+     * <li>append log entry</li>
+     * <li>promote learner, keep replicating state</li>
+     * <li>replicate</li>
+     * </ul>
+     *
+     * @param nodeId id of learner
+     */
+    void promoteLearner(NodeId nodeId);
+
     /**
      * Downgrade node.
      * <p>
@@ -46,7 +46,8 @@ public class GroupConfigChangeTaskHolder {
             return false;
         }
         logger.debug("log {} committed, current task {}", entry, task);
-        if (entry instanceof AddNodeEntry && task instanceof AddNodeTask
+        if (entry instanceof AddNodeEntry
+                && (task instanceof AddNodeTask || task instanceof AddLearnerTask || task instanceof PromoteLearnerTask)
                 && task.isTargetNode(((AddNodeEntry) entry).getNewNodeEndpoint().getId())) {
             task.onLogCommitted();
             return true;
@@ -6,6 +6,8 @@ import in.xnnyygn.xraft.core.node.config.NodeConfig;
 import in.xnnyygn.xraft.core.rpc.message.AppendEntriesResultMessage;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotResultMessage;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotRpc;
+import in.xnnyygn.xraft.core.rpc.message.TransferSnapshotResult;
+import in.xnnyygn.xraft.core.rpc.message.TransferSnapshotResultMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +35,7 @@ public class NewNodeCatchUpTask implements Callable<NewNodeCatchUpTaskResult> {
     private int round = 1;
     private int nextIndex = 0; // reset when receive append entries result
     private int matchIndex = 0;
+    private boolean snapshotTransferring = false; // follower is transferring snapshot to new node
 
     public NewNodeCatchUpTask(NewNodeCatchUpTaskContext context, NodeEndpoint endpoint, NodeConfig config) {
         this.context = context;
@@ -54,10 +57,11 @@ public class NewNodeCatchUpTask implements Callable<NewNodeCatchUpTaskResult> {
         lastAdvanceAt = lastReplicateAt;
         setState(State.REPLICATING);
         while (!done) {
-            wait(config.getNewNodeReadTimeout());
+            long readTimeout = snapshotTransferring ? config.getSnapshotTransferTimeout() : config.getNewNodeReadTimeout();
+            wait(readTimeout);
             // 1. done
             // 2. replicate -> no response within timeout
-            if (System.currentTimeMillis() - lastReplicateAt >= config.getNewNodeReadTimeout()) {
+            if (System.currentTimeMillis() - lastReplicateAt >= readTimeout) {
                 logger.debug("node {} not response within read timeout", endpoint.getId());
                 state = State.TIMEOUT;
                 break;
@@ -144,9 +148,43 @@ public class NewNodeCatchUpTask implements Callable<NewNodeCatchUpTaskResult> {
                 return;
             }
             round++;
+            if (rpc.getLastIndex() == 0 || !context.sendInstallSnapshot(endpoint, rpc.getLastIndex(), 0)) {
+                context.doReplicateLog(endpoint, nextIndex);
+            }
+        } else if (!context.sendInstallSnapshot(endpoint, rpc.getBaseIndex(), rpc.getOffset() + rpc.getDataLength())) {
+            context.doReplicateLog(endpoint, nextIndex);
+        }
+        lastReplicateAt = System.currentTimeMillis();
+        notify();
+    }
+
+    // in node thread
+    synchronized void onSnapshotTransferStarted() {
+        snapshotTransferring = true;
+    }
+
+    // in node thread
+    synchronized void onReceiveTransferSnapshotResult(TransferSnapshotResultMessage resultMessage, int nextLogIndex) {
+        TransferSnapshotResult result = resultMessage.get();
+        assert nodeId.equals(result.getTargetId());
+        if (state != State.REPLICATING) {
+            throw new IllegalStateException("receive transfer snapshot result when state is not replicating");
+        }
+        snapshotTransferring = false;
+        if (result.isSuccess()) {
+            matchIndex = result.getLastIndex();
+            nextIndex = result.getLastIndex() + 1;
+            lastAdvanceAt = System.currentTimeMillis();
+            if (nextIndex >= nextLogIndex) {
+                setStateAndNotify(State.REPLICATION_CATCH_UP);
+                return;
+            }
+            round++;
+            context.doReplicateLog(endpoint, nextIndex);
+        } else if (!context.sendInstallSnapshot(endpoint, 0, 0)) {
+
+            // follower failed, send snapshot of leader
             context.doReplicateLog(endpoint, nextIndex);
-        } else {
-            context.sendInstallSnapshot(endpoint, rpc.getOffset() + rpc.getDataLength());
         }
         lastReplicateAt = System.currentTimeMillis();
         notify();
@@ -169,6 +207,7 @@ public class NewNodeCatchUpTask implements Callable<NewNodeCatchUpTaskResult> {
                 ", nextIndex=" + nextIndex +
                 ", matchIndex=" + matchIndex +
                 ", round=" + round +
+                ", snapshotTransferring=" + snapshotTransferring +
                 '}';
     }
 
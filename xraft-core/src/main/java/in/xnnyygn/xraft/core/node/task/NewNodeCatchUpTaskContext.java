@@ -25,7 +25,15 @@ public interface NewNodeCatchUpTaskContext {
      */
     void doReplicateLog(NodeEndpoint endpoint, int nextIndex);
 
-    void sendInstallSnapshot(NodeEndpoint endpoint, int offset);
+    /**
+     * Send install snapshot rpc to endpoint.
+     *
+     * @param endpoint  endpoint
+     * @param baseIndex last included index of base snapshot, {@code 0} for full snapshot
+     * @param offset    data offset
+     * @return true if sent, false if no snapshot based on {@code baseIndex}
+     */
+    boolean sendInstallSnapshot(NodeEndpoint endpoint, int baseIndex, int offset);
 
     /**
      * Done and remove current task.
@@ -3,6 +3,7 @@ package in.xnnyygn.xraft.core.node.task;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.message.AppendEntriesResultMessage;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotResultMessage;
+import in.xnnyygn.xraft.core.rpc.message.TransferSnapshotResultMessage;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.concurrent.ConcurrentHashMap;
@@ -51,6 +52,37 @@ public class NewNodeCatchUpTaskGroup {
         return true;
     }
 
+    /**
+     * Notify task that a follower starts to transfer snapshot to new node.
+     *
+     * @param nodeId id of new node
+     * @return true if notified, false if no task for node
+     */
+    public boolean onSnapshotTransferStarted(NodeId nodeId) {
+        NewNodeCatchUpTask task = taskMap.get(nodeId);
+        if (task == null) {
+            return false;
+        }
+        task.onSnapshotTransferStarted();
+        return true;
+    }
+
+    /**
+     * Invoke <code>onReceiveTransferSnapshotResult</code> on task.
+     *
+     * @param resultMessage result message
+     * @param nextLogIndex  next index of log
+     * @return true if invoked, false if no task for target node
+     */
+    public boolean onReceiveTransferSnapshotResult(TransferSnapshotResultMessage resultMessage, int nextLogIndex) {
+        NewNodeCatchUpTask task = taskMap.get(resultMessage.get().getTargetId());
+        if (task == null) {
+            return false;
+        }
+        task.onReceiveTransferSnapshotResult(resultMessage, nextLogIndex);
+        return true;
+    }
+
     /**
      * Remove task.
      *
@@ -0,0 +1,38 @@
+package in.xnnyygn.xraft.core.node.task;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+/**
+ * Task to promote learner to voter.
+ * <p>
+ * Learner has been replicated, so it keeps its replicating state and does not catch up again.
+ * </p>
+ */
+public class PromoteLearnerTask extends AbstractGroupConfigChangeTask {
+
+    private final NodeId nodeId;
+
+    public PromoteLearnerTask(GroupConfigChangeTaskContext context, NodeId nodeId) {
+        super(context);
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public boolean isTargetNode(NodeId nodeId) {
+        return this.nodeId.equals(nodeId);
+    }
+
+    @Override
+    protected void appendGroupConfig() {
+        context.promoteLearner(nodeId);
+    }
+
+    @Override
+    public String toString() {
+        return "PromoteLearnerTask{" +
+                "state=" + state +
+                ", nodeId=" + nodeId +
+                '}';
+    }
+
+}
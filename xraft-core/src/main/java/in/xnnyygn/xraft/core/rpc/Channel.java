@@ -23,6 +23,27 @@ public interface Channel {
      */
     void writeRequestVoteResult(@Nonnull RequestVoteResult result);
 
+    /**
+     * Write pre-vote rpc.
+     *
+     * @param rpc rpc
+     */
+    void writePreVoteRpc(@Nonnull PreVoteRpc rpc);
+
+    /**
+     * Write pre-vote result.
+     *
+     * @param result result
+     */
+    void writePreVoteResult(@Nonnull PreVoteResult result);
+
+    /**
+     * Write timeout now rpc.
+     *
+     * @param rpc rpc
+     */
+    void writeTimeoutNowRpc(@Nonnull TimeoutNowRpc rpc);
+
     /**
      * Write append entries rpc.
      *
@@ -51,6 +72,20 @@ public interface Channel {
      */
     void writeInstallSnapshotResult(@Nonnull InstallSnapshotResult result);
 
+    /**
+     * Write transfer snapshot rpc.
+     *
+     * @param rpc rpc
+     */
+    void writeTransferSnapshotRpc(@Nonnull TransferSnapshotRpc rpc);
+
+    /**
+     * Write transfer snapshot result.
+     *
+     * @param result result
+     */
+    void writeTransferSnapshotResult(@Nonnull TransferSnapshotResult result);
+
     /**
      * Close channel.
      */
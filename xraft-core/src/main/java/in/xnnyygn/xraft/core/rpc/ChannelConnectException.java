@@ -2,6 +2,10 @@ package in.xnnyygn.xraft.core.rpc;
 
 public class ChannelConnectException extends ChannelException {
 
+    public ChannelConnectException(String message) {
+        super(message);
+    }
+
     public ChannelConnectException(Throwable cause) {
         super(cause);
     }
@@ -2,6 +2,10 @@ package in.xnnyygn.xraft.core.rpc;
 
 public class ChannelException extends RuntimeException {
 
+    public ChannelException(String message) {
+        super(message);
+    }
+
     public ChannelException(Throwable cause) {
         super(cause);
     }
@@ -2,6 +2,7 @@ package in.xnnyygn.xraft.core.rpc;
 
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
 import in.xnnyygn.xraft.core.rpc.message.*;
 
 import javax.annotation.Nonnull;
@@ -42,6 +43,36 @@ public interface Connector {
      */
     void replyRequestVote(@Nonnull RequestVoteResult result, @Nonnull RequestVoteRpcMessage rpcMessage);
 
+    /**
+     * Send pre-vote rpc.
+     * <p>
+     * Do nothing if destination endpoints is empty.
+     * </p>
+     *
+     * @param rpc                  rpc
+     * @param destinationEndpoints destination endpoints, self excluded
+     */
+    void sendPreVote(@Nonnull PreVoteRpc rpc, @Nonnull Collection<NodeEndpoint> destinationEndpoints);
+
+    /**
+     * Reply pre-vote result.
+     *
+     * @param result     result
+     * @param rpcMessage rpc message
+     */
+    void replyPreVote(@Nonnull PreVoteResult result, @Nonnull PreVoteRpcMessage rpcMessage);
+
+    /**
+     * Send timeout now rpc.
+     * <p>
+     * No result, receiver starts election.
+     * </p>
+     *
+     * @param rpc                 rpc
+     * @param destinationEndpoint destination endpoint
+     */
+    void sendTimeoutNow(@Nonnull TimeoutNowRpc rpc, @Nonnull NodeEndpoint destinationEndpoint);
+
     /**
      * Send append entries rpc.
      *
@@ -74,6 +105,34 @@ public interface Connector {
      */
     void replyInstallSnapshot(@Nonnull InstallSnapshotResult result, @Nonnull InstallSnapshotRpcMessage rpcMessage);
 
+    /**
+     * Send transfer snapshot rpc.
+     *
+     * @param rpc                 rpc
+     * @param destinationEndpoint destination endpoint
+     */
+    void sendTransferSnapshot(@Nonnull TransferSnapshotRpc rpc, @Nonnull NodeEndpoint destinationEndpoint);
+
+    /**
+     * Reply transfer snapshot result.
+     *
+     * @param result     result
+     * @param rpcMessage rpc message
+     */
+    void replyTransferSnapshot(@Nonnull TransferSnapshotResult result, @Nonnull TransferSnapshotRpcMessage rpcMessage);
+
+    /**
+     * Check if channel to node is writable.
+     * <p>
+     * Channel is not writable if too many bytes are pending in outbound buffer, e.g. peer is slow.
+     * Caller should stop generating requests to the node until {@link ChannelWritableEvent} is posted.
+     * </p>
+     *
+     * @param nodeId node id
+     * @return true if writable or no channel yet, otherwise false
+     */
+    boolean isWritable(@Nonnull NodeId nodeId);
+
     /**
      * Called when node becomes leader.
      * <p>
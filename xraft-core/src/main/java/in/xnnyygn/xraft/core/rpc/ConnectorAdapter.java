@@ -22,6 +22,18 @@ public abstract class ConnectorAdapter implements Connector {
 
     }
 
+    @Override
+    public void sendPreVote(@Nonnull PreVoteRpc rpc, @Nonnull Collection<NodeEndpoint> destinationEndpoints) {
+    }
+
+    @Override
+    public void replyPreVote(@Nonnull PreVoteResult result, @Nonnull PreVoteRpcMessage rpcMessage) {
+    }
+
+    @Override
+    public void sendTimeoutNow(@Nonnull TimeoutNowRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
+    }
+
     @Override
     public void sendAppendEntries(@Nonnull AppendEntriesRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
 
@@ -42,6 +54,21 @@ public abstract class ConnectorAdapter implements Connector {
 
     }
 
+    @Override
+    public void sendTransferSnapshot(@Nonnull TransferSnapshotRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
+
+    }
+
+    @Override
+    public void replyTransferSnapshot(@Nonnull TransferSnapshotResult result, @Nonnull TransferSnapshotRpcMessage rpcMessage) {
+
+    }
+
+    @Override
+    public boolean isWritable(@Nonnull NodeId nodeId) {
+        return true;
+    }
+
     @Override
     public void resetChannels() {
     }
@@ -0,0 +1,99 @@
+package in.xnnyygn.xraft.core.rpc;
+
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
+import in.xnnyygn.xraft.core.rpc.message.*;
+
+/**
+ * Handler of messages received by connector.
+ * <p>
+ * Methods are called in threads of connector, e.g. event loops, and may be called concurrently.
+ * Implementation should hand off messages to its own thread and return quickly.
+ * </p>
+ */
+public interface InboundMessageHandler {
+
+    /**
+     * Receive request vote rpc.
+     *
+     * @param rpcMessage rpc message
+     */
+    void onReceiveRequestVoteRpc(RequestVoteRpcMessage rpcMessage);
+
+    /**
+     * Receive request vote result.
+     *
+     * @param result result
+     */
+    void onReceiveRequestVoteResult(RequestVoteResult result);
+
+    /**
+     * Receive pre-vote rpc.
+     *
+     * @param rpcMessage rpc message
+     */
+    void onReceivePreVoteRpc(PreVoteRpcMessage rpcMessage);
+
+    /**
+     * Receive pre-vote result.
+     *
+     * @param resultMessage result message
+     */
+    void onReceivePreVoteResult(PreVoteResultMessage resultMessage);
+
+    /**
+     * Receive timeout now rpc.
+     *
+     * @param rpcMessage rpc message
+     */
+    void onReceiveTimeoutNowRpc(TimeoutNowRpcMessage rpcMessage);
+
+    /**
+     * Receive append entries rpc.
+     *
+     * @param rpcMessage rpc message
+     */
+    void onReceiveAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage);
+
+    /**
+     * Receive append entries result.
+     *
+     * @param resultMessage result message
+     */
+    void onReceiveAppendEntriesResult(AppendEntriesResultMessage resultMessage);
+
+    /**
+     * Receive install snapshot rpc.
+     *
+     * @param rpcMessage rpc message
+     */
+    void onReceiveInstallSnapshotRpc(InstallSnapshotRpcMessage rpcMessage);
+
+    /**
+     * Receive install snapshot result.
+     *
+     * @param resultMessage result message
+     */
+    void onReceiveInstallSnapshotResult(InstallSnapshotResultMessage resultMessage);
+
+    /**
+     * Receive transfer snapshot rpc.
+     *
+     * @param rpcMessage rpc message
+     */
+    void onReceiveTransferSnapshotRpc(TransferSnapshotRpcMessage rpcMessage);
+
+    /**
+     * Receive transfer snapshot result.
+     *
+     * @param resultMessage result message
+     */
+    void onReceiveTransferSnapshotResult(TransferSnapshotResultMessage resultMessage);
+
+    /**
+     * Channel to node becomes writable again.
+     *
+     * @param event event
+     */
+    void onChannelWritable(ChannelWritableEvent event);
+
+}
@@ -5,14 +5,12 @@ import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.message.*;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
 
 public class MockConnector extends ConnectorAdapter {
 
     private LinkedList<Message> messages = new LinkedList<>();
+    private Set<NodeId> unwritableNodeIds = new HashSet<>();
 
     @Override
     public void sendRequestVote(@Nonnull RequestVoteRpc rpc, @Nonnull Collection<NodeEndpoint> destinationEndpoints) {
@@ -29,6 +27,29 @@ public class MockConnector extends ConnectorAdapter {
         messages.add(m);
     }
 
+    @Override
+    public void sendPreVote(@Nonnull PreVoteRpc rpc, @Nonnull Collection<NodeEndpoint> destinationEndpoints) {
+        Message m = new Message();
+        m.rpc = rpc;
+        messages.add(m);
+    }
+
+    @Override
+    public void replyPreVote(@Nonnull PreVoteResult result, @Nonnull PreVoteRpcMessage rpcMessage) {
+        Message m = new Message();
+        m.result = result;
+        m.destinationNodeId = rpcMessage.getSourceNodeId();
+        messages.add(m);
+    }
+
+    @Override
+    public void sendTimeoutNow(@Nonnull TimeoutNowRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
+        Message m = new Message();
+        m.rpc = rpc;
+        m.destinationNodeId = destinationEndpoint.getId();
+        messages.add(m);
+    }
+
     @Override
     public void sendAppendEntries(@Nonnull AppendEntriesRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
         Message m = new Message();
@@ -61,6 +82,35 @@ public class MockConnector extends ConnectorAdapter {
         messages.add(m);
     }
 
+    @Override
+    public void sendTransferSnapshot(@Nonnull TransferSnapshotRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
+        Message m = new Message();
+        m.rpc = rpc;
+        m.destinationNodeId = destinationEndpoint.getId();
+        messages.add(m);
+    }
+
+    @Override
+    public void replyTransferSnapshot(@Nonnull TransferSnapshotResult result, @Nonnull TransferSnapshotRpcMessage rpcMessage) {
+        Message m = new Message();
+        m.result = result;
+        m.destinationNodeId = rpcMessage.getSourceNodeId();
+        messages.add(m);
+    }
+
+    @Override
+    public boolean isWritable(@Nonnull NodeId nodeId) {
+        return !unwritableNodeIds.contains(nodeId);
+    }
+
+    public void setWritable(NodeId nodeId, boolean writable) {
+        if (writable) {
+            unwritableNodeIds.remove(nodeId);
+        } else {
+            unwritableNodeIds.add(nodeId);
+        }
+    }
+
     public Message getLastMessage() {
         return messages.isEmpty() ? null : messages.getLast();
     }
@@ -0,0 +1,27 @@
+package in.xnnyygn.xraft.core.rpc.event;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+/**
+ * Event when channel to node becomes writable again, after outbound buffer drained below low water mark.
+ */
+public class ChannelWritableEvent {
+
+    private final NodeId nodeId;
+
+    public ChannelWritableEvent(NodeId nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public NodeId getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public String toString() {
+        return "ChannelWritableEvent{" +
+                "nodeId=" + nodeId +
+                '}';
+    }
+
+}
@@ -4,20 +4,36 @@ import java.io.Serializable;
 
 public class AppendEntriesResult implements Serializable {
 
-    private final String rpcMessageId;
+    private final long rpcMessageId;
+    private final String legacyRpcMessageId;
     private final int term;
     private final boolean success;
 
-    public AppendEntriesResult(String rpcMessageId, int term, boolean success) {
+    public AppendEntriesResult(long rpcMessageId, int term, boolean success) {
+        this(rpcMessageId, null, term, success);
+    }
+
+    public AppendEntriesResult(long rpcMessageId, String legacyRpcMessageId, int term, boolean success) {
         this.rpcMessageId = rpcMessageId;
+        this.legacyRpcMessageId = legacyRpcMessageId;
         this.term = term;
         this.success = success;
     }
 
-    public String getRpcMessageId() {
+    public long getRpcMessageId() {
         return rpcMessageId;
     }
 
+    /**
+     * Get message id in string of rpc from node before sequence id.
+     *
+     * @return legacy rpc message id, {@code null} if rpc has sequence id
+     * @see AppendEntriesRpc#getLegacyMessageId()
+     */
+    public String getLegacyRpcMessageId() {
+        return legacyRpcMessageId;
+    }
+
     public int getTerm() {
         return term;
     }
@@ -29,7 +45,7 @@ public class AppendEntriesResult implements Serializable {
     @Override
     public String toString() {
         return "AppendEntriesResult{" +
-                "rpcMessageId='" + rpcMessageId + '\'' +
+                "rpcMessageId=" + rpcMessageId +
                 ", success=" + success +
                 ", term=" + term +
                 '}';
@@ -9,7 +9,8 @@ import java.util.List;
 
 public class AppendEntriesRpc implements Serializable {
 
-    private String messageId;
+    private long messageId;
+    private String legacyMessageId;
     private int term;
     private NodeId leaderId;
     private int prevLogIndex = 0;
@@ -17,14 +18,30 @@ public class AppendEntriesRpc implements Serializable {
     private List<Entry> entries = Collections.emptyList();
     private int leaderCommit;
 
-    public String getMessageId() {
+    public long getMessageId() {
         return messageId;
     }
 
-    public void setMessageId(String messageId) {
+    public void setMessageId(long messageId) {
         this.messageId = messageId;
     }
 
+    /**
+     * Get message id in string from node before sequence id.
+     * <p>
+     * Such node matches result by the message id, so it must be echoed in result as it is.
+     * </p>
+     *
+     * @return legacy message id, {@code null} if sender uses sequence id
+     */
+    public String getLegacyMessageId() {
+        return legacyMessageId;
+    }
+
+    public void setLegacyMessageId(String legacyMessageId) {
+        this.legacyMessageId = legacyMessageId;
+    }
+
     public int getTerm() {
         return term;
     }
@@ -77,11 +94,22 @@ public class AppendEntriesRpc implements Serializable {
         return this.entries.isEmpty() ? this.prevLogIndex : this.entries.get(this.entries.size() - 1).getIndex();
     }
 
+    /**
+     * Release entries if not decoded, call after processing.
+     *
+     * @see LazyEntryList
+     */
+    public void release() {
+        if (entries instanceof LazyEntryList) {
+            ((LazyEntryList) entries).release();
+        }
+    }
+
     @Override
     public String toString() {
         return "AppendEntriesRpc{" +
-                "messageId='" + messageId +
-                "', entries.size=" + entries.size() +
+                "messageId=" + messageId +
+                ", entries.size=" + LazyEntryList.sizeOf(entries) +
                 ", leaderCommit=" + leaderCommit +
                 ", leaderId=" + leaderId +
                 ", prevLogIndex=" + prevLogIndex +
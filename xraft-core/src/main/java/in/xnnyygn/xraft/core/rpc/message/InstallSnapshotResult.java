@@ -3,19 +3,35 @@ package in.xnnyygn.xraft.core.rpc.message;
 public class InstallSnapshotResult {
 
     private final int term;
+    private final int snapshotIndex;
 
     public InstallSnapshotResult(int term) {
+        this(term, 0);
+    }
+
+    public InstallSnapshotResult(int term, int snapshotIndex) {
         this.term = term;
+        this.snapshotIndex = snapshotIndex;
     }
 
     public int getTerm() {
         return term;
     }
 
+    /**
+     * Get last included index of snapshot in receiver.
+     *
+     * @return last included index, 0 if unknown
+     */
+    public int getSnapshotIndex() {
+        return snapshotIndex;
+    }
+
     @Override
     public String toString() {
         return "InstallSnapshotResult{" +
                 "term=" + term +
+                ", snapshotIndex=" + snapshotIndex +
                 '}';
     }
 
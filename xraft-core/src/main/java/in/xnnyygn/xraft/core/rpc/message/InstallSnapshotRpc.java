@@ -2,7 +2,9 @@ package in.xnnyygn.xraft.core.rpc.message;
 
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.support.ByteBuffers;
 
+import java.nio.ByteBuffer;
 import java.util.Set;
 
 public class InstallSnapshotRpc {
@@ -13,8 +15,9 @@ public class InstallSnapshotRpc {
     private int lastTerm;
     private Set<NodeEndpoint> lastConfig;
     private int offset;
-    private byte[] data;
+    private ByteBuffer data;
     private boolean done;
+    private int baseIndex;
 
     public int getTerm() {
         return term;
@@ -65,14 +68,27 @@ public class InstallSnapshotRpc {
     }
 
     public byte[] getData() {
-        return data;
+        return ByteBuffers.toByteArray(data);
+    }
+
+    /**
+     * Get data without copying.
+     *
+     * @return data buffer, may be read-only
+     */
+    public ByteBuffer getDataBuffer() {
+        return data.duplicate();
     }
 
     public int getDataLength() {
-        return this.data.length;
+        return this.data.remaining();
     }
 
     public void setData(byte[] data) {
+        this.data = ByteBuffer.wrap(data);
+    }
+
+    public void setData(ByteBuffer data) {
         this.data = data;
     }
 
@@ -84,10 +100,24 @@ public class InstallSnapshotRpc {
         this.done = done;
     }
 
+    /**
+     * Get last included index of base snapshot.
+     *
+     * @return base index, {@code 0} if full snapshot
+     */
+    public int getBaseIndex() {
+        return baseIndex;
+    }
+
+    public void setBaseIndex(int baseIndex) {
+        this.baseIndex = baseIndex;
+    }
+
     @Override
     public String toString() {
         return "InstallSnapshotRpc{" +
-                "data.size=" + (data != null ? data.length : 0) +
+                "baseIndex=" + baseIndex +
+                ", data.size=" + (data != null ? data.remaining() : 0) +
                 ", done=" + done +
                 ", lastIndex=" + lastIndex +
                 ", lastTerm=" + lastTerm +
@@ -0,0 +1,91 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.log.entry.Entry;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Entries decoded when first accessed.
+ * <p>
+ * Connector may hand off entries not decoded, so append entries rpc rejected on term or previous log
+ * never decodes them. Resources, e.g. buffer of connector, are released after decoding,
+ * or by {@link #release()} if entries are not accessed.
+ * </p>
+ */
+@NotThreadSafe
+public abstract class LazyEntryList extends AbstractList<Entry> {
+
+    private List<Entry> entries;
+    private boolean released = false;
+
+    @Override
+    public Entry get(int index) {
+        return decodedEntries().get(index);
+    }
+
+    @Override
+    public int size() {
+        return decodedEntries().size();
+    }
+
+    private List<Entry> decodedEntries() {
+        if (entries == null) {
+            if (released) {
+                throw new IllegalStateException("released before decoded");
+            }
+            try {
+                entries = decode();
+            } finally {
+                release();
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Check if entries are decoded.
+     *
+     * @return true if decoded, otherwise false
+     */
+    public boolean isDecoded() {
+        return entries != null;
+    }
+
+    /**
+     * Get size of entries for logging, without decoding.
+     *
+     * @param entries entries
+     * @return size, {@code ?} if entries are not decoded yet
+     */
+    public static String sizeOf(List<Entry> entries) {
+        if (entries instanceof LazyEntryList && !((LazyEntryList) entries).isDecoded()) {
+            return "?";
+        }
+        return String.valueOf(entries.size());
+    }
+
+    /**
+     * Release resources if not released, safe to call more than once.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            doRelease();
+        }
+    }
+
+    /**
+     * Decode entries.
+     *
+     * @return entries
+     */
+    protected abstract List<Entry> decode();
+
+    /**
+     * Release resources.
+     */
+    protected abstract void doRelease();
+
+}
@@ -9,5 +9,19 @@ public class MessageConstants {
     public static final int MSG_TYPE_APPEND_ENTRIES_RESULT = 4;
     public static final int MSG_TYPE_INSTALL_SNAPSHOT_PRC = 5;
     public static final int MSG_TYPE_INSTALL_SNAPSHOT_RESULT = 6;
+    public static final int MSG_TYPE_TRANSFER_SNAPSHOT_RPC = 7;
+    public static final int MSG_TYPE_TRANSFER_SNAPSHOT_RESULT = 8;
+    public static final int MSG_TYPE_COMPRESSION_CODECS = 9;
+    public static final int MSG_TYPE_COMPRESSED = 10;
+    public static final int MSG_TYPE_PRIORITY_LANE = 11;
+    public static final int MSG_TYPE_COMPACT_FRAMES = 12;
+    public static final int MSG_TYPE_COMPACT_HEARTBEAT_RPC = 13;
+    public static final int MSG_TYPE_COMPACT_APPEND_ENTRIES_RESULT = 14;
+    public static final int MSG_TYPE_COMPACT_REQUEST_VOTE_RPC = 15;
+    public static final int MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT = 16;
+    public static final int MSG_TYPE_PRE_VOTE_RPC = 17;
+    public static final int MSG_TYPE_PRE_VOTE_RESULT = 18;
+    public static final int MSG_TYPE_TIMEOUT_NOW_RPC = 19;
+    public static final int MSG_TYPE_SEQUENCE_IDS = 20;
 
 }
@@ -0,0 +1,36 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import java.io.Serializable;
+
+public class PreVoteResult implements Serializable {
+
+    private final int term;
+    private final boolean voteGranted;
+
+    /**
+     * Create.
+     *
+     * @param term        term of rpc if granted, otherwise current term of receiver
+     * @param voteGranted vote granted or not
+     */
+    public PreVoteResult(int term, boolean voteGranted) {
+        this.term = term;
+        this.voteGranted = voteGranted;
+    }
+
+    public int getTerm() {
+        return term;
+    }
+
+    public boolean isVoteGranted() {
+        return voteGranted;
+    }
+
+    @Override
+    public String toString() {
+        return "PreVoteResult{" + "term=" + term +
+                ", voteGranted=" + voteGranted +
+                '}';
+    }
+
+}
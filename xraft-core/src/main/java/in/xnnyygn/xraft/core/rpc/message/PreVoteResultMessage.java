@@ -0,0 +1,23 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+public class PreVoteResultMessage {
+
+    private final PreVoteResult result;
+    private final NodeId sourceNodeId;
+
+    public PreVoteResultMessage(PreVoteResult result, NodeId sourceNodeId) {
+        this.result = result;
+        this.sourceNodeId = sourceNodeId;
+    }
+
+    public PreVoteResult get() {
+        return result;
+    }
+
+    public NodeId getSourceNodeId() {
+        return sourceNodeId;
+    }
+
+}
@@ -0,0 +1,63 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+import java.io.Serializable;
+
+/**
+ * Pre-vote rpc.
+ * <p>
+ * Sent before election with the term candidate would use, receiver replies whether it would vote,
+ * without changing its own term or vote.
+ * </p>
+ */
+public class PreVoteRpc implements Serializable {
+
+    private int term;
+    private NodeId candidateId;
+    private int lastLogIndex = 0;
+    private int lastLogTerm = 0;
+
+    public int getTerm() {
+        return term;
+    }
+
+    public void setTerm(int term) {
+        this.term = term;
+    }
+
+    public NodeId getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(NodeId candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public int getLastLogIndex() {
+        return lastLogIndex;
+    }
+
+    public void setLastLogIndex(int lastLogIndex) {
+        this.lastLogIndex = lastLogIndex;
+    }
+
+    public int getLastLogTerm() {
+        return lastLogTerm;
+    }
+
+    public void setLastLogTerm(int lastLogTerm) {
+        this.lastLogTerm = lastLogTerm;
+    }
+
+    @Override
+    public String toString() {
+        return "PreVoteRpc{" +
+                "candidateId=" + candidateId +
+                ", lastLogIndex=" + lastLogIndex +
+                ", lastLogTerm=" + lastLogTerm +
+                ", term=" + term +
+                '}';
+    }
+
+}
@@ -0,0 +1,39 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+import java.io.Serializable;
+
+/**
+ * Timeout now rpc.
+ * <p>
+ * Sent by leader to transfer leadership, receiver starts election immediately without waiting for election timeout.
+ * </p>
+ */
+public class TimeoutNowRpc implements Serializable {
+
+    private final int term;
+    private final NodeId leaderId;
+
+    public TimeoutNowRpc(int term, NodeId leaderId) {
+        this.term = term;
+        this.leaderId = leaderId;
+    }
+
+    public int getTerm() {
+        return term;
+    }
+
+    public NodeId getLeaderId() {
+        return leaderId;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeoutNowRpc{" +
+                "leaderId=" + leaderId +
+                ", term=" + term +
+                '}';
+    }
+
+}
@@ -0,0 +1,12 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.Channel;
+
+public class TimeoutNowRpcMessage extends AbstractRpcMessage<TimeoutNowRpc> {
+
+    public TimeoutNowRpcMessage(TimeoutNowRpc rpc, NodeId sourceNodeId, Channel channel) {
+        super(rpc, sourceNodeId, channel);
+    }
+
+}
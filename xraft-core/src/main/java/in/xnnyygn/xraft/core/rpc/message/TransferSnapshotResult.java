@@ -0,0 +1,50 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+public class TransferSnapshotResult {
+
+    private final int term;
+    private final NodeId targetId;
+    private final int lastIndex;
+    private final boolean success;
+
+    public TransferSnapshotResult(int term, NodeId targetId, int lastIndex, boolean success) {
+        this.term = term;
+        this.targetId = targetId;
+        this.lastIndex = lastIndex;
+        this.success = success;
+    }
+
+    public int getTerm() {
+        return term;
+    }
+
+    public NodeId getTargetId() {
+        return targetId;
+    }
+
+    /**
+     * Get last included index of snapshot installed on target.
+     *
+     * @return last included index
+     */
+    public int getLastIndex() {
+        return lastIndex;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferSnapshotResult{" +
+                "lastIndex=" + lastIndex +
+                ", success=" + success +
+                ", targetId=" + targetId +
+                ", term=" + term +
+                '}';
+    }
+
+}
@@ -0,0 +1,23 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+public class TransferSnapshotResultMessage {
+
+    private final TransferSnapshotResult result;
+    private final NodeId sourceNodeId;
+
+    public TransferSnapshotResultMessage(TransferSnapshotResult result, NodeId sourceNodeId) {
+        this.result = result;
+        this.sourceNodeId = sourceNodeId;
+    }
+
+    public TransferSnapshotResult get() {
+        return result;
+    }
+
+    public NodeId getSourceNodeId() {
+        return sourceNodeId;
+    }
+
+}
@@ -0,0 +1,72 @@
+package in.xnnyygn.xraft.core.rpc.message;
+
+import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.node.NodeId;
+
+import java.io.Serializable;
+
+/**
+ * Rpc from leader to ask a follower to install its snapshot on target node.
+ * <p>
+ * Follower sends {@link InstallSnapshotRpc} to target on behalf of leader, and replies
+ * {@link TransferSnapshotResult} after all chunks are accepted.
+ * </p>
+ */
+public class TransferSnapshotRpc implements Serializable {
+
+    private int term;
+    private NodeId leaderId;
+    private NodeEndpoint target;
+    private int minLastIndex;
+
+    public int getTerm() {
+        return term;
+    }
+
+    public void setTerm(int term) {
+        this.term = term;
+    }
+
+    public NodeId getLeaderId() {
+        return leaderId;
+    }
+
+    public void setLeaderId(NodeId leaderId) {
+        this.leaderId = leaderId;
+    }
+
+    public NodeEndpoint getTarget() {
+        return target;
+    }
+
+    public void setTarget(NodeEndpoint target) {
+        this.target = target;
+    }
+
+    /**
+     * Get min last included index of snapshot to transfer.
+     * <p>
+     * Leader can only resume log replication after last included index of its own snapshot.
+     * </p>
+     *
+     * @return min last included index
+     */
+    public int getMinLastIndex() {
+        return minLastIndex;
+    }
+
+    public void setMinLastIndex(int minLastIndex) {
+        this.minLastIndex = minLastIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferSnapshotRpc{" +
+                "leaderId=" + leaderId +
+                ", minLastIndex=" + minLastIndex +
+                ", target=" + target +
+                ", term=" + term +
+                '}';
+    }
+
+}
@@ -1,8 +1,9 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.Channel;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
 import in.xnnyygn.xraft.core.rpc.message.*;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -10,54 +11,110 @@ import io.netty.channel.ChannelPromise;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
-
 abstract class AbstractHandler extends ChannelDuplexHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractHandler.class);
-    protected final EventBus eventBus;
+    protected final InboundMessageHandler messageHandler;
+    protected final CompressionPolicy compressionPolicy;
     NodeId remoteId;
     protected Channel channel;
+    private long lastAppendEntriesRpcMessageId = 0;
     private AppendEntriesRpc lastAppendEntriesRpc;
     private InstallSnapshotRpc lastInstallSnapshotRpc;
 
-    AbstractHandler(EventBus eventBus) {
-        this.eventBus = eventBus;
+    AbstractHandler(InboundMessageHandler messageHandler, CompressionPolicy compressionPolicy) {
+        this.messageHandler = messageHandler;
+        this.compressionPolicy = compressionPolicy;
+    }
+
+    /**
+     * Write capabilities to peer, names of supported codecs, support of compact frames and sequence ids.
+     *
+     * @param ctx context
+     */
+    void writeCapabilities(ChannelHandlerContext ctx) {
+        ctx.write(new CompressionCodecs(compressionPolicy.getCodecNames()));
+        ctx.write(CompactFrames.INSTANCE);
+        ctx.write(SequenceIds.INSTANCE);
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-        assert remoteId != null;
-        assert channel != null;
+        if (remoteId == null || channel == null) {
+            logger.warn("receive {} before node id, drop", msg);
+            release(msg);
+            return;
+        }
 
-        if (msg instanceof RequestVoteRpc) {
+        if (msg instanceof CompressionCodecs) {
+            CompressionCodec codec = compressionPolicy.negotiate(remoteId, ((CompressionCodecs) msg).getNames());
+            logger.debug("compression codec for node {}: {}", remoteId, codec != null ? codec.getName() : CompressionPolicy.CODEC_NONE);
+            ctx.pipeline().get(Encoder.class).setCompressionCodec(codec);
+        } else if (msg instanceof CompactFrames) {
+            logger.debug("node {} supports compact frames", remoteId);
+            ctx.pipeline().get(Encoder.class).setCompactFrames(true);
+        } else if (msg instanceof SequenceIds) {
+            logger.debug("node {} supports sequence ids", remoteId);
+            ctx.pipeline().get(Encoder.class).setSequenceIds(true);
+        } else if (msg instanceof RequestVoteRpc) {
             RequestVoteRpc rpc = (RequestVoteRpc) msg;
-            eventBus.post(new RequestVoteRpcMessage(rpc, remoteId, channel));
+            messageHandler.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, remoteId, channel));
         } else if (msg instanceof RequestVoteResult) {
-            eventBus.post(msg);
+            messageHandler.onReceiveRequestVoteResult((RequestVoteResult) msg);
+        } else if (msg instanceof PreVoteRpc) {
+            PreVoteRpc rpc = (PreVoteRpc) msg;
+            messageHandler.onReceivePreVoteRpc(new PreVoteRpcMessage(rpc, remoteId, channel));
+        } else if (msg instanceof PreVoteResult) {
+            messageHandler.onReceivePreVoteResult(new PreVoteResultMessage((PreVoteResult) msg, remoteId));
+        } else if (msg instanceof TimeoutNowRpc) {
+            TimeoutNowRpc rpc = (TimeoutNowRpc) msg;
+            messageHandler.onReceiveTimeoutNowRpc(new TimeoutNowRpcMessage(rpc, remoteId, channel));
         } else if (msg instanceof AppendEntriesRpc) {
             AppendEntriesRpc rpc = (AppendEntriesRpc) msg;
-            eventBus.post(new AppendEntriesRpcMessage(rpc, remoteId, channel));
+            try {
+                messageHandler.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(rpc, remoteId, channel));
+            } catch (RuntimeException e) {
+                // handler takes over entries only if accepted
+                rpc.release();
+                throw e;
+            }
         } else if (msg instanceof AppendEntriesResult) {
             AppendEntriesResult result = (AppendEntriesResult) msg;
             if (lastAppendEntriesRpc == null) {
                 logger.warn("no last append entries rpc");
             } else {
-                if (!Objects.equals(result.getRpcMessageId(), lastAppendEntriesRpc.getMessageId())) {
+                if (result.getRpcMessageId() != lastAppendEntriesRpc.getMessageId()) {
                     logger.warn("incorrect append entries rpc message id {}, expected {}", result.getRpcMessageId(), lastAppendEntriesRpc.getMessageId());
                 } else {
-                    eventBus.post(new AppendEntriesResultMessage(result, remoteId, lastAppendEntriesRpc));
+                    messageHandler.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(result, remoteId, lastAppendEntriesRpc));
                     lastAppendEntriesRpc = null;
                 }
             }
         } else if (msg instanceof InstallSnapshotRpc) {
             InstallSnapshotRpc rpc = (InstallSnapshotRpc) msg;
-            eventBus.post(new InstallSnapshotRpcMessage(rpc, remoteId, channel));
+            messageHandler.onReceiveInstallSnapshotRpc(new InstallSnapshotRpcMessage(rpc, remoteId, channel));
         } else if (msg instanceof InstallSnapshotResult) {
             InstallSnapshotResult result = (InstallSnapshotResult) msg;
             assert lastInstallSnapshotRpc != null;
-            eventBus.post(new InstallSnapshotResultMessage(result, remoteId, lastInstallSnapshotRpc));
+            messageHandler.onReceiveInstallSnapshotResult(new InstallSnapshotResultMessage(result, remoteId, lastInstallSnapshotRpc));
             lastInstallSnapshotRpc = null;
+        } else if (msg instanceof TransferSnapshotRpc) {
+            TransferSnapshotRpc rpc = (TransferSnapshotRpc) msg;
+            messageHandler.onReceiveTransferSnapshotRpc(new TransferSnapshotRpcMessage(rpc, remoteId, channel));
+        } else if (msg instanceof TransferSnapshotResult) {
+            TransferSnapshotResult result = (TransferSnapshotResult) msg;
+            messageHandler.onReceiveTransferSnapshotResult(new TransferSnapshotResultMessage(result, remoteId));
+        }
+    }
+
+    /**
+     * Release message dropped, e.g. entries of append entries rpc not decoded.
+     *
+     * @param msg message
+     */
+    private void release(Object msg) {
+        if (msg instanceof AppendEntriesRpc) {
+            ((AppendEntriesRpc) msg).release();
         }
     }
 
@@ -65,12 +122,24 @@ abstract class AbstractHandler extends ChannelDuplexHandler {
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         if (msg instanceof AppendEntriesRpc) {
             lastAppendEntriesRpc = (AppendEntriesRpc) msg;
+
+            // message id is a sequence per channel, only to match the result
+            lastAppendEntriesRpc.setMessageId(++lastAppendEntriesRpcMessageId);
         } else if (msg instanceof InstallSnapshotRpc) {
             lastInstallSnapshotRpc = (InstallSnapshotRpc) msg;
         }
         super.write(ctx, msg, promise);
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable() && remoteId != null) {
+            logger.debug("channel to node {} becomes writable", remoteId);
+            messageHandler.onChannelWritable(new ChannelWritableEvent(remoteId));
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         logger.warn(cause.getMessage(), cause);
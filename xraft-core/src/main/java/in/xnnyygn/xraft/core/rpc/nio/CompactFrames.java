@@ -0,0 +1,31 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+/**
+ * Marker sent after connected, tells peer that compact frames are supported.
+ * <p>
+ * Compact frames are fixed layout frames for frequent small messages, heartbeat, its result and request vote.
+ * Node id of sender is not included, since it is always the peer of channel, known when connected.
+ * </p>
+ *
+ * @see Encoder
+ * @see Decoder
+ */
+final class CompactFrames {
+
+    static final CompactFrames INSTANCE = new CompactFrames();
+
+    // payload length of each frame, fields may be appended later, so payload is not shorter than these
+    static final int HEARTBEAT_RPC_LENGTH = 24;
+    static final int APPEND_ENTRIES_RESULT_LENGTH = 13;
+    static final int REQUEST_VOTE_RPC_LENGTH = 12;
+    static final int REQUEST_VOTE_RESULT_LENGTH = 5;
+
+    private CompactFrames() {
+    }
+
+    @Override
+    public String toString() {
+        return "CompactFrames";
+    }
+
+}
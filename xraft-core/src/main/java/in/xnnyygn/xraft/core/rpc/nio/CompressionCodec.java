@@ -0,0 +1,55 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+
+/**
+ * Compression codec for messages between nodes.
+ * <p>
+ * Codec is identified by name when negotiating with peer, so the name must be the same on all nodes.
+ * Implementation must be thread safe, it is shared by all channels.
+ * </p>
+ *
+ * @see CompressionPolicy
+ */
+public interface CompressionCodec {
+
+    /**
+     * Get name.
+     *
+     * @return name
+     */
+    @Nonnull
+    String getName();
+
+    /**
+     * Compress.
+     *
+     * @param data data
+     * @return compressed data
+     */
+    @Nonnull
+    byte[] compress(@Nonnull byte[] data);
+
+    /**
+     * Decompress.
+     *
+     * @param data           compressed data
+     * @param originalLength length of data before compression
+     * @return data
+     * @throws IOException if data is corrupted
+     */
+    @Nonnull
+    byte[] decompress(@Nonnull byte[] data, int originalLength) throws IOException;
+
+    /**
+     * Release resources.
+     * <p>
+     * Not called by connector, codec added to {@link CompressionPolicy} is closed by its owner
+     * after connector closed.
+     * </p>
+     */
+    default void close() {
+    }
+
+}
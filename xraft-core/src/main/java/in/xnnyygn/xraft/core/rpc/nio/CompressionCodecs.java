@@ -0,0 +1,29 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import java.util.List;
+
+/**
+ * Names of codecs the node supports, sent once after connected.
+ *
+ * @see CompressionPolicy
+ */
+class CompressionCodecs {
+
+    private final List<String> names;
+
+    CompressionCodecs(List<String> names) {
+        this.names = names;
+    }
+
+    List<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionCodecs{" +
+                "names=" + names +
+                '}';
+    }
+
+}
@@ -0,0 +1,130 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.*;
+
+/**
+ * Policy to compress append entries rpc.
+ * <p>
+ * Each node tells peer names of codecs it supports when connected, codec is used only if peer supports it,
+ * so nodes with different settings, or without compression support, work together.
+ * Codec to use is selected per peer, e.g. compress for followers in other regions only.
+ * Messages smaller than threshold, or not smaller after compression, are sent as is.
+ * </p>
+ * <p>
+ * {@link DeflateCodec} is always supported.
+ * </p>
+ */
+@Immutable
+public class CompressionPolicy {
+
+    /**
+     * Codec name to disable compression.
+     */
+    public static final String CODEC_NONE = "none";
+
+    private final Map<String, CompressionCodec> codecMap = new LinkedHashMap<>();
+    private final DeflateCodec builtinCodec = new DeflateCodec();
+    private final CompressionCodec defaultCodec;
+    private final Map<NodeId, CompressionCodec> peerCodecMap = new HashMap<>();
+    private final int threshold;
+
+    /**
+     * Create policy without compression.
+     */
+    public CompressionPolicy() {
+        this(Collections.emptyList(), CODEC_NONE, Collections.emptyMap(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create.
+     *
+     * @param codecs           additional codecs
+     * @param defaultCodecName name of codec for peers not specified, {@link #CODEC_NONE} to disable
+     * @param peerCodecNames   name of codec per peer
+     * @param threshold        min length of message to compress, in bytes
+     * @throws IllegalArgumentException if codec not found
+     */
+    public CompressionPolicy(@Nonnull Collection<CompressionCodec> codecs, @Nonnull String defaultCodecName,
+                             @Nonnull Map<NodeId, String> peerCodecNames, int threshold) {
+        addCodec(builtinCodec);
+        codecs.forEach(this::addCodec);
+        this.defaultCodec = getCodec(defaultCodecName);
+        peerCodecNames.forEach((nodeId, name) -> peerCodecMap.put(nodeId, getCodec(name)));
+        this.threshold = threshold;
+    }
+
+    private void addCodec(CompressionCodec codec) {
+        codecMap.put(codec.getName(), codec);
+    }
+
+    @Nullable
+    private CompressionCodec getCodec(String name) {
+        if (CODEC_NONE.equals(name)) {
+            return null;
+        }
+        CompressionCodec codec = codecMap.get(name);
+        if (codec == null) {
+            throw new IllegalArgumentException("unknown compression codec " + name);
+        }
+        return codec;
+    }
+
+    /**
+     * Get names of supported codecs.
+     *
+     * @return names
+     */
+    @Nonnull
+    List<String> getCodecNames() {
+        return new ArrayList<>(codecMap.keySet());
+    }
+
+    /**
+     * Find codec by name.
+     *
+     * @param name name
+     * @return codec, {@code null} if not supported
+     */
+    @Nullable
+    CompressionCodec findCodec(@Nonnull String name) {
+        return codecMap.get(name);
+    }
+
+    /**
+     * Select codec for peer.
+     *
+     * @param nodeId         node id of peer
+     * @param peerCodecNames names of codecs peer supports
+     * @return codec, {@code null} if no compression
+     */
+    @Nullable
+    CompressionCodec negotiate(@Nonnull NodeId nodeId, @Nonnull Collection<String> peerCodecNames) {
+        CompressionCodec codec = peerCodecMap.containsKey(nodeId) ? peerCodecMap.get(nodeId) : defaultCodec;
+        return (codec != null && peerCodecNames.contains(codec.getName())) ? codec : null;
+    }
+
+    /**
+     * Get threshold.
+     *
+     * @return min length of message to compress, in bytes
+     */
+    int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Close codecs created by policy.
+     * <p>
+     * Additional codecs are owned by caller, and not closed here.
+     * </p>
+     */
+    void close() {
+        builtinCodec.close();
+    }
+
+}
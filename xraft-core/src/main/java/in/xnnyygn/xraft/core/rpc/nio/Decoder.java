@@ -1,20 +1,48 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
 import in.xnnyygn.xraft.core.Protos;
 import in.xnnyygn.xraft.core.log.entry.EntryFactory;
-import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.message.*;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class Decoder extends ByteToMessageDecoder {
 
     private final EntryFactory entryFactory = new EntryFactory();
+    private final CompressionPolicy compressionPolicy;
+    private final boolean lazyDecode;
+    private final int maxFrameSize;
+    private NodeId remoteId;
+
+    public Decoder() {
+        this(new CompressionPolicy(), null, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create.
+     *
+     * @param compressionPolicy compression policy, for codecs to decompress
+     * @param remoteId          node id of peer, {@code null} if not known until node id received
+     * @param lazyDecode        decode entries of append entries rpc in node thread when accessed
+     * @param maxFrameSize      max length of payload, both received and decompressed
+     */
+    Decoder(CompressionPolicy compressionPolicy, @Nullable NodeId remoteId, boolean lazyDecode, int maxFrameSize) {
+        this.compressionPolicy = compressionPolicy;
+        this.lazyDecode = lazyDecode;
+        this.maxFrameSize = maxFrameSize;
+        this.remoteId = remoteId;
+    }
 
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
@@ -24,16 +52,48 @@ public class Decoder extends ByteToMessageDecoder {
         in.markReaderIndex();
         int messageType = in.readInt();
         int payloadLength = in.readInt();
+        checkFrameSize(payloadLength);
         if (in.readableBytes() < payloadLength) {
             in.resetReaderIndex();
             return;
         }
 
+        if (decodeCompact(messageType, payloadLength, in, out)) {
+            return;
+        }
+        if (lazyDecode && messageType == MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC) {
+            out.add(decodeAppendEntriesRpcLazily(in.readSlice(payloadLength)));
+            return;
+        }
+
         byte[] payload = new byte[payloadLength];
         in.readBytes(payload);
+        if (messageType == MessageConstants.MSG_TYPE_COMPRESSED) {
+            Protos.CompressedMessage protoCompressed = Protos.CompressedMessage.parseFrom(payload);
+            CompressionCodec codec = compressionPolicy.findCodec(protoCompressed.getCodec());
+            if (codec == null) {
+                throw new IOException("unsupported compression codec " + protoCompressed.getCodec());
+            }
+            messageType = protoCompressed.getMessageType();
+            checkFrameSize(protoCompressed.getOriginalLength());
+            payload = codec.decompress(protoCompressed.getData().toByteArray(), protoCompressed.getOriginalLength());
+        }
         switch (messageType) {
             case MessageConstants.MSG_TYPE_NODE_ID:
-                out.add(new NodeId(new String(payload)));
+                remoteId = new NodeId(new String(payload));
+                out.add(remoteId);
+                break;
+            case MessageConstants.MSG_TYPE_COMPACT_FRAMES:
+                out.add(CompactFrames.INSTANCE);
+                break;
+            case MessageConstants.MSG_TYPE_SEQUENCE_IDS:
+                out.add(SequenceIds.INSTANCE);
+                break;
+            case MessageConstants.MSG_TYPE_PRIORITY_LANE:
+                out.add(PriorityLane.INSTANCE);
+                break;
+            case MessageConstants.MSG_TYPE_COMPRESSION_CODECS:
+                out.add(new CompressionCodecs(Protos.CompressionCodecs.parseFrom(payload).getNamesList()));
                 break;
             case MessageConstants.MSG_TYPE_REQUEST_VOTE_RPC:
                 Protos.RequestVoteRpc protoRVRpc = Protos.RequestVoteRpc.parseFrom(payload);
@@ -48,10 +108,31 @@ public class Decoder extends ByteToMessageDecoder {
                 Protos.RequestVoteResult protoRVResult = Protos.RequestVoteResult.parseFrom(payload);
                 out.add(new RequestVoteResult(protoRVResult.getTerm(), protoRVResult.getVoteGranted()));
                 break;
+            case MessageConstants.MSG_TYPE_PRE_VOTE_RPC:
+                Protos.PreVoteRpc protoPVRpc = Protos.PreVoteRpc.parseFrom(payload);
+                PreVoteRpc pvRpc = new PreVoteRpc();
+                pvRpc.setTerm(protoPVRpc.getTerm());
+                pvRpc.setCandidateId(new NodeId(protoPVRpc.getCandidateId()));
+                pvRpc.setLastLogIndex(protoPVRpc.getLastLogIndex());
+                pvRpc.setLastLogTerm(protoPVRpc.getLastLogTerm());
+                out.add(pvRpc);
+                break;
+            case MessageConstants.MSG_TYPE_PRE_VOTE_RESULT:
+                Protos.PreVoteResult protoPVResult = Protos.PreVoteResult.parseFrom(payload);
+                out.add(new PreVoteResult(protoPVResult.getTerm(), protoPVResult.getVoteGranted()));
+                break;
+            case MessageConstants.MSG_TYPE_TIMEOUT_NOW_RPC:
+                Protos.TimeoutNowRpc protoTNRpc = Protos.TimeoutNowRpc.parseFrom(payload);
+                out.add(new TimeoutNowRpc(protoTNRpc.getTerm(), new NodeId(protoTNRpc.getLeaderId())));
+                break;
             case MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC:
+                if (lazyDecode) {
+                    out.add(decodeAppendEntriesRpcLazily(Unpooled.wrappedBuffer(payload)));
+                    break;
+                }
                 Protos.AppendEntriesRpc protoAERpc = Protos.AppendEntriesRpc.parseFrom(payload);
                 AppendEntriesRpc aeRpc = new AppendEntriesRpc();
-                aeRpc.setMessageId(protoAERpc.getMessageId());
+                setMessageId(aeRpc, protoAERpc.getSequenceId(), protoAERpc.getMessageId());
                 aeRpc.setTerm(protoAERpc.getTerm());
                 aeRpc.setLeaderId(new NodeId(protoAERpc.getLeaderId()));
                 aeRpc.setLeaderCommit(protoAERpc.getLeaderCommit());
@@ -64,7 +145,10 @@ public class Decoder extends ByteToMessageDecoder {
                 break;
             case MessageConstants.MSG_TYPE_APPEND_ENTRIES_RESULT:
                 Protos.AppendEntriesResult protoAEResult = Protos.AppendEntriesResult.parseFrom(payload);
-                out.add(new AppendEntriesResult(protoAEResult.getRpcMessageId(), protoAEResult.getTerm(), protoAEResult.getSuccess()));
+                out.add(new AppendEntriesResult(
+                        decodeRpcMessageId(protoAEResult.getRpcSequenceId(), protoAEResult.getRpcMessageId()),
+                        protoAEResult.getTerm(), protoAEResult.getSuccess()
+                ));
                 break;
             case MessageConstants.MSG_TYPE_INSTALL_SNAPSHOT_PRC:
                 Protos.InstallSnapshotRpc protoISRpc = Protos.InstallSnapshotRpc.parseFrom(payload);
@@ -73,19 +157,221 @@ public class Decoder extends ByteToMessageDecoder {
                 isRpc.setLeaderId(new NodeId(protoISRpc.getLeaderId()));
                 isRpc.setLastIndex(protoISRpc.getLastIndex());
                 isRpc.setLastTerm(protoISRpc.getTerm());
-                isRpc.setLastConfig(protoISRpc.getLastConfigList().stream().map(e ->
-                        new NodeEndpoint(e.getId(), e.getHost(), e.getPort())
-                ).collect(Collectors.toSet()));
+                isRpc.setLastConfig(ProtoNodeEndpoints.fromProto(protoISRpc.getLastConfigList()));
                 isRpc.setOffset(protoISRpc.getOffset());
                 isRpc.setData(protoISRpc.getData().toByteArray());
                 isRpc.setDone(protoISRpc.getDone());
+                isRpc.setBaseIndex(protoISRpc.getBaseIndex());
                 out.add(isRpc);
                 break;
             case MessageConstants.MSG_TYPE_INSTALL_SNAPSHOT_RESULT:
                 Protos.InstallSnapshotResult protoISResult = Protos.InstallSnapshotResult.parseFrom(payload);
-                out.add(new InstallSnapshotResult(protoISResult.getTerm()));
+                out.add(new InstallSnapshotResult(protoISResult.getTerm(), protoISResult.getSnapshotIndex()));
+                break;
+            case MessageConstants.MSG_TYPE_TRANSFER_SNAPSHOT_RPC:
+                Protos.TransferSnapshotRpc protoTSRpc = Protos.TransferSnapshotRpc.parseFrom(payload);
+                TransferSnapshotRpc tsRpc = new TransferSnapshotRpc();
+                tsRpc.setTerm(protoTSRpc.getTerm());
+                tsRpc.setLeaderId(new NodeId(protoTSRpc.getLeaderId()));
+                tsRpc.setTarget(ProtoNodeEndpoints.fromProto(protoTSRpc.getTarget()));
+                tsRpc.setMinLastIndex(protoTSRpc.getMinLastIndex());
+                out.add(tsRpc);
                 break;
+            case MessageConstants.MSG_TYPE_TRANSFER_SNAPSHOT_RESULT:
+                Protos.TransferSnapshotResult protoTSResult = Protos.TransferSnapshotResult.parseFrom(payload);
+                out.add(new TransferSnapshotResult(protoTSResult.getTerm(), new NodeId(protoTSResult.getTargetId()),
+                        protoTSResult.getLastIndex(), protoTSResult.getSuccess()));
+                break;
+        }
+    }
+
+    /**
+     * Decode fields of append entries rpc except entries, which are decoded when accessed.
+     * <p>
+     * Payload is retained only if there are entries.
+     * </p>
+     *
+     * @param payload payload
+     * @return rpc
+     * @throws IOException if failed to decode
+     * @see EncodedEntryList
+     */
+    private AppendEntriesRpc decodeAppendEntriesRpcLazily(ByteBuf payload) throws IOException {
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        long sequenceId = 0;
+        String messageId = "";
+        boolean entriesFound = false;
+        CodedInputStream input = CodedInputStream.newInstance(payload.nioBuffer());
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case Protos.AppendEntriesRpc.SEQUENCE_ID_FIELD_NUMBER:
+                    sequenceId = input.readUInt64();
+                    break;
+                case Protos.AppendEntriesRpc.MESSAGE_ID_FIELD_NUMBER:
+                    messageId = input.readStringRequireUtf8();
+                    break;
+                case Protos.AppendEntriesRpc.TERM_FIELD_NUMBER:
+                    rpc.setTerm(input.readInt32());
+                    break;
+                case Protos.AppendEntriesRpc.LEADER_ID_FIELD_NUMBER:
+                    rpc.setLeaderId(new NodeId(input.readStringRequireUtf8()));
+                    break;
+                case Protos.AppendEntriesRpc.PREV_LOG_INDEX_FIELD_NUMBER:
+                    rpc.setPrevLogIndex(input.readInt32());
+                    break;
+                case Protos.AppendEntriesRpc.PREV_LOG_TERM_FIELD_NUMBER:
+                    rpc.setPrevLogTerm(input.readInt32());
+                    break;
+                case Protos.AppendEntriesRpc.LEADER_COMMIT_FIELD_NUMBER:
+                    rpc.setLeaderCommit(input.readInt32());
+                    break;
+                case Protos.AppendEntriesRpc.ENTRIES_FIELD_NUMBER:
+                    entriesFound = true;
+                    input.skipField(tag);
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        setMessageId(rpc, sequenceId, messageId);
+        if (entriesFound) {
+            rpc.setEntries(new EncodedEntryList(payload.retain(), entryFactory));
+        }
+        return rpc;
+    }
+
+    /**
+     * Check length of payload from peer before allocating buffer for it.
+     *
+     * @param length length
+     * @throws IOException if length is negative or exceeds max frame size
+     */
+    private void checkFrameSize(int length) throws IOException {
+        if (length < 0 || length > maxFrameSize) {
+            throw new IOException("illegal frame size " + length + ", max " + maxFrameSize);
+        }
+    }
+
+    /**
+     * Set message id of append entries rpc.
+     * <p>
+     * Sequence id is 0 only if sender is a node before sequence id, whose message id is kept to echo in result.
+     * </p>
+     *
+     * @param rpc        rpc
+     * @param sequenceId sequence id
+     * @param messageId  message id in string
+     */
+    private void setMessageId(AppendEntriesRpc rpc, long sequenceId, String messageId) {
+        if (sequenceId != 0) {
+            rpc.setMessageId(sequenceId);
+        } else {
+            rpc.setLegacyMessageId(messageId);
+        }
+    }
+
+    /**
+     * Decode rpc message id of append entries result.
+     * <p>
+     * Node before sequence id echoes sequence id in decimal sent in message id.
+     * 0 is returned if not a decimal, which does not match any rpc.
+     * </p>
+     *
+     * @param sequenceId sequence id
+     * @param messageId  message id in string
+     * @return rpc message id
+     */
+    private long decodeRpcMessageId(long sequenceId, String messageId) {
+        if (sequenceId != 0) {
+            return sequenceId;
+        }
+        try {
+            return Long.parseLong(messageId);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Decode compact frame from buffer directly, node id of sender is the node id of peer.
+     *
+     * @param messageType   message type
+     * @param payloadLength payload length
+     * @param in            input, payload available
+     * @param out           output
+     * @return true if decoded, false if not a compact frame
+     * @throws IOException if node id of peer is unknown, or payload is shorter than layout
+     * @see CompactFrames
+     */
+    private boolean decodeCompact(int messageType, int payloadLength, ByteBuf in, List<Object> out) throws IOException {
+        int layoutLength = getCompactLayoutLength(messageType);
+        if (layoutLength < 0) {
+            return false;
+        }
+        if (payloadLength < layoutLength) {
+            throw new IOException("compact frame of type " + messageType + " too short, payload length " + payloadLength);
+        }
+        int payloadStart = in.readerIndex();
+        switch (messageType) {
+            case MessageConstants.MSG_TYPE_COMPACT_HEARTBEAT_RPC:
+                AppendEntriesRpc aeRpc = new AppendEntriesRpc();
+                aeRpc.setMessageId(in.readLong());
+                aeRpc.setTerm(in.readInt());
+                aeRpc.setLeaderId(ensureRemoteId());
+                aeRpc.setPrevLogIndex(in.readInt());
+                aeRpc.setPrevLogTerm(in.readInt());
+                aeRpc.setLeaderCommit(in.readInt());
+                out.add(aeRpc);
+                break;
+            case MessageConstants.MSG_TYPE_COMPACT_APPEND_ENTRIES_RESULT:
+                out.add(new AppendEntriesResult(in.readLong(), in.readInt(), in.readBoolean()));
+                break;
+            case MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RPC:
+                RequestVoteRpc rvRpc = new RequestVoteRpc();
+                rvRpc.setTerm(in.readInt());
+                rvRpc.setCandidateId(ensureRemoteId());
+                rvRpc.setLastLogIndex(in.readInt());
+                rvRpc.setLastLogTerm(in.readInt());
+                out.add(rvRpc);
+                break;
+            case MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT:
+                out.add(new RequestVoteResult(in.readInt(), in.readBoolean()));
+                break;
+            default:
+                throw new IllegalStateException("unexpected compact frame type " + messageType);
+        }
+
+        // skip fields added later
+        in.readerIndex(payloadStart + payloadLength);
+        return true;
+    }
+
+    /**
+     * Get payload length of compact frame.
+     *
+     * @param messageType message type
+     * @return length, -1 if not a compact frame
+     */
+    private static int getCompactLayoutLength(int messageType) {
+        switch (messageType) {
+            case MessageConstants.MSG_TYPE_COMPACT_HEARTBEAT_RPC:
+                return CompactFrames.HEARTBEAT_RPC_LENGTH;
+            case MessageConstants.MSG_TYPE_COMPACT_APPEND_ENTRIES_RESULT:
+                return CompactFrames.APPEND_ENTRIES_RESULT_LENGTH;
+            case MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RPC:
+                return CompactFrames.REQUEST_VOTE_RPC_LENGTH;
+            case MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT:
+                return CompactFrames.REQUEST_VOTE_RESULT_LENGTH;
+            default:
+                return -1;
+        }
+    }
+
+    private NodeId ensureRemoteId() throws IOException {
+        if (remoteId == null) {
+            throw new IOException("compact frame before node id");
         }
+        return remoteId;
     }
 
 }
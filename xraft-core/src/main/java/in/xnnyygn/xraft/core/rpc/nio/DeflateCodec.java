@@ -0,0 +1,119 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression codec with JDK {@link Deflater}.
+ * <p>
+ * Deflater and inflater are reused per thread, in fact per event loop, to avoid allocating native memory
+ * for each message. All of them are ended when codec closed, instead of waiting for finalizer.
+ * </p>
+ */
+public class DeflateCodec implements CompressionCodec {
+
+    public static final String NAME = "deflate";
+    private static final int BUFFER_SIZE = 4096;
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters;
+    private final List<Deflater> createdDeflaters = new ArrayList<>();
+    private final List<Inflater> createdInflaters = new ArrayList<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Create with {@link Deflater#BEST_SPEED}.
+     */
+    public DeflateCodec() {
+        this(Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Create.
+     *
+     * @param level compression level, 0-9
+     */
+    public DeflateCodec(int level) {
+        this.deflaters = ThreadLocal.withInitial(() -> register(createdDeflaters, new Deflater(level)));
+        this.inflaters = ThreadLocal.withInitial(() -> register(createdInflaters, new Inflater()));
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("codec closed");
+        }
+    }
+
+    private synchronized <T> T register(List<T> created, T deflaterOrInflater) {
+        checkNotClosed();
+        created.add(deflaterOrInflater);
+        return deflaterOrInflater;
+    }
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Nonnull
+    @Override
+    public byte[] compress(@Nonnull byte[] data) {
+        checkNotClosed();
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.min(data.length, BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            output.write(buffer, 0, n);
+        }
+        return output.toByteArray();
+    }
+
+    @Nonnull
+    @Override
+    public byte[] decompress(@Nonnull byte[] data, int originalLength) throws IOException {
+        checkNotClosed();
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(data);
+        byte[] result = new byte[originalLength];
+        try {
+            int n = 0;
+            while (n < originalLength && !inflater.finished()) {
+                int m = inflater.inflate(result, n, originalLength - n);
+                if (m == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += m;
+            }
+            if (n != originalLength || !inflater.finished()) {
+                throw new IOException("unexpected length of decompressed data, expected " + originalLength);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("failed to decompress", e);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        createdDeflaters.forEach(Deflater::end);
+        createdInflaters.forEach(Inflater::end);
+        createdDeflaters.clear();
+        createdInflaters.clear();
+    }
+
+}
@@ -0,0 +1,63 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import in.xnnyygn.xraft.core.Protos;
+import in.xnnyygn.xraft.core.log.entry.Entry;
+import in.xnnyygn.xraft.core.log.entry.EntryFactory;
+import in.xnnyygn.xraft.core.rpc.message.LazyEntryList;
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entries of append entries rpc kept in payload, decoded in node thread when first accessed.
+ * <p>
+ * Only entries are decoded, other fields are skipped.
+ * </p>
+ */
+class EncodedEntryList extends LazyEntryList {
+
+    private final ByteBuf payload;
+    private final EntryFactory entryFactory;
+
+    /**
+     * Create.
+     *
+     * @param payload      payload of append entries rpc, released after decoding
+     * @param entryFactory entry factory
+     */
+    EncodedEntryList(ByteBuf payload, EntryFactory entryFactory) {
+        this.payload = payload;
+        this.entryFactory = entryFactory;
+    }
+
+    @Override
+    protected List<Entry> decode() {
+        List<Entry> entries = new ArrayList<>();
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(payload.nioBuffer());
+            ExtensionRegistryLite registry = ExtensionRegistryLite.getEmptyRegistry();
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (WireFormat.getTagFieldNumber(tag) != Protos.AppendEntriesRpc.ENTRIES_FIELD_NUMBER) {
+                    input.skipField(tag);
+                    continue;
+                }
+                Protos.AppendEntriesRpc.Entry e = input.readMessage(Protos.AppendEntriesRpc.Entry.parser(), registry);
+                entries.add(entryFactory.create(e.getKind(), e.getIndex(), e.getTerm(), e.getCommand().toByteArray()));
+            }
+        } catch (IOException e) {
+            throw new ConnectorException("failed to decode entries", e);
+        }
+        return entries;
+    }
+
+    @Override
+    protected void doRelease() {
+        payload.release();
+    }
+
+}
@@ -1,24 +1,140 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.MessageLite;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 import in.xnnyygn.xraft.core.Protos;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.message.*;
+import in.xnnyygn.xraft.core.support.ProtoNodeEndpoints;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.MessageToByteEncoder;
 
+import javax.annotation.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.stream.Collectors;
 
 class Encoder extends MessageToByteEncoder<Object> {
 
+    private final int compressionThreshold;
+    private CompressionCodec compressionCodec;
+    private boolean compactFrames = false;
+    private boolean sequenceIds = false;
+
+    /**
+     * Create.
+     *
+     * @param compressionThreshold min length of append entries rpc to compress
+     */
+    Encoder(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Set codec negotiated with peer.
+     *
+     * @param compressionCodec codec, {@code null} if no compression
+     */
+    void setCompressionCodec(@Nullable CompressionCodec compressionCodec) {
+        this.compressionCodec = compressionCodec;
+    }
+
+    /**
+     * Set if peer supports compact frames.
+     *
+     * @param compactFrames supports or not
+     * @see CompactFrames
+     */
+    void setCompactFrames(boolean compactFrames) {
+        this.compactFrames = compactFrames;
+    }
+
+    /**
+     * Set if peer supports sequence ids, message id in string is not written if supports.
+     *
+     * @param sequenceIds supports or not
+     * @see SequenceIds
+     */
+    void setSequenceIds(boolean sequenceIds) {
+        this.sequenceIds = sequenceIds;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof InstallSnapshotRpc) {
+            ctx.write(encodeInstallSnapshotRpc(ctx, (InstallSnapshotRpc) msg), promise);
+        } else {
+            super.write(ctx, msg, promise);
+        }
+    }
+
+    /**
+     * Encode install snapshot rpc without copying data.
+     * <p>
+     * Fields except data are written to a new buffer, and data field follows as a wrapped buffer.
+     * Fields of protobuf message can be in any order, so the frame is the same as the normal one to decoder.
+     * </p>
+     *
+     * @param ctx context
+     * @param rpc rpc
+     * @return composite buffer
+     * @throws IOException if IO error occurred
+     */
+    private ByteBuf encodeInstallSnapshotRpc(ChannelHandlerContext ctx, InstallSnapshotRpc rpc) throws IOException {
+        Protos.InstallSnapshotRpc.Builder builder = Protos.InstallSnapshotRpc.newBuilder()
+                .setTerm(rpc.getTerm())
+                .setLeaderId(rpc.getLeaderId().getValue())
+                .setLastIndex(rpc.getLastIndex())
+                .setLastTerm(rpc.getLastTerm())
+                .setOffset(rpc.getOffset())
+                .setDone(rpc.isDone())
+                .setBaseIndex(rpc.getBaseIndex());
+        if (rpc.getLastConfig() != null) {
+            builder.addAllLastConfig(ProtoNodeEndpoints.toProto(rpc.getLastConfig()));
+        }
+        Protos.InstallSnapshotRpc protoRpc = builder.build();
+        ByteBuffer data = rpc.getDataBuffer();
+        int dataLength = data.remaining();
+        int dataFieldHeaderLength = CodedOutputStream.computeTagSize(Protos.InstallSnapshotRpc.DATA_FIELD_NUMBER) +
+                CodedOutputStream.computeUInt32SizeNoTag(dataLength);
+        int messageLength = protoRpc.getSerializedSize() + dataFieldHeaderLength + dataLength;
+
+        ByteBuf header = ctx.alloc().buffer(8 + messageLength - dataLength);
+        header.writeInt(MessageConstants.MSG_TYPE_INSTALL_SNAPSHOT_PRC);
+        header.writeInt(messageLength);
+        CodedOutputStream output = CodedOutputStream.newInstance(new ByteBufOutputStream(header));
+        protoRpc.writeTo(output);
+        output.writeTag(Protos.InstallSnapshotRpc.DATA_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(dataLength);
+        output.flush();
+        return Unpooled.wrappedBuffer(header, Unpooled.wrappedBuffer(data));
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+        if (compactFrames && encodeCompact(msg, out)) {
+            return;
+        }
         if (msg instanceof NodeId) {
             this.writeMessage(out, MessageConstants.MSG_TYPE_NODE_ID, ((NodeId) msg).getValue().getBytes());
+        } else if (msg instanceof CompactFrames) {
+            this.writeMessage(out, MessageConstants.MSG_TYPE_COMPACT_FRAMES, new byte[0]);
+        } else if (msg instanceof SequenceIds) {
+            this.writeMessage(out, MessageConstants.MSG_TYPE_SEQUENCE_IDS, new byte[0]);
+        } else if (msg instanceof PriorityLane) {
+            this.writeMessage(out, MessageConstants.MSG_TYPE_PRIORITY_LANE, new byte[0]);
+        } else if (msg instanceof CompressionCodecs) {
+            Protos.CompressionCodecs protoCodecs = Protos.CompressionCodecs.newBuilder()
+                    .addAllNames(((CompressionCodecs) msg).getNames())
+                    .build();
+            this.writeMessage(out, MessageConstants.MSG_TYPE_COMPRESSION_CODECS, protoCodecs);
         } else if (msg instanceof RequestVoteRpc) {
             RequestVoteRpc rpc = (RequestVoteRpc) msg;
             Protos.RequestVoteRpc protoRpc = Protos.RequestVoteRpc.newBuilder()
@@ -35,10 +151,38 @@ class Encoder extends MessageToByteEncoder<Object> {
                     .setVoteGranted(result.isVoteGranted())
                     .build();
             this.writeMessage(out, MessageConstants.MSG_TYPE_REQUEST_VOTE_RESULT, protoResult);
+        } else if (msg instanceof PreVoteRpc) {
+            PreVoteRpc rpc = (PreVoteRpc) msg;
+            Protos.PreVoteRpc protoRpc = Protos.PreVoteRpc.newBuilder()
+                    .setTerm(rpc.getTerm())
+                    .setCandidateId(rpc.getCandidateId().getValue())
+                    .setLastLogIndex(rpc.getLastLogIndex())
+                    .setLastLogTerm(rpc.getLastLogTerm())
+                    .build();
+            this.writeMessage(out, MessageConstants.MSG_TYPE_PRE_VOTE_RPC, protoRpc);
+        } else if (msg instanceof PreVoteResult) {
+            PreVoteResult result = (PreVoteResult) msg;
+            Protos.PreVoteResult protoResult = Protos.PreVoteResult.newBuilder()
+                    .setTerm(result.getTerm())
+                    .setVoteGranted(result.isVoteGranted())
+                    .build();
+            this.writeMessage(out, MessageConstants.MSG_TYPE_PRE_VOTE_RESULT, protoResult);
+        } else if (msg instanceof TimeoutNowRpc) {
+            TimeoutNowRpc rpc = (TimeoutNowRpc) msg;
+            Protos.TimeoutNowRpc protoRpc = Protos.TimeoutNowRpc.newBuilder()
+                    .setTerm(rpc.getTerm())
+                    .setLeaderId(rpc.getLeaderId().getValue())
+                    .build();
+            this.writeMessage(out, MessageConstants.MSG_TYPE_TIMEOUT_NOW_RPC, protoRpc);
         } else if (msg instanceof AppendEntriesRpc) {
             AppendEntriesRpc rpc = (AppendEntriesRpc) msg;
-            Protos.AppendEntriesRpc protoRpc = Protos.AppendEntriesRpc.newBuilder()
-                    .setMessageId(rpc.getMessageId())
+            Protos.AppendEntriesRpc.Builder builder = Protos.AppendEntriesRpc.newBuilder()
+                    .setSequenceId(rpc.getMessageId());
+            if (!sequenceIds) {
+                // message id in decimal for nodes before sequence id, they echo it in result
+                builder.setMessageId(Long.toString(rpc.getMessageId()));
+            }
+            Protos.AppendEntriesRpc protoRpc = builder
                     .setTerm(rpc.getTerm())
                     .setLeaderId(rpc.getLeaderId().getValue())
                     .setLeaderCommit(rpc.getLeaderCommit())
@@ -50,44 +194,131 @@ class Encoder extends MessageToByteEncoder<Object> {
                                             .setKind(e.getKind())
                                             .setIndex(e.getIndex())
                                             .setTerm(e.getTerm())
-                                            .setCommand(ByteString.copyFrom(e.getCommandBytes()))
+                                            .setCommand(UnsafeByteOperations.unsafeWrap(e.getCommandBytes()))
                                             .build()
                             ).collect(Collectors.toList())
                     ).build();
-            this.writeMessage(out, MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC, protoRpc);
+            this.writeMaybeCompressedMessage(out, MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC, protoRpc);
         } else if (msg instanceof AppendEntriesResult) {
             AppendEntriesResult result = (AppendEntriesResult) msg;
-            Protos.AppendEntriesResult protoResult = Protos.AppendEntriesResult.newBuilder()
-                    .setRpcMessageId(result.getRpcMessageId())
+            String legacyRpcMessageId = result.getLegacyRpcMessageId();
+            Protos.AppendEntriesResult.Builder builder = Protos.AppendEntriesResult.newBuilder()
+                    .setRpcSequenceId(result.getRpcMessageId());
+            if (legacyRpcMessageId != null) {
+                builder.setRpcMessageId(legacyRpcMessageId);
+            } else if (!sequenceIds) {
+                builder.setRpcMessageId(Long.toString(result.getRpcMessageId()));
+            }
+            Protos.AppendEntriesResult protoResult = builder
                     .setTerm(result.getTerm())
                     .setSuccess(result.isSuccess())
                     .build();
             this.writeMessage(out, MessageConstants.MSG_TYPE_APPEND_ENTRIES_RESULT, protoResult);
-        } else if (msg instanceof InstallSnapshotRpc) {
-            InstallSnapshotRpc rpc = (InstallSnapshotRpc) msg;
-            Protos.InstallSnapshotRpc protoRpc = Protos.InstallSnapshotRpc.newBuilder()
-                    .setTerm(rpc.getTerm())
-                    .setLeaderId(rpc.getLeaderId().getValue())
-                    .setLastIndex(rpc.getLastIndex())
-                    .setLastTerm(rpc.getLastTerm())
-                    .addAllLastConfig(
-                            rpc.getLastConfig().stream().map(e ->
-                                    Protos.NodeEndpoint.newBuilder()
-                                            .setId(e.getId().getValue())
-                                            .setHost(e.getHost())
-                                            .setPort(e.getPort())
-                                            .build()
-                            ).collect(Collectors.toList()))
-                    .setOffset(rpc.getOffset())
-                    .setData(ByteString.copyFrom(rpc.getData()))
-                    .setDone(rpc.isDone()).build();
-            this.writeMessage(out, MessageConstants.MSG_TYPE_INSTALL_SNAPSHOT_PRC, protoRpc);
         } else if (msg instanceof InstallSnapshotResult) {
             InstallSnapshotResult result = (InstallSnapshotResult) msg;
             Protos.InstallSnapshotResult protoResult = Protos.InstallSnapshotResult.newBuilder()
-                    .setTerm(result.getTerm()).build();
+                    .setTerm(result.getTerm())
+                    .setSnapshotIndex(result.getSnapshotIndex())
+                    .build();
             this.writeMessage(out, MessageConstants.MSG_TYPE_INSTALL_SNAPSHOT_RESULT, protoResult);
+        } else if (msg instanceof TransferSnapshotRpc) {
+            TransferSnapshotRpc rpc = (TransferSnapshotRpc) msg;
+            Protos.TransferSnapshotRpc protoRpc = Protos.TransferSnapshotRpc.newBuilder()
+                    .setTerm(rpc.getTerm())
+                    .setLeaderId(rpc.getLeaderId().getValue())
+                    .setTarget(ProtoNodeEndpoints.toProto(rpc.getTarget()))
+                    .setMinLastIndex(rpc.getMinLastIndex())
+                    .build();
+            this.writeMessage(out, MessageConstants.MSG_TYPE_TRANSFER_SNAPSHOT_RPC, protoRpc);
+        } else if (msg instanceof TransferSnapshotResult) {
+            TransferSnapshotResult result = (TransferSnapshotResult) msg;
+            Protos.TransferSnapshotResult protoResult = Protos.TransferSnapshotResult.newBuilder()
+                    .setTerm(result.getTerm())
+                    .setTargetId(result.getTargetId().getValue())
+                    .setLastIndex(result.getLastIndex())
+                    .setSuccess(result.isSuccess())
+                    .build();
+            this.writeMessage(out, MessageConstants.MSG_TYPE_TRANSFER_SNAPSHOT_RESULT, protoResult);
+        }
+    }
+
+    /**
+     * Encode message in compact frame if possible.
+     * <p>
+     * Frame header is the same, payload is fixed layout without node id.
+     * Leader id of heartbeat and candidate id of request vote rpc must be self node id,
+     * which is the node id of this channel to peer.
+     * </p>
+     *
+     * @param msg message
+     * @param out output
+     * @return true if encoded, false if not a message for compact frame
+     */
+    private boolean encodeCompact(Object msg, ByteBuf out) {
+        if (msg instanceof AppendEntriesRpc) {
+            AppendEntriesRpc rpc = (AppendEntriesRpc) msg;
+            if (!rpc.getEntries().isEmpty()) {
+                return false;
+            }
+            out.writeInt(MessageConstants.MSG_TYPE_COMPACT_HEARTBEAT_RPC);
+            out.writeInt(CompactFrames.HEARTBEAT_RPC_LENGTH);
+            out.writeLong(rpc.getMessageId());
+            out.writeInt(rpc.getTerm());
+            out.writeInt(rpc.getPrevLogIndex());
+            out.writeInt(rpc.getPrevLogTerm());
+            out.writeInt(rpc.getLeaderCommit());
+        } else if (msg instanceof AppendEntriesResult) {
+            AppendEntriesResult result = (AppendEntriesResult) msg;
+            out.writeInt(MessageConstants.MSG_TYPE_COMPACT_APPEND_ENTRIES_RESULT);
+            out.writeInt(CompactFrames.APPEND_ENTRIES_RESULT_LENGTH);
+            out.writeLong(result.getRpcMessageId());
+            out.writeInt(result.getTerm());
+            out.writeBoolean(result.isSuccess());
+        } else if (msg instanceof RequestVoteRpc) {
+            RequestVoteRpc rpc = (RequestVoteRpc) msg;
+            out.writeInt(MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RPC);
+            out.writeInt(CompactFrames.REQUEST_VOTE_RPC_LENGTH);
+            out.writeInt(rpc.getTerm());
+            out.writeInt(rpc.getLastLogIndex());
+            out.writeInt(rpc.getLastLogTerm());
+        } else if (msg instanceof RequestVoteResult) {
+            RequestVoteResult result = (RequestVoteResult) msg;
+            out.writeInt(MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT);
+            out.writeInt(CompactFrames.REQUEST_VOTE_RESULT_LENGTH);
+            out.writeInt(result.getTerm());
+            out.writeBoolean(result.isVoteGranted());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Write message, compressed if codec negotiated and message is not smaller than threshold.
+     * <p>
+     * If compressed data is not smaller, message is sent as is.
+     * </p>
+     *
+     * @param out         output
+     * @param messageType message type
+     * @param message     message
+     */
+    private void writeMaybeCompressedMessage(ByteBuf out, int messageType, MessageLite message) {
+        byte[] bytes = message.toByteArray();
+        if (compressionCodec != null && bytes.length >= compressionThreshold) {
+            byte[] compressed = compressionCodec.compress(bytes);
+            if (compressed.length < bytes.length) {
+                Protos.CompressedMessage protoMessage = Protos.CompressedMessage.newBuilder()
+                        .setMessageType(messageType)
+                        .setCodec(compressionCodec.getName())
+                        .setOriginalLength(bytes.length)
+                        .setData(UnsafeByteOperations.unsafeWrap(compressed))
+                        .build();
+                this.writeMessage(out, MessageConstants.MSG_TYPE_COMPRESSED, protoMessage.toByteArray());
+                return;
+            }
         }
+        this.writeMessage(out, messageType, bytes);
     }
 
     private void writeMessage(ByteBuf out, int messageType, MessageLite message) throws IOException {
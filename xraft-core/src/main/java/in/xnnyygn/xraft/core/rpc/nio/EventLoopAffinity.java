@@ -0,0 +1,86 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event loop per peer.
+ * <p>
+ * All channels to and from a peer are handled in the same event loop, so a peer sending large messages
+ * delays only itself. Event loop is assigned in round robin when peer is seen first time,
+ * unless specified by index.
+ * </p>
+ */
+@ThreadSafe
+class EventLoopAffinity {
+
+    private final List<EventLoop> eventLoops = new ArrayList<>();
+    private final Map<NodeId, Integer> eventLoopIndexMap;
+    private final ConcurrentMap<NodeId, EventLoop> peerEventLoopMap = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger(0);
+
+    /**
+     * Create.
+     *
+     * @param group             group
+     * @param eventLoopIndexMap index of event loop per peer
+     */
+    EventLoopAffinity(EventLoopGroup group, Map<NodeId, Integer> eventLoopIndexMap) {
+        for (EventExecutor executor : group) {
+            eventLoops.add((EventLoop) executor);
+        }
+        this.eventLoopIndexMap = new HashMap<>(eventLoopIndexMap);
+    }
+
+    /**
+     * Get event loop of peer.
+     *
+     * @param nodeId node id of peer
+     * @return event loop
+     */
+    @Nonnull
+    EventLoop get(@Nonnull NodeId nodeId) {
+        return peerEventLoopMap.computeIfAbsent(nodeId, id -> {
+            Integer index = eventLoopIndexMap.get(id);
+            int i = (index != null ? index : nextIndex.getAndIncrement()) % eventLoops.size();
+            return eventLoops.get(i < 0 ? i + eventLoops.size() : i);
+        });
+    }
+
+    /**
+     * Get event loops.
+     *
+     * @return event loops
+     */
+    @Nonnull
+    List<EventLoop> getEventLoops() {
+        return eventLoops;
+    }
+
+    /**
+     * List peers assigned to event loop.
+     *
+     * @param eventLoop event loop
+     * @return peers
+     */
+    @Nonnull
+    Set<NodeId> listPeers(EventLoop eventLoop) {
+        Set<NodeId> nodeIds = new HashSet<>();
+        peerEventLoopMap.forEach((nodeId, loop) -> {
+            if (loop == eventLoop) {
+                nodeIds.add(nodeId);
+            }
+        });
+        return nodeIds;
+    }
+
+}
@@ -0,0 +1,136 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import io.netty.channel.*;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monitor of time spent in channel handlers per event loop.
+ * <p>
+ * Reading is measured by the first handler in pipeline, so decoding and dispatching are included.
+ * Writing is measured by the last handler, so encoding is included.
+ * Nested calls in the same event loop are measured once.
+ * </p>
+ */
+@ThreadSafe
+class EventLoopMonitor {
+
+    private final Map<EventLoop, Stats> statsMap = new LinkedHashMap<>();
+
+    /**
+     * Create.
+     *
+     * @param affinities affinities by name, e.g {@code worker}
+     */
+    EventLoopMonitor(Map<String, EventLoopAffinity> affinities) {
+        affinities.forEach((name, affinity) -> {
+            List<EventLoop> eventLoops = affinity.getEventLoops();
+            for (int i = 0; i < eventLoops.size(); i++) {
+                statsMap.put(eventLoops.get(i), new Stats(name + "-" + i, affinity));
+            }
+        });
+    }
+
+    /**
+     * Create handler to measure reading, should be the first handler in pipeline.
+     *
+     * @return handler
+     */
+    ChannelHandler newReadHandler() {
+        return new ChannelInboundHandlerAdapter() {
+
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                Stats stats = statsMap.get(ctx.channel().eventLoop());
+                long startedAt = enter(stats);
+                try {
+                    ctx.fireChannelRead(msg);
+                } finally {
+                    exit(stats, startedAt);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Create handler to measure writing, should be the last handler in pipeline.
+     *
+     * @return handler
+     */
+    ChannelHandler newWriteHandler() {
+        return new ChannelOutboundHandlerAdapter() {
+
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                Stats stats = statsMap.get(ctx.channel().eventLoop());
+                long startedAt = enter(stats);
+                try {
+                    ctx.write(msg, promise);
+                } finally {
+                    exit(stats, startedAt);
+                }
+            }
+
+        };
+    }
+
+    private long enter(Stats stats) {
+        return (stats != null && stats.depth++ == 0) ? System.nanoTime() : 0;
+    }
+
+    private void exit(Stats stats, long startedAt) {
+        if (stats != null && --stats.depth == 0) {
+            stats.busyNanos.addAndGet(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * Get utilization of event loops since last call.
+     *
+     * @return utilization per event loop
+     */
+    synchronized List<EventLoopUtilization> getUtilization() {
+        long now = System.nanoTime();
+        List<EventLoopUtilization> result = new ArrayList<>(statsMap.size());
+        statsMap.forEach((eventLoop, stats) -> {
+            long busyNanos = stats.busyNanos.get();
+            result.add(new EventLoopUtilization(stats.name, stats.affinity.listPeers(eventLoop),
+                    busyNanos - stats.lastBusyNanos, now - stats.lastReportedAt, pendingTasks(eventLoop)));
+            stats.lastBusyNanos = busyNanos;
+            stats.lastReportedAt = now;
+        });
+        return result;
+    }
+
+    private int pendingTasks(EventLoop eventLoop) {
+        return (eventLoop instanceof SingleThreadEventExecutor) ? ((SingleThreadEventExecutor) eventLoop).pendingTasks() : -1;
+    }
+
+    private static class Stats {
+
+        private final String name;
+        private final EventLoopAffinity affinity;
+        private final AtomicLong busyNanos = new AtomicLong(0);
+
+        // accessed in event loop only
+        private int depth = 0;
+
+        // guarded by monitor
+        private long lastBusyNanos = 0;
+        private long lastReportedAt = System.nanoTime();
+
+        Stats(String name, EventLoopAffinity affinity) {
+            this.name = name;
+            this.affinity = affinity;
+        }
+
+    }
+
+}
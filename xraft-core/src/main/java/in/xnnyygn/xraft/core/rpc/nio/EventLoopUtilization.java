@@ -0,0 +1,90 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+import java.util.Set;
+
+/**
+ * Utilization of event loop in connector.
+ */
+public class EventLoopUtilization {
+
+    private final String name;
+    private final Set<NodeId> peers;
+    private final long busyNanos;
+    private final long elapsedNanos;
+    private final int pendingTasks;
+
+    EventLoopUtilization(String name, Set<NodeId> peers, long busyNanos, long elapsedNanos, int pendingTasks) {
+        this.name = name;
+        this.peers = peers;
+        this.busyNanos = busyNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.pendingTasks = pendingTasks;
+    }
+
+    /**
+     * Get name, e.g {@code worker-0} or {@code priority-0}.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get peers assigned to event loop.
+     *
+     * @return peers
+     */
+    public Set<NodeId> getPeers() {
+        return peers;
+    }
+
+    /**
+     * Get time spent in channel handlers, e.g decoding, dispatching and encoding messages.
+     *
+     * @return busy time, in nanoseconds
+     */
+    public long getBusyNanos() {
+        return busyNanos;
+    }
+
+    /**
+     * Get time since connector created, or since last report.
+     *
+     * @return elapsed time, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get utilization.
+     *
+     * @return busy time divided by elapsed time, 0 to 1
+     */
+    public double getUtilization() {
+        return elapsedNanos > 0 ? Math.min(1.0, (double) busyNanos / elapsedNanos) : 0;
+    }
+
+    /**
+     * Get count of tasks waiting in event loop.
+     *
+     * @return pending tasks, {@code -1} if unknown
+     */
+    public int getPendingTasks() {
+        return pendingTasks;
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopUtilization{" +
+                "name='" + name + '\'' +
+                ", peers=" + peers +
+                ", utilization=" + String.format("%.3f", getUtilization()) +
+                ", pendingTasks=" + pendingTasks +
+                '}';
+    }
+
+}
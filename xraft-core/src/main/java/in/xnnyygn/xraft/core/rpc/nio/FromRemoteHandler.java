@@ -1,8 +1,10 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,19 +12,50 @@ class FromRemoteHandler extends AbstractHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(FromRemoteHandler.class);
     private final InboundChannelGroup channelGroup;
+    private final EventLoopAffinity affinity;
+    private final InboundChannelGroup priorityChannelGroup;
+    private final EventLoopAffinity priorityAffinity;
+    private boolean priorityLane = false;
 
-    FromRemoteHandler(EventBus eventBus, InboundChannelGroup channelGroup) {
-        super(eventBus);
+    /**
+     * Create.
+     *
+     * @param messageHandler       handler of received messages
+     * @param compressionPolicy    compression policy
+     * @param channelGroup         channel group
+     * @param affinity             event loop per peer
+     * @param priorityChannelGroup channel group of priority lane
+     * @param priorityAffinity     event loop per peer of priority lane, same as {@code affinity} if priority lane disabled
+     */
+    FromRemoteHandler(InboundMessageHandler messageHandler, CompressionPolicy compressionPolicy,
+                      InboundChannelGroup channelGroup, EventLoopAffinity affinity,
+                      InboundChannelGroup priorityChannelGroup, EventLoopAffinity priorityAffinity) {
+        super(messageHandler, compressionPolicy);
         this.channelGroup = channelGroup;
+        this.affinity = affinity;
+        this.priorityChannelGroup = priorityChannelGroup;
+        this.priorityAffinity = priorityAffinity;
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof PriorityLane) {
+            priorityLane = true;
+            return;
+        }
         if (msg instanceof NodeId) {
             remoteId = (NodeId) msg;
             NioChannel nioChannel = new NioChannel(ctx.channel());
             channel = nioChannel;
-            channelGroup.add(remoteId, nioChannel);
+            if (priorityLane) {
+                priorityChannelGroup.add(remoteId, nioChannel);
+                moveTo(ctx, priorityAffinity.get(remoteId));
+            } else {
+                channelGroup.add(remoteId, nioChannel);
+                moveTo(ctx, affinity.get(remoteId));
+            }
+            writeCapabilities(ctx);
+            ctx.flush();
             return;
         }
 
@@ -30,4 +63,35 @@ class FromRemoteHandler extends AbstractHandler {
         super.channelRead(ctx, msg);
     }
 
+    /**
+     * Move channel to event loop of peer.
+     * <p>
+     * Channel is registered to an event loop when accepted, before node id is known.
+     * Deregistering happens after current reading, and reading resumes after registered to the new one.
+     * </p>
+     *
+     * @param ctx       context
+     * @param eventLoop event loop of peer
+     */
+    private void moveTo(ChannelHandlerContext ctx, EventLoop eventLoop) {
+        io.netty.channel.Channel nettyChannel = ctx.channel();
+        if (nettyChannel.eventLoop() == eventLoop) {
+            return;
+        }
+        logger.debug("move channel INBOUND-{} to event loop of peer", remoteId);
+        nettyChannel.deregister().addListener((ChannelFutureListener) f -> {
+            if (!f.isSuccess()) {
+                logger.warn("failed to deregister channel INBOUND-{}", remoteId, f.cause());
+                nettyChannel.close();
+                return;
+            }
+            eventLoop.register(nettyChannel).addListener((ChannelFutureListener) rf -> {
+                if (!rf.isSuccess()) {
+                    logger.warn("failed to register channel INBOUND-{}", remoteId, rf.cause());
+                    nettyChannel.close();
+                }
+            });
+        });
+    }
+
 }
@@ -5,31 +5,54 @@ import io.netty.channel.ChannelFutureListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @ThreadSafe
 class InboundChannelGroup {
 
     private static final Logger logger = LoggerFactory.getLogger(InboundChannelGroup.class);
-    private final List<NioChannel> channels = new CopyOnWriteArrayList<>();
-
-    public void add(NodeId remoteId, NioChannel channel) {
+    private final ConcurrentMap<NodeId, NioChannel> channelMap = new ConcurrentHashMap<>();
+
+    /**
+     * Add channel from node, replacing the previous one.
+     * <p>
+     * Channel is put before listening to its close, so a channel closed before adding is removed at once.
+     * </p>
+     *
+     * @param remoteId remote node id
+     * @param channel  channel
+     */
+    void add(NodeId remoteId, NioChannel channel) {
         logger.debug("channel INBOUND-{} connected", remoteId);
+        channelMap.put(remoteId, channel);
         channel.getDelegate().closeFuture().addListener((ChannelFutureListener) future -> {
             logger.debug("channel INBOUND-{} disconnected", remoteId);
-            remove(channel);
+            remove(remoteId, channel);
         });
     }
 
-    private void remove(NioChannel channel) {
-        channels.remove(channel);
+    private void remove(NodeId remoteId, NioChannel channel) {
+        channelMap.remove(remoteId, channel);
+    }
+
+    /**
+     * Find active inbound channel from node.
+     *
+     * @param remoteId remote node id
+     * @return channel, {@code null} if not found
+     */
+    @Nullable
+    NioChannel find(NodeId remoteId) {
+        NioChannel channel = channelMap.get(remoteId);
+        return (channel != null && channel.getDelegate().isActive()) ? channel : null;
     }
 
     void closeAll() {
         logger.debug("close all inbound channels");
-        for (NioChannel channel : channels) {
+        for (NioChannel channel : channelMap.values()) {
             channel.close();
         }
     }
@@ -4,10 +4,17 @@ import in.xnnyygn.xraft.core.rpc.Channel;
 import in.xnnyygn.xraft.core.rpc.ChannelException;
 import in.xnnyygn.xraft.core.rpc.message.*;
 
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
 import javax.annotation.Nonnull;
 
 class NioChannel implements Channel {
 
+    /**
+     * Max count of flushes consolidated before an explicit flush.
+     */
+    private static final int EXPLICIT_FLUSH_AFTER_FLUSHES = 256;
     private final io.netty.channel.Channel nettyChannel;
 
     NioChannel(io.netty.channel.Channel nettyChannel) {
@@ -24,6 +31,21 @@ class NioChannel implements Channel {
         nettyChannel.writeAndFlush(result);
     }
 
+    @Override
+    public void writePreVoteRpc(@Nonnull PreVoteRpc rpc) {
+        nettyChannel.writeAndFlush(rpc);
+    }
+
+    @Override
+    public void writePreVoteResult(@Nonnull PreVoteResult result) {
+        nettyChannel.writeAndFlush(result);
+    }
+
+    @Override
+    public void writeTimeoutNowRpc(@Nonnull TimeoutNowRpc rpc) {
+        nettyChannel.writeAndFlush(rpc);
+    }
+
     @Override
     public void writeAppendEntriesRpc(@Nonnull AppendEntriesRpc rpc) {
         nettyChannel.writeAndFlush(rpc);
@@ -44,6 +66,16 @@ class NioChannel implements Channel {
         nettyChannel.writeAndFlush(result);
     }
 
+    @Override
+    public void writeTransferSnapshotRpc(@Nonnull TransferSnapshotRpc rpc) {
+        nettyChannel.writeAndFlush(rpc);
+    }
+
+    @Override
+    public void writeTransferSnapshotResult(@Nonnull TransferSnapshotResult result) {
+        nettyChannel.writeAndFlush(result);
+    }
+
     @Override
     public void close() {
         try {
@@ -53,8 +85,30 @@ class NioChannel implements Channel {
         }
     }
 
+    /**
+     * Check if channel is writable.
+     *
+     * @return true if writable, false if bytes in outbound buffer exceed high water mark
+     */
+    boolean isWritable() {
+        return nettyChannel.isWritable();
+    }
+
     io.netty.channel.Channel getDelegate() {
         return nettyChannel;
     }
 
+    /**
+     * Create handler to consolidate flushes, should be placed before decoder and encoder in pipeline.
+     * <p>
+     * Messages are written from node thread or replies in reading, flushes of them are consolidated
+     * into one task in event loop, so a burst of messages to one channel costs less syscalls.
+     * </p>
+     *
+     * @return handler
+     */
+    static ChannelHandler newFlushConsolidationHandler() {
+        return new FlushConsolidationHandler(EXPLICIT_FLUSH_AFTER_FLUSHES, true);
+    }
+
 }
@@ -1,79 +1,191 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
 import com.google.common.base.Preconditions;
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.node.config.NodeConfig;
 import in.xnnyygn.xraft.core.rpc.Channel;
 import in.xnnyygn.xraft.core.rpc.ChannelConnectException;
 import in.xnnyygn.xraft.core.rpc.Connector;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
 import in.xnnyygn.xraft.core.rpc.message.*;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
-import java.util.Collection;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-// TODO add test
 @ThreadSafe
 public class NioConnector implements Connector {
 
     private static final Logger logger = LoggerFactory.getLogger(NioConnector.class);
-    private final NioEventLoopGroup bossNioEventLoopGroup = new NioEventLoopGroup(1);
-    private final NioEventLoopGroup workerNioEventLoopGroup;
+    private final EventLoopGroup bossEventLoopGroup;
+    private final EventLoopGroup workerEventLoopGroup;
     private final boolean workerGroupShared;
-    private final EventBus eventBus;
+    private final InboundMessageHandler messageHandler;
+    private final NodeId selfNodeId;
     private final int port;
+    private final boolean channelMultiplexed;
+    private final CompressionPolicy compressionPolicy;
+    private final WriteBufferWaterMark writeBufferWaterMark;
+    private final int eventLoopReportInterval;
+    private final boolean lazyDecode;
+    private final int maxFrameSize;
+    private final EventLoopGroup priorityEventLoopGroup;
+    private final EventLoopAffinity affinity;
+    private final EventLoopAffinity priorityAffinity;
+    private final EventLoopMonitor monitor;
     private final InboundChannelGroup inboundChannelGroup = new InboundChannelGroup();
+    private final InboundChannelGroup priorityInboundChannelGroup = new InboundChannelGroup();
     private final OutboundChannelGroup outboundChannelGroup;
-    private final ExecutorService executorService = Executors.newCachedThreadPool((r) -> {
-        Thread thread = new Thread(r);
-        thread.setUncaughtExceptionHandler((t, e) -> {
-            logException(e);
-        });
-        return thread;
-    });
+    private final OutboundChannelGroup priorityOutboundChannelGroup;
 
-    public NioConnector(NodeId selfNodeId, EventBus eventBus, int port, int logReplicationInterval) {
-        this(new NioEventLoopGroup(), false, selfNodeId, eventBus, port, logReplicationInterval);
+    public NioConnector(NodeId selfNodeId, InboundMessageHandler messageHandler, int port, int logReplicationInterval) {
+        this(Transport.newEventLoopGroup(0), false, selfNodeId, messageHandler, port, logReplicationInterval);
     }
 
-    public NioConnector(NioEventLoopGroup workerNioEventLoopGroup, NodeId selfNodeId, EventBus eventBus, int port, int logReplicationInterval) {
-        this(workerNioEventLoopGroup, true, selfNodeId, eventBus, port, logReplicationInterval);
+    public NioConnector(EventLoopGroup workerEventLoopGroup, NodeId selfNodeId, InboundMessageHandler messageHandler, int port, int logReplicationInterval) {
+        this(workerEventLoopGroup, true, selfNodeId, messageHandler, port, logReplicationInterval);
     }
 
-    public NioConnector(NioEventLoopGroup workerNioEventLoopGroup, boolean workerGroupShared,
-                        NodeId selfNodeId, EventBus eventBus,
+    /**
+     * Create.
+     * <p>
+     * Transport, native epoll or NIO, follows the type of worker event loop group.
+     * </p>
+     *
+     * @param workerEventLoopGroup   worker event loop group
+     * @param workerGroupShared      worker event loop group is shared or not
+     * @param selfNodeId             self node id
+     * @param messageHandler         handler of received messages
+     * @param port                   port
+     * @param logReplicationInterval log replication interval
+     * @see Transport
+     */
+    public NioConnector(EventLoopGroup workerEventLoopGroup, boolean workerGroupShared,
+                        NodeId selfNodeId, InboundMessageHandler messageHandler,
                         int port, int logReplicationInterval) {
-        this.workerNioEventLoopGroup = workerNioEventLoopGroup;
+        this(workerEventLoopGroup, workerGroupShared, selfNodeId, messageHandler, port, logReplicationInterval, false);
+    }
+
+    /**
+     * Create.
+     * <p>
+     * If channel is multiplexed, requests to a peer are sent over the connection from that peer if exists,
+     * so there is only one connection per peer. When both nodes connected to each other at the same time,
+     * the connection from the node with smaller id is kept.
+     * </p>
+     *
+     * @param workerEventLoopGroup   worker event loop group
+     * @param workerGroupShared      worker event loop group is shared or not
+     * @param selfNodeId             self node id
+     * @param messageHandler         handler of received messages
+     * @param port                   port
+     * @param logReplicationInterval log replication interval
+     * @param channelMultiplexed     multiplex both directions over one connection per peer or not
+     */
+    public NioConnector(EventLoopGroup workerEventLoopGroup, boolean workerGroupShared,
+                        NodeId selfNodeId, InboundMessageHandler messageHandler,
+                        int port, int logReplicationInterval, boolean channelMultiplexed) {
+        this(workerEventLoopGroup, workerGroupShared, selfNodeId, messageHandler, port,
+                newConfig(logReplicationInterval, channelMultiplexed), new CompressionPolicy());
+    }
+
+    /**
+     * Create by configuration.
+     * <p>
+     * Channels to and from a peer are handled in the event loop of the peer, see {@link EventLoopAffinity}.
+     * If priority lane enabled, request vote rpc, pre-vote rpc and timeout now rpc are sent over another connection
+     * per peer, handled in a separate event loop.
+     * Heartbeat is not, since it carries commit index and previous log, and must not overtake append entries rpc
+     * sent before.
+     * </p>
+     *
+     * @param workerEventLoopGroup worker event loop group
+     * @param workerGroupShared    worker event loop group is shared or not
+     * @param selfNodeId           self node id
+     * @param messageHandler       handler of received messages
+     * @param port                 port
+     * @param config               configuration
+     * @param compressionPolicy    policy to compress append entries rpc
+     * @see CompressionPolicy
+     * @see #isWritable(NodeId)
+     * @see #getEventLoopUtilization()
+     */
+    public NioConnector(EventLoopGroup workerEventLoopGroup, boolean workerGroupShared,
+                        NodeId selfNodeId, InboundMessageHandler messageHandler,
+                        int port, NodeConfig config, CompressionPolicy compressionPolicy) {
+        this.bossEventLoopGroup = Transport.newEventLoopGroup(1, workerEventLoopGroup);
+        this.workerEventLoopGroup = workerEventLoopGroup;
         this.workerGroupShared = workerGroupShared;
-        this.eventBus = eventBus;
+        this.messageHandler = messageHandler;
+        this.selfNodeId = selfNodeId;
         this.port = port;
-        outboundChannelGroup = new OutboundChannelGroup(workerNioEventLoopGroup, eventBus, selfNodeId, logReplicationInterval);
+        this.channelMultiplexed = config.isNioChannelMultiplexed();
+        this.compressionPolicy = compressionPolicy;
+        this.writeBufferWaterMark = new WriteBufferWaterMark(
+                config.getNioWriteBufferLowWaterMark(), config.getNioWriteBufferHighWaterMark());
+        this.eventLoopReportInterval = config.getNioEventLoopReportInterval();
+        this.lazyDecode = config.isNioLazyDecode();
+        this.maxFrameSize = config.getNioMaxFrameSize();
+
+        Map<String, EventLoopAffinity> affinities = new LinkedHashMap<>();
+        affinity = new EventLoopAffinity(workerEventLoopGroup, config.getNioPeerEventLoops());
+        affinities.put("worker", affinity);
+        if (config.isNioPriorityLane()) {
+            priorityEventLoopGroup = Transport.newEventLoopGroup(1, workerEventLoopGroup);
+            priorityAffinity = new EventLoopAffinity(priorityEventLoopGroup, Collections.emptyMap());
+            affinities.put("priority", priorityAffinity);
+        } else {
+            priorityEventLoopGroup = null;
+            priorityAffinity = affinity;
+        }
+        monitor = new EventLoopMonitor(affinities);
+        outboundChannelGroup = new OutboundChannelGroup(affinity, false, messageHandler, selfNodeId,
+                compressionPolicy, writeBufferWaterMark, monitor, lazyDecode, maxFrameSize, config.getLogReplicationInterval());
+        priorityOutboundChannelGroup = (priorityEventLoopGroup == null) ? null :
+                new OutboundChannelGroup(priorityAffinity, true, messageHandler, selfNodeId,
+                        compressionPolicy, writeBufferWaterMark, monitor, lazyDecode, maxFrameSize, config.getLogReplicationInterval());
+    }
+
+    private static NodeConfig newConfig(int logReplicationInterval, boolean channelMultiplexed) {
+        NodeConfig config = new NodeConfig();
+        config.setLogReplicationInterval(logReplicationInterval);
+        config.setNioChannelMultiplexed(channelMultiplexed);
+        return config;
     }
 
     // should not call more than once
     @Override
     public void initialize() {
-        ServerBootstrap serverBootstrap = new ServerBootstrap()
-                .group(bossNioEventLoopGroup, workerNioEventLoopGroup)
-                .channel(NioServerSocketChannel.class)
+        ServerBootstrap serverBootstrap = Transport.configureServer(
+                new ServerBootstrap().group(bossEventLoopGroup, workerEventLoopGroup), false)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark)
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
                         ChannelPipeline pipeline = ch.pipeline();
-                        pipeline.addLast(new Decoder());
-                        pipeline.addLast(new Encoder());
-                        pipeline.addLast(new FromRemoteHandler(eventBus, inboundChannelGroup));
+                        pipeline.addLast(monitor.newReadHandler());
+                        pipeline.addLast(NioChannel.newFlushConsolidationHandler());
+                        pipeline.addLast(new Decoder(compressionPolicy, null, lazyDecode, maxFrameSize));
+                        pipeline.addLast(new Encoder(compressionPolicy.getThreshold()));
+                        pipeline.addLast(new FromRemoteHandler(messageHandler, compressionPolicy, inboundChannelGroup, affinity,
+                                priorityInboundChannelGroup, priorityAffinity));
+                        pipeline.addLast(monitor.newWriteHandler());
                     }
                 });
         logger.debug("node listen on port {}", port);
@@ -82,6 +194,30 @@ public class NioConnector implements Connector {
         } catch (InterruptedException e) {
             throw new ConnectorException("failed to bind port", e);
         }
+        if (eventLoopReportInterval > 0) {
+            bossEventLoopGroup.scheduleAtFixedRate(this::reportEventLoopUtilization,
+                    eventLoopReportInterval, eventLoopReportInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reportEventLoopUtilization() {
+        for (EventLoopUtilization utilization : getEventLoopUtilization()) {
+            logger.info("event loop {}, utilization {}, pending tasks {}, peers {}", utilization.getName(),
+                    String.format("%.3f", utilization.getUtilization()), utilization.getPendingTasks(), utilization.getPeers());
+        }
+    }
+
+    /**
+     * Get utilization of event loops since last call, or since created if first call.
+     * <p>
+     * If utilization is reported periodically, time since last report is used.
+     * </p>
+     *
+     * @return utilization per event loop
+     */
+    @Nonnull
+    public List<EventLoopUtilization> getEventLoopUtilization() {
+        return monitor.getUtilization();
     }
 
     @Override
@@ -90,7 +226,14 @@ public class NioConnector implements Connector {
         Preconditions.checkNotNull(destinationEndpoints);
         for (NodeEndpoint endpoint : destinationEndpoints) {
             logger.debug("send {} to node {}", rpc, endpoint.getId());
-            executorService.execute(() -> getChannel(endpoint).writeRequestVoteRpc(rpc));
+            try {
+                Channel channel = getPriorityChannel(endpoint);
+                if (channel != null) {
+                    channel.writeRequestVoteRpc(rpc);
+                }
+            } catch (Exception e) {
+                logException(e);
+            }
         }
     }
 
@@ -114,12 +257,60 @@ public class NioConnector implements Connector {
         }
     }
 
+    @Override
+    public void sendPreVote(@Nonnull PreVoteRpc rpc, @Nonnull Collection<NodeEndpoint> destinationEndpoints) {
+        Preconditions.checkNotNull(rpc);
+        Preconditions.checkNotNull(destinationEndpoints);
+        for (NodeEndpoint endpoint : destinationEndpoints) {
+            logger.debug("send {} to node {}", rpc, endpoint.getId());
+            try {
+                Channel channel = getPriorityChannel(endpoint);
+                if (channel != null) {
+                    channel.writePreVoteRpc(rpc);
+                }
+            } catch (Exception e) {
+                logException(e);
+            }
+        }
+    }
+
+    @Override
+    public void replyPreVote(@Nonnull PreVoteResult result, @Nonnull PreVoteRpcMessage rpcMessage) {
+        Preconditions.checkNotNull(result);
+        Preconditions.checkNotNull(rpcMessage);
+        logger.debug("reply {} to node {}", result, rpcMessage.getSourceNodeId());
+        try {
+            rpcMessage.getChannel().writePreVoteResult(result);
+        } catch (Exception e) {
+            logException(e);
+        }
+    }
+
+    @Override
+    public void sendTimeoutNow(@Nonnull TimeoutNowRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
+        Preconditions.checkNotNull(rpc);
+        Preconditions.checkNotNull(destinationEndpoint);
+        logger.debug("send {} to node {}", rpc, destinationEndpoint.getId());
+        try {
+            Channel channel = getPriorityChannel(destinationEndpoint);
+            if (channel != null) {
+                channel.writeTimeoutNowRpc(rpc);
+            }
+        } catch (Exception e) {
+            logException(e);
+        }
+    }
+
     @Override
     public void sendAppendEntries(@Nonnull AppendEntriesRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
         Preconditions.checkNotNull(rpc);
         Preconditions.checkNotNull(destinationEndpoint);
         logger.debug("send {} to node {}", rpc, destinationEndpoint.getId());
-        executorService.execute(() -> getChannel(destinationEndpoint).writeAppendEntriesRpc(rpc));
+        try {
+            getChannel(destinationEndpoint).writeAppendEntriesRpc(rpc);
+        } catch (Exception e) {
+            logException(e);
+        }
     }
 
     @Override
@@ -127,6 +318,10 @@ public class NioConnector implements Connector {
         Preconditions.checkNotNull(result);
         Preconditions.checkNotNull(rpcMessage);
         logger.debug("reply {} to node {}", result, rpcMessage.getSourceNodeId());
+        String legacyMessageId = rpcMessage.get().getLegacyMessageId();
+        if (legacyMessageId != null) {
+            result = new AppendEntriesResult(result.getRpcMessageId(), legacyMessageId, result.getTerm(), result.isSuccess());
+        }
         try {
             rpcMessage.getChannel().writeAppendEntriesResult(result);
         } catch (Exception e) {
@@ -158,23 +353,165 @@ public class NioConnector implements Connector {
         }
     }
 
+    @Override
+    public void sendTransferSnapshot(@Nonnull TransferSnapshotRpc rpc, @Nonnull NodeEndpoint destinationEndpoint) {
+        Preconditions.checkNotNull(rpc);
+        Preconditions.checkNotNull(destinationEndpoint);
+        logger.debug("send {} to node {}", rpc, destinationEndpoint.getId());
+        try {
+            getChannel(destinationEndpoint).writeTransferSnapshotRpc(rpc);
+        } catch (Exception e) {
+            logException(e);
+        }
+    }
+
+    @Override
+    public void replyTransferSnapshot(@Nonnull TransferSnapshotResult result, @Nonnull TransferSnapshotRpcMessage rpcMessage) {
+        Preconditions.checkNotNull(result);
+        Preconditions.checkNotNull(rpcMessage);
+        logger.debug("reply {} to node {}", result, rpcMessage.getSourceNodeId());
+        try {
+            rpcMessage.getChannel().writeTransferSnapshotResult(result);
+        } catch (Exception e) {
+            logException(e);
+        }
+    }
+
     @Override
     public void resetChannels() {
-        inboundChannelGroup.closeAll();
+
+        // inbound channels are used to send requests too
+        if (!channelMultiplexed) {
+            inboundChannelGroup.closeAll();
+        }
+        priorityInboundChannelGroup.closeAll();
+    }
+
+    /**
+     * Check if channel to node is writable.
+     * <p>
+     * If channel is multiplexed, both inbound and outbound channel to node must be writable.
+     * </p>
+     *
+     * @param nodeId node id
+     * @return true if writable or no channel yet, otherwise false
+     */
+    @Override
+    public boolean isWritable(@Nonnull NodeId nodeId) {
+        if (channelMultiplexed) {
+            NioChannel inboundChannel = inboundChannelGroup.find(nodeId);
+            if (inboundChannel != null && !inboundChannel.isWritable()) {
+                return false;
+            }
+        }
+        OutboundChannel outboundChannel = outboundChannelGroup.find(nodeId);
+        return outboundChannel == null || outboundChannel.isWritable();
+    }
+
+    /**
+     * Get channel of priority lane.
+     * <p>
+     * Messages are dropped instead of buffered when channel is not writable, like replication paused.
+     * Request vote rpc and pre-vote rpc are sent again on next election timeout,
+     * and leadership transfer fails on its timeout if timeout now rpc is dropped.
+     * </p>
+     *
+     * @param endpoint endpoint
+     * @return channel, {@code null} if not writable
+     */
+    @Nullable
+    private Channel getPriorityChannel(NodeEndpoint endpoint) {
+        if (priorityOutboundChannelGroup == null) {
+            return getChannel(endpoint);
+        }
+        Channel channel = getChannel(endpoint, priorityInboundChannelGroup, priorityOutboundChannelGroup);
+        boolean writable = (channel instanceof OutboundChannel) ?
+                ((OutboundChannel) channel).isWritable() : ((NioChannel) channel).isWritable();
+        if (!writable) {
+            logger.debug("priority channel to node {} is not writable, drop message", endpoint.getId());
+            return null;
+        }
+        return channel;
     }
 
     private Channel getChannel(NodeEndpoint endpoint) {
-        return outboundChannelGroup.getOrConnect(endpoint.getId(), endpoint.getAddress());
+        return getChannel(endpoint, inboundChannelGroup, outboundChannelGroup);
+    }
+
+    private Channel getChannel(NodeEndpoint endpoint, InboundChannelGroup inboundChannelGroup,
+                               OutboundChannelGroup outboundChannelGroup) {
+        NodeId nodeId = endpoint.getId();
+        if (channelMultiplexed) {
+            NioChannel inboundChannel = inboundChannelGroup.find(nodeId);
+            if (inboundChannel != null) {
+                OutboundChannel outboundChannel = outboundChannelGroup.find(nodeId);
+                if (outboundChannel == null || !outboundChannel.isOpen()) {
+                    return inboundChannel;
+                }
+
+                // connected to each other, keep the connection from the node with smaller id
+                if (selfNodeId.getValue().compareTo(nodeId.getValue()) > 0) {
+                    outboundChannel.disconnect();
+                    return inboundChannel;
+                }
+            }
+        }
+        return outboundChannelGroup.getOrCreate(nodeId, endpoint.getAddress());
     }
 
     @Override
     public void close() {
         logger.debug("close connector");
         inboundChannelGroup.closeAll();
+        priorityInboundChannelGroup.closeAll();
         outboundChannelGroup.closeAll();
-        bossNioEventLoopGroup.shutdownGracefully();
+        List<Future<?>> futures = new ArrayList<>();
+        if (priorityOutboundChannelGroup != null) {
+            priorityOutboundChannelGroup.closeAll();
+            futures.add(priorityEventLoopGroup.shutdownGracefully());
+        }
+        bossEventLoopGroup.shutdownGracefully();
         if (!workerGroupShared) {
-            workerNioEventLoopGroup.shutdownGracefully();
+            futures.add(workerEventLoopGroup.shutdownGracefully());
+        } else {
+            // channels are closed by tasks in event loops, tasks submitted later run after them
+            for (EventExecutor executor : workerEventLoopGroup) {
+                futures.add(submitOrTerminated(executor));
+            }
+        }
+        closeCompressionPolicyAfter(futures);
+    }
+
+    private Future<?> submitOrTerminated(EventExecutor executor) {
+        try {
+            return executor.submit(() -> {
+            });
+        } catch (RejectedExecutionException e) {
+            return executor.terminationFuture();
+        }
+    }
+
+    /**
+     * Close compression policy after event loops are done with codecs.
+     * <p>
+     * Event loops drain channels asynchronously after shutdown, codecs are still in use until then.
+     * </p>
+     *
+     * @param futures futures of event loops
+     */
+    private void closeCompressionPolicyAfter(List<Future<?>> futures) {
+        if (futures.isEmpty()) {
+            compressionPolicy.close();
+            return;
+        }
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (Future<?> future : futures) {
+            future.addListener(f -> {
+                if (remaining.decrementAndGet() == 0) {
+                    logger.debug("close compression policy");
+                    compressionPolicy.close();
+                }
+            });
         }
     }
 
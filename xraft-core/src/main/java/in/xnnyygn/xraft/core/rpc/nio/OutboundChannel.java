@@ -0,0 +1,253 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.Address;
+import in.xnnyygn.xraft.core.rpc.Channel;
+import in.xnnyygn.xraft.core.rpc.ChannelConnectException;
+import in.xnnyygn.xraft.core.rpc.ChannelException;
+import in.xnnyygn.xraft.core.rpc.message.*;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Outbound channel to a node, connects on demand without blocking.
+ * <p>
+ * Messages are queued while connecting, and dropped if failed to connect.
+ * After failure, reconnecting is delayed with exponential backoff, messages in backoff are failed
+ * with {@link ChannelConnectException}, so are messages exceeding the pending queue.
+ * Raft retries requests itself, so failing is preferred to waiting.
+ * </p>
+ */
+@ThreadSafe
+class OutboundChannel implements Channel {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundChannel.class);
+    static final int MAX_PENDING_MESSAGES = 256;
+    private final NodeId nodeId;
+    private final Bootstrap bootstrap;
+    private final int minReconnectBackoff;
+    private final int maxReconnectBackoff;
+    private final Queue<Object> pendingMessages = new ArrayDeque<>();
+    private Address address;
+    private io.netty.channel.Channel nettyChannel;
+    private boolean connecting = false;
+    private boolean closed = false;
+    private int reconnectBackoff = 0;
+    private long nextConnectTime = 0;
+
+    /**
+     * Create.
+     *
+     * @param nodeId              node id
+     * @param bootstrap           bootstrap with handlers
+     * @param minReconnectBackoff backoff after first failure, in milliseconds
+     * @param maxReconnectBackoff max backoff, in milliseconds
+     */
+    OutboundChannel(NodeId nodeId, Bootstrap bootstrap, int minReconnectBackoff, int maxReconnectBackoff) {
+        this.nodeId = nodeId;
+        this.bootstrap = bootstrap;
+        this.minReconnectBackoff = minReconnectBackoff;
+        this.maxReconnectBackoff = maxReconnectBackoff;
+    }
+
+    /**
+     * Set address, takes effect at next connecting.
+     *
+     * @param address address
+     */
+    synchronized void setAddress(Address address) {
+        this.address = address;
+    }
+
+    @Override
+    public void writeRequestVoteRpc(@Nonnull RequestVoteRpc rpc) {
+        send(rpc);
+    }
+
+    @Override
+    public void writeRequestVoteResult(@Nonnull RequestVoteResult result) {
+        send(result);
+    }
+
+    @Override
+    public void writePreVoteRpc(@Nonnull PreVoteRpc rpc) {
+        send(rpc);
+    }
+
+    @Override
+    public void writePreVoteResult(@Nonnull PreVoteResult result) {
+        send(result);
+    }
+
+    @Override
+    public void writeTimeoutNowRpc(@Nonnull TimeoutNowRpc rpc) {
+        send(rpc);
+    }
+
+    @Override
+    public void writeAppendEntriesRpc(@Nonnull AppendEntriesRpc rpc) {
+        send(rpc);
+    }
+
+    @Override
+    public void writeAppendEntriesResult(@Nonnull AppendEntriesResult result) {
+        send(result);
+    }
+
+    @Override
+    public void writeInstallSnapshotRpc(@Nonnull InstallSnapshotRpc rpc) {
+        send(rpc);
+    }
+
+    @Override
+    public void writeInstallSnapshotResult(@Nonnull InstallSnapshotResult result) {
+        send(result);
+    }
+
+    @Override
+    public void writeTransferSnapshotRpc(@Nonnull TransferSnapshotRpc rpc) {
+        send(rpc);
+    }
+
+    @Override
+    public void writeTransferSnapshotResult(@Nonnull TransferSnapshotResult result) {
+        send(result);
+    }
+
+    /**
+     * Write message, or queue message if connecting.
+     *
+     * @param message message
+     * @throws ChannelConnectException if in reconnect backoff, or too many messages queued when connecting
+     * @throws ChannelException        if closed
+     */
+    private synchronized void send(Object message) {
+        if (closed) {
+            throw new ChannelException("channel OUTBOUND-" + nodeId + " closed");
+        }
+        if (nettyChannel != null) {
+            nettyChannel.writeAndFlush(message);
+            return;
+        }
+        if (!connecting) {
+            long now = System.currentTimeMillis();
+            if (now < nextConnectTime) {
+                throw new ChannelConnectException("node " + nodeId + " is unreachable, reconnect in " + (nextConnectTime - now) + "ms");
+            }
+            connect();
+        }
+        if (pendingMessages.size() >= MAX_PENDING_MESSAGES) {
+            throw new ChannelConnectException("too many messages to node " + nodeId + " when connecting");
+        }
+        pendingMessages.add(message);
+    }
+
+    private void connect() {
+        logger.debug("connect to node {}, address {}", nodeId, address);
+        connecting = true;
+        ChannelFuture future = bootstrap.connect(address.getHost(), address.getPort());
+        future.addListener((ChannelFutureListener) f -> {
+            if (f.isSuccess()) {
+
+                // listener is notified before channel active, write pending messages after node id
+                f.channel().eventLoop().execute(() -> onConnected(f.channel()));
+            } else {
+                onConnectFailed(f.cause());
+            }
+        });
+    }
+
+    private synchronized void onConnected(io.netty.channel.Channel channel) {
+        connecting = false;
+        if (closed) {
+            channel.close();
+            return;
+        }
+        logger.debug("channel OUTBOUND-{} connected", nodeId);
+        nettyChannel = channel;
+        reconnectBackoff = 0;
+        nextConnectTime = 0;
+        channel.closeFuture().addListener((ChannelFutureListener) cf -> onDisconnected(channel));
+        Object message;
+        while ((message = pendingMessages.poll()) != null) {
+            channel.write(message);
+        }
+        channel.flush();
+    }
+
+    private synchronized void onConnectFailed(Throwable cause) {
+        connecting = false;
+        reconnectBackoff = (reconnectBackoff == 0 ? minReconnectBackoff : Math.min(reconnectBackoff * 2, maxReconnectBackoff));
+        nextConnectTime = System.currentTimeMillis() + reconnectBackoff;
+        logger.warn("failed to connect to node {}, cause {}, drop {} message(s), reconnect in {}ms",
+                nodeId, cause.getMessage(), pendingMessages.size(), reconnectBackoff);
+        pendingMessages.clear();
+    }
+
+    /**
+     * Check if channel is connected or connecting.
+     *
+     * @return true if connected or connecting, otherwise false
+     */
+    synchronized boolean isOpen() {
+        return nettyChannel != null || connecting;
+    }
+
+    /**
+     * Check if channel is writable.
+     * <p>
+     * Channel is writable when connecting, messages in that period are bounded by pending queue.
+     * </p>
+     *
+     * @return true if writable or not connected, false if bytes in outbound buffer exceed high water mark
+     */
+    synchronized boolean isWritable() {
+        return nettyChannel == null || nettyChannel.isWritable();
+    }
+
+    /**
+     * Close current connection, channel is still available and will reconnect at next write.
+     */
+    synchronized void disconnect() {
+        if (nettyChannel != null) {
+            logger.debug("disconnect channel OUTBOUND-{}", nodeId);
+            nettyChannel.close();
+            nettyChannel = null;
+        }
+    }
+
+    private synchronized void onDisconnected(io.netty.channel.Channel channel) {
+        if (nettyChannel == channel) {
+            logger.debug("channel OUTBOUND-{} disconnected", nodeId);
+            nettyChannel = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        io.netty.channel.Channel channel;
+        synchronized (this) {
+            closed = true;
+            pendingMessages.clear();
+            channel = nettyChannel;
+            nettyChannel = null;
+        }
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close().sync();
+        } catch (InterruptedException e) {
+            throw new ChannelException("failed to close", e);
+        }
+    }
+
+}
@@ -1,96 +1,113 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.Address;
-import in.xnnyygn.xraft.core.rpc.ChannelConnectException;
-import in.xnnyygn.xraft.core.rpc.ChannelException;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.*;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
-import java.net.ConnectException;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @ThreadSafe
 class OutboundChannelGroup {
 
     private static final Logger logger = LoggerFactory.getLogger(OutboundChannelGroup.class);
-    private final EventLoopGroup workerGroup;
-    private final EventBus eventBus;
+    private static final int MAX_RECONNECT_BACKOFF_FACTOR = 32;
+    private final EventLoopAffinity affinity;
+    private final boolean priorityLane;
+    private final InboundMessageHandler messageHandler;
     private final NodeId selfNodeId;
+    private final CompressionPolicy compressionPolicy;
+    private final WriteBufferWaterMark writeBufferWaterMark;
+    private final EventLoopMonitor monitor;
+    private final boolean lazyDecode;
+    private final int maxFrameSize;
     private final int connectTimeoutMillis;
-    private final ConcurrentMap<NodeId, Future<NioChannel>> channelMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<NodeId, OutboundChannel> channelMap = new ConcurrentHashMap<>();
 
-    OutboundChannelGroup(EventLoopGroup workerGroup, EventBus eventBus, NodeId selfNodeId, int logReplicationInterval) {
-        this.workerGroup = workerGroup;
-        this.eventBus = eventBus;
+    /**
+     * Create.
+     *
+     * @param affinity               event loop per peer
+     * @param priorityLane           channels are priority lane or not
+     * @param messageHandler         handler of received messages
+     * @param selfNodeId             self node id
+     * @param compressionPolicy      compression policy
+     * @param writeBufferWaterMark   write buffer water mark
+     * @param monitor                event loop monitor
+     * @param lazyDecode             decode entries of append entries rpc lazily
+     * @param maxFrameSize           max length of frame received
+     * @param logReplicationInterval log replication interval
+     */
+    OutboundChannelGroup(EventLoopAffinity affinity, boolean priorityLane, InboundMessageHandler messageHandler, NodeId selfNodeId,
+                         CompressionPolicy compressionPolicy, WriteBufferWaterMark writeBufferWaterMark,
+                         EventLoopMonitor monitor, boolean lazyDecode, int maxFrameSize, int logReplicationInterval) {
+        this.affinity = affinity;
+        this.priorityLane = priorityLane;
+        this.messageHandler = messageHandler;
         this.selfNodeId = selfNodeId;
+        this.compressionPolicy = compressionPolicy;
+        this.writeBufferWaterMark = writeBufferWaterMark;
+        this.monitor = monitor;
+        this.lazyDecode = lazyDecode;
+        this.maxFrameSize = maxFrameSize;
         this.connectTimeoutMillis = logReplicationInterval / 2;
     }
 
-    NioChannel getOrConnect(NodeId nodeId, Address address) {
-        Future<NioChannel> future = channelMap.get(nodeId);
-        if (future == null) {
-            FutureTask<NioChannel> newFuture = new FutureTask<>(() -> connect(nodeId, address));
-            future = channelMap.putIfAbsent(nodeId, newFuture);
-            if (future == null) {
-                future = newFuture;
-                newFuture.run();
-            }
-        }
-        try {
-            return future.get();
-        } catch (Exception e) {
-            channelMap.remove(nodeId);
-            if (e instanceof ExecutionException) {
-                Throwable cause = e.getCause();
-                if (cause instanceof ConnectException) {
-                    throw new ChannelConnectException("failed to get channel to node " + nodeId +
-                            ", cause " + cause.getMessage(), cause);
-                }
-            }
-            throw new ChannelException("failed to get channel to node " + nodeId, e);
-        }
+    /**
+     * Get channel to node, connecting happens when writing.
+     *
+     * @param nodeId  node id
+     * @param address address
+     * @return channel
+     */
+    OutboundChannel getOrCreate(NodeId nodeId, Address address) {
+        OutboundChannel channel = channelMap.computeIfAbsent(nodeId, this::createChannel);
+        channel.setAddress(address);
+        return channel;
     }
 
-    private NioChannel connect(NodeId nodeId, Address address) throws InterruptedException {
-        Bootstrap bootstrap = new Bootstrap()
-                .group(workerGroup)
-                .channel(NioSocketChannel.class)
-                .option(ChannelOption.TCP_NODELAY, true)
+    /**
+     * Find channel to node.
+     *
+     * @param nodeId node id
+     * @return channel, {@code null} if not found
+     */
+    @Nullable
+    OutboundChannel find(NodeId nodeId) {
+        return channelMap.get(nodeId);
+    }
+
+    private OutboundChannel createChannel(NodeId nodeId) {
+        Bootstrap bootstrap = Transport.configureClient(new Bootstrap().group(affinity.get(nodeId)))
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
                         ChannelPipeline pipeline = ch.pipeline();
-                        pipeline.addLast(new Decoder());
-                        pipeline.addLast(new Encoder());
-                        pipeline.addLast(new ToRemoteHandler(eventBus, nodeId, selfNodeId));
+                        pipeline.addLast(monitor.newReadHandler());
+                        pipeline.addLast(NioChannel.newFlushConsolidationHandler());
+                        pipeline.addLast(new Decoder(compressionPolicy, nodeId, lazyDecode, maxFrameSize));
+                        pipeline.addLast(new Encoder(compressionPolicy.getThreshold()));
+                        pipeline.addLast(new ToRemoteHandler(messageHandler, compressionPolicy, nodeId, selfNodeId, priorityLane));
+                        pipeline.addLast(monitor.newWriteHandler());
                     }
                 });
-        ChannelFuture future = bootstrap.connect(address.getHost(), address.getPort()).sync();
-        if (!future.isSuccess()) {
-            throw new ChannelException("failed to connect", future.cause());
-        }
-        logger.debug("channel OUTBOUND-{} connected", nodeId);
-        Channel nettyChannel = future.channel();
-        nettyChannel.closeFuture().addListener((ChannelFutureListener) cf -> {
-            logger.debug("channel OUTBOUND-{} disconnected", nodeId);
-            channelMap.remove(nodeId);
-        });
-        return new NioChannel(nettyChannel);
+        return new OutboundChannel(nodeId, bootstrap, connectTimeoutMillis, connectTimeoutMillis * MAX_RECONNECT_BACKOFF_FACTOR);
     }
 
     void closeAll() {
-        logger.debug("close all outbound channels");
-        channelMap.forEach((nodeId, nioChannelFuture) -> {
+        logger.debug("close all outbound channels{}", priorityLane ? " of priority lane" : "");
+        channelMap.forEach((nodeId, channel) -> {
             try {
-                nioChannelFuture.get().close();
+                channel.close();
             } catch (Exception e) {
                 logger.warn("failed to close", e);
             }
@@ -0,0 +1,22 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+/**
+ * Marker sent before node id by channel of priority lane.
+ * <p>
+ * Priority lane is a separate connection to peer for request vote rpc and heartbeat, handled in its own event loop
+ * on both sides, so they are not delayed by large messages.
+ * </p>
+ */
+final class PriorityLane {
+
+    static final PriorityLane INSTANCE = new PriorityLane();
+
+    private PriorityLane() {
+    }
+
+    @Override
+    public String toString() {
+        return "PriorityLane";
+    }
+
+}
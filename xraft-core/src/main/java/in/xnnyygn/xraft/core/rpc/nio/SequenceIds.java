@@ -0,0 +1,25 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+/**
+ * Marker sent after connected, tells peer that numeric sequence ids of append entries rpc are supported.
+ * <p>
+ * Nodes before sequence ids correlate append entries rpc and result by message id in string.
+ * They do not send this marker, so the string id is written to them only.
+ * </p>
+ *
+ * @see Encoder
+ * @see Decoder
+ */
+final class SequenceIds {
+
+    static final SequenceIds INSTANCE = new SequenceIds();
+
+    private SequenceIds() {
+    }
+
+    @Override
+    public String toString() {
+        return "SequenceIds";
+    }
+
+}
@@ -1,7 +1,7 @@
 package in.xnnyygn.xraft.core.rpc.nio;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
 import io.netty.channel.ChannelHandlerContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,16 +10,23 @@ class ToRemoteHandler extends AbstractHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ToRemoteHandler.class);
     private final NodeId selfNodeId;
+    private final boolean priorityLane;
 
-    ToRemoteHandler(EventBus eventBus, NodeId remoteId, NodeId selfNodeId) {
-        super(eventBus);
+    ToRemoteHandler(InboundMessageHandler messageHandler, CompressionPolicy compressionPolicy, NodeId remoteId, NodeId selfNodeId,
+                    boolean priorityLane) {
+        super(messageHandler, compressionPolicy);
         this.remoteId = remoteId;
         this.selfNodeId = selfNodeId;
+        this.priorityLane = priorityLane;
     }
 
     @Override
     public void channelActive(ChannelHandlerContext ctx) {
+        if (priorityLane) {
+            ctx.write(PriorityLane.INSTANCE);
+        }
         ctx.write(selfNodeId);
+        writeCapabilities(ctx);
         channel = new NioChannel(ctx.channel());
     }
 
@@ -0,0 +1,130 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Netty transport, native epoll if available, otherwise NIO.
+ * <p>
+ * Channel classes and socket options are selected by the type of event loop group,
+ * so a group created outside, for example a shared {@link NioEventLoopGroup}, still works.
+ * </p>
+ */
+public final class Transport {
+
+    private Transport() {
+    }
+
+    /**
+     * Check if native epoll transport is available.
+     *
+     * @return true if available, otherwise false
+     */
+    public static boolean isEpollAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    /**
+     * Create event loop group, epoll if available.
+     *
+     * @param nThreads thread count, 0 for default
+     * @return event loop group
+     */
+    public static EventLoopGroup newEventLoopGroup(int nThreads) {
+        return isEpollAvailable() ? new EpollEventLoopGroup(nThreads) : new NioEventLoopGroup(nThreads);
+    }
+
+    /**
+     * Create event loop group with the same transport as the specified one.
+     *
+     * @param nThreads thread count, 0 for default
+     * @param group    group
+     * @return event loop group
+     */
+    static EventLoopGroup newEventLoopGroup(int nThreads, EventLoopGroup group) {
+        return isEpoll(group) ? new EpollEventLoopGroup(nThreads) : new NioEventLoopGroup(nThreads);
+    }
+
+    private static boolean isEpoll(EventLoopGroup group) {
+
+        // single event loop, e.g. pinned to peer
+        if (group instanceof EventLoop) {
+            return ((EventLoop) group).parent() instanceof EpollEventLoopGroup;
+        }
+        return group instanceof EpollEventLoopGroup;
+    }
+
+    /**
+     * Get server channel class for event loop group.
+     *
+     * @param group group
+     * @return server channel class
+     */
+    public static Class<? extends ServerChannel> serverChannelClass(EventLoopGroup group) {
+        return isEpoll(group) ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    /**
+     * Get socket channel class for event loop group.
+     *
+     * @param group group
+     * @return socket channel class
+     */
+    public static Class<? extends SocketChannel> socketChannelClass(EventLoopGroup group) {
+        return isEpoll(group) ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    /**
+     * Set channel and socket options of server.
+     * <p>
+     * With epoll, {@code TCP_QUICKACK} is enabled for accepted channels, and {@code SO_REUSEPORT} is enabled
+     * if required, so the same port can be bound more than once to accept in several threads.
+     * </p>
+     *
+     * @param bootstrap bootstrap with group set
+     * @param reusePort enable {@code SO_REUSEPORT} or not
+     * @return bootstrap
+     */
+    public static ServerBootstrap configureServer(ServerBootstrap bootstrap, boolean reusePort) {
+        EventLoopGroup group = bootstrap.config().group();
+        bootstrap.channel(serverChannelClass(group))
+                .childOption(ChannelOption.TCP_NODELAY, true);
+        if (isEpoll(group)) {
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, true);
+            if (reusePort) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+        }
+        return bootstrap;
+    }
+
+    /**
+     * Set channel and socket options of client.
+     *
+     * @param bootstrap bootstrap with group set
+     * @return bootstrap
+     */
+    public static Bootstrap configureClient(Bootstrap bootstrap) {
+        EventLoopGroup group = bootstrap.config().group();
+        bootstrap.channel(socketChannelClass(group))
+                .option(ChannelOption.TCP_NODELAY, true);
+        if (isEpoll(group)) {
+            bootstrap.option(EpollChannelOption.TCP_QUICKACK, true);
+        }
+        return bootstrap;
+    }
+
+}
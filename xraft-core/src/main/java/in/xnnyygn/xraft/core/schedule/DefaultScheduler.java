@@ -64,6 +64,14 @@ public class DefaultScheduler implements Scheduler {
         return new ElectionTimeout(scheduledFuture);
     }
 
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> schedule(@Nonnull Runnable task, long delay, @Nonnull TimeUnit unit) {
+        Preconditions.checkNotNull(task);
+        Preconditions.checkNotNull(unit);
+        return scheduledExecutorService.schedule(task, delay, unit);
+    }
+
     @Override
     public void stop() throws InterruptedException {
         logger.debug("stop scheduler");
@@ -17,6 +17,15 @@ public class ElectionTimeout {
         this.scheduledFuture = scheduledFuture;
     }
 
+    /**
+     * Reset election timeout in place, without scheduling again.
+     *
+     * @return true if reset, false if not supported, fired or cancelled, then a new one should be scheduled
+     */
+    public boolean reset() {
+        return false;
+    }
+
     public void cancel() {
         logger.debug("cancel election timeout");
         this.scheduledFuture.cancel(false);
@@ -4,6 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class NullScheduler implements Scheduler {
 
@@ -23,6 +25,13 @@ public class NullScheduler implements Scheduler {
         return ElectionTimeout.NONE;
     }
 
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> schedule(@Nonnull Runnable task, long delay, @Nonnull TimeUnit unit) {
+        logger.debug("schedule task");
+        return new NullScheduledFuture();
+    }
+
     @Override
     public void stop() throws InterruptedException {
     }
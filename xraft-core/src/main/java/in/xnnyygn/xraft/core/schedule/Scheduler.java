@@ -1,6 +1,8 @@
 package in.xnnyygn.xraft.core.schedule;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Scheduler.
@@ -26,6 +28,17 @@ public interface Scheduler {
     @Nonnull
     ElectionTimeout scheduleElectionTimeout(@Nonnull Runnable task);
 
+    /**
+     * Schedule one-shot task.
+     *
+     * @param task  task
+     * @param delay delay
+     * @param unit  unit of delay
+     * @return scheduled future
+     */
+    @Nonnull
+    ScheduledFuture<?> schedule(@Nonnull Runnable task, long delay, @Nonnull TimeUnit unit);
+
     /**
      * Stop scheduler.
      *
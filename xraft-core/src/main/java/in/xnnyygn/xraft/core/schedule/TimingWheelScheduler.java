@@ -0,0 +1,517 @@
+package in.xnnyygn.xraft.core.schedule;
+
+import com.google.common.base.Preconditions;
+import in.xnnyygn.xraft.core.node.config.NodeConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Scheduler based on hashed timing wheel.
+ * <p>
+ * Timeouts are put into buckets by deadline, and one thread checks a bucket per tick, so scheduling and
+ * cancelling cost constant time, and timeouts are fired at most one tick late.
+ * </p>
+ * <p>
+ * Election timeout is reset by moving its deadline, without scheduling again. Timeout reset is checked
+ * when its bucket is reached, and put into bucket of new deadline.
+ * Log replication task shares the same wheel, and is put back after run.
+ * </p>
+ */
+@ThreadSafe
+public class TimingWheelScheduler implements Scheduler {
+
+    public static final int DEFAULT_TICK_DURATION = 10;
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelScheduler.class);
+    static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    // states of timeout, deadline is elapsed nanoseconds since start, never negative
+    private static final long FIRED = -1L;
+    private static final long CANCELLED = -2L;
+
+    private final int minElectionTimeout;
+    private final int maxElectionTimeout;
+    private final long logReplicationDelayNanos;
+    private final long logReplicationIntervalNanos;
+    private final long tickNanos;
+    private final LongSupplier clock;
+    private final long startTime;
+
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean stopped = false;
+
+    // accessed in wheel thread only
+    private long tick = 0;
+
+    /**
+     * Create by configuration.
+     * <p>
+     * Batch delay of replication is in microseconds, it would be rounded up to a tick in wheel,
+     * so batch delay shorter than tick is rejected.
+     * </p>
+     *
+     * @param config configuration
+     * @throws IllegalArgumentException if batch delay of replication is shorter than tick
+     * @see NodeConfig#getReplicationBatchDelay()
+     */
+    public TimingWheelScheduler(NodeConfig config) {
+        this(config.getMinElectionTimeout(), config.getMaxElectionTimeout(), config.getLogReplicationDelay(),
+                config.getLogReplicationInterval(), checkReplicationBatchDelay(config));
+    }
+
+    private static int checkReplicationBatchDelay(NodeConfig config) {
+        int tickDuration = config.getTimingWheelTickDuration();
+        int batchDelay = config.getReplicationBatchDelay();
+        if (batchDelay > 0 && batchDelay < TimeUnit.MILLISECONDS.toMicros(tickDuration)) {
+            throw new IllegalArgumentException("replication batch delay " + batchDelay +
+                    "us is shorter than tick " + tickDuration + "ms of timing wheel");
+        }
+        return tickDuration;
+    }
+
+    /**
+     * Create.
+     *
+     * @param minElectionTimeout     min election timeout
+     * @param maxElectionTimeout     max election timeout
+     * @param logReplicationDelay    delay of first log replication
+     * @param logReplicationInterval interval of log replication
+     * @param tickDuration           duration of tick, in milliseconds
+     */
+    public TimingWheelScheduler(int minElectionTimeout, int maxElectionTimeout, int logReplicationDelay,
+                                int logReplicationInterval, int tickDuration) {
+        this(minElectionTimeout, maxElectionTimeout, logReplicationDelay, logReplicationInterval, tickDuration,
+                System::nanoTime, true);
+    }
+
+    /**
+     * Create with clock.
+     * <p>
+     * Without wheel thread, ticks are processed only when {@link #advance()} called.
+     * </p>
+     *
+     * @param minElectionTimeout     min election timeout
+     * @param maxElectionTimeout     max election timeout
+     * @param logReplicationDelay    delay of first log replication
+     * @param logReplicationInterval interval of log replication
+     * @param tickDuration           duration of tick, in milliseconds
+     * @param clock                  clock in nanoseconds
+     * @param startThread            start wheel thread or not
+     */
+    TimingWheelScheduler(int minElectionTimeout, int maxElectionTimeout, int logReplicationDelay,
+                         int logReplicationInterval, int tickDuration, LongSupplier clock, boolean startThread) {
+        if (minElectionTimeout <= 0 || maxElectionTimeout <= 0 || minElectionTimeout > maxElectionTimeout) {
+            throw new IllegalArgumentException("election timeout should not be 0 or min > max");
+        }
+        if (logReplicationDelay < 0 || logReplicationInterval <= 0) {
+            throw new IllegalArgumentException("log replication delay < 0 or log replication interval <= 0");
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration <= 0");
+        }
+        this.minElectionTimeout = minElectionTimeout;
+        this.maxElectionTimeout = maxElectionTimeout;
+        this.logReplicationDelayNanos = TimeUnit.MILLISECONDS.toNanos(logReplicationDelay);
+        this.logReplicationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(logReplicationInterval);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+        if (startThread) {
+            thread = new Thread(this::loop, "scheduler");
+            thread.start();
+        } else {
+            thread = null;
+        }
+    }
+
+    @Override
+    @Nonnull
+    public LogReplicationTask scheduleLogReplicationTask(@Nonnull Runnable task) {
+        Preconditions.checkNotNull(task);
+        logger.debug("schedule log replication task");
+        return new LogReplicationTask(schedule(task, logReplicationDelayNanos, logReplicationIntervalNanos));
+    }
+
+    @Override
+    @Nonnull
+    public ElectionTimeout scheduleElectionTimeout(@Nonnull Runnable task) {
+        Preconditions.checkNotNull(task);
+        logger.debug("schedule election timeout");
+        Timeout timeout = schedule(task, randomElectionTimeoutNanos(), 0L);
+        return new ElectionTimeout(timeout) {
+
+            @Override
+            public boolean reset() {
+                return timeout.reset(elapsedNanos() + randomElectionTimeoutNanos());
+            }
+
+        };
+    }
+
+    /**
+     * Schedule one-shot task.
+     * <p>
+     * Task is fired at most one tick late, use scheduled thread pool for delay much less than tick.
+     * </p>
+     *
+     * @param task  task
+     * @param delay delay
+     * @param unit  unit of delay
+     * @return scheduled future
+     */
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> schedule(@Nonnull Runnable task, long delay, @Nonnull TimeUnit unit) {
+        Preconditions.checkNotNull(task);
+        Preconditions.checkNotNull(unit);
+        return schedule(task, unit.toNanos(delay), 0L);
+    }
+
+    private long randomElectionTimeoutNanos() {
+        int timeout = ThreadLocalRandom.current().nextInt(minElectionTimeout, maxElectionTimeout + 1);
+        return TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    private Timeout schedule(Runnable task, long delayNanos, long periodNanos) {
+        if (stopped) {
+            throw new RejectedExecutionException("scheduler stopped");
+        }
+        Timeout timeout = new Timeout(task, elapsedNanos() + delayNanos, periodNanos);
+        newTimeouts.add(timeout);
+
+        // stopped after checked, timeout may be added after all timeouts cancelled
+        if (stopped) {
+            timeout.cancel(false);
+        }
+        return timeout;
+    }
+
+    private long elapsedNanos() {
+        return clock.getAsLong() - startTime;
+    }
+
+    private void loop() {
+        while (!stopped) {
+            long sleepNanos = tickNanos * (tick + 1) - elapsedNanos();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            processTick();
+        }
+        cancelAll();
+        logger.debug("scheduler stopped");
+    }
+
+    /**
+     * Process ticks passed, for scheduler without wheel thread.
+     */
+    void advance() {
+        while (tickNanos * (tick + 1) <= elapsedNanos()) {
+            processTick();
+        }
+    }
+
+    private void processTick() {
+        transferNewTimeouts();
+        expireTimeouts(wheel[(int) (tick & MASK)]);
+        tick++;
+    }
+
+    /**
+     * Cancel all timeouts, so no one waits for timeout never fired.
+     */
+    private void cancelAll() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            timeout.cancel(false);
+        }
+        for (Bucket bucket : wheel) {
+            for (timeout = bucket.head; timeout != null; timeout = timeout.next) {
+                timeout.cancel(false);
+            }
+            bucket.head = null;
+            bucket.tail = null;
+        }
+    }
+
+    private void transferNewTimeouts() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            long deadline = timeout.deadline.get();
+            if (deadline >= 0) {
+                place(timeout, deadline, tick);
+            }
+        }
+    }
+
+    /**
+     * Put timeout into bucket.
+     *
+     * @param timeout  timeout
+     * @param deadline deadline
+     * @param minTick  earliest tick of bucket, timeouts past due are put into bucket of this tick
+     */
+    private void place(Timeout timeout, long deadline, long minTick) {
+        long deadlineTick = Math.max(deadline / tickNanos, minTick);
+        timeout.remainingRounds = (deadlineTick - minTick) / WHEEL_SIZE;
+        wheel[(int) (deadlineTick & MASK)].add(timeout);
+    }
+
+    private void expireTimeouts(Bucket bucket) {
+        // timeouts put back into this bucket during expiring are checked in next round
+        Timeout last = bucket.tail;
+        Timeout timeout = bucket.head;
+        Timeout previous = null;
+        Timeout next;
+        while (timeout != null) {
+            next = (timeout == last) ? null : timeout.next;
+            if (timeout.deadline.get() < 0) {
+                bucket.remove(timeout, previous);
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                previous = timeout;
+            } else {
+                bucket.remove(timeout, previous);
+                expire(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void expire(Timeout timeout) {
+        long now = elapsedNanos();
+        long deadline;
+        while ((deadline = timeout.deadline.get()) >= 0) {
+
+            // deadline moved, e.g. election timeout reset
+            if (deadline > now) {
+                place(timeout, deadline, tick + 1);
+                return;
+            }
+            long next = timeout.periodNanos > 0 ? now + timeout.periodNanos : FIRED;
+            if (timeout.deadline.compareAndSet(deadline, next)) {
+                Throwable failure = run(timeout.task);
+                if (next >= 0) {
+                    place(timeout, next, tick + 1);
+                } else {
+                    timeout.complete(failure);
+                }
+                return;
+            }
+        }
+    }
+
+    private Throwable run(Runnable task) {
+        try {
+            task.run();
+            return null;
+        } catch (Throwable t) {
+            logger.warn("failed to run scheduled task", t);
+            return t;
+        }
+    }
+
+    /**
+     * Stop scheduler.
+     * <p>
+     * Timeouts not fired are cancelled, waiters on them get {@link CancellationException}.
+     * Wait for task running in wheel thread, unless called in task.
+     * </p>
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Override
+    public void stop() throws InterruptedException {
+        logger.debug("stop scheduler");
+        stopped = true;
+        if (thread == null) {
+            cancelAll();
+            return;
+        }
+        if (Thread.currentThread() != thread) {
+            LockSupport.unpark(thread);
+            thread.join();
+        }
+    }
+
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout, Timeout previous) {
+            if (previous == null) {
+                head = timeout.next;
+            } else {
+                previous.next = timeout.next;
+            }
+            if (tail == timeout) {
+                tail = previous;
+            }
+            timeout.next = null;
+        }
+
+    }
+
+    /**
+     * Timeout in wheel.
+     * <p>
+     * State and deadline are kept in one atomic long, so reset, cancel and fire never race.
+     * </p>
+     * <p>
+     * Latch to wait for completion is created only when someone waits, completion is after task run,
+     * or after cancelled. Periodic timeout completes only when cancelled.
+     * </p>
+     */
+    private class Timeout implements ScheduledFuture<Object> {
+
+        private final Runnable task;
+        private final long periodNanos;
+        private final AtomicLong deadline;
+
+        // accessed in wheel thread only
+        private long remainingRounds;
+        private Timeout next;
+
+        // failure is written before completed
+        private Throwable failure;
+        private volatile boolean completed = false;
+        private volatile CountDownLatch completedLatch;
+
+        Timeout(Runnable task, long deadline, long periodNanos) {
+            this.task = task;
+            this.periodNanos = periodNanos;
+            this.deadline = new AtomicLong(deadline);
+        }
+
+        /**
+         * Move deadline.
+         *
+         * @param newDeadline new deadline
+         * @return true if moved, false if fired or cancelled
+         */
+        boolean reset(long newDeadline) {
+            long d;
+            while ((d = deadline.get()) >= 0) {
+                if (deadline.compareAndSet(d, newDeadline)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            long d = deadline.get();
+            return d < 0 ? 0 : unit.convert(d - elapsedNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            long d;
+            while ((d = deadline.get()) >= 0) {
+                if (deadline.compareAndSet(d, CANCELLED)) {
+                    complete(null);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return deadline.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return deadline.get() < 0;
+        }
+
+        void complete(Throwable failure) {
+            this.failure = failure;
+            completed = true;
+            // waiter checks completed after latch set
+            CountDownLatch latch = completedLatch;
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+
+        private CountDownLatch getCompletedLatch() {
+            CountDownLatch latch = completedLatch;
+            if (latch == null) {
+                synchronized (this) {
+                    if (completedLatch == null) {
+                        completedLatch = new CountDownLatch(1);
+                    }
+                    latch = completedLatch;
+                }
+            }
+            return latch;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            if (!completed) {
+                CountDownLatch latch = getCompletedLatch();
+                if (!completed) {
+                    latch.await();
+                }
+            }
+            return getResult();
+        }
+
+        @Override
+        public Object get(long timeout, @Nonnull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if (!completed) {
+                CountDownLatch latch = getCompletedLatch();
+                if (!completed && !latch.await(timeout, unit)) {
+                    throw new TimeoutException();
+                }
+            }
+            return getResult();
+        }
+
+        private Object getResult() throws ExecutionException {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package in.xnnyygn.xraft.core.service;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+
+public class TransferLeadershipCommand {
+
+    private final NodeId nodeId;
+
+    public TransferLeadershipCommand(String nodeId) {
+        this.nodeId = new NodeId(nodeId);
+    }
+
+    public NodeId getNodeId() {
+        return nodeId;
+    }
+
+}
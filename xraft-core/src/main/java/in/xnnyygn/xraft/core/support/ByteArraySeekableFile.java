@@ -124,6 +124,10 @@ public class ByteArraySeekableFile implements SeekableFile {
     public void flush() throws IOException {
     }
 
+    @Override
+    public void sync() throws IOException {
+    }
+
     @Override
     public void close() throws IOException {
     }
@@ -0,0 +1,30 @@
+package in.xnnyygn.xraft.core.support;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Helpers of byte buffer.
+ */
+public class ByteBuffers {
+
+    /**
+     * Get remaining bytes of buffer as byte array.
+     * <p>
+     * Backing array is returned without copying if the buffer covers the whole of it,
+     * otherwise remaining bytes are copied out, e.g. buffer of mapped file or a slice.
+     * Position of buffer is not changed.
+     * </p>
+     *
+     * @param buffer buffer
+     * @return bytes, may be the backing array of buffer
+     */
+    public static byte[] toByteArray(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,340 @@
+package in.xnnyygn.xraft.core.support;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.FutureCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Task executor running tasks in one thread, the event loop of node.
+ * <p>
+ * Tasks are put into a lock-free multi-producer single-consumer queue, one allocation per task.
+ * The thread drains tasks in batches and runs callbacks right after the task,
+ * so no future or monitor thread is needed for {@link #submit(Runnable, FutureCallback)}.
+ * </p>
+ * <p>
+ * When there is no task, the thread waits by {@link IdleStrategy}.
+ * </p>
+ */
+@ThreadSafe
+public class EventLoopTaskExecutor implements TaskExecutor {
+
+    /**
+     * How the thread waits when there is no task.
+     */
+    public enum IdleStrategy {
+
+        /**
+         * Park until task submitted.
+         */
+        PARK,
+
+        /**
+         * Spin for a while, then park.
+         */
+        SPIN_THEN_PARK,
+
+        /**
+         * Never park, lowest latency but occupies a CPU core.
+         */
+        BUSY_SPIN
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopTaskExecutor.class);
+    private static final int SPIN_TIMES = 1000;
+
+    private final IdleStrategy idleStrategy;
+    private final int batchSize;
+    private final Thread thread;
+
+    // producers append to tail, the thread takes from head
+    private final AtomicReference<Task> tail;
+    private Task head;
+
+    private final LongAdder submittedTasks = new LongAdder();
+    private final AtomicLong completedTasks = new AtomicLong(0);
+    private volatile boolean wakeupNeeded = false;
+    private volatile boolean shutdown = false;
+    private volatile boolean terminated = false;
+
+    /**
+     * Create with idle strategy {@link IdleStrategy#PARK}.
+     *
+     * @param name name of thread
+     */
+    public EventLoopTaskExecutor(@Nonnull String name) {
+        this(name, IdleStrategy.PARK, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create.
+     *
+     * @param name         name of thread
+     * @param idleStrategy idle strategy
+     * @param batchSize    max tasks to run before updating metrics and checking shutdown
+     */
+    public EventLoopTaskExecutor(@Nonnull String name, @Nonnull IdleStrategy idleStrategy, int batchSize) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(idleStrategy);
+        Preconditions.checkArgument(batchSize > 0, "batch size should be positive");
+        this.idleStrategy = idleStrategy;
+        this.batchSize = batchSize;
+        Task stub = new Task(null, null, null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+        this.thread = new Thread(this::loop, name);
+        this.thread.start();
+    }
+
+    @Override
+    @Nonnull
+    public Future<?> submit(@Nonnull Runnable task) {
+        Preconditions.checkNotNull(task);
+        FutureTask<?> future = new FutureTask<>(task, null);
+        offer(new Task(future, null, null));
+        return future;
+    }
+
+    @Override
+    @Nonnull
+    public <V> Future<V> submit(@Nonnull Callable<V> task) {
+        Preconditions.checkNotNull(task);
+        FutureTask<V> future = new FutureTask<>(task);
+        offer(new Task(future, null, null));
+        return future;
+    }
+
+    @Override
+    public void submit(@Nonnull Runnable task, @Nonnull FutureCallback<Object> callback) {
+        Preconditions.checkNotNull(task);
+        Preconditions.checkNotNull(callback);
+        offer(new Task(task, callback, null));
+    }
+
+    @Override
+    public void submit(@Nonnull Runnable task, @Nonnull Collection<FutureCallback<Object>> callbacks) {
+        Preconditions.checkNotNull(task);
+        Preconditions.checkNotNull(callbacks);
+        offer(new Task(task, null, callbacks));
+    }
+
+    private void offer(Task task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("executor shut down");
+        }
+        submittedTasks.increment();
+        Task previous = tail.getAndSet(task);
+        previous.next = task;
+        // thread may stop between the check of shutdown and linking, task not taken by it never runs
+        if (terminated && task.runnable != null && task.take()) {
+            throw new RejectedExecutionException("executor shut down");
+        }
+        if (wakeupNeeded) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Get count of tasks waiting or running.
+     *
+     * @return pending tasks
+     */
+    public long getPendingTasks() {
+        return Math.max(0, submittedTasks.sum() - completedTasks.get());
+    }
+
+    /**
+     * Get count of tasks completed.
+     *
+     * @return completed tasks
+     */
+    public long getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    private void loop() {
+        int idleTimes = 0;
+        while (true) {
+            if (runTasks() > 0) {
+                idleTimes = 0;
+                continue;
+            }
+            if (shutdown) {
+                if (isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            idle(idleTimes++);
+        }
+        terminated = true;
+        runTasksLinkedAfterStopped();
+        logger.debug("event loop {} stopped", thread.getName());
+    }
+
+    private int runTasks() {
+        int count = 0;
+        Task task;
+        while (count < batchSize && (task = poll()) != null) {
+            runTask(task);
+            count++;
+        }
+        if (count > 0) {
+            // single writer
+            completedTasks.lazySet(completedTasks.get() + count);
+        }
+        return count;
+    }
+
+    /**
+     * Run tasks linked by producers which passed the check of shutdown before thread stopped.
+     * <p>
+     * Producer checks {@link #terminated} after linking, so a task is either taken here,
+     * or taken and rejected by its producer.
+     * </p>
+     */
+    private void runTasksLinkedAfterStopped() {
+        Task task;
+        while ((task = poll()) != null) {
+            if (task.take()) {
+                runTask(task);
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    private Task poll() {
+        Task next = head.next;
+        if (next == null) {
+            if (isEmpty()) {
+                return null;
+            }
+            // producer is linking the task
+            while ((next = head.next) == null) {
+                Thread.yield();
+            }
+        }
+        head = next;
+        return next;
+    }
+
+    private void runTask(Task task) {
+        // task becomes stub of queue, clear references
+        Runnable runnable = task.runnable;
+        FutureCallback<Object> callback = task.callback;
+        Collection<FutureCallback<Object>> callbacks = task.callbacks;
+        task.runnable = null;
+        task.callback = null;
+        task.callbacks = null;
+
+        Throwable failure = null;
+        try {
+            runnable.run();
+        } catch (Throwable t) {
+            failure = t;
+        }
+        if (callback != null) {
+            notifyCallback(callback, failure);
+        } else if (callbacks != null) {
+            for (FutureCallback<Object> c : callbacks) {
+                notifyCallback(c, failure);
+            }
+        } else if (failure != null) {
+            logger.warn("failure", failure);
+        }
+    }
+
+    private void notifyCallback(FutureCallback<Object> callback, Throwable failure) {
+        try {
+            if (failure == null) {
+                callback.onSuccess(null);
+            } else {
+                callback.onFailure(failure);
+            }
+        } catch (Throwable t) {
+            logger.warn("failed to notify callback", t);
+        }
+    }
+
+    private void idle(int idleTimes) {
+        switch (idleStrategy) {
+            case BUSY_SPIN:
+                return;
+            case SPIN_THEN_PARK:
+                if (idleTimes >= SPIN_TIMES) {
+                    park();
+                }
+                return;
+            default:
+                park();
+        }
+    }
+
+    private void park() {
+        wakeupNeeded = true;
+        // check again after flag set, producer checks flag after appending
+        if (isEmpty() && !shutdown) {
+            LockSupport.park(this);
+            // interrupt is not used to stop, clear it or park returns immediately
+            Thread.interrupted();
+        }
+        wakeupNeeded = false;
+    }
+
+    /**
+     * Shutdown.
+     * <p>
+     * Tasks submitted before are run, tasks submitted after are rejected.
+     * Wait until all tasks run and the thread stopped, unless called in task.
+     * </p>
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Override
+    public void shutdown() throws InterruptedException {
+        shutdown = true;
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+
+    private static class Task {
+
+        private static final AtomicIntegerFieldUpdater<Task> TAKEN_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Task.class, "taken");
+        private Runnable runnable;
+        private FutureCallback<Object> callback;
+        private Collection<FutureCallback<Object>> callbacks;
+        private volatile Task next;
+        // only used around termination
+        private volatile int taken = 0;
+
+        Task(Runnable runnable, FutureCallback<Object> callback, Collection<FutureCallback<Object>> callbacks) {
+            this.runnable = runnable;
+            this.callback = callback;
+            this.callbacks = callbacks;
+        }
+
+        boolean take() {
+            return TAKEN_UPDATER.compareAndSet(this, 0, 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package in.xnnyygn.xraft.core.support;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Input stream over chunks offered by another thread.
+ * <p>
+ * Reader blocks until next chunk is offered, or the stream is completed or aborted.
+ * Chunks are queued without copying, offer a duplicate if buffer is shared.
+ * </p>
+ * <p>
+ * Offering never blocks. Instead, offer returns {@code false} if bytes queued exceed capacity, the writer should
+ * stop offering until drain listener is called by reader, which happens once queued bytes fall within capacity.
+ * </p>
+ */
+public class PipedChunkInputStream extends InputStream {
+
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+    private final BlockingQueue<ByteBuffer> chunks = new LinkedBlockingQueue<>();
+    private volatile long capacity;
+    private final AtomicLong queuedBytes = new AtomicLong(0);
+    private final AtomicBoolean full = new AtomicBoolean(false);
+    private volatile Runnable drainListener;
+    private volatile boolean aborted = false;
+    private ByteBuffer current;
+    private boolean ended = false;
+
+    /**
+     * Create.
+     *
+     * @param capacity max bytes queued before offer returns {@code false}
+     */
+    public PipedChunkInputStream(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Set listener called in reader thread when queued bytes fall within capacity after being full.
+     *
+     * @param drainListener listener
+     */
+    public void setDrainListener(Runnable drainListener) {
+        this.drainListener = drainListener;
+    }
+
+    /**
+     * Offer chunk.
+     *
+     * @param chunk chunk
+     * @return {@code false} if bytes queued exceed capacity, drain listener will be called later, otherwise {@code true}
+     */
+    public boolean offer(@Nonnull ByteBuffer chunk) {
+        if (!chunk.hasRemaining() || aborted) {
+            return true;
+        }
+        long queued = queuedBytes.addAndGet(chunk.remaining());
+        chunks.add(chunk);
+        if (queued <= capacity) {
+            return true;
+        }
+        full.set(true);
+
+        // reader may have drained chunks before full is set
+        return queuedBytes.get() <= capacity && full.compareAndSet(true, false);
+    }
+
+    /**
+     * Complete stream, reader gets end of stream after all chunks offered are read.
+     */
+    public void complete() {
+        chunks.add(END_OF_STREAM);
+    }
+
+    /**
+     * Remove capacity, offer always returns {@code true} after then, e.g. reader waits for all chunks before reading.
+     */
+    public void removeCapacity() {
+        capacity = Long.MAX_VALUE;
+        drained(0);
+    }
+
+    /**
+     * Abort stream, reader gets {@link IOException} at next read even if there are chunks remaining.
+     * <p>
+     * Chunks queued are dropped, and chunks offered after then are ignored.
+     * </p>
+     */
+    public void abort() {
+        aborted = true;
+        chunks.clear();
+        chunks.add(END_OF_STREAM);
+        queuedBytes.set(0);
+        drained(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer chunk = nextChunk();
+        return chunk != null ? (chunk.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(@Nonnull byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = nextChunk();
+        if (chunk == null) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.remaining());
+        chunk.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkAborted();
+        return current != null ? current.remaining() : 0;
+    }
+
+    private ByteBuffer nextChunk() throws IOException {
+        checkAborted();
+        while (current == null || !current.hasRemaining()) {
+            if (ended) {
+                return null;
+            }
+            try {
+                current = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted when waiting for chunk");
+            }
+            checkAborted();
+            if (current == END_OF_STREAM) {
+                ended = true;
+            } else {
+                drained(current.remaining());
+            }
+        }
+        return current;
+    }
+
+    private void drained(int bytes) {
+        if (queuedBytes.addAndGet(-bytes) <= capacity && full.compareAndSet(true, false)) {
+            Runnable listener = drainListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+
+    private void checkAborted() throws IOException {
+        if (aborted) {
+            throw new IOException("stream aborted");
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package in.xnnyygn.xraft.core.support;
+
+import in.xnnyygn.xraft.core.Protos;
+import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.Address;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Conversion between node endpoint and its protobuf message.
+ */
+public class ProtoNodeEndpoints {
+
+    public static Protos.NodeEndpoint toProto(NodeEndpoint endpoint) {
+        return Protos.NodeEndpoint.newBuilder()
+                .setId(endpoint.getId().getValue())
+                .setHost(endpoint.getHost())
+                .setPort(endpoint.getPort())
+                .setLearner(endpoint.isLearner())
+                .build();
+    }
+
+    public static List<Protos.NodeEndpoint> toProto(Collection<NodeEndpoint> endpoints) {
+        return endpoints.stream().map(ProtoNodeEndpoints::toProto).collect(Collectors.toList());
+    }
+
+    public static NodeEndpoint fromProto(Protos.NodeEndpoint protoEndpoint) {
+        return new NodeEndpoint(new NodeId(protoEndpoint.getId()),
+                new Address(protoEndpoint.getHost(), protoEndpoint.getPort()), protoEndpoint.getLearner());
+    }
+
+    public static Set<NodeEndpoint> fromProto(Collection<Protos.NodeEndpoint> protoEndpoints) {
+        return protoEndpoints.stream().map(ProtoNodeEndpoints::fromProto).collect(Collectors.toSet());
+    }
+
+}
@@ -79,6 +79,11 @@ public class RandomAccessFileAdapter implements SeekableFile {
     public void flush() throws IOException {
     }
 
+    @Override
+    public void sync() throws IOException {
+        randomAccessFile.getFD().sync();
+    }
+
     @Override
     public void close() throws IOException {
         randomAccessFile.close();
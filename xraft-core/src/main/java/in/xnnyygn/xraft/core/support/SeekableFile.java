@@ -29,6 +29,8 @@ public interface SeekableFile {
 
     void flush() throws IOException;
 
+    void sync() throws IOException;
+
     void close() throws IOException;
 
 }
@@ -1,24 +1,40 @@
 package in.xnnyygn.xraft.core.log;
 
-import com.google.common.eventbus.EventBus;
 import in.xnnyygn.xraft.core.log.entry.Entry;
 import in.xnnyygn.xraft.core.log.entry.EntryMeta;
+import in.xnnyygn.xraft.core.log.entry.GeneralEntry;
 import in.xnnyygn.xraft.core.log.entry.GroupConfigEntry;
 import in.xnnyygn.xraft.core.log.entry.NoOpEntry;
+import in.xnnyygn.xraft.core.log.event.LogEventListenerAdapter;
+import in.xnnyygn.xraft.core.log.event.SnapshotConsolidatedEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotDataDrainedEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotInstalledEvent;
+import in.xnnyygn.xraft.core.log.event.SnapshotRestoreAbortedEvent;
 import in.xnnyygn.xraft.core.log.sequence.MemoryEntrySequence;
 import in.xnnyygn.xraft.core.log.snapshot.EntryInSnapshotException;
 import in.xnnyygn.xraft.core.log.snapshot.MemorySnapshot;
+import in.xnnyygn.xraft.core.log.snapshot.Snapshot;
 import in.xnnyygn.xraft.core.log.statemachine.EmptyStateMachine;
 import in.xnnyygn.xraft.core.node.NodeEndpoint;
 import in.xnnyygn.xraft.core.node.NodeId;
 import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpc;
 import in.xnnyygn.xraft.core.rpc.message.InstallSnapshotRpc;
+import in.xnnyygn.xraft.core.support.DirectTaskExecutor;
+import in.xnnyygn.xraft.core.support.SingleThreadTaskExecutor;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MemoryLogTest {
 
@@ -36,7 +52,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 2),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         EntryMeta lastEntryMeta = log.getLastEntryMeta();
         Assert.assertEquals(3, lastEntryMeta.getIndex());
@@ -183,7 +199,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 2),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         AppendEntriesRpc rpc = log.createAppendEntriesRpc(
                 2, new NodeId("A"), 4, Log.ALL_ENTRIES
@@ -199,7 +215,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 2),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         log.createAppendEntriesRpc(
                 2, new NodeId("A"), 3, Log.ALL_ENTRIES
@@ -211,7 +227,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 2),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         log.appendEntry(1); // 4
         log.createAppendEntriesRpc(
@@ -238,7 +254,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4, "test".getBytes(), Collections.emptySet()),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         InstallSnapshotRpc rpc = log.createInstallSnapshotRpc(4, new NodeId("A"), 0, 2);
         Assert.assertEquals(3, rpc.getLastIndex());
@@ -284,7 +300,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         Assert.assertEquals(4, log.getNextIndex());
     }
@@ -350,7 +366,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         Assert.assertTrue(log.appendEntriesFromLeader(3, 4, Collections.emptyList()));
     }
@@ -362,7 +378,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         Assert.assertFalse(log.appendEntriesFromLeader(3, 5, Collections.emptyList()));
     }
@@ -373,7 +389,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         Assert.assertFalse(log.appendEntriesFromLeader(1, 4, Collections.emptyList()));
     }
@@ -545,7 +561,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         log.setStateMachine(stateMachine);
         log.appendEntry(4, "test".getBytes()); // index 4
@@ -568,7 +584,7 @@ public class MemoryLogTest {
         MemoryLog log = new MemoryLog(
                 new MemorySnapshot(3, 4),
                 new MemoryEntrySequence(4),
-                new EventBus()
+                new LogEventListenerAdapter()
         );
         InstallSnapshotRpc rpc = new InstallSnapshotRpc();
         rpc.setLastIndex(2);
@@ -610,4 +626,368 @@ public class MemoryLogTest {
         Assert.assertEquals(0, stateMachine.getLastApplied());
     }
 
+    @Test
+    public void testLoadCheckpoint() {
+        MemoryLog log = new MemoryLog(
+                new MemorySnapshot(3, 1),
+                new MemoryEntrySequence(4),
+                new LogEventListenerAdapter()
+        );
+        log.appendEntry(1, "a".getBytes()); // 4
+        log.appendEntry(1, "b".getBytes()); // 5
+        log.appendEntry(1, "c".getBytes()); // 6
+        MockCheckpointStateMachine stateMachine = new MockCheckpointStateMachine(5);
+        log.setStateMachine(stateMachine);
+        log.advanceCommitIndex(6, 1);
+        Assert.assertEquals(0, stateMachine.getSnapshotApplied());
+        Assert.assertEquals(Collections.singletonList(6), stateMachine.getAppliedIndices());
+    }
+
+    @Test
+    public void testLoadCheckpointAllApplied() {
+        MemoryLog log = new MemoryLog();
+        log.appendEntry(1, "a".getBytes()); // 1
+        log.appendEntry(1, "b".getBytes()); // 2
+        MockCheckpointStateMachine stateMachine = new MockCheckpointStateMachine(3);
+        log.setStateMachine(stateMachine);
+        log.advanceCommitIndex(2, 1);
+        Assert.assertTrue(stateMachine.getAppliedIndices().isEmpty());
+    }
+
+    @Test
+    public void testLoadCheckpointOlderThanSnapshot() {
+        MemoryLog log = new MemoryLog(
+                new MemorySnapshot(3, 1),
+                new MemoryEntrySequence(4),
+                new LogEventListenerAdapter()
+        );
+        log.appendEntry(1, "a".getBytes()); // 4
+        MockCheckpointStateMachine stateMachine = new MockCheckpointStateMachine(2);
+        log.setStateMachine(stateMachine);
+        Assert.assertEquals(3, stateMachine.getSnapshotApplied());
+        log.advanceCommitIndex(4, 1);
+        Assert.assertEquals(Collections.singletonList(4), stateMachine.getAppliedIndices());
+    }
+
+    @Test
+    public void testGenerateDeltaSnapshot() {
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(10);
+        MemoryLog log = new MemoryLog();
+        log.setStateMachine(stateMachine);
+        log.appendEntry(1, "a".getBytes()); // 1
+        log.appendEntry(1, "b".getBytes()); // 2
+        log.advanceCommitIndex(2, 1);
+        log.generateSnapshot(1, Collections.emptySet());
+        Assert.assertNull(log.snapshot.getBase());
+        log.generateSnapshot(2, Collections.emptySet());
+        Assert.assertEquals(2, log.snapshot.getLastIncludedIndex());
+        Assert.assertNotNull(log.snapshot.getBase());
+        Assert.assertEquals(1, log.snapshot.getBase().getLastIncludedIndex());
+        Assert.assertArrayEquals("".getBytes(), ((MemorySnapshot) log.snapshot).getData());
+    }
+
+    @Test
+    public void testCreateInstallSnapshotRpcDelta() {
+        MemorySnapshot base = new MemorySnapshot(3, 1, "ab".getBytes(), Collections.emptySet());
+        MemoryLog log = new MemoryLog(
+                new MemorySnapshot(5, 2, "c".getBytes(), Collections.emptySet(), base),
+                new MemoryEntrySequence(6),
+                new LogEventListenerAdapter()
+        );
+        InstallSnapshotRpc rpc = log.createInstallSnapshotRpc(2, new NodeId("A"), 0, 10);
+        Assert.assertEquals(3, rpc.getLastIndex());
+        Assert.assertEquals(0, rpc.getBaseIndex());
+        Assert.assertArrayEquals("ab".getBytes(), rpc.getData());
+        rpc = log.createInstallSnapshotRpc(2, new NodeId("A"), 3, 0, 10);
+        Assert.assertNotNull(rpc);
+        Assert.assertEquals(5, rpc.getLastIndex());
+        Assert.assertEquals(3, rpc.getBaseIndex());
+        Assert.assertArrayEquals("c".getBytes(), rpc.getData());
+        Assert.assertNull(log.createInstallSnapshotRpc(2, new NodeId("A"), 5, 0, 10));
+    }
+
+    @Test
+    public void testInstallDeltaSnapshot() {
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(10);
+        MemoryLog log = new MemoryLog();
+        log.setStateMachine(stateMachine);
+        InstallSnapshotRpc rpc = new InstallSnapshotRpc();
+        rpc.setLastIndex(3);
+        rpc.setLastTerm(1);
+        rpc.setLastConfig(Collections.emptySet());
+        rpc.setData("ab".getBytes());
+        rpc.setDone(true);
+        log.installSnapshot(rpc);
+        rpc = new InstallSnapshotRpc();
+        rpc.setLastIndex(5);
+        rpc.setLastTerm(2);
+        rpc.setBaseIndex(3);
+        rpc.setLastConfig(Collections.emptySet());
+        rpc.setData("c".getBytes());
+        rpc.setDone(true);
+        Assert.assertEquals(InstallSnapshotState.StateName.INSTALLED, log.installSnapshot(rpc).getStateName());
+        Assert.assertEquals(5, log.commitIndex);
+        Assert.assertEquals(5, stateMachine.getLastApplied());
+        Assert.assertEquals("abc", stateMachine.getState());
+        Assert.assertEquals(3, log.snapshot.getBase().getLastIncludedIndex());
+    }
+
+    @Test
+    public void testInstallDeltaSnapshotBaseNotMatch() {
+        MemoryLog log = new MemoryLog(
+                new MemorySnapshot(2, 1),
+                new MemoryEntrySequence(3),
+                new LogEventListenerAdapter()
+        );
+        InstallSnapshotRpc rpc = new InstallSnapshotRpc();
+        rpc.setLastIndex(5);
+        rpc.setLastTerm(2);
+        rpc.setBaseIndex(3);
+        rpc.setLastConfig(Collections.emptySet());
+        rpc.setData("c".getBytes());
+        Assert.assertEquals(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC, log.installSnapshot(rpc).getStateName());
+    }
+
+    @Test
+    public void testConsolidateSnapshot() {
+        AtomicReference<MemoryLog> logRef = new AtomicReference<>();
+        MemoryLog log = new MemoryLog(new LogEventListenerAdapter() {
+            @Override
+            public void onSnapshotConsolidated(SnapshotConsolidatedEvent event) {
+                logRef.get().replaceSnapshotChain(event.getSnapshot());
+            }
+        });
+        logRef.set(log);
+        log.snapshotConsolidationExecutor = new DirectTaskExecutor(true);
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(2);
+        log.setStateMachine(stateMachine);
+        log.appendEntry(1, "a".getBytes()); // 1
+        log.appendEntry(1, "b".getBytes()); // 2
+        log.appendEntry(1, "c".getBytes()); // 3
+        log.advanceCommitIndex(3, 1);
+        log.generateSnapshot(1, Collections.emptySet());
+        log.generateSnapshot(2, Collections.emptySet());
+        Assert.assertNotNull(log.snapshot.getBase());
+        log.generateSnapshot(3, Collections.emptySet());
+        Assert.assertEquals(3, log.snapshot.getLastIncludedIndex());
+        Assert.assertNull(log.snapshot.getBase());
+        Assert.assertArrayEquals("abc".getBytes(), ((MemorySnapshot) log.snapshot).getData());
+    }
+
+    private MemoryLog newLogInstallingSnapshotInBackground(List<Snapshot> installedSnapshots) {
+        return newLogInstallingSnapshotInBackground(installedSnapshots, new CountDownLatch(1));
+    }
+
+    private MemoryLog newLogInstallingSnapshotInBackground(List<Snapshot> installedSnapshots, CountDownLatch restoreAbortedLatch) {
+        MemoryLog log = new MemoryLog(new LogEventListenerAdapter() {
+            @Override
+            public void onSnapshotInstalled(SnapshotInstalledEvent event) {
+                installedSnapshots.add(event.getSnapshot());
+            }
+
+            @Override
+            public void onSnapshotRestoreAborted(SnapshotRestoreAbortedEvent event) {
+                restoreAbortedLatch.countDown();
+            }
+        });
+        log.snapshotInstallInBackground = true;
+        log.snapshotWriteExecutor = new DirectTaskExecutor(true);
+        log.snapshotRestoreExecutor = new SingleThreadTaskExecutor("snapshot-restore");
+        return log;
+    }
+
+    private InstallSnapshotRpc createInstallSnapshotRpc(int lastIndex, int baseIndex, int offset, String data, boolean done) {
+        InstallSnapshotRpc rpc = new InstallSnapshotRpc();
+        rpc.setLastIndex(lastIndex);
+        rpc.setLastTerm(1);
+        rpc.setBaseIndex(baseIndex);
+        if (offset == 0) {
+            rpc.setLastConfig(Collections.emptySet());
+        }
+        rpc.setOffset(offset);
+        rpc.setData(data.getBytes());
+        rpc.setDone(done);
+        return rpc;
+    }
+
+    @Test
+    public void testInstallSnapshotInBackground() {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        MemoryLog log = newLogInstallingSnapshotInBackground(installedSnapshots);
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(10);
+        log.setStateMachine(stateMachine);
+        Assert.assertEquals(InstallSnapshotState.StateName.INSTALLING,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", false)).getStateName());
+        Assert.assertFalse(log.isRestoringSnapshot());
+        Assert.assertEquals(InstallSnapshotState.StateName.RESTORING,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 2, "c", true)).getStateName());
+        Assert.assertTrue(log.isRestoringSnapshot());
+        Assert.assertEquals(0, log.commitIndex);
+        Assert.assertEquals(1, installedSnapshots.size());
+        Assert.assertEquals("abc", stateMachine.getState());
+
+        // first chunk sent again when restoring
+        Assert.assertEquals(InstallSnapshotState.StateName.RESTORING,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", false)).getStateName());
+        Assert.assertTrue(log.isRestoringSnapshot());
+
+        InstallSnapshotState state = log.replaceInstalledSnapshot(installedSnapshots.get(0));
+        Assert.assertEquals(InstallSnapshotState.StateName.INSTALLED, state.getStateName());
+        Assert.assertNotNull(state.getLastConfig());
+        Assert.assertFalse(log.isRestoringSnapshot());
+        Assert.assertEquals(3, log.commitIndex);
+        Assert.assertEquals(3, log.snapshot.getLastIncludedIndex());
+        Assert.assertArrayEquals("abc".getBytes(), ((MemorySnapshot) log.snapshot).getData());
+        log.close();
+    }
+
+    @Test
+    public void testInstallSnapshotInBackgroundPaused() throws InterruptedException {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        CountDownLatch drainedLatch = new CountDownLatch(1);
+        MemoryLog log = new MemoryLog(new LogEventListenerAdapter() {
+            @Override
+            public void onSnapshotInstalled(SnapshotInstalledEvent event) {
+                installedSnapshots.add(event.getSnapshot());
+            }
+
+            @Override
+            public void onSnapshotDataDrained(SnapshotDataDrainedEvent event) {
+                drainedLatch.countDown();
+            }
+        });
+        log.snapshotInstallInBackground = true;
+        log.snapshotWriteExecutor = new DirectTaskExecutor(true);
+        log.snapshotRestoreExecutor = new SingleThreadTaskExecutor("snapshot-restore");
+        CountDownLatch restoreLatch = new CountDownLatch(1);
+        AtomicLong restoredBytes = new AtomicLong(0);
+        log.setStateMachine(new EmptyStateMachine() {
+            @Override
+            public void applySnapshot(@Nonnull Snapshot snapshot) throws IOException {
+                try {
+                    restoreLatch.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                InputStream input = snapshot.getDataStream();
+                byte[] buffer = new byte[8192];
+                int n;
+                while ((n = input.read(buffer)) > 0) {
+                    restoredBytes.addAndGet(n);
+                }
+                super.applySnapshot(snapshot);
+            }
+        });
+        InstallSnapshotRpc rpc = createInstallSnapshotRpc(3, 0, 0, "", false);
+        rpc.setData(new byte[5 * 1024 * 1024]);
+        Assert.assertEquals(InstallSnapshotState.StateName.PAUSED, log.installSnapshot(rpc).getStateName());
+
+        // restoring drains chunks
+        restoreLatch.countDown();
+        Assert.assertTrue(drainedLatch.await(1, TimeUnit.SECONDS));
+        Assert.assertEquals(InstallSnapshotState.StateName.RESTORING,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 5 * 1024 * 1024, "a", true)).getStateName());
+        Assert.assertEquals(1, installedSnapshots.size());
+        Assert.assertEquals(5 * 1024 * 1024 + 1, restoredBytes.get());
+        log.close();
+    }
+
+    @Test
+    public void testInstallSnapshotInBackgroundReadData() {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        MemoryLog log = newLogInstallingSnapshotInBackground(installedSnapshots);
+        StringBuilder state = new StringBuilder();
+        log.setStateMachine(new EmptyStateMachine() {
+            @Override
+            public void applySnapshot(@Nonnull Snapshot snapshot) throws IOException {
+                int size = (int) snapshot.getDataSize();
+                state.append(new String(snapshot.readData(0, size).toByteArray()));
+                super.applySnapshot(snapshot);
+            }
+        });
+        log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", false));
+        Assert.assertEquals(InstallSnapshotState.StateName.RESTORING,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 2, "c", true)).getStateName());
+        Assert.assertEquals(1, installedSnapshots.size());
+        Assert.assertEquals("abc", state.toString());
+        log.close();
+    }
+
+    @Test
+    public void testInstallDeltaSnapshotInBackground() {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        MemoryLog log = newLogInstallingSnapshotInBackground(installedSnapshots);
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(10);
+        log.setStateMachine(stateMachine);
+        log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", true));
+        log.replaceInstalledSnapshot(installedSnapshots.get(0));
+        Assert.assertEquals(InstallSnapshotState.StateName.RESTORING,
+                log.installSnapshot(createInstallSnapshotRpc(5, 3, 0, "c", true)).getStateName());
+        Assert.assertEquals(InstallSnapshotState.StateName.INSTALLED,
+                log.replaceInstalledSnapshot(installedSnapshots.get(1)).getStateName());
+        Assert.assertEquals(5, log.commitIndex);
+        Assert.assertEquals(5, stateMachine.getLastApplied());
+        Assert.assertEquals("abc", stateMachine.getState());
+        Assert.assertEquals(3, log.snapshot.getBase().getLastIncludedIndex());
+        log.close();
+    }
+
+    @Test
+    public void testInstallSnapshotInBackgroundUnexpectedChunk() {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        MemoryLog log = newLogInstallingSnapshotInBackground(installedSnapshots);
+        log.setStateMachine(new MockDeltaStateMachine(10));
+        Assert.assertEquals(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 2, "c", true)).getStateName());
+        log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", false));
+        Assert.assertEquals(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC,
+                log.installSnapshot(createInstallSnapshotRpc(3, 0, 1, "c", true)).getStateName());
+        log.close();
+    }
+
+    @Test
+    public void testInstallSnapshotInBackgroundAborted() {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        MemoryLog log = newLogInstallingSnapshotInBackground(installedSnapshots);
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(10);
+        log.setStateMachine(stateMachine);
+        log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", true));
+        Assert.assertEquals(1, installedSnapshots.size());
+
+        // new snapshot from leader before installed one is replaced
+        log.installSnapshot(createInstallSnapshotRpc(4, 0, 0, "abcd", false));
+        Assert.assertEquals(InstallSnapshotState.StateName.ILLEGAL_INSTALL_SNAPSHOT_RPC,
+                log.replaceInstalledSnapshot(installedSnapshots.get(0)).getStateName());
+        Assert.assertEquals(0, log.snapshot.getLastIncludedIndex());
+        log.installSnapshot(createInstallSnapshotRpc(4, 0, 4, "e", true));
+        Assert.assertEquals(2, installedSnapshots.size());
+        Assert.assertEquals(InstallSnapshotState.StateName.INSTALLED,
+                log.replaceInstalledSnapshot(installedSnapshots.get(1)).getStateName());
+        Assert.assertEquals(4, log.commitIndex);
+        Assert.assertEquals("abcde", stateMachine.getState());
+        log.close();
+    }
+
+    @Test
+    public void testAppendEntriesFromLeaderAbortSnapshotInstallation() throws InterruptedException {
+        List<Snapshot> installedSnapshots = new ArrayList<>();
+        CountDownLatch restoreAbortedLatch = new CountDownLatch(1);
+        MemoryLog log = newLogInstallingSnapshotInBackground(installedSnapshots, restoreAbortedLatch);
+        MockDeltaStateMachine stateMachine = new MockDeltaStateMachine(10);
+        log.setStateMachine(stateMachine);
+        log.appendEntry(1, "x".getBytes()); // 1
+        log.advanceCommitIndex(1, 1);
+        Assert.assertEquals("x", stateMachine.getState());
+        log.installSnapshot(createInstallSnapshotRpc(3, 0, 0, "ab", false));
+        Assert.assertTrue(log.appendEntriesFromLeader(1, 1, Collections.singletonList(new GeneralEntry(2, 1, "y".getBytes()))));
+        Assert.assertFalse(log.isRestoringSnapshot());
+
+        // state machine is dirty, reapply from start after restoring stops
+        Assert.assertTrue(restoreAbortedLatch.await(1, TimeUnit.SECONDS));
+        log.advanceCommitIndex(2, 1);
+        Assert.assertEquals(2, stateMachine.getLastApplied());
+        Assert.assertEquals("xy", stateMachine.getState());
+        log.close();
+    }
+
 }
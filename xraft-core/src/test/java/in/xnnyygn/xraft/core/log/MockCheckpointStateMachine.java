@@ -0,0 +1,67 @@
+package in.xnnyygn.xraft.core.log;
+
+import in.xnnyygn.xraft.core.log.snapshot.Snapshot;
+import in.xnnyygn.xraft.core.log.statemachine.CheckpointStateMachine;
+import in.xnnyygn.xraft.core.log.statemachine.StateMachineContext;
+
+import javax.annotation.Nonnull;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MockCheckpointStateMachine implements CheckpointStateMachine {
+
+    private final int checkpoint;
+    private final List<Integer> appliedIndices = new ArrayList<>();
+    private int lastApplied = 0;
+    private int snapshotApplied = 0;
+
+    public MockCheckpointStateMachine(int checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    @Override
+    public int loadCheckpoint() {
+        lastApplied = checkpoint;
+        return checkpoint;
+    }
+
+    @Override
+    public int getLastApplied() {
+        return lastApplied;
+    }
+
+    @Override
+    public void applyLog(StateMachineContext context, int index, @Nonnull byte[] commandBytes, int firstLogIndex) {
+        appliedIndices.add(index);
+        lastApplied = index;
+    }
+
+    @Override
+    public boolean shouldGenerateSnapshot(int firstLogIndex, int lastApplied) {
+        return false;
+    }
+
+    @Override
+    public void generateSnapshot(@Nonnull OutputStream output) {
+    }
+
+    @Override
+    public void applySnapshot(@Nonnull Snapshot snapshot) {
+        snapshotApplied = snapshot.getLastIncludedIndex();
+        lastApplied = snapshot.getLastIncludedIndex();
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    public List<Integer> getAppliedIndices() {
+        return appliedIndices;
+    }
+
+    public int getSnapshotApplied() {
+        return snapshotApplied;
+    }
+
+}
@@ -0,0 +1,97 @@
+package in.xnnyygn.xraft.core.log;
+
+import in.xnnyygn.xraft.core.log.snapshot.Snapshot;
+import in.xnnyygn.xraft.core.log.statemachine.DeltaStateMachine;
+import in.xnnyygn.xraft.core.log.statemachine.StateMachineContext;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.List;
+
+public class MockDeltaStateMachine implements DeltaStateMachine {
+
+    private final int maxDeltaSnapshots;
+    private final StringBuilder state = new StringBuilder();
+    private final StringBuilder changes = new StringBuilder();
+    private int lastApplied = 0;
+
+    public MockDeltaStateMachine(int maxDeltaSnapshots) {
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
+    }
+
+    @Override
+    public int getMaxDeltaSnapshots() {
+        return maxDeltaSnapshots;
+    }
+
+    @Override
+    public int getLastApplied() {
+        return lastApplied;
+    }
+
+    @Override
+    public void applyLog(StateMachineContext context, int index, @Nonnull byte[] commandBytes, int firstLogIndex) {
+        state.append(new String(commandBytes));
+        changes.append(new String(commandBytes));
+        lastApplied = index;
+    }
+
+    @Override
+    public boolean shouldGenerateSnapshot(int firstLogIndex, int lastApplied) {
+        return false;
+    }
+
+    @Override
+    public void generateSnapshot(@Nonnull OutputStream output) throws IOException {
+        output.write(state.toString().getBytes());
+        changes.setLength(0);
+    }
+
+    @Override
+    public void generateDeltaSnapshot(@Nonnull OutputStream output) throws IOException {
+        output.write(changes.toString().getBytes());
+        changes.setLength(0);
+    }
+
+    @Override
+    public void applySnapshot(@Nonnull Snapshot snapshot) throws IOException {
+        state.setLength(0);
+        state.append(readAll(snapshot.getDataStream()));
+        changes.setLength(0);
+        lastApplied = snapshot.getLastIncludedIndex();
+    }
+
+    @Override
+    public void applyDeltaSnapshot(@Nonnull Snapshot snapshot) throws IOException {
+        state.append(readAll(snapshot.getDataStream()));
+        changes.setLength(0);
+        lastApplied = snapshot.getLastIncludedIndex();
+    }
+
+    @Override
+    public void consolidateSnapshot(@Nonnull InputStream base, @Nonnull List<InputStream> deltas, @Nonnull OutputStream output) throws IOException {
+        output.write(readAll(base).getBytes());
+        for (InputStream delta : deltas) {
+            output.write(readAll(delta).getBytes());
+        }
+    }
+
+    private String readAll(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64];
+        int n;
+        while ((n = input.read(buffer)) > 0) {
+            output.write(buffer, 0, n);
+        }
+        return output.toString();
+    }
+
+    public String getState() {
+        return state.toString();
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+}
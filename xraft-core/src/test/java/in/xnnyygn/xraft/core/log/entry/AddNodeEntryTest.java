@@ -21,4 +21,27 @@ public class AddNodeEntryTest {
         Assert.assertEquals(NodeId.of("A"), nodeEndpoints.iterator().next().getId());
     }
 
+    @Test
+    public void testGetResultNodeEndpointsPromoteLearner() {
+        AddNodeEntry entry = new AddNodeEntry(1, 1,
+                Collections.singleton(new NodeEndpoint("A", "localhost", 2333).toLearner()),
+                new NodeEndpoint("A", "localhost", 2333));
+        Set<NodeEndpoint> nodeEndpoints = entry.getResultNodeEndpoints();
+        Assert.assertEquals(1, nodeEndpoints.size());
+        Assert.assertFalse(nodeEndpoints.iterator().next().isLearner());
+    }
+
+    @Test
+    public void testCommandBytesLearner() {
+        AddNodeEntry entry = new AddNodeEntry(1, 1,
+                Collections.singleton(new NodeEndpoint("A", "localhost", 2333)),
+                new NodeEndpoint("B", "localhost", 2334).toLearner());
+        AddNodeEntry entry2 = (AddNodeEntry) new EntryFactory().create(Entry.KIND_ADD_NODE, 1, 1, entry.getCommandBytes());
+        Assert.assertFalse(entry2.getNodeEndpoints().iterator().next().isLearner());
+        NodeEndpoint newNodeEndpoint = entry2.getNewNodeEndpoint();
+        Assert.assertEquals(NodeId.of("B"), newNodeEndpoint.getId());
+        Assert.assertEquals(2334, newNodeEndpoint.getPort());
+        Assert.assertTrue(newNodeEndpoint.isLearner());
+    }
+
 }
\ No newline at end of file
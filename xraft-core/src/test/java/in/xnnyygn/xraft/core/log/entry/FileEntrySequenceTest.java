@@ -385,4 +385,70 @@ public class FileEntrySequenceTest {
         Assert.assertEquals(1, sequence.getLastLogIndex());
     }
 
+    @Test
+    public void testFlush() throws IOException {
+        FileEntrySequence sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        sequence.append(new NoOpEntry(1, 1));
+        sequence.append(new NoOpEntry(2, 1));
+        Assert.assertEquals(2, sequence.flush());
+        Assert.assertEquals(0, sequence.getCommitIndex());
+        Assert.assertTrue(entryIndexFile.isEmpty());
+        long size = entriesFile.size();
+        Assert.assertTrue(size > 0);
+        sequence.append(new NoOpEntry(3, 1));
+        sequence.commit(3);
+        Assert.assertEquals(3, entryIndexFile.getMaxEntryIndex());
+        Assert.assertEquals(size, entryIndexFile.getOffset(3));
+        Assert.assertEquals(3, sequence.flush());
+    }
+
+    @Test
+    public void testInitializeFlushedEntries() {
+        FileEntrySequence sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        sequence.append(new NoOpEntry(1, 1));
+        sequence.append(new GeneralEntry(2, 1, "test".getBytes()));
+        sequence.append(new NoOpEntry(3, 1));
+        sequence.commit(1);
+        sequence.flush();
+        sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        Assert.assertEquals(1, sequence.getCommitIndex());
+        Assert.assertEquals(3, sequence.getLastLogIndex());
+        Assert.assertEquals("test", new String(sequence.getEntry(2).getCommandBytes()));
+        sequence.commit(3);
+        Assert.assertEquals(3, entryIndexFile.getMaxEntryIndex());
+    }
+
+    @Test
+    public void testInitializeIncompleteFlushedEntry() throws IOException {
+        FileEntrySequence sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        sequence.append(new NoOpEntry(1, 1));
+        sequence.append(new GeneralEntry(2, 1, "test".getBytes()));
+        sequence.flush();
+        entriesFile.truncate(entriesFile.size() - 1);
+        sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        Assert.assertEquals(1, sequence.getLastLogIndex());
+        Assert.assertEquals(1, sequence.flush());
+        sequence.append(new NoOpEntry(2, 1));
+        Assert.assertEquals(2, sequence.flush());
+        sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        Assert.assertEquals(2, sequence.getLastLogIndex());
+    }
+
+    @Test
+    public void testRemoveAfterFlushedEntries() throws IOException {
+        FileEntrySequence sequence = new FileEntrySequence(entriesFile, entryIndexFile, 1);
+        sequence.append(new NoOpEntry(1, 1));
+        sequence.flush();
+        long size = entriesFile.size();
+        sequence.append(new NoOpEntry(2, 1));
+        sequence.append(new NoOpEntry(3, 1));
+        sequence.flush();
+        sequence.removeAfter(1);
+        Assert.assertEquals(size, entriesFile.size());
+        Assert.assertEquals(1, sequence.flush());
+        sequence.append(new NoOpEntry(2, 2));
+        sequence.commit(2);
+        Assert.assertEquals(2, sequence.getEntry(2).getTerm());
+    }
+
 }
\ No newline at end of file
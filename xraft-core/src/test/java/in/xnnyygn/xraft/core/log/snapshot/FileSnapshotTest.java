@@ -7,7 +7,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 public class FileSnapshotTest {
 
@@ -32,4 +35,81 @@ public class FileSnapshotTest {
         Assert.assertTrue(chunk.isLastChunk());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testReadDataWithoutCopy() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FileSnapshotWriter writer = new FileSnapshotWriter(output, 1, 2, ImmutableSet.of(
+                new NodeEndpoint("A", "localhost", 2333)
+        ));
+        writer.write("hello world".getBytes());
+        writer.close();
+
+        FileSnapshot snapshot = new FileSnapshot(new ByteArraySeekableFile(output.toByteArray()));
+        SnapshotChunk chunk = snapshot.readData(6, 10);
+        ByteBuffer buffer = chunk.toByteBuffer();
+        Assert.assertTrue(buffer.isReadOnly());
+        Assert.assertEquals(5, buffer.remaining());
+        Assert.assertArrayEquals("world".getBytes(), chunk.toByteArray());
+        Assert.assertTrue(chunk.isLastChunk());
+
+        InputStream input = snapshot.getDataStream();
+        byte[] data = new byte[11];
+        Assert.assertEquals(11, input.read(data));
+        Assert.assertArrayEquals("hello world".getBytes(), data);
+        Assert.assertEquals(-1, input.read());
+    }
+
+    @Test
+    public void testMultipleRegions() throws IOException {
+        File file = File.createTempFile("snapshot", ".ss");
+        file.deleteOnExit();
+        FileSnapshotWriter writer = new FileSnapshotWriter(file, 1, 2, ImmutableSet.of(
+                new NodeEndpoint("A", "localhost", 2333)
+        ));
+        writer.write("abcdefghij".getBytes());
+        writer.close();
+
+        FileSnapshot snapshot = new FileSnapshot(file, 4);
+        Assert.assertEquals(10, snapshot.getDataSize());
+
+        // in one region
+        SnapshotChunk chunk = snapshot.readData(4, 4);
+        Assert.assertTrue(chunk.toByteBuffer().isDirect());
+        Assert.assertArrayEquals("efgh".getBytes(), chunk.toByteArray());
+        Assert.assertFalse(chunk.isLastChunk());
+
+        // across regions
+        chunk = snapshot.readData(2, 7);
+        Assert.assertArrayEquals("cdefghi".getBytes(), chunk.toByteArray());
+        Assert.assertFalse(chunk.isLastChunk());
+        Assert.assertTrue(snapshot.readData(8, 4).isLastChunk());
+
+        InputStream input = snapshot.getDataStream();
+        byte[] data = new byte[10];
+        Assert.assertEquals(10, readFully(input, data));
+        Assert.assertArrayEquals("abcdefghij".getBytes(), data);
+        Assert.assertEquals(-1, input.read());
+    }
+
+    private int readFully(InputStream input, byte[] data) throws IOException {
+        int n = 0;
+        int m;
+        while (n < data.length && (m = input.read(data, n, data.length - n)) > 0) {
+            n += m;
+        }
+        return n;
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReadDataAfterClosed() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FileSnapshotWriter writer = new FileSnapshotWriter(output, 1, 2, ImmutableSet.of());
+        writer.write("test".getBytes());
+        writer.close();
+
+        FileSnapshot snapshot = new FileSnapshot(new ByteArraySeekableFile(output.toByteArray()));
+        snapshot.close();
+        snapshot.readData(0, 4);
+    }
+
+}
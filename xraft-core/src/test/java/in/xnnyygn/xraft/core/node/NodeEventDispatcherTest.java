@@ -0,0 +1,71 @@
+package in.xnnyygn.xraft.core.node;
+
+import in.xnnyygn.xraft.core.log.entry.Entry;
+import in.xnnyygn.xraft.core.rpc.MockConnector;
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpc;
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpcMessage;
+import in.xnnyygn.xraft.core.rpc.message.LazyEntryList;
+import in.xnnyygn.xraft.core.rpc.message.RequestVoteResult;
+import in.xnnyygn.xraft.core.schedule.NullScheduler;
+import in.xnnyygn.xraft.core.support.EventLoopTaskExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class NodeEventDispatcherTest {
+
+    private static class CountingLazyEntryList extends LazyEntryList {
+
+        private int released = 0;
+
+        @Override
+        protected List<Entry> decode() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected void doRelease() {
+            released++;
+        }
+
+    }
+
+    private static AppendEntriesRpcMessage newAppendEntriesRpcMessage(LazyEntryList entries) {
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setEntries(entries);
+        return new AppendEntriesRpcMessage(rpc, NodeId.of("B"), null);
+    }
+
+    @Test
+    public void testNodeNotBound() {
+        NodeEventDispatcher dispatcher = new NodeEventDispatcher();
+        dispatcher.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        CountingLazyEntryList entries = new CountingLazyEntryList();
+        dispatcher.onReceiveAppendEntriesRpc(newAppendEntriesRpcMessage(entries));
+        Assert.assertEquals(1, entries.released);
+    }
+
+    @Test
+    public void testExceptionThrownByNode() throws InterruptedException {
+        EventLoopTaskExecutor taskExecutor = new EventLoopTaskExecutor("node");
+        NodeImpl node = (NodeImpl) new NodeBuilder(Collections.singletonList(new NodeEndpoint("A", "localhost", 2333)), NodeId.of("A"))
+                .setScheduler(new NullScheduler())
+                .setConnector(new MockConnector())
+                .setTaskExecutor(taskExecutor)
+                .build();
+        taskExecutor.shutdown();
+        NodeEventDispatcher dispatcher = new NodeEventDispatcher();
+        dispatcher.bind(node);
+
+        // rejected by task executor
+        dispatcher.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        CountingLazyEntryList entries = new CountingLazyEntryList();
+        dispatcher.onReceiveAppendEntriesRpc(newAppendEntriesRpcMessage(entries));
+        Assert.assertEquals(1, entries.released);
+    }
+
+}
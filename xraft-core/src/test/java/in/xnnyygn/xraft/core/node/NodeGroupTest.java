@@ -33,6 +33,21 @@ public class NodeGroupTest {
         Assert.assertEquals(2, group.getCountOfMajor());
     }
 
+    @Test
+    public void testFindSnapshotTransferDelegate() {
+        NodeGroup group = new NodeGroup(new NodeEndpoint("A", "localhost", 2333));
+        group.addNode(new NodeEndpoint("B", "localhost", 2334), 1, 0, true);
+        group.addNode(new NodeEndpoint("C", "localhost", 2335), 11, 10, true);
+        group.addNode(new NodeEndpoint("D", "localhost", 2336), 13, 12, true);
+        group.addNode(new NodeEndpoint("E", "localhost", 2337), 21, 20, false);
+        Assert.assertEquals(NodeId.of("D"), group.findSnapshotTransferDelegate(NodeId.of("B"), 10).getId());
+        Assert.assertNull(group.findSnapshotTransferDelegate(NodeId.of("B"), 13));
+
+        // D is busy
+        group.findMember(NodeId.of("B")).startSnapshotTransfer(NodeId.of("D"));
+        Assert.assertEquals(NodeId.of("C"), group.findSnapshotTransferDelegate(NodeId.of("E"), 10).getId());
+    }
+
     @Test
     public void testUpgrade() {
         NodeGroup group = new NodeGroup(new NodeEndpoint("A", "localhost", 2333));
@@ -199,11 +214,82 @@ public class NodeGroupTest {
         Assert.assertEquals(2, group.listEndpointOfMajorExceptSelf().size());
     }
 
+    // (A, self, major, 10), (B, peer, major, 5), (C, peer, major, 0) -> downgrade B, add D
+    @Test
+    public void testGetMatchIndexOfMajorMembershipChanged() {
+        NodeGroup group = new NodeGroup(Arrays.asList(
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ), NodeId.of("A"));
+        group.resetReplicatingStates(11);
+        group.findMember(NodeId.of("B")).advanceReplicatingState(5);
+        Assert.assertEquals(5, group.getMatchIndexOfMajor(10));
+        Assert.assertEquals(2, group.listReplicationTarget().size());
+        group.downgrade(NodeId.of("B"));
+        Assert.assertEquals(0, group.getMatchIndexOfMajor(10));
+        group.addNode(new NodeEndpoint("D", "localhost", 2336), 11, 10, true);
+        Assert.assertEquals(10, group.getMatchIndexOfMajor(10));
+        Assert.assertEquals(3, group.listReplicationTarget().size());
+        Assert.assertEquals(3, group.getCountOfMajor());
+        Assert.assertEquals(2, group.listEndpointOfMajorExceptSelf().size());
+    }
+
+    // (A, self, now 300), (B, peer, 100), (C, peer, 200)
+    @Test
+    public void testGetQuorumContactAt() {
+        NodeGroup group = new NodeGroup(Arrays.asList(
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ), NodeId.of("A"));
+        group.resetReplicatingStates(1);
+        group.findMember(NodeId.of("B")).contactAt(100L);
+        group.findMember(NodeId.of("C")).contactAt(200L);
+        Assert.assertEquals(200L, group.getQuorumContactAt(300L));
+        group.findMember(NodeId.of("C")).contactAt(50L);
+        Assert.assertEquals(100L, group.getQuorumContactAt(300L));
+    }
+
+    @Test
+    public void testGetQuorumContactAtStandalone() {
+        NodeGroup group = new NodeGroup(new NodeEndpoint("A", "localhost", 2333));
+        Assert.assertEquals(300L, group.getQuorumContactAt(300L));
+    }
+
+    // (A, self, major), (B, peer, major), (C, peer, learner)
+    @Test
+    public void testLearner() {
+        NodeGroup group = new NodeGroup(Arrays.asList(
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335).toLearner()
+        ), NodeId.of("A"));
+        group.resetReplicatingStates(11);
+        Assert.assertTrue(group.isLearner(NodeId.of("C")));
+        Assert.assertFalse(group.isMemberOfMajor(NodeId.of("C")));
+        Assert.assertEquals(2, group.getCountOfMajor());
+        Assert.assertEquals(2, group.listReplicationTarget().size());
+        Assert.assertEquals(3, group.listEndpointOfConfig().size());
+        // learner does not count
+        group.findMember(NodeId.of("C")).advanceReplicatingState(10);
+        Assert.assertEquals(0, group.getMatchIndexOfMajor(10));
+
+        group.promote(NodeId.of("C"));
+        Assert.assertFalse(group.isLearner(NodeId.of("C")));
+        Assert.assertEquals(3, group.getCountOfMajor());
+        Assert.assertEquals(10, group.getMatchIndexOfMajor(10));
+        Assert.assertEquals(10, group.findMember(NodeId.of("C")).getMatchIndex());
+    }
+
     @Test
     public void testIsStandalone() {
         NodeGroup group = new NodeGroup(new NodeEndpoint("A", "localhost", 2333));
         Assert.assertTrue(group.isStandalone());
-        group.addNode(new NodeEndpoint("B", "localhost", 2334), 10, 0, false);
+        // learner does not vote
+        group.addNode(new NodeEndpoint("C", "localhost", 2335).toLearner(), 10, 0, false);
+        Assert.assertTrue(group.isStandalone());
+        group.addNode(new NodeEndpoint("B", "localhost", 2334), 10, 0, true);
         Assert.assertFalse(group.isStandalone());
     }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package in.xnnyygn.xraft.core.node;
 
 import com.google.common.collect.ImmutableSet;
+import in.xnnyygn.xraft.core.log.MemoryLog;
 import in.xnnyygn.xraft.core.log.entry.*;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryBatchRemovedEvent;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryCommittedEvent;
 import in.xnnyygn.xraft.core.log.event.GroupConfigEntryFromLeaderAppendEvent;
+import in.xnnyygn.xraft.core.log.event.LogEventListenerAdapter;
+import in.xnnyygn.xraft.core.log.sequence.MemoryEntrySequence;
+import in.xnnyygn.xraft.core.log.snapshot.MemorySnapshot;
 import in.xnnyygn.xraft.core.node.config.NodeConfig;
 import in.xnnyygn.xraft.core.node.role.RoleName;
 import in.xnnyygn.xraft.core.node.role.RoleState;
@@ -13,9 +17,13 @@ import in.xnnyygn.xraft.core.node.task.GroupConfigChangeTaskReference;
 import in.xnnyygn.xraft.core.node.task.GroupConfigChangeTaskResult;
 import in.xnnyygn.xraft.core.rpc.ConnectorAdapter;
 import in.xnnyygn.xraft.core.rpc.MockConnector;
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
 import in.xnnyygn.xraft.core.rpc.message.*;
+import in.xnnyygn.xraft.core.schedule.ElectionTimeout;
+import in.xnnyygn.xraft.core.schedule.NullScheduledFuture;
 import in.xnnyygn.xraft.core.schedule.NullScheduler;
 import in.xnnyygn.xraft.core.support.DirectTaskExecutor;
+import in.xnnyygn.xraft.core.support.EventLoopTaskExecutor;
 import in.xnnyygn.xraft.core.support.ListeningTaskExecutor;
 import in.xnnyygn.xraft.core.support.SingleThreadTaskExecutor;
 import in.xnnyygn.xraft.core.support.TaskExecutor;
@@ -25,13 +33,19 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -64,6 +78,19 @@ public class NodeImplTest {
 
     }
 
+    private static class RecordingScheduler extends NullScheduler {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        @Nonnull
+        public ScheduledFuture<?> schedule(@Nonnull Runnable task, long delay, @Nonnull TimeUnit unit) {
+            tasks.add(task);
+            return super.schedule(task, delay, unit);
+        }
+
+    }
+
     private static TaskExecutor taskExecutor;
     private static TaskExecutor groupConfigChangeTaskExecutor;
     private static TaskExecutor cachedThreadTaskExecutor;
@@ -231,6 +258,71 @@ public class NodeImplTest {
         Assert.assertEquals(0, rpc.getLastLogTerm());
     }
 
+    @Test
+    public void testElectionTimeoutPreVote() {
+        NodeConfig config = new NodeConfig();
+        config.setPreVote(true);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).setConfig(config).build();
+        node.start();
+        node.electionTimeout();
+
+        // term not changed
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
+        Assert.assertEquals(0, state.getTerm());
+
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        PreVoteRpc rpc = (PreVoteRpc) mockConnector.getRpc();
+        Assert.assertEquals(1, rpc.getTerm());
+        Assert.assertEquals(NodeId.of("A"), rpc.getCandidateId());
+    }
+
+    @Test
+    public void testOnReceivePreVoteResultMajor() {
+        NodeConfig config = new NodeConfig();
+        config.setPreVote(true);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).setConfig(config).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceivePreVoteResult(new PreVoteResultMessage(new PreVoteResult(1, true), NodeId.of("B")));
+
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.CANDIDATE, state.getRoleName());
+        Assert.assertEquals(1, state.getTerm());
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        RequestVoteRpc rpc = (RequestVoteRpc) mockConnector.getRpc();
+        Assert.assertEquals(1, rpc.getTerm());
+    }
+
+    @Test
+    public void testOnReceivePreVoteResultNotGranted() {
+        NodeConfig config = new NodeConfig();
+        config.setPreVote(true);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).setConfig(config).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceivePreVoteResult(new PreVoteResultMessage(new PreVoteResult(0, false), NodeId.of("B")));
+
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
+        Assert.assertEquals(0, state.getTerm());
+    }
+
     @Test
     public void testReplicateLogStandalone() {
         NodeImpl node = (NodeImpl) newNodeBuilder(NodeId.of("A"), new NodeEndpoint("A", "localhost", 2333))
@@ -242,6 +334,25 @@ public class NodeImplTest {
         Assert.assertEquals(1, node.getContext().log().getCommitIndex());
     }
 
+    @Test
+    public void testReplicateLogStandaloneWithLearner() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334).toLearner()
+        ).build();
+        node.start();
+        node.electionTimeout(); // become leader without election
+        Assert.assertEquals(RoleName.LEADER, node.getRoleState().getRoleName());
+        node.replicateLog();
+        Assert.assertEquals(1, node.getContext().log().getCommitIndex());
+
+        // append entries rpc to learner
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        Assert.assertEquals(1, mockConnector.getMessageCount());
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getLastMessage().getDestinationNodeId());
+    }
+
     @Test
     public void testReplicateLog() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -271,6 +382,55 @@ public class NodeImplTest {
         Assert.assertEquals(1, rpc.getTerm());
     }
 
+    @Test
+    public void testReplicateLogCheckQuorum() {
+        NodeConfig config = new NodeConfig();
+        config.setCheckQuorum(true);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).setConfig(config).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        long contactedAt = System.currentTimeMillis() - config.getMaxElectionTimeout() - 1;
+        node.getContext().group().findMember(NodeId.of("C")).contactAt(contactedAt);
+        node.replicateLog();
+        Assert.assertEquals(RoleName.LEADER, node.getRoleState().getRoleName());
+        Assert.assertTrue(node.getQuorumContactAt() > contactedAt);
+    }
+
+    @Test
+    public void testReplicateLogCheckQuorumStepDown() {
+        NodeConfig config = new NodeConfig();
+        config.setCheckQuorum(true);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).setConfig(config).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        long contactedAt = System.currentTimeMillis() - config.getMaxElectionTimeout() - 1;
+        node.getContext().group().findMember(NodeId.of("B")).contactAt(contactedAt);
+        node.getContext().group().findMember(NodeId.of("C")).contactAt(contactedAt);
+        node.replicateLog();
+
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        // request vote rpc only
+        Assert.assertEquals(1, mockConnector.getMessageCount());
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
+        Assert.assertEquals(1, state.getTerm());
+        Assert.assertNull(state.getLeaderId());
+        Assert.assertEquals(NodeId.of("A"), state.getVotedFor());
+        Assert.assertEquals(0L, node.getQuorumContactAt());
+    }
+
     @Test
     public void testReplicateLogSkipReplicating() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -290,6 +450,56 @@ public class NodeImplTest {
         Assert.assertEquals(2, mockConnector.getMessageCount());
     }
 
+    @Test
+    public void testReplicateLogSkipHeartbeat() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        // entries replicated to B since last heartbeat and result received
+        GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
+        member.replicateNow();
+        member.entriesSent();
+        member.stopReplicating();
+        node.replicateLog();
+
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        // request vote rpc + append entries rpc to C
+        Assert.assertEquals(2, mockConnector.getMessageCount());
+        Assert.assertEquals(NodeId.of("C"), mockConnector.getLastMessage().getDestinationNodeId());
+    }
+
+    @Test
+    public void testReplicateLogSkipHeartbeatOnce() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334)
+        ).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
+        member.replicateNow();
+        member.entriesSent();
+        member.stopReplicating();
+        node.replicateLog();
+        // rpc without entries within interval does not skip next heartbeat
+        member.replicateNow();
+        member.stopReplicating();
+        node.replicateLog();
+
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        // request vote rpc + append entries rpc to B in second heartbeat
+        Assert.assertEquals(2, mockConnector.getMessageCount());
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getLastMessage().getDestinationNodeId());
+    }
+
     @Test
     public void testReplicateLogForceReplicating() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -310,6 +520,73 @@ public class NodeImplTest {
         Assert.assertEquals(3, mockConnector.getMessageCount());
     }
 
+    @Test
+    public void testReplicateLogChannelNotWritable() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        mockConnector.setWritable(NodeId.of("B"), false);
+        node.replicateLog();
+
+        // request vote rpc + append entries rpc
+        Assert.assertEquals(2, mockConnector.getMessageCount());
+        Assert.assertEquals(NodeId.of("C"), mockConnector.getDestinationNodeId());
+        GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
+        Assert.assertTrue(member.isReplicationPaused());
+        Assert.assertFalse(member.isReplicating());
+    }
+
+    @Test
+    public void testOnChannelWritable() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        mockConnector.setWritable(NodeId.of("B"), false);
+        node.replicateLog();
+        mockConnector.setWritable(NodeId.of("B"), true);
+        node.onChannelWritable(new ChannelWritableEvent(NodeId.of("B")));
+
+        // request vote rpc + append entries rpc * 2
+        Assert.assertEquals(3, mockConnector.getMessageCount());
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getDestinationNodeId());
+        GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
+        Assert.assertFalse(member.isReplicationPaused());
+        Assert.assertTrue(member.isReplicating());
+    }
+
+    @Test
+    public void testOnChannelWritableNotPaused() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        node.replicateLog();
+        node.onChannelWritable(new ChannelWritableEvent(NodeId.of("B")));
+
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        // request vote rpc + append entries rpc * 2
+        Assert.assertEquals(3, mockConnector.getMessageCount());
+    }
+
     @Test(expected = NotLeaderException.class)
     public void testAppendLogWhenFollower() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -353,6 +630,92 @@ public class NodeImplTest {
         Assert.assertEquals(3, mockConnector.getMessageCount());
     }
 
+    private NodeImpl newBatchingLeader(RecordingScheduler scheduler) {
+        NodeConfig config = new NodeConfig();
+        config.setReplicationBatchDelay(1000);
+        config.setReplicationBatchBytes(100);
+        // followers replicating are replicated again on flush
+        config.setLogReplicationReadTimeout(0);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).setConfig(config).setScheduler(scheduler).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+
+        // no follower replicating, replicate immediately
+        node.appendLog(new byte[10]);
+        Assert.assertEquals(3, ((MockConnector) node.getContext().connector()).getMessageCount());
+        return node;
+    }
+
+    @Test
+    public void testAppendLogBatchDelay() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        NodeImpl node = newBatchingLeader(scheduler);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        node.appendLog(new byte[10]);
+        Assert.assertEquals(1, scheduler.tasks.size());
+        Assert.assertEquals(3, mockConnector.getMessageCount());
+        scheduler.tasks.get(0).run();
+        Assert.assertEquals(5, mockConnector.getMessageCount());
+        AppendEntriesRpc rpc = (AppendEntriesRpc) mockConnector.getRpc();
+        Assert.assertEquals(3, rpc.getLastEntryIndex());
+    }
+
+    @Test
+    public void testAppendLogBatchBytes() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        NodeImpl node = newBatchingLeader(scheduler);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        node.appendLog(new byte[50]);
+        Assert.assertEquals(3, mockConnector.getMessageCount());
+
+        // 50 + 50 reach batch bytes
+        node.appendLog(new byte[50]);
+        Assert.assertEquals(5, mockConnector.getMessageCount());
+        Assert.assertEquals(4, ((AppendEntriesRpc) mockConnector.getRpc()).getLastEntryIndex());
+    }
+
+    @Test
+    public void testAppendLogFlushPending() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        NodeImpl node = newBatchingLeader(scheduler);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        node.appendLog(new byte[10]);
+        node.appendLog(new byte[10]);
+        node.appendLog(new byte[10]);
+
+        // flush scheduled once for the batch
+        Assert.assertEquals(1, scheduler.tasks.size());
+        Assert.assertEquals(3, mockConnector.getMessageCount());
+        scheduler.tasks.get(0).run();
+        Assert.assertEquals(5, mockConnector.getMessageCount());
+        Assert.assertEquals(5, ((AppendEntriesRpc) mockConnector.getRpc()).getLastEntryIndex());
+    }
+
+    @Test
+    public void testAppendLogDelayedFlushOfEarlierBatch() {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        NodeImpl node = newBatchingLeader(scheduler);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        node.appendLog(new byte[10]);
+        node.appendLog(new byte[100]); // flushed by batch bytes
+        Assert.assertEquals(5, mockConnector.getMessageCount());
+        node.appendLog(new byte[10]);
+        Assert.assertEquals(2, scheduler.tasks.size());
+
+        // flush of earlier batch does not flush the later one
+        scheduler.tasks.get(0).run();
+        Assert.assertEquals(5, mockConnector.getMessageCount());
+        scheduler.tasks.get(1).run();
+        Assert.assertEquals(7, mockConnector.getMessageCount());
+        Assert.assertEquals(5, ((AppendEntriesRpc) mockConnector.getRpc()).getLastEntryIndex());
+    }
+
     @Test(expected = NotLeaderException.class)
     public void testAddNodeWhenFollower() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -439,7 +802,7 @@ public class NodeImplTest {
 
         // catch up
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("D"), createAppendEntriesRpc(1)));
 
         GroupConfigChangeTaskReference reference = future.get();
@@ -447,11 +810,11 @@ public class NodeImplTest {
 
         // send replication to B, C, D
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("B"), createAppendEntriesRpc(2)));
 
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("C"), createAppendEntriesRpc(2)));
 
         Assert.assertEquals(GroupConfigChangeTaskResult.OK, reference.getResult(1000L));
@@ -482,7 +845,7 @@ public class NodeImplTest {
         connector.awaitAppendEntriesRpc();
         // cannot catch up
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("D"), createAppendEntriesRpc(0)));
 
         Assert.assertEquals(GroupConfigChangeTaskResult.TIMEOUT, future.get().getResult(1000L));
@@ -510,13 +873,13 @@ public class NodeImplTest {
         cachedThreadTaskExecutor.submit(() -> node.addNode(new NodeEndpoint("D", "localhost", 2337)));
         connector.awaitAppendEntriesRpc();
         node.processAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("D"), createAppendEntriesRpc(1))).get();
         connector.awaitAppendEntriesRpc();
         Future<GroupConfigChangeTaskReference> future2 = cachedThreadTaskExecutor.submit(() -> node.addNode(new NodeEndpoint("E", "localhost", 2337)));
         connector.awaitAppendEntriesRpc();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("E"), createAppendEntriesRpc(2)));
 
         Assert.assertEquals(GroupConfigChangeTaskResult.TIMEOUT, future2.get().getResult(1000L));
@@ -524,6 +887,120 @@ public class NodeImplTest {
         future2.cancel(true);
     }
 
+    @Test
+    public void testAddLearner() throws Throwable {
+        WaitableConnector connector = new WaitableConnector();
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setConnector(connector)
+                .setTaskExecutor(taskExecutor)
+                .setGroupConfigChangeTaskExecutor(groupConfigChangeTaskExecutor)
+                .build();
+        node.start();
+        node.electionTimeout();
+        node.processRequestVoteResult(new RequestVoteResult(1, true)).get(); // become leader, add no-op log
+        GroupConfigChangeTaskReference reference = node.addLearner(new NodeEndpoint("D", "localhost", 2336));
+        connector.awaitAppendEntriesRpc();
+        node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
+                new AppendEntriesResult(0, 1, true),
+                NodeId.of("B"), createAppendEntriesRpc(2)));
+        Assert.assertEquals(GroupConfigChangeTaskResult.OK, reference.getResult(1000L));
+        checkWithinTaskExecutor(node, () -> {
+            NodeGroup group = node.getContext().group();
+            Assert.assertTrue(group.isLearner(NodeId.of("D")));
+            Assert.assertEquals(3, group.getCountOfMajor());
+            Assert.assertEquals(3, group.listReplicationTarget().size());
+        });
+    }
+
+    @Test
+    public void testAddLearnerStandalone() throws Throwable {
+        WaitableConnector connector = new WaitableConnector();
+        NodeImpl node = (NodeImpl) newNodeBuilder(NodeId.of("A"), new NodeEndpoint("A", "localhost", 2333))
+                .setConnector(connector)
+                .setTaskExecutor(taskExecutor)
+                .setGroupConfigChangeTaskExecutor(groupConfigChangeTaskExecutor)
+                .build();
+        node.start();
+        node.electionTimeout();
+        checkWithinTaskExecutor(node, () -> Assert.assertEquals(RoleName.LEADER, node.getRoleState().getRoleName()));
+        GroupConfigChangeTaskReference reference = node.addLearner(new NodeEndpoint("B", "localhost", 2334));
+        connector.awaitAppendEntriesRpc();
+        // committed by leader itself, learner does not count
+        Assert.assertEquals(GroupConfigChangeTaskResult.OK, reference.getResult(1000L));
+        checkWithinTaskExecutor(node, () -> {
+            NodeGroup group = node.getContext().group();
+            Assert.assertTrue(group.isLearner(NodeId.of("B")));
+            Assert.assertTrue(group.isStandalone());
+            Assert.assertEquals(2, node.getContext().log().getCommitIndex());
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddLearnerInGroup() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        node.addLearner(new NodeEndpoint("B", "localhost", 2334));
+    }
+
+    @Test
+    public void testPromoteLearner() throws Throwable {
+        WaitableConnector connector = new WaitableConnector();
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335).toLearner())
+                .setConnector(connector)
+                .setTaskExecutor(taskExecutor)
+                .setGroupConfigChangeTaskExecutor(groupConfigChangeTaskExecutor)
+                .build();
+        node.start();
+        node.electionTimeout();
+        node.processRequestVoteResult(new RequestVoteResult(1, true)).get(); // become leader, add no-op log
+        node.processAppendEntriesResult(new AppendEntriesResultMessage(
+                new AppendEntriesResult(0, 1, true),
+                NodeId.of("C"), createAppendEntriesRpc(1))).get();
+        connector.reset();
+        GroupConfigChangeTaskReference reference = node.promoteLearner(NodeId.of("C"));
+        connector.awaitAppendEntriesRpc();
+        node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
+                new AppendEntriesResult(0, 1, true),
+                NodeId.of("B"), createAppendEntriesRpc(2)));
+        Assert.assertEquals(GroupConfigChangeTaskResult.OK, reference.getResult(1000L));
+        checkWithinTaskExecutor(node, () -> {
+            NodeGroup group = node.getContext().group();
+            Assert.assertFalse(group.isLearner(NodeId.of("C")));
+            Assert.assertEquals(3, group.getCountOfMajor());
+            // replicating state kept
+            Assert.assertEquals(1, group.findMember(NodeId.of("C")).getMatchIndex());
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPromoteLearnerNotLearner() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        node.promoteLearner(NodeId.of("B"));
+    }
+
     @Test(expected = NotLeaderException.class)
     public void testRemoveNodeWhenFollower() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -567,7 +1044,7 @@ public class NodeImplTest {
         GroupConfigChangeTaskReference reference = node.removeNode(NodeId.of("B"));
         connector.awaitAppendEntriesRpc();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("C"), createAppendEntriesRpc(2)));
         Assert.assertEquals(GroupConfigChangeTaskResult.OK, reference.getResult(1000L));
         checkWithinTaskExecutor(node, () -> {
@@ -595,10 +1072,10 @@ public class NodeImplTest {
         GroupConfigChangeTaskReference reference = node.removeNode(NodeId.of("A"));
         connector.awaitAppendEntriesRpc();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("B"), createAppendEntriesRpc(2)));
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("C"), createAppendEntriesRpc(2)));
         Assert.assertEquals(GroupConfigChangeTaskResult.OK, reference.getResult(1000L));
         checkWithinTaskExecutor(node, () -> {
@@ -628,7 +1105,7 @@ public class NodeImplTest {
         node.removeNode(NodeId.of("B"));
         connector.awaitAppendEntriesRpc();
         node.processAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("B"), createAppendEntriesRpc(2))).get();
         node.cancelGroupConfigChangeTask();
     }
@@ -706,81 +1183,329 @@ public class NodeImplTest {
         rpc.setTerm(1);
         node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
         MockConnector mockConnector = (MockConnector) node.getContext().connector();
-        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
-        Assert.assertEquals(2, result.getTerm());
-        Assert.assertFalse(result.isVoteGranted());
+        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
+        Assert.assertEquals(2, result.getTerm());
+        Assert.assertFalse(result.isVoteGranted());
+    }
+
+    @Test
+    public void testOnReceiveRequestVoteRpcLargerTerm() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .build();
+        node.start();
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("C"));
+        rpc.setLastLogIndex(1);
+        rpc.setLastLogTerm(2);
+        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
+        Assert.assertEquals(2, result.getTerm());
+        Assert.assertTrue(result.isVoteGranted());
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
+        Assert.assertEquals(NodeId.of("C"), state.getVotedFor());
+        Assert.assertEquals(NodeId.of("C"), node.getContext().store().getVotedFor());
+    }
+
+    @Test
+    public void testOnReceiveRequestVoteRpcLargerTermButNotVote() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .build();
+        node.getContext().log().appendEntry(1);
+        node.start();
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("C"));
+        rpc.setLastLogIndex(0);
+        rpc.setLastLogTerm(0);
+        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
+        Assert.assertEquals(2, result.getTerm());
+        Assert.assertFalse(result.isVoteGranted());
+    }
+
+    @Test
+    public void testOnReceiveRequestVoteRpcFollower() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .build();
+        node.start();
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(1);
+        rpc.setCandidateId(NodeId.of("C"));
+        rpc.setLastLogIndex(0);
+        rpc.setLastLogTerm(0);
+        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
+        Assert.assertEquals(1, result.getTerm());
+        Assert.assertTrue(result.isVoteGranted());
+        Assert.assertEquals(NodeId.of("C"), node.getRoleState().getVotedFor());
+    }
+
+    @Test
+    public void testOnReceivePreVoteRpcFollower() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .build();
+        node.start();
+        PreVoteRpc rpc = new PreVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("C"));
+        node.onReceivePreVoteRpc(new PreVoteRpcMessage(rpc, NodeId.of("C"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        PreVoteResult result = (PreVoteResult) mockConnector.getResult();
+        Assert.assertEquals(2, result.getTerm());
+        Assert.assertTrue(result.isVoteGranted());
+
+        // term and vote not changed
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(1, state.getTerm());
+        Assert.assertNull(state.getVotedFor());
+    }
+
+    @Test
+    public void testOnReceivePreVoteRpcFollowerWithLeader() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .build();
+        node.start();
+        AppendEntriesRpc aeRpc = new AppendEntriesRpc();
+        aeRpc.setTerm(1);
+        aeRpc.setLeaderId(NodeId.of("B"));
+        node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(aeRpc, NodeId.of("B"), null));
+
+        PreVoteRpc rpc = new PreVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("C"));
+        node.onReceivePreVoteRpc(new PreVoteRpcMessage(rpc, NodeId.of("C"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        PreVoteResult result = (PreVoteResult) mockConnector.getResult();
+        Assert.assertEquals(1, result.getTerm());
+        Assert.assertFalse(result.isVoteGranted());
+        Assert.assertEquals(NodeId.of("B"), node.getRoleState().getLeaderId());
+    }
+
+    @Test
+    public void testTransferLeadership() throws Exception {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        Future<Boolean> future = node.transferLeadership(NodeId.of("B"));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        // request vote rpc + append entries rpc to B, B not caught up
+        Assert.assertEquals(2, mockConnector.getMessageCount());
+        Assert.assertTrue(mockConnector.getRpc() instanceof AppendEntriesRpc);
+        Assert.assertFalse(future.isDone());
+
+        node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
+                new AppendEntriesResult(0, 1, true),
+                NodeId.of("B"), createAppendEntriesRpc(1)));
+        TimeoutNowRpc rpc = (TimeoutNowRpc) mockConnector.getRpc();
+        Assert.assertEquals(1, rpc.getTerm());
+        Assert.assertEquals(NodeId.of("A"), rpc.getLeaderId());
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getDestinationNodeId());
+
+        // append entries rpc from new leader
+        AppendEntriesRpc aeRpc = new AppendEntriesRpc();
+        aeRpc.setTerm(2);
+        aeRpc.setLeaderId(NodeId.of("B"));
+        node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(aeRpc, NodeId.of("B"), null));
+        Assert.assertTrue(future.get());
+        Assert.assertEquals(RoleName.FOLLOWER, node.getRoleState().getRoleName());
+    }
+
+    @Test
+    public void testTransferLeadershipTimeoutNowOnce() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        node.getContext().group().findMember(NodeId.of("B")).advanceReplicatingState(1);
+        node.transferLeadership(NodeId.of("B"));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        Assert.assertTrue(mockConnector.getRpc() instanceof TimeoutNowRpc);
+        int messageCount = mockConnector.getMessageCount();
+
+        // heartbeat result from B
+        node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
+                new AppendEntriesResult(0, 1, true),
+                NodeId.of("B"), createAppendEntriesRpc(1)));
+        Assert.assertEquals(messageCount, mockConnector.getMessageCount());
+    }
+
+    @Test
+    public void testTransferLeadershipStepDownOnVoteForTarget() throws Exception {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        node.getContext().group().findMember(NodeId.of("B")).advanceReplicatingState(1);
+        Future<Boolean> future = node.transferLeadership(NodeId.of("B"));
+
+        // B starts election
+        RequestVoteRpc rvRpc = new RequestVoteRpc();
+        rvRpc.setTerm(2);
+        rvRpc.setCandidateId(NodeId.of("B"));
+        rvRpc.setLastLogIndex(1);
+        rvRpc.setLastLogTerm(1);
+        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rvRpc, NodeId.of("B"), null));
+        Assert.assertEquals(RoleName.FOLLOWER, node.getRoleState().getRoleName());
+        Assert.assertFalse(future.isDone());
+
+        AppendEntriesRpc aeRpc = new AppendEntriesRpc();
+        aeRpc.setTerm(2);
+        aeRpc.setLeaderId(NodeId.of("B"));
+        node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(aeRpc, NodeId.of("B"), null));
+        Assert.assertTrue(future.get());
+    }
+
+    @Test
+    public void testTransferLeadershipStepDown() throws Exception {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        Future<Boolean> future = node.transferLeadership(NodeId.of("B"));
+
+        // C with larger term
+        RequestVoteRpc rvRpc = new RequestVoteRpc();
+        rvRpc.setTerm(2);
+        rvRpc.setCandidateId(NodeId.of("C"));
+        rvRpc.setLastLogIndex(1);
+        rvRpc.setLastLogTerm(1);
+        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rvRpc, NodeId.of("C"), null));
+        Assert.assertEquals(RoleName.FOLLOWER, node.getRoleState().getRoleName());
+        try {
+            future.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof NotLeaderException);
+        }
+
+        // transfer state cleared, new transfer accepted when leader again
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(3, true));
+        Assert.assertEquals(RoleName.LEADER, node.getRoleState().getRoleName());
+        node.appendLog(new byte[0]);
+    }
+
+    @Test
+    public void testTransferLeadershipCaughtUp() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        node.getContext().group().findMember(NodeId.of("B")).advanceReplicatingState(1);
+        node.transferLeadership(NodeId.of("B"));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        Assert.assertTrue(mockConnector.getRpc() instanceof TimeoutNowRpc);
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getDestinationNodeId());
     }
 
-    @Test
-    public void testOnReceiveRequestVoteRpcLargerTerm() {
+    @Test(expected = NotLeaderException.class)
+    public void testAppendLogWhenTransferringLeadership() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
                 NodeId.of("A"),
                 new NodeEndpoint("A", "localhost", 2333),
                 new NodeEndpoint("B", "localhost", 2334),
-                new NodeEndpoint("C", "localhost", 2335))
-                .setStore(new MemoryNodeStore(1, null))
-                .build();
+                new NodeEndpoint("C", "localhost", 2335)
+        ).build();
         node.start();
-        RequestVoteRpc rpc = new RequestVoteRpc();
-        rpc.setTerm(2);
-        rpc.setCandidateId(NodeId.of("C"));
-        rpc.setLastLogIndex(1);
-        rpc.setLastLogTerm(2);
-        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
-        MockConnector mockConnector = (MockConnector) node.getContext().connector();
-        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
-        Assert.assertEquals(2, result.getTerm());
-        Assert.assertTrue(result.isVoteGranted());
-        RoleState state = node.getRoleState();
-        Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
-        Assert.assertEquals(NodeId.of("C"), state.getVotedFor());
-        Assert.assertEquals(NodeId.of("C"), node.getContext().store().getVotedFor());
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        node.transferLeadership(NodeId.of("B"));
+        node.appendLog(new byte[0]);
     }
 
     @Test
-    public void testOnReceiveRequestVoteRpcLargerTermButNotVote() {
+    public void testOnReceiveTimeoutNowRpc() {
+        NodeConfig config = new NodeConfig();
+        config.setPreVote(true);
         NodeImpl node = (NodeImpl) newNodeBuilder(
                 NodeId.of("A"),
                 new NodeEndpoint("A", "localhost", 2333),
                 new NodeEndpoint("B", "localhost", 2334),
                 new NodeEndpoint("C", "localhost", 2335))
                 .setStore(new MemoryNodeStore(1, null))
+                .setConfig(config)
                 .build();
-        node.getContext().log().appendEntry(1);
         node.start();
-        RequestVoteRpc rpc = new RequestVoteRpc();
-        rpc.setTerm(2);
-        rpc.setCandidateId(NodeId.of("C"));
-        rpc.setLastLogIndex(0);
-        rpc.setLastLogTerm(0);
-        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
+        node.onReceiveTimeoutNowRpc(new TimeoutNowRpcMessage(new TimeoutNowRpc(1, NodeId.of("B")), NodeId.of("B"), null));
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.CANDIDATE, state.getRoleName());
+        Assert.assertEquals(2, state.getTerm());
         MockConnector mockConnector = (MockConnector) node.getContext().connector();
-        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
-        Assert.assertEquals(2, result.getTerm());
-        Assert.assertFalse(result.isVoteGranted());
+        Assert.assertTrue(mockConnector.getRpc() instanceof RequestVoteRpc);
     }
 
     @Test
-    public void testOnReceiveRequestVoteRpcFollower() {
+    public void testElectionTimeoutLearner() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
                 NodeId.of("A"),
-                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("A", "localhost", 2333).toLearner(),
                 new NodeEndpoint("B", "localhost", 2334),
                 new NodeEndpoint("C", "localhost", 2335))
                 .setStore(new MemoryNodeStore(1, null))
                 .build();
         node.start();
-        RequestVoteRpc rpc = new RequestVoteRpc();
-        rpc.setTerm(1);
-        rpc.setCandidateId(NodeId.of("C"));
-        rpc.setLastLogIndex(0);
-        rpc.setLastLogTerm(0);
-        node.onReceiveRequestVoteRpc(new RequestVoteRpcMessage(rpc, NodeId.of("C"), null));
+        node.electionTimeout();
+        RoleState state = node.getRoleState();
+        Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
+        Assert.assertEquals(1, state.getTerm());
         MockConnector mockConnector = (MockConnector) node.getContext().connector();
-        RequestVoteResult result = (RequestVoteResult) mockConnector.getResult();
-        Assert.assertEquals(1, result.getTerm());
-        Assert.assertTrue(result.isVoteGranted());
-        Assert.assertEquals(NodeId.of("C"), node.getRoleState().getVotedFor());
+        Assert.assertEquals(0, mockConnector.getMessageCount());
     }
 
     @Test
@@ -995,6 +1720,39 @@ public class NodeImplTest {
         Assert.assertFalse(result.isSuccess());
     }
 
+    @Test
+    public void testOnReceiveAppendEntriesRpcSmallerTermLazyEntries() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(2, null))
+                .build();
+        node.start();
+        AtomicBoolean released = new AtomicBoolean(false);
+        LazyEntryList entries = new LazyEntryList() {
+            @Override
+            protected List<Entry> decode() {
+                throw new AssertionError("entries decoded");
+            }
+
+            @Override
+            protected void doRelease() {
+                released.set(true);
+            }
+        };
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setEntries(entries);
+        node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(rpc, NodeId.of("B"), null));
+        MockConnector connector = (MockConnector) node.getContext().connector();
+        AppendEntriesResult result = (AppendEntriesResult) connector.getResult();
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertFalse(entries.isDecoded());
+        Assert.assertTrue(released.get());
+    }
+
     @Test
     public void testOnReceiveAppendEntriesRpcLargerTerm() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -1044,6 +1802,42 @@ public class NodeImplTest {
         Assert.assertEquals(NodeId.of("B"), state.getLeaderId());
     }
 
+    @Test
+    public void testOnReceiveAppendEntriesRpcFollowerResetElectionTimeout() {
+        AtomicInteger scheduled = new AtomicInteger(0);
+        AtomicInteger reset = new AtomicInteger(0);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .setScheduler(new NullScheduler() {
+                    @Override
+                    @Nonnull
+                    public ElectionTimeout scheduleElectionTimeout(@Nonnull Runnable task) {
+                        scheduled.incrementAndGet();
+                        return new ElectionTimeout(new NullScheduledFuture()) {
+                            @Override
+                            public boolean reset() {
+                                reset.incrementAndGet();
+                                return true;
+                            }
+                        };
+                    }
+                })
+                .build();
+        node.start();
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(rpc, NodeId.of("B"), null));
+        node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(rpc, NodeId.of("B"), null));
+        Assert.assertEquals(1, scheduled.get());
+        Assert.assertEquals(2, reset.get());
+        Assert.assertEquals(NodeId.of("B"), node.getRoleState().getLeaderId());
+    }
+
     @Test
     public void testOnReceiveAppendEntriesRpcCandidate() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -1110,12 +1904,64 @@ public class NodeImplTest {
         GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
         member.replicateNow();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("B"), createAppendEntriesRpc(1)));
         Assert.assertFalse(member.isReplicating());
         Assert.assertEquals(1, member.getMatchIndex());
     }
 
+    @Test
+    public void testOnReceiveAppendEntriesResultStagedPipeline() {
+        NodeConfig config = new NodeConfig();
+        config.setStagedPipeline(true);
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335),
+                new NodeEndpoint("D", "localhost", 2336),
+                new NodeEndpoint("E", "localhost", 2337))
+                .setConfig(config)
+                .setPersistTaskExecutor(new DirectTaskExecutor(true))
+                .build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true));
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        for (String nodeId : new String[]{"B", "C"}) {
+            node.getContext().group().findMember(NodeId.of(nodeId)).replicateNow();
+            node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
+                    new AppendEntriesResult(0, 1, true),
+                    NodeId.of(nodeId), createAppendEntriesRpc(1)));
+        }
+        // no-op log not persisted by leader
+        Assert.assertEquals(0, node.getContext().log().getCommitIndex());
+        node.replicateLog();
+        Assert.assertEquals(1, node.getContext().log().getCommitIndex());
+    }
+
+    @Test
+    public void testOnReceiveAppendEntriesResultLearner() {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335),
+                new NodeEndpoint("D", "localhost", 2336).toLearner()
+        ).build();
+        node.start();
+        node.electionTimeout(); // become candidate
+        node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
+        GroupMember member = node.getContext().group().findMember(NodeId.of("D"));
+        member.replicateNow();
+        node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
+                new AppendEntriesResult(0, 1, true),
+                NodeId.of("D"), createAppendEntriesRpc(1)));
+        Assert.assertEquals(1, member.getMatchIndex());
+        // learner does not count in quorum
+        Assert.assertEquals(0, node.getContext().log().getCommitIndex());
+    }
+
     @Test
     public void testOnReceiveAppendEntriesResultPeerNotCatchUp() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -1130,7 +1976,7 @@ public class NodeImplTest {
         GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
         member.replicateNow();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("B"), createAppendEntriesRpc(0)));
         Assert.assertTrue(member.isReplicating());
         Assert.assertEquals(0, member.getMatchIndex());
@@ -1153,7 +1999,7 @@ public class NodeImplTest {
         node.getContext().log().appendEntry(1);
         node.start();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, false),
+                new AppendEntriesResult(0, 1, false),
                 NodeId.of("B"), createAppendEntriesRpc(1)));
         // do nothing
     }
@@ -1175,7 +2021,7 @@ public class NodeImplTest {
         member.replicateNow();
         Assert.assertEquals(2, member.getNextIndex());
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, false),
+                new AppendEntriesResult(0, 1, false),
                 NodeId.of("B"), createAppendEntriesRpc(1)));
         Assert.assertTrue(member.isReplicating());
         Assert.assertEquals(1, member.getNextIndex());
@@ -1196,7 +2042,7 @@ public class NodeImplTest {
         GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
         member.replicateNow();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, false),
+                new AppendEntriesResult(0, 1, false),
                 NodeId.of("B"), createAppendEntriesRpc(1)));
         Assert.assertFalse(member.isReplicating());
         Assert.assertEquals(0, member.getMatchIndex());
@@ -1214,7 +2060,7 @@ public class NodeImplTest {
         node.electionTimeout(); // become candidate
         node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 3, false),
+                new AppendEntriesResult(0, 3, false),
                 NodeId.of("B"), createAppendEntriesRpc(1)));
         RoleState state = node.getRoleState();
         Assert.assertEquals(RoleName.FOLLOWER, state.getRoleName());
@@ -1233,7 +2079,7 @@ public class NodeImplTest {
         node.electionTimeout(); // become candidate
         node.onReceiveRequestVoteResult(new RequestVoteResult(1, true)); // become leader
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, false),
+                new AppendEntriesResult(0, 1, false),
                 NodeId.of("D"), createAppendEntriesRpc(1)));
     }
 
@@ -1252,7 +2098,7 @@ public class NodeImplTest {
         member.replicateNow();
         member.setRemoving();
         node.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("D"), createAppendEntriesRpc(1)));
         Assert.assertFalse(member.isReplicating());
     }
@@ -1414,6 +2260,217 @@ public class NodeImplTest {
         Assert.assertTrue(mockConnector.getRpc() instanceof InstallSnapshotRpc);
     }
 
+    private NodeImpl newNodeWithSnapshot(NodeId selfId) {
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                selfId,
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334),
+                new NodeEndpoint("C", "localhost", 2335))
+                .setStore(new MemoryNodeStore(1, null))
+                .build();
+        node.getContext().setLog(new MemoryLog(
+                new MemorySnapshot(3, 1),
+                new MemoryEntrySequence(4),
+                new LogEventListenerAdapter()
+        ));
+        return node;
+    }
+
+    @Test
+    public void testReplicateLogTransferSnapshotFromFollower() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.getContext().config().setSnapshotTransferFromFollower(true);
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(2, true));
+        node.getContext().group().findMember(NodeId.of("B")).setReplicatingState(new ReplicatingState(1));
+        node.getContext().group().findMember(NodeId.of("C")).advanceReplicatingState(4);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        mockConnector.clearMessage();
+        node.replicateLog();
+        List<MockConnector.Message> messages = mockConnector.getMessages();
+        MockConnector.Message transferMessage = messages.stream()
+                .filter(m -> m.getRpc() instanceof TransferSnapshotRpc).findFirst().orElseThrow(AssertionError::new);
+        Assert.assertEquals(NodeId.of("C"), transferMessage.getDestinationNodeId());
+        TransferSnapshotRpc rpc = (TransferSnapshotRpc) transferMessage.getRpc();
+        Assert.assertEquals(NodeId.of("B"), rpc.getTarget().getId());
+        Assert.assertEquals(NodeId.of("A"), rpc.getLeaderId());
+        Assert.assertEquals(3, rpc.getMinLastIndex());
+        Assert.assertFalse(messages.stream().anyMatch(m -> m.getRpc() instanceof InstallSnapshotRpc));
+        Assert.assertEquals(NodeId.of("C"), node.getContext().group().findMember(NodeId.of("B")).getSnapshotTransferDelegateId());
+
+        // skip node during transfer
+        mockConnector.clearMessage();
+        node.replicateLog();
+        Assert.assertFalse(mockConnector.getMessages().stream().anyMatch(m -> NodeId.of("B").equals(m.getDestinationNodeId())));
+    }
+
+    private NodeImpl newLeaderWithDeltaSnapshot() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.getContext().setLog(new MemoryLog(
+                new MemorySnapshot(5, 1, new byte[0], ImmutableSet.of(), new MemorySnapshot(3, 1)),
+                new MemoryEntrySequence(6),
+                new LogEventListenerAdapter()
+        ));
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(2, true));
+        node.getContext().group().findMember(NodeId.of("B")).setReplicatingState(new ReplicatingState(1));
+        node.getContext().group().findMember(NodeId.of("C")).setReplicatingState(new ReplicatingState(1));
+        return node;
+    }
+
+    @Test
+    public void testReplicateLogDeltaSnapshot() {
+        NodeImpl node = newLeaderWithDeltaSnapshot();
+        node.getContext().group().findMember(NodeId.of("C")).setSnapshotIndex(3);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        mockConnector.clearMessage();
+        node.replicateLog();
+        for (MockConnector.Message message : mockConnector.getMessages()) {
+            InstallSnapshotRpc rpc = (InstallSnapshotRpc) message.getRpc();
+            if (NodeId.of("C").equals(message.getDestinationNodeId())) {
+                // only delta snapshot after snapshot in node
+                Assert.assertEquals(3, rpc.getBaseIndex());
+                Assert.assertEquals(5, rpc.getLastIndex());
+            } else {
+                Assert.assertEquals(0, rpc.getBaseIndex());
+                Assert.assertEquals(3, rpc.getLastIndex());
+            }
+        }
+    }
+
+    @Test
+    public void testOnReceiveInstallSnapshotResultBaseMissing() {
+        NodeImpl node = newLeaderWithDeltaSnapshot();
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        mockConnector.clearMessage();
+        InstallSnapshotRpc installSnapshotRpc = new InstallSnapshotRpc();
+        installSnapshotRpc.setBaseIndex(3);
+        installSnapshotRpc.setLastIndex(5);
+        installSnapshotRpc.setData(new byte[0]);
+        installSnapshotRpc.setDone(false);
+        node.onReceiveInstallSnapshotResult(new InstallSnapshotResultMessage(
+                new InstallSnapshotResult(2, 4), NodeId.of("C"), installSnapshotRpc));
+        Assert.assertEquals(4, node.getContext().group().findMember(NodeId.of("C")).getSnapshotIndex());
+        Assert.assertEquals(NodeId.of("C"), mockConnector.getDestinationNodeId());
+        InstallSnapshotRpc rpc = (InstallSnapshotRpc) mockConnector.getRpc();
+        Assert.assertEquals(0, rpc.getBaseIndex());
+        Assert.assertEquals(3, rpc.getLastIndex());
+        Assert.assertEquals(0, rpc.getOffset());
+    }
+
+    @Test
+    public void testReplicateLogTransferSnapshotNoFollower() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(2, true));
+        node.getContext().group().findMember(NodeId.of("B")).setReplicatingState(new ReplicatingState(1));
+        node.getContext().group().findMember(NodeId.of("C")).setReplicatingState(new ReplicatingState(1));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        mockConnector.clearMessage();
+        node.replicateLog();
+        Assert.assertEquals(2, mockConnector.getMessageCount());
+        for (MockConnector.Message message : mockConnector.getMessages()) {
+            Assert.assertTrue(message.getRpc() instanceof InstallSnapshotRpc);
+        }
+    }
+
+    @Test
+    public void testOnReceiveTransferSnapshotRpc() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.start();
+        TransferSnapshotRpc rpc = new TransferSnapshotRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setTarget(new NodeEndpoint("C", "localhost", 2335));
+        rpc.setMinLastIndex(3);
+        TransferSnapshotRpcMessage rpcMessage = new TransferSnapshotRpcMessage(rpc, NodeId.of("B"), null);
+        node.onReceiveTransferSnapshotRpc(rpcMessage);
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        Assert.assertEquals(NodeId.of("C"), mockConnector.getDestinationNodeId());
+        InstallSnapshotRpc installSnapshotRpc = (InstallSnapshotRpc) mockConnector.getRpc();
+        Assert.assertEquals(1, installSnapshotRpc.getTerm());
+        Assert.assertEquals(NodeId.of("B"), installSnapshotRpc.getLeaderId());
+        Assert.assertEquals(3, installSnapshotRpc.getLastIndex());
+        Assert.assertTrue(installSnapshotRpc.isDone());
+
+        // target installed snapshot
+        node.onReceiveInstallSnapshotResult(new InstallSnapshotResultMessage(
+                new InstallSnapshotResult(1), NodeId.of("C"), installSnapshotRpc));
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getDestinationNodeId());
+        TransferSnapshotResult result = (TransferSnapshotResult) mockConnector.getResult();
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(NodeId.of("C"), result.getTargetId());
+        Assert.assertEquals(3, result.getLastIndex());
+    }
+
+    @Test
+    public void testOnReceiveTransferSnapshotRpcSnapshotTooOld() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.start();
+        TransferSnapshotRpc rpc = new TransferSnapshotRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setTarget(new NodeEndpoint("C", "localhost", 2335));
+        rpc.setMinLastIndex(5);
+        node.onReceiveTransferSnapshotRpc(new TransferSnapshotRpcMessage(rpc, NodeId.of("B"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        TransferSnapshotResult result = (TransferSnapshotResult) mockConnector.getResult();
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals(3, result.getLastIndex());
+    }
+
+    @Test
+    public void testOnReceiveTransferSnapshotRpcSmallerTerm() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.start();
+        node.electionTimeout();
+        TransferSnapshotRpc rpc = new TransferSnapshotRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setTarget(new NodeEndpoint("C", "localhost", 2335));
+        node.onReceiveTransferSnapshotRpc(new TransferSnapshotRpcMessage(rpc, NodeId.of("B"), null));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        TransferSnapshotResult result = (TransferSnapshotResult) mockConnector.getResult();
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals(2, result.getTerm());
+    }
+
+    @Test
+    public void testOnReceiveTransferSnapshotResult() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(2, true));
+        GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
+        member.startSnapshotTransfer(NodeId.of("C"));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        node.onReceiveTransferSnapshotResult(new TransferSnapshotResultMessage(
+                new TransferSnapshotResult(2, NodeId.of("B"), 3, true), NodeId.of("C")));
+        Assert.assertNull(member.getSnapshotTransferDelegateId());
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getDestinationNodeId());
+        AppendEntriesRpc rpc = (AppendEntriesRpc) mockConnector.getRpc();
+        Assert.assertEquals(3, rpc.getPrevLogIndex());
+    }
+
+    @Test
+    public void testOnReceiveTransferSnapshotResultFailed() {
+        NodeImpl node = newNodeWithSnapshot(NodeId.of("A"));
+        node.start();
+        node.electionTimeout();
+        node.onReceiveRequestVoteResult(new RequestVoteResult(2, true));
+        GroupMember member = node.getContext().group().findMember(NodeId.of("B"));
+        member.startSnapshotTransfer(NodeId.of("C"));
+        MockConnector mockConnector = (MockConnector) node.getContext().connector();
+        node.onReceiveTransferSnapshotResult(new TransferSnapshotResultMessage(
+                new TransferSnapshotResult(2, NodeId.of("B"), 2, false), NodeId.of("C")));
+        Assert.assertNull(member.getSnapshotTransferDelegateId());
+        Assert.assertEquals(NodeId.of("B"), mockConnector.getDestinationNodeId());
+        Assert.assertTrue(mockConnector.getRpc() instanceof InstallSnapshotRpc);
+    }
+
     @Test
     public void testOnGroupConfigEntryFromLeaderAppend() {
         NodeImpl node = (NodeImpl) newNodeBuilder(
@@ -1507,4 +2564,37 @@ public class NodeImplTest {
         cachedThreadTaskExecutor.shutdown();
     }
 
+    @Test
+    public void testOnReceiveAppendEntriesRpcRejected() throws InterruptedException {
+        EventLoopTaskExecutor taskExecutor = new EventLoopTaskExecutor("node");
+        NodeImpl node = (NodeImpl) newNodeBuilder(
+                NodeId.of("A"),
+                new NodeEndpoint("A", "localhost", 2333),
+                new NodeEndpoint("B", "localhost", 2334))
+                .setTaskExecutor(taskExecutor)
+                .build();
+        taskExecutor.shutdown();
+        AtomicInteger released = new AtomicInteger(0);
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setEntries(new LazyEntryList() {
+            @Override
+            protected List<Entry> decode() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            protected void doRelease() {
+                released.incrementAndGet();
+            }
+        });
+        try {
+            node.onReceiveAppendEntriesRpc(new AppendEntriesRpcMessage(rpc, NodeId.of("B"), null));
+            Assert.fail();
+        } catch (RejectedExecutionException ignored) {
+        }
+        Assert.assertEquals(1, released.get());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package in.xnnyygn.xraft.core.node;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QuorumTrackerTest {
+
+    @Test
+    public void testUpdate() {
+        QuorumTracker tracker = new QuorumTracker(3);
+        Assert.assertEquals(0, tracker.update(0, 10));
+        Assert.assertEquals(5, tracker.update(1, 5));
+        Assert.assertEquals(5, tracker.update(2, 3));
+        Assert.assertEquals(8, tracker.update(2, 8));
+        Assert.assertEquals(10, tracker.update(1, 12));
+    }
+
+    @Test
+    public void testUpdateMatchIndexBack() {
+        QuorumTracker tracker = new QuorumTracker(3);
+        tracker.update(0, 10);
+        tracker.update(1, 10);
+        Assert.assertEquals(10, tracker.getCandidate());
+        Assert.assertEquals(0, tracker.update(1, 0));
+    }
+
+    @Test
+    public void testUpdateEvenCount() {
+        QuorumTracker tracker = new QuorumTracker(4);
+        tracker.update(0, 10);
+        Assert.assertEquals(0, tracker.update(1, 10));
+        Assert.assertEquals(5, tracker.update(2, 5));
+    }
+
+    @Test
+    public void testUpdateWeighted() {
+        QuorumTracker tracker = new QuorumTracker(new int[]{3, 1, 1});
+        Assert.assertEquals(10, tracker.update(0, 10));
+        Assert.assertEquals(10, tracker.update(1, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateNoVoter() {
+        new QuorumTracker(0);
+    }
+
+}
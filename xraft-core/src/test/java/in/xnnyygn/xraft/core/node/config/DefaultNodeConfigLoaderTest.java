@@ -24,6 +24,7 @@ public class DefaultNodeConfigLoaderTest {
         DefaultNodeConfigLoader loader = new DefaultNodeConfigLoader();
         NodeConfig config = loader.load(new ByteArrayInputStream(output.toByteArray()));
         Assert.assertEquals(10, config.getMaxReplicationEntries());
+        Assert.assertFalse(config.isSnapshotTransferFromFollower());
     }
 
     @Test
@@ -111,6 +111,20 @@ public class GroupConfigChangeTaskHolderTest {
         Assert.assertFalse(taskHolder.onLogCommitted(entry));
     }
 
+    @Test
+    public void testOnLogCommittedPromoteLearnerTask() throws ExecutionException, InterruptedException {
+        WaitableGroupConfigChangeTaskContext taskContext = new WaitableGroupConfigChangeTaskContext();
+        PromoteLearnerTask task = new PromoteLearnerTask(taskContext, NodeId.of("D"));
+        Future<GroupConfigChangeTaskResult> future = taskExecutor.submit(task);
+        GroupConfigChangeTaskHolder taskHolder = new GroupConfigChangeTaskHolder(
+                task, new FixedResultGroupConfigTaskReference(GroupConfigChangeTaskResult.OK)
+        );
+        taskContext.awaitLogAppended();
+        AddNodeEntry entry = new AddNodeEntry(1, 1, Collections.emptySet(), new NodeEndpoint("D", "localhost", 2336));
+        Assert.assertTrue(taskHolder.onLogCommitted(entry));
+        Assert.assertEquals(GroupConfigChangeTaskResult.OK, future.get());
+    }
+
     @AfterClass
     public static void afterClass() throws InterruptedException {
         taskExecutor.shutdown();
@@ -45,7 +45,7 @@ public class NewNodeCatchUpTaskGroupTest {
         NewNodeCatchUpTaskGroup group = new NewNodeCatchUpTaskGroup();
         Assert.assertFalse(group.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("A"),
                         new AppendEntriesRpc()
                 ),
@@ -70,7 +70,7 @@ public class NewNodeCatchUpTaskGroupTest {
         rpc.setPrevLogIndex(1);
         Assert.assertTrue(group.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("D"),
                         rpc
                 ),
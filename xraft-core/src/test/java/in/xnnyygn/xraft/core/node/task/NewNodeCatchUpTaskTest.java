@@ -48,7 +48,7 @@ public class NewNodeCatchUpTaskTest {
         taskContext.awaitReplicateLog();
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, false),
+                        new AppendEntriesResult(0, 1, false),
                         NodeId.of("D"),
                         new AppendEntriesRpc()
                 ),
@@ -72,7 +72,7 @@ public class NewNodeCatchUpTaskTest {
         taskContext.awaitReplicateLog();
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, false),
+                        new AppendEntriesResult(0, 1, false),
                         NodeId.of("D"),
                         new AppendEntriesRpc()
                 ),
@@ -102,7 +102,7 @@ public class NewNodeCatchUpTaskTest {
         taskContext.awaitReplicateLog();
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("D"),
                         createAppendEntriesRpc(1)
                 ),
@@ -110,7 +110,7 @@ public class NewNodeCatchUpTaskTest {
         );
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("D"),
                         createAppendEntriesRpc(2)
                 ),
@@ -132,7 +132,7 @@ public class NewNodeCatchUpTaskTest {
         taskContext.awaitReplicateLog();
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("D"),
                         createAppendEntriesRpc(1)
                 ),
@@ -140,7 +140,7 @@ public class NewNodeCatchUpTaskTest {
         );
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("D"),
                         createAppendEntriesRpc(2)
                 ),
@@ -245,7 +245,7 @@ public class NewNodeCatchUpTaskTest {
         AppendEntriesRpc appendEntriesRpc = new AppendEntriesRpc();
         appendEntriesRpc.setPrevLogIndex(3);
         task.onReceiveAppendEntriesResult(new AppendEntriesResultMessage(
-                new AppendEntriesResult("", 1, true),
+                new AppendEntriesResult(0, 1, true),
                 NodeId.of("D"),
                 appendEntriesRpc
         ), 4);
@@ -264,7 +264,7 @@ public class NewNodeCatchUpTaskTest {
         );
         task.onReceiveAppendEntriesResult(
                 new AppendEntriesResultMessage(
-                        new AppendEntriesResult("", 1, true),
+                        new AppendEntriesResult(0, 1, true),
                         NodeId.of("D"),
                         new AppendEntriesRpc()
                 ),
@@ -13,6 +13,18 @@ class WaitableGroupConfigChangeTaskContext implements GroupConfigChangeTaskConte
         notify();
     }
 
+    @Override
+    public synchronized void addLearner(NodeEndpoint endpoint) {
+        logAppended = true;
+        notify();
+    }
+
+    @Override
+    public synchronized void promoteLearner(NodeId nodeId) {
+        logAppended = true;
+        notify();
+    }
+
     @Override
     public synchronized void downgradeNode(NodeId nodeId) {
         logAppended = true;
@@ -19,9 +19,10 @@ public class WaitableNewNodeCatchUpTaskContext implements NewNodeCatchUpTaskCont
     }
 
     @Override
-    public synchronized void sendInstallSnapshot(NodeEndpoint endpoint, int offset) {
+    public synchronized boolean sendInstallSnapshot(NodeEndpoint endpoint, int baseIndex, int offset) {
         replicated = true;
         notify();
+        return true;
     }
 
     @Override
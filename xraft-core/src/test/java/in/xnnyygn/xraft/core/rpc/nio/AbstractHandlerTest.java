@@ -0,0 +1,126 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.Protos;
+import in.xnnyygn.xraft.core.log.entry.Entry;
+import in.xnnyygn.xraft.core.log.entry.GeneralEntry;
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpc;
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpcMessage;
+import in.xnnyygn.xraft.core.rpc.message.LazyEntryList;
+import in.xnnyygn.xraft.core.rpc.message.MessageConstants;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+public class AbstractHandlerTest {
+
+    static class CountingLazyEntryList extends LazyEntryList {
+
+        int released = 0;
+
+        @Override
+        protected List<Entry> decode() {
+            return Collections.singletonList(new GeneralEntry(1, 1, new byte[0]));
+        }
+
+        @Override
+        protected void doRelease() {
+            released++;
+        }
+
+    }
+
+    private static AppendEntriesRpc newAppendEntriesRpc(LazyEntryList entries) {
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setEntries(entries);
+        return rpc;
+    }
+
+    @Test
+    public void testReleaseWhenHandlerRejected() {
+        NioConnectorTest.RecordingMessageHandler messageHandler = new NioConnectorTest.RecordingMessageHandler() {
+            @Override
+            public void onReceiveAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
+                throw new RejectedExecutionException();
+            }
+        };
+        EmbeddedChannel channel = new EmbeddedChannel(
+                new ToRemoteHandler(messageHandler, new CompressionPolicy(), NodeId.of("B"), NodeId.of("A"), false));
+        CountingLazyEntryList entries = new CountingLazyEntryList();
+        channel.writeInbound(newAppendEntriesRpc(entries));
+        Assert.assertEquals(1, entries.released);
+        Assert.assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testReleaseBeforeNodeId() {
+        NioConnectorTest.RecordingMessageHandler messageHandler = new NioConnectorTest.RecordingMessageHandler();
+        EmbeddedChannel channel = new EmbeddedChannel(new FromRemoteHandler(messageHandler, new CompressionPolicy(),
+                new InboundChannelGroup(), null, new InboundChannelGroup(), null));
+        CountingLazyEntryList entries = new CountingLazyEntryList();
+        channel.writeInbound(newAppendEntriesRpc(entries));
+        Assert.assertEquals(1, entries.released);
+        Assert.assertTrue(messageHandler.isEmpty());
+    }
+
+    @Test
+    public void testNotReleaseWhenAccepted() throws InterruptedException {
+        NioConnectorTest.RecordingMessageHandler messageHandler = new NioConnectorTest.RecordingMessageHandler();
+        EmbeddedChannel channel = new EmbeddedChannel(
+                new ToRemoteHandler(messageHandler, new CompressionPolicy(), NodeId.of("B"), NodeId.of("A"), false));
+        CountingLazyEntryList entries = new CountingLazyEntryList();
+        channel.writeInbound(newAppendEntriesRpc(entries));
+        Assert.assertEquals(0, entries.released);
+        AppendEntriesRpcMessage rpcMessage = messageHandler.take();
+        Assert.assertEquals("?", LazyEntryList.sizeOf(rpcMessage.get().getEntries()));
+        Assert.assertEquals(1, rpcMessage.get().getEntries().size());
+        Assert.assertEquals(1, entries.released);
+        Assert.assertEquals("1", LazyEntryList.sizeOf(rpcMessage.get().getEntries()));
+        rpcMessage.get().release();
+        Assert.assertEquals(1, entries.released);
+    }
+
+    @Test
+    public void testSequenceIdsNegotiated() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new Encoder(Integer.MAX_VALUE),
+                new ToRemoteHandler(new NioConnectorTest.RecordingMessageHandler(), new CompressionPolicy(),
+                        NodeId.of("B"), NodeId.of("A"), false));
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("A"));
+        channel.writeOutbound(rpc);
+        Protos.AppendEntriesRpc protoRpc = readAppendEntriesRpc(channel);
+        Assert.assertEquals(1L, protoRpc.getSequenceId());
+        Assert.assertEquals("1", protoRpc.getMessageId());
+
+        channel.writeInbound(SequenceIds.INSTANCE);
+        channel.writeOutbound(rpc);
+        protoRpc = readAppendEntriesRpc(channel);
+        Assert.assertEquals(2L, protoRpc.getSequenceId());
+        Assert.assertEquals("", protoRpc.getMessageId());
+        channel.finish();
+    }
+
+    private static Protos.AppendEntriesRpc readAppendEntriesRpc(EmbeddedChannel channel) throws Exception {
+        ByteBuf buffer;
+        while ((buffer = channel.readOutbound()) != null) {
+            try {
+                if (buffer.getInt(0) == MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC) {
+                    return Protos.AppendEntriesRpc.parseFrom(ByteBufUtil.getBytes(buffer, 8, buffer.readableBytes() - 8));
+                }
+            } finally {
+                buffer.release();
+            }
+        }
+        throw new AssertionError("no append entries rpc written");
+    }
+
+}
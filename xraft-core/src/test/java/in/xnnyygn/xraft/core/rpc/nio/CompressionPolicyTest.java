@@ -0,0 +1,120 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompressionPolicyTest {
+
+    private static class MockCodec implements CompressionCodec {
+
+        private boolean closed = false;
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return "mock";
+        }
+
+        @Nonnull
+        @Override
+        public byte[] compress(@Nonnull byte[] data) {
+            return data;
+        }
+
+        @Nonnull
+        @Override
+        public byte[] decompress(@Nonnull byte[] data, int originalLength) throws IOException {
+            return data;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+    }
+
+    @Test
+    public void testNegotiateDefault() {
+        CompressionPolicy policy = new CompressionPolicy(Collections.emptyList(), DeflateCodec.NAME, Collections.emptyMap(), 0);
+        CompressionCodec codec = policy.negotiate(NodeId.of("A"), Collections.singletonList(DeflateCodec.NAME));
+        Assert.assertNotNull(codec);
+        Assert.assertEquals(DeflateCodec.NAME, codec.getName());
+    }
+
+    @Test
+    public void testNegotiatePeerNotSupported() {
+        CompressionPolicy policy = new CompressionPolicy(Collections.emptyList(), DeflateCodec.NAME, Collections.emptyMap(), 0);
+        Assert.assertNull(policy.negotiate(NodeId.of("A"), Collections.emptyList()));
+    }
+
+    @Test
+    public void testNegotiateNone() {
+        CompressionPolicy policy = new CompressionPolicy();
+        Assert.assertNull(policy.negotiate(NodeId.of("A"), Collections.singletonList(DeflateCodec.NAME)));
+        Assert.assertEquals(Collections.singletonList(DeflateCodec.NAME), policy.getCodecNames());
+    }
+
+    @Test
+    public void testNegotiatePerPeer() {
+        Map<NodeId, String> peerCodecNames = new HashMap<>();
+        peerCodecNames.put(NodeId.of("A"), CompressionPolicy.CODEC_NONE);
+        peerCodecNames.put(NodeId.of("B"), "mock");
+        CompressionPolicy policy = new CompressionPolicy(Collections.singletonList(new MockCodec()), DeflateCodec.NAME, peerCodecNames, 0);
+        Assert.assertNull(policy.negotiate(NodeId.of("A"), Arrays.asList(DeflateCodec.NAME, "mock")));
+        CompressionCodec codec = policy.negotiate(NodeId.of("B"), Arrays.asList(DeflateCodec.NAME, "mock"));
+        Assert.assertNotNull(codec);
+        Assert.assertEquals("mock", codec.getName());
+        codec = policy.negotiate(NodeId.of("C"), Arrays.asList(DeflateCodec.NAME, "mock"));
+        Assert.assertNotNull(codec);
+        Assert.assertEquals(DeflateCodec.NAME, codec.getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownCodec() {
+        new CompressionPolicy(Collections.emptyList(), "foo", Collections.emptyMap(), 0);
+    }
+
+    @Test
+    public void testCloseNotCloseCodecOfCaller() {
+        MockCodec mockCodec = new MockCodec();
+        CompressionPolicy policy = new CompressionPolicy(Collections.singletonList(mockCodec), "mock", Collections.emptyMap(), 0);
+        policy.close();
+        Assert.assertFalse(mockCodec.closed);
+        CompressionCodec deflateCodec = policy.findCodec(DeflateCodec.NAME);
+        Assert.assertNotNull(deflateCodec);
+        try {
+            deflateCodec.compress(new byte[]{1, 2, 3});
+            Assert.fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void testDeflateRoundTrip() throws IOException {
+        DeflateCodec codec = new DeflateCodec();
+        byte[] data = new byte[4096];
+        Arrays.fill(data, (byte) 'a');
+        byte[] compressed = codec.compress(data);
+        Assert.assertTrue(compressed.length < data.length);
+        Assert.assertArrayEquals(data, codec.decompress(compressed, data.length));
+        codec.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testDeflateDecompressWrongLength() throws IOException {
+        DeflateCodec codec = new DeflateCodec();
+        byte[] data = new byte[4096];
+        byte[] compressed = codec.compress(data);
+        codec.decompress(compressed, data.length - 1);
+    }
+
+}
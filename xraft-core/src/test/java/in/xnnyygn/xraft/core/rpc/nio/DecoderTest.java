@@ -0,0 +1,336 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import com.google.protobuf.MessageLite;
+import in.xnnyygn.xraft.core.Protos;
+import in.xnnyygn.xraft.core.log.entry.Entry;
+import in.xnnyygn.xraft.core.log.entry.GeneralEntry;
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesResult;
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesRpc;
+import in.xnnyygn.xraft.core.rpc.message.MessageConstants;
+import in.xnnyygn.xraft.core.rpc.message.RequestVoteResult;
+import in.xnnyygn.xraft.core.rpc.message.RequestVoteRpc;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+public class DecoderTest {
+
+    private static final int MAX_FRAME_SIZE = 1024 * 1024;
+
+    private static ByteBuf encode(Encoder encoder, Object msg) {
+        EmbeddedChannel channel = new EmbeddedChannel(encoder);
+        Assert.assertTrue(channel.writeOutbound(msg));
+        ByteBuf buffer = channel.readOutbound();
+        channel.finish();
+        return buffer;
+    }
+
+    private static <T> T decode(Decoder decoder, ByteBuf buffer) {
+        EmbeddedChannel channel = new EmbeddedChannel(decoder);
+        Assert.assertTrue(channel.writeInbound(buffer));
+        T msg = channel.readInbound();
+        Assert.assertNull(channel.readInbound());
+        channel.finish();
+        return msg;
+    }
+
+    private static Encoder newCompactEncoder() {
+        Encoder encoder = new Encoder(Integer.MAX_VALUE);
+        encoder.setCompactFrames(true);
+        return encoder;
+    }
+
+    private static Decoder newDecoder(NodeId remoteId) {
+        return new Decoder(new CompressionPolicy(), remoteId, false, MAX_FRAME_SIZE);
+    }
+
+    private static byte[] payloadOf(ByteBuf buffer) {
+        return ByteBufUtil.getBytes(buffer, 8, buffer.readableBytes() - 8);
+    }
+
+    private static ByteBuf frame(int messageType, MessageLite message) {
+        byte[] payload = message.toByteArray();
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(messageType);
+        buffer.writeInt(payload.length);
+        buffer.writeBytes(payload);
+        return buffer;
+    }
+
+    private static AppendEntriesRpc newAppendEntriesRpc() {
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setMessageId(7L);
+        rpc.setTerm(2);
+        rpc.setLeaderId(NodeId.of("A"));
+        rpc.setEntries(Collections.singletonList(new GeneralEntry(1, 2, new byte[16])));
+        return rpc;
+    }
+
+    @Test
+    public void testAppendEntriesRpcWithSequenceId() throws Exception {
+        Encoder encoder = new Encoder(Integer.MAX_VALUE);
+        encoder.setSequenceIds(true);
+        ByteBuf buffer = encode(encoder, newAppendEntriesRpc());
+        Protos.AppendEntriesRpc protoRpc = Protos.AppendEntriesRpc.parseFrom(payloadOf(buffer));
+        Assert.assertEquals(7L, protoRpc.getSequenceId());
+        Assert.assertEquals("", protoRpc.getMessageId());
+
+        AppendEntriesRpc decoded = decode(newDecoder(NodeId.of("A")), buffer.copy());
+        Assert.assertEquals(7L, decoded.getMessageId());
+        Assert.assertNull(decoded.getLegacyMessageId());
+        decoded = decode(new Decoder(new CompressionPolicy(), NodeId.of("A"), true, MAX_FRAME_SIZE), buffer);
+        Assert.assertEquals(7L, decoded.getMessageId());
+        Assert.assertNull(decoded.getLegacyMessageId());
+        Assert.assertEquals(1, decoded.getEntries().size());
+    }
+
+    @Test
+    public void testAppendEntriesResultWithSequenceId() throws Exception {
+        Encoder encoder = new Encoder(Integer.MAX_VALUE);
+        encoder.setSequenceIds(true);
+        ByteBuf buffer = encode(encoder, new AppendEntriesResult(7L, 2, true));
+        Protos.AppendEntriesResult protoResult = Protos.AppendEntriesResult.parseFrom(payloadOf(buffer));
+        Assert.assertEquals(7L, protoResult.getRpcSequenceId());
+        Assert.assertEquals("", protoResult.getRpcMessageId());
+
+        AppendEntriesResult decoded = decode(newDecoder(NodeId.of("A")), buffer);
+        Assert.assertEquals(7L, decoded.getRpcMessageId());
+    }
+
+    @Test
+    public void testAppendEntriesRpcToLegacyPeer() throws Exception {
+        // peer does not tell sequence ids supported
+        ByteBuf buffer = encode(new Encoder(Integer.MAX_VALUE), newAppendEntriesRpc());
+        Protos.AppendEntriesRpc protoRpc = Protos.AppendEntriesRpc.parseFrom(payloadOf(buffer));
+        Assert.assertEquals("7", protoRpc.getMessageId());
+        buffer.release();
+
+        // legacy peer echoes message id only
+        Protos.AppendEntriesResult protoResult = Protos.AppendEntriesResult.newBuilder()
+                .setRpcMessageId("7")
+                .setTerm(2)
+                .setSuccess(true)
+                .build();
+        AppendEntriesResult decoded = decode(newDecoder(NodeId.of("A")),
+                frame(MessageConstants.MSG_TYPE_APPEND_ENTRIES_RESULT, protoResult));
+        Assert.assertEquals(7L, decoded.getRpcMessageId());
+    }
+
+    @Test
+    public void testAppendEntriesRpcFromLegacyPeer() throws Exception {
+        Protos.AppendEntriesRpc protoRpc = Protos.AppendEntriesRpc.newBuilder()
+                .setMessageId("6b1c0b0e-4d3c-4a39-9a43-1c3f5e7d2a10")
+                .setTerm(2)
+                .setLeaderId("A")
+                .build();
+        AppendEntriesRpc decoded = decode(newDecoder(NodeId.of("A")),
+                frame(MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC, protoRpc));
+        Assert.assertEquals("6b1c0b0e-4d3c-4a39-9a43-1c3f5e7d2a10", decoded.getLegacyMessageId());
+
+        // legacy message id is echoed in result
+        AppendEntriesResult result = new AppendEntriesResult(decoded.getMessageId(), decoded.getLegacyMessageId(), 2, true);
+        ByteBuf buffer = encode(new Encoder(Integer.MAX_VALUE), result);
+        Protos.AppendEntriesResult protoResult = Protos.AppendEntriesResult.parseFrom(payloadOf(buffer));
+        Assert.assertEquals("6b1c0b0e-4d3c-4a39-9a43-1c3f5e7d2a10", protoResult.getRpcMessageId());
+        buffer.release();
+    }
+
+    @Test
+    public void testSequenceIds() {
+        ByteBuf buffer = encode(new Encoder(Integer.MAX_VALUE), SequenceIds.INSTANCE);
+        Assert.assertEquals(MessageConstants.MSG_TYPE_SEQUENCE_IDS, buffer.getInt(0));
+        Assert.assertSame(SequenceIds.INSTANCE, decode(newDecoder(NodeId.of("A")), buffer));
+    }
+
+    @Test
+    public void testCompactHeartbeatRpc() {
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setMessageId(7L);
+        rpc.setTerm(2);
+        rpc.setLeaderId(NodeId.of("A"));
+        rpc.setPrevLogIndex(10);
+        rpc.setPrevLogTerm(1);
+        rpc.setLeaderCommit(9);
+        ByteBuf buffer = encode(newCompactEncoder(), rpc);
+        Assert.assertEquals(MessageConstants.MSG_TYPE_COMPACT_HEARTBEAT_RPC, buffer.getInt(0));
+        Assert.assertEquals(8 + CompactFrames.HEARTBEAT_RPC_LENGTH, buffer.readableBytes());
+
+        AppendEntriesRpc decoded = decode(newDecoder(NodeId.of("A")), buffer);
+        Assert.assertEquals(7L, decoded.getMessageId());
+        Assert.assertEquals(2, decoded.getTerm());
+        Assert.assertEquals(NodeId.of("A"), decoded.getLeaderId());
+        Assert.assertEquals(10, decoded.getPrevLogIndex());
+        Assert.assertEquals(1, decoded.getPrevLogTerm());
+        Assert.assertEquals(9, decoded.getLeaderCommit());
+        Assert.assertTrue(decoded.getEntries().isEmpty());
+    }
+
+    @Test
+    public void testCompactAppendEntriesResult() {
+        ByteBuf buffer = encode(newCompactEncoder(), new AppendEntriesResult(7L, 2, true));
+        Assert.assertEquals(MessageConstants.MSG_TYPE_COMPACT_APPEND_ENTRIES_RESULT, buffer.getInt(0));
+        Assert.assertEquals(8 + CompactFrames.APPEND_ENTRIES_RESULT_LENGTH, buffer.readableBytes());
+
+        AppendEntriesResult decoded = decode(newDecoder(NodeId.of("A")), buffer);
+        Assert.assertEquals(7L, decoded.getRpcMessageId());
+        Assert.assertEquals(2, decoded.getTerm());
+        Assert.assertTrue(decoded.isSuccess());
+    }
+
+    @Test
+    public void testCompactRequestVoteRpc() {
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(3);
+        rpc.setCandidateId(NodeId.of("A"));
+        rpc.setLastLogIndex(10);
+        rpc.setLastLogTerm(2);
+        ByteBuf buffer = encode(newCompactEncoder(), rpc);
+        Assert.assertEquals(MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RPC, buffer.getInt(0));
+        Assert.assertEquals(8 + CompactFrames.REQUEST_VOTE_RPC_LENGTH, buffer.readableBytes());
+
+        RequestVoteRpc decoded = decode(newDecoder(NodeId.of("A")), buffer);
+        Assert.assertEquals(3, decoded.getTerm());
+        Assert.assertEquals(NodeId.of("A"), decoded.getCandidateId());
+        Assert.assertEquals(10, decoded.getLastLogIndex());
+        Assert.assertEquals(2, decoded.getLastLogTerm());
+    }
+
+    @Test
+    public void testCompactRequestVoteResult() {
+        ByteBuf buffer = encode(newCompactEncoder(), new RequestVoteResult(3, true));
+        Assert.assertEquals(MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT, buffer.getInt(0));
+        Assert.assertEquals(8 + CompactFrames.REQUEST_VOTE_RESULT_LENGTH, buffer.readableBytes());
+
+        RequestVoteResult decoded = decode(newDecoder(NodeId.of("A")), buffer);
+        Assert.assertEquals(3, decoded.getTerm());
+        Assert.assertTrue(decoded.isVoteGranted());
+    }
+
+    @Test
+    public void testCompressedAppendEntriesRpc() {
+        Encoder encoder = new Encoder(1024);
+        encoder.setCompressionCodec(new DeflateCodec());
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setMessageId(7L);
+        rpc.setTerm(2);
+        rpc.setLeaderId(NodeId.of("A"));
+        byte[] command = new byte[4096];
+        rpc.setEntries(Collections.singletonList(new GeneralEntry(1, 2, command)));
+        ByteBuf buffer = encode(encoder, rpc);
+        Assert.assertEquals(MessageConstants.MSG_TYPE_COMPRESSED, buffer.getInt(0));
+        Assert.assertTrue(buffer.readableBytes() < command.length);
+
+        CompressionPolicy policy = new CompressionPolicy(Collections.emptyList(), DeflateCodec.NAME, Collections.emptyMap(), 1024);
+        AppendEntriesRpc decoded = decode(new Decoder(policy, NodeId.of("A"), false, MAX_FRAME_SIZE), buffer);
+        Assert.assertEquals(7L, decoded.getMessageId());
+        Assert.assertEquals(1, decoded.getEntries().size());
+        Entry entry = decoded.getEntries().get(0);
+        Assert.assertEquals(1, entry.getIndex());
+        Assert.assertArrayEquals(command, entry.getCommandBytes());
+    }
+
+    @Test
+    public void testUncompressedBelowThreshold() {
+        Encoder encoder = new Encoder(1024);
+        encoder.setCompressionCodec(new DeflateCodec());
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(2);
+        rpc.setLeaderId(NodeId.of("A"));
+        rpc.setEntries(Collections.singletonList(new GeneralEntry(1, 2, new byte[16])));
+        ByteBuf buffer = encode(encoder, rpc);
+        Assert.assertEquals(MessageConstants.MSG_TYPE_APPEND_ENTRIES_RPC, buffer.getInt(0));
+    }
+
+    @Test
+    public void testFrameTooLarge() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(MessageConstants.MSG_TYPE_NODE_ID);
+        buffer.writeInt(MAX_FRAME_SIZE + 1);
+        EmbeddedChannel channel = new EmbeddedChannel(newDecoder(null));
+        try {
+            channel.writeInbound(buffer);
+            Assert.fail();
+        } catch (DecoderException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testDecompressedFrameTooLarge() {
+        Encoder encoder = new Encoder(1024);
+        encoder.setCompressionCodec(new DeflateCodec());
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(2);
+        rpc.setLeaderId(NodeId.of("A"));
+        rpc.setEntries(Collections.singletonList(new GeneralEntry(1, 2, new byte[8192])));
+        ByteBuf buffer = encode(encoder, rpc);
+        Assert.assertEquals(MessageConstants.MSG_TYPE_COMPRESSED, buffer.getInt(0));
+
+        CompressionPolicy policy = new CompressionPolicy(Collections.emptyList(), DeflateCodec.NAME, Collections.emptyMap(), 1024);
+        EmbeddedChannel channel = new EmbeddedChannel(new Decoder(policy, NodeId.of("A"), false, 4096));
+        try {
+            channel.writeInbound(buffer);
+            Assert.fail();
+        } catch (DecoderException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testCompactFrameWithFieldsAddedLater() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT);
+        buffer.writeInt(CompactFrames.REQUEST_VOTE_RESULT_LENGTH + 4);
+        buffer.writeInt(3);
+        buffer.writeBoolean(true);
+        buffer.writeInt(0); // unknown field
+        RequestVoteResult decoded = decode(newDecoder(NodeId.of("A")), buffer);
+        Assert.assertEquals(3, decoded.getTerm());
+    }
+
+    @Test
+    public void testCompactFrameTruncated() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(MessageConstants.MSG_TYPE_COMPACT_HEARTBEAT_RPC);
+        buffer.writeInt(12);
+        buffer.writeLong(7L);
+        buffer.writeInt(2);
+        // next frame
+        buffer.writeInt(MessageConstants.MSG_TYPE_COMPACT_REQUEST_VOTE_RESULT);
+        buffer.writeInt(CompactFrames.REQUEST_VOTE_RESULT_LENGTH);
+        buffer.writeInt(3);
+        buffer.writeBoolean(true);
+        EmbeddedChannel channel = new EmbeddedChannel(newDecoder(NodeId.of("A")));
+        try {
+            channel.writeInbound(buffer);
+            Assert.fail();
+        } catch (DecoderException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+        Assert.assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void testCompactFrameBeforeNodeId() {
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(3);
+        rpc.setCandidateId(NodeId.of("A"));
+        ByteBuf buffer = encode(newCompactEncoder(), rpc);
+        EmbeddedChannel channel = new EmbeddedChannel(newDecoder(null));
+        try {
+            channel.writeInbound(buffer);
+            Assert.fail();
+        } catch (DecoderException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class EventLoopAffinityTest {
+
+    private EventLoopGroup group;
+
+    @Before
+    public void setUp() {
+        group = new DefaultEventLoopGroup(3);
+    }
+
+    @After
+    public void tearDown() {
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testRoundRobin() {
+        EventLoopAffinity affinity = new EventLoopAffinity(group, Collections.emptyMap());
+        List<EventLoop> eventLoops = affinity.getEventLoops();
+        Assert.assertEquals(3, eventLoops.size());
+        Assert.assertSame(eventLoops.get(0), affinity.get(NodeId.of("A")));
+        Assert.assertSame(eventLoops.get(1), affinity.get(NodeId.of("B")));
+        Assert.assertSame(eventLoops.get(2), affinity.get(NodeId.of("C")));
+        Assert.assertSame(eventLoops.get(0), affinity.get(NodeId.of("D")));
+    }
+
+    @Test
+    public void testSameEventLoopForPeer() {
+        EventLoopAffinity affinity = new EventLoopAffinity(group, Collections.emptyMap());
+        EventLoop eventLoop = affinity.get(NodeId.of("A"));
+        affinity.get(NodeId.of("B"));
+        Assert.assertSame(eventLoop, affinity.get(NodeId.of("A")));
+    }
+
+    @Test
+    public void testSpecifiedIndex() {
+        Map<NodeId, Integer> indexMap = new HashMap<>();
+        indexMap.put(NodeId.of("A"), 2);
+        indexMap.put(NodeId.of("B"), 4);
+        indexMap.put(NodeId.of("C"), -1);
+        EventLoopAffinity affinity = new EventLoopAffinity(group, indexMap);
+        List<EventLoop> eventLoops = affinity.getEventLoops();
+        Assert.assertSame(eventLoops.get(2), affinity.get(NodeId.of("A")));
+        Assert.assertSame(eventLoops.get(1), affinity.get(NodeId.of("B")));
+        Assert.assertSame(eventLoops.get(2), affinity.get(NodeId.of("C")));
+
+        // round robin is not affected by specified ones
+        Assert.assertSame(eventLoops.get(0), affinity.get(NodeId.of("D")));
+    }
+
+    @Test
+    public void testListPeers() {
+        EventLoopAffinity affinity = new EventLoopAffinity(group, Collections.emptyMap());
+        for (String id : new String[]{"A", "B", "C", "D"}) {
+            affinity.get(NodeId.of(id));
+        }
+        List<EventLoop> eventLoops = affinity.getEventLoops();
+        Assert.assertEquals(new HashSet<>(Arrays.asList(NodeId.of("A"), NodeId.of("D"))), affinity.listPeers(eventLoops.get(0)));
+        Assert.assertEquals(Collections.singleton(NodeId.of("B")), affinity.listPeers(eventLoops.get(1)));
+        Assert.assertEquals(Collections.singleton(NodeId.of("C")), affinity.listPeers(eventLoops.get(2)));
+    }
+
+}
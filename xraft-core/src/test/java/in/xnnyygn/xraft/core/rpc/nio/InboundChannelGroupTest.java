@@ -0,0 +1,58 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InboundChannelGroupTest {
+
+    @Test
+    public void testFind() {
+        InboundChannelGroup group = new InboundChannelGroup();
+        NioChannel channelB = new NioChannel(new EmbeddedChannel());
+        NioChannel channelC = new NioChannel(new EmbeddedChannel());
+        group.add(NodeId.of("B"), channelB);
+        group.add(NodeId.of("C"), channelC);
+        Assert.assertSame(channelB, group.find(NodeId.of("B")));
+        Assert.assertSame(channelC, group.find(NodeId.of("C")));
+        Assert.assertNull(group.find(NodeId.of("D")));
+    }
+
+    @Test
+    public void testRemoveWhenClosed() {
+        InboundChannelGroup group = new InboundChannelGroup();
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel();
+        group.add(NodeId.of("B"), new NioChannel(embeddedChannel));
+        embeddedChannel.close();
+        Assert.assertNull(group.find(NodeId.of("B")));
+    }
+
+    @Test
+    public void testPreviousChannelClosed() {
+        InboundChannelGroup group = new InboundChannelGroup();
+        EmbeddedChannel previous = new EmbeddedChannel();
+        group.add(NodeId.of("B"), new NioChannel(previous));
+        NioChannel channel = new NioChannel(new EmbeddedChannel());
+        group.add(NodeId.of("B"), channel);
+
+        // channel replaced is not removed by close of previous one
+        previous.close();
+        Assert.assertSame(channel, group.find(NodeId.of("B")));
+    }
+
+    @Test
+    public void testAddClosedChannel() {
+        InboundChannelGroup group = new InboundChannelGroup();
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel();
+        embeddedChannel.close();
+        group.add(NodeId.of("B"), new NioChannel(embeddedChannel));
+        Assert.assertNull(group.find(NodeId.of("B")));
+
+        // closed channel is removed at once, new channel found
+        NioChannel channel = new NioChannel(new EmbeddedChannel());
+        group.add(NodeId.of("B"), channel);
+        Assert.assertSame(channel, group.find(NodeId.of("B")));
+    }
+
+}
@@ -0,0 +1,71 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.rpc.message.AppendEntriesResult;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NioChannelTest {
+
+    // embedded channel runs pending tasks when writing to head, so writes end here
+    private static class RecordingOutboundHandler extends ChannelOutboundHandlerAdapter {
+
+        private int writes = 0;
+        private int flushes = 0;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            writes++;
+            promise.setSuccess();
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+        }
+
+    }
+
+    @Test
+    public void testFlushesConsolidated() {
+        RecordingOutboundHandler counter = new RecordingOutboundHandler();
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(counter, NioChannel.newFlushConsolidationHandler(),
+                new Encoder(Integer.MAX_VALUE));
+        NioChannel channel = new NioChannel(embeddedChannel);
+        for (int i = 0; i < 3; i++) {
+            channel.writeAppendEntriesResult(new AppendEntriesResult(i, 1, true));
+        }
+        Assert.assertEquals(3, counter.writes);
+        Assert.assertEquals(0, counter.flushes);
+
+        // flushed once in event loop
+        embeddedChannel.runPendingTasks();
+        Assert.assertEquals(1, counter.flushes);
+        Assert.assertEquals(3, counter.writes);
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void testExplicitFlushAfterTooManyFlushes() {
+        RecordingOutboundHandler counter = new RecordingOutboundHandler();
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(counter, NioChannel.newFlushConsolidationHandler(),
+                new Encoder(Integer.MAX_VALUE));
+        NioChannel channel = new NioChannel(embeddedChannel);
+        for (int i = 0; i < 300; i++) {
+            channel.writeAppendEntriesResult(new AppendEntriesResult(i, 1, true));
+        }
+
+        // explicit flush at 256th flush, the rest flushed in event loop
+        Assert.assertEquals(1, counter.flushes);
+        embeddedChannel.runPendingTasks();
+        Assert.assertEquals(2, counter.flushes);
+        Assert.assertEquals(300, counter.writes);
+        embeddedChannel.finish();
+    }
+
+}
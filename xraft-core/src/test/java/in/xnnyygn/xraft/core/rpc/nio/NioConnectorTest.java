@@ -0,0 +1,242 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.log.entry.GeneralEntry;
+import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.node.config.NodeConfig;
+import in.xnnyygn.xraft.core.rpc.InboundMessageHandler;
+import in.xnnyygn.xraft.core.rpc.event.ChannelWritableEvent;
+import in.xnnyygn.xraft.core.rpc.message.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class NioConnectorTest {
+
+    static class RecordingMessageHandler implements InboundMessageHandler {
+
+        private final BlockingQueue<Object> messages = new LinkedBlockingQueue<>();
+
+        @SuppressWarnings("unchecked")
+        <T> T take() throws InterruptedException {
+            Object message = messages.poll(3, TimeUnit.SECONDS);
+            Assert.assertNotNull("no message received", message);
+            return (T) message;
+        }
+
+        boolean isEmpty() {
+            return messages.isEmpty();
+        }
+
+        @Override
+        public void onReceiveRequestVoteRpc(RequestVoteRpcMessage rpcMessage) {
+            messages.add(rpcMessage);
+        }
+
+        @Override
+        public void onReceiveRequestVoteResult(RequestVoteResult result) {
+            messages.add(result);
+        }
+
+        @Override
+        public void onReceivePreVoteRpc(PreVoteRpcMessage rpcMessage) {
+            messages.add(rpcMessage);
+        }
+
+        @Override
+        public void onReceivePreVoteResult(PreVoteResultMessage resultMessage) {
+            messages.add(resultMessage);
+        }
+
+        @Override
+        public void onReceiveTimeoutNowRpc(TimeoutNowRpcMessage rpcMessage) {
+            messages.add(rpcMessage);
+        }
+
+        @Override
+        public void onReceiveAppendEntriesRpc(AppendEntriesRpcMessage rpcMessage) {
+            messages.add(rpcMessage);
+        }
+
+        @Override
+        public void onReceiveAppendEntriesResult(AppendEntriesResultMessage resultMessage) {
+            messages.add(resultMessage);
+        }
+
+        @Override
+        public void onReceiveInstallSnapshotRpc(InstallSnapshotRpcMessage rpcMessage) {
+            messages.add(rpcMessage);
+        }
+
+        @Override
+        public void onReceiveInstallSnapshotResult(InstallSnapshotResultMessage resultMessage) {
+            messages.add(resultMessage);
+        }
+
+        @Override
+        public void onReceiveTransferSnapshotRpc(TransferSnapshotRpcMessage rpcMessage) {
+            messages.add(rpcMessage);
+        }
+
+        @Override
+        public void onReceiveTransferSnapshotResult(TransferSnapshotResultMessage resultMessage) {
+            messages.add(resultMessage);
+        }
+
+        @Override
+        public void onChannelWritable(ChannelWritableEvent event) {
+        }
+
+    }
+
+    private final List<NioConnector> connectors = new ArrayList<>();
+
+    static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private NioConnector newConnector(String selfId, int port, NodeConfig config, InboundMessageHandler handler) {
+        NioConnector connector = new NioConnector(new NioEventLoopGroup(1), false, NodeId.of(selfId), handler,
+                port, config, new CompressionPolicy());
+        connectors.add(connector);
+        return connector;
+    }
+
+    private static NodeConfig newConfig(boolean priorityLane, boolean multiplexed) {
+        NodeConfig config = new NodeConfig();
+        config.setNioPriorityLane(priorityLane);
+        config.setNioChannelMultiplexed(multiplexed);
+        return config;
+    }
+
+    @After
+    public void tearDown() {
+        connectors.forEach(NioConnector::close);
+    }
+
+    @Test
+    public void testHeartbeatNotOvertakeEntriesWithPriorityLane() throws Exception {
+        int port = findFreePort();
+        RecordingMessageHandler handlerA = new RecordingMessageHandler();
+        newConnector("A", port, newConfig(true, false), handlerA).initialize();
+        NioConnector connectorB = newConnector("B", findFreePort(), newConfig(true, false), new RecordingMessageHandler());
+        NodeEndpoint endpointA = new NodeEndpoint("A", "localhost", port);
+
+        AppendEntriesRpc rpc = new AppendEntriesRpc();
+        rpc.setTerm(1);
+        rpc.setLeaderId(NodeId.of("B"));
+        rpc.setEntries(Collections.singletonList(new GeneralEntry(1, 1, new byte[4 * 1024 * 1024])));
+        connectorB.sendAppendEntries(rpc, endpointA);
+        AppendEntriesRpc heartbeat = new AppendEntriesRpc();
+        heartbeat.setTerm(1);
+        heartbeat.setLeaderId(NodeId.of("B"));
+        heartbeat.setPrevLogIndex(1);
+        heartbeat.setPrevLogTerm(1);
+        heartbeat.setLeaderCommit(1);
+        connectorB.sendAppendEntries(heartbeat, endpointA);
+
+        AppendEntriesRpcMessage message = handlerA.take();
+        Assert.assertEquals(1, message.get().getEntries().size());
+        message = handlerA.take();
+        Assert.assertTrue(message.get().getEntries().isEmpty());
+        Assert.assertEquals(1, message.get().getLeaderCommit());
+    }
+
+    @Test
+    public void testRequestVoteWithPriorityLane() throws Exception {
+        int portA = findFreePort();
+        int portB = findFreePort();
+        RecordingMessageHandler handlerA = new RecordingMessageHandler();
+        RecordingMessageHandler handlerB = new RecordingMessageHandler();
+        NioConnector connectorA = newConnector("A", portA, newConfig(true, false), handlerA);
+        connectorA.initialize();
+        NioConnector connectorB = newConnector("B", portB, newConfig(true, false), handlerB);
+        connectorB.initialize();
+
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("B"));
+        connectorB.sendRequestVote(rpc, Collections.singletonList(new NodeEndpoint("A", "localhost", portA)));
+        RequestVoteRpcMessage rpcMessage = handlerA.take();
+        Assert.assertEquals(NodeId.of("B"), rpcMessage.getSourceNodeId());
+        connectorA.replyRequestVote(new RequestVoteResult(2, true), rpcMessage);
+        RequestVoteResult result = handlerB.take();
+        Assert.assertTrue(result.isVoteGranted());
+    }
+
+    @Test
+    public void testMultiplexedChannelByNodeId() throws Exception {
+        int portA = findFreePort();
+        RecordingMessageHandler handlerA = new RecordingMessageHandler();
+        NioConnector connectorA = newConnector("A", portA, newConfig(false, true), handlerA);
+        connectorA.initialize();
+        NodeEndpoint endpointA = new NodeEndpoint("A", "localhost", portA);
+
+        // B and C do not listen, A replies through connections from them
+        RecordingMessageHandler handlerB = new RecordingMessageHandler();
+        NioConnector connectorB = newConnector("B", findFreePort(), newConfig(false, true), handlerB);
+        RecordingMessageHandler handlerC = new RecordingMessageHandler();
+        NioConnector connectorC = newConnector("C", findFreePort(), newConfig(false, true), handlerC);
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("B"));
+        connectorB.sendRequestVote(rpc, Collections.singletonList(endpointA));
+        Assert.assertEquals(NodeId.of("B"), handlerA.<RequestVoteRpcMessage>take().getSourceNodeId());
+        rpc = new RequestVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("C"));
+        connectorC.sendRequestVote(rpc, Collections.singletonList(endpointA));
+        Assert.assertEquals(NodeId.of("C"), handlerA.<RequestVoteRpcMessage>take().getSourceNodeId());
+
+        for (String id : new String[]{"B", "C"}) {
+            AppendEntriesRpc aeRpc = new AppendEntriesRpc();
+            aeRpc.setTerm(3);
+            aeRpc.setLeaderId(NodeId.of("A"));
+            aeRpc.setLeaderCommit(id.equals("B") ? 1 : 2);
+            connectorA.sendAppendEntries(aeRpc, new NodeEndpoint(id, "localhost", findFreePort()));
+        }
+        AppendEntriesRpcMessage rpcMessage = handlerB.take();
+        Assert.assertEquals(1, rpcMessage.get().getLeaderCommit());
+        rpcMessage = handlerC.take();
+        Assert.assertEquals(2, rpcMessage.get().getLeaderCommit());
+        Assert.assertTrue(handlerB.isEmpty());
+        Assert.assertTrue(handlerC.isEmpty());
+    }
+
+    @Test
+    public void testMultiplexedPriorityLane() throws Exception {
+        int portA = findFreePort();
+        RecordingMessageHandler handlerA = new RecordingMessageHandler();
+        RecordingMessageHandler handlerB = new RecordingMessageHandler();
+        NioConnector connectorA = newConnector("A", portA, newConfig(true, true), handlerA);
+        connectorA.initialize();
+
+        // B does not listen, A must reuse the priority connection from B
+        NioConnector connectorB = newConnector("B", findFreePort(), newConfig(true, true), handlerB);
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(2);
+        rpc.setCandidateId(NodeId.of("B"));
+        connectorB.sendRequestVote(rpc, Collections.singletonList(new NodeEndpoint("A", "localhost", portA)));
+        handlerA.<RequestVoteRpcMessage>take();
+
+        rpc = new RequestVoteRpc();
+        rpc.setTerm(3);
+        rpc.setCandidateId(NodeId.of("A"));
+        connectorA.sendRequestVote(rpc, Collections.singletonList(new NodeEndpoint("B", "localhost", findFreePort())));
+        RequestVoteRpcMessage rpcMessage = handlerB.take();
+        Assert.assertEquals(3, rpcMessage.get().getTerm());
+    }
+
+}
@@ -0,0 +1,165 @@
+package in.xnnyygn.xraft.core.rpc.nio;
+
+import in.xnnyygn.xraft.core.node.NodeId;
+import in.xnnyygn.xraft.core.node.config.NodeConfig;
+import in.xnnyygn.xraft.core.rpc.Address;
+import in.xnnyygn.xraft.core.rpc.ChannelConnectException;
+import in.xnnyygn.xraft.core.rpc.message.RequestVoteRpc;
+import in.xnnyygn.xraft.core.rpc.message.RequestVoteRpcMessage;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class OutboundChannelTest {
+
+    private static final int MIN_RECONNECT_BACKOFF = 200;
+
+    private final NioConnectorTest.RecordingMessageHandler receiver = new NioConnectorTest.RecordingMessageHandler();
+    private NioEventLoopGroup workerGroup;
+    private NioConnector connector;
+    private OutboundChannel channel;
+
+    @Before
+    public void setUp() {
+        workerGroup = new NioEventLoopGroup(1);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (channel != null) {
+            channel.close();
+        }
+        if (connector != null) {
+            connector.close();
+        }
+        workerGroup.shutdownGracefully().sync();
+    }
+
+    private void listen(int port) {
+        connector = new NioConnector(new NioEventLoopGroup(1), false, NodeId.of("A"), receiver,
+                port, new NodeConfig(), new CompressionPolicy());
+        connector.initialize();
+    }
+
+    private int takeTerm() throws InterruptedException {
+        RequestVoteRpcMessage rpcMessage = receiver.take();
+        Assert.assertEquals(NodeId.of("B"), rpcMessage.getSourceNodeId());
+        return rpcMessage.get().getTerm();
+    }
+
+    private OutboundChannel newChannel(int port) {
+        CompressionPolicy compressionPolicy = new CompressionPolicy();
+        Bootstrap bootstrap = Transport.configureClient(new Bootstrap().group(workerGroup))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1000)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new Decoder(compressionPolicy, NodeId.of("A"), false, Integer.MAX_VALUE));
+                        ch.pipeline().addLast(new Encoder(compressionPolicy.getThreshold()));
+                        ch.pipeline().addLast(new ToRemoteHandler(new NioConnectorTest.RecordingMessageHandler(),
+                                compressionPolicy, NodeId.of("A"), NodeId.of("B"), false));
+                    }
+                });
+        channel = new OutboundChannel(NodeId.of("A"), bootstrap, MIN_RECONNECT_BACKOFF, MIN_RECONNECT_BACKOFF * 2);
+        channel.setAddress(new Address("localhost", port));
+        return channel;
+    }
+
+    private static RequestVoteRpc newRequestVoteRpc(int term) {
+        RequestVoteRpc rpc = new RequestVoteRpc();
+        rpc.setTerm(term);
+        rpc.setCandidateId(NodeId.of("B"));
+        return rpc;
+    }
+
+    // block event loop, so channel stays connecting until latch counted down
+    private CountDownLatch blockEventLoop() {
+        CountDownLatch latch = new CountDownLatch(1);
+        workerGroup.next().execute(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        return latch;
+    }
+
+    @Test
+    public void testDrainPendingMessagesOnConnect() throws Exception {
+        int port = NioConnectorTest.findFreePort();
+        listen(port);
+        OutboundChannel channel = newChannel(port);
+        CountDownLatch latch = blockEventLoop();
+        for (int term = 1; term <= 3; term++) {
+            channel.writeRequestVoteRpc(newRequestVoteRpc(term));
+        }
+        Assert.assertTrue(channel.isOpen());
+        latch.countDown();
+        for (int term = 1; term <= 3; term++) {
+            Assert.assertEquals(term, takeTerm());
+        }
+
+        // connected, written directly
+        channel.writeRequestVoteRpc(newRequestVoteRpc(4));
+        Assert.assertEquals(4, takeTerm());
+    }
+
+    @Test
+    public void testTooManyPendingMessages() throws Exception {
+        int port = NioConnectorTest.findFreePort();
+        listen(port);
+        OutboundChannel channel = newChannel(port);
+        CountDownLatch latch = blockEventLoop();
+        for (int term = 1; term <= OutboundChannel.MAX_PENDING_MESSAGES; term++) {
+            channel.writeRequestVoteRpc(newRequestVoteRpc(term));
+        }
+        try {
+            channel.writeRequestVoteRpc(newRequestVoteRpc(OutboundChannel.MAX_PENDING_MESSAGES + 1));
+            Assert.fail();
+        } catch (ChannelConnectException ignored) {
+        } finally {
+            latch.countDown();
+        }
+
+        // newest failed, messages queued are kept
+        for (int term = 1; term <= OutboundChannel.MAX_PENDING_MESSAGES; term++) {
+            Assert.assertEquals(term, takeTerm());
+        }
+        Assert.assertTrue(receiver.isEmpty());
+    }
+
+    @Test
+    public void testReconnectBackoff() throws Exception {
+        int port = NioConnectorTest.findFreePort();
+        OutboundChannel channel = newChannel(port);
+
+        // nobody listens
+        channel.writeRequestVoteRpc(newRequestVoteRpc(1));
+        long deadline = System.currentTimeMillis() + 3000;
+        while (channel.isOpen()) {
+            Assert.assertTrue("connecting not failed", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+        try {
+            channel.writeRequestVoteRpc(newRequestVoteRpc(2));
+            Assert.fail();
+        } catch (ChannelConnectException ignored) {
+        }
+        Assert.assertFalse(channel.isOpen());
+
+        // reconnect after backoff
+        listen(port);
+        Thread.sleep(MIN_RECONNECT_BACKOFF);
+        channel.writeRequestVoteRpc(newRequestVoteRpc(3));
+        Assert.assertEquals(3, takeTerm());
+    }
+
+}
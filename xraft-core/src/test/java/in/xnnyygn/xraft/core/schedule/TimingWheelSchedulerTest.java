@@ -0,0 +1,206 @@
+package in.xnnyygn.xraft.core.schedule;
+
+import in.xnnyygn.xraft.core.node.config.NodeConfig;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimingWheelSchedulerTest {
+
+    private static final int TICK = 10;
+
+    private final AtomicLong clock = new AtomicLong(0L);
+    private final AtomicInteger count = new AtomicInteger(0);
+    private TimingWheelScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new TimingWheelScheduler(100, 100, 0, 50, TICK, clock::get, false);
+    }
+
+    private void advanceTo(long millis) {
+        clock.set(TimeUnit.MILLISECONDS.toNanos(millis));
+        scheduler.advance();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        ScheduledFuture<?> future = scheduler.schedule(count::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+        advanceTo(20);
+        Assert.assertEquals(0, count.get());
+        Assert.assertFalse(future.isDone());
+
+        // deadline is in bucket of tick 2, processed when tick 2 passed
+        advanceTo(29);
+        Assert.assertEquals(0, count.get());
+        advanceTo(30);
+        Assert.assertEquals(1, count.get());
+        Assert.assertTrue(future.isDone());
+        Assert.assertNull(future.get());
+    }
+
+    @Test
+    public void testSchedulePastDue() {
+        advanceTo(50);
+        scheduler.schedule(count::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+        advanceTo(59);
+        Assert.assertEquals(0, count.get());
+        advanceTo(60);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testRemainingRounds() {
+        long delay = (TimingWheelScheduler.WHEEL_SIZE + 2) * TICK;
+        scheduler.schedule(count::incrementAndGet, delay, TimeUnit.MILLISECONDS);
+
+        // same bucket in first round
+        advanceTo(3 * TICK);
+        Assert.assertEquals(0, count.get());
+        advanceTo(delay + TICK - 1);
+        Assert.assertEquals(0, count.get());
+        advanceTo(delay + TICK);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testResetElectionTimeout() {
+        ElectionTimeout timeout = scheduler.scheduleElectionTimeout(count::incrementAndGet);
+        advanceTo(50);
+        Assert.assertTrue(timeout.reset());
+
+        // moved from bucket of tick 10 to bucket of tick 15
+        advanceTo(110);
+        Assert.assertEquals(0, count.get());
+        advanceTo(159);
+        Assert.assertEquals(0, count.get());
+        advanceTo(160);
+        Assert.assertEquals(1, count.get());
+        Assert.assertFalse(timeout.reset());
+    }
+
+    @Test
+    public void testResetElectionTimeoutInSameRound() {
+        ElectionTimeout timeout = scheduler.scheduleElectionTimeout(count::incrementAndGet);
+        advanceTo(10);
+        for (int i = 1; i <= 10; i++) {
+            advanceTo(10 + i * 50);
+            Assert.assertTrue(timeout.reset());
+        }
+        Assert.assertEquals(0, count.get());
+        advanceTo(10 + 10 * 50 + 110);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        ScheduledFuture<?> future = scheduler.schedule(count::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+        advanceTo(10);
+        Assert.assertTrue(future.cancel(false));
+        Assert.assertFalse(future.cancel(false));
+        advanceTo(100);
+        Assert.assertEquals(0, count.get());
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertTrue(future.isDone());
+        try {
+            future.get();
+            Assert.fail();
+        } catch (CancellationException ignored) {
+        }
+    }
+
+    @Test
+    public void testCancelElectionTimeout() {
+        ElectionTimeout timeout = scheduler.scheduleElectionTimeout(count::incrementAndGet);
+        timeout.cancel();
+        Assert.assertFalse(timeout.reset());
+        advanceTo(200);
+        Assert.assertEquals(0, count.get());
+    }
+
+    @Test
+    public void testLogReplicationTask() {
+        LogReplicationTask task = scheduler.scheduleLogReplicationTask(count::incrementAndGet);
+        advanceTo(10);
+        Assert.assertEquals(1, count.get());
+
+        // next run at 10 + 50, in bucket of tick 6
+        advanceTo(69);
+        Assert.assertEquals(1, count.get());
+        advanceTo(70);
+        Assert.assertEquals(2, count.get());
+        advanceTo(130);
+        Assert.assertEquals(3, count.get());
+        task.cancel();
+        advanceTo(500);
+        Assert.assertEquals(3, count.get());
+    }
+
+    @Test
+    public void testTaskFailed() throws Exception {
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+            throw new IllegalStateException();
+        }, 0, TimeUnit.MILLISECONDS);
+        advanceTo(10);
+        try {
+            future.get(0, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testGetTimeout() throws Exception {
+        scheduler.schedule(count::incrementAndGet, 25, TimeUnit.MILLISECONDS).get(1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        ScheduledFuture<?> newFuture = scheduler.schedule(count::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+        advanceTo(10);
+        ScheduledFuture<?> placedFuture = scheduler.schedule(count::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+        scheduler.stop();
+        Assert.assertTrue(newFuture.isCancelled());
+        Assert.assertTrue(placedFuture.isCancelled());
+        try {
+            placedFuture.get();
+            Assert.fail();
+        } catch (CancellationException ignored) {
+        }
+        try {
+            scheduler.schedule(count::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (RejectedExecutionException ignored) {
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplicationBatchDelayShorterThanTick() {
+        NodeConfig config = new NodeConfig();
+        config.setTimingWheelTickDuration(TICK);
+        config.setReplicationBatchDelay(500);
+        new TimingWheelScheduler(config);
+    }
+
+    @Test
+    public void testStopWithThread() throws Exception {
+        TimingWheelScheduler scheduler = new TimingWheelScheduler(100, 100, 0, 50, TICK);
+        ScheduledFuture<?> future = scheduler.schedule(count::incrementAndGet, 10, TimeUnit.SECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+        scheduler.stop();
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (CancellationException ignored) {
+        }
+        Assert.assertEquals(0, count.get());
+    }
+
+}
@@ -0,0 +1,35 @@
+package in.xnnyygn.xraft.core.support;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class ByteBuffersTest {
+
+    @Test
+    public void testWholeArray() {
+        byte[] bytes = new byte[]{1, 2, 3};
+        Assert.assertSame(bytes, ByteBuffers.toByteArray(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testPartOfArray() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4}, 1, 2);
+        Assert.assertArrayEquals(new byte[]{2, 3}, ByteBuffers.toByteArray(buffer));
+        Assert.assertEquals(1, buffer.position());
+        ByteBuffer slice = buffer.slice();
+        Assert.assertArrayEquals(new byte[]{2, 3}, ByteBuffers.toByteArray(slice));
+    }
+
+    @Test
+    public void testDirect() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+        buffer.put(new byte[]{1, 2, 3});
+        buffer.flip();
+        Assert.assertArrayEquals(new byte[]{1, 2, 3}, ByteBuffers.toByteArray(buffer));
+        Assert.assertEquals(0, buffer.position());
+        Assert.assertArrayEquals(new byte[]{1, 2, 3}, ByteBuffers.toByteArray(buffer.asReadOnlyBuffer()));
+    }
+
+}
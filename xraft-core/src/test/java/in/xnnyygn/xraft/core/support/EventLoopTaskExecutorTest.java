@@ -0,0 +1,200 @@
+package in.xnnyygn.xraft.core.support;
+
+import com.google.common.util.concurrent.FutureCallback;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class EventLoopTaskExecutorTest {
+
+    private static class RecordingCallback implements FutureCallback<Object> {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        @Override
+        public void onSuccess(Object result) {
+            latch.countDown();
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            failure.set(t);
+            latch.countDown();
+        }
+
+        void await() throws InterruptedException {
+            Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+        }
+
+    }
+
+    @Test
+    public void testOrderOfMultipleProducers() throws Exception {
+        EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test", EventLoopTaskExecutor.IdleStrategy.PARK, 8);
+        int producers = 4;
+        int tasksPerProducer = 10000;
+
+        // accessed by the event loop only
+        List<List<Integer>> sequences = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            sequences.add(new ArrayList<>());
+        }
+        CyclicBarrier barrier = new CyclicBarrier(producers);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            List<Integer> sequence = sequences.get(i);
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int j = 0; j < tasksPerProducer; j++) {
+                    int n = j;
+                    executor.submit(() -> sequence.add(n));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        executor.shutdown();
+        for (List<Integer> sequence : sequences) {
+            Assert.assertEquals(tasksPerProducer, sequence.size());
+            for (int j = 0; j < tasksPerProducer; j++) {
+                Assert.assertEquals(j, sequence.get(j).intValue());
+            }
+        }
+        Assert.assertEquals(producers * tasksPerProducer, executor.getCompletedTasks());
+        Assert.assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    public void testSubmitConcurrentlyWithShutdown() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test");
+            AtomicInteger accepted = new AtomicInteger(0);
+            AtomicInteger run = new AtomicInteger(0);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread thread = new Thread(() -> {
+                    while (true) {
+                        try {
+                            executor.submit(run::incrementAndGet);
+                        } catch (RejectedExecutionException e) {
+                            return;
+                        }
+                        accepted.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            Thread.sleep(1);
+            executor.shutdown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // every accepted task is run, no task rejected is run
+            Assert.assertEquals(accepted.get(), run.get());
+        }
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testSubmitAfterShutdown() throws Exception {
+        EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test");
+        executor.shutdown();
+        executor.submit(() -> {
+        });
+    }
+
+    @Test
+    public void testShutdownRunsSubmittedTasks() throws Exception {
+        EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test");
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger count = new AtomicInteger(0);
+        executor.submit(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            executor.submit(count::incrementAndGet);
+        }
+        latch.countDown();
+        executor.shutdown();
+        Assert.assertEquals(100, count.get());
+    }
+
+    @Test
+    public void testShutdownInTask() throws Exception {
+        EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test");
+        Future<?> future = executor.submit(() -> {
+            try {
+                executor.shutdown();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        future.get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testFutureOfEachIdleStrategy() throws Exception {
+        for (EventLoopTaskExecutor.IdleStrategy idleStrategy : EventLoopTaskExecutor.IdleStrategy.values()) {
+            EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test", idleStrategy, EventLoopTaskExecutor.DEFAULT_BATCH_SIZE);
+
+            // wait until idle
+            Thread.sleep(10);
+            AtomicInteger count = new AtomicInteger(0);
+            executor.submit(count::incrementAndGet).get(1, TimeUnit.SECONDS);
+            Assert.assertEquals(1, count.get());
+            Assert.assertEquals(Integer.valueOf(2), executor.submit(count::incrementAndGet).get(1, TimeUnit.SECONDS));
+
+            Future<?> future = executor.submit(() -> {
+                throw new IllegalStateException();
+            });
+            try {
+                future.get(1, TimeUnit.SECONDS);
+                Assert.fail(idleStrategy.name());
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallbacks() throws Exception {
+        EventLoopTaskExecutor executor = new EventLoopTaskExecutor("test");
+        RecordingCallback callback = new RecordingCallback();
+        executor.submit(() -> {
+        }, callback);
+        callback.await();
+        Assert.assertNull(callback.failure.get());
+
+        RecordingCallback callback1 = new RecordingCallback();
+        RecordingCallback callback2 = new RecordingCallback();
+        executor.submit(() -> {
+            throw new IllegalStateException();
+        }, Arrays.<FutureCallback<Object>>asList(callback1, callback2));
+        callback1.await();
+        callback2.await();
+        Assert.assertTrue(callback1.failure.get() instanceof IllegalStateException);
+        Assert.assertTrue(callback2.failure.get() instanceof IllegalStateException);
+        executor.shutdown();
+    }
+
+}
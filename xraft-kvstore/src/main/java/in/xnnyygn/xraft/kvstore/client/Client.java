@@ -3,6 +3,7 @@ package in.xnnyygn.xraft.kvstore.client;
 import in.xnnyygn.xraft.core.service.AddNodeCommand;
 import in.xnnyygn.xraft.core.service.RemoveNodeCommand;
 import in.xnnyygn.xraft.core.service.ServerRouter;
+import in.xnnyygn.xraft.core.service.TransferLeadershipCommand;
 import in.xnnyygn.xraft.kvstore.message.GetCommand;
 import in.xnnyygn.xraft.kvstore.message.SetCommand;
 
@@ -24,6 +25,10 @@ public class Client {
         serverRouter.send(new RemoveNodeCommand(nodeId));
     }
 
+    public void transferLeadership(String nodeId) {
+        serverRouter.send(new TransferLeadershipCommand(nodeId));
+    }
+
     public void set(String key, byte[] value) {
         serverRouter.send(new SetCommand(key, value));
     }
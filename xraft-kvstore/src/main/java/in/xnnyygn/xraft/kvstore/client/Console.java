@@ -28,6 +28,7 @@ public class Console {
                 new ClientSetLeaderCommand(),
                 new RaftAddNodeCommand(),
                 new RaftRemoveNodeCommand(),
+                new RaftTransferLeadershipCommand(),
                 new KVStoreGetCommand(),
                 new KVStoreSetCommand()
         ));
@@ -0,0 +1,25 @@
+package in.xnnyygn.xraft.kvstore.client;
+
+import in.xnnyygn.xraft.core.service.NoAvailableServerException;
+
+public class RaftTransferLeadershipCommand implements Command {
+
+    @Override
+    public String getName() {
+        return "raft-transfer-leadership";
+    }
+
+    @Override
+    public void execute(String arguments, CommandContext context) {
+        if (arguments.isEmpty()) {
+            throw new IllegalArgumentException("usage " + getName() + " <node-id>");
+        }
+
+        try {
+            context.getClient().transferLeadership(arguments);
+        } catch (NoAvailableServerException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+
+}
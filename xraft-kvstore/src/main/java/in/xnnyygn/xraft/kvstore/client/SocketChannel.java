@@ -78,6 +78,10 @@ public class SocketChannel implements Channel {
             RemoveNodeCommand command = (RemoveNodeCommand) payload;
             Protos.RemoveNodeCommand protoRemoveServerCommand = Protos.RemoveNodeCommand.newBuilder().setNodeId(command.getNodeId().getValue()).build();
             this.write(output, MessageConstants.MSG_TYPE_REMOVE_SERVER_COMMAND, protoRemoveServerCommand);
+        } else if (payload instanceof TransferLeadershipCommand) {
+            TransferLeadershipCommand command = (TransferLeadershipCommand) payload;
+            Protos.TransferLeadershipCommand protoCommand = Protos.TransferLeadershipCommand.newBuilder().setNodeId(command.getNodeId().getValue()).build();
+            this.write(output, MessageConstants.MSG_TYPE_TRANSFER_LEADERSHIP_COMMAND, protoCommand);
         }
     }
 
@@ -2,6 +2,7 @@ package in.xnnyygn.xraft.kvstore.server;
 
 import in.xnnyygn.xraft.core.service.AddNodeCommand;
 import in.xnnyygn.xraft.core.service.RemoveNodeCommand;
+import in.xnnyygn.xraft.core.service.TransferLeadershipCommand;
 import in.xnnyygn.xraft.kvstore.MessageConstants;
 import in.xnnyygn.xraft.kvstore.Protos;
 import in.xnnyygn.xraft.kvstore.message.*;
@@ -47,6 +48,10 @@ public class Decoder extends ByteToMessageDecoder {
                 Protos.RemoveNodeCommand protoRemoveServerCommand = Protos.RemoveNodeCommand.parseFrom(payload);
                 out.add(new RemoveNodeCommand(protoRemoveServerCommand.getNodeId()));
                 break;
+            case MessageConstants.MSG_TYPE_TRANSFER_LEADERSHIP_COMMAND:
+                Protos.TransferLeadershipCommand protoTransferLeadershipCommand = Protos.TransferLeadershipCommand.parseFrom(payload);
+                out.add(new TransferLeadershipCommand(protoTransferLeadershipCommand.getNodeId()));
+                break;
             case MessageConstants.MSG_TYPE_GET_COMMAND:
                 Protos.GetCommand protoGetCommand = Protos.GetCommand.parseFrom(payload);
                 out.add(new GetCommand(protoGetCommand.getKey()));
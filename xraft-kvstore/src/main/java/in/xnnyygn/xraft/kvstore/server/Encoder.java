@@ -4,6 +4,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.MessageLite;
 import in.xnnyygn.xraft.core.service.AddNodeCommand;
 import in.xnnyygn.xraft.core.service.RemoveNodeCommand;
+import in.xnnyygn.xraft.core.service.TransferLeadershipCommand;
 import in.xnnyygn.xraft.kvstore.MessageConstants;
 import in.xnnyygn.xraft.kvstore.Protos;
 import in.xnnyygn.xraft.kvstore.message.*;
@@ -36,6 +37,10 @@ public class Encoder extends MessageToByteEncoder<Object> {
             RemoveNodeCommand command = (RemoveNodeCommand) msg;
             Protos.RemoveNodeCommand protoCommand = Protos.RemoveNodeCommand.newBuilder().setNodeId(command.getNodeId().getValue()).build();
             this.writeMessage(MessageConstants.MSG_TYPE_REMOVE_SERVER_COMMAND, protoCommand, out);
+        } else if (msg instanceof TransferLeadershipCommand) {
+            TransferLeadershipCommand command = (TransferLeadershipCommand) msg;
+            Protos.TransferLeadershipCommand protoCommand = Protos.TransferLeadershipCommand.newBuilder().setNodeId(command.getNodeId().getValue()).build();
+            this.writeMessage(MessageConstants.MSG_TYPE_TRANSFER_LEADERSHIP_COMMAND, protoCommand, out);
         } else if (msg instanceof GetCommand) {
             GetCommand command = (GetCommand) msg;
             Protos.GetCommand protoGetCommand = Protos.GetCommand.newBuilder().setKey(command.getKey()).build();
@@ -1,12 +1,12 @@
 package in.xnnyygn.xraft.kvstore.server;
 
 import in.xnnyygn.xraft.core.node.Node;
+import in.xnnyygn.xraft.core.rpc.nio.Transport;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,11 +14,14 @@ public class Server {
 
     private static final Logger logger = LoggerFactory.getLogger(Server.class);
 
+    // with SO_REUSEPORT, port is bound once per boss thread to accept in parallel
+    private static final int EPOLL_ACCEPT_THREADS = 2;
     private final Node node;
     private final int port;
     private final Service service;
-    private final NioEventLoopGroup bossGroup = new NioEventLoopGroup(1);
-    private final NioEventLoopGroup workerGroup = new NioEventLoopGroup(4);
+    private final int acceptThreads = Transport.isEpollAvailable() ? EPOLL_ACCEPT_THREADS : 1;
+    private final EventLoopGroup bossGroup = Transport.newEventLoopGroup(acceptThreads);
+    private final EventLoopGroup workerGroup = Transport.newEventLoopGroup(4);
 
     public Server(Node node, int port) {
         this.node = node;
@@ -29,9 +32,8 @@ public class Server {
     public void start() throws Exception {
         this.node.start();
 
-        ServerBootstrap serverBootstrap = new ServerBootstrap()
-                .group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+        ServerBootstrap serverBootstrap = Transport.configureServer(
+                new ServerBootstrap().group(bossGroup, workerGroup), acceptThreads > 1)
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
@@ -41,8 +43,10 @@ public class Server {
                         pipeline.addLast(new ServiceHandler(service));
                     }
                 });
-        logger.info("server started at port {}", this.port);
-        serverBootstrap.bind(this.port);
+        logger.info("server started at port {}, {} accept thread(s)", this.port, acceptThreads);
+        for (int i = 0; i < acceptThreads; i++) {
+            serverBootstrap.bind(this.port);
+        }
     }
 
     public void stop() throws Exception {
@@ -4,10 +4,13 @@ import com.google.protobuf.ByteString;
 import in.xnnyygn.xraft.core.log.statemachine.AbstractSingleThreadStateMachine;
 import in.xnnyygn.xraft.core.node.task.GroupConfigChangeTaskReference;
 import in.xnnyygn.xraft.core.node.Node;
+import in.xnnyygn.xraft.core.node.NodeEndpoint;
+import in.xnnyygn.xraft.core.node.NotLeaderException;
 import in.xnnyygn.xraft.core.node.role.RoleName;
 import in.xnnyygn.xraft.core.node.role.RoleNameAndLeaderId;
 import in.xnnyygn.xraft.core.service.AddNodeCommand;
 import in.xnnyygn.xraft.core.service.RemoveNodeCommand;
+import in.xnnyygn.xraft.core.service.TransferLeadershipCommand;
 import in.xnnyygn.xraft.kvstore.Protos;
 import in.xnnyygn.xraft.kvstore.message.*;
 import org.slf4j.Logger;
@@ -78,6 +81,26 @@ public class Service {
         awaitResult(taskReference, commandRequest);
     }
 
+    public void transferLeadership(CommandRequest<TransferLeadershipCommand> commandRequest) {
+        Redirect redirect = checkLeadership();
+        if (redirect != null) {
+            commandRequest.reply(redirect);
+            return;
+        }
+
+        // reply when transfer finished, transfer is aborted by node after timeout
+        TransferLeadershipCommand command = commandRequest.getCommand();
+        node.transferLeadership(command.getNodeId()).whenComplete((transferred, failure) -> {
+            if (failure != null) {
+                commandRequest.reply(new Failure(100, failure.getMessage()));
+            } else if (transferred) {
+                commandRequest.reply(Success.INSTANCE);
+            } else {
+                commandRequest.reply(new Failure(102, "leadership transfer aborted"));
+            }
+        });
+    }
+
     public void set(CommandRequest<SetCommand> commandRequest) {
         Redirect redirect = checkLeadership();
         if (redirect != null) {
@@ -89,7 +112,15 @@ public class Service {
         logger.debug("set {}", command.getKey());
         this.pendingCommands.put(command.getRequestId(), commandRequest);
         commandRequest.addCloseListener(() -> pendingCommands.remove(command.getRequestId()));
-        this.node.appendLog(command.toBytes());
+        try {
+            this.node.appendLog(command.toBytes());
+        } catch (NotLeaderException e) {
+
+            // transferring leadership
+            pendingCommands.remove(command.getRequestId());
+            NodeEndpoint leaderEndpoint = e.getLeaderEndpoint();
+            commandRequest.reply(new Redirect(leaderEndpoint != null ? leaderEndpoint.getId() : null));
+        }
     }
 
     public void get(CommandRequest<GetCommand> commandRequest) {
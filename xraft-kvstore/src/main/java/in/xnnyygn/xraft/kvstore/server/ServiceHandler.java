@@ -2,6 +2,7 @@ package in.xnnyygn.xraft.kvstore.server;
 
 import in.xnnyygn.xraft.core.service.AddNodeCommand;
 import in.xnnyygn.xraft.core.service.RemoveNodeCommand;
+import in.xnnyygn.xraft.core.service.TransferLeadershipCommand;
 import in.xnnyygn.xraft.kvstore.message.CommandRequest;
 import in.xnnyygn.xraft.kvstore.message.GetCommand;
 import in.xnnyygn.xraft.kvstore.message.SetCommand;
@@ -22,6 +23,8 @@ public class ServiceHandler extends ChannelInboundHandlerAdapter {
             service.addNode(new CommandRequest<>((AddNodeCommand) msg, ctx.channel()));
         } else if (msg instanceof RemoveNodeCommand) {
             service.removeNode(new CommandRequest<>((RemoveNodeCommand) msg, ctx.channel()));
+        } else if (msg instanceof TransferLeadershipCommand) {
+            service.transferLeadership(new CommandRequest<>((TransferLeadershipCommand) msg, ctx.channel()));
         } else if (msg instanceof GetCommand) {
             service.get(new CommandRequest<>((GetCommand) msg, ctx.channel()));
         } else if (msg instanceof SetCommand) {